@@ -12,6 +12,10 @@ import picocli.CommandLine;
 public class Main {
 
   public static void main(String[] args) {
+    // --spread가 URL을 IP로 바꿔 보낼 때 원래 호스트 이름을 Host 헤더로 유지하기 위함
+    if (System.getProperty("jdk.httpclient.allowRestrictedHeaders") == null) {
+      System.setProperty("jdk.httpclient.allowRestrictedHeaders", "host");
+    }
     int exitCode = new CommandLine(new OverloadCommand())
         .setCaseInsensitiveEnumValuesAllowed(true)
         .execute(args);
@@ -0,0 +1,251 @@
+package io.github.junhyeong9812.overload.cli.command;
+
+import io.github.junhyeong9812.overload.cli.engine.EngineType;
+import io.github.junhyeong9812.overload.cli.output.LatencyFormat;
+import io.github.junhyeong9812.overload.core.bench.application.EngineLifecycleBenchmark;
+import io.github.junhyeong9812.overload.core.bench.application.GeneratorBenchmark;
+import io.github.junhyeong9812.overload.core.bench.domain.BenchmarkResult;
+import io.github.junhyeong9812.overload.core.bench.domain.BenchmarkStep;
+import io.github.junhyeong9812.overload.core.bench.domain.LifecycleResult;
+import io.github.junhyeong9812.overload.core.bench.infrastructure.LoopbackTargetServer;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Option;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.stream.Collectors;
+
+/**
+ * 부하 생성기 용량 벤치마크 커맨드.
+ *
+ * <p>내장 루프백 서버를 대상으로 모든 엔진/HTTP 클라이언트 조합을 실행하여
+ * 이 머신에서 Overload가 낼 수 있는 최대 처리량을 출력한다.
+ *
+ * <p>사용 예시:
+ * <pre>
+ * overload bench
+ * overload bench -n 50000 --levels 16,64,256,1024 --delay-ms 1 --jitter-ms 4
+ * overload bench --lifecycle --lifecycle-concurrency 100000
+ * </pre>
+ *
+ * <p>{@code --lifecycle}를 지정하면 처리량 대신 엔진별 기동/정리 지연을 측정한다.
+ *
+ * @author junhyeong9812
+ * @since 1.1.0
+ */
+@Command(
+    name = "bench",
+    description = "Measure this machine's load generator capacity against an embedded loopback target",
+    mixinStandardHelpOptions = true
+)
+public class BenchCommand implements Callable<Integer> {
+
+  @Option(
+      names = {"-n", "--requests"},
+      description = "Requests per concurrency step (default: ${DEFAULT-VALUE})",
+      defaultValue = "20000"
+  )
+  private int requestsPerStep;
+
+  @Option(
+      names = {"--levels"},
+      description = "Concurrency levels to ramp through (default: ${DEFAULT-VALUE})",
+      split = ",",
+      defaultValue = "8,32,128,512,2048"
+  )
+  private List<Integer> levels;
+
+  @Option(
+      names = {"--delay-ms"},
+      description = "Fixed target response delay in ms (default: ${DEFAULT-VALUE})",
+      defaultValue = "0"
+  )
+  private long delayMs;
+
+  @Option(
+      names = {"--jitter-ms"},
+      description = "Extra random target delay in ms, uniform in [0, jitter] (default: ${DEFAULT-VALUE})",
+      defaultValue = "0"
+  )
+  private long jitterMs;
+
+  @Option(
+      names = {"--response-size"},
+      description = "Target response body size in bytes (default: ${DEFAULT-VALUE})",
+      defaultValue = "128"
+  )
+  private int responseSize;
+
+  @Option(
+      names = {"--timeout"},
+      description = "Request timeout in seconds (default: ${DEFAULT-VALUE})",
+      defaultValue = "5"
+  )
+  private int timeout;
+
+  @Option(
+      names = {"--lifecycle"},
+      description = "Measure engine startup and teardown latency instead of throughput"
+  )
+  private boolean lifecycle;
+
+  @Option(
+      names = {"--lifecycle-concurrency"},
+      description = "In-flight requests to start and tear down under --lifecycle (default: ${DEFAULT-VALUE})",
+      defaultValue = "100000"
+  )
+  private int lifecycleConcurrency;
+
+  @Option(
+      names = {"--lifecycle-runs"},
+      description = "Measured runs per engine under --lifecycle (default: ${DEFAULT-VALUE})",
+      defaultValue = "5"
+  )
+  private int lifecycleRuns;
+
+  @Override
+  public Integer call() {
+    if (lifecycle) {
+      return runLifecycle();
+    }
+    try (LoopbackTargetServer server = LoopbackTargetServer.builder()
+        .delay(Duration.ofMillis(delayMs), Duration.ofMillis(jitterMs))
+        .responseSize(responseSize)
+        .build()
+        .start()) {
+
+      GeneratorBenchmark benchmark = GeneratorBenchmark.builder()
+          .withDefaultCombinations()
+          .engine(EngineType.STRUCTURED.label(), EngineType.STRUCTURED.factory())
+          .concurrencyLevels(levels)
+          .requestsPerStep(requestsPerStep)
+          .timeout(Duration.ofSeconds(timeout))
+          .build();
+
+      printHeader(server);
+
+      List<BenchmarkResult> results = benchmark.run(server.url(), this::printStep);
+
+      System.out.println();
+      results.forEach(this::printSummary);
+      printCapacity(results);
+      return 0;
+
+    } catch (IllegalArgumentException e) {
+      System.err.println("오류: " + e.getMessage());
+      return 1;
+    } catch (Exception e) {
+      System.err.println("예기치 않은 오류: " + e.getMessage());
+      e.printStackTrace();
+      return 2;
+    }
+  }
+
+  /**
+   * 엔진별 기동/정리 지연을 측정해 출력한다.
+   */
+  private Integer runLifecycle() {
+    try {
+      EngineLifecycleBenchmark.Builder builder = EngineLifecycleBenchmark.builder()
+          .concurrency(lifecycleConcurrency)
+          .runs(lifecycleRuns);
+      for (EngineType type : EngineType.values()) {
+        // 요청마다 OS 스레드를 점유하는 엔진은 수만 단위 동시성에서 스레드 한도에 먼저 걸린다
+        if (type != EngineType.PLATFORM_THREAD) {
+          builder.engine(type.label(), type.factory());
+        }
+      }
+      EngineLifecycleBenchmark benchmark = builder.build();
+
+      System.out.println();
+      System.out.println("Overload v1.0.0 - Engine Lifecycle Benchmark");
+      System.out.println("=".repeat(50));
+      System.out.println();
+      System.out.printf("  In-flight:     %,d requests%n", lifecycleConcurrency);
+      System.out.printf("  Runs:          %d per engine%n", lifecycleRuns);
+      System.out.printf("  CPUs:          %d%n", Runtime.getRuntime().availableProcessors());
+      System.out.println();
+      System.out.printf("  %-16s %14s %14s %14s %14s %8s%n",
+          "Engine", "startup p50", "startup max", "teardown p50", "teardown max", "leaked");
+      for (LifecycleResult result : benchmark.run()) {
+        System.out.printf("  %-16s %,12.1fms %,12.1fms %,12.1fms %,12.1fms %8d%n",
+            result.engine(),
+            result.startupMedianMicros() / 1000.0,
+            result.startupMaxMicros() / 1000.0,
+            result.teardownMedianMicros() / 1000.0,
+            result.teardownMaxMicros() / 1000.0,
+            result.maxLeakedRequests());
+      }
+      return 0;
+
+    } catch (IllegalArgumentException e) {
+      System.err.println("오류: " + e.getMessage());
+      return 1;
+    } catch (Exception e) {
+      System.err.println("예기치 않은 오류: " + e.getMessage());
+      e.printStackTrace();
+      return 2;
+    }
+  }
+
+  /**
+   * 벤치마크 시작 전 헤더를 출력한다.
+   */
+  private void printHeader(LoopbackTargetServer server) {
+    System.out.println();
+    System.out.println("Overload v1.0.0 - Generator Benchmark");
+    System.out.println("=".repeat(50));
+    System.out.println();
+    System.out.printf("  Target:        %s (embedded)%n", server.url());
+    System.out.printf("  Delay:         %s%n", server.delayDescription());
+    System.out.printf("  Response:      %,d bytes%n", server.responseSize());
+    System.out.printf("  Levels:        %s%n",
+        levels.stream().map(String::valueOf).collect(Collectors.joining(", ")));
+    System.out.printf("  Requests/step: %,d%n", requestsPerStep);
+    System.out.printf("  CPUs:          %d%n", Runtime.getRuntime().availableProcessors());
+    System.out.println();
+  }
+
+  /**
+   * 단계 측정 결과를 한 줄로 출력한다.
+   */
+  private void printStep(String engine, String client, BenchmarkStep step) {
+    System.out.printf("  %-28s c=%-6d %,12.1f req/s   p99 %9s   err %5.1f%%   cpu %8.1fµs/req%n",
+        engine + " / " + client,
+        step.concurrency(),
+        step.requestsPerSecond(),
+        LatencyFormat.format(step.p99Micros()),
+        step.errorRate() * 100,
+        step.cpuMicrosPerRequest());
+  }
+
+  /**
+   * 조합별 요약을 출력한다.
+   */
+  private void printSummary(BenchmarkResult result) {
+    System.out.printf("  %s%n", result.label());
+    System.out.printf("    Max sustained: %,.1f req/s (c=%d)%n",
+        result.maxSustainedRps(), result.bestConcurrency());
+    System.out.printf("    CPU/request:   %.1fµs%n", result.cpuMicrosPerRequest());
+    result.steps().stream()
+        .filter(step -> step.concurrency() == result.bestConcurrency())
+        .findFirst()
+        .ifPresent(step -> System.out.printf("    p99 at best:   %s%n",
+            LatencyFormat.format(step.p99Micros())));
+    System.out.printf("    Heap/in-flight:%,.0f bytes%n", result.heapBytesPerInFlight());
+    System.out.println();
+  }
+
+  /**
+   * 가장 높은 처리량을 낸 조합을 이 머신의 생성기 용량으로 출력한다.
+   */
+  private void printCapacity(List<BenchmarkResult> results) {
+    results.stream()
+        .max(Comparator.comparingDouble(BenchmarkResult::maxSustainedRps))
+        .ifPresent(best -> System.out.printf(
+            "Generator capacity: %,.0f req/s (%s @ c=%d)%n",
+            best.maxSustainedRps(), best.label(), best.bestConcurrency()));
+  }
+}
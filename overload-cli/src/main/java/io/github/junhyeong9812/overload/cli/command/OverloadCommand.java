@@ -18,6 +18,8 @@ import picocli.CommandLine.Command;
     mixinStandardHelpOptions = true,
     subcommands = {
         RunCommand.class,
+        BenchCommand.class,
+        SweepCommand.class,
         CommandLine.HelpCommand.class
     }
 )
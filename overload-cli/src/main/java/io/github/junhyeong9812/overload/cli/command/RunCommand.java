@@ -1,20 +1,41 @@
 package io.github.junhyeong9812.overload.cli.command;
 
+import io.github.junhyeong9812.overload.cli.engine.EngineType;
 import io.github.junhyeong9812.overload.cli.output.JsonFormatter;
 import io.github.junhyeong9812.overload.cli.output.OutputFormatter;
 import io.github.junhyeong9812.overload.cli.output.TextFormatter;
 import io.github.junhyeong9812.overload.cli.progress.ConsoleProgressBar;
 import io.github.junhyeong9812.overload.core.LoadTester;
 import io.github.junhyeong9812.overload.core.callback.ProgressCallback;
+import io.github.junhyeong9812.overload.core.config.AbortRule;
+import io.github.junhyeong9812.overload.core.config.AddressSpreadConfig;
+import io.github.junhyeong9812.overload.core.config.AdaptiveConcurrencyConfig;
+import io.github.junhyeong9812.overload.core.config.CheckpointConfig;
 import io.github.junhyeong9812.overload.core.config.HttpMethod;
 import io.github.junhyeong9812.overload.core.config.LoadTestConfig;
+import io.github.junhyeong9812.overload.core.config.ProbeConfig;
+import io.github.junhyeong9812.overload.core.config.ProgressDispatchConfig;
+import io.github.junhyeong9812.overload.core.config.RateLimitConfig;
+import io.github.junhyeong9812.overload.core.config.SpreadPolicy;
+import io.github.junhyeong9812.overload.core.config.TlsConfig;
+import io.github.junhyeong9812.overload.core.exception.LoadTestException;
+import io.github.junhyeong9812.overload.core.http.application.port.HttpClientPort;
+import io.github.junhyeong9812.overload.core.http.infrastructure.HttpClients;
+import io.github.junhyeong9812.overload.core.metric.domain.LatencySpectrum;
 import io.github.junhyeong9812.overload.core.metric.domain.TestResult;
 import picocli.CommandLine.Command;
 import picocli.CommandLine.Option;
 
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.Callable;
+import java.util.stream.Collectors;
 
 /**
  * 부하 테스트 실행 커맨드.
@@ -98,6 +119,235 @@ public class RunCommand implements Callable<Integer> {
       description = "Disable progress bar"
   )
   private boolean quiet;
+
+  @Option(
+      names = {"--track-pinning"},
+      description = "Track virtual thread pinning via JFR (jdk.VirtualThreadPinned)"
+  )
+  private boolean trackPinning;
+
+  @Option(
+      names = {"--track-gc"},
+      description = "Flag requests that were in flight during a load generator GC pause and report latency without them"
+  )
+  private boolean trackGcPauses;
+
+  @Option(
+      names = {"--overhead-warn-ratio"},
+      description = "Warn when generator overhead exceeds this fraction of mean latency (default: ${DEFAULT-VALUE})",
+      defaultValue = "0.1"
+  )
+  private double overheadWarnRatio;
+
+  @Option(
+      names = {"--jfr"},
+      description = "Record a JFR flight recording scoped to the run (with overload.Request/overload.Interval events) to this file"
+  )
+  private Path jfrFile;
+
+  @Option(
+      names = {"--percentiles"},
+      split = ",",
+      description = "Latency percentiles to report, e.g. 50,90,99,99.9,99.99 (default: 50,90,95,99)"
+  )
+  private List<Double> percentiles;
+
+  @Option(
+      names = {"--hgrm"},
+      description = "Write the full latency percentile spectrum to this file in HdrHistogram .hgrm format"
+  )
+  private Path hgrmFile;
+
+  @Option(
+      names = {"--spectrum-csv"},
+      description = "Write the full latency percentile spectrum to this file as CSV"
+  )
+  private Path spectrumCsvFile;
+
+  @Option(
+      names = {"--checkpoint"},
+      description = "Periodically save metrics to this file so the run can be resumed"
+  )
+  private Path checkpointFile;
+
+  @Option(
+      names = {"--checkpoint-interval"},
+      description = "Checkpoint interval in seconds (default: ${DEFAULT-VALUE})",
+      defaultValue = "30"
+  )
+  private int checkpointIntervalSeconds;
+
+  @Option(
+      names = {"--resume"},
+      description = "Continue from the --checkpoint file and merge its metrics (starts fresh if missing)"
+  )
+  private boolean resume;
+
+  @Option(
+      names = {"--adaptive-slo-ms"},
+      description = "Adaptive mode: adjust concurrency at runtime (starting at -c) to the highest level whose windowed p99 stays within this many ms"
+  )
+  private Long adaptiveSloMs;
+
+  @Option(
+      names = {"--max-concurrency"},
+      description = "Upper bound for adaptive concurrency (default: ${DEFAULT-VALUE})",
+      defaultValue = "10000"
+  )
+  private int maxConcurrency;
+
+  @Option(
+      names = {"--interval-ms"},
+      description = "Windowed metrics interval in ms, used by JFR interval events and adaptive mode (default: ${DEFAULT-VALUE})",
+      defaultValue = "1000"
+  )
+  private long intervalMs;
+
+  @Option(
+      names = {"--abort-error-rate"},
+      description = "Abort when the error rate over the abort window exceeds this percentage"
+  )
+  private Double abortErrorRatePercent;
+
+  @Option(
+      names = {"--abort-p99-ms"},
+      description = "Abort when windowed p99 stays above this many ms for the whole abort window"
+  )
+  private Long abortP99Ms;
+
+  @Option(
+      names = {"--abort-refused"},
+      description = "Abort when the target refuses at least this many connections within the abort window"
+  )
+  private Long abortRefused;
+
+  @Option(
+      names = {"--abort-window"},
+      description = "Window in seconds for abort rules (default: ${DEFAULT-VALUE})",
+      defaultValue = "10"
+  )
+  private int abortWindowSeconds;
+
+  @Option(
+      names = {"--warmup"},
+      description = "Warm-up seconds excluded from reported metrics (default: ${DEFAULT-VALUE})",
+      defaultValue = "0"
+  )
+  private int warmupSeconds;
+
+  @Option(
+      names = {"--warmup-requests"},
+      description = "Warm-up requests (part of -n) excluded from reported metrics (default: ${DEFAULT-VALUE})",
+      defaultValue = "0"
+  )
+  private int warmupRequests;
+
+  @Option(
+      names = {"--slowest"},
+      description = "Slowest measured requests to list with their completion time (0 = off, default: ${DEFAULT-VALUE})",
+      defaultValue = "10"
+  )
+  private int slowest;
+
+  @Option(
+      names = {"--probe-interval-ms"},
+      description = "Send one probe request every MS on a dedicated connection and report its latency separately"
+  )
+  private Long probeIntervalMs;
+
+  @Option(
+      names = {"--probe-url"},
+      description = "URL the probe sends GET requests to, e.g. a health endpoint (default: the target request)"
+  )
+  private String probeUrl;
+
+  @Option(
+      names = {"--rate"},
+      description = "Cap the total request rate at this many requests per second"
+  )
+  private Double rate;
+
+  @Option(
+      names = {"--burst"},
+      description = "Requests allowed back-to-back after idling under --rate (default: ${DEFAULT-VALUE})",
+      defaultValue = "1"
+  )
+  private int burst;
+
+  @Option(
+      names = {"--spread"},
+      description = "Resolve the target host once and spread requests over every address: ${COMPLETION-CANDIDATES}"
+  )
+  private SpreadPolicy spread;
+
+  @Option(
+      names = {"--weight"},
+      description = "Weight of an address under --spread weighted (IP=N, repeatable)"
+  )
+  private List<String> weights;
+
+  @Option(
+      names = {"--dns-ttl"},
+      description = "Seconds to cache resolved addresses under --spread (default: ${DEFAULT-VALUE})",
+      defaultValue = "30"
+  )
+  private int dnsTtlSeconds;
+
+  @Option(
+      names = {"--source-address"},
+      description = "Local address to bind outgoing connections to (repeatable, round-robin)"
+  )
+  private List<String> sourceAddresses;
+
+  @Option(
+      names = {"--engine"},
+      description = "Request execution engine: ${COMPLETION-CANDIDATES} (default: ${DEFAULT-VALUE})",
+      defaultValue = "VIRTUAL_THREAD"
+  )
+  private EngineType engine;
+
+  @Option(
+      names = {"--engine-threads"},
+      description = "Pool threads (platform_thread) or carrier threads (dedicated_carrier); 0 = engine default",
+      defaultValue = "0"
+  )
+  private int engineThreads;
+
+  @Option(
+      names = {"--tls-no-resume"},
+      description = "Disable TLS session resumption so every connection does a full handshake"
+  )
+  private boolean tlsNoResume;
+
+  @Option(
+      names = {"--tls-protocol"},
+      description = "Pin the TLS protocol, e.g. TLSv1.3 (repeatable)"
+  )
+  private List<String> tlsProtocols;
+
+  @Option(
+      names = {"--tls-cipher"},
+      description = "Pin the TLS cipher suite (repeatable)"
+  )
+  private List<String> tlsCiphers;
+
+  @Option(
+      names = {"--trust-store"},
+      description = "Keystore (PKCS12/JKS) whose certificates are trusted, e.g. a self-signed local cert"
+  )
+  private Path trustStore;
+
+  @Option(
+      names = {"--trust-store-password"},
+      description = "Password of --trust-store"
+  )
+  private String trustStorePassword;
+
+  @Option(
+      names = {"-k", "--insecure"},
+      description = "Trust any server certificate and skip hostname verification (local testing only)"
+  )
+  private boolean insecure;
 //  @Option(
 //      names = {"-u", "--url"},
 //      description = "테스트 대상 URL (필수)",
@@ -164,9 +414,10 @@ public class RunCommand implements Callable<Integer> {
       LoadTestConfig config = buildConfig();
 
       // 포매터 선택
+      List<Double> reported = percentiles != null ? percentiles : OutputFormatter.DEFAULT_PERCENTILES;
       OutputFormatter formatter = jsonOutput
-          ? new JsonFormatter()
-          : new TextFormatter();
+          ? new JsonFormatter(reported)
+          : new TextFormatter(reported);
 
       // 헤더 출력 (JSON 모드가 아닐 때만)
       if (!jsonOutput) {
@@ -177,7 +428,10 @@ public class RunCommand implements Callable<Integer> {
       ProgressCallback callback = createProgressCallback();
 
       // 테스트 실행
-      TestResult result = LoadTester.run(config, callback);
+      TestResult result;
+      try (HttpClientPort httpClient = HttpClients.from(config)) {
+        result = LoadTester.run(config, callback, httpClient, engine.factory(engineThreads));
+      }
 
       // 프로그레스 바 종료 후 줄바꿈
       if (!quiet && !jsonOutput) {
@@ -188,9 +442,15 @@ public class RunCommand implements Callable<Integer> {
       // 결과 출력
       System.out.println(formatter.format(result));
 
-      return 0;
+      if (jfrFile != null && !jsonOutput) {
+        System.out.println("Flight recording: " + jfrFile.toAbsolutePath());
+      }
+
+      writeSpectrum(result);
+
+      return result.isAborted() ? 3 : 0;
 
-    } catch (IllegalArgumentException e) {
+    } catch (IllegalArgumentException | LoadTestException e) {
       System.err.println("오류: " + e.getMessage());
       return 1;
     } catch (Exception e) {
@@ -200,6 +460,25 @@ public class RunCommand implements Callable<Integer> {
     }
   }
 
+  /**
+   * 전체 지연 시간 스펙트럼을 요청된 파일로 내보낸다.
+   */
+  private void writeSpectrum(TestResult result) throws IOException {
+    LatencySpectrum spectrum = result.latencyStats().spectrum();
+    if (hgrmFile != null) {
+      Files.writeString(hgrmFile, spectrum.toHgrm());
+      if (!jsonOutput) {
+        System.out.println("Latency spectrum: " + hgrmFile.toAbsolutePath());
+      }
+    }
+    if (spectrumCsvFile != null) {
+      Files.writeString(spectrumCsvFile, spectrum.toCsv());
+      if (!jsonOutput) {
+        System.out.println("Latency spectrum: " + spectrumCsvFile.toAbsolutePath());
+      }
+    }
+  }
+
   /**
    * LoadTestConfig를 빌드한다.
    */
@@ -209,7 +488,109 @@ public class RunCommand implements Callable<Integer> {
         .method(method)
         .concurrency(concurrency)
         .totalRequests(totalRequests)
-        .timeout(Duration.ofSeconds(timeout));
+        .timeout(Duration.ofSeconds(timeout))
+        .overheadWarnRatio(overheadWarnRatio)
+        .trackPinning(trackPinning)
+        .trackGcPauses(trackGcPauses)
+        .flightRecording(jfrFile)
+        .metricsInterval(Duration.ofMillis(intervalMs))
+        .warmup(Duration.ofSeconds(warmupSeconds))
+        .warmupRequests(warmupRequests)
+        .slowestRequests(slowest);
+
+    // 적응형 동시성
+    if (adaptiveSloMs != null) {
+      builder.adaptiveConcurrency(AdaptiveConcurrencyConfig.builder()
+          .p99Slo(Duration.ofMillis(adaptiveSloMs))
+          .maxConcurrency(maxConcurrency)
+          .build());
+    }
+
+    // 체크포인트와 재개
+    if (checkpointFile != null) {
+      if (checkpointIntervalSeconds < 1) {
+        throw new IllegalArgumentException("Checkpoint interval must be >= 1 second");
+      }
+      CheckpointConfig checkpoint =
+          CheckpointConfig.of(checkpointFile, Duration.ofSeconds(checkpointIntervalSeconds));
+      builder.checkpoint(resume ? checkpoint.resuming() : checkpoint);
+    } else if (resume) {
+      throw new IllegalArgumentException("--resume requires --checkpoint");
+    }
+
+    // 프로그레스 바 출력은 요청 스레드 밖에서 배치로 처리
+    if (!quiet && !jsonOutput) {
+      builder.progressDispatch(ProgressDispatchConfig.defaults());
+    }
+
+    // 저속 지연 프로브
+    if (probeIntervalMs != null) {
+      Duration probeInterval = Duration.ofMillis(probeIntervalMs);
+      builder.probe(probeUrl != null
+          ? ProbeConfig.of(probeUrl, probeInterval)
+          : ProbeConfig.of(probeInterval));
+    } else if (probeUrl != null) {
+      builder.probe(ProbeConfig.of(probeUrl, ProbeConfig.DEFAULT_INTERVAL));
+    }
+
+    // 요청 속도 제한
+    if (rate != null) {
+      builder.rateLimit(RateLimitConfig.of(rate, burst));
+    }
+
+    // 출발지 주소
+    if (sourceAddresses != null) {
+      for (String sourceAddress : sourceAddresses) {
+        builder.localAddress(parseAddress(sourceAddress));
+      }
+    }
+
+    // TLS (https 대상이면 핸드셰이크 통계를 위해 항상 설정)
+    if (url.regionMatches(true, 0, "https:", 0, 6) || tlsNoResume || tlsProtocols != null
+        || tlsCiphers != null || trustStore != null || insecure) {
+      TlsConfig.Builder tls = TlsConfig.builder()
+          .sessionResumption(!tlsNoResume)
+          .trustAll(insecure);
+      if (tlsProtocols != null) {
+        tlsProtocols.forEach(tls::protocol);
+      }
+      if (tlsCiphers != null) {
+        tlsCiphers.forEach(tls::cipherSuite);
+      }
+      if (trustStore != null) {
+        tls.trustStore(trustStore, trustStorePassword);
+      }
+      builder.tls(tls.build());
+    }
+
+    // 해석된 주소 분산
+    if (spread != null) {
+      AddressSpreadConfig.Builder spreadBuilder = AddressSpreadConfig.builder()
+          .policy(spread)
+          .dnsTtl(Duration.ofSeconds(dnsTtlSeconds));
+      if (weights != null) {
+        for (String weight : weights) {
+          String[] parts = weight.split("=", 2);
+          if (parts.length != 2) {
+            throw new IllegalArgumentException("Weight must be IP=N: " + weight);
+          }
+          spreadBuilder.weight(parts[0].trim(), Integer.parseInt(parts[1].trim()));
+        }
+      }
+      builder.addressSpread(spreadBuilder.build());
+    }
+
+    // 조기 중단 규칙
+    Duration abortWindow = Duration.ofSeconds(abortWindowSeconds);
+    if (abortErrorRatePercent != null) {
+      builder.abortRule(AbortRule.errorRateAbove(abortErrorRatePercent / 100, abortWindow));
+    }
+    if (abortP99Ms != null) {
+      builder.abortRule(AbortRule.p99Above(Duration.ofMillis(abortP99Ms), abortWindow));
+    }
+    if (abortRefused != null) {
+      builder.abortRule(AbortRule.connectionRefused(abortRefused, abortWindow));
+    }
 
     // 헤더 파싱
     if (headers != null) {
@@ -226,6 +607,17 @@ public class RunCommand implements Callable<Integer> {
       builder.body(body);
     }
 
+    if (engineThreads < 0) {
+      throw new IllegalArgumentException("Engine threads must be >= 0");
+    }
+    if (percentiles != null) {
+      for (double percentile : percentiles) {
+        if (percentile < 0 || percentile > 100) {
+          throw new IllegalArgumentException("Percentile must be between 0 and 100: " + percentile);
+        }
+      }
+    }
+
     return builder.build();
   }
 
@@ -239,12 +631,80 @@ public class RunCommand implements Callable<Integer> {
     System.out.println();
     System.out.printf("  Target:        %s%n", config.url());
     System.out.printf("  Method:        %s%n", config.method());
-    System.out.printf("  Concurrency:   %d virtual threads%n", config.concurrency());
+    if (config.adaptiveConcurrency() != null) {
+      System.out.printf("  Concurrency:   adaptive from %d (p99 SLO %dms, max %d)%n",
+          config.concurrency(),
+          config.adaptiveConcurrency().p99Slo().toMillis(),
+          config.adaptiveConcurrency().maxConcurrency());
+    } else {
+      System.out.printf("  Concurrency:   %d virtual threads%n", config.concurrency());
+    }
     System.out.printf("  Requests:      %,d%n", config.totalRequests());
+    if (engine != EngineType.VIRTUAL_THREAD) {
+      System.out.printf("  Engine:        %s%s%n", engine.label(),
+          engineThreads > 0 ? " (" + engineThreads + " threads)" : "");
+    }
+    if (config.rateLimit() != null) {
+      System.out.printf("  Rate limit:    %,.1f req/s (burst %d)%n",
+          config.rateLimit().requestsPerSecond(), config.rateLimit().burst());
+    }
+    if (!config.localAddresses().isEmpty()) {
+      System.out.printf("  Source:        %s (round-robin)%n", config.localAddresses().stream()
+          .map(InetAddress::getHostAddress)
+          .collect(Collectors.joining(", ")));
+    }
+    if (config.tls() != null) {
+      System.out.printf("  TLS:           %s%s%s%n",
+          config.tls().protocols().isEmpty() ? "default protocols" : String.join(", ", config.tls().protocols()),
+          config.tls().sessionResumption() ? "" : ", no resumption",
+          config.tls().trustAll() ? ", insecure" : "");
+    }
+    if (config.addressSpread() != null) {
+      System.out.printf("  Spread:        %s over resolved addresses (DNS TTL %ds)%n",
+          config.addressSpread().policy(), config.addressSpread().dnsTtl().toSeconds());
+    }
+    if (config.hasWarmup()) {
+      System.out.printf("  Warm-up:       %s%n", describeWarmup(config));
+    }
+    if (config.checkpoint() != null) {
+      System.out.printf("  Checkpoint:    %s every %ds%s%n",
+          config.checkpoint().path(), config.checkpoint().interval().toSeconds(),
+          config.checkpoint().resume() ? " (resume)" : "");
+    }
+    if (config.probe() != null) {
+      System.out.printf("  Probe:         %s every %dms (dedicated connection)%n",
+          config.probe().hasUrl() ? "GET " + config.probe().url() : "target request",
+          config.probe().interval().toMillis());
+    }
     System.out.printf("  Timeout:       %ds%n", config.timeout().toSeconds());
     System.out.println();
   }
 
+  /**
+   * 출발지 주소 문자열을 해석한다. IP 리터럴이 아니면 호스트 이름으로 조회한다.
+   */
+  private InetAddress parseAddress(String address) {
+    try {
+      return InetAddress.getByName(address.trim());
+    } catch (UnknownHostException e) {
+      throw new IllegalArgumentException("Unknown source address: " + address);
+    }
+  }
+
+  /**
+   * 워밍업 설정을 설명하는 문자열을 만든다.
+   */
+  private String describeWarmup(LoadTestConfig config) {
+    List<String> conditions = new ArrayList<>();
+    if (!config.warmup().isZero()) {
+      conditions.add(config.warmup().toSeconds() + "s");
+    }
+    if (config.warmupRequests() > 0) {
+      conditions.add(String.format("%,d requests", config.warmupRequests()));
+    }
+    return String.join(" or ", conditions) + " (excluded from results)";
+  }
+
   /**
    * 진행률 콜백을 생성한다.
    */
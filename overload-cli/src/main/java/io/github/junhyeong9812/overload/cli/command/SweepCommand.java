@@ -0,0 +1,201 @@
+package io.github.junhyeong9812.overload.cli.command;
+
+import io.github.junhyeong9812.overload.core.config.HttpMethod;
+import io.github.junhyeong9812.overload.core.config.LoadTestConfig;
+import io.github.junhyeong9812.overload.core.sweep.application.ConcurrencySweep;
+import io.github.junhyeong9812.overload.core.sweep.domain.SweepResult;
+import io.github.junhyeong9812.overload.core.sweep.domain.SweepStage;
+import io.github.junhyeong9812.overload.core.sweep.domain.UslFit;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Option;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.stream.Collectors;
+
+/**
+ * 동시성 스윕 커맨드.
+ *
+ * <p>동시성을 단계적으로 올리며 단계별 처리량과 지연 백분위수를 측정하고,
+ * Universal Scalability Law를 적합하여 경합/일관성 계수와 예측 최대 처리량을 출력한다.
+ *
+ * <p>사용 예시:
+ * <pre>
+ * overload sweep -u http://localhost:8080/api
+ * overload sweep -u http://localhost:8080/api --levels 1,4,16,64,256 -n 10000
+ * </pre>
+ *
+ * @author junhyeong9812
+ * @since 1.1.0
+ */
+@Command(
+    name = "sweep",
+    description = "Run steady-state stages at increasing concurrency and fit the Universal Scalability Law",
+    mixinStandardHelpOptions = true
+)
+public class SweepCommand implements Callable<Integer> {
+
+  @Option(
+      names = {"-u", "--url"},
+      description = "Target URL (required)",
+      required = true
+  )
+  private String url;
+
+  @Option(
+      names = {"-X", "--method"},
+      description = "HTTP method (default: ${DEFAULT-VALUE})",
+      defaultValue = "GET"
+  )
+  private HttpMethod method;
+
+  @Option(
+      names = {"-H", "--header"},
+      description = "HTTP header (e.g. -H \"Content-Type: application/json\")"
+  )
+  private List<String> headers;
+
+  @Option(
+      names = {"-d", "--data"},
+      description = "Request body"
+  )
+  private String body;
+
+  @Option(
+      names = {"-n", "--requests"},
+      description = "Requests per stage, raised to 20x concurrency if lower (default: ${DEFAULT-VALUE})",
+      defaultValue = "5000"
+  )
+  private int requestsPerStage;
+
+  @Option(
+      names = {"--levels"},
+      description = "Concurrency levels to sweep (default: ${DEFAULT-VALUE})",
+      split = ",",
+      defaultValue = "1,2,4,8,16,32,64,128,256"
+  )
+  private List<Integer> levels;
+
+  @Option(
+      names = {"--max-error-rate"},
+      description = "Stop the sweep when a stage's error rate exceeds this fraction (default: ${DEFAULT-VALUE})",
+      defaultValue = "0.05"
+  )
+  private double maxErrorRate;
+
+  @Option(
+      names = {"--timeout"},
+      description = "Request timeout in seconds (default: ${DEFAULT-VALUE})",
+      defaultValue = "5"
+  )
+  private int timeout;
+
+  @Override
+  public Integer call() {
+    try {
+      ConcurrencySweep sweep = ConcurrencySweep.builder()
+          .template(buildTemplate())
+          .concurrencyLevels(levels)
+          .requestsPerStage(requestsPerStage)
+          .maxErrorRate(maxErrorRate)
+          .build();
+
+      printHeader();
+      SweepResult result = sweep.run(this::printStage);
+
+      System.out.println();
+      printUsl(result);
+      return 0;
+
+    } catch (IllegalArgumentException e) {
+      System.err.println("오류: " + e.getMessage());
+      return 1;
+    } catch (Exception e) {
+      System.err.println("예기치 않은 오류: " + e.getMessage());
+      e.printStackTrace();
+      return 2;
+    }
+  }
+
+  /**
+   * 단계 템플릿 설정을 빌드한다.
+   */
+  private LoadTestConfig buildTemplate() {
+    LoadTestConfig.Builder builder = LoadTestConfig.builder()
+        .url(url)
+        .method(method)
+        .timeout(Duration.ofSeconds(timeout));
+
+    if (headers != null) {
+      for (String header : headers) {
+        String[] parts = header.split(":", 2);
+        if (parts.length == 2) {
+          builder.header(parts[0].trim(), parts[1].trim());
+        }
+      }
+    }
+    if (body != null) {
+      builder.body(body);
+    }
+    return builder.build();
+  }
+
+  /**
+   * 스윕 시작 전 헤더를 출력한다.
+   */
+  private void printHeader() {
+    System.out.println();
+    System.out.println("Overload v1.0.0 - Concurrency Sweep");
+    System.out.println("=".repeat(50));
+    System.out.println();
+    System.out.printf("  Target:        %s%n", url);
+    System.out.printf("  Method:        %s%n", method);
+    System.out.printf("  Levels:        %s%n",
+        levels.stream().map(String::valueOf).collect(Collectors.joining(", ")));
+    System.out.printf("  Requests/stage:%,d%n", requestsPerStage);
+    System.out.println();
+    System.out.printf("  %8s %14s %9s %9s %9s %9s %7s %8s%n",
+        "N", "X (req/s)", "avg", "p50", "p90", "p99", "err", "X·R");
+  }
+
+  /**
+   * 단계 측정 결과를 한 줄로 출력한다.
+   */
+  private void printStage(SweepStage stage) {
+    System.out.printf("  %8d %,14.1f %7.1fms %7dms %7dms %7dms %6.1f%% %8.1f%n",
+        stage.concurrency(),
+        stage.requestsPerSecond(),
+        stage.avgMs(),
+        stage.p50Ms(),
+        stage.p90Ms(),
+        stage.p99Ms(),
+        stage.errorRate() * 100,
+        stage.littleConcurrency());
+  }
+
+  /**
+   * USL 적합 결과를 출력한다.
+   */
+  private void printUsl(SweepResult result) {
+    if (!result.hasUslFit()) {
+      System.out.println("  USL fit: not enough valid stages (need at least 3)");
+      return;
+    }
+    UslFit usl = result.usl();
+    System.out.println("  Universal Scalability Law");
+    System.out.printf("    λ (single):      %,.1f req/s%n", usl.lambda());
+    System.out.printf("    σ (contention):  %.5f%n", usl.sigma());
+    System.out.printf("    κ (coherency):   %.7f%n", usl.kappa());
+    System.out.printf("    R²:              %.4f%n", usl.rSquared());
+    if (usl.hasPeak()) {
+      System.out.printf("    Predicted peak:  %,.0f req/s @ N≈%.0f%n",
+          usl.peakThroughput(), usl.peakConcurrency());
+    } else if (Double.isFinite(usl.peakThroughput())) {
+      System.out.printf("    Predicted limit: %,.0f req/s (no retrograde region, κ=0)%n",
+          usl.peakThroughput());
+    } else {
+      System.out.println("    Scaling is linear over the measured range (σ=κ=0)");
+    }
+  }
+}
@@ -0,0 +1,75 @@
+package io.github.junhyeong9812.overload.cli.engine;
+
+import io.github.junhyeong9812.overload.core.engine.domain.LoadTestEngine;
+import io.github.junhyeong9812.overload.core.engine.infrastructure.DedicatedCarrierEngine;
+import io.github.junhyeong9812.overload.core.engine.infrastructure.PlatformThreadEngine;
+import io.github.junhyeong9812.overload.core.engine.infrastructure.VirtualThreadEngine;
+import io.github.junhyeong9812.overload.core.http.application.port.HttpClientPort;
+
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * CLI에서 선택할 수 있는 요청 실행 엔진.
+ *
+ * @author junhyeong9812
+ * @since 1.1.0
+ */
+public enum EngineType {
+
+  /**
+   * 요청마다 Virtual Thread를 제출하는 기본 엔진.
+   */
+  VIRTUAL_THREAD("virtual-thread", (client, threads) -> new VirtualThreadEngine(client)),
+
+  /**
+   * 고정 크기 Platform Thread 풀 엔진. 스레드 수를 지정하지 않으면 동시성만큼 만든다.
+   */
+  PLATFORM_THREAD("platform-thread", PlatformThreadEngine::new),
+
+  /**
+   * 전용 캐리어 스케줄러 위에서 Virtual Thread를 실행하는 엔진. 스레드 수는 캐리어 수다.
+   */
+  DEDICATED_CARRIER("dedicated-carrier", DedicatedCarrierEngine::new),
+
+  /**
+   * 구간마다 {@code StructuredTaskScope}를 여는 엔진.
+   */
+  STRUCTURED("structured", (client, threads) -> new StructuredScopeEngine(client));
+
+  private final String label;
+  private final BiFunction<HttpClientPort, Integer, LoadTestEngine> factory;
+
+  EngineType(String label, BiFunction<HttpClientPort, Integer, LoadTestEngine> factory) {
+    this.label = label;
+    this.factory = factory;
+  }
+
+  /**
+   * 출력에 사용할 엔진 이름을 반환한다.
+   *
+   * @return 엔진 이름
+   */
+  public String label() {
+    return label;
+  }
+
+  /**
+   * 엔진 기본 스레드 수로 엔진을 생성하는 팩토리를 반환한다.
+   *
+   * @return 엔진 팩토리
+   */
+  public Function<HttpClientPort, LoadTestEngine> factory() {
+    return factory(0);
+  }
+
+  /**
+   * HTTP 클라이언트로 엔진을 생성하는 팩토리를 반환한다.
+   *
+   * @param threads Platform Thread 풀 또는 캐리어 스레드 수 (0이면 엔진 기본값, 다른 엔진은 무시)
+   * @return 엔진 팩토리
+   */
+  public Function<HttpClientPort, LoadTestEngine> factory(int threads) {
+    return client -> factory.apply(client, threads);
+  }
+}
\ No newline at end of file
@@ -0,0 +1,297 @@
+package io.github.junhyeong9812.overload.cli.engine;
+
+import io.github.junhyeong9812.overload.core.callback.ProgressCallback;
+import io.github.junhyeong9812.overload.core.config.LoadTestConfig;
+import io.github.junhyeong9812.overload.core.engine.domain.ConcurrencyLimiter;
+import io.github.junhyeong9812.overload.core.engine.domain.EngineInstrumentation;
+import io.github.junhyeong9812.overload.core.engine.domain.ExecutionContext;
+import io.github.junhyeong9812.overload.core.engine.domain.LoadTestEngine;
+import io.github.junhyeong9812.overload.core.engine.domain.RateLimiter;
+import io.github.junhyeong9812.overload.core.http.application.port.HttpClientPort;
+import io.github.junhyeong9812.overload.core.http.domain.HttpRequest;
+import io.github.junhyeong9812.overload.core.http.domain.RequestResult;
+import io.github.junhyeong9812.overload.core.jfr.RequestEvent;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.StructuredTaskScope;
+
+/**
+ * {@link StructuredTaskScope} 기반의 부하 테스트 엔진 구현체.
+ *
+ * <p>워밍업 구간과 측정 구간마다 스코프를 하나씩 열고, 구간의 모든 요청을 그 스코프의 하위 작업으로
+ * 실행한다. 다음 구간은 이전 스코프가 합류(join)된 뒤에 시작하므로 워밍업 요청이 측정 구간에
+ * 섞이지 않는다. 구간 경계는 {@code PhasedMetricAggregator}와 같은 조건으로 정한다.
+ *
+ * <p><b>{@code VirtualThreadEngine}과의 차이:</b>
+ * <ul>
+ *   <li>동시성 허가를 스코프 소유 스레드가 먼저 얻은 뒤 하위 작업을 만든다.
+ *       살아 있는 하위 작업 수가 동시성 제한을 넘지 않는다</li>
+ *   <li>하위 작업이 예외로 끝나면 스코프가 즉시 종료되어 나머지 요청이 모두 인터럽트되고,
+ *       첫 번째 예외가 {@link IllegalStateException}으로 호출자에게 전파된다</li>
+ *   <li>취소하면 스코프를 종료해 진행 중 요청을 한 번에 인터럽트하고, 모든 하위 작업이 끝날 때까지
+ *       기다린다. 정리 시간 상한을 두고 남은 요청을 버리는 방식과 달리 반환 후에 살아 있는 요청이 없다.
+ *       인터럽트에 응답하지 않는 클라이언트는 요청 타임아웃만큼 반환이 늦어질 수 있다</li>
+ * </ul>
+ *
+ * <p>총 요청 수와 종료 시각은 실행 중에 바뀔 수 있다. 소유 스레드는 허가를 얻은 뒤
+ * {@link ExecutionContext#tryClaimRequest()}로 시작 권한을 얻어야 하위 작업을 만든다.
+ * 측정 구간의 요청을 모두 제출한 뒤 총 요청 수가 늘어나면, 현재 스코프가 합류한 다음 새 측정 스코프를
+ * 열어 이어서 제출한다.
+ *
+ * <p>{@code StructuredTaskScope}는 Java 21의 Preview API이므로 {@code --enable-preview}로 컴파일되는
+ * CLI 모듈에 둔다. 코어는 Preview 없이 배포되어야 한다.
+ *
+ * <p><b>사용 예시:</b>
+ * <pre>{@code
+ * try (HttpClientPort client = HttpClients.from(config)) {
+ *   TestResult result = LoadTester.run(config, callback, client, StructuredScopeEngine::new);
+ * }
+ * }</pre>
+ *
+ * @author junhyeong9812
+ * @since 1.1.0
+ * @see LoadTestEngine
+ */
+public class StructuredScopeEngine implements LoadTestEngine {
+
+  private final HttpClientPort httpClient;
+
+  /**
+   * 지정된 HTTP 클라이언트로 StructuredScopeEngine을 생성한다.
+   *
+   * @param httpClient HTTP 요청을 수행할 클라이언트
+   */
+  public StructuredScopeEngine(HttpClientPort httpClient) {
+    this.httpClient = httpClient;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @param config   부하 테스트 설정
+   * @param callback 진행 상황 및 개별 요청 결과를 받을 콜백
+   * @return 모든 요청의 결과 목록
+   * @throws IllegalStateException 요청 작업이 예외로 끝난 경우
+   */
+  @Override
+  public List<RequestResult> execute(LoadTestConfig config, ProgressCallback callback) {
+    return execute(config, callback, new ExecutionContext(config.totalRequests()));
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>컨텍스트가 취소되면 스코프 소유 스레드(호출 스레드)를 깨워 현재 스코프를 종료하고,
+   * 모든 하위 작업이 끝난 뒤 그때까지의 결과를 반환한다. 인터럽트로 중단된 요청은 결과에 포함하지 않는다.
+   *
+   * @param config   부하 테스트 설정
+   * @param callback 진행 상황 및 개별 요청 결과를 받을 콜백
+   * @param context  실행 컨텍스트
+   * @return 모든 요청의 결과 목록
+   * @throws IllegalStateException 요청 작업이 예외로 끝난 경우
+   */
+  @Override
+  public List<RequestResult> execute(
+      LoadTestConfig config,
+      ProgressCallback callback,
+      ExecutionContext context) {
+    List<RequestResult> results = new CopyOnWriteArrayList<>();
+    HttpRequest request = HttpRequest.from(
+        config.url(),
+        config.method(),
+        config.headers(),
+        config.body()
+    );
+    Phase phase = new Phase(request, results, context,
+        context.concurrencyLimiter(config.concurrency()),
+        callback);
+    context.rateLimiter(config.rateLimit());
+
+    Owner owner = new Owner(Thread.currentThread());
+    context.onCancel(owner::interrupt);
+    boolean interrupted = false;
+    try {
+      int submitted = 0;
+      if (config.hasWarmup()) {
+        long deadline = config.warmup().isZero() ? 0 : System.nanoTime() + config.warmup().toNanos();
+        submitted = phase.run(
+            "overload-warmup", 0, config.warmupRequests(), config.concurrency(), deadline);
+      }
+      while (!context.isCancelled() && context.hasUnclaimedRequests()) {
+        submitted = phase.run("overload-measure", submitted, 0, 0, 0);
+      }
+    } catch (InterruptedException e) {
+      // 취소가 아닌 외부 인터럽트 - 실행을 취소하고 인터럽트 상태를 복원한다
+      interrupted = true;
+      context.cancel("Interrupted");
+    } finally {
+      owner.release();
+      if (context.isCancelled()) {
+        Thread.interrupted();
+      }
+      if (interrupted) {
+        Thread.currentThread().interrupt();
+      }
+    }
+
+    return context.isCancelled() ? List.copyOf(results) : results;
+  }
+
+  /**
+   * 한 구간의 요청을 하나의 스코프에서 실행하는 상태 묶음.
+   */
+  private final class Phase {
+
+    private final HttpRequest request;
+    private final List<RequestResult> results;
+    private final ExecutionContext context;
+    private final ConcurrencyLimiter limiter;
+    private final ProgressCallback callback;
+
+    Phase(
+        HttpRequest request,
+        List<RequestResult> results,
+        ExecutionContext context,
+        ConcurrencyLimiter limiter,
+        ProgressCallback callback) {
+      this.request = request;
+      this.results = results;
+      this.context = context;
+      this.limiter = limiter;
+      this.callback = callback;
+    }
+
+    /**
+     * 스코프를 열어 요청을 제출하고 모두 끝날 때까지 기다린다.
+     *
+     * <p>워밍업 구간은 최소 요청 수를 채운 뒤 요청 수 또는 시간 조건 중 먼저 도달한 쪽에서 끝난다.
+     * 조건이 모두 0이면 시작 권한을 얻을 수 있는 요청을 전부 제출한다.
+     *
+     * @param name         스코프 이름
+     * @param from         이미 제출된 요청 수
+     * @param untilCount   구간 종료 요청 수 (0이면 조건 없음)
+     * @param minCount     구간 최소 요청 수
+     * @param deadlineNano 구간 종료 시각 (나노초, 0이면 조건 없음)
+     * @return 이 구간까지 제출된 요청 수
+     * @throws InterruptedException 취소가 아닌 이유로 인터럽트된 경우
+     */
+    int run(String name, int from, int untilCount, int minCount, long deadlineNano)
+        throws InterruptedException {
+      EngineInstrumentation instrumentation = context.getInstrumentation();
+      int submitted = from;
+      try (var scope = new StructuredTaskScope.ShutdownOnFailure(name, Thread.ofVirtual().factory())) {
+        try {
+          while (context.hasUnclaimedRequests() && !context.isCancelled() && !scope.isShutdown()
+              && !phaseFinished(submitted, untilCount, minCount, deadlineNano)) {
+            long waitStart = System.nanoTime();
+            limiter.acquire();
+            if (scope.isShutdown() || context.isCancelled()
+                || phaseFinished(submitted, untilCount, minCount, deadlineNano)
+                || !context.tryClaimRequest()) {
+              limiter.release();
+              break;
+            }
+            long forkedAt = System.nanoTime();
+            instrumentation.recordPermitWait(forkedAt - waitStart);
+            scope.fork(() -> {
+              executeRequest(forkedAt);
+              return null;
+            });
+            submitted++;
+          }
+          scope.join();
+        } catch (InterruptedException e) {
+          // 취소 훅이 소유 스레드를 깨웠다 - 스코프를 종료해 진행 중 요청을 한 번에 인터럽트한다
+          scope.shutdown();
+          boolean cancelled = context.isCancelled();
+          Thread.interrupted();
+          scope.join();
+          if (!cancelled) {
+            throw e;
+          }
+          return submitted;
+        }
+        scope.throwIfFailed(cause -> new IllegalStateException("Request task failed: " + cause, cause));
+      }
+      return submitted;
+    }
+
+    private boolean phaseFinished(int submitted, int untilCount, int minCount, long deadlineNano) {
+      if (untilCount == 0 && deadlineNano == 0) {
+        return false;
+      }
+      if (submitted < minCount) {
+        return false;
+      }
+      boolean countReached = untilCount > 0 && submitted >= untilCount;
+      boolean timeReached = deadlineNano != 0 && System.nanoTime() - deadlineNano >= 0;
+      return countReached || timeReached;
+    }
+
+    /**
+     * 개별 HTTP 요청을 실행한다. 허가는 소유 스레드가 이미 얻었으므로 끝나면 반납만 한다.
+     */
+    private void executeRequest(long forkedAt) {
+      EngineInstrumentation instrumentation = context.getInstrumentation();
+      instrumentation.recordSchedulingLag(System.nanoTime() - forkedAt);
+      try {
+        RateLimiter rateLimiter = context.getRateLimiter();
+        if (rateLimiter != null) {
+          rateLimiter.acquire();
+        }
+
+        RequestEvent event = new RequestEvent();
+        event.begin();
+        RequestResult result = httpClient.send(request);
+        if (Thread.currentThread().isInterrupted()) {
+          // 스코프 종료로 중단된 요청은 대상 서버의 실패가 아니다
+          return;
+        }
+        if (event.shouldCommit()) {
+          event.set(request, result);
+          event.commit();
+        }
+        if (context.isCollectResults()) {
+          results.add(result);
+        }
+
+        int completed = context.incrementAndGetCompleted();
+        long callbackStart = System.nanoTime();
+        callback.onProgress(completed, context.getTotalRequests(), result);
+        instrumentation.recordCallbackTime(System.nanoTime() - callbackStart);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      } finally {
+        limiter.release();
+      }
+    }
+  }
+
+  /**
+   * 취소 훅이 스코프 소유 스레드를 깨우는 창구.
+   *
+   * <p>{@link StructuredTaskScope#shutdown()}은 소유 스레드나 하위 작업에서만 호출할 수 있으므로
+   * 취소 훅은 소유 스레드를 인터럽트하고, 소유 스레드가 스코프를 종료한다.
+   * 실행이 끝난 뒤에는 인터럽트를 보내지 않는다.
+   */
+  private static final class Owner {
+
+    private final Thread thread;
+    private boolean running = true;
+
+    Owner(Thread thread) {
+      this.thread = thread;
+    }
+
+    synchronized void interrupt() {
+      if (running) {
+        thread.interrupt();
+      }
+    }
+
+    synchronized void release() {
+      running = false;
+    }
+  }
+}
\ No newline at end of file
@@ -1,8 +1,22 @@
 package io.github.junhyeong9812.overload.cli.output;
 
+import io.github.junhyeong9812.overload.core.metric.domain.AdaptiveConcurrencyReport;
+import io.github.junhyeong9812.overload.core.metric.domain.AdaptiveConcurrencyReport.CurvePoint;
+import io.github.junhyeong9812.overload.core.metric.domain.AddressReport;
+import io.github.junhyeong9812.overload.core.metric.domain.GcPauseReport;
+import io.github.junhyeong9812.overload.core.metric.domain.GeneratorHealth;
+import io.github.junhyeong9812.overload.core.metric.domain.GeneratorHealth.OverheadStats;
 import io.github.junhyeong9812.overload.core.metric.domain.Percentiles;
+import io.github.junhyeong9812.overload.core.metric.domain.ProbeReport;
+import io.github.junhyeong9812.overload.core.metric.domain.RateLimitReport;
+import io.github.junhyeong9812.overload.core.metric.domain.SlowRequest;
 import io.github.junhyeong9812.overload.core.metric.domain.TestResult;
 import io.github.junhyeong9812.overload.core.metric.domain.TestResult.LatencyStats;
+import io.github.junhyeong9812.overload.core.metric.domain.TlsReport;
+import io.github.junhyeong9812.overload.core.metric.domain.WarmupResult;
+
+import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * JSON 형식 출력 포매터.
@@ -10,18 +24,43 @@ import io.github.junhyeong9812.overload.core.metric.domain.TestResult.LatencySta
  * <p>프로그래밍 방식으로 처리하기 쉬운 JSON 형태로 결과를 출력한다.
  * 외부 라이브러리 없이 직접 JSON을 생성한다.
  *
+ * <p>{@code latency.spectrum}에는 생성 시 지정한 백분위수({@code reportedMicros})와
+ * HdrHistogram 눈금의 전체 백분위수 스펙트럼({@code distribution})이 들어간다.
+ *
  * @author junhyeong9812
  * @since 1.0.0
  */
 public class JsonFormatter implements OutputFormatter {
 
+  private final List<Double> percentiles;
+
+  /**
+   * 기본 백분위수(p50, p90, p95, p99)를 보고하는 JsonFormatter를 생성한다.
+   */
+  public JsonFormatter() {
+    this(DEFAULT_PERCENTILES);
+  }
+
+  /**
+   * 지정된 백분위수를 보고하는 JsonFormatter를 생성한다.
+   *
+   * @param percentiles 보고할 백분위수 (0-100)
+   * @since 1.1.0
+   */
+  public JsonFormatter(List<Double> percentiles) {
+    this.percentiles = List.copyOf(percentiles);
+  }
+
   @Override
   public String format(TestResult result) {
     LatencyStats stats = result.latencyStats();
     Percentiles p = stats.percentiles();
+    GeneratorHealth health = result.generatorHealth();
 
     return """
                 {
+                  "aborted": %s,
+                  "abortReason": %s,
                   "requests": {
                     "total": %d,
                     "successful": %d,
@@ -41,9 +80,40 @@ public class JsonFormatter implements OutputFormatter {
                       "p90": %d,
                       "p95": %d,
                       "p99": %d
-                    }
-                  }
+                    },
+                    "micros": {
+                      "min": %d,
+                      "max": %d,
+                      "avg": %.1f,
+                      "p50": %d,
+                      "p90": %d,
+                      "p95": %d,
+                      "p99": %d
+                    },
+                    "spectrum": %s
+                  },
+                  "generatorHealth": {
+                    "schedulingLagMicros": %s,
+                    "permitWaitMicros": %s,
+                    "callbackTimeMicros": %s,
+                    "pinnedEvents": %d,
+                    "pinnedMicros": %d,
+                    "pinningTracked": %s,
+                    "progressDropped": %d,
+                    "overheadRatio": %.4f,
+                    "overloaded": %s
+                  },
+                  "adaptiveConcurrency": %s,
+                  "warmup": %s,
+                  "rateLimit": %s,
+                  "addresses": %s,
+                  "tls": %s,
+                  "slowestRequests": %s,
+                  "probe": %s,
+                  "gcPauses": %s
                 }""".formatted(
+        result.isAborted(),
+        result.isAborted() ? quote(result.abortReason()) : "null",
         result.totalRequests(),
         result.successCount(),
         result.failCount(),
@@ -56,7 +126,206 @@ public class JsonFormatter implements OutputFormatter {
         p.p50(),
         p.p90(),
         p.p95(),
-        p.p99()
+        p.p99(),
+        stats.minMicros(),
+        stats.maxMicros(),
+        stats.avgMicros(),
+        p.p50Micros(),
+        p.p90Micros(),
+        p.p95Micros(),
+        p.p99Micros(),
+        spectrumJson(stats),
+        overheadJson(health.schedulingLag()),
+        overheadJson(health.permitWait()),
+        overheadJson(health.callbackTime()),
+        health.pinnedEvents(),
+        health.pinnedMicros(),
+        health.pinningTracked(),
+        health.progressDropped(),
+        health.overheadRatio(),
+        health.isOverloaded(),
+        adaptiveJson(result.adaptiveConcurrency()),
+        warmupJson(result.warmup()),
+        rateLimitJson(result.rateLimit()),
+        addressesJson(result.addresses()),
+        tlsJson(result.tls()),
+        slowestJson(result.slowestRequests()),
+        probeJson(result.probe()),
+        gcPausesJson(result.gcPauses())
     );
   }
+
+  private String warmupJson(WarmupResult warmup) {
+    if (warmup == null) {
+      return "null";
+    }
+    LatencyStats stats = warmup.latencyStats();
+    return """
+        {"total": %d, "failed": %d, "durationMs": %d, "requestsPerSecond": %.2f, "avg": %.2f, "p99": %d, "max": %d, "avgMicros": %.1f, "p99Micros": %d, "maxMicros": %d}""".formatted(
+        warmup.totalRequests(),
+        warmup.failCount(),
+        warmup.duration().toMillis(),
+        warmup.requestsPerSecond(),
+        stats.avg(),
+        stats.percentiles().p99(),
+        stats.max(),
+        stats.avgMicros(),
+        stats.percentiles().p99Micros(),
+        stats.maxMicros());
+  }
+
+  private String rateLimitJson(RateLimitReport report) {
+    if (report == null) {
+      return "null";
+    }
+    return """
+        {"targetRps": %.2f, "burst": %d, "effectiveRps": %.2f, "permits": %d, "throttled": %d, "avgWaitMicros": %.2f}""".formatted(
+        report.targetRps(),
+        report.burst(),
+        report.effectiveRps(),
+        report.permits(),
+        report.throttled(),
+        report.avgWaitMicros());
+  }
+
+  private String addressesJson(List<AddressReport> addresses) {
+    if (addresses == null) {
+      return "null";
+    }
+    return addresses.stream()
+        .map(report -> """
+            {"address": %s, "requests": %d, "failures": %d, "errors": {%s}, "avgMicros": %.1f, "p50Micros": %d, "p99Micros": %d, "maxMicros": %d}""".formatted(
+            quote(report.address()),
+            report.requests(),
+            report.failures(),
+            report.errors().entrySet().stream()
+                .map(e -> quote(e.getKey().name()) + ": " + e.getValue())
+                .collect(Collectors.joining(", ")),
+            report.avgMicros(),
+            report.p50Micros(),
+            report.p99Micros(),
+            report.maxMicros()))
+        .collect(Collectors.joining(", ", "[", "]"));
+  }
+
+  private String spectrumJson(LatencyStats stats) {
+    String reported = percentiles.stream()
+        .map(percentile -> "%s: %d".formatted(
+            quote(LatencyFormat.label(percentile)), stats.percentileMicros(percentile)))
+        .collect(Collectors.joining(", ", "{", "}"));
+    String distribution = stats.spectrum().distribution().stream()
+        .map(point -> """
+            {"valueMicros": %d, "percentile": %.12f, "totalCount": %d}""".formatted(
+            point.valueMicros(), point.fraction(), point.totalCount()))
+        .collect(Collectors.joining(", ", "[", "]"));
+    return """
+        {"reportedMicros": %s, "distribution": %s}""".formatted(reported, distribution);
+  }
+
+  private String tlsJson(TlsReport report) {
+    if (report == null) {
+      return "null";
+    }
+    return """
+        {"fullHandshakes": %d, "resumedHandshakes": %d, "failedHandshakes": %d, "resumptionRate": %.4f, "avgMicros": %.1f, "p50Micros": %d, "p99Micros": %d, "maxMicros": %d}""".formatted(
+        report.fullHandshakes(),
+        report.resumedHandshakes(),
+        report.failedHandshakes(),
+        report.resumptionRate(),
+        report.avgMicros(),
+        report.p50Micros(),
+        report.p99Micros(),
+        report.maxMicros());
+  }
+
+  private String slowestJson(List<SlowRequest> slowest) {
+    return slowest.stream()
+        .map(slow -> """
+            {"latencyMicros": %d, "timestamp": %s, "elapsedMs": %d, "url": %s, "endpoint": %s, "statusCode": %d, "errorType": %s, "generatorPause": %s}""".formatted(
+            slow.latencyMicros(),
+            quote(slow.timestamp().toString()),
+            slow.elapsed().toMillis(),
+            quote(slow.url()),
+            quote(slow.endpoint()),
+            slow.statusCode(),
+            slow.isFailure() ? quote(slow.errorType().name()) : "null",
+            slow.generatorPause()))
+        .collect(Collectors.joining(", ", "[", "]"));
+  }
+
+  private String probeJson(ProbeReport probe) {
+    if (probe == null) {
+      return "null";
+    }
+    LatencyStats stats = probe.latencyStats();
+    return """
+        {"url": %s, "method": %s, "intervalMs": %d, "total": %d, "failed": %d, "missed": %d, "avgMicros": %.1f, "p50Micros": %d, "p99Micros": %d, "maxMicros": %d}""".formatted(
+        quote(probe.url()),
+        quote(probe.method().name()),
+        probe.interval().toMillis(),
+        probe.totalRequests(),
+        probe.failCount(),
+        probe.missed(),
+        stats.avgMicros(),
+        stats.percentiles().p50Micros(),
+        stats.percentiles().p99Micros(),
+        stats.maxMicros());
+  }
+
+  private String gcPausesJson(GcPauseReport gc) {
+    if (gc == null) {
+      return "null";
+    }
+    LatencyStats clean = gc.cleanLatencyStats();
+    return """
+        {"collectors": %s, "pauses": %d, "totalPauseMs": %d, "maxPauseMs": %d, "measured": %d, "affected": %d, "affectedRatio": %.4f, "tailThresholdMicros": %d, "tailRequests": %d, "affectedTailRequests": %d, "tailShare": %.4f, "excludingPauses": {"avgMicros": %.1f, "p50Micros": %d, "p99Micros": %d, "maxMicros": %d}}""".formatted(
+        gc.collectors().stream().map(this::quote).collect(Collectors.joining(", ", "[", "]")),
+        gc.pauses(),
+        gc.totalPause().toMillis(),
+        gc.maxPause().toMillis(),
+        gc.measuredRequests(),
+        gc.affectedRequests(),
+        gc.affectedRatio(),
+        gc.tailThresholdMicros(),
+        gc.tailRequests(),
+        gc.affectedTailRequests(),
+        gc.tailShare(),
+        clean.avgMicros(),
+        clean.percentiles().p50Micros(),
+        clean.percentiles().p99Micros(),
+        clean.maxMicros());
+  }
+
+  private String overheadJson(OverheadStats stats) {
+    return """
+        {"avg": %.2f, "p50": %d, "p99": %d, "max": %d}""".formatted(
+        stats.avgMicros(), stats.p50Micros(), stats.p99Micros(), stats.maxMicros());
+  }
+
+  private String adaptiveJson(AdaptiveConcurrencyReport report) {
+    if (report == null) {
+      return "null";
+    }
+    String curve = report.curve().stream()
+        .map(this::curvePointJson)
+        .collect(Collectors.joining(", "));
+    return """
+        {"p99SloMs": %d, "maxErrorRate": %.4f, "curve": [%s], "chosen": %s, "finalLimit": %d}""".formatted(
+        report.p99SloMs(),
+        report.maxErrorRate(),
+        curve,
+        report.hasOperatingPoint() ? curvePointJson(report.chosen()) : "null",
+        report.finalLimit());
+  }
+
+  private String curvePointJson(CurvePoint point) {
+    return """
+        {"concurrency": %d, "requestsPerSecond": %.2f, "p99": %d, "errorRate": %.4f, "withinSlo": %s}""".formatted(
+        point.concurrency(), point.requestsPerSecond(), point.p99Ms(),
+        point.errorRate(), point.withinSlo());
+  }
+
+  private String quote(String value) {
+    return "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+  }
 }
\ No newline at end of file
@@ -0,0 +1,68 @@
+package io.github.junhyeong9812.overload.cli.output;
+
+import java.math.BigDecimal;
+
+/**
+ * 마이크로초 지연 시간을 크기에 맞는 단위로 표시하는 유틸리티.
+ *
+ * <p>1ms 미만은 µs, 1초 미만은 ms, 그 이상은 s 단위로 출력한다.
+ * 수백 µs로 응답하는 대상도 0ms가 아닌 실제 값으로 보인다.
+ *
+ * <pre>{@code
+ * LatencyFormat.format(312);        // "312µs"
+ * LatencyFormat.format(48_250);     // "48.25ms"
+ * LatencyFormat.format(2_500_000);  // "2.50s"
+ * }</pre>
+ *
+ * @author junhyeong9812
+ * @since 1.1.0
+ */
+public final class LatencyFormat {
+
+  private LatencyFormat() {
+  }
+
+  /**
+   * 마이크로초 값을 단위와 함께 포맷한다.
+   *
+   * @param micros 지연 시간 (마이크로초)
+   * @return 단위가 붙은 문자열
+   */
+  public static String format(long micros) {
+    if (micros < 1_000) {
+      return micros + "µs";
+    }
+    return format((double) micros);
+  }
+
+  /**
+   * 백분위수 이름을 만든다. 정수 백분위수는 소수점 없이 표시한다.
+   *
+   * <pre>{@code
+   * LatencyFormat.label(99);      // "p99"
+   * LatencyFormat.label(99.99);   // "p99.99"
+   * }</pre>
+   *
+   * @param percentile 백분위수 (0-100)
+   * @return 백분위수 이름
+   */
+  public static String label(double percentile) {
+    return "p" + BigDecimal.valueOf(percentile).stripTrailingZeros().toPlainString();
+  }
+
+  /**
+   * 평균처럼 소수가 있는 마이크로초 값을 단위와 함께 포맷한다.
+   *
+   * @param micros 지연 시간 (마이크로초)
+   * @return 단위가 붙은 문자열
+   */
+  public static String format(double micros) {
+    if (micros < 1_000) {
+      return String.format("%.1fµs", micros);
+    }
+    if (micros < 1_000_000) {
+      return String.format("%.2fms", micros / 1_000);
+    }
+    return String.format("%,.2fs", micros / 1_000_000);
+  }
+}
\ No newline at end of file
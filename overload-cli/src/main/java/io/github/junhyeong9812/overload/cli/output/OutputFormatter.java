@@ -2,6 +2,8 @@ package io.github.junhyeong9812.overload.cli.output;
 
 import io.github.junhyeong9812.overload.core.metric.domain.TestResult;
 
+import java.util.List;
+
 /**
  * 테스트 결과 출력 포매터 인터페이스.
  *
@@ -10,6 +12,13 @@ import io.github.junhyeong9812.overload.core.metric.domain.TestResult;
  */
 public interface OutputFormatter {
 
+  /**
+   * 보고할 백분위수를 지정하지 않았을 때 출력하는 백분위수.
+   *
+   * @since 1.1.0
+   */
+  List<Double> DEFAULT_PERCENTILES = List.of(50.0, 90.0, 95.0, 99.0);
+
   /**
    * 테스트 결과를 문자열로 포맷팅한다.
    *
@@ -1,19 +1,51 @@
 package io.github.junhyeong9812.overload.cli.output;
 
-import io.github.junhyeong9812.overload.core.metric.domain.Percentiles;
+import io.github.junhyeong9812.overload.core.metric.domain.AdaptiveConcurrencyReport;
+import io.github.junhyeong9812.overload.core.metric.domain.AdaptiveConcurrencyReport.CurvePoint;
+import io.github.junhyeong9812.overload.core.metric.domain.AddressReport;
+import io.github.junhyeong9812.overload.core.metric.domain.GcPauseReport;
+import io.github.junhyeong9812.overload.core.metric.domain.GeneratorHealth;
+import io.github.junhyeong9812.overload.core.metric.domain.GeneratorHealth.OverheadStats;
+import io.github.junhyeong9812.overload.core.metric.domain.ProbeReport;
+import io.github.junhyeong9812.overload.core.metric.domain.RateLimitReport;
+import io.github.junhyeong9812.overload.core.metric.domain.SlowRequest;
 import io.github.junhyeong9812.overload.core.metric.domain.TestResult;
 import io.github.junhyeong9812.overload.core.metric.domain.TestResult.LatencyStats;
+import io.github.junhyeong9812.overload.core.metric.domain.TlsReport;
+import io.github.junhyeong9812.overload.core.metric.domain.WarmupResult;
+
+import java.util.List;
 
 /**
  * 텍스트 형식 출력 포매터.
  *
  * <p>사람이 읽기 쉬운 형태로 결과를 출력한다.
+ * 백분위수 섹션에는 생성 시 지정한 백분위수(p99.9, p99.99 등)를 순서대로 출력한다.
  *
  * @author junhyeong9812
  * @since 1.0.0
  */
 public class TextFormatter implements OutputFormatter {
 
+  private final List<Double> percentiles;
+
+  /**
+   * 기본 백분위수(p50, p90, p95, p99)를 출력하는 TextFormatter를 생성한다.
+   */
+  public TextFormatter() {
+    this(DEFAULT_PERCENTILES);
+  }
+
+  /**
+   * 지정된 백분위수를 출력하는 TextFormatter를 생성한다.
+   *
+   * @param percentiles 출력할 백분위수 (0-100)
+   * @since 1.1.0
+   */
+  public TextFormatter(List<Double> percentiles) {
+    this.percentiles = List.copyOf(percentiles);
+  }
+
   @Override
   public String format(TestResult result) {
     StringBuilder sb = new StringBuilder();
@@ -21,6 +53,10 @@ public class TextFormatter implements OutputFormatter {
     sb.append("Results:\n");
     sb.append("=".repeat(50)).append("\n\n");
 
+    if (result.isAborted()) {
+      sb.append(String.format("  ⚠ %s - partial result%n%n", result.abortReason()));
+    }
+
     // 요청 통계
     sb.append("  Requests\n");
     sb.append(String.format("    Total:       %,d%n", result.totalRequests()));
@@ -41,19 +77,231 @@ public class TextFormatter implements OutputFormatter {
     // 지연 시간 통계
     LatencyStats stats = result.latencyStats();
     sb.append("  Latency\n");
-    sb.append(String.format("    Min:         %,dms%n", stats.min()));
-    sb.append(String.format("    Max:         %,dms%n", stats.max()));
-    sb.append(String.format("    Avg:         %.2fms%n", stats.avg()));
+    sb.append(String.format("    Min:         %s%n", LatencyFormat.format(stats.minMicros())));
+    sb.append(String.format("    Max:         %s%n", LatencyFormat.format(stats.maxMicros())));
+    sb.append(String.format("    Avg:         %s%n", LatencyFormat.format(stats.avgMicros())));
     sb.append("\n");
 
     // 백분위수
-    Percentiles p = stats.percentiles();
     sb.append("  Percentiles\n");
-    sb.append(String.format("    p50:         %,dms%n", p.p50()));
-    sb.append(String.format("    p90:         %,dms%n", p.p90()));
-    sb.append(String.format("    p95:         %,dms%n", p.p95()));
-    sb.append(String.format("    p99:         %,dms%n", p.p99()));
+    for (double percentile : percentiles) {
+      sb.append(String.format("    %-13s%s%n", LatencyFormat.label(percentile) + ":",
+          LatencyFormat.format(stats.percentileMicros(percentile))));
+    }
+
+    if (result.hasWarmup()) {
+      appendWarmup(sb, result.warmup());
+    }
+
+    if (result.rateLimit() != null) {
+      appendRateLimit(sb, result.rateLimit());
+    }
+
+    if (result.addresses() != null) {
+      appendAddresses(sb, result.addresses());
+    }
+
+    if (result.tls() != null) {
+      appendTls(sb, result.tls());
+    }
+
+    if (result.probe() != null) {
+      appendProbe(sb, result.probe(), stats);
+    }
+
+    if (!result.slowestRequests().isEmpty()) {
+      appendSlowest(sb, result.slowestRequests());
+    }
+
+    appendGeneratorHealth(sb, result.generatorHealth());
+
+    if (result.gcPauses() != null) {
+      appendGcPauses(sb, result.gcPauses());
+    }
+
+    if (result.adaptiveConcurrency() != null) {
+      appendAdaptiveConcurrency(sb, result.adaptiveConcurrency());
+    }
 
     return sb.toString();
   }
+
+  /**
+   * 측정에서 제외된 워밍업 구간을 출력한다.
+   */
+  private void appendWarmup(StringBuilder sb, WarmupResult warmup) {
+    LatencyStats stats = warmup.latencyStats();
+    sb.append("\n");
+    sb.append("  Warm-up (excluded from results above)\n");
+    sb.append(String.format("    Requests:    %,d in %.2fs (%.2f req/s, %,d failed)%n",
+        warmup.totalRequests(),
+        warmup.duration().toMillis() / 1000.0,
+        warmup.requestsPerSecond(),
+        warmup.failCount()));
+    sb.append(String.format("    Latency:     avg %s  p99 %s  max %s%n",
+        LatencyFormat.format(stats.avgMicros()),
+        LatencyFormat.format(stats.percentiles().p99Micros()),
+        LatencyFormat.format(stats.maxMicros())));
+  }
+
+  /**
+   * 요청 속도 제한의 목표/실효 속도를 출력한다.
+   */
+  private void appendRateLimit(StringBuilder sb, RateLimitReport report) {
+    sb.append("\n");
+    sb.append(String.format("  Rate Limit (burst %,d)%n", report.burst()));
+    sb.append(String.format("    Target:      %,.1f req/s%n", report.targetRps()));
+    sb.append(String.format("    Effective:   %,.1f req/s%n", report.effectiveRps()));
+    sb.append(String.format("    Throttled:   %,d of %,d (%.1f%%, avg wait %,.1fµs)%n",
+        report.throttled(), report.permits(), report.throttledRatio() * 100,
+        report.avgWaitMicros()));
+  }
+
+  /**
+   * 대상 주소별 요청 분포, 지연 시간, 오류를 출력한다.
+   */
+  private void appendAddresses(StringBuilder sb, List<AddressReport> addresses) {
+    sb.append("\n");
+    sb.append("  Addresses\n");
+    for (AddressReport report : addresses) {
+      sb.append(String.format("    %-15s %,10d req   avg %s  p99 %s   err %5.1f%%%n",
+          report.address(),
+          report.requests(),
+          LatencyFormat.format(report.avgMicros()),
+          LatencyFormat.format(report.p99Micros()),
+          report.errorRate() * 100));
+      report.errors().forEach((type, count) ->
+          sb.append(String.format("      %-13s %,d%n", type, count)));
+    }
+  }
+
+  /**
+   * TLS 핸드셰이크 수와 지연 시간을 출력한다.
+   */
+  private void appendTls(StringBuilder sb, TlsReport report) {
+    sb.append("\n");
+    sb.append("  TLS Handshakes\n");
+    sb.append(String.format("    Full:        %,d%n", report.fullHandshakes()));
+    sb.append(String.format("    Resumed:     %,d (%.1f%%)%n",
+        report.resumedHandshakes(), report.resumptionRate() * 100));
+    if (report.failedHandshakes() > 0) {
+      sb.append(String.format("    Failed:      %,d%n", report.failedHandshakes()));
+    }
+    sb.append(String.format("    Latency:     avg %s  p50 %s  p99 %s  max %s%n",
+        LatencyFormat.format(report.avgMicros()),
+        LatencyFormat.format(report.p50Micros()),
+        LatencyFormat.format(report.p99Micros()),
+        LatencyFormat.format(report.maxMicros())));
+  }
+
+  /**
+   * 저속 지연 프로브의 지연 시간을 주 부하와 나란히 출력한다.
+   */
+  private void appendProbe(StringBuilder sb, ProbeReport probe, LatencyStats main) {
+    LatencyStats stats = probe.latencyStats();
+    sb.append("\n");
+    sb.append(String.format("  Probe (%s %s every %dms, dedicated connection)%n",
+        probe.method(), probe.url(), probe.interval().toMillis()));
+    sb.append(String.format("    Requests:    %,d (%,d failed, %,d ticks missed)%n",
+        probe.totalRequests(), probe.failCount(), probe.missed()));
+    sb.append(String.format("    Probe:       p50 %s  p99 %s  max %s%n",
+        LatencyFormat.format(stats.percentiles().p50Micros()),
+        LatencyFormat.format(stats.percentiles().p99Micros()),
+        LatencyFormat.format(stats.maxMicros())));
+    sb.append(String.format("    Under load:  p50 %s  p99 %s  max %s%n",
+        LatencyFormat.format(main.percentiles().p50Micros()),
+        LatencyFormat.format(main.percentiles().p99Micros()),
+        LatencyFormat.format(main.maxMicros())));
+  }
+
+  /**
+   * 측정 구간에서 가장 느린 요청을 완료 시각과 함께 출력한다.
+   */
+  private void appendSlowest(StringBuilder sb, List<SlowRequest> slowest) {
+    sb.append("\n");
+    sb.append(String.format("  Slowest Requests (%d)%n", slowest.size()));
+    for (SlowRequest slow : slowest) {
+      sb.append(String.format("    %10s  at %7.2fs  %-18s %s%s%n",
+          LatencyFormat.format(slow.latencyMicros()),
+          slow.elapsed().toMillis() / 1000.0,
+          slow.isFailure() ? slow.errorType() : String.valueOf(slow.statusCode()),
+          slow.endpoint(),
+          slow.generatorPause() ? "  [generator GC pause]" : ""));
+    }
+  }
+
+  /**
+   * 부하 생성기 GC 멈춤과 겹친 요청 비율과 그 요청을 뺀 지연 시간을 출력한다.
+   */
+  private void appendGcPauses(StringBuilder sb, GcPauseReport gc) {
+    LatencyStats clean = gc.cleanLatencyStats();
+    sb.append("\n");
+    sb.append(String.format("  Generator GC Pauses (%s)%n", String.join(", ", gc.collectors())));
+    sb.append(String.format("    Pauses:      %,d (total %,dms, max %,dms)%n",
+        gc.pauses(), gc.totalPause().toMillis(), gc.maxPause().toMillis()));
+    sb.append(String.format("    Affected:    %,d of %,d requests (%.1f%%)%n",
+        gc.affectedRequests(), gc.measuredRequests(), gc.affectedRatio() * 100));
+    sb.append(String.format("    p99 tail:    %,d of %,d requests above %s overlapped a pause (%.1f%%)%n",
+        gc.affectedTailRequests(), gc.tailRequests(),
+        LatencyFormat.format(gc.tailThresholdMicros()), gc.tailShare() * 100));
+    sb.append(String.format("    Excluding:   p50 %s  p99 %s  max %s%n",
+        LatencyFormat.format(clean.percentiles().p50Micros()),
+        LatencyFormat.format(clean.percentiles().p99Micros()),
+        LatencyFormat.format(clean.maxMicros())));
+  }
+
+  /**
+   * 부하 생성기 자체 오버헤드를 출력한다.
+   */
+  private void appendGeneratorHealth(StringBuilder sb, GeneratorHealth health) {
+    sb.append("\n");
+    sb.append("  Generator Health\n");
+    appendOverhead(sb, "Sched lag:", health.schedulingLag());
+    appendOverhead(sb, "Permit wait:", health.permitWait());
+    appendOverhead(sb, "Callback:", health.callbackTime());
+    if (health.pinningTracked()) {
+      sb.append(String.format("    Pinned:      %,d events (%,dµs)%n",
+          health.pinnedEvents(), health.pinnedMicros()));
+    }
+    if (health.progressDropped() > 0) {
+      sb.append(String.format("    Progress:    %,d events dropped (callback too slow)%n",
+          health.progressDropped()));
+    }
+    sb.append(String.format("    Overhead:    %.1f%% of mean latency%n",
+        health.overheadRatio() * 100));
+    if (health.isOverloaded()) {
+      sb.append(String.format(
+          "    ⚠ Generator overhead exceeds %.0f%% of latency - results may reflect generator limits%n",
+          health.warnRatio() * 100));
+    }
+  }
+
+  /**
+   * 적응형 동시성 탐색 곡선과 운영 지점을 출력한다.
+   */
+  private void appendAdaptiveConcurrency(StringBuilder sb, AdaptiveConcurrencyReport report) {
+    sb.append("\n");
+    sb.append(String.format("  Adaptive Concurrency (p99 SLO %,dms, max errors %.1f%%)%n",
+        report.p99SloMs(), report.maxErrorRate() * 100));
+    for (CurvePoint point : report.curve()) {
+      sb.append(String.format("    %s c=%-6d %,10.1f req/s   p99 %,5dms   err %5.1f%%%n",
+          point.withinSlo() ? "✓" : "✗",
+          point.concurrency(),
+          point.requestsPerSecond(),
+          point.p99Ms(),
+          point.errorRate() * 100));
+    }
+    if (report.hasOperatingPoint()) {
+      CurvePoint chosen = report.chosen();
+      sb.append(String.format("    Operating point: c=%d (%,.1f req/s, p99 %,dms)%n",
+          chosen.concurrency(), chosen.requestsPerSecond(), chosen.p99Ms()));
+    } else {
+      sb.append("    ⚠ No explored concurrency met the SLO\n");
+    }
+  }
+
+  private void appendOverhead(StringBuilder sb, String label, OverheadStats stats) {
+    sb.append(String.format("    %-12s avg %,.1fµs  p99 %,dµs  max %,dµs%n",
+        label, stats.avgMicros(), stats.p99Micros(), stats.maxMicros()));
+  }
 }
\ No newline at end of file
@@ -1,8 +1,11 @@
 package io.github.junhyeong9812.overload.cli.progress;
 
 import io.github.junhyeong9812.overload.core.callback.ProgressCallback;
+import io.github.junhyeong9812.overload.core.callback.ProgressEvent;
 import io.github.junhyeong9812.overload.core.http.domain.RequestResult;
 
+import java.util.List;
+
 /**
  * 콘솔 프로그레스 바 구현.
  *
@@ -88,6 +91,24 @@ public class ConsoleProgressBar implements ProgressCallback {
     System.out.flush();
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * <p>배치에서 가장 많이 진행된 이벤트 하나만 출력한다.
+   *
+   * @param events 완료 이벤트 목록
+   */
+  @Override
+  public void onProgressBatch(List<ProgressEvent> events) {
+    ProgressEvent latest = events.get(0);
+    for (ProgressEvent event : events) {
+      if (event.completed() > latest.completed()) {
+        latest = event;
+      }
+    }
+    onProgress(latest.completed(), latest.total(), latest.result());
+  }
+
   /**
    * 프로그레스 바 출력을 완료하고 줄바꿈을 출력한다.
    *
@@ -0,0 +1,214 @@
+package io.github.junhyeong9812.overload.cli.engine;
+
+import io.github.junhyeong9812.overload.core.callback.ProgressCallback;
+import io.github.junhyeong9812.overload.core.config.LoadTestConfig;
+import io.github.junhyeong9812.overload.core.engine.domain.ExecutionContext;
+import io.github.junhyeong9812.overload.core.engine.domain.LoadTestEngine;
+import io.github.junhyeong9812.overload.core.http.application.port.HttpClientPort;
+import io.github.junhyeong9812.overload.core.http.domain.HttpRequest;
+import io.github.junhyeong9812.overload.core.http.domain.RequestResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * {@link StructuredScopeEngine} 테스트.
+ *
+ * @author junhyeong9812
+ * @since 1.1.0
+ */
+@DisplayName("StructuredScopeEngine")
+class StructuredScopeEngineTest {
+
+  private static final String URL = "https://api.example.com";
+
+  @Test
+  @DisplayName("LoadTestEngine 인터페이스를 구현한다")
+  void implementsLoadTestEngine() {
+    assertThat(new StructuredScopeEngine(request -> new RequestResult.Success(200, 1)))
+        .isInstanceOf(LoadTestEngine.class);
+  }
+
+  @Nested
+  @DisplayName("실패 전파")
+  class FailureTest {
+
+    @Test
+    @DisplayName("하위 작업이 예외로 끝나면 진행 중 요청을 모두 인터럽트하고 첫 예외를 전파한다")
+    void propagatesFirstFailureAndInterruptsSiblings() {
+      int concurrency = 4;
+      RuntimeException boom = new RuntimeException("boom");
+      BlockingHttpClient client = new BlockingHttpClient(concurrency, boom);
+      AtomicInteger callbacks = new AtomicInteger();
+      LoadTestConfig config = LoadTestConfig.builder()
+          .url(URL)
+          .totalRequests(100)
+          .concurrency(concurrency)
+          .build();
+
+      assertThatThrownBy(() -> new StructuredScopeEngine(client)
+          .execute(config, (completed, total, result) -> callbacks.incrementAndGet()))
+          .isInstanceOf(IllegalStateException.class)
+          .hasCause(boom);
+
+      // 실패 직후 반납된 허가로 요청 하나가 더 시작될 수 있지만, 그 요청도 인터럽트된다
+      assertThat(client.started()).isBetween(concurrency, concurrency + 1);
+      assertThat(client.interrupted()).isEqualTo(client.started() - 1);
+      assertThat(client.inFlight()).isZero();
+      assertThat(callbacks.get()).isZero();
+    }
+  }
+
+  @Nested
+  @DisplayName("취소")
+  class CancelTest {
+
+    @Test
+    @DisplayName("취소하면 진행 중 요청을 모두 정리한 뒤 반환한다")
+    void tearsDownAllInFlightRequests() throws InterruptedException {
+      int concurrency = 5;
+      BlockingHttpClient client = new BlockingHttpClient(concurrency, null);
+      LoadTestConfig config = LoadTestConfig.builder()
+          .url(URL)
+          .totalRequests(1_000)
+          .concurrency(concurrency)
+          .build();
+      ExecutionContext context = new ExecutionContext(config.totalRequests());
+
+      Thread canceller = Thread.ofVirtual().start(() -> {
+        if (client.awaitAllStarted()) {
+          context.cancel("test");
+        }
+      });
+      List<RequestResult> results = new StructuredScopeEngine(client)
+          .execute(config, ProgressCallback.noop(), context);
+      canceller.join();
+
+      assertThat(context.isCancelled()).isTrue();
+      assertThat(client.started()).isEqualTo(concurrency);
+      assertThat(client.interrupted()).isEqualTo(concurrency);
+      assertThat(client.inFlight()).isZero();
+      assertThat(results).isEmpty();
+      assertThat(Thread.currentThread().isInterrupted()).isFalse();
+    }
+  }
+
+  @Nested
+  @DisplayName("구간 분리")
+  class PhaseTest {
+
+    @Test
+    @DisplayName("워밍업 요청이 모두 끝난 뒤에 측정 요청을 시작한다")
+    void runsWarmupAndMeasurementInSeparateScopes() {
+      int warmupRequests = 10;
+      AtomicInteger started = new AtomicInteger();
+      AtomicInteger warmupCompleted = new AtomicInteger();
+      AtomicBoolean overlapped = new AtomicBoolean();
+      HttpClientPort client = request -> {
+        int n = started.incrementAndGet();
+        boolean warmup = n <= warmupRequests;
+        if (!warmup && warmupCompleted.get() < warmupRequests) {
+          overlapped.set(true);
+        }
+        sleep(warmup ? 20 + n : 1);
+        if (warmup) {
+          warmupCompleted.incrementAndGet();
+        }
+        return new RequestResult.Success(200, 1);
+      };
+      LoadTestConfig config = LoadTestConfig.builder()
+          .url(URL)
+          .totalRequests(30)
+          .concurrency(4)
+          .warmupRequests(warmupRequests)
+          .build();
+
+      List<RequestResult> results = new StructuredScopeEngine(client)
+          .execute(config, ProgressCallback.noop());
+
+      assertThat(results).hasSize(30);
+      assertThat(warmupCompleted.get()).isEqualTo(warmupRequests);
+      assertThat(overlapped).isFalse();
+    }
+  }
+
+  private static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * 동시성만큼 요청이 시작될 때까지 막아 두는 HTTP 클라이언트.
+   *
+   * <p>실패 예외가 주어지면 마지막으로 시작된 요청이 다른 요청이 모두 시작된 뒤 예외를 던진다.
+   * 나머지 요청은 인터럽트될 때까지 기다린다.
+   */
+  static class BlockingHttpClient implements HttpClientPort {
+
+    private final int concurrency;
+    private final RuntimeException failure;
+    private final CountDownLatch allStarted;
+    private final AtomicInteger started = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger interrupted = new AtomicInteger();
+
+    BlockingHttpClient(int concurrency, RuntimeException failure) {
+      this.concurrency = concurrency;
+      this.failure = failure;
+      this.allStarted = new CountDownLatch(concurrency);
+    }
+
+    @Override
+    public RequestResult send(HttpRequest request) {
+      int n = started.incrementAndGet();
+      inFlight.incrementAndGet();
+      try {
+        allStarted.countDown();
+        if (failure != null && n == concurrency) {
+          throw failure;
+        }
+        Thread.sleep(TimeUnit.SECONDS.toMillis(30));
+        return new RequestResult.Success(200, 30_000);
+      } catch (InterruptedException e) {
+        interrupted.incrementAndGet();
+        Thread.currentThread().interrupt();
+        return RequestResult.Failure.ofMicros("interrupted", null, 0);
+      } finally {
+        inFlight.decrementAndGet();
+      }
+    }
+
+    boolean awaitAllStarted() {
+      try {
+        return allStarted.await(10, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return false;
+      }
+    }
+
+    int started() {
+      return started.get();
+    }
+
+    int inFlight() {
+      return inFlight.get();
+    }
+
+    int interrupted() {
+      return interrupted.get();
+    }
+  }
+}
\ No newline at end of file
@@ -0,0 +1,225 @@
+package io.github.junhyeong9812.overload.core;
+
+import io.github.junhyeong9812.overload.core.config.LoadControl;
+import io.github.junhyeong9812.overload.core.engine.application.LoadController;
+import io.github.junhyeong9812.overload.core.engine.domain.ExecutionContext;
+import io.github.junhyeong9812.overload.core.exception.LoadTestException;
+import io.github.junhyeong9812.overload.core.metric.domain.ControlChange;
+import io.github.junhyeong9812.overload.core.metric.domain.TestResult;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 비동기로 시작된 부하 테스트의 제어 핸들.
+ *
+ * <p>{@link LoadTester#start(io.github.junhyeong9812.overload.core.config.LoadTestConfig)}가
+ * 반환하며, 실행 중인 테스트의 진행 상황 조회와 부하 조정, 취소, 결과 대기를 제공한다.
+ *
+ * <p><b>취소 동작:</b>
+ * <ul>
+ *   <li>새 요청 제출을 즉시 멈춘다</li>
+ *   <li>허가 대기 중이거나 진행 중인 요청을 인터럽트한다</li>
+ *   <li>인터럽트된 요청이 정리되기를 제한된 시간만 기다린 뒤 부분 결과를 반환한다</li>
+ *   <li>{@code LoadTester}가 생성한 HTTP 클라이언트는 닫아 연결을 해제한다</li>
+ * </ul>
+ *
+ * <p><b>사용 예시:</b>
+ * <pre>{@code
+ * LoadTestHandle handle = LoadTester.start(config);
+ *
+ * // 다른 스레드에서
+ * handle.adjust(LoadControl.builder().concurrency(50).build());
+ * handle.cancel();
+ *
+ * TestResult partial = handle.await();
+ * System.out.println(partial.abortReason() + ": " + partial.totalRequests() + " requests");
+ * }</pre>
+ *
+ * @author junhyeong9812
+ * @since 1.1.0
+ * @see LoadTester#start(io.github.junhyeong9812.overload.core.config.LoadTestConfig)
+ */
+public final class LoadTestHandle {
+
+  private final ExecutionContext context;
+  private final LoadController controller;
+  private final CompletableFuture<TestResult> result;
+
+  /**
+   * LoadTestHandle을 생성한다.
+   *
+   * @param context    실행 컨텍스트
+   * @param controller 실행 중 제어 변경을 적용하는 제어기
+   * @param result     실행이 끝나면 완료되는 결과
+   */
+  LoadTestHandle(
+      ExecutionContext context,
+      LoadController controller,
+      CompletableFuture<TestResult> result) {
+    this.context = context;
+    this.controller = controller;
+    this.result = result;
+  }
+
+  /**
+   * 실행 중인 테스트의 동시성, 목표 속도, 종료 조건을 바꾼다.
+   *
+   * <p>모든 항목을 검증한 뒤 한 번에 적용하며, 변경은 로그와 JFR {@code overload.Control} 이벤트로
+   * 기록되고 결과의 {@link TestResult#controlChanges()}에 남는다. 부하를 줄이는 변경은 진행 중 요청을
+   * 중단하지 않는다.
+   *
+   * <p>{@code retainResults}의 원본 결과 저장소는 시작 시 총 요청 수만큼만 보관하므로,
+   * 총 요청 수를 늘리면 넘친 결과는 보관되지 않고 버린 수로만 집계된다.
+   *
+   * @param control 적용할 변경
+   * @return 적용 결과 (변경 후 상태)
+   * @throws IllegalStateException    테스트가 이미 끝났거나 취소된 경우, 적응형 동시성 모드에서 동시성을 바꾸려는 경우
+   * @throws IllegalArgumentException 총 요청 수가 체크포인트 이전에 완료된 요청 수 이하인 경우
+   */
+  public ControlChange adjust(LoadControl control) {
+    if (result.isDone()) {
+      throw new IllegalStateException("Load test is no longer running");
+    }
+    return controller.apply(control);
+  }
+
+  /**
+   * 지금까지 적용된 제어 변경을 적용 순서대로 반환한다.
+   *
+   * @return 적용된 제어 변경 목록
+   */
+  public List<ControlChange> getControlChanges() {
+    return controller.changes();
+  }
+
+  /**
+   * 테스트를 취소한다.
+   *
+   * <p>이미 끝났거나 취소된 경우 아무 일도 하지 않는다.
+   */
+  public void cancel() {
+    cancel("Cancelled");
+  }
+
+  /**
+   * 사유와 함께 테스트를 취소한다.
+   *
+   * <p>사유는 부분 결과의 {@link TestResult#abortReason()}으로 보고된다.
+   *
+   * @param reason 취소 사유
+   */
+  public void cancel(String reason) {
+    if (!result.isDone()) {
+      context.cancel(reason);
+    }
+  }
+
+  /**
+   * 테스트가 취소되었는지 확인한다.
+   *
+   * @return 취소되었으면 {@code true}
+   */
+  public boolean isCancelled() {
+    return context.isCancelled();
+  }
+
+  /**
+   * 테스트 실행이 끝났는지 확인한다.
+   *
+   * @return 결과가 준비되었으면 {@code true}
+   */
+  public boolean isDone() {
+    return result.isDone();
+  }
+
+  /**
+   * 현재까지 완료된 요청 수를 반환한다.
+   *
+   * @return 완료된 요청 수
+   */
+  public int getCompletedCount() {
+    return context.getCompletedCount();
+  }
+
+  /**
+   * 총 요청 수를 반환한다.
+   *
+   * @return 총 요청 수
+   */
+  public int getTotalRequests() {
+    return context.getTotalRequests();
+  }
+
+  /**
+   * 현재 진행률을 반환한다.
+   *
+   * @return 진행률 (0.0 ~ 100.0)
+   */
+  public double getProgress() {
+    return context.getProgress();
+  }
+
+  /**
+   * 테스트 결과를 비동기로 반환한다.
+   *
+   * <p>반환된 Future를 완료하거나 취소해도 테스트에는 영향이 없다.
+   * 테스트를 멈추려면 {@link #cancel()}을 사용한다.
+   *
+   * @return 실행이 끝나면 완료되는 결과
+   */
+  public CompletableFuture<TestResult> result() {
+    return result.copy();
+  }
+
+  /**
+   * 테스트가 끝날 때까지 대기하고 결과를 반환한다.
+   *
+   * @return 테스트 결과 (취소된 경우 부분 결과)
+   * @throws LoadTestException 실행 중 오류가 발생하거나 대기 중 인터럽트된 경우
+   */
+  public TestResult await() {
+    try {
+      return result.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new LoadTestException("Interrupted while waiting for test result", e);
+    } catch (ExecutionException e) {
+      throw unwrap(e.getCause());
+    }
+  }
+
+  /**
+   * 지정된 시간까지 테스트가 끝나기를 대기하고 결과를 반환한다.
+   *
+   * @param timeout 최대 대기 시간
+   * @return 테스트 결과 (취소된 경우 부분 결과)
+   * @throws TimeoutException  시간 안에 끝나지 않은 경우
+   * @throws LoadTestException 실행 중 오류가 발생하거나 대기 중 인터럽트된 경우
+   */
+  public TestResult await(Duration timeout) throws TimeoutException {
+    try {
+      return result.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new LoadTestException("Interrupted while waiting for test result", e);
+    } catch (ExecutionException e) {
+      throw unwrap(e.getCause());
+    }
+  }
+
+  private static RuntimeException unwrap(Throwable cause) {
+    if (cause instanceof CompletionException && cause.getCause() != null) {
+      cause = cause.getCause();
+    }
+    if (cause instanceof RuntimeException runtimeException) {
+      return runtimeException;
+    }
+    return new LoadTestException("Load test failed", cause);
+  }
+}
\ No newline at end of file
@@ -1,15 +1,50 @@
 package io.github.junhyeong9812.overload.core;
 
+import io.github.junhyeong9812.overload.core.callback.AsyncProgressDispatcher;
 import io.github.junhyeong9812.overload.core.callback.ProgressCallback;
+import io.github.junhyeong9812.overload.core.config.CheckpointConfig;
+import io.github.junhyeong9812.overload.core.config.HttpMethod;
 import io.github.junhyeong9812.overload.core.config.LoadTestConfig;
+import io.github.junhyeong9812.overload.core.config.ProbeConfig;
+import io.github.junhyeong9812.overload.core.engine.application.AbortMonitor;
+import io.github.junhyeong9812.overload.core.engine.application.AdaptiveConcurrencyController;
+import io.github.junhyeong9812.overload.core.engine.application.LatencyProbe;
+import io.github.junhyeong9812.overload.core.engine.application.LoadController;
+import io.github.junhyeong9812.overload.core.engine.domain.ExecutionContext;
+import io.github.junhyeong9812.overload.core.engine.domain.LoadTestEngine;
+import io.github.junhyeong9812.overload.core.engine.domain.RateLimiter;
 import io.github.junhyeong9812.overload.core.engine.infrastructure.VirtualThreadEngine;
+import io.github.junhyeong9812.overload.core.exception.LoadTestException;
 import io.github.junhyeong9812.overload.core.http.application.port.HttpClientPort;
-import io.github.junhyeong9812.overload.core.http.domain.RequestResult;
+import io.github.junhyeong9812.overload.core.http.domain.HttpRequest;
+import io.github.junhyeong9812.overload.core.http.domain.UnixSocketTarget;
+import io.github.junhyeong9812.overload.core.http.infrastructure.HttpClients;
 import io.github.junhyeong9812.overload.core.http.infrastructure.JdkHttpClient;
-import io.github.junhyeong9812.overload.core.metric.application.MetricAggregator;
+import io.github.junhyeong9812.overload.core.http.infrastructure.SpreadingHttpClient;
+import io.github.junhyeong9812.overload.core.http.infrastructure.TlsHandshakeStats;
+import io.github.junhyeong9812.overload.core.http.infrastructure.UnixSocketHttpClient;
+import io.github.junhyeong9812.overload.core.jfr.FlightRecording;
+import io.github.junhyeong9812.overload.core.jfr.IntervalEvent;
+import io.github.junhyeong9812.overload.core.metric.application.CheckpointWriter;
+import io.github.junhyeong9812.overload.core.metric.application.GcPauseTracker;
+import io.github.junhyeong9812.overload.core.metric.application.GeneratorHealthMonitor;
+import io.github.junhyeong9812.overload.core.metric.application.IntervalRecorder;
+import io.github.junhyeong9812.overload.core.metric.application.IntervalReporter;
+import io.github.junhyeong9812.overload.core.metric.application.PhasedMetricAggregator;
+import io.github.junhyeong9812.overload.core.metric.application.SlowestRequestTracker;
+import io.github.junhyeong9812.overload.core.metric.domain.ColumnarResultStore;
+import io.github.junhyeong9812.overload.core.metric.domain.GeneratorHealth;
+import io.github.junhyeong9812.overload.core.metric.domain.RateLimitReport;
+import io.github.junhyeong9812.overload.core.metric.domain.RunCheckpoint;
 import io.github.junhyeong9812.overload.core.metric.domain.TestResult;
+import io.github.junhyeong9812.overload.core.metric.infrastructure.CheckpointFile;
 
-import java.util.List;
+import java.lang.System.Logger;
+import java.lang.System.Logger.Level;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 
 /**
  * 부하 테스트 실행 Facade.
@@ -48,6 +83,24 @@ import java.util.List;
  * );
  * }</pre>
  *
+ * <p><b>JFR 레코딩과 함께 실행:</b>
+ * <pre>{@code
+ * LoadTestConfig config = LoadTestConfig.builder()
+ *     .url("https://api.example.com")
+ *     .flightRecording(Path.of("overload-run.jfr"))
+ *     .build();
+ *
+ * LoadTester.run(config);  // overload.Request / overload.Interval 이벤트 포함
+ * }</pre>
+ *
+ * <p><b>비동기 실행과 취소:</b>
+ * <pre>{@code
+ * LoadTestHandle handle = LoadTester.start(config, callback);
+ * ...
+ * handle.cancel();                   // 제출 중단, 진행 중 요청 인터럽트
+ * TestResult partial = handle.await();
+ * }</pre>
+ *
  * <p><b>커스텀 HTTP 클라이언트 사용:</b>
  * <pre>{@code
  * HttpClientPort customClient = new OkHttpClientAdapter();
@@ -59,6 +112,8 @@ import java.util.List;
  */
 public final class LoadTester {
 
+  private static final Logger logger = System.getLogger(LoadTester.class.getName());
+
   /**
    * 인스턴스화 방지를 위한 private 생성자.
    */
@@ -80,15 +135,17 @@ public final class LoadTester {
   /**
    * 부하 테스트를 실행한다.
    *
-   * <p>기본 JDK HTTP 클라이언트를 사용하며, 각 요청 완료 시 콜백이 호출된다.
+   * <p>기본 HTTP 클라이언트({@code unix:} 대상이면 Unix 도메인 소켓 클라이언트)를 사용하며,
+   * 각 요청 완료 시 콜백이 호출된다.
    *
    * @param config   테스트 설정
    * @param callback 진행 상황 및 개별 요청 결과를 받을 콜백
    * @return 테스트 결과
    */
   public static TestResult run(LoadTestConfig config, ProgressCallback callback) {
-    HttpClientPort httpClient = new JdkHttpClient(config.timeout());
-    return run(config, callback, httpClient);
+    try (HttpClientPort httpClient = HttpClients.from(config)) {
+      return run(config, callback, httpClient);
+    }
   }
 
   /**
@@ -96,6 +153,42 @@ public final class LoadTester {
    *
    * <p>커스텀 HTTP 클라이언트를 사용할 수 있다.
    *
+   * <p>실행 동안 구간 통계를 {@code metricsInterval} 주기로 JFR {@code overload.Interval}
+   * 이벤트로 기록하며, {@code flightRecording}이 설정된 경우 실행 범위 JFR 레코딩을 저장한다.
+   *
+   * <p>{@code adaptiveConcurrency}가 설정된 경우 구간마다 동시성을 조정하고,
+   * 탐색 곡선과 운영 지점을 {@link TestResult#adaptiveConcurrency()}로 보고한다.
+   *
+   * <p>{@code warmup} 또는 {@code warmupRequests}가 설정된 경우 워밍업 구간의 결과는
+   * 별도로 집계되어 {@link TestResult#warmup()}으로 보고되고, 나머지 통계는 측정 구간만 반영한다.
+   *
+   * <p>{@code rateLimit}이 설정된 경우 목표 속도와 실효 속도를 {@link TestResult#rateLimit()}로 보고한다.
+   *
+   * <p>{@code retainResults}가 설정된 경우 요청별 원본 결과를 {@link TestResult#rawResults()}로 반환한다.
+   *
+   * <p>HTTP 클라이언트가 TLS를 계측하는 {@link JdkHttpClient}이면 이 실행 동안의 핸드셰이크 통계를
+   * {@link TestResult#tls()}로 보고한다.
+   *
+   * <p>{@code addressSpread}가 설정된 경우 대상 호스트의 해석된 모든 주소로 요청을 분산하고,
+   * 주소별 통계를 {@link TestResult#addresses()}로 보고한다.
+   *
+   * <p>{@code abortRules} 중 하나가 발동하면 실행을 취소하고 진행 중 요청을 중단하며,
+   * 그때까지의 부분 결과를 {@link TestResult#abortReason()}과 함께 반환한다.
+   *
+   * <p>{@code checkpoint}가 설정된 경우 집계기 상태를 주기적으로 파일에 저장한다. 모든 요청을 마치면
+   * 파일을 삭제하고, 취소되거나 중단되면 마지막 상태를 남긴다. 재개가 켜져 있으면 저장된 지점부터
+   * 남은 요청만 실행하며 결과의 요청 수, 성공/실패, 지연 시간 분포, 실행 시간은 이전 실행에 이어서
+   * 집계된다. 구간 통계, 원본 결과, 주소별/TLS 통계는 재개 후 구간만 반영한다.
+   *
+   * <p>{@link #start(LoadTestConfig)}로 시작한 실행에 {@link LoadTestHandle#adjust}로 적용된 제어 변경은
+   * {@link TestResult#controlChanges()}로 보고된다.
+   *
+   * <p>{@code probe}가 설정된 경우 실행 동안 일정 간격의 프로브 요청을 주 부하와 별도로 보내고
+   * 측정 구간의 프로브 지연을 {@link TestResult#probe()}로 보고한다.
+   *
+   * <p>{@code trackGcPauses}가 설정된 경우 측정 구간의 요청 중 진행 구간이 부하 생성기 JVM의 GC 멈춤과
+   * 겹친 요청을 따로 집계하여 {@link TestResult#gcPauses()}로 보고하고, 느린 요청 목록에도 표시한다.
+   *
    * @param config     테스트 설정
    * @param callback   진행 상황 및 개별 요청 결과를 받을 콜백
    * @param httpClient 사용할 HTTP 클라이언트
@@ -105,19 +198,495 @@ public final class LoadTester {
       LoadTestConfig config,
       ProgressCallback callback,
       HttpClientPort httpClient) {
+    return run(config, callback, httpClient, VirtualThreadEngine::new);
+  }
 
-    VirtualThreadEngine engine = new VirtualThreadEngine(httpClient);
-    MetricAggregator aggregator = new MetricAggregator();
+  /**
+   * 지정된 엔진으로 부하 테스트를 실행한다.
+   *
+   * <p>{@link #run(LoadTestConfig, ProgressCallback, HttpClientPort)}와 같지만 요청 실행 전략을 바꿀 수 있다.
+   * 엔진은 이 실행의 컨텍스트로 취소, 동시성 조정, 속도 제한, 계측을 공유해야 한다.
+   *
+   * @param config        테스트 설정
+   * @param callback      진행 상황 및 개별 요청 결과를 받을 콜백
+   * @param httpClient    사용할 HTTP 클라이언트
+   * @param engineFactory HTTP 클라이언트로 엔진을 생성하는 팩토리
+   * @return 테스트 결과
+   * @since 1.1.0
+   */
+  public static TestResult run(
+      LoadTestConfig config,
+      ProgressCallback callback,
+      HttpClientPort httpClient,
+      Function<HttpClientPort, LoadTestEngine> engineFactory) {
 
-    aggregator.start();
-    List<RequestResult> results = engine.execute(config, callback);
-    aggregator.end();
+    GeneratorHealthMonitor healthMonitor = new GeneratorHealthMonitor(config.trackPinning());
+    RunCheckpoint checkpoint = loadCheckpoint(config);
+    ExecutionContext context = new ExecutionContext(remainingRequests(config, checkpoint), healthMonitor);
+    return execute(config, callback, httpClient, engineFactory, healthMonitor, context, checkpoint,
+        newController(config, context, checkpoint));
+  }
 
-    for (RequestResult result : results) {
-      aggregator.record(result);
+  /**
+   * 부하 테스트를 비동기로 시작한다.
+   *
+   * <p>진행 상황 콜백은 무시된다.
+   *
+   * @param config 테스트 설정
+   * @return 실행 중인 테스트의 제어 핸들
+   * @since 1.1.0
+   */
+  public static LoadTestHandle start(LoadTestConfig config) {
+    return start(config, ProgressCallback.noop());
+  }
+
+  /**
+   * 부하 테스트를 비동기로 시작한다.
+   *
+   * <p>기본 HTTP 클라이언트({@code unix:} 대상이면 Unix 도메인 소켓 클라이언트)를 생성하여 사용하며,
+   * 실행이 끝나면 닫아 연결을 해제한다.
+   *
+   * @param config   테스트 설정
+   * @param callback 진행 상황 및 개별 요청 결과를 받을 콜백
+   * @return 실행 중인 테스트의 제어 핸들
+   * @since 1.1.0
+   */
+  public static LoadTestHandle start(LoadTestConfig config, ProgressCallback callback) {
+    return start(config, callback, HttpClients.from(config), VirtualThreadEngine::new, true);
+  }
+
+  /**
+   * 부하 테스트를 비동기로 시작한다.
+   *
+   * <p>테스트는 별도의 Virtual Thread에서 실행되며, 반환된 핸들로 취소하거나 결과를 기다린다.
+   * 취소하면 새 요청 제출을 멈추고 진행 중 요청을 인터럽트한 뒤 부분 결과로 완료된다.
+   * 전달된 HTTP 클라이언트는 호출자가 소유하므로 닫지 않는다.
+   *
+   * @param config     테스트 설정
+   * @param callback   진행 상황 및 개별 요청 결과를 받을 콜백
+   * @param httpClient 사용할 HTTP 클라이언트
+   * @return 실행 중인 테스트의 제어 핸들
+   * @since 1.1.0
+   */
+  public static LoadTestHandle start(
+      LoadTestConfig config,
+      ProgressCallback callback,
+      HttpClientPort httpClient) {
+    return start(config, callback, httpClient, VirtualThreadEngine::new, false);
+  }
+
+  /**
+   * 지정된 엔진으로 부하 테스트를 비동기로 시작한다.
+   *
+   * <p>{@link #start(LoadTestConfig, ProgressCallback, HttpClientPort)}와 같지만 요청 실행 전략을 바꿀 수 있다.
+   *
+   * @param config        테스트 설정
+   * @param callback      진행 상황 및 개별 요청 결과를 받을 콜백
+   * @param httpClient    사용할 HTTP 클라이언트
+   * @param engineFactory HTTP 클라이언트로 엔진을 생성하는 팩토리
+   * @return 실행 중인 테스트의 제어 핸들
+   * @since 1.1.0
+   */
+  public static LoadTestHandle start(
+      LoadTestConfig config,
+      ProgressCallback callback,
+      HttpClientPort httpClient,
+      Function<HttpClientPort, LoadTestEngine> engineFactory) {
+    return start(config, callback, httpClient, engineFactory, false);
+  }
+
+  /**
+   * 별도 Virtual Thread에서 부하 테스트를 시작한다.
+   *
+   * @param config        테스트 설정
+   * @param callback      진행 상황 및 개별 요청 결과를 받을 콜백
+   * @param httpClient    사용할 HTTP 클라이언트
+   * @param engineFactory HTTP 클라이언트로 엔진을 생성하는 팩토리
+   * @param ownsClient    실행 종료 시 HTTP 클라이언트를 닫을지 여부
+   * @return 실행 중인 테스트의 제어 핸들
+   * @throws LoadTestException 재개할 체크포인트를 읽을 수 없거나 다른 테스트의 체크포인트인 경우
+   */
+  private static LoadTestHandle start(
+      LoadTestConfig config,
+      ProgressCallback callback,
+      HttpClientPort httpClient,
+      Function<HttpClientPort, LoadTestEngine> engineFactory,
+      boolean ownsClient) {
+
+    GeneratorHealthMonitor healthMonitor = new GeneratorHealthMonitor(config.trackPinning());
+    RunCheckpoint checkpoint;
+    try {
+      checkpoint = loadCheckpoint(config);
+    } catch (LoadTestException e) {
+      if (ownsClient) {
+        httpClient.close();
+      }
+      throw e;
+    }
+    ExecutionContext context = new ExecutionContext(remainingRequests(config, checkpoint), healthMonitor);
+    LoadController controller = newController(config, context, checkpoint);
+    CompletableFuture<TestResult> future = new CompletableFuture<>();
+
+    Thread.ofVirtual().name("overload-run").start(() -> {
+      try {
+        TestResult result;
+        try {
+          result = execute(config, callback, httpClient, engineFactory, healthMonitor, context,
+              checkpoint, controller);
+        } finally {
+          if (ownsClient) {
+            httpClient.close();
+          }
+        }
+        future.complete(result);
+      } catch (Throwable e) {
+        future.completeExceptionally(e);
+      }
+    });
+    return new LoadTestHandle(context, controller, future);
+  }
+
+  /**
+   * 주어진 실행 컨텍스트로 부하 테스트를 실행한다.
+   *
+   * @param config        테스트 설정
+   * @param callback      진행 상황 및 개별 요청 결과를 받을 콜백
+   * @param httpClient    사용할 HTTP 클라이언트
+   * @param engineFactory HTTP 클라이언트로 엔진을 생성하는 팩토리
+   * @param healthMonitor 생성기 오버헤드 모니터 (컨텍스트의 계측)
+   * @param context       실행 컨텍스트 (취소 핸들과 공유)
+   * @param checkpoint    이어서 실행할 체크포인트 (null이면 처음부터)
+   * @param controller    실행 중 제어 변경을 적용하는 제어기 (핸들과 공유)
+   * @return 테스트 결과
+   */
+  private static TestResult execute(
+      LoadTestConfig config,
+      ProgressCallback callback,
+      HttpClientPort httpClient,
+      Function<HttpClientPort, LoadTestEngine> engineFactory,
+      GeneratorHealthMonitor healthMonitor,
+      ExecutionContext context,
+      RunCheckpoint checkpoint,
+      LoadController controller) {
+
+    // 세션에서 공유되는 클라이언트라도 이 실행의 핸드셰이크만 집계하도록 실행별 리스너를 붙인다
+    JdkHttpClient tlsClient = httpClient instanceof JdkHttpClient jdk && jdk.isTlsInstrumented()
+        ? jdk
+        : null;
+    TlsHandshakeStats tlsStats = tlsClient != null ? new TlsHandshakeStats() : null;
+    // 결과는 콜백에서 스트리밍 집계하므로 엔진이 요청마다 결과 객체를 쌓지 않게 한다
+    context.setCollectResults(false);
+    PhasedMetricAggregator aggregator = new PhasedMetricAggregator(
+        config.warmup(), config.warmupRequests(), config.concurrency());
+    if (checkpoint != null) {
+      aggregator.restore(checkpoint);
+    }
+    // 주소별 통계도 측정 구간만 반영하도록 워밍업 중 완료된 요청은 기록하지 않는다
+    SpreadingHttpClient spreading = config.addressSpread() != null
+        ? new SpreadingHttpClient(httpClient, config.addressSpread(), aggregator::isMeasuring)
+        : null;
+    LoadTestEngine engine = engineFactory.apply(spreading != null ? spreading : httpClient);
+    int completedBefore = checkpoint != null ? checkpoint.completedRequests() : 0;
+    LoadTestConfig runConfig = checkpoint != null ? remainingConfig(config, checkpoint) : config;
+    IntervalRecorder intervalRecorder = new IntervalRecorder();
+    AsyncProgressDispatcher dispatcher = config.progressDispatch() != null
+        ? new AsyncProgressDispatcher(callback, config.progressDispatch())
+        : null;
+    ProgressCallback userCallback = dispatcher != null ? dispatcher : callback;
+    ColumnarResultStore rawResults = config.retainResults() && runConfig != null
+        ? new ColumnarResultStore(runConfig.totalRequests())
+        : null;
+    SlowestRequestTracker slowestTracker = config.slowestRequests() > 0
+        ? new SlowestRequestTracker(config.slowestRequests(), config.url(),
+            SlowestRequestTracker.endpointLabel(config.method(), config.url()))
+        : null;
+    GcPauseTracker gcTracker = config.trackGcPauses()
+        ? new GcPauseTracker(config.timeout())
+        : null;
+    if (gcTracker != null && slowestTracker != null) {
+      gcTracker.addListener(slowestTracker::record);
+    }
+    ProgressCallback recordingCallback = (completed, total, requestResult) -> {
+      long endNanos = System.nanoTime();
+      boolean measured = aggregator.record(requestResult);
+      intervalRecorder.record(requestResult);
+      if (measured && gcTracker != null) {
+        gcTracker.record(requestResult, endNanos);
+      } else if (measured && slowestTracker != null) {
+        slowestTracker.record(requestResult, endNanos, false);
+      }
+      if (rawResults != null) {
+        rawResults.append(requestResult);
+      }
+      userCallback.onProgress(completedBefore + completed, completedBefore + total, requestResult);
+    };
+    CheckpointConfig checkpointConfig = config.checkpoint();
+    CheckpointFile checkpointFile = checkpointConfig != null
+        ? new CheckpointFile(checkpointConfig.path())
+        : null;
+    // 실행 중 조정된 총 요청 수를 저장해야 재개할 때 늘리거나 줄인 만큼만 이어서 실행한다
+    CheckpointWriter checkpointWriter = checkpointFile != null
+        ? new CheckpointWriter(
+            () -> aggregator.checkpoint(config.url(), completedBefore + context.getTotalRequests()),
+            checkpointFile, checkpointConfig.interval())
+        : null;
+
+    IntervalReporter intervalReporter = new IntervalReporter(intervalRecorder, config.metricsInterval())
+        .addListener(IntervalEvent::emit);
+    AdaptiveConcurrencyController adaptiveController = null;
+    if (config.adaptiveConcurrency() != null) {
+      adaptiveController = new AdaptiveConcurrencyController(
+          config.adaptiveConcurrency(), context, config.concurrency());
+      intervalReporter.addListener(adaptiveController);
+    }
+    if (!config.abortRules().isEmpty()) {
+      intervalReporter.addListener(new AbortMonitor(config.abortRules(), context));
+    }
+
+    // 시작 도중 실패해도 이미 시작된 자원이 finally에서 정리되도록 모두 try 안에서 시작한다
+    FlightRecording flightRecording = null;
+    HttpClientPort probeClient = null;
+    LatencyProbe probe = null;
+    String abortReason;
+    try {
+      controller.start();
+      if (config.flightRecording() != null) {
+        flightRecording = FlightRecording.start(config.flightRecording());
+      }
+      if (config.probe() != null) {
+        probeClient = probeClient(config, httpClient);
+        probe = new LatencyProbe(probeClient, probeRequest(config), config.probe(),
+            aggregator::isMeasuring);
+      }
+      if (tlsClient != null) {
+        tlsClient.addTlsListener(tlsStats);
+      }
+      healthMonitor.start();
+      if (gcTracker != null) {
+        gcTracker.start();
+      }
+      if (dispatcher != null) {
+        dispatcher.start();
+      }
+      intervalReporter.start();
+      aggregator.start();
+      if (probe != null) {
+        probe.start();
+      }
+      if (checkpointWriter != null) {
+        checkpointWriter.start();
+      }
+      if (runConfig != null) {
+        engine.execute(runConfig, recordingCallback, context);
+      }
+      abortReason = context.getCancelReason();
+    } finally {
+      controller.finish();
+      engine.close();
+      if (gcTracker != null) {
+        gcTracker.close();
+      }
+      if (probe != null) {
+        probe.close();
+      }
+      if (probeClient != null && probeClient != httpClient) {
+        probeClient.close();
+      }
+      aggregator.end();
+      if (checkpointWriter != null) {
+        checkpointWriter.close();
+      }
+      if (dispatcher != null) {
+        dispatcher.close();
+        healthMonitor.recordProgressDropped(dispatcher.getDropped());
+      }
+      intervalReporter.close();
+      healthMonitor.stop();
+      if (tlsClient != null) {
+        tlsClient.removeTlsListener(tlsStats);
+      }
+      if (flightRecording != null) {
+        logger.log(Level.INFO, "Flight recording written to {0}", flightRecording.stop());
+      }
+    }
+
+    TestResult result = aggregator.aggregate()
+        .withWarmup(aggregator.warmupResult())
+        .withRawResults(rawResults)
+        .withControlChanges(controller.changes());
+    if (slowestTracker != null) {
+      result = result.withSlowestRequests(slowestTracker.snapshot());
+    }
+    if (gcTracker != null) {
+      result = result.withGcPauses(gcTracker.report(result.latencyStats()));
+    }
+    result = result.withGeneratorHealth(checkGeneratorHealth(config, result, healthMonitor));
+    if (adaptiveController != null) {
+      result = result.withAdaptiveConcurrency(adaptiveController.report());
+    }
+    if (spreading != null) {
+      result = result.withAddresses(spreading.report());
+    }
+    if (tlsStats != null) {
+      result = result.withTls(tlsStats.report());
+    }
+    if (probe != null) {
+      result = result.withProbe(probe.report());
+    }
+    RateLimiter rateLimiter = context.getRateLimiter();
+    if (rateLimiter != null) {
+      result = result.withRateLimit(new RateLimitReport(
+          rateLimiter.getRate(),
+          rateLimiter.getBurst(),
+          rateLimiter.getPermits(),
+          rateLimiter.getThrottled(),
+          rateLimiter.getEffectiveRate(),
+          rateLimiter.getAverageWaitMicros()));
+    }
+    if (abortReason != null) {
+      logger.log(Level.WARNING, "Test stopped early ({0}); returning partial result of {1} requests",
+          abortReason, result.totalRequests());
+      result = result.withAbortReason(abortReason);
+      if (checkpointFile != null) {
+        logger.log(Level.INFO, "Checkpoint kept at {0}; resume to continue the run",
+            checkpointFile.path());
+      }
+    } else if (checkpointFile != null) {
+      deleteCheckpoint(checkpointFile);
+    }
+    return result;
+  }
+
+  /**
+   * 재개가 설정된 경우 저장된 체크포인트를 읽는다.
+   *
+   * <p>체크포인트의 총 요청 수는 저장 시점의 값이므로 실행 중 조정했다면 원래 설정과 다르다.
+   * 재개하는 설정은 그 값과 같아야 한다.
+   *
+   * @param config 테스트 설정
+   * @return 이어서 실행할 체크포인트, 재개하지 않거나 파일이 없으면 null
+   * @throws LoadTestException 파일을 읽을 수 없거나 다른 대상/요청 수로 저장된 체크포인트인 경우
+   */
+  private static RunCheckpoint loadCheckpoint(LoadTestConfig config) {
+    CheckpointConfig checkpointConfig = config.checkpoint();
+    if (checkpointConfig == null || !checkpointConfig.resume()) {
+      return null;
     }
+    Optional<RunCheckpoint> saved = new CheckpointFile(checkpointConfig.path()).read();
+    if (saved.isEmpty()) {
+      logger.log(Level.INFO, "No checkpoint at {0}; starting from the beginning",
+          checkpointConfig.path());
+      return null;
+    }
+    RunCheckpoint checkpoint = saved.get();
+    if (!checkpoint.url().equals(config.url())) {
+      throw new LoadTestException("Checkpoint " + checkpointConfig.path() + " was saved for "
+          + checkpoint.url() + ", not " + config.url());
+    }
+    if (checkpoint.totalRequests() != config.totalRequests()) {
+      throw new LoadTestException("Checkpoint " + checkpointConfig.path() + " was saved with "
+          + checkpoint.totalRequests() + " total requests (including changes made during the run), not "
+          + config.totalRequests() + "; resume with totalRequests " + checkpoint.totalRequests());
+    }
+    logger.log(Level.INFO, "Resuming from checkpoint saved at {0}: {1}/{2} requests completed",
+        checkpoint.savedAt(), checkpoint.completedRequests(), checkpoint.totalRequests());
+    return checkpoint;
+  }
+
+  private static LoadController newController(
+      LoadTestConfig config, ExecutionContext context, RunCheckpoint checkpoint) {
+    return new LoadController(context, config.concurrency(),
+        checkpoint != null ? checkpoint.completedRequests() : 0,
+        config.adaptiveConcurrency() != null);
+  }
+
+  private static int remainingRequests(LoadTestConfig config, RunCheckpoint checkpoint) {
+    return checkpoint != null ? checkpoint.remainingRequests() : config.totalRequests();
+  }
+
+  /**
+   * 체크포인트 이후 남은 요청과 남은 워밍업만 실행하는 엔진용 설정을 만든다.
+   *
+   * @return 남은 구간의 설정, 남은 요청이 없으면 null
+   */
+  private static LoadTestConfig remainingConfig(LoadTestConfig config, RunCheckpoint checkpoint) {
+    int remaining = checkpoint.remainingRequests();
+    if (remaining < 1) {
+      return null;
+    }
+    LoadTestConfig.Builder builder = config.toBuilder().totalRequests(remaining);
+    if (checkpoint.measuring()) {
+      builder.warmup(Duration.ZERO).warmupRequests(0);
+    } else {
+      Duration warmupLeft = config.warmup().minusMillis(checkpoint.warmup().elapsedMillis());
+      builder.warmup(warmupLeft.isNegative() ? Duration.ZERO : warmupLeft)
+          .warmupRequests(Math.max(0, config.warmupRequests() - checkpoint.completedRequests()));
+    }
+    return builder.build();
+  }
+
+  /**
+   * 프로브가 사용할 HTTP 클라이언트를 준비한다.
+   *
+   * <p>기본 클라이언트를 쓰는 실행이면 같은 타임아웃, 출발지 주소, TLS 설정으로 새 클라이언트를 만들어
+   * 프로브가 주 부하의 연결 풀과 대기열을 공유하지 않게 한다. 사용자 정의 클라이언트는
+   * 같은 방식으로 만들 수 없으므로 그대로 공유한다.
+   *
+   * @return 프로브 전용 클라이언트, 사용자 정의 클라이언트면 전달된 클라이언트
+   */
+  private static HttpClientPort probeClient(LoadTestConfig config, HttpClientPort httpClient) {
+    if (!(httpClient instanceof JdkHttpClient) && !(httpClient instanceof UnixSocketHttpClient)) {
+      logger.log(Level.INFO, "Custom HTTP client; latency probe shares it with the main load");
+      return httpClient;
+    }
+    String url = probeRequest(config).url();
+    return UnixSocketTarget.matches(url)
+        ? new UnixSocketHttpClient(config.timeout())
+        : JdkHttpClient.from(config);
+  }
+
+  /**
+   * 프로브 요청을 만든다. 별도 URL이면 주 요청의 헤더로 본문 없는 GET을 보낸다.
+   */
+  private static HttpRequest probeRequest(LoadTestConfig config) {
+    ProbeConfig probe = config.probe();
+    return probe.hasUrl()
+        ? HttpRequest.from(probe.url(), HttpMethod.GET, config.headers(), null)
+        : HttpRequest.from(config.url(), config.method(), config.headers(), config.body());
+  }
+
+  private static void deleteCheckpoint(CheckpointFile checkpointFile) {
+    try {
+      checkpointFile.delete();
+    } catch (LoadTestException e) {
+      logger.log(Level.WARNING, e.getMessage());
+    }
+  }
 
-    return aggregator.aggregate();
+  /**
+   * 생성기 오버헤드를 집계하고, 기준을 넘으면 경고를 남긴다.
+   *
+   * @param config        테스트 설정
+   * @param result        집계된 테스트 결과
+   * @param healthMonitor 생성기 오버헤드 모니터
+   * @return 생성기 상태
+   */
+  private static GeneratorHealth checkGeneratorHealth(
+      LoadTestConfig config,
+      TestResult result,
+      GeneratorHealthMonitor healthMonitor) {
+
+    GeneratorHealth health = healthMonitor.toHealth(
+        result.latencyStats().avgMicros(), config.overheadWarnRatio());
+
+    if (health.isOverloaded()) {
+      logger.log(Level.WARNING,
+          "Generator overhead is {0}% of mean latency (threshold {1}%). "
+              + "Results may reflect load generator limits rather than the target.",
+          String.format("%.1f", health.overheadRatio() * 100),
+          String.format("%.1f", health.warnRatio() * 100));
+    }
+    return health;
   }
 
   /**
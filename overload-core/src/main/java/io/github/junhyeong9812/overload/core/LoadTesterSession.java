@@ -0,0 +1,317 @@
+package io.github.junhyeong9812.overload.core;
+
+import io.github.junhyeong9812.overload.core.callback.ProgressCallback;
+import io.github.junhyeong9812.overload.core.config.LoadTestConfig;
+import io.github.junhyeong9812.overload.core.config.TlsConfig;
+import io.github.junhyeong9812.overload.core.engine.domain.LoadTestEngine;
+import io.github.junhyeong9812.overload.core.engine.infrastructure.VirtualThreadEngine;
+import io.github.junhyeong9812.overload.core.http.application.port.HttpClientPort;
+import io.github.junhyeong9812.overload.core.http.domain.UnixSocketTarget;
+import io.github.junhyeong9812.overload.core.http.infrastructure.HttpClients;
+import io.github.junhyeong9812.overload.core.metric.domain.TestResult;
+
+import java.lang.System.Logger;
+import java.lang.System.Logger.Level;
+import java.net.InetAddress;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * 여러 부하 테스트를 이어서 실행하며 HTTP 클라이언트를 재사용하는 세션.
+ *
+ * <p>{@link LoadTester#run(LoadTestConfig, ProgressCallback)}은 실행마다 HTTP 클라이언트
+ * (연결 풀, selector 스레드, Executor)를 새로 만들고 닫으므로, 테스트를 연달아 실행하면
+ * 매번 연결 수립과 스레드 생성 비용을 다시 치른다. 세션은 클라이언트를 소유하고 실행 간에
+ * 유지하므로 두 번째 실행부터는 이미 열린 연결로 시작한다.
+ *
+ * <p>JDK HttpClient의 출발지 주소와 TLS 설정은 생성 시 고정되므로 클라이언트는 대상 종류(TCP, Unix 도메인
+ * 소켓), {@code localAddresses}, {@code tls} 조합별로 하나씩 만들어 공유한다. 연결 타임아웃은 세션 전체에서
+ * 5초로 고정하고, 설정의 {@code timeout}은 {@link HttpClientPort#withTimeout(Duration)}으로 교환마다
+ * 적용하므로 타임아웃이 다른 실행도 같은 연결 풀을 쓴다.
+ *
+ * <p>보관하는 클라이언트는 최대 8개이며, 넘으면 가장 오래 쓰지 않은 클라이언트를 내보낸다.
+ * 내보낸 클라이언트는 그 클라이언트로 실행 중인 테스트가 모두 끝난 뒤 닫는다.
+ *
+ * <p>스레드 안전하며, 여러 테스트를 동시에 시작할 수도 있다.
+ * {@link #close()}는 실행 중인 테스트를 취소하고 모든 클라이언트를 닫는다.
+ *
+ * <p><b>사용 예시:</b>
+ * <pre>{@code
+ * try (LoadTesterSession session = new LoadTesterSession()) {
+ *     for (int concurrency : List.of(10, 50, 100)) {
+ *         TestResult result = session.run(config.toBuilder().concurrency(concurrency).build());
+ *         System.out.printf("c=%d: %.1f req/s%n", concurrency, result.requestsPerSecond());
+ *     }
+ * }
+ * }</pre>
+ *
+ * @author junhyeong9812
+ * @since 1.1.0
+ * @see LoadTester
+ */
+public final class LoadTesterSession implements AutoCloseable {
+
+  private static final Logger logger = System.getLogger(LoadTesterSession.class.getName());
+
+  /** close 시 취소된 실행이 부분 결과로 끝나기를 기다리는 시간 */
+  private static final Duration CLOSE_TIMEOUT = Duration.ofSeconds(5);
+
+  /** 세션 클라이언트의 연결 타임아웃 - 요청 타임아웃은 실행마다 교환 단위로 적용한다 */
+  private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(5);
+
+  /** 보관하는 클라이언트 수 상한 */
+  private static final int MAX_CLIENTS = 8;
+
+  private final Function<LoadTestConfig, ? extends HttpClientPort> clientFactory;
+  private final Function<HttpClientPort, LoadTestEngine> engineFactory;
+  private final Map<ClientKey, SharedClient> clients = new LinkedHashMap<>(16, 0.75f, true) {
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<ClientKey, SharedClient> eldest) {
+      if (size() <= MAX_CLIENTS) {
+        return false;
+      }
+      eldest.getValue().evict();
+      return true;
+    }
+  };
+  private final Set<LoadTestHandle> active = ConcurrentHashMap.newKeySet();
+  private final AtomicInteger runCount = new AtomicInteger();
+
+  private volatile boolean closed;
+
+  /**
+   * 기본 JDK HTTP 클라이언트를 사용하는 세션을 생성한다.
+   */
+  public LoadTesterSession() {
+    this.clientFactory = HttpClients::from;
+    this.engineFactory = VirtualThreadEngine::new;
+  }
+
+  /**
+   * 지정된 팩토리로 HTTP 클라이언트를 만드는 세션을 생성한다.
+   *
+   * <p>팩토리는 대상 종류(TCP, Unix 도메인 소켓), 출발지 주소, TLS 설정 조합마다 한 번만 호출되며, 만들어진 클라이언트는
+   * 세션이 소유한다. 출발지 주소({@code localAddresses})와 TLS 설정({@code tls})은 팩토리가 만드는
+   * 클라이언트에 전달되지 않는다. 실행별 요청 타임아웃은 {@link HttpClientPort#withTimeout(Duration)}으로
+   * 적용되므로, 이를 재정의하지 않은 클라이언트는 팩토리가 받은 타임아웃을 계속 쓴다.
+   *
+   * @param clientFactory 세션의 연결 타임아웃을 받아 HTTP 클라이언트를 만드는 함수
+   */
+  public LoadTesterSession(Function<Duration, ? extends HttpClientPort> clientFactory) {
+    Objects.requireNonNull(clientFactory, "clientFactory");
+    this.clientFactory = config -> clientFactory.apply(config.timeout());
+    this.engineFactory = VirtualThreadEngine::new;
+  }
+
+  /**
+   * 기본 HTTP 클라이언트와 지정된 엔진으로 실행하는 세션을 생성한다.
+   *
+   * <p>애플리케이션과 같은 JVM에서 실행할 때 {@code DedicatedCarrierEngine}을 지정하면
+   * 부하 생성기가 애플리케이션의 Virtual Thread 스케줄러와 캐리어를 두고 경쟁하지 않는다.
+   *
+   * @param engineFactory HTTP 클라이언트로 엔진을 생성하는 팩토리 (실행마다 호출)
+   * @return 새로운 세션
+   */
+  public static LoadTesterSession withEngine(Function<HttpClientPort, LoadTestEngine> engineFactory) {
+    return new LoadTesterSession(HttpClients::from, engineFactory);
+  }
+
+  private LoadTesterSession(
+      Function<LoadTestConfig, ? extends HttpClientPort> clientFactory,
+      Function<HttpClientPort, LoadTestEngine> engineFactory) {
+    this.clientFactory = clientFactory;
+    this.engineFactory = Objects.requireNonNull(engineFactory, "engineFactory");
+  }
+
+  /**
+   * 부하 테스트를 실행한다. 진행 상황 콜백은 무시된다.
+   *
+   * @param config 테스트 설정
+   * @return 테스트 결과
+   * @throws IllegalStateException 세션이 닫힌 경우
+   */
+  public TestResult run(LoadTestConfig config) {
+    return run(config, ProgressCallback.noop());
+  }
+
+  /**
+   * 세션의 HTTP 클라이언트로 부하 테스트를 실행하고 끝날 때까지 기다린다.
+   *
+   * <p>실행 중 {@link #close()}가 호출되면 부분 결과를 반환한다.
+   *
+   * @param config   테스트 설정
+   * @param callback 진행 상황 및 개별 요청 결과를 받을 콜백
+   * @return 테스트 결과
+   * @throws IllegalStateException 세션이 닫힌 경우
+   * @throws io.github.junhyeong9812.overload.core.exception.LoadTestException 실행 중 오류가 발생한 경우
+   */
+  public TestResult run(LoadTestConfig config, ProgressCallback callback) {
+    return start(config, callback).await();
+  }
+
+  /**
+   * 부하 테스트를 비동기로 시작한다. 진행 상황 콜백은 무시된다.
+   *
+   * @param config 테스트 설정
+   * @return 실행 중인 테스트의 제어 핸들
+   * @throws IllegalStateException 세션이 닫힌 경우
+   */
+  public LoadTestHandle start(LoadTestConfig config) {
+    return start(config, ProgressCallback.noop());
+  }
+
+  /**
+   * 세션의 HTTP 클라이언트로 부하 테스트를 비동기로 시작한다.
+   *
+   * <p>취소해도 클라이언트는 닫히지 않으므로 다음 실행에서 계속 사용된다.
+   *
+   * @param config   테스트 설정
+   * @param callback 진행 상황 및 개별 요청 결과를 받을 콜백
+   * @return 실행 중인 테스트의 제어 핸들
+   * @throws IllegalStateException 세션이 닫힌 경우
+   */
+  public synchronized LoadTestHandle start(LoadTestConfig config, ProgressCallback callback) {
+    ensureOpen();
+    SharedClient shared = clients.computeIfAbsent(
+        new ClientKey(UnixSocketTarget.matches(config.url()), config.localAddresses(), config.tls()),
+        key -> new SharedClient(
+            clientFactory.apply(config.toBuilder().timeout(CONNECT_TIMEOUT).build())));
+    shared.acquire();
+    LoadTestHandle handle;
+    try {
+      handle = LoadTester.start(
+          config, callback, shared.client.withTimeout(config.timeout()), engineFactory);
+    } catch (RuntimeException e) {
+      shared.release();
+      throw e;
+    }
+    active.add(handle);
+    runCount.incrementAndGet();
+    handle.result().whenComplete((result, error) -> {
+      active.remove(handle);
+      shared.release();
+    });
+    return handle;
+  }
+
+  /**
+   * 지금까지 시작한 실행 수를 반환한다.
+   *
+   * @return 실행 수
+   */
+  public int getRunCount() {
+    return runCount.get();
+  }
+
+  /**
+   * 보관 중인 HTTP 클라이언트 수를 반환한다.
+   *
+   * @return 클라이언트 수 (최대 8)
+   */
+  public synchronized int getClientCount() {
+    return clients.size();
+  }
+
+  /**
+   * 실행 중인 테스트 수를 반환한다.
+   *
+   * @return 아직 끝나지 않은 실행 수
+   */
+  public int getActiveCount() {
+    return active.size();
+  }
+
+  /**
+   * 세션이 닫혔는지 확인한다.
+   *
+   * @return 닫혔으면 {@code true}
+   */
+  public boolean isClosed() {
+    return closed;
+  }
+
+  /**
+   * 실행 중인 테스트를 취소하고 모든 HTTP 클라이언트를 닫는다.
+   *
+   * <p>취소된 테스트가 부분 결과로 끝나기를 잠시 기다린 뒤 클라이언트를 닫는다.
+   * 여러 번 호출해도 안전하다.
+   */
+  @Override
+  public synchronized void close() {
+    if (closed) {
+      return;
+    }
+    closed = true;
+
+    List<LoadTestHandle> running = List.copyOf(active);
+    running.forEach(handle -> handle.cancel("Session closed"));
+    for (LoadTestHandle handle : running) {
+      try {
+        handle.await(CLOSE_TIMEOUT);
+      } catch (TimeoutException e) {
+        logger.log(Level.WARNING, "Run did not stop within {0}ms of session close",
+            CLOSE_TIMEOUT.toMillis());
+      } catch (RuntimeException e) {
+        // 실패한 실행은 호출자가 핸들로 확인한다
+      }
+    }
+
+    clients.values().forEach(shared -> shared.client.close());
+    clients.clear();
+    logger.log(Level.DEBUG, "Session closed after {0} runs", runCount.get());
+  }
+
+  private void ensureOpen() {
+    if (closed) {
+      throw new IllegalStateException("Session is closed");
+    }
+  }
+
+  /**
+   * 클라이언트를 공유할 수 있는 설정 조합.
+   */
+  private record ClientKey(boolean unixSocket, List<InetAddress> localAddresses, TlsConfig tls) {
+  }
+
+  /**
+   * 세션이 보관하는 클라이언트와 이를 쓰는 실행 수.
+   *
+   * <p>캐시에서 내보내진 뒤 마지막 실행이 끝나면 클라이언트를 닫는다.
+   */
+  private static final class SharedClient {
+
+    private final HttpClientPort client;
+    private int users;
+    private boolean evicted;
+
+    SharedClient(HttpClientPort client) {
+      this.client = client;
+    }
+
+    synchronized void acquire() {
+      users++;
+    }
+
+    synchronized void release() {
+      users--;
+      if (evicted && users == 0) {
+        client.close();
+      }
+    }
+
+    synchronized void evict() {
+      evicted = true;
+      if (users == 0) {
+        client.close();
+      }
+    }
+  }
+}
\ No newline at end of file
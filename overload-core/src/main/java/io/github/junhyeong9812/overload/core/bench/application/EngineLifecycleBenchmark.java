@@ -0,0 +1,292 @@
+package io.github.junhyeong9812.overload.core.bench.application;
+
+import io.github.junhyeong9812.overload.core.bench.domain.LifecycleResult;
+import io.github.junhyeong9812.overload.core.callback.ProgressCallback;
+import io.github.junhyeong9812.overload.core.config.LoadTestConfig;
+import io.github.junhyeong9812.overload.core.engine.domain.ExecutionContext;
+import io.github.junhyeong9812.overload.core.engine.domain.LoadTestEngine;
+import io.github.junhyeong9812.overload.core.engine.infrastructure.DedicatedCarrierEngine;
+import io.github.junhyeong9812.overload.core.engine.infrastructure.VirtualThreadEngine;
+import io.github.junhyeong9812.overload.core.http.application.port.HttpClientPort;
+import io.github.junhyeong9812.overload.core.http.domain.ErrorType;
+import io.github.junhyeong9812.overload.core.http.domain.HttpRequest;
+import io.github.junhyeong9812.overload.core.http.domain.RequestResult;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * 엔진별 기동 지연과 정리 지연을 측정하는 벤치마크 하네스.
+ *
+ * <p>요청을 인터럽트될 때까지 붙잡아 두는 HTTP 클라이언트로 {@code concurrency}개의 요청을 동시에
+ * 띄운 뒤 취소한다. 네트워크를 쓰지 않으므로 측정값은 엔진 자체의 작업 생성·정리 비용이다.
+ *
+ * <p><b>측정 항목:</b>
+ * <ul>
+ *   <li>기동 지연 - {@code execute} 호출부터 모든 요청이 클라이언트에 들어올 때까지</li>
+ *   <li>정리 지연 - {@link ExecutionContext#cancel(String)}부터 {@code execute} 반환까지</li>
+ *   <li>남은 요청 - {@code execute}가 반환된 시점에 아직 끝나지 않은 요청 수</li>
+ * </ul>
+ *
+ * <p><b>사용 예시:</b>
+ * <pre>{@code
+ * List<LifecycleResult> results = EngineLifecycleBenchmark.builder()
+ *     .withDefaultEngines()
+ *     .concurrency(100_000)
+ *     .build()
+ *     .run();
+ * }</pre>
+ *
+ * @author junhyeong9812
+ * @since 1.1.0
+ */
+public class EngineLifecycleBenchmark {
+
+  private static final String TARGET_URL = "http://lifecycle.invalid/";
+
+  private final Map<String, Function<HttpClientPort, LoadTestEngine>> engines;
+  private final int concurrency;
+  private final int runs;
+  private final int warmupRuns;
+  private final Duration startupTimeout;
+
+  private EngineLifecycleBenchmark(Builder builder) {
+    this.engines = new LinkedHashMap<>(builder.engines);
+    this.concurrency = builder.concurrency;
+    this.runs = builder.runs;
+    this.warmupRuns = builder.warmupRuns;
+    this.startupTimeout = builder.startupTimeout;
+  }
+
+  /**
+   * 새로운 Builder 인스턴스를 생성한다.
+   *
+   * @return 새로운 {@link Builder} 인스턴스
+   */
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * 등록된 모든 엔진을 측정한다.
+   *
+   * @return 엔진별 측정 결과
+   * @throws IllegalStateException 엔진이 제한 시간 안에 모든 요청을 띄우지 못한 경우
+   */
+  public List<LifecycleResult> run() {
+    List<LifecycleResult> results = new ArrayList<>();
+    for (var entry : engines.entrySet()) {
+      for (int i = 0; i < warmupRuns; i++) {
+        measure(entry.getValue());
+      }
+      long[] startup = new long[runs];
+      long[] teardown = new long[runs];
+      int maxLeaked = 0;
+      for (int i = 0; i < runs; i++) {
+        Sample sample = measure(entry.getValue());
+        startup[i] = sample.startupMicros();
+        teardown[i] = sample.teardownMicros();
+        maxLeaked = Math.max(maxLeaked, sample.leaked());
+      }
+      Arrays.sort(startup);
+      Arrays.sort(teardown);
+      results.add(new LifecycleResult(
+          entry.getKey(),
+          concurrency,
+          runs,
+          startup[runs / 2],
+          startup[runs - 1],
+          teardown[runs / 2],
+          teardown[runs - 1],
+          maxLeaked));
+    }
+    return results;
+  }
+
+  /**
+   * 엔진 한 번의 기동과 정리를 측정한다.
+   */
+  private Sample measure(Function<HttpClientPort, LoadTestEngine> factory) {
+    HoldingClient client = new HoldingClient(concurrency);
+    LoadTestEngine engine = factory.apply(client);
+    LoadTestConfig config = LoadTestConfig.builder()
+        .url(TARGET_URL)
+        .concurrency(concurrency)
+        .totalRequests(concurrency)
+        .build();
+    ExecutionContext context = new ExecutionContext(concurrency);
+    context.setCollectResults(false);
+
+    long startedAt = System.nanoTime();
+    Thread runner = Thread.ofVirtual().start(
+        () -> engine.execute(config, ProgressCallback.noop(), context));
+    try {
+      if (!client.started.await(startupTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+        context.cancel("Startup timed out");
+        runner.join();
+        throw new IllegalStateException(
+            "Engine did not reach " + concurrency + " in-flight requests within " + startupTimeout);
+      }
+      long startupNanos = System.nanoTime() - startedAt;
+
+      long cancelledAt = System.nanoTime();
+      context.cancel("Lifecycle benchmark teardown");
+      runner.join();
+      long teardownNanos = System.nanoTime() - cancelledAt;
+
+      return new Sample(startupNanos / 1_000, teardownNanos / 1_000, client.active.get());
+    } catch (InterruptedException e) {
+      context.cancel("Interrupted");
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Lifecycle benchmark interrupted", e);
+    } finally {
+      engine.close();
+    }
+  }
+
+  private record Sample(long startupMicros, long teardownMicros, int leaked) {
+  }
+
+  /**
+   * 요청을 인터럽트될 때까지 붙잡아 두는 HTTP 클라이언트.
+   */
+  private static final class HoldingClient implements HttpClientPort {
+
+    private final CountDownLatch started;
+    private final AtomicInteger active = new AtomicInteger();
+
+    HoldingClient(int expected) {
+      this.started = new CountDownLatch(expected);
+    }
+
+    @Override
+    public RequestResult send(HttpRequest request) {
+      active.incrementAndGet();
+      started.countDown();
+      try {
+        Thread.sleep(Long.MAX_VALUE);
+        return RequestResult.Success.ofMicros(200, 0);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return RequestResult.Failure.ofMicros("Request interrupted", ErrorType.UNKNOWN, 0);
+      } finally {
+        active.decrementAndGet();
+      }
+    }
+  }
+
+  /**
+   * {@link EngineLifecycleBenchmark} 인스턴스를 생성하기 위한 빌더 클래스.
+   *
+   * @author junhyeong9812
+   * @since 1.1.0
+   */
+  public static class Builder {
+
+    private final Map<String, Function<HttpClientPort, LoadTestEngine>> engines = new LinkedHashMap<>();
+    private int concurrency = 100_000;
+    private int runs = 5;
+    private int warmupRuns = 1;
+    private Duration startupTimeout = Duration.ofSeconds(60);
+
+    /**
+     * 코어가 제공하는 Virtual Thread 기반 엔진을 등록한다.
+     *
+     * <p>{@code PlatformThreadEngine}은 요청마다 OS 스레드를 점유하므로 기본 동시성(100,000)에서는
+     * 스레드 한도에 걸린다. 필요하면 낮은 동시성으로 {@link #engine(String, Function)}에 직접 등록한다.
+     *
+     * @return this
+     */
+    public Builder withDefaultEngines() {
+      engine("virtual-thread", VirtualThreadEngine::new);
+      engine("dedicated-carrier", DedicatedCarrierEngine::new);
+      return this;
+    }
+
+    /**
+     * 측정할 엔진을 등록한다.
+     *
+     * @param name    엔진 이름
+     * @param factory HTTP 클라이언트로 엔진을 생성하는 팩토리
+     * @return this
+     */
+    public Builder engine(String name, Function<HttpClientPort, LoadTestEngine> factory) {
+      this.engines.put(name, factory);
+      return this;
+    }
+
+    /**
+     * 동시에 띄울 요청 수를 설정한다.
+     *
+     * @param concurrency 동시 요청 수 (기본값: 100,000)
+     * @return this
+     */
+    public Builder concurrency(int concurrency) {
+      this.concurrency = concurrency;
+      return this;
+    }
+
+    /**
+     * 엔진별 측정 횟수를 설정한다.
+     *
+     * @param runs 측정 횟수 (기본값: 5)
+     * @return this
+     */
+    public Builder runs(int runs) {
+      this.runs = runs;
+      return this;
+    }
+
+    /**
+     * 엔진별로 측정 전에 버리는 실행 횟수를 설정한다.
+     *
+     * @param warmupRuns 워밍업 실행 횟수 (기본값: 1, 0이면 생략)
+     * @return this
+     */
+    public Builder warmupRuns(int warmupRuns) {
+      this.warmupRuns = warmupRuns;
+      return this;
+    }
+
+    /**
+     * 모든 요청이 진행 중이 되기를 기다리는 최대 시간을 설정한다.
+     *
+     * @param startupTimeout 기동 제한 시간 (기본값: 60초)
+     * @return this
+     */
+    public Builder startupTimeout(Duration startupTimeout) {
+      this.startupTimeout = startupTimeout;
+      return this;
+    }
+
+    /**
+     * 설정된 값으로 {@link EngineLifecycleBenchmark} 인스턴스를 생성한다.
+     *
+     * @return 새로운 EngineLifecycleBenchmark 인스턴스
+     * @throws IllegalArgumentException 유효성 검증 실패 시
+     */
+    public EngineLifecycleBenchmark build() {
+      if (engines.isEmpty()) {
+        throw new IllegalArgumentException("At least one engine is required");
+      }
+      if (concurrency < 1) {
+        throw new IllegalArgumentException("Concurrency must be >= 1");
+      }
+      if (runs < 1) {
+        throw new IllegalArgumentException("Runs must be >= 1");
+      }
+      if (warmupRuns < 0) {
+        throw new IllegalArgumentException("Warm-up runs must be >= 0");
+      }
+      return new EngineLifecycleBenchmark(this);
+    }
+  }
+}
\ No newline at end of file
@@ -0,0 +1,478 @@
+package io.github.junhyeong9812.overload.core.bench.application;
+
+import io.github.junhyeong9812.overload.core.bench.domain.BenchmarkResult;
+import io.github.junhyeong9812.overload.core.bench.domain.BenchmarkStep;
+import io.github.junhyeong9812.overload.core.callback.ProgressCallback;
+import io.github.junhyeong9812.overload.core.config.LoadTestConfig;
+import io.github.junhyeong9812.overload.core.engine.domain.ExecutionContext;
+import io.github.junhyeong9812.overload.core.engine.domain.LoadTestEngine;
+import io.github.junhyeong9812.overload.core.engine.infrastructure.DedicatedCarrierEngine;
+import io.github.junhyeong9812.overload.core.engine.infrastructure.PlatformThreadEngine;
+import io.github.junhyeong9812.overload.core.engine.infrastructure.VirtualThreadEngine;
+import io.github.junhyeong9812.overload.core.http.application.port.HttpClientPort;
+import io.github.junhyeong9812.overload.core.http.infrastructure.JdkHttpClient;
+import io.github.junhyeong9812.overload.core.metric.application.MetricAggregator;
+import io.github.junhyeong9812.overload.core.metric.domain.TestResult;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.OperatingSystemMXBean;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 엔진/HTTP 클라이언트 조합별 부하 생성기 용량을 측정하는 벤치마크 하네스.
+ *
+ * <p>대상 서버(보통 {@link io.github.junhyeong9812.overload.core.bench.infrastructure.LoopbackTargetServer})에
+ * 동시성을 단계적으로 올리며 같은 수의 요청을 보내고, 처리량이 더 이상 오르지 않으면 멈춘다.
+ * 대상이 충분히 빠르다면 이때의 처리량이 곧 생성기 자체의 한계다.
+ *
+ * <p><b>측정 항목:</b>
+ * <ul>
+ *   <li>최대 지속 RPS - 오류율 기준을 만족한 단계 중 최대 처리량</li>
+ *   <li>요청당 CPU - 프로세스 CPU 시간 / 요청 수 (같은 JVM의 루프백 서버 비용 포함, 상한값)</li>
+ *   <li>동시 요청당 힙 - 단계별 최대 힙 증가량을 동시성에 대해 선형 회귀한 기울기.
+ *       모든 단계의 요청 수가 같으므로 결과 보관 비용은 상쇄된다</li>
+ * </ul>
+ *
+ * <p><b>사용 예시:</b>
+ * <pre>{@code
+ * try (LoopbackTargetServer server = LoopbackTargetServer.builder().build().start()) {
+ *   List<BenchmarkResult> results = GeneratorBenchmark.builder()
+ *       .withDefaultCombinations()
+ *       .requestsPerStep(20_000)
+ *       .build()
+ *       .run(server.url());
+ * }
+ * }</pre>
+ *
+ * @author junhyeong9812
+ * @since 1.1.0
+ */
+public class GeneratorBenchmark {
+
+  private static final long HEAP_SAMPLE_INTERVAL_MS = 10;
+
+  private final Map<String, Function<HttpClientPort, LoadTestEngine>> engines;
+  private final Map<String, Function<Duration, HttpClientPort>> clients;
+  private final List<Integer> concurrencyLevels;
+  private final int requestsPerStep;
+  private final int warmupRequests;
+  private final double maxErrorRate;
+  private final double plateauThreshold;
+  private final Duration timeout;
+
+  private GeneratorBenchmark(Builder builder) {
+    this.engines = new LinkedHashMap<>(builder.engines);
+    this.clients = new LinkedHashMap<>(builder.clients);
+    this.concurrencyLevels = List.copyOf(builder.concurrencyLevels);
+    this.requestsPerStep = builder.requestsPerStep;
+    this.warmupRequests = builder.warmupRequests;
+    this.maxErrorRate = builder.maxErrorRate;
+    this.plateauThreshold = builder.plateauThreshold;
+    this.timeout = builder.timeout;
+  }
+
+  /**
+   * 새로운 Builder 인스턴스를 생성한다.
+   *
+   * @return 새로운 {@link Builder} 인스턴스
+   */
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * 모든 엔진/클라이언트 조합을 측정한다.
+   *
+   * @param targetUrl 대상 URL
+   * @return 조합별 벤치마크 결과
+   */
+  public List<BenchmarkResult> run(String targetUrl) {
+    return run(targetUrl, (engine, client, step) -> {});
+  }
+
+  /**
+   * 모든 엔진/클라이언트 조합을 측정한다.
+   *
+   * @param targetUrl 대상 URL
+   * @param listener  단계 완료 시 호출되는 리스너
+   * @return 조합별 벤치마크 결과
+   */
+  public List<BenchmarkResult> run(String targetUrl, StepListener listener) {
+    List<BenchmarkResult> results = new ArrayList<>();
+    for (var engineEntry : engines.entrySet()) {
+      for (var clientEntry : clients.entrySet()) {
+        try (HttpClientPort client = clientEntry.getValue().apply(timeout);
+            LoadTestEngine engine = engineEntry.getValue().apply(client)) {
+          results.add(runCombination(
+              engineEntry.getKey(), clientEntry.getKey(), engine, targetUrl, listener));
+        }
+      }
+    }
+    return results;
+  }
+
+  /**
+   * 하나의 엔진/클라이언트 조합에 대해 동시성 단계를 실행한다.
+   */
+  private BenchmarkResult runCombination(
+      String engineName,
+      String clientName,
+      LoadTestEngine engine,
+      String targetUrl,
+      StepListener listener) {
+
+    // JIT 및 연결 풀 워밍업 (결과 미반영)
+    if (warmupRequests > 0) {
+      int warmupConcurrency = Math.min(64, concurrencyLevels.get(concurrencyLevels.size() - 1));
+      engine.execute(
+          config(targetUrl, warmupConcurrency, warmupRequests),
+          ProgressCallback.noop(),
+          streamingContext(warmupRequests));
+    }
+
+    List<BenchmarkStep> steps = new ArrayList<>();
+    BenchmarkStep best = null;
+    int stagnantSteps = 0;
+
+    for (int concurrency : concurrencyLevels) {
+      BenchmarkStep step = measureStep(engine, targetUrl, concurrency);
+      steps.add(step);
+      listener.onStep(engineName, clientName, step);
+
+      if (step.errorRate() > maxErrorRate) {
+        break;
+      }
+      if (best == null || step.requestsPerSecond() > best.requestsPerSecond() * (1 + plateauThreshold)) {
+        best = step;
+        stagnantSteps = 0;
+      } else {
+        if (step.requestsPerSecond() > best.requestsPerSecond()) {
+          best = step;
+        }
+        if (++stagnantSteps >= 2) {
+          break;
+        }
+      }
+    }
+
+    if (best == null) {
+      return new BenchmarkResult(engineName, clientName, steps, 0, 0, Double.NaN, Double.NaN);
+    }
+    return new BenchmarkResult(
+        engineName,
+        clientName,
+        steps,
+        best.requestsPerSecond(),
+        best.concurrency(),
+        best.cpuMicrosPerRequest(),
+        heapSlope(steps)
+    );
+  }
+
+  /**
+   * 단일 동시성 단계를 실행하고 측정한다.
+   */
+  private BenchmarkStep measureStep(LoadTestEngine engine, String targetUrl, int concurrency) {
+    MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+    System.gc();
+    long baselineHeap = memory.getHeapMemoryUsage().getUsed();
+
+    HeapSampler sampler = new HeapSampler(memory);
+    Thread samplerThread = Thread.ofVirtual().start(sampler);
+
+    MetricAggregator aggregator = new MetricAggregator();
+    long cpuStart = processCpuNanos();
+    aggregator.start();
+    // 결과 목록을 쌓으면 그 복사 비용이 요청당 CPU에 섞이므로 콜백에서 바로 집계한다
+    engine.execute(
+        config(targetUrl, concurrency, requestsPerStep),
+        (completed, total, result) -> aggregator.record(result),
+        streamingContext(requestsPerStep));
+    aggregator.end();
+    long cpuEnd = processCpuNanos();
+
+    sampler.stop();
+    samplerThread.interrupt();
+
+    TestResult testResult = aggregator.aggregate();
+
+    double cpuMicros = cpuStart >= 0 && cpuEnd >= 0 && testResult.totalRequests() > 0
+        ? (cpuEnd - cpuStart) / 1_000.0 / testResult.totalRequests()
+        : Double.NaN;
+
+    return new BenchmarkStep(
+        concurrency,
+        testResult.totalRequests(),
+        testResult.requestsPerSecond(),
+        testResult.latencyStats().percentiles().p99(),
+        testResult.failRate() / 100,
+        cpuMicros,
+        Math.max(0, sampler.peak() - baselineHeap),
+        testResult.latencyStats().percentiles().p99Micros()
+    );
+  }
+
+  /**
+   * 엔진이 결과 목록을 쌓지 않고 콜백으로만 결과를 전달하는 실행 컨텍스트를 만든다.
+   */
+  private static ExecutionContext streamingContext(int totalRequests) {
+    ExecutionContext context = new ExecutionContext(totalRequests);
+    context.setCollectResults(false);
+    return context;
+  }
+
+  private LoadTestConfig config(String targetUrl, int concurrency, int totalRequests) {
+    return LoadTestConfig.builder()
+        .url(targetUrl)
+        .concurrency(concurrency)
+        .totalRequests(totalRequests)
+        .timeout(timeout)
+        .build();
+  }
+
+  /**
+   * 단계별 최대 힙 증가량을 동시성에 대해 최소제곱 회귀한 기울기를 계산한다.
+   *
+   * @return 동시 요청 1개당 힙 바이트, 단계가 하나뿐이면 단순 평균
+   */
+  static double heapSlope(List<BenchmarkStep> steps) {
+    if (steps.isEmpty()) {
+      return Double.NaN;
+    }
+    if (steps.size() == 1) {
+      BenchmarkStep only = steps.get(0);
+      return (double) only.peakHeapBytes() / only.concurrency();
+    }
+    double n = steps.size();
+    double sumX = 0, sumY = 0, sumXY = 0, sumXX = 0;
+    for (BenchmarkStep step : steps) {
+      double x = step.concurrency();
+      double y = step.peakHeapBytes();
+      sumX += x;
+      sumY += y;
+      sumXY += x * y;
+      sumXX += x * x;
+    }
+    double denominator = n * sumXX - sumX * sumX;
+    if (denominator == 0) {
+      return Double.NaN;
+    }
+    return Math.max(0, (n * sumXY - sumX * sumY) / denominator);
+  }
+
+  /**
+   * 프로세스 CPU 시간을 나노초 단위로 반환한다.
+   *
+   * @return CPU 시간, 지원하지 않는 JVM이면 -1
+   */
+  private static long processCpuNanos() {
+    OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+    if (os instanceof com.sun.management.OperatingSystemMXBean sunOs) {
+      return sunOs.getProcessCpuTime();
+    }
+    return -1;
+  }
+
+  /**
+   * 단계 실행 중 힙 사용량의 최대값을 주기적으로 샘플링한다.
+   */
+  private static final class HeapSampler implements Runnable {
+
+    private final MemoryMXBean memory;
+    private volatile boolean running = true;
+    private volatile long peak;
+
+    HeapSampler(MemoryMXBean memory) {
+      this.memory = memory;
+    }
+
+    @Override
+    public void run() {
+      while (running) {
+        peak = Math.max(peak, memory.getHeapMemoryUsage().getUsed());
+        try {
+          Thread.sleep(HEAP_SAMPLE_INTERVAL_MS);
+        } catch (InterruptedException e) {
+          return;
+        }
+      }
+    }
+
+    void stop() {
+      running = false;
+      peak = Math.max(peak, memory.getHeapMemoryUsage().getUsed());
+    }
+
+    long peak() {
+      return peak;
+    }
+  }
+
+  /**
+   * 벤치마크 단계 완료 리스너.
+   */
+  @FunctionalInterface
+  public interface StepListener {
+
+    /**
+     * 단계 하나가 끝날 때마다 호출된다.
+     *
+     * @param engine 엔진 이름
+     * @param client HTTP 클라이언트 이름
+     * @param step   단계 측정 결과
+     */
+    void onStep(String engine, String client, BenchmarkStep step);
+  }
+
+  /**
+   * {@link GeneratorBenchmark} 인스턴스를 생성하기 위한 빌더 클래스.
+   *
+   * @author junhyeong9812
+   * @since 1.1.0
+   */
+  public static class Builder {
+
+    private final Map<String, Function<HttpClientPort, LoadTestEngine>> engines = new LinkedHashMap<>();
+    private final Map<String, Function<Duration, HttpClientPort>> clients = new LinkedHashMap<>();
+    private List<Integer> concurrencyLevels = List.of(8, 32, 128, 512, 2048);
+    private int requestsPerStep = 20_000;
+    private int warmupRequests = 5_000;
+    private double maxErrorRate = 0.01;
+    private double plateauThreshold = 0.05;
+    private Duration timeout = Duration.ofSeconds(5);
+
+    /**
+     * 코어가 제공하는 모든 엔진과 HTTP 클라이언트를 등록한다.
+     *
+     * <p>{@code JdkDetailedHttpClient}는 {@code HttpClientPort}가 아닌
+     * {@code DetailedHttpClientPort} 구현체로, 응답 본문과 헤더를 메모리에 유지하는
+     * 시나리오 전용 클라이언트라 엔진에 연결할 수 없으므로 등록하지 않는다.
+     *
+     * @return this
+     */
+    public Builder withDefaultCombinations() {
+      engine("virtual-thread", VirtualThreadEngine::new);
+      engine("platform-thread", PlatformThreadEngine::new);
+      engine("dedicated-carrier", DedicatedCarrierEngine::new);
+      client("jdk", JdkHttpClient::new);
+      return this;
+    }
+
+    /**
+     * 측정할 엔진을 등록한다.
+     *
+     * @param name    엔진 이름
+     * @param factory HTTP 클라이언트로 엔진을 생성하는 팩토리
+     * @return this
+     */
+    public Builder engine(String name, Function<HttpClientPort, LoadTestEngine> factory) {
+      this.engines.put(name, factory);
+      return this;
+    }
+
+    /**
+     * 측정할 HTTP 클라이언트를 등록한다.
+     *
+     * @param name    클라이언트 이름
+     * @param factory 타임아웃으로 클라이언트를 생성하는 팩토리
+     * @return this
+     */
+    public Builder client(String name, Function<Duration, HttpClientPort> factory) {
+      this.clients.put(name, factory);
+      return this;
+    }
+
+    /**
+     * 측정할 동시성 단계를 설정한다.
+     *
+     * @param concurrencyLevels 오름차순 동시성 목록 (기본값: 8, 32, 128, 512, 2048)
+     * @return this
+     */
+    public Builder concurrencyLevels(List<Integer> concurrencyLevels) {
+      this.concurrencyLevels = List.copyOf(concurrencyLevels);
+      return this;
+    }
+
+    /**
+     * 단계당 요청 수를 설정한다.
+     *
+     * @param requestsPerStep 단계당 요청 수 (기본값: 20,000)
+     * @return this
+     */
+    public Builder requestsPerStep(int requestsPerStep) {
+      this.requestsPerStep = requestsPerStep;
+      return this;
+    }
+
+    /**
+     * 조합별 워밍업 요청 수를 설정한다.
+     *
+     * @param warmupRequests 워밍업 요청 수 (기본값: 5,000, 0이면 생략)
+     * @return this
+     */
+    public Builder warmupRequests(int warmupRequests) {
+      this.warmupRequests = warmupRequests;
+      return this;
+    }
+
+    /**
+     * 지속 가능한 것으로 인정할 최대 오류율을 설정한다.
+     *
+     * @param maxErrorRate 최대 오류율 (0.0 ~ 1.0, 기본값: 0.01)
+     * @return this
+     */
+    public Builder maxErrorRate(double maxErrorRate) {
+      this.maxErrorRate = maxErrorRate;
+      return this;
+    }
+
+    /**
+     * 처리량 정체로 판단할 증가율 기준을 설정한다.
+     *
+     * <p>두 단계 연속으로 최고 처리량 대비 이 비율 이상 오르지 않으면 측정을 멈춘다.
+     *
+     * @param plateauThreshold 증가율 기준 (기본값: 0.05)
+     * @return this
+     */
+    public Builder plateauThreshold(double plateauThreshold) {
+      this.plateauThreshold = plateauThreshold;
+      return this;
+    }
+
+    /**
+     * 요청 타임아웃을 설정한다.
+     *
+     * @param timeout 요청 타임아웃 (기본값: 5초)
+     * @return this
+     */
+    public Builder timeout(Duration timeout) {
+      this.timeout = timeout;
+      return this;
+    }
+
+    /**
+     * 설정된 값으로 {@link GeneratorBenchmark} 인스턴스를 생성한다.
+     *
+     * @return 새로운 GeneratorBenchmark 인스턴스
+     * @throws IllegalArgumentException 유효성 검증 실패 시
+     */
+    public GeneratorBenchmark build() {
+      if (engines.isEmpty() || clients.isEmpty()) {
+        throw new IllegalArgumentException("At least one engine and one client are required");
+      }
+      if (concurrencyLevels.isEmpty()) {
+        throw new IllegalArgumentException("At least one concurrency level is required");
+      }
+      if (requestsPerStep < 1) {
+        throw new IllegalArgumentException("Requests per step must be >= 1");
+      }
+      return new GeneratorBenchmark(this);
+    }
+  }
+}
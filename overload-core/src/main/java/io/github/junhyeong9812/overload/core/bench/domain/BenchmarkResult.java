@@ -0,0 +1,54 @@
+package io.github.junhyeong9812.overload.core.bench.domain;
+
+import java.util.List;
+
+/**
+ * 하나의 엔진/클라이언트 조합에 대한 생성기 용량 벤치마크 결과.
+ *
+ * <p>동시성을 단계적으로 올리며 측정한 {@link BenchmarkStep} 목록과,
+ * 오류율 기준을 만족한 단계 중 가장 높은 처리량을 "최대 지속 RPS"로 보고한다.
+ *
+ * <p><b>사용 예시:</b>
+ * <pre>{@code
+ * for (BenchmarkResult r : benchmark.run(server.url())) {
+ *     System.out.printf("%s/%s: %.0f req/s%n", r.engine(), r.client(), r.maxSustainedRps());
+ * }
+ * }</pre>
+ *
+ * @param engine                엔진 이름
+ * @param client                HTTP 클라이언트 이름
+ * @param steps                 단계별 측정 결과
+ * @param maxSustainedRps       오류율 기준을 만족한 최대 처리량 (RPS)
+ * @param bestConcurrency       최대 처리량을 달성한 동시성
+ * @param cpuMicrosPerRequest   최대 처리량 단계의 요청당 CPU 시간 (마이크로초)
+ * @param heapBytesPerInFlight  동시 요청 1개당 추정 힙 사용량 (바이트)
+ *
+ * @author junhyeong9812
+ * @since 1.1.0
+ */
+public record BenchmarkResult(
+    String engine,
+    String client,
+    List<BenchmarkStep> steps,
+    double maxSustainedRps,
+    int bestConcurrency,
+    double cpuMicrosPerRequest,
+    double heapBytesPerInFlight
+) {
+
+  /**
+   * Compact constructor - 단계 목록을 불변으로 복사한다.
+   */
+  public BenchmarkResult {
+    steps = List.copyOf(steps);
+  }
+
+  /**
+   * 엔진/클라이언트 조합의 표시 이름을 반환한다.
+   *
+   * @return {@code engine / client} 형식의 이름
+   */
+  public String label() {
+    return engine + " / " + client;
+  }
+}
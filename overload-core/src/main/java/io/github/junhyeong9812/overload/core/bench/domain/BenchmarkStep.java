@@ -0,0 +1,55 @@
+package io.github.junhyeong9812.overload.core.bench.domain;
+
+/**
+ * 벤치마크의 단일 동시성 단계 측정 결과를 표현하는 불변(Immutable) 레코드.
+ *
+ * <p>밀리초 값은 마이크로초 값을 버림한 것이며, 루프백처럼 1ms 미만으로 응답하는 대상은
+ * {@code p99Micros}로 구분한다.
+ *
+ * @param concurrency          이 단계의 동시 요청 수
+ * @param requests             이 단계에서 완료된 요청 수
+ * @param requestsPerSecond    달성한 처리량 (RPS)
+ * @param p99Ms                99번째 백분위수 지연 시간 (밀리초)
+ * @param errorRate            오류율 (0.0 ~ 1.0)
+ * @param cpuMicrosPerRequest  요청당 프로세스 CPU 시간 (마이크로초), 측정 불가 시 NaN
+ * @param peakHeapBytes        단계 시작 대비 최대 힙 증가량 (바이트)
+ * @param p99Micros            99번째 백분위수 지연 시간 (마이크로초)
+ *
+ * @author junhyeong9812
+ * @since 1.1.0
+ */
+public record BenchmarkStep(
+    int concurrency,
+    int requests,
+    double requestsPerSecond,
+    long p99Ms,
+    double errorRate,
+    double cpuMicrosPerRequest,
+    long peakHeapBytes,
+    long p99Micros
+) {
+
+  /**
+   * 밀리초 p99로 BenchmarkStep을 생성한다. 마이크로초 값은 밀리초에서 환산된다.
+   *
+   * @param concurrency         이 단계의 동시 요청 수
+   * @param requests            이 단계에서 완료된 요청 수
+   * @param requestsPerSecond   달성한 처리량 (RPS)
+   * @param p99Ms               99번째 백분위수 지연 시간 (밀리초)
+   * @param errorRate           오류율 (0.0 ~ 1.0)
+   * @param cpuMicrosPerRequest 요청당 프로세스 CPU 시간 (마이크로초), 측정 불가 시 NaN
+   * @param peakHeapBytes       단계 시작 대비 최대 힙 증가량 (바이트)
+   */
+  public BenchmarkStep(
+      int concurrency,
+      int requests,
+      double requestsPerSecond,
+      long p99Ms,
+      double errorRate,
+      double cpuMicrosPerRequest,
+      long peakHeapBytes
+  ) {
+    this(concurrency, requests, requestsPerSecond, p99Ms, errorRate, cpuMicrosPerRequest,
+        peakHeapBytes, p99Ms * 1_000);
+  }
+}
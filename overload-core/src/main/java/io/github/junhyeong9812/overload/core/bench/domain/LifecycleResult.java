@@ -0,0 +1,31 @@
+package io.github.junhyeong9812.overload.core.bench.domain;
+
+/**
+ * 엔진 하나의 기동/정리 지연 측정 결과를 표현하는 불변(Immutable) 레코드.
+ *
+ * <p>기동 지연은 {@code execute} 호출부터 모든 요청이 동시에 진행 중이 될 때까지,
+ * 정리 지연은 취소부터 {@code execute}가 반환될 때까지의 시간이다.
+ *
+ * @param engine                엔진 이름
+ * @param concurrency           동시 요청 수
+ * @param runs                  측정 횟수
+ * @param startupMedianMicros   기동 지연 중앙값 (마이크로초)
+ * @param startupMaxMicros      기동 지연 최대값 (마이크로초)
+ * @param teardownMedianMicros  정리 지연 중앙값 (마이크로초)
+ * @param teardownMaxMicros     정리 지연 최대값 (마이크로초)
+ * @param maxLeakedRequests     {@code execute} 반환 시점에 아직 끝나지 않은 요청 수의 최대값
+ *
+ * @author junhyeong9812
+ * @since 1.1.0
+ */
+public record LifecycleResult(
+    String engine,
+    int concurrency,
+    int runs,
+    long startupMedianMicros,
+    long startupMaxMicros,
+    long teardownMedianMicros,
+    long teardownMaxMicros,
+    int maxLeakedRequests
+) {
+}
\ No newline at end of file
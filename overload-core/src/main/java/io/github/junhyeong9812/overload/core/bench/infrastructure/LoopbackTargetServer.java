@@ -0,0 +1,433 @@
+package io.github.junhyeong9812.overload.core.bench.infrastructure;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 부하 생성기 자체의 한계를 측정하기 위한 내장 루프백 HTTP 대상 서버.
+ *
+ * <p>응답 바이트를 미리 만들어 두고, 연결당 하나의 Virtual Thread가
+ * HTTP/1.1 keep-alive 요청을 처리한다. 요청 본문은 읽고 버린다.
+ * 지연 시간과 응답 크기를 설정할 수 있어 "대상이 느린 경우"와
+ * "대상이 무한히 빠른 경우"를 모두 재현할 수 있다.
+ *
+ * <p><b>지연 설정:</b>
+ * <ul>
+ *   <li>고정 지연 - {@code delay(Duration.ofMillis(5))}</li>
+ *   <li>랜덤 지연 - {@code delay(base, jitter)}: [base, base + jitter] 균등 분포</li>
+ * </ul>
+ *
+ * <p><b>사용 예시:</b>
+ * <pre>{@code
+ * try (LoopbackTargetServer server = LoopbackTargetServer.builder()
+ *     .delay(Duration.ofMillis(1), Duration.ofMillis(4))
+ *     .responseSize(512)
+ *     .build()
+ *     .start()) {
+ *
+ *   TestResult result = LoadTester.run(LoadTestConfig.builder()
+ *       .url(server.url())
+ *       .concurrency(200)
+ *       .totalRequests(100_000)
+ *       .build());
+ * }
+ * }</pre>
+ *
+ * @author junhyeong9812
+ * @since 1.1.0
+ */
+public final class LoopbackTargetServer implements AutoCloseable {
+
+  private static final int MAX_LINE_LENGTH = 8192;
+  private static final int BACKLOG = 4096;
+
+  private final InetAddress bindAddress;
+  private final int requestedPort;
+  private final long baseDelayNanos;
+  private final long jitterNanos;
+  private final int responseSize;
+
+  private final byte[] fullResponse;
+  private final byte[] headResponse;
+  private final LongAdder servedRequests = new LongAdder();
+  private final Set<Socket> connections = ConcurrentHashMap.newKeySet();
+
+  private volatile boolean running;
+  private ServerSocket serverSocket;
+  private ExecutorService executor;
+
+  private LoopbackTargetServer(Builder builder) {
+    this.bindAddress = builder.bindAddress;
+    this.requestedPort = builder.port;
+    this.baseDelayNanos = builder.baseDelay.toNanos();
+    this.jitterNanos = builder.jitter.toNanos();
+    this.responseSize = builder.responseSize;
+
+    byte[] body = new byte[responseSize];
+    Arrays.fill(body, (byte) 'x');
+    byte[] header = ("HTTP/1.1 200 OK\r\n"
+        + "Content-Type: application/octet-stream\r\n"
+        + "Content-Length: " + responseSize + "\r\n"
+        + "\r\n").getBytes(StandardCharsets.US_ASCII);
+
+    this.headResponse = header;
+    this.fullResponse = Arrays.copyOf(header, header.length + body.length);
+    System.arraycopy(body, 0, fullResponse, header.length, body.length);
+  }
+
+  /**
+   * 새로운 Builder 인스턴스를 생성한다.
+   *
+   * @return 새로운 {@link Builder} 인스턴스
+   */
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * 서버를 시작한다.
+   *
+   * @return this
+   * @throws IOException 소켓 바인딩에 실패한 경우
+   * @throws IllegalStateException 이미 시작된 경우
+   */
+  public synchronized LoopbackTargetServer start() throws IOException {
+    if (running) {
+      throw new IllegalStateException("Server already started");
+    }
+    serverSocket = new ServerSocket();
+    serverSocket.setReuseAddress(true);
+    serverSocket.bind(new InetSocketAddress(bindAddress, requestedPort), BACKLOG);
+
+    executor = Executors.newVirtualThreadPerTaskExecutor();
+    running = true;
+    executor.submit(this::acceptLoop);
+    return this;
+  }
+
+  /**
+   * 실제 바인딩된 포트를 반환한다.
+   *
+   * @return 포트 번호
+   */
+  public int port() {
+    return serverSocket.getLocalPort();
+  }
+
+  /**
+   * 서버 루트 URL을 반환한다.
+   *
+   * @return {@code http://host:port/} 형식의 URL
+   */
+  public String url() {
+    return url("/");
+  }
+
+  /**
+   * 지정된 경로에 대한 URL을 반환한다.
+   *
+   * @param path 요청 경로 ({@code /}로 시작)
+   * @return {@code http://host:port/path} 형식의 URL
+   */
+  public String url(String path) {
+    return "http://" + bindAddress.getHostAddress() + ":" + port() + path;
+  }
+
+  /**
+   * 지금까지 응답한 요청 수를 반환한다.
+   *
+   * @return 처리한 요청 수
+   */
+  public long servedRequests() {
+    return servedRequests.sum();
+  }
+
+  /**
+   * 설정된 응답 본문 크기를 반환한다.
+   *
+   * @return 응답 본문 크기 (바이트)
+   */
+  public int responseSize() {
+    return responseSize;
+  }
+
+  /**
+   * 설정된 지연 시간을 사람이 읽을 수 있는 형태로 반환한다.
+   *
+   * @return 지연 설명 (예: {@code 0ms}, {@code 5ms}, {@code 1-5ms})
+   */
+  public String delayDescription() {
+    double base = baseDelayNanos / 1_000_000.0;
+    if (jitterNanos == 0) {
+      return String.format(Locale.ROOT, "%.0fms", base);
+    }
+    return String.format(Locale.ROOT, "%.0f-%.0fms", base, base + jitterNanos / 1_000_000.0);
+  }
+
+  /**
+   * 서버를 종료한다.
+   *
+   * <p>리스닝 소켓과 열린 모든 연결을 닫고 처리 스레드를 중단시킨다.
+   */
+  @Override
+  public synchronized void close() {
+    if (!running) {
+      return;
+    }
+    running = false;
+    closeQuietly(serverSocket);
+    connections.forEach(LoopbackTargetServer::closeQuietly);
+    executor.shutdownNow();
+  }
+
+  /**
+   * 연결 수락 루프. 연결마다 Virtual Thread를 하나씩 할당한다.
+   */
+  private void acceptLoop() {
+    while (running) {
+      try {
+        Socket socket = serverSocket.accept();
+        socket.setTcpNoDelay(true);
+        connections.add(socket);
+        executor.submit(() -> handleConnection(socket));
+      } catch (IOException e) {
+        if (!running) {
+          return;
+        }
+      } catch (java.util.concurrent.RejectedExecutionException e) {
+        return;
+      }
+    }
+  }
+
+  /**
+   * 하나의 keep-alive 연결에서 요청을 반복 처리한다.
+   *
+   * @param socket 클라이언트 소켓
+   */
+  private void handleConnection(Socket socket) {
+    try (socket;
+         InputStream in = new BufferedInputStream(socket.getInputStream());
+         OutputStream out = new BufferedOutputStream(socket.getOutputStream(), fullResponse.length)) {
+
+      while (running) {
+        String requestLine = readLine(in);
+        if (requestLine == null) {
+          return;
+        }
+        if (requestLine.isEmpty()) {
+          continue;
+        }
+
+        boolean head = requestLine.startsWith("HEAD ");
+        boolean keepAlive = !requestLine.endsWith("HTTP/1.0");
+        long contentLength = 0;
+
+        String line;
+        while ((line = readLine(in)) != null && !line.isEmpty()) {
+          int colon = line.indexOf(':');
+          if (colon <= 0) {
+            continue;
+          }
+          String name = line.substring(0, colon).trim();
+          String value = line.substring(colon + 1).trim();
+          if (name.equalsIgnoreCase("Content-Length")) {
+            contentLength = Long.parseLong(value);
+          } else if (name.equalsIgnoreCase("Connection")) {
+            keepAlive = !value.equalsIgnoreCase("close");
+          }
+        }
+        if (line == null) {
+          return;
+        }
+
+        skipFully(in, contentLength);
+        applyDelay();
+
+        out.write(head ? headResponse : fullResponse);
+        out.flush();
+        servedRequests.increment();
+
+        if (!keepAlive) {
+          return;
+        }
+      }
+    } catch (IOException | NumberFormatException e) {
+      // 연결 종료 또는 잘못된 요청 - 연결을 닫는다
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } finally {
+      connections.remove(socket);
+    }
+  }
+
+  /**
+   * 설정된 지연 시간만큼 대기한다.
+   */
+  private void applyDelay() throws InterruptedException {
+    long delay = baseDelayNanos;
+    if (jitterNanos > 0) {
+      delay += ThreadLocalRandom.current().nextLong(jitterNanos + 1);
+    }
+    if (delay > 0) {
+      TimeUnit.NANOSECONDS.sleep(delay);
+    }
+  }
+
+  /**
+   * CRLF로 끝나는 한 줄을 ASCII로 읽는다.
+   *
+   * @return 읽은 줄 (CRLF 제외), 스트림 끝이면 null
+   */
+  private static String readLine(InputStream in) throws IOException {
+    StringBuilder sb = new StringBuilder(64);
+    int b;
+    while ((b = in.read()) != -1) {
+      if (b == '\n') {
+        int length = sb.length();
+        if (length > 0 && sb.charAt(length - 1) == '\r') {
+          sb.setLength(length - 1);
+        }
+        return sb.toString();
+      }
+      if (sb.length() >= MAX_LINE_LENGTH) {
+        throw new IOException("Header line too long");
+      }
+      sb.append((char) b);
+    }
+    return sb.isEmpty() ? null : sb.toString();
+  }
+
+  private static void skipFully(InputStream in, long count) throws IOException {
+    long remaining = count;
+    while (remaining > 0) {
+      long skipped = in.skip(remaining);
+      if (skipped <= 0) {
+        if (in.read() == -1) {
+          throw new IOException("Unexpected end of request body");
+        }
+        skipped = 1;
+      }
+      remaining -= skipped;
+    }
+  }
+
+  private static void closeQuietly(AutoCloseable closeable) {
+    try {
+      if (closeable != null) {
+        closeable.close();
+      }
+    } catch (Exception ignored) {
+      // 종료 중 오류는 무시
+    }
+  }
+
+  /**
+   * {@link LoopbackTargetServer} 인스턴스를 생성하기 위한 빌더 클래스.
+   *
+   * @author junhyeong9812
+   * @since 1.1.0
+   */
+  public static class Builder {
+
+    private InetAddress bindAddress = InetAddress.getLoopbackAddress();
+    private int port = 0;
+    private Duration baseDelay = Duration.ZERO;
+    private Duration jitter = Duration.ZERO;
+    private int responseSize = 128;
+
+    /**
+     * 바인딩할 주소를 설정한다.
+     *
+     * @param bindAddress 바인딩 주소 (기본값: 루프백)
+     * @return this
+     */
+    public Builder bindAddress(InetAddress bindAddress) {
+      this.bindAddress = bindAddress;
+      return this;
+    }
+
+    /**
+     * 바인딩할 포트를 설정한다.
+     *
+     * @param port 포트 번호 (기본값: 0 - 임의 포트)
+     * @return this
+     */
+    public Builder port(int port) {
+      this.port = port;
+      return this;
+    }
+
+    /**
+     * 고정 응답 지연을 설정한다.
+     *
+     * @param delay 응답 전 지연 시간 (기본값: 0)
+     * @return this
+     */
+    public Builder delay(Duration delay) {
+      return delay(delay, Duration.ZERO);
+    }
+
+    /**
+     * 랜덤 응답 지연을 설정한다.
+     *
+     * <p>각 요청은 [base, base + jitter] 구간에서 균등 분포로 지연된다.
+     *
+     * @param base   최소 지연 시간
+     * @param jitter 추가 랜덤 지연의 최대값
+     * @return this
+     */
+    public Builder delay(Duration base, Duration jitter) {
+      this.baseDelay = base;
+      this.jitter = jitter;
+      return this;
+    }
+
+    /**
+     * 응답 본문 크기를 설정한다.
+     *
+     * @param responseSize 응답 본문 크기 (바이트, 기본값: 128)
+     * @return this
+     */
+    public Builder responseSize(int responseSize) {
+      this.responseSize = responseSize;
+      return this;
+    }
+
+    /**
+     * 설정된 값으로 {@link LoopbackTargetServer} 인스턴스를 생성한다.
+     *
+     * <p>생성된 서버는 {@link LoopbackTargetServer#start()}를 호출해야 요청을 받는다.
+     *
+     * @return 새로운 LoopbackTargetServer 인스턴스
+     * @throws IllegalArgumentException 유효성 검증 실패 시
+     */
+    public LoopbackTargetServer build() {
+      if (baseDelay.isNegative() || jitter.isNegative()) {
+        throw new IllegalArgumentException("Delay must be >= 0");
+      }
+      if (responseSize < 0) {
+        throw new IllegalArgumentException("Response size must be >= 0");
+      }
+      return new LoopbackTargetServer(this);
+    }
+  }
+}
@@ -0,0 +1,204 @@
+package io.github.junhyeong9812.overload.core.callback;
+
+import io.github.junhyeong9812.overload.core.config.OverflowPolicy;
+import io.github.junhyeong9812.overload.core.config.ProgressDispatchConfig;
+import io.github.junhyeong9812.overload.core.http.domain.RequestResult;
+
+import java.lang.System.Logger;
+import java.lang.System.Logger.Level;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 진행 이벤트를 링 버퍼에 모아 별도 스레드에서 배치로 전달하는 {@link ProgressCallback}.
+ *
+ * <p>요청 처리 스레드에서 호출되는 {@link #onProgress}는 이벤트 하나를 lock-free 링 버퍼에
+ * 넣고 바로 반환한다. 전용 데몬 스레드 하나가 버퍼를 비우며 대상 콜백의
+ * {@link ProgressCallback#onProgressBatch(List)}를 호출하므로, 콘솔 출력이나 로그 변환 같은
+ * 느린 콜백이 부하 생성 경로에 포함되지 않는다.
+ *
+ * <p>버퍼가 가득 찼을 때는 {@link OverflowPolicy}에 따라 이벤트를 버리거나, 표본만 남기거나,
+ * 자리가 날 때까지 대기한다. 마지막 요청의 이벤트({@code completed == total})는 정책과 관계없이
+ * 대기해서라도 전달하므로 진행률은 항상 100%에 도달한다. 버린 이벤트 수는
+ * {@link #getDropped()}로 확인한다.
+ *
+ * <p><b>사용 흐름:</b>
+ * <ol>
+ *   <li>{@link #start()} - 소비 스레드 시작</li>
+ *   <li>엔진 실행 - 요청 스레드가 {@link #onProgress} 호출</li>
+ *   <li>{@link #close()} - 남은 이벤트를 모두 전달하고 소비 스레드 종료</li>
+ * </ol>
+ *
+ * @author junhyeong9812
+ * @since 1.1.0
+ * @see ProgressDispatchConfig
+ */
+public class AsyncProgressDispatcher implements ProgressCallback, AutoCloseable {
+
+  private static final Logger logger = System.getLogger(AsyncProgressDispatcher.class.getName());
+
+  /** 버퍼가 비었을 때 소비 스레드가 쉬는 시간 */
+  private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+  /** BLOCK 정책에서 자리가 날 때까지 생산자가 쉬는 시간 */
+  private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+  private final ProgressCallback delegate;
+  private final ProgressDispatchConfig config;
+  private final MpscRingBuffer<ProgressEvent> buffer;
+  private final int pressureThreshold;
+  private final AtomicLong sampleCounter = new AtomicLong();
+  private final LongAdder dropped = new LongAdder();
+  private final LongAdder delivered = new LongAdder();
+
+  private volatile boolean closed;
+  private Thread consumer;
+
+  /**
+   * AsyncProgressDispatcher를 생성한다.
+   *
+   * @param delegate 배치를 전달받을 콜백
+   * @param config   비동기 전달 설정
+   */
+  public AsyncProgressDispatcher(ProgressCallback delegate, ProgressDispatchConfig config) {
+    this.delegate = Objects.requireNonNull(delegate, "delegate");
+    this.config = Objects.requireNonNull(config, "config");
+    this.buffer = new MpscRingBuffer<>(config.capacity());
+    this.pressureThreshold = buffer.capacity() / 2;
+  }
+
+  /**
+   * 소비 스레드를 시작한다.
+   *
+   * @return this
+   */
+  public synchronized AsyncProgressDispatcher start() {
+    if (consumer == null) {
+      consumer = new Thread(this::drainLoop, "overload-progress-dispatcher");
+      consumer.setDaemon(true);
+      consumer.start();
+    }
+    return this;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>이벤트를 버퍼에 넣고 바로 반환한다. 버퍼가 가득 찬 경우의 동작은
+   * 설정된 {@link OverflowPolicy}를 따른다.
+   */
+  @Override
+  public void onProgress(int completed, int total, RequestResult result) {
+    ProgressEvent event = new ProgressEvent(completed, total, result);
+    boolean last = completed >= total;
+    OverflowPolicy policy = last ? OverflowPolicy.BLOCK : config.overflowPolicy();
+
+    if (policy == OverflowPolicy.SAMPLE && buffer.size() >= pressureThreshold
+        && sampleCounter.incrementAndGet() % config.sampleEvery() != 0) {
+      dropped.increment();
+      return;
+    }
+    while (!buffer.offer(event)) {
+      if (policy != OverflowPolicy.BLOCK || closed) {
+        dropped.increment();
+        return;
+      }
+      LockSupport.parkNanos(BLOCK_PARK_NANOS);
+    }
+  }
+
+  /**
+   * 남은 이벤트를 모두 전달하고 소비 스레드를 종료한다.
+   *
+   * <p>더 이상 {@link #onProgress}가 호출되지 않는 시점(엔진 종료 후)에 호출해야 한다.
+   */
+  @Override
+  public synchronized void close() {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    if (consumer == null) {
+      drainAll();
+    } else {
+      LockSupport.unpark(consumer);
+      try {
+        consumer.join();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+    long droppedCount = dropped.sum();
+    if (droppedCount > 0) {
+      logger.log(Level.WARNING,
+          "Progress callback could not keep up; {0} of {1} events dropped ({2} policy)",
+          droppedCount, droppedCount + delivered.sum(), config.overflowPolicy());
+    }
+  }
+
+  /**
+   * 버퍼가 가득 차서 버려진 이벤트 수를 반환한다.
+   *
+   * @return 버린 이벤트 수
+   */
+  public long getDropped() {
+    return dropped.sum();
+  }
+
+  /**
+   * 대상 콜백에 전달된 이벤트 수를 반환한다.
+   *
+   * @return 전달된 이벤트 수
+   */
+  public long getDelivered() {
+    return delivered.sum();
+  }
+
+  /**
+   * 종료될 때까지 버퍼를 배치 단위로 비운다.
+   */
+  private void drainLoop() {
+    List<ProgressEvent> batch = new ArrayList<>(config.batchSize());
+    while (true) {
+      if (drainBatch(batch) == 0) {
+        if (closed && buffer.size() == 0) {
+          return;
+        }
+        LockSupport.parkNanos(IDLE_PARK_NANOS);
+      }
+    }
+  }
+
+  private void drainAll() {
+    List<ProgressEvent> batch = new ArrayList<>(config.batchSize());
+    while (drainBatch(batch) > 0) {
+      // 버퍼가 빌 때까지 반복
+    }
+  }
+
+  /**
+   * 한 배치를 꺼내 대상 콜백에 전달한다.
+   *
+   * <p>콜백 예외는 기록만 하고 다음 배치 전달에 영향을 주지 않는다.
+   */
+  private int drainBatch(List<ProgressEvent> batch) {
+    int count = buffer.drain(batch::add, config.batchSize());
+    if (count == 0) {
+      return 0;
+    }
+    try {
+      delegate.onProgressBatch(batch);
+    } catch (RuntimeException e) {
+      logger.log(Level.WARNING, "Progress callback failed: {0}", e.toString());
+    } finally {
+      delivered.add(count);
+      batch.clear();
+    }
+    return count;
+  }
+}
\ No newline at end of file
@@ -0,0 +1,111 @@
+package io.github.junhyeong9812.overload.core.callback;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * 다중 생산자 / 단일 소비자용 고정 크기 lock-free 링 버퍼.
+ *
+ * <p>칸마다 시퀀스 번호를 두는 방식으로, 생산자는 {@code tail}을 CAS로 한 칸 전진시켜
+ * 자리를 확보한 뒤 값을 쓰고 시퀀스를 공개한다. 소비자는 하나뿐이므로 {@code head}는
+ * 소비자만 갱신한다. 가득 찬 경우 {@link #offer(Object)}는 대기하지 않고 {@code false}를 반환한다.
+ *
+ * @param <E> 원소 타입
+ * @author junhyeong9812
+ * @since 1.1.0
+ */
+final class MpscRingBuffer<E> {
+
+  private final int mask;
+  private final AtomicReferenceArray<E> elements;
+  private final AtomicLongArray sequences;
+  private final AtomicLong tail = new AtomicLong();
+  private final AtomicLong head = new AtomicLong();
+
+  /**
+   * MpscRingBuffer를 생성한다.
+   *
+   * @param capacity 최소 크기 (2의 거듭제곱으로 올림)
+   */
+  MpscRingBuffer(int capacity) {
+    int size = capacity <= 2 ? 2 : Integer.highestOneBit(capacity - 1) << 1;
+    this.mask = size - 1;
+    this.elements = new AtomicReferenceArray<>(size);
+    this.sequences = new AtomicLongArray(size);
+    for (int i = 0; i < size; i++) {
+      sequences.set(i, i);
+    }
+  }
+
+  /**
+   * 원소를 넣는다. 여러 스레드에서 동시에 호출 가능하다.
+   *
+   * @param element 넣을 원소
+   * @return 넣었으면 {@code true}, 가득 찼으면 {@code false}
+   */
+  boolean offer(E element) {
+    long position = tail.get();
+    while (true) {
+      int index = (int) (position & mask);
+      long difference = sequences.get(index) - position;
+      if (difference == 0) {
+        if (tail.compareAndSet(position, position + 1)) {
+          elements.lazySet(index, element);
+          sequences.lazySet(index, position + 1);
+          return true;
+        }
+        position = tail.get();
+      } else if (difference < 0) {
+        return false;
+      } else {
+        position = tail.get();
+      }
+    }
+  }
+
+  /**
+   * 최대 {@code limit}개를 꺼내 전달한다. 소비자 스레드 하나에서만 호출해야 한다.
+   *
+   * @param sink  꺼낸 원소를 받을 함수
+   * @param limit 최대 개수
+   * @return 꺼낸 원소 수
+   */
+  int drain(Consumer<? super E> sink, int limit) {
+    long position = head.get();
+    int count = 0;
+    while (count < limit) {
+      int index = (int) (position & mask);
+      if (sequences.get(index) != position + 1) {
+        break;
+      }
+      E element = elements.get(index);
+      elements.lazySet(index, null);
+      sequences.lazySet(index, position + mask + 1);
+      position++;
+      count++;
+      sink.accept(element);
+    }
+    head.lazySet(position);
+    return count;
+  }
+
+  /**
+   * 현재 원소 수의 근사치를 반환한다.
+   *
+   * @return 버퍼에 남은 원소 수
+   */
+  int size() {
+    return (int) Math.max(0, tail.get() - head.get());
+  }
+
+  /**
+   * 버퍼 크기를 반환한다.
+   *
+   * @return 2의 거듭제곱으로 올린 크기
+   */
+  int capacity() {
+    return mask + 1;
+  }
+}
\ No newline at end of file
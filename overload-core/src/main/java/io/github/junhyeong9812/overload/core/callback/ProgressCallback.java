@@ -2,6 +2,8 @@ package io.github.junhyeong9812.overload.core.callback;
 
 import io.github.junhyeong9812.overload.core.http.domain.RequestResult;
 
+import java.util.List;
+
 /**
  * 부하 테스트 진행 상황을 콜백으로 전달하는 함수형 인터페이스.
  *
@@ -45,6 +47,24 @@ public interface ProgressCallback {
    */
   void onProgress(int completed, int total, RequestResult result);
 
+  /**
+   * 여러 요청의 완료를 한 번에 전달받는 콜백 메서드.
+   *
+   * <p>{@link AsyncProgressDispatcher}를 통한 비동기 전달에서 소비 스레드가 호출한다.
+   * 기본 구현은 이벤트마다 {@link #onProgress}를 호출하며, 마지막 진행률만 필요한
+   * 콜백(프로그레스 바 등)은 재정의하여 배치당 한 번만 처리할 수 있다.
+   *
+   * <p>전달된 리스트는 호출 중에만 유효하며, 호출이 끝나면 재사용된다.
+   *
+   * @param events 완료 이벤트 목록 (비어 있지 않음)
+   * @since 1.1.0
+   */
+  default void onProgressBatch(List<ProgressEvent> events) {
+    for (ProgressEvent event : events) {
+      onProgress(event.completed(), event.total(), event.result());
+    }
+  }
+
   /**
    * 진행률을 백분율로 계산한다.
    *
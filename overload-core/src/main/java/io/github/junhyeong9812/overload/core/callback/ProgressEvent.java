@@ -0,0 +1,23 @@
+package io.github.junhyeong9812.overload.core.callback;
+
+import io.github.junhyeong9812.overload.core.http.domain.RequestResult;
+
+/**
+ * 한 요청의 완료를 알리는 진행 이벤트.
+ *
+ * <p>{@link ProgressCallback#onProgressBatch(java.util.List)}로 묶어서 전달된다.
+ * 비동기 전달에서는 완료 순서와 배치 내 순서가 정확히 일치하지 않을 수 있다.
+ *
+ * @param completed 완료 시점까지 완료된 요청 수 (1부터 시작)
+ * @param total     전체 요청 수
+ * @param result    개별 요청 결과
+ *
+ * @author junhyeong9812
+ * @since 1.1.0
+ */
+public record ProgressEvent(
+    int completed,
+    int total,
+    RequestResult result
+) {
+}
\ No newline at end of file
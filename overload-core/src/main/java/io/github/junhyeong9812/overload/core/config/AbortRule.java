@@ -0,0 +1,219 @@
+package io.github.junhyeong9812.overload.core.config;
+
+import io.github.junhyeong9812.overload.core.metric.domain.IntervalStats;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 실행 중 구간 통계로 평가되는 조기 중단 규칙.
+ *
+ * <p>규칙이 발동하면 테스트를 취소하고 진행 중 요청을 중단하며,
+ * 그때까지의 부분 결과를 중단 사유와 함께 반환한다.
+ * 평가는 구간 보고 스레드에서 수행되므로 요청 처리 경로에 비용이 없다.
+ *
+ * <p><b>제공 규칙:</b>
+ * <ul>
+ *   <li>{@link #errorRateAbove(double, Duration)} - 윈도우 전체의 오류율이 기준 초과</li>
+ *   <li>{@link #p99Above(Duration, Duration)} - 윈도우 내 모든 구간의 p99가 기준 초과</li>
+ *   <li>{@link #connectionRefused(long, Duration)} - 윈도우 내 연결 거부 수가 기준 이상</li>
+ * </ul>
+ *
+ * <p><b>사용 예시:</b>
+ * <pre>{@code
+ * LoadTestConfig config = LoadTestConfig.builder()
+ *     .url("https://staging.example.com/api")
+ *     .abortRule(AbortRule.errorRateAbove(0.2, Duration.ofSeconds(10)))
+ *     .abortRule(AbortRule.p99Above(Duration.ofSeconds(2), Duration.ofSeconds(10)))
+ *     .abortRule(AbortRule.connectionRefused(10, Duration.ofSeconds(5)))
+ *     .build();
+ * }</pre>
+ *
+ * @author junhyeong9812
+ * @since 1.1.0
+ */
+public sealed interface AbortRule
+    permits AbortRule.ErrorRate, AbortRule.P99Latency, AbortRule.ConnectionRefused {
+
+  /**
+   * 규칙이 평가하는 윈도우 길이를 반환한다.
+   *
+   * @return 윈도우 길이
+   */
+  Duration window();
+
+  /**
+   * 최근 구간 통계로 규칙을 평가한다.
+   *
+   * @param recent 오래된 순으로 정렬된 최근 구간 통계
+   * @return 발동 시 중단 사유, 발동하지 않으면 null
+   */
+  String evaluate(List<IntervalStats> recent);
+
+  /**
+   * 오류율 규칙을 생성한다.
+   *
+   * @param maxErrorRate 허용 오류율 (0.0 ~ 1.0)
+   * @param window       평가 윈도우
+   * @return 오류율 규칙
+   */
+  static AbortRule errorRateAbove(double maxErrorRate, Duration window) {
+    return new ErrorRate(maxErrorRate, window);
+  }
+
+  /**
+   * p99 지연 규칙을 생성한다.
+   *
+   * @param maxP99 허용 p99 지연
+   * @param window 평가 윈도우 - 이 기간 동안 계속 초과해야 발동
+   * @return p99 지연 규칙
+   */
+  static AbortRule p99Above(Duration maxP99, Duration window) {
+    return new P99Latency(maxP99, window);
+  }
+
+  /**
+   * 연결 거부 규칙을 생성한다.
+   *
+   * @param minRefused 발동 기준 연결 거부 수
+   * @param window     평가 윈도우
+   * @return 연결 거부 규칙
+   */
+  static AbortRule connectionRefused(long minRefused, Duration window) {
+    return new ConnectionRefused(minRefused, window);
+  }
+
+  /**
+   * 윈도우 전체의 오류율이 기준을 넘으면 발동하는 규칙.
+   *
+   * @param maxErrorRate 허용 오류율 (0.0 ~ 1.0)
+   * @param window       평가 윈도우
+   */
+  record ErrorRate(double maxErrorRate, Duration window) implements AbortRule {
+
+    /**
+     * Compact constructor - 유효성 검증 수행.
+     */
+    public ErrorRate {
+      if (maxErrorRate < 0 || maxErrorRate >= 1) {
+        throw new IllegalArgumentException("Max error rate must be in [0, 1)");
+      }
+      validateWindow(window);
+    }
+
+    @Override
+    public String evaluate(List<IntervalStats> recent) {
+      List<IntervalStats> tail = tail(recent, window);
+      if (!covers(tail, window)) {
+        return null;
+      }
+      long requests = tail.stream().mapToLong(IntervalStats::requests).sum();
+      long failures = tail.stream().mapToLong(IntervalStats::failures).sum();
+      if (requests == 0 || (double) failures / requests <= maxErrorRate) {
+        return null;
+      }
+      return String.format("error rate %.1f%% > %.1f%% over %ds",
+          (double) failures / requests * 100, maxErrorRate * 100, window.toSeconds());
+    }
+  }
+
+  /**
+   * 윈도우 내 모든 구간의 p99가 기준을 넘으면 발동하는 규칙.
+   *
+   * <p>구간 요약으로는 윈도우 전체의 p99를 정확히 합칠 수 없으므로,
+   * 일시적 스파이크가 아닌 지속적 초과만 감지하도록 모든 구간을 검사한다.
+   *
+   * @param maxP99 허용 p99 지연
+   * @param window 평가 윈도우
+   */
+  record P99Latency(Duration maxP99, Duration window) implements AbortRule {
+
+    /**
+     * Compact constructor - 유효성 검증 수행.
+     */
+    public P99Latency {
+      Objects.requireNonNull(maxP99, "Max p99 is required");
+      validateWindow(window);
+    }
+
+    @Override
+    public String evaluate(List<IntervalStats> recent) {
+      List<IntervalStats> tail = tail(recent, window);
+      if (!covers(tail, window)) {
+        return null;
+      }
+      long limitMicros = maxP99.toNanos() / 1_000;
+      boolean sustained = tail.stream()
+          .filter(stats -> stats.requests() > 0)
+          .allMatch(stats -> stats.p99Micros() > limitMicros);
+      boolean hasTraffic = tail.stream().anyMatch(stats -> stats.requests() > 0);
+      if (!hasTraffic || !sustained) {
+        return null;
+      }
+      return String.format("p99 above %dms for %ds (last %dms)",
+          maxP99.toMillis(), window.toSeconds(), tail.get(tail.size() - 1).p99Ms());
+    }
+  }
+
+  /**
+   * 윈도우 내 연결 거부 수가 기준 이상이면 발동하는 규칙.
+   *
+   * <p>대상이 내려간 경우 즉시 멈추도록 윈도우가 다 차지 않아도 평가한다.
+   *
+   * @param minRefused 발동 기준 연결 거부 수
+   * @param window     평가 윈도우
+   */
+  record ConnectionRefused(long minRefused, Duration window) implements AbortRule {
+
+    /**
+     * Compact constructor - 유효성 검증 수행.
+     */
+    public ConnectionRefused {
+      if (minRefused < 1) {
+        throw new IllegalArgumentException("Min refused must be >= 1");
+      }
+      validateWindow(window);
+    }
+
+    @Override
+    public String evaluate(List<IntervalStats> recent) {
+      long refused = tail(recent, window).stream().mapToLong(IntervalStats::refused).sum();
+      if (refused < minRefused) {
+        return null;
+      }
+      return String.format("target refused %d connections within %ds",
+          refused, window.toSeconds());
+    }
+  }
+
+  private static void validateWindow(Duration window) {
+    Objects.requireNonNull(window, "Window is required");
+    if (window.isNegative() || window.isZero()) {
+      throw new IllegalArgumentException("Window must be positive");
+    }
+  }
+
+  /**
+   * 최근 구간 중 윈도우 길이를 덮는 마지막 구간들을 반환한다.
+   */
+  private static List<IntervalStats> tail(List<IntervalStats> recent, Duration window) {
+    long remaining = window.toNanos();
+    int from = recent.size();
+    while (from > 0 && remaining > 0) {
+      from--;
+      remaining -= recent.get(from).duration().toNanos();
+    }
+    return recent.subList(from, recent.size());
+  }
+
+  /**
+   * 구간들이 윈도우 길이를 덮는지 확인한다.
+   *
+   * <p>보고 주기의 지터로 구간 길이가 조금씩 짧을 수 있으므로 5% 오차를 허용한다.
+   */
+  private static boolean covers(List<IntervalStats> tail, Duration window) {
+    long covered = tail.stream().mapToLong(stats -> stats.duration().toNanos()).sum();
+    return covered >= window.toNanos() - window.toNanos() / 20;
+  }
+}
@@ -0,0 +1,206 @@
+package io.github.junhyeong9812.overload.core.config;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * 적응형 동시성 제어 설정을 정의하는 불변(Immutable) 레코드.
+ *
+ * <p>설정하면 {@link LoadTestConfig#concurrency()}는 초기 동시성으로 사용되고,
+ * 실행 중 구간 통계(처리량, p99)에 따라 동시성을 조정하여
+ * 지연 SLO를 만족하는 최대 동시성을 찾는다.
+ *
+ * <p><b>기본값:</b>
+ * <ul>
+ *   <li>{@code maxErrorRate} - 0.01</li>
+ *   <li>{@code minConcurrency} - 1</li>
+ *   <li>{@code maxConcurrency} - 10,000</li>
+ *   <li>{@code backoffRatio} - 0.75</li>
+ *   <li>{@code increaseStep} - 0 (자동: 현재 동시성의 5%, 최소 1)</li>
+ *   <li>{@code settleIntervals} - 1</li>
+ * </ul>
+ *
+ * <p><b>사용 예시:</b>
+ * <pre>{@code
+ * LoadTestConfig config = LoadTestConfig.builder()
+ *     .url("https://api.example.com")
+ *     .concurrency(8)
+ *     .totalRequests(500_000)
+ *     .adaptiveConcurrency(AdaptiveConcurrencyConfig.builder()
+ *         .p99Slo(Duration.ofMillis(200))
+ *         .maxConcurrency(2_000)
+ *         .build())
+ *     .build();
+ * }</pre>
+ *
+ * @param p99Slo          p99 지연 SLO (필수)
+ * @param maxErrorRate    허용 오류율 (0.0 ~ 1.0)
+ * @param minConcurrency  최소 동시성
+ * @param maxConcurrency  최대 동시성
+ * @param backoffRatio    SLO 위반 시 동시성 감소 비율 (0.0 ~ 1.0 사이, 배수)
+ * @param increaseStep    SLO 만족 시 동시성 증가량 (0이면 자동)
+ * @param settleIntervals 동시성 변경 직후 평가하지 않고 건너뛸 구간 수
+ *
+ * @author junhyeong9812
+ * @since 1.1.0
+ */
+public record AdaptiveConcurrencyConfig(
+    Duration p99Slo,
+    double maxErrorRate,
+    int minConcurrency,
+    int maxConcurrency,
+    double backoffRatio,
+    int increaseStep,
+    int settleIntervals
+) {
+
+  /**
+   * Compact constructor - 유효성 검증 수행.
+   *
+   * @throws NullPointerException     p99Slo가 null인 경우
+   * @throws IllegalArgumentException 유효성 검증 실패 시
+   */
+  public AdaptiveConcurrencyConfig {
+    Objects.requireNonNull(p99Slo, "P99 SLO is required");
+    if (p99Slo.isNegative() || p99Slo.isZero()) {
+      throw new IllegalArgumentException("P99 SLO must be positive");
+    }
+    if (maxErrorRate < 0 || maxErrorRate > 1) {
+      throw new IllegalArgumentException("Max error rate must be between 0 and 1");
+    }
+    if (minConcurrency < 1) {
+      throw new IllegalArgumentException("Min concurrency must be >= 1");
+    }
+    if (maxConcurrency < minConcurrency) {
+      throw new IllegalArgumentException("Max concurrency must be >= min concurrency");
+    }
+    if (backoffRatio <= 0 || backoffRatio >= 1) {
+      throw new IllegalArgumentException("Backoff ratio must be between 0 and 1 (exclusive)");
+    }
+    if (increaseStep < 0) {
+      throw new IllegalArgumentException("Increase step must be >= 0");
+    }
+    if (settleIntervals < 0) {
+      throw new IllegalArgumentException("Settle intervals must be >= 0");
+    }
+  }
+
+  /**
+   * 새로운 Builder 인스턴스를 생성한다.
+   *
+   * @return 새로운 {@link Builder} 인스턴스
+   */
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * {@link AdaptiveConcurrencyConfig} 인스턴스를 생성하기 위한 빌더 클래스.
+   *
+   * @author junhyeong9812
+   * @since 1.1.0
+   */
+  public static class Builder {
+
+    private Duration p99Slo;
+    private double maxErrorRate = 0.01;
+    private int minConcurrency = 1;
+    private int maxConcurrency = 10_000;
+    private double backoffRatio = 0.75;
+    private int increaseStep = 0;
+    private int settleIntervals = 1;
+
+    /**
+     * p99 지연 SLO를 설정한다.
+     *
+     * @param p99Slo 구간 p99가 넘지 않아야 할 지연 시간 (필수)
+     * @return this
+     */
+    public Builder p99Slo(Duration p99Slo) {
+      this.p99Slo = p99Slo;
+      return this;
+    }
+
+    /**
+     * 허용 오류율을 설정한다.
+     *
+     * @param maxErrorRate 구간 오류율 상한 (기본값: 0.01)
+     * @return this
+     */
+    public Builder maxErrorRate(double maxErrorRate) {
+      this.maxErrorRate = maxErrorRate;
+      return this;
+    }
+
+    /**
+     * 최소 동시성을 설정한다.
+     *
+     * @param minConcurrency 최소 동시성 (기본값: 1)
+     * @return this
+     */
+    public Builder minConcurrency(int minConcurrency) {
+      this.minConcurrency = minConcurrency;
+      return this;
+    }
+
+    /**
+     * 최대 동시성을 설정한다.
+     *
+     * @param maxConcurrency 최대 동시성 (기본값: 10,000)
+     * @return this
+     */
+    public Builder maxConcurrency(int maxConcurrency) {
+      this.maxConcurrency = maxConcurrency;
+      return this;
+    }
+
+    /**
+     * SLO 위반 시 동시성 감소 비율을 설정한다.
+     *
+     * @param backoffRatio 현재 동시성에 곱할 비율 (기본값: 0.75)
+     * @return this
+     */
+    public Builder backoffRatio(double backoffRatio) {
+      this.backoffRatio = backoffRatio;
+      return this;
+    }
+
+    /**
+     * SLO 만족 시 동시성 증가량을 설정한다.
+     *
+     * @param increaseStep 구간당 증가량, 0이면 현재 동시성의 5% (기본값: 0)
+     * @return this
+     */
+    public Builder increaseStep(int increaseStep) {
+      this.increaseStep = increaseStep;
+      return this;
+    }
+
+    /**
+     * 동시성 변경 직후 건너뛸 구간 수를 설정한다.
+     *
+     * <p>변경 직후 구간에는 이전 동시성으로 시작된 요청이 섞이므로 평가에서 제외한다.
+     *
+     * @param settleIntervals 건너뛸 구간 수 (기본값: 1)
+     * @return this
+     */
+    public Builder settleIntervals(int settleIntervals) {
+      this.settleIntervals = settleIntervals;
+      return this;
+    }
+
+    /**
+     * 설정된 값으로 {@link AdaptiveConcurrencyConfig} 인스턴스를 생성한다.
+     *
+     * @return 새로운 AdaptiveConcurrencyConfig 인스턴스
+     * @throws NullPointerException     p99Slo가 null인 경우
+     * @throws IllegalArgumentException 유효성 검증 실패 시
+     */
+    public AdaptiveConcurrencyConfig build() {
+      return new AdaptiveConcurrencyConfig(
+          p99Slo, maxErrorRate, minConcurrency, maxConcurrency,
+          backoffRatio, increaseStep, settleIntervals
+      );
+    }
+  }
+}
@@ -0,0 +1,153 @@
+package io.github.junhyeong9812.overload.core.config;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 대상 호스트의 여러 주소로 요청을 분산하는 설정을 정의하는 불변(Immutable) 레코드.
+ *
+ * <p>L4 로드 밸런서 뒤의 호스트 이름은 여러 IP로 해석되지만, JDK 기본 해석에 맡기면
+ * 연결이 한 주소에 몰릴 수 있다. 이 설정을 사용하면 호스트를 직접 해석해 {@code dnsTtl} 동안
+ * 캐시하고, 해석된 모든 주소에 {@link SpreadPolicy}에 따라 요청을 나눈다.
+ *
+ * <p><b>기본값:</b>
+ * <ul>
+ *   <li>{@code policy} - {@link SpreadPolicy#ROUND_ROBIN}</li>
+ *   <li>{@code dnsTtl} - 30초</li>
+ *   <li>{@code weights} - 빈 맵 (모든 주소 가중치 1)</li>
+ * </ul>
+ *
+ * <p><b>사용 예시:</b>
+ * <pre>{@code
+ * LoadTestConfig config = LoadTestConfig.builder()
+ *     .url("http://api.internal:8080/health")
+ *     .addressSpread(AddressSpreadConfig.builder()
+ *         .policy(SpreadPolicy.WEIGHTED)
+ *         .weight("10.0.0.11", 3)
+ *         .weight("10.0.0.12", 1)
+ *         .dnsTtl(Duration.ofSeconds(10))
+ *         .build())
+ *     .build();
+ * }</pre>
+ *
+ * @param policy  분산 방식
+ * @param dnsTtl  해석 결과를 캐시하는 시간
+ * @param weights 주소(IP 문자열)별 가중치 (불변, {@link SpreadPolicy#WEIGHTED}에서만 사용)
+ *
+ * @author junhyeong9812
+ * @since 1.1.0
+ */
+public record AddressSpreadConfig(
+    SpreadPolicy policy,
+    Duration dnsTtl,
+    Map<String, Integer> weights
+) {
+
+  /**
+   * Compact constructor - 유효성 검증 수행.
+   *
+   * @throws NullPointerException     policy 또는 dnsTtl이 null인 경우
+   * @throws IllegalArgumentException dnsTtl이 음수이거나 가중치가 1 미만인 경우
+   */
+  public AddressSpreadConfig {
+    Objects.requireNonNull(policy, "Spread policy is required");
+    Objects.requireNonNull(dnsTtl, "DNS TTL is required");
+    if (dnsTtl.isNegative()) {
+      throw new IllegalArgumentException("DNS TTL must not be negative");
+    }
+    weights = weights != null ? Map.copyOf(weights) : Map.of();
+    for (Map.Entry<String, Integer> entry : weights.entrySet()) {
+      if (entry.getValue() < 1) {
+        throw new IllegalArgumentException("Weight must be >= 1: " + entry.getKey());
+      }
+    }
+  }
+
+  /**
+   * 기본값(라운드 로빈, TTL 30초)으로 설정을 생성한다.
+   *
+   * @return 라운드 로빈 분산 설정
+   */
+  public static AddressSpreadConfig roundRobin() {
+    return builder().build();
+  }
+
+  /**
+   * 주소의 가중치를 반환한다.
+   *
+   * @param address IP 문자열
+   * @return 가중치, {@link SpreadPolicy#ROUND_ROBIN}이거나 지정하지 않았으면 1
+   */
+  public int weightOf(String address) {
+    return policy == SpreadPolicy.WEIGHTED ? weights.getOrDefault(address, 1) : 1;
+  }
+
+  /**
+   * 새로운 Builder 인스턴스를 생성한다.
+   *
+   * @return 새로운 {@link Builder} 인스턴스
+   */
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * {@link AddressSpreadConfig} 인스턴스를 생성하기 위한 빌더 클래스.
+   *
+   * @author junhyeong9812
+   * @since 1.1.0
+   */
+  public static class Builder {
+
+    private SpreadPolicy policy = SpreadPolicy.ROUND_ROBIN;
+    private Duration dnsTtl = Duration.ofSeconds(30);
+    private final Map<String, Integer> weights = new LinkedHashMap<>();
+
+    /**
+     * 분산 방식을 설정한다.
+     *
+     * @param policy 분산 방식 (기본값: ROUND_ROBIN)
+     * @return this
+     */
+    public Builder policy(SpreadPolicy policy) {
+      this.policy = policy;
+      return this;
+    }
+
+    /**
+     * 해석 결과 캐시 시간을 설정한다.
+     *
+     * @param dnsTtl 캐시 시간 (기본값: 30초, 0이면 요청마다 해석)
+     * @return this
+     */
+    public Builder dnsTtl(Duration dnsTtl) {
+      this.dnsTtl = dnsTtl;
+      return this;
+    }
+
+    /**
+     * 주소의 가중치를 설정한다.
+     *
+     * @param address IP 문자열 (예: {@code "10.0.0.11"})
+     * @param weight  가중치 (1 이상)
+     * @return this
+     */
+    public Builder weight(String address, int weight) {
+      this.weights.put(address, weight);
+      return this;
+    }
+
+    /**
+     * 설정된 값으로 {@link AddressSpreadConfig} 인스턴스를 생성한다.
+     *
+     * @return 새로운 AddressSpreadConfig 인스턴스
+     * @throws NullPointerException     필수 값이 null인 경우
+     * @throws IllegalArgumentException 유효성 검증 실패 시
+     */
+    public AddressSpreadConfig build() {
+      return new AddressSpreadConfig(policy, dnsTtl, weights);
+    }
+  }
+}
\ No newline at end of file
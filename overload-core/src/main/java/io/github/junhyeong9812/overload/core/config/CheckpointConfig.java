@@ -0,0 +1,89 @@
+package io.github.junhyeong9812.overload.core.config;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * 실행 중 메트릭 체크포인트 저장과 재개를 정의하는 불변(Immutable) 레코드.
+ *
+ * <p>설정하면 집계기 상태(요청 수, 지연 시간 히스토그램, 경과 시간, 워밍업 진행 상황)를
+ * {@code interval}마다 {@code path}에 저장한다. 파일은 임시 파일에 쓴 뒤 이름을 바꿔 교체하므로
+ * 저장 도중 프로세스가 죽어도 직전 체크포인트가 남는다.
+ *
+ * <p>{@code resume}이 설정되면 시작 시 체크포인트를 읽어 남은 요청만 실행하고, 이전 메트릭에
+ * 이어서 집계한다. 중단되어 있던 시간은 실행 시간과 RPS에 포함되지 않는다.
+ * 체크포인트에는 저장 시점의 총 요청 수가 기록되므로, 실행 중 총 요청 수를 조정했다면
+ * 조정된 값으로 재개해야 한다.
+ * 파일이 없으면 처음부터 실행하므로 재시작 스크립트에서 항상 켜 둘 수 있다.
+ *
+ * <p><b>사용 예시:</b>
+ * <pre>{@code
+ * LoadTestConfig config = LoadTestConfig.builder()
+ *     .url("https://api.example.com")
+ *     .concurrency(200)
+ *     .totalRequests(50_000_000)
+ *     .checkpoint(CheckpointConfig.of(Path.of("soak.ckpt")).resuming())
+ *     .build();
+ * }</pre>
+ *
+ * @param path     체크포인트 파일 경로
+ * @param interval 저장 주기
+ * @param resume   시작 시 체크포인트에서 재개할지 여부
+ *
+ * @author junhyeong9812
+ * @since 1.1.0
+ */
+public record CheckpointConfig(
+    Path path,
+    Duration interval,
+    boolean resume
+) {
+
+  /** 기본 저장 주기 */
+  public static final Duration DEFAULT_INTERVAL = Duration.ofSeconds(30);
+
+  /**
+   * Compact constructor - 유효성 검증 수행.
+   *
+   * @throws NullPointerException     path 또는 interval이 null인 경우
+   * @throws IllegalArgumentException interval이 0 이하인 경우
+   */
+  public CheckpointConfig {
+    Objects.requireNonNull(path, "Checkpoint path is required");
+    Objects.requireNonNull(interval, "Checkpoint interval is required");
+    if (interval.isNegative() || interval.isZero()) {
+      throw new IllegalArgumentException("Checkpoint interval must be positive");
+    }
+  }
+
+  /**
+   * 기본 주기(30초)로 저장하는 설정을 생성한다.
+   *
+   * @param path 체크포인트 파일 경로
+   * @return 체크포인트 설정
+   */
+  public static CheckpointConfig of(Path path) {
+    return new CheckpointConfig(path, DEFAULT_INTERVAL, false);
+  }
+
+  /**
+   * 지정된 주기로 저장하는 설정을 생성한다.
+   *
+   * @param path     체크포인트 파일 경로
+   * @param interval 저장 주기
+   * @return 체크포인트 설정
+   */
+  public static CheckpointConfig of(Path path, Duration interval) {
+    return new CheckpointConfig(path, interval, false);
+  }
+
+  /**
+   * 시작 시 체크포인트에서 재개하는 설정을 반환한다.
+   *
+   * @return 재개가 켜진 체크포인트 설정
+   */
+  public CheckpointConfig resuming() {
+    return new CheckpointConfig(path, interval, true);
+  }
+}
\ No newline at end of file
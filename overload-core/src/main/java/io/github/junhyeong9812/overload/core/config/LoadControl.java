@@ -0,0 +1,151 @@
+package io.github.junhyeong9812.overload.core.config;
+
+import java.time.Duration;
+
+/**
+ * 실행 중인 부하 테스트에 적용할 제어 변경을 정의하는 불변(Immutable) 레코드.
+ *
+ * <p>{@link LoadTestConfig}는 실행이 시작되면 바뀌지 않는다. 게임데이처럼 관측 결과에 따라 부하를
+ * 올리고 내려야 할 때는 이 레코드로 동시성, 목표 속도, 종료 조건을 바꾼다. null인 항목은
+ * 현재 값을 유지한다. 모든 값이 먼저 검증된 뒤 한 번에 적용되므로 일부 항목만 반영되는 일은 없다.
+ *
+ * <p><b>항목별 동작:</b>
+ * <ul>
+ *   <li>{@code concurrency} - 동시 요청 제한. 낮추면 진행 중 요청은 끝까지 실행되고
+ *       새 요청만 줄어든다</li>
+ *   <li>{@code requestsPerSecond} - 목표 초당 요청 수. 속도 제한 없이 시작한 실행에도 설정할 수 있다</li>
+ *   <li>{@code totalRequests} - 총 요청 수. 이미 시작된 요청 수보다 낮추면 새 요청을 더 시작하지 않고
+ *       진행 중 요청이 끝나면 실행이 끝난다</li>
+ *   <li>{@code stopAfter} - 변경 시점부터 이 시간이 지나면 새 요청을 시작하지 않는다.
+ *       0이면 즉시 멈추고 진행 중 요청만 마무리한다</li>
+ * </ul>
+ *
+ * <p><b>사용 예시:</b>
+ * <pre>{@code
+ * LoadTestHandle handle = LoadTester.start(config);
+ *
+ * // 관측 결과를 보고 부하를 올린다
+ * handle.adjust(LoadControl.builder()
+ *     .concurrency(400)
+ *     .requestsPerSecond(2_000)
+ *     .stopAfter(Duration.ofMinutes(10))
+ *     .build());
+ * }</pre>
+ *
+ * @param concurrency       새 동시 요청 제한 (nullable - 유지)
+ * @param requestsPerSecond 새 목표 초당 요청 수 (nullable - 유지)
+ * @param totalRequests     새 총 요청 수 (nullable - 유지)
+ * @param stopAfter         변경 시점부터 새 요청을 시작할 시간 (nullable - 유지)
+ *
+ * @author junhyeong9812
+ * @since 1.1.0
+ */
+public record LoadControl(
+    Integer concurrency,
+    Double requestsPerSecond,
+    Integer totalRequests,
+    Duration stopAfter
+) {
+
+  /**
+   * Compact constructor - 유효성 검증 수행.
+   *
+   * @throws IllegalArgumentException 변경할 항목이 없거나 유효성 검증 실패 시
+   */
+  public LoadControl {
+    if (concurrency == null && requestsPerSecond == null && totalRequests == null
+        && stopAfter == null) {
+      throw new IllegalArgumentException("At least one control value is required");
+    }
+    if (concurrency != null && concurrency < 1) {
+      throw new IllegalArgumentException("Concurrency must be >= 1");
+    }
+    if (requestsPerSecond != null
+        && (!(requestsPerSecond > 0) || Double.isInfinite(requestsPerSecond))) {
+      throw new IllegalArgumentException("Requests per second must be positive");
+    }
+    if (totalRequests != null && totalRequests < 1) {
+      throw new IllegalArgumentException("Total requests must be >= 1");
+    }
+    if (stopAfter != null && stopAfter.isNegative()) {
+      throw new IllegalArgumentException("Stop-after must not be negative");
+    }
+  }
+
+  /**
+   * 새로운 Builder 인스턴스를 생성한다.
+   *
+   * @return 새로운 {@link Builder} 인스턴스
+   */
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * {@link LoadControl} 인스턴스를 생성하기 위한 빌더 클래스.
+   *
+   * @author junhyeong9812
+   * @since 1.1.0
+   */
+  public static class Builder {
+
+    private Integer concurrency;
+    private Double requestsPerSecond;
+    private Integer totalRequests;
+    private Duration stopAfter;
+
+    /**
+     * 새 동시 요청 제한을 설정한다.
+     *
+     * @param concurrency 동시 요청 제한
+     * @return this
+     */
+    public Builder concurrency(int concurrency) {
+      this.concurrency = concurrency;
+      return this;
+    }
+
+    /**
+     * 새 목표 초당 요청 수를 설정한다.
+     *
+     * @param requestsPerSecond 목표 초당 요청 수
+     * @return this
+     */
+    public Builder requestsPerSecond(double requestsPerSecond) {
+      this.requestsPerSecond = requestsPerSecond;
+      return this;
+    }
+
+    /**
+     * 새 총 요청 수를 설정한다.
+     *
+     * @param totalRequests 총 요청 수
+     * @return this
+     */
+    public Builder totalRequests(int totalRequests) {
+      this.totalRequests = totalRequests;
+      return this;
+    }
+
+    /**
+     * 변경 시점부터 새 요청을 시작할 시간을 설정한다.
+     *
+     * @param stopAfter 남은 실행 시간 (0이면 즉시 멈춤)
+     * @return this
+     */
+    public Builder stopAfter(Duration stopAfter) {
+      this.stopAfter = stopAfter;
+      return this;
+    }
+
+    /**
+     * 설정된 값으로 {@link LoadControl} 인스턴스를 생성한다.
+     *
+     * @return 새로운 LoadControl 인스턴스
+     * @throws IllegalArgumentException 변경할 항목이 없거나 유효성 검증 실패 시
+     */
+    public LoadControl build() {
+      return new LoadControl(concurrency, requestsPerSecond, totalRequests, stopAfter);
+    }
+  }
+}
\ No newline at end of file
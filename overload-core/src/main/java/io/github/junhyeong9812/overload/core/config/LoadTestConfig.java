@@ -1,7 +1,13 @@
 package io.github.junhyeong9812.overload.core.config;
 
+import io.github.junhyeong9812.overload.core.http.domain.UnixSocketTarget;
+
+import java.net.InetAddress;
+import java.nio.file.Path;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
@@ -19,6 +25,24 @@ import java.util.Objects;
  *   <li>{@code timeout} - 5초</li>
  *   <li>{@code headers} - 빈 맵</li>
  *   <li>{@code body} - null</li>
+ *   <li>{@code overheadWarnRatio} - 0.1</li>
+ *   <li>{@code trackPinning} - false</li>
+ *   <li>{@code metricsInterval} - 1초</li>
+ *   <li>{@code flightRecording} - null (JFR 레코딩 안 함)</li>
+ *   <li>{@code adaptiveConcurrency} - null (고정 동시성)</li>
+ *   <li>{@code abortRules} - 빈 리스트 (조기 중단 안 함)</li>
+ *   <li>{@code warmup} - 0 (워밍업 없음)</li>
+ *   <li>{@code warmupRequests} - 0 (워밍업 없음)</li>
+ *   <li>{@code rateLimit} - null (속도 제한 없음)</li>
+ *   <li>{@code progressDispatch} - null (요청 스레드에서 콜백 직접 호출)</li>
+ *   <li>{@code retainResults} - false (통계만 집계하고 원본 결과는 보관 안 함)</li>
+ *   <li>{@code addressSpread} - null (JDK 기본 해석에 맡김)</li>
+ *   <li>{@code localAddresses} - 빈 리스트 (출발지 주소는 OS가 선택)</li>
+ *   <li>{@code tls} - null (JDK 기본 TLS, 핸드셰이크 계측 안 함)</li>
+ *   <li>{@code checkpoint} - null (체크포인트 저장 안 함)</li>
+ *   <li>{@code slowestRequests} - 10</li>
+ *   <li>{@code probe} - null (프로브 없음)</li>
+ *   <li>{@code trackGcPauses} - false</li>
  * </ul>
  *
  * <p><b>사용 예시:</b>
@@ -34,13 +58,31 @@ import java.util.Objects;
  *     .build();
  * }</pre>
  *
- * @param url           대상 URL (필수)
- * @param method        HTTP 메서드 (기본값: GET)
- * @param headers       HTTP 헤더 맵 (불변)
- * @param body          요청 본문 (nullable)
- * @param concurrency   동시 요청 수 (기본값: 10)
- * @param totalRequests 총 요청 수 (기본값: 100)
- * @param timeout       요청 타임아웃 (기본값: 5초)
+ * @param url                 대상 URL (필수)
+ * @param method              HTTP 메서드 (기본값: GET)
+ * @param headers             HTTP 헤더 맵 (불변)
+ * @param body                요청 본문 (nullable)
+ * @param concurrency         동시 요청 수 (기본값: 10)
+ * @param totalRequests       총 요청 수 (기본값: 100)
+ * @param timeout             요청 타임아웃 (기본값: 5초)
+ * @param overheadWarnRatio   생성기 오버헤드 경고 기준 - 평균 지연 대비 비율 (기본값: 0.1)
+ * @param trackPinning        JFR로 Virtual Thread pinning 추적 여부 (기본값: false)
+ * @param metricsInterval     구간 통계 보고 주기 (기본값: 1초)
+ * @param flightRecording     실행 범위 JFR 레코딩 저장 경로 (nullable)
+ * @param adaptiveConcurrency 적응형 동시성 제어 설정 (nullable - 설정 시 concurrency는 초기값)
+ * @param abortRules          조기 중단 규칙 (불변)
+ * @param warmup              측정에서 제외할 워밍업 시간 (기본값: 0)
+ * @param warmupRequests      측정에서 제외할 워밍업 요청 수 - totalRequests에 포함 (기본값: 0)
+ * @param rateLimit           최대 초당 요청 수 제한 (nullable)
+ * @param progressDispatch    진행 콜백 비동기 배치 전달 설정 (nullable)
+ * @param retainResults       요청별 원본 결과를 열 기반 저장소에 보관할지 여부 (기본값: false)
+ * @param addressSpread       대상 호스트의 해석된 모든 주소로 요청을 분산하는 설정 (nullable)
+ * @param localAddresses      연결에 라운드 로빈으로 사용할 출발지 주소 (불변, 기본 JDK 클라이언트에 적용)
+ * @param tls                 TLS 세션 재개, 프로토콜, 신뢰 설정 (nullable, 기본 JDK 클라이언트에 적용)
+ * @param checkpoint          메트릭 체크포인트 저장과 재개 설정 (nullable)
+ * @param slowestRequests     결과에 남길 가장 느린 요청 수 (기본값: 10, 0이면 추적 안 함)
+ * @param probe               주 부하와 별도로 지연을 재는 저속 프로브 설정 (nullable)
+ * @param trackGcPauses       부하 생성기 JVM의 GC 멈춤과 겹친 요청 추적 여부 (기본값: false)
  *
  * @author junhyeong9812
  * @since 1.0.0
@@ -52,14 +94,33 @@ public record LoadTestConfig(
     String body,
     int concurrency,
     int totalRequests,
-    Duration timeout
+    Duration timeout,
+    double overheadWarnRatio,
+    boolean trackPinning,
+    Duration metricsInterval,
+    Path flightRecording,
+    AdaptiveConcurrencyConfig adaptiveConcurrency,
+    List<AbortRule> abortRules,
+    Duration warmup,
+    int warmupRequests,
+    RateLimitConfig rateLimit,
+    ProgressDispatchConfig progressDispatch,
+    boolean retainResults,
+    AddressSpreadConfig addressSpread,
+    List<InetAddress> localAddresses,
+    TlsConfig tls,
+    CheckpointConfig checkpoint,
+    int slowestRequests,
+    ProbeConfig probe,
+    boolean trackGcPauses
 ) {
 
   /**
    * Compact constructor - 유효성 검증 수행.
    *
    * @throws NullPointerException     url이 null인 경우
-   * @throws IllegalArgumentException concurrency 또는 totalRequests가 1 미만인 경우
+   * @throws IllegalArgumentException concurrency 또는 totalRequests가 1 미만이거나,
+   *                                  {@code unix:} 대상에 주소 분산/출발지 주소/TLS를 설정한 경우
    */
   public LoadTestConfig {
     Objects.requireNonNull(url, "URL is required");
@@ -69,6 +130,45 @@ public record LoadTestConfig(
     if (totalRequests < 1) {
       throw new IllegalArgumentException("Total requests must be >= 1");
     }
+    if (overheadWarnRatio <= 0) {
+      throw new IllegalArgumentException("Overhead warn ratio must be > 0");
+    }
+    Objects.requireNonNull(metricsInterval, "Metrics interval is required");
+    if (metricsInterval.isNegative() || metricsInterval.isZero()) {
+      throw new IllegalArgumentException("Metrics interval must be positive");
+    }
+    abortRules = abortRules != null ? List.copyOf(abortRules) : List.of();
+    warmup = warmup != null ? warmup : Duration.ZERO;
+    if (warmup.isNegative()) {
+      throw new IllegalArgumentException("Warm-up must not be negative");
+    }
+    if (warmupRequests < 0) {
+      throw new IllegalArgumentException("Warm-up requests must be >= 0");
+    }
+    if (warmupRequests >= totalRequests) {
+      throw new IllegalArgumentException("Warm-up requests must be less than total requests");
+    }
+    localAddresses = localAddresses != null ? List.copyOf(localAddresses) : List.of();
+    if (slowestRequests < 0) {
+      throw new IllegalArgumentException("Slowest requests must be >= 0");
+    }
+    if (UnixSocketTarget.matches(url)) {
+      UnixSocketTarget.parse(url);
+      if (addressSpread != null || !localAddresses.isEmpty() || tls != null) {
+        throw new IllegalArgumentException(
+            "Address spread, source addresses and TLS do not apply to unix socket targets");
+      }
+    }
+  }
+
+  /**
+   * 워밍업이 설정되었는지 확인한다.
+   *
+   * @return 워밍업 시간 또는 요청 수가 설정되었으면 {@code true}
+   * @since 1.1.0
+   */
+  public boolean hasWarmup() {
+    return !warmup.isZero() || warmupRequests > 0;
   }
 
   /**
@@ -80,6 +180,43 @@ public record LoadTestConfig(
     return new Builder();
   }
 
+  /**
+   * 현재 설정 값으로 채워진 Builder를 생성한다.
+   *
+   * <p>기존 설정에서 일부 값만 바꾼 설정을 만들 때 사용한다.
+   *
+   * @return 현재 값이 복사된 {@link Builder} 인스턴스
+   * @since 1.1.0
+   */
+  public Builder toBuilder() {
+    return new Builder()
+        .url(url)
+        .method(method)
+        .headers(headers)
+        .body(body)
+        .concurrency(concurrency)
+        .totalRequests(totalRequests)
+        .timeout(timeout)
+        .overheadWarnRatio(overheadWarnRatio)
+        .trackPinning(trackPinning)
+        .metricsInterval(metricsInterval)
+        .flightRecording(flightRecording)
+        .adaptiveConcurrency(adaptiveConcurrency)
+        .abortRules(abortRules)
+        .warmup(warmup)
+        .warmupRequests(warmupRequests)
+        .rateLimit(rateLimit)
+        .progressDispatch(progressDispatch)
+        .retainResults(retainResults)
+        .addressSpread(addressSpread)
+        .localAddresses(localAddresses)
+        .tls(tls)
+        .checkpoint(checkpoint)
+        .slowestRequests(slowestRequests)
+        .probe(probe)
+        .trackGcPauses(trackGcPauses);
+  }
+
   /**
    * {@link LoadTestConfig} 인스턴스를 생성하기 위한 빌더 클래스.
    *
@@ -95,10 +232,30 @@ public record LoadTestConfig(
     private int concurrency = 10;
     private int totalRequests = 100;
     private Duration timeout = Duration.ofSeconds(5);
+    private double overheadWarnRatio = 0.1;
+    private boolean trackPinning = false;
+    private Duration metricsInterval = Duration.ofSeconds(1);
+    private Path flightRecording;
+    private AdaptiveConcurrencyConfig adaptiveConcurrency;
+    private final List<AbortRule> abortRules = new ArrayList<>();
+    private Duration warmup = Duration.ZERO;
+    private int warmupRequests = 0;
+    private RateLimitConfig rateLimit;
+    private ProgressDispatchConfig progressDispatch;
+    private boolean retainResults = false;
+    private AddressSpreadConfig addressSpread;
+    private final List<InetAddress> localAddresses = new ArrayList<>();
+    private TlsConfig tls;
+    private CheckpointConfig checkpoint;
+    private int slowestRequests = 10;
+    private ProbeConfig probe;
+    private boolean trackGcPauses = false;
 
     /**
      * 대상 URL을 설정한다.
      *
+     * <p>{@code unix:///var/run/app.sock:/health}처럼 Unix 도메인 소켓 대상도 지정할 수 있다.
+     *
      * @param url 테스트 대상 URL (필수)
      * @return this
      */
@@ -185,6 +342,274 @@ public record LoadTestConfig(
       return this;
     }
 
+    /**
+     * 생성기 오버헤드 경고 기준을 설정한다.
+     *
+     * <p>(평균 스케줄링 지연 + 평균 콜백 시간)이 평균 요청 지연의 이 비율을 넘으면
+     * 결과가 대상 서버가 아닌 생성기 한계를 반영할 수 있다고 경고한다.
+     *
+     * @param overheadWarnRatio 평균 지연 대비 비율 (기본값: 0.1)
+     * @return this
+     */
+    public Builder overheadWarnRatio(double overheadWarnRatio) {
+      this.overheadWarnRatio = overheadWarnRatio;
+      return this;
+    }
+
+    /**
+     * JFR {@code jdk.VirtualThreadPinned} 이벤트로 pinning 추적 여부를 설정한다.
+     *
+     * @param trackPinning pinning 추적 여부 (기본값: false)
+     * @return this
+     */
+    public Builder trackPinning(boolean trackPinning) {
+      this.trackPinning = trackPinning;
+      return this;
+    }
+
+    /**
+     * 구간 통계 보고 주기를 설정한다.
+     *
+     * <p>구간 통계는 JFR {@code overload.Interval} 이벤트 등 실행 중 관측에 사용된다.
+     *
+     * @param metricsInterval 보고 주기 (기본값: 1초)
+     * @return this
+     */
+    public Builder metricsInterval(Duration metricsInterval) {
+      this.metricsInterval = metricsInterval;
+      return this;
+    }
+
+    /**
+     * 실행 범위 JFR 레코딩 저장 경로를 설정한다.
+     *
+     * <p>설정하면 실행 동안 JFR 레코딩({@code profile} 설정 + Overload 이벤트)을
+     * 수행하고 종료 시 이 경로에 저장한다.
+     *
+     * @param flightRecording 레코딩 파일 경로 (null이면 레코딩 안 함)
+     * @return this
+     */
+    public Builder flightRecording(Path flightRecording) {
+      this.flightRecording = flightRecording;
+      return this;
+    }
+
+    /**
+     * 적응형 동시성 제어를 설정한다.
+     *
+     * <p>설정하면 {@link #concurrency(int)}는 초기 동시성이 되고, 실행 중 구간 통계에 따라
+     * p99 SLO를 만족하는 최대 동시성을 탐색한다.
+     *
+     * @param adaptiveConcurrency 적응형 동시성 설정 (null이면 고정 동시성)
+     * @return this
+     */
+    public Builder adaptiveConcurrency(AdaptiveConcurrencyConfig adaptiveConcurrency) {
+      this.adaptiveConcurrency = adaptiveConcurrency;
+      return this;
+    }
+
+    /**
+     * 조기 중단 규칙을 추가한다.
+     *
+     * <p>규칙 중 하나라도 발동하면 테스트를 중단하고 부분 결과를 반환한다.
+     *
+     * @param abortRule 추가할 중단 규칙
+     * @return this
+     */
+    public Builder abortRule(AbortRule abortRule) {
+      this.abortRules.add(Objects.requireNonNull(abortRule, "abortRule"));
+      return this;
+    }
+
+    /**
+     * 여러 조기 중단 규칙을 한 번에 추가한다.
+     *
+     * @param abortRules 추가할 중단 규칙 목록
+     * @return this
+     */
+    public Builder abortRules(List<AbortRule> abortRules) {
+      abortRules.forEach(this::abortRule);
+      return this;
+    }
+
+    /**
+     * 워밍업 시간을 설정한다.
+     *
+     * <p>워밍업 동안에도 부하는 그대로 걸리지만 결과는 별도로 집계되어
+     * 최종 통계에서 제외된다. 워밍업 요청 수와 함께 설정하면 먼저 도달한 조건에서 끝난다.
+     * 어느 경우든 첫 {@code concurrency}개 요청은 연결 풀을 여는 구간이므로 워밍업에 포함된다.
+     *
+     * @param warmup 워밍업 시간 (기본값: 0)
+     * @return this
+     */
+    public Builder warmup(Duration warmup) {
+      this.warmup = warmup;
+      return this;
+    }
+
+    /**
+     * 워밍업 요청 수를 설정한다.
+     *
+     * <p>워밍업 요청은 {@code totalRequests}에 포함된다.
+     *
+     * @param warmupRequests 워밍업 요청 수 (기본값: 0)
+     * @return this
+     */
+    public Builder warmupRequests(int warmupRequests) {
+      this.warmupRequests = warmupRequests;
+      return this;
+    }
+
+    /**
+     * 요청 속도 제한을 설정한다.
+     *
+     * <p>동시성 제한과 함께 적용되어, 동시 요청 수와 초당 요청 수 모두 설정값을 넘지 않는다.
+     *
+     * @param rateLimit 속도 제한 설정 (null이면 제한 없음)
+     * @return this
+     */
+    public Builder rateLimit(RateLimitConfig rateLimit) {
+      this.rateLimit = rateLimit;
+      return this;
+    }
+
+    /**
+     * 진행 콜백의 비동기 배치 전달을 설정한다.
+     *
+     * <p>설정하면 {@code ProgressCallback}은 요청 스레드가 아닌 별도 소비 스레드에서
+     * {@code onProgressBatch}로 호출된다. 느린 콜백이 측정에 영향을 주지 않게 할 때 사용한다.
+     *
+     * @param progressDispatch 비동기 전달 설정 (null이면 요청 스레드에서 직접 호출)
+     * @return this
+     */
+    public Builder progressDispatch(ProgressDispatchConfig progressDispatch) {
+      this.progressDispatch = progressDispatch;
+      return this;
+    }
+
+    /**
+     * 요청별 원본 결과 보관 여부를 설정한다.
+     *
+     * <p>설정하면 모든 요청(워밍업 포함)의 상태 코드, 지연 시간, 에러 유형, 기록 시각을
+     * {@code ColumnarResultStore}에 건당 약 21바이트로 보관하고 {@code TestResult.rawResults()}로
+     * 반환한다. 실패 메시지는 보관하지 않는다.
+     *
+     * @param retainResults 원본 결과 보관 여부 (기본값: false)
+     * @return this
+     */
+    public Builder retainResults(boolean retainResults) {
+      this.retainResults = retainResults;
+      return this;
+    }
+
+    /**
+     * 대상 호스트의 주소 분산을 설정한다.
+     *
+     * <p>설정하면 호스트를 직접 해석해 TTL 동안 캐시하고, 해석된 모든 주소에 요청을 나눈다.
+     * 주소별 통계는 {@code TestResult.addresses()}로 반환된다.
+     *
+     * @param addressSpread 주소 분산 설정 (null이면 JDK 기본 해석에 맡김)
+     * @return this
+     */
+    public Builder addressSpread(AddressSpreadConfig addressSpread) {
+      this.addressSpread = addressSpread;
+      return this;
+    }
+
+    /**
+     * 출발지 주소를 추가한다. 여러 번 호출하면 연결이 주소들에 라운드 로빈으로 나뉜다.
+     *
+     * <p>한 출발지 IP에서 같은 대상 IP:포트로 열 수 있는 연결은 임시 포트 범위로 제한되므로,
+     * 연결 교체가 잦은 테스트에서 포트가 고갈되면 주소를 추가해 한도를 늘린다.
+     * 주소는 이 호스트의 인터페이스(예: 루프백 별칭 {@code 127.0.0.2})에 할당되어 있어야 한다.
+     *
+     * @param localAddress 추가할 출발지 주소
+     * @return this
+     */
+    public Builder localAddress(InetAddress localAddress) {
+      this.localAddresses.add(Objects.requireNonNull(localAddress, "localAddress"));
+      return this;
+    }
+
+    /**
+     * 출발지 주소 목록을 추가한다.
+     *
+     * @param localAddresses 추가할 출발지 주소 목록
+     * @return this
+     */
+    public Builder localAddresses(List<InetAddress> localAddresses) {
+      localAddresses.forEach(this::localAddress);
+      return this;
+    }
+
+    /**
+     * TLS 설정을 지정한다.
+     *
+     * <p>설정하면 핸드셰이크를 계측해 전체/재개 핸드셰이크 수와 지연 시간을
+     * {@code TestResult.tls()}로 보고한다.
+     *
+     * @param tls TLS 설정 (null이면 JDK 기본 TLS)
+     * @return this
+     */
+    public Builder tls(TlsConfig tls) {
+      this.tls = tls;
+      return this;
+    }
+
+    /**
+     * 메트릭 체크포인트 설정을 지정한다.
+     *
+     * <p>설정하면 집계기 상태를 주기적으로 파일에 저장하고, 재개가 켜져 있으면 저장된 지점부터
+     * 남은 요청만 실행해 이전 메트릭에 이어서 집계한다.
+     *
+     * @param checkpoint 체크포인트 설정 (null이면 저장 안 함)
+     * @return this
+     */
+    public Builder checkpoint(CheckpointConfig checkpoint) {
+      this.checkpoint = checkpoint;
+      return this;
+    }
+
+    /**
+     * 결과에 남길 가장 느린 요청 수를 설정한다.
+     *
+     * <p>측정 구간에서 지연 시간이 가장 긴 요청을 완료 시각, URL, 상태 코드와 함께 보관한다.
+     *
+     * @param slowestRequests 보관할 요청 수 (기본값: 10, 0이면 추적 안 함)
+     * @return this
+     */
+    public Builder slowestRequests(int slowestRequests) {
+      this.slowestRequests = slowestRequests;
+      return this;
+    }
+
+    /**
+     * 저속 지연 프로브를 설정한다.
+     *
+     * <p>설정하면 실행 동안 전용 연결로 일정 간격의 요청을 보내 주 부하와 별도로 집계한다.
+     *
+     * @param probe 프로브 설정 (null이면 프로브 없음)
+     * @return this
+     */
+    public Builder probe(ProbeConfig probe) {
+      this.probe = probe;
+      return this;
+    }
+
+    /**
+     * 부하 생성기 JVM의 GC 멈춤 추적 여부를 설정한다.
+     *
+     * <p>활성화하면 진행 중에 생성기 GC 멈춤과 겹친 요청을 따로 집계하여, 지연 꼬리 중
+     * 생성기 멈춤이 만든 몫과 그 요청을 뺀 지연 통계를 보고한다.
+     *
+     * @param trackGcPauses GC 멈춤 추적 여부 (기본값: false)
+     * @return this
+     */
+    public Builder trackGcPauses(boolean trackGcPauses) {
+      this.trackGcPauses = trackGcPauses;
+      return this;
+    }
+
     /**
      * 설정된 값으로 {@link LoadTestConfig} 인스턴스를 생성한다.
      *
@@ -195,7 +620,12 @@ public record LoadTestConfig(
     public LoadTestConfig build() {
       return new LoadTestConfig(
           url, method, Map.copyOf(headers), body,
-          concurrency, totalRequests, timeout
+          concurrency, totalRequests, timeout,
+          overheadWarnRatio, trackPinning,
+          metricsInterval, flightRecording, adaptiveConcurrency,
+          abortRules, warmup, warmupRequests, rateLimit, progressDispatch, retainResults,
+          addressSpread, localAddresses, tls, checkpoint, slowestRequests, probe,
+          trackGcPauses
       );
     }
   }
@@ -0,0 +1,32 @@
+package io.github.junhyeong9812.overload.core.config;
+
+/**
+ * 비동기 진행 상황 전달 버퍼가 가득 찼을 때의 처리 정책.
+ *
+ * <p>요청 처리 스레드는 진행 이벤트를 버퍼에 넣기만 하고, 느린 콜백은 별도 소비 스레드에서
+ * 실행된다. 소비 속도가 완료 속도를 따라가지 못할 때 어떤 손실을 감수할지 선택한다.
+ *
+ * @author junhyeong9812
+ * @since 1.1.0
+ * @see ProgressDispatchConfig
+ */
+public enum OverflowPolicy {
+
+  /**
+   * 버퍼가 가득 차면 새 이벤트를 버린다.
+   * 요청 경로에 대기가 전혀 없지만, 밀리는 동안 연속된 이벤트가 통째로 빠진다.
+   */
+  DROP,
+
+  /**
+   * 버퍼가 절반 이상 차면 {@code sampleEvery}개 중 하나만 넣고, 가득 차면 버린다.
+   * 손실을 시간 축에 고르게 분산시켜 진행률과 최근 결과가 끊기지 않게 한다.
+   */
+  SAMPLE,
+
+  /**
+   * 버퍼에 자리가 날 때까지 요청 스레드가 대기한다.
+   * 이벤트 손실은 없지만 콜백이 느리면 그 비용이 다시 요청 경로에 나타난다.
+   */
+  BLOCK
+}
\ No newline at end of file
@@ -0,0 +1,94 @@
+package io.github.junhyeong9812.overload.core.config;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * 주 부하와 함께 실행되는 저속 지연 프로브를 정의하는 불변(Immutable) 레코드.
+ *
+ * <p>주 부하의 지연 시간은 생성기 자신의 동시성과 대기열의 영향을 받는다. 프로브는 별도의 HTTP
+ * 클라이언트(전용 연결)로 {@code interval}마다 요청을 하나씩 순차로 보내고 별도 히스토그램에 기록하므로,
+ * 포화 트래픽과 독립적으로 "부하 중 사용자가 보는 지연"을 측정한다.
+ *
+ * <p>{@code url}이 없으면 주 요청(메서드, 헤더, 본문)을 그대로 보낸다. 헬스 체크처럼 다른 URL을 지정하면
+ * 주 요청의 헤더로 본문 없는 GET을 보낸다.
+ *
+ * <p><b>사용 예시:</b>
+ * <pre>{@code
+ * LoadTestConfig config = LoadTestConfig.builder()
+ *     .url("https://api.example.com/orders")
+ *     .concurrency(500)
+ *     .totalRequests(1_000_000)
+ *     .probe(ProbeConfig.of("https://api.example.com/health", Duration.ofSeconds(1)))
+ *     .build();
+ * }</pre>
+ *
+ * @param url      프로브 대상 URL (nullable - 주 요청과 같은 대상)
+ * @param interval 프로브 요청 간격
+ *
+ * @author junhyeong9812
+ * @since 1.1.0
+ */
+public record ProbeConfig(
+    String url,
+    Duration interval
+) {
+
+  /** 기본 프로브 간격 */
+  public static final Duration DEFAULT_INTERVAL = Duration.ofSeconds(1);
+
+  /**
+   * Compact constructor - 유효성 검증 수행.
+   *
+   * @throws NullPointerException     interval이 null인 경우
+   * @throws IllegalArgumentException interval이 0 이하이거나 url이 빈 문자열인 경우
+   */
+  public ProbeConfig {
+    Objects.requireNonNull(interval, "Probe interval is required");
+    if (interval.isNegative() || interval.isZero()) {
+      throw new IllegalArgumentException("Probe interval must be positive");
+    }
+    if (url != null && url.isBlank()) {
+      throw new IllegalArgumentException("Probe URL must not be blank");
+    }
+  }
+
+  /**
+   * 주 요청과 같은 대상을 기본 간격(1초)으로 측정하는 설정을 생성한다.
+   *
+   * @return 프로브 설정
+   */
+  public static ProbeConfig defaults() {
+    return new ProbeConfig(null, DEFAULT_INTERVAL);
+  }
+
+  /**
+   * 주 요청과 같은 대상을 지정된 간격으로 측정하는 설정을 생성한다.
+   *
+   * @param interval 프로브 요청 간격
+   * @return 프로브 설정
+   */
+  public static ProbeConfig of(Duration interval) {
+    return new ProbeConfig(null, interval);
+  }
+
+  /**
+   * 다른 URL을 지정된 간격으로 측정하는 설정을 생성한다.
+   *
+   * @param url      프로브 대상 URL
+   * @param interval 프로브 요청 간격
+   * @return 프로브 설정
+   */
+  public static ProbeConfig of(String url, Duration interval) {
+    return new ProbeConfig(Objects.requireNonNull(url, "Probe URL is required"), interval);
+  }
+
+  /**
+   * 주 요청과 다른 URL을 측정하는지 확인한다.
+   *
+   * @return 별도 URL이 지정되었으면 {@code true}
+   */
+  public boolean hasUrl() {
+    return url != null;
+  }
+}
\ No newline at end of file
@@ -0,0 +1,150 @@
+package io.github.junhyeong9812.overload.core.config;
+
+import java.util.Objects;
+
+/**
+ * {@code ProgressCallback} 비동기 배치 전달 설정을 정의하는 불변(Immutable) 레코드.
+ *
+ * <p>설정하면 요청 처리 스레드는 완료 이벤트를 고정 크기 링 버퍼에 넣기만 하고,
+ * 단일 소비 스레드가 버퍼를 모아 {@code onProgressBatch}로 전달한다.
+ * 콘솔 출력이나 로그 변환처럼 느린 콜백이 부하 생성 경로에서 빠진다.
+ *
+ * <p><b>기본값:</b>
+ * <ul>
+ *   <li>{@code capacity} - 8,192 (2의 거듭제곱으로 올림)</li>
+ *   <li>{@code batchSize} - 256</li>
+ *   <li>{@code overflowPolicy} - {@link OverflowPolicy#SAMPLE}</li>
+ *   <li>{@code sampleEvery} - 8</li>
+ * </ul>
+ *
+ * <p><b>사용 예시:</b>
+ * <pre>{@code
+ * LoadTestConfig config = LoadTestConfig.builder()
+ *     .url("https://api.example.com")
+ *     .totalRequests(1_000_000)
+ *     .progressDispatch(ProgressDispatchConfig.builder()
+ *         .overflowPolicy(OverflowPolicy.DROP)
+ *         .build())
+ *     .build();
+ * }</pre>
+ *
+ * @param capacity       링 버퍼 크기
+ * @param batchSize      한 번에 전달할 최대 이벤트 수
+ * @param overflowPolicy 버퍼가 가득 찼을 때의 처리 정책
+ * @param sampleEvery    {@link OverflowPolicy#SAMPLE}에서 압박 시 통과시킬 이벤트 간격
+ *
+ * @author junhyeong9812
+ * @since 1.1.0
+ */
+public record ProgressDispatchConfig(
+    int capacity,
+    int batchSize,
+    OverflowPolicy overflowPolicy,
+    int sampleEvery
+) {
+
+  /**
+   * Compact constructor - 유효성 검증 수행.
+   *
+   * @throws NullPointerException     overflowPolicy가 null인 경우
+   * @throws IllegalArgumentException 유효성 검증 실패 시
+   */
+  public ProgressDispatchConfig {
+    Objects.requireNonNull(overflowPolicy, "Overflow policy is required");
+    if (capacity < 2 || capacity > 1 << 24) {
+      throw new IllegalArgumentException("Capacity must be between 2 and 16,777,216");
+    }
+    if (batchSize < 1) {
+      throw new IllegalArgumentException("Batch size must be >= 1");
+    }
+    if (sampleEvery < 1) {
+      throw new IllegalArgumentException("Sample interval must be >= 1");
+    }
+  }
+
+  /**
+   * 기본값으로 설정을 생성한다.
+   *
+   * @return 기본 비동기 전달 설정
+   */
+  public static ProgressDispatchConfig defaults() {
+    return builder().build();
+  }
+
+  /**
+   * 새로운 Builder 인스턴스를 생성한다.
+   *
+   * @return 새로운 {@link Builder} 인스턴스
+   */
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * {@link ProgressDispatchConfig} 인스턴스를 생성하기 위한 빌더 클래스.
+   *
+   * @author junhyeong9812
+   * @since 1.1.0
+   */
+  public static class Builder {
+
+    private int capacity = 8_192;
+    private int batchSize = 256;
+    private OverflowPolicy overflowPolicy = OverflowPolicy.SAMPLE;
+    private int sampleEvery = 8;
+
+    /**
+     * 링 버퍼 크기를 설정한다.
+     *
+     * @param capacity 버퍼 크기 (기본값: 8,192, 2의 거듭제곱으로 올림)
+     * @return this
+     */
+    public Builder capacity(int capacity) {
+      this.capacity = capacity;
+      return this;
+    }
+
+    /**
+     * 한 번에 전달할 최대 이벤트 수를 설정한다.
+     *
+     * @param batchSize 배치 크기 (기본값: 256)
+     * @return this
+     */
+    public Builder batchSize(int batchSize) {
+      this.batchSize = batchSize;
+      return this;
+    }
+
+    /**
+     * 버퍼가 가득 찼을 때의 처리 정책을 설정한다.
+     *
+     * @param overflowPolicy 처리 정책 (기본값: SAMPLE)
+     * @return this
+     */
+    public Builder overflowPolicy(OverflowPolicy overflowPolicy) {
+      this.overflowPolicy = overflowPolicy;
+      return this;
+    }
+
+    /**
+     * SAMPLE 정책에서 압박 시 통과시킬 이벤트 간격을 설정한다.
+     *
+     * @param sampleEvery N개 중 하나를 통과 (기본값: 8)
+     * @return this
+     */
+    public Builder sampleEvery(int sampleEvery) {
+      this.sampleEvery = sampleEvery;
+      return this;
+    }
+
+    /**
+     * 설정된 값으로 {@link ProgressDispatchConfig} 인스턴스를 생성한다.
+     *
+     * @return 새로운 ProgressDispatchConfig 인스턴스
+     * @throws IllegalArgumentException 유효성 검증 실패 시
+     */
+    public ProgressDispatchConfig build() {
+      return new ProgressDispatchConfig(capacity, batchSize, overflowPolicy, sampleEvery);
+    }
+  }
+}
\ No newline at end of file
@@ -0,0 +1,67 @@
+package io.github.junhyeong9812.overload.core.config;
+
+/**
+ * 요청 속도 제한 설정을 정의하는 불변(Immutable) 레코드.
+ *
+ * <p>설정하면 closed model(고정 동시성) 실행에서도 초당 요청 수가 이 값을 넘지 않는다.
+ * 예를 들어 동시 사용자 200명이지만 전체 3,000 req/s로 제한하는 경우에 사용한다.
+ *
+ * <p>{@code burst}는 유휴 후 대기 없이 연달아 보낼 수 있는 요청 수다.
+ * 1이면 요청 간격이 항상 {@code 1 / requestsPerSecond}로 고르게 유지된다.
+ *
+ * <p><b>사용 예시:</b>
+ * <pre>{@code
+ * LoadTestConfig config = LoadTestConfig.builder()
+ *     .url("https://api.example.com")
+ *     .concurrency(200)
+ *     .totalRequests(300_000)
+ *     .rateLimit(RateLimitConfig.of(3_000, 50))
+ *     .build();
+ * }</pre>
+ *
+ * @param requestsPerSecond 최대 초당 요청 수
+ * @param burst             유휴 후 연달아 허용하는 요청 수 (최소 1)
+ *
+ * @author junhyeong9812
+ * @since 1.1.0
+ */
+public record RateLimitConfig(
+    double requestsPerSecond,
+    int burst
+) {
+
+  /**
+   * Compact constructor - 유효성 검증 수행.
+   *
+   * @throws IllegalArgumentException 유효성 검증 실패 시
+   */
+  public RateLimitConfig {
+    if (!(requestsPerSecond > 0) || Double.isInfinite(requestsPerSecond)) {
+      throw new IllegalArgumentException("Requests per second must be positive");
+    }
+    if (burst < 1) {
+      throw new IllegalArgumentException("Burst must be >= 1");
+    }
+  }
+
+  /**
+   * 버스트 없이 고른 간격으로 제한하는 설정을 생성한다.
+   *
+   * @param requestsPerSecond 최대 초당 요청 수
+   * @return 속도 제한 설정
+   */
+  public static RateLimitConfig of(double requestsPerSecond) {
+    return new RateLimitConfig(requestsPerSecond, 1);
+  }
+
+  /**
+   * 버스트를 허용하는 속도 제한 설정을 생성한다.
+   *
+   * @param requestsPerSecond 최대 초당 요청 수
+   * @param burst             유휴 후 연달아 허용하는 요청 수
+   * @return 속도 제한 설정
+   */
+  public static RateLimitConfig of(double requestsPerSecond, int burst) {
+    return new RateLimitConfig(requestsPerSecond, burst);
+  }
+}
\ No newline at end of file
@@ -0,0 +1,22 @@
+package io.github.junhyeong9812.overload.core.config;
+
+/**
+ * 대상 호스트가 여러 주소로 해석될 때 요청을 나누는 방식.
+ *
+ * @author junhyeong9812
+ * @since 1.1.0
+ * @see AddressSpreadConfig
+ */
+public enum SpreadPolicy {
+
+  /**
+   * 해석된 모든 주소에 순서대로 하나씩 보낸다.
+   */
+  ROUND_ROBIN,
+
+  /**
+   * 주소별 가중치에 비례해 보낸다. 가중치를 지정하지 않은 주소는 1로 취급한다.
+   * 같은 주소로 몰리지 않도록 가중치 순서를 섞어(smooth weighted round-robin) 배치한다.
+   */
+  WEIGHTED
+}
\ No newline at end of file
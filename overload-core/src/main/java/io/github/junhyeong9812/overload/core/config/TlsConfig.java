@@ -0,0 +1,189 @@
+package io.github.junhyeong9812.overload.core.config;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * TLS 핸드셰이크 동작을 정의하는 불변(Immutable) 레코드.
+ *
+ * <p>연결 교체가 잦은 테스트에서는 전체(full) 핸드셰이크가 양쪽 CPU를 대부분 차지한다.
+ * 세션 재개를 끄고 켜 보거나 프로토콜과 암호 스위트를 고정해 그 비용을 분리해서 측정할 수 있다.
+ * 설정하면 전체/재개 핸드셰이크 수와 핸드셰이크 지연 시간이 결과에 보고된다.
+ *
+ * <p><b>기본값:</b>
+ * <ul>
+ *   <li>{@code sessionResumption} - true (JDK 세션 캐시로 재개)</li>
+ *   <li>{@code sessionCacheSize} - 0 (JDK 기본값)</li>
+ *   <li>{@code protocols} - 빈 리스트 (JDK 기본 프로토콜)</li>
+ *   <li>{@code cipherSuites} - 빈 리스트 (JDK 기본 암호 스위트)</li>
+ *   <li>{@code trustStore} - null (JDK 기본 신뢰 저장소)</li>
+ *   <li>{@code trustAll} - false</li>
+ * </ul>
+ *
+ * <p><b>사용 예시:</b>
+ * <pre>{@code
+ * LoadTestConfig config = LoadTestConfig.builder()
+ *     .url("https://localhost:8443/api")
+ *     .tls(TlsConfig.builder()
+ *         .sessionResumption(false)
+ *         .protocol("TLSv1.3")
+ *         .trustStore(Path.of("local.p12"), "changeit")
+ *         .build())
+ *     .build();
+ * }</pre>
+ *
+ * @param sessionResumption  이전 세션으로 핸드셰이크를 재개할지 여부
+ * @param sessionCacheSize   클라이언트 세션 캐시 크기 (0이면 JDK 기본값)
+ * @param protocols          허용할 프로토콜 (불변, 예: {@code TLSv1.3})
+ * @param cipherSuites       허용할 암호 스위트 (불변)
+ * @param trustStore         서버 인증서를 신뢰할 키스토어 경로 (nullable)
+ * @param trustStorePassword 신뢰 저장소 비밀번호 (nullable)
+ * @param trustAll           모든 서버 인증서를 신뢰하고 호스트 이름을 검증하지 않을지 여부 (로컬 테스트 전용)
+ *
+ * @author junhyeong9812
+ * @since 1.1.0
+ */
+public record TlsConfig(
+    boolean sessionResumption,
+    int sessionCacheSize,
+    List<String> protocols,
+    List<String> cipherSuites,
+    Path trustStore,
+    String trustStorePassword,
+    boolean trustAll
+) {
+
+  /**
+   * Compact constructor - 유효성 검증 수행.
+   *
+   * @throws IllegalArgumentException 세션 캐시 크기가 음수이거나 trustStore와 trustAll을 함께 설정한 경우
+   */
+  public TlsConfig {
+    if (sessionCacheSize < 0) {
+      throw new IllegalArgumentException("Session cache size must be >= 0");
+    }
+    if (trustStore != null && trustAll) {
+      throw new IllegalArgumentException("Trust store and trust-all are mutually exclusive");
+    }
+    protocols = protocols != null ? List.copyOf(protocols) : List.of();
+    cipherSuites = cipherSuites != null ? List.copyOf(cipherSuites) : List.of();
+  }
+
+  /**
+   * 기본값으로 설정을 생성한다. 동작은 JDK 기본과 같고 핸드셰이크 통계만 수집한다.
+   *
+   * @return 기본 TLS 설정
+   */
+  public static TlsConfig defaults() {
+    return builder().build();
+  }
+
+  /**
+   * 새로운 Builder 인스턴스를 생성한다.
+   *
+   * @return 새로운 {@link Builder} 인스턴스
+   */
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * {@link TlsConfig} 인스턴스를 생성하기 위한 빌더 클래스.
+   *
+   * @author junhyeong9812
+   * @since 1.1.0
+   */
+  public static class Builder {
+
+    private boolean sessionResumption = true;
+    private int sessionCacheSize = 0;
+    private final List<String> protocols = new ArrayList<>();
+    private final List<String> cipherSuites = new ArrayList<>();
+    private Path trustStore;
+    private String trustStorePassword;
+    private boolean trustAll = false;
+
+    /**
+     * 세션 재개 여부를 설정한다.
+     *
+     * @param sessionResumption false면 모든 연결이 전체 핸드셰이크를 수행 (기본값: true)
+     * @return this
+     */
+    public Builder sessionResumption(boolean sessionResumption) {
+      this.sessionResumption = sessionResumption;
+      return this;
+    }
+
+    /**
+     * 클라이언트 세션 캐시 크기를 설정한다.
+     *
+     * @param sessionCacheSize 캐시할 세션 수 (기본값: 0 - JDK 기본값)
+     * @return this
+     */
+    public Builder sessionCacheSize(int sessionCacheSize) {
+      this.sessionCacheSize = sessionCacheSize;
+      return this;
+    }
+
+    /**
+     * 허용할 프로토콜을 추가한다.
+     *
+     * @param protocol 프로토콜 이름 (예: {@code TLSv1.2}, {@code TLSv1.3})
+     * @return this
+     */
+    public Builder protocol(String protocol) {
+      this.protocols.add(protocol);
+      return this;
+    }
+
+    /**
+     * 허용할 암호 스위트를 추가한다.
+     *
+     * @param cipherSuite 암호 스위트 이름 (예: {@code TLS_AES_128_GCM_SHA256})
+     * @return this
+     */
+    public Builder cipherSuite(String cipherSuite) {
+      this.cipherSuites.add(cipherSuite);
+      return this;
+    }
+
+    /**
+     * 서버 인증서를 신뢰할 키스토어를 설정한다.
+     *
+     * <p>로컬에서 생성한 자체 서명 인증서를 신뢰할 때 사용한다. 호스트 이름 검증은 유지되므로
+     * 인증서의 SAN에 대상 호스트(예: {@code IP:127.0.0.1})가 포함되어야 한다.
+     *
+     * @param trustStore 키스토어 경로 (PKCS12 또는 JKS)
+     * @param password   키스토어 비밀번호
+     * @return this
+     */
+    public Builder trustStore(Path trustStore, String password) {
+      this.trustStore = trustStore;
+      this.trustStorePassword = password;
+      return this;
+    }
+
+    /**
+     * 모든 서버 인증서를 신뢰할지 설정한다. 로컬 테스트 전용이다.
+     *
+     * @param trustAll true면 인증서와 호스트 이름을 검증하지 않음 (기본값: false)
+     * @return this
+     */
+    public Builder trustAll(boolean trustAll) {
+      this.trustAll = trustAll;
+      return this;
+    }
+
+    /**
+     * 설정된 값으로 {@link TlsConfig} 인스턴스를 생성한다.
+     *
+     * @return 새로운 TlsConfig 인스턴스
+     * @throws IllegalArgumentException 유효성 검증 실패 시
+     */
+    public TlsConfig build() {
+      return new TlsConfig(sessionResumption, sessionCacheSize, protocols, cipherSuites,
+          trustStore, trustStorePassword, trustAll);
+    }
+  }
+}
@@ -0,0 +1,88 @@
+package io.github.junhyeong9812.overload.core.engine.application;
+
+import io.github.junhyeong9812.overload.core.config.AbortRule;
+import io.github.junhyeong9812.overload.core.engine.domain.ExecutionContext;
+import io.github.junhyeong9812.overload.core.metric.application.IntervalListener;
+import io.github.junhyeong9812.overload.core.metric.domain.IntervalStats;
+
+import java.lang.System.Logger;
+import java.lang.System.Logger.Level;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 구간 통계로 조기 중단 규칙을 평가하고, 발동 시 실행을 취소하는 모니터.
+ *
+ * <p>{@link IntervalListener}로 등록되어 보고 스레드에서만 동작하므로
+ * 요청 처리 경로에는 비용이 없다. 규칙 중 가장 긴 윈도우만큼 최근 구간을 보관한다.
+ *
+ * <p>규칙이 발동하면 {@link ExecutionContext#cancel(String)}을 호출하고,
+ * 엔진은 새 요청 제출을 멈추고 진행 중 요청을 인터럽트한다.
+ *
+ * @author junhyeong9812
+ * @since 1.1.0
+ * @see AbortRule
+ */
+public class AbortMonitor implements IntervalListener {
+
+  private static final Logger logger = System.getLogger(AbortMonitor.class.getName());
+
+  private final List<AbortRule> rules;
+  private final ExecutionContext context;
+  private final long historyNanos;
+  private final List<IntervalStats> history = new ArrayList<>();
+
+  /**
+   * AbortMonitor를 생성한다.
+   *
+   * @param rules   평가할 중단 규칙
+   * @param context 취소할 실행 컨텍스트
+   */
+  public AbortMonitor(List<AbortRule> rules, ExecutionContext context) {
+    this.rules = List.copyOf(rules);
+    this.context = context;
+    this.historyNanos = rules.stream()
+        .map(AbortRule::window)
+        .mapToLong(Duration::toNanos)
+        .max()
+        .orElse(0);
+  }
+
+  /**
+   * 구간 통계를 보관하고 모든 규칙을 평가한다.
+   *
+   * @param stats 방금 끝난 구간의 통계
+   */
+  @Override
+  public synchronized void onInterval(IntervalStats stats) {
+    if (context.isCancelled() || context.getCompletedCount() >= context.getTotalRequests()) {
+      return;
+    }
+    history.add(stats);
+    trimHistory();
+
+    for (AbortRule rule : rules) {
+      String reason = rule.evaluate(history);
+      if (reason != null) {
+        logger.log(Level.WARNING, "Abort rule triggered: {0}", reason);
+        context.cancel("Aborted: " + reason);
+        return;
+      }
+    }
+  }
+
+  /**
+   * 가장 긴 윈도우를 덮는 데 필요 없는 오래된 구간을 버린다.
+   */
+  private void trimHistory() {
+    long covered = 0;
+    for (IntervalStats stats : history) {
+      covered += stats.duration().toNanos();
+    }
+    while (history.size() > 1
+        && covered - history.get(0).duration().toNanos() >= historyNanos) {
+      covered -= history.remove(0).duration().toNanos();
+    }
+  }
+}
@@ -0,0 +1,199 @@
+package io.github.junhyeong9812.overload.core.engine.application;
+
+import io.github.junhyeong9812.overload.core.config.AdaptiveConcurrencyConfig;
+import io.github.junhyeong9812.overload.core.engine.domain.ExecutionContext;
+import io.github.junhyeong9812.overload.core.metric.application.IntervalListener;
+import io.github.junhyeong9812.overload.core.metric.domain.AdaptiveConcurrencyReport;
+import io.github.junhyeong9812.overload.core.metric.domain.AdaptiveConcurrencyReport.CurvePoint;
+import io.github.junhyeong9812.overload.core.metric.domain.IntervalStats;
+
+import java.lang.System.Logger;
+import java.lang.System.Logger.Level;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 구간 통계로 동시성을 조정하는 AIMD 제어기.
+ *
+ * <p>{@link IntervalListener}로 등록되어 구간마다 처리량과 p99를 평가하고,
+ * {@link ExecutionContext#setConcurrencyLimit(int)}로 엔진의 동시성을 바꾼다.
+ * 평가는 보고 스레드에서 수행되므로 요청 처리 경로에 비용을 더하지 않는다.
+ *
+ * <p><b>제어 방식:</b>
+ * <ol>
+ *   <li>Slow start - SLO를 만족하는 동안 동시성을 2배씩 늘린다</li>
+ *   <li>SLO 위반(p99 초과 또는 오류율 초과) 또는 처리량 역행 시
+ *       동시성에 {@code backoffRatio}를 곱해 줄이고 slow start를 끝낸다</li>
+ *   <li>이후 SLO를 만족하면 {@code increaseStep}만큼 더한다 (Additive Increase)</li>
+ * </ol>
+ *
+ * <p>처리량 역행은 지금까지의 최고 처리량 지점보다 높은 동시성에서 처리량이
+ * 10% 이상 낮아진 경우로, 지연이 SLO 안에 있어도 대상이 포화되었다는 신호로 본다.
+ *
+ * <p>동시성 변경 직후 구간과, 남은 요청 수가 동시성 제한보다 적어
+ * 부하가 줄어드는 실행 말미 구간은 평가하지 않는다.
+ *
+ * @author junhyeong9812
+ * @since 1.1.0
+ * @see AdaptiveConcurrencyConfig
+ * @see AdaptiveConcurrencyReport
+ */
+public class AdaptiveConcurrencyController implements IntervalListener {
+
+  private static final Logger logger =
+      System.getLogger(AdaptiveConcurrencyController.class.getName());
+
+  /** 최고 처리량 대비 이 비율 이상 낮아지면 역행으로 판단 */
+  private static final double RETROGRADE_TOLERANCE = 0.1;
+
+  /** 자동 증가량 - 현재 동시성 대비 비율 */
+  private static final double AUTO_STEP_RATIO = 0.05;
+
+  private final AdaptiveConcurrencyConfig config;
+  private final ExecutionContext context;
+  private final long sloMs;
+  private final Map<Integer, PointAccumulator> curve = new TreeMap<>();
+
+  private int limit;
+  private boolean slowStart = true;
+  private int settleRemaining;
+  private double bestRps;
+  private int bestConcurrency;
+
+  /**
+   * AdaptiveConcurrencyController를 생성하고 초기 동시성을 적용한다.
+   *
+   * @param config             적응형 동시성 설정
+   * @param context            제어할 실행 컨텍스트
+   * @param initialConcurrency 초기 동시성 (최소/최대 범위로 보정됨)
+   */
+  public AdaptiveConcurrencyController(
+      AdaptiveConcurrencyConfig config,
+      ExecutionContext context,
+      int initialConcurrency) {
+    this.config = config;
+    this.context = context;
+    this.sloMs = config.p99Slo().toMillis();
+    this.limit = clamp(initialConcurrency);
+    context.setConcurrencyLimit(limit);
+  }
+
+  /**
+   * 구간 통계를 평가하고 다음 동시성을 적용한다.
+   *
+   * @param stats 방금 끝난 구간의 통계
+   */
+  @Override
+  public synchronized void onInterval(IntervalStats stats) {
+    if (stats.requests() == 0) {
+      return;
+    }
+    if (settleRemaining > 0) {
+      settleRemaining--;
+      return;
+    }
+    int current = limit;
+    if (context.getTotalRequests() - context.getCompletedCount() < current) {
+      return;
+    }
+
+    boolean withinSlo = meetsSlo(stats.p99Ms(), stats.errorRate());
+    curve.computeIfAbsent(current, c -> new PointAccumulator()).add(stats);
+
+    double rps = stats.requestsPerSecond();
+    boolean retrograde = current > bestConcurrency
+        && rps < bestRps * (1 - RETROGRADE_TOLERANCE);
+
+    if (withinSlo && !retrograde) {
+      if (rps > bestRps) {
+        bestRps = rps;
+        bestConcurrency = current;
+      }
+      apply(slowStart ? current * 2 : current + increaseStep(current));
+    } else {
+      slowStart = false;
+      apply((int) (current * config.backoffRatio()));
+    }
+  }
+
+  /**
+   * 현재 동시성 제한을 반환한다.
+   *
+   * @return 동시성 제한
+   */
+  public synchronized int getLimit() {
+    return limit;
+  }
+
+  /**
+   * 지금까지의 탐색 결과를 반환한다.
+   *
+   * @return 탐색 곡선과 운영 지점
+   */
+  public synchronized AdaptiveConcurrencyReport report() {
+    List<CurvePoint> points = new ArrayList<>(curve.size());
+    CurvePoint chosen = null;
+    for (Map.Entry<Integer, PointAccumulator> entry : curve.entrySet()) {
+      CurvePoint point = entry.getValue().toPoint(entry.getKey());
+      points.add(point);
+      if (point.withinSlo()) {
+        chosen = point;
+      }
+    }
+    return new AdaptiveConcurrencyReport(sloMs, config.maxErrorRate(), points, chosen, limit);
+  }
+
+  private boolean meetsSlo(long p99Ms, double errorRate) {
+    return p99Ms <= sloMs && errorRate <= config.maxErrorRate();
+  }
+
+  private int increaseStep(int current) {
+    return config.increaseStep() > 0
+        ? config.increaseStep()
+        : Math.max(1, (int) (current * AUTO_STEP_RATIO));
+  }
+
+  private void apply(int next) {
+    int clamped = clamp(next);
+    if (clamped == limit) {
+      return;
+    }
+    logger.log(Level.DEBUG, "Adaptive concurrency {0} -> {1}", limit, clamped);
+    limit = clamped;
+    context.setConcurrencyLimit(clamped);
+    settleRemaining = config.settleIntervals();
+  }
+
+  private int clamp(int value) {
+    return Math.max(config.minConcurrency(), Math.min(config.maxConcurrency(), value));
+  }
+
+  /**
+   * 한 동시성 수준의 구간 통계 누적기.
+   */
+  private final class PointAccumulator {
+
+    private long requests;
+    private long failures;
+    private long nanos;
+    private long worstP99Ms;
+    private int intervals;
+
+    private void add(IntervalStats stats) {
+      requests += stats.requests();
+      failures += stats.failures();
+      nanos += stats.duration().toNanos();
+      worstP99Ms = Math.max(worstP99Ms, stats.p99Ms());
+      intervals++;
+    }
+
+    private CurvePoint toPoint(int concurrency) {
+      double rps = nanos > 0 ? requests * 1_000_000_000.0 / nanos : 0;
+      double errorRate = requests > 0 ? (double) failures / requests : 0;
+      return new CurvePoint(concurrency, rps, worstP99Ms, errorRate, intervals,
+          meetsSlo(worstP99Ms, errorRate));
+    }
+  }
+}
@@ -0,0 +1,160 @@
+package io.github.junhyeong9812.overload.core.engine.application;
+
+import io.github.junhyeong9812.overload.core.config.ProbeConfig;
+import io.github.junhyeong9812.overload.core.http.application.port.HttpClientPort;
+import io.github.junhyeong9812.overload.core.http.domain.HttpRequest;
+import io.github.junhyeong9812.overload.core.http.domain.RequestResult;
+import io.github.junhyeong9812.overload.core.metric.application.MetricAggregator;
+import io.github.junhyeong9812.overload.core.metric.domain.ProbeReport;
+import io.github.junhyeong9812.overload.core.metric.domain.TestResult;
+
+import java.lang.System.Logger;
+import java.lang.System.Logger.Level;
+import java.util.Objects;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 주 부하와 독립적으로 일정 간격의 요청을 보내는 저속 지연 프로브.
+ *
+ * <p>전용 스레드 하나가 {@link ProbeConfig#interval()}마다 요청을 하나씩 순차로 보내고, 결과를 주 부하와
+ * 별도의 {@link MetricAggregator}에 기록한다. 프로브는 엔진의 동시성 제한, 속도 제한, 대기열을 거치지 않으므로
+ * 생성기 쪽 대기가 섞이지 않은 대상의 응답성을 보여 준다.
+ *
+ * <p>요청이 간격보다 오래 걸리면 지난 틱을 몰아서 보내지 않는다. 가장 최근 틱 하나만 바로 보내고
+ * 그 이전 틱은 건너뛴 것으로 센다. 따라서 프로브의 요청 속도는 설정된 속도를 넘지 않는다.
+ *
+ * <p>{@code recording}이 {@code false}를 반환하는 동안(예: 워밍업) 보낸 프로브는 기록하지 않는다.
+ *
+ * <p><b>사용 예시:</b>
+ * <pre>{@code
+ * LatencyProbe probe = new LatencyProbe(client, request, config, aggregator::isMeasuring).start();
+ * engine.execute(runConfig, callback, context);
+ * probe.close();
+ * ProbeReport report = probe.report();
+ * }</pre>
+ *
+ * @author junhyeong9812
+ * @since 1.1.0
+ * @see ProbeConfig
+ * @see ProbeReport
+ */
+public class LatencyProbe implements AutoCloseable {
+
+  private static final Logger logger = System.getLogger(LatencyProbe.class.getName());
+
+  /** 종료 시 진행 중 프로브를 기다리는 최대 시간 (밀리초) */
+  private static final long STOP_GRACE_MILLIS = 1_000;
+
+  private final HttpClientPort client;
+  private final HttpRequest request;
+  private final ProbeConfig config;
+  private final BooleanSupplier recording;
+  private final MetricAggregator aggregator = new MetricAggregator();
+  private final CountDownLatch stopped = new CountDownLatch(1);
+
+  private volatile long missed;
+  private Thread thread;
+
+  /**
+   * LatencyProbe를 생성한다.
+   *
+   * @param client    프로브 전용 HTTP 클라이언트
+   * @param request   보낼 요청
+   * @param config    프로브 설정
+   * @param recording 결과를 기록할지 여부 (요청마다 확인)
+   */
+  public LatencyProbe(
+      HttpClientPort client,
+      HttpRequest request,
+      ProbeConfig config,
+      BooleanSupplier recording) {
+    this.client = Objects.requireNonNull(client, "client");
+    this.request = Objects.requireNonNull(request, "request");
+    this.config = Objects.requireNonNull(config, "config");
+    this.recording = Objects.requireNonNull(recording, "recording");
+  }
+
+  /**
+   * 프로브 스레드를 시작한다. 첫 요청은 바로 보낸다.
+   *
+   * @return this
+   */
+  public synchronized LatencyProbe start() {
+    if (thread == null) {
+      aggregator.start();
+      thread = new Thread(this::run, "overload-latency-probe");
+      thread.setDaemon(true);
+      thread.start();
+      logger.log(Level.INFO, "Latency probe started: {0} {1} every {2}ms",
+          request.method(), request.url(), config.interval().toMillis());
+    }
+    return this;
+  }
+
+  /**
+   * 프로브를 멈춘다. 진행 중인 프로브는 잠시 기다린 뒤 인터럽트한다.
+   */
+  @Override
+  public synchronized void close() {
+    if (thread == null || stopped.getCount() == 0) {
+      return;
+    }
+    stopped.countDown();
+    try {
+      thread.join(STOP_GRACE_MILLIS);
+      if (thread.isAlive()) {
+        thread.interrupt();
+        thread.join(STOP_GRACE_MILLIS);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    aggregator.end();
+  }
+
+  /**
+   * 지금까지 기록된 프로브 결과를 반환한다.
+   *
+   * @return 프로브 결과
+   */
+  public ProbeReport report() {
+    TestResult result = aggregator.aggregate();
+    return new ProbeReport(
+        request.url(),
+        request.method(),
+        config.interval(),
+        result.totalRequests(),
+        result.failCount(),
+        missed,
+        result.latencyStats());
+  }
+
+  private void run() {
+    long intervalNanos = config.interval().toNanos();
+    long next = System.nanoTime();
+    try {
+      while (!stopped.await(next - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+        RequestResult result = client.send(request);
+        boolean record = stopped.getCount() > 0 && recording.getAsBoolean();
+        if (record) {
+          aggregator.record(result);
+        }
+        next += intervalNanos;
+        long behind = System.nanoTime() - next;
+        if (behind >= intervalNanos) {
+          long skipped = behind / intervalNanos;
+          next += skipped * intervalNanos;
+          if (record) {
+            missed += skipped;
+          }
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (RuntimeException e) {
+      logger.log(Level.WARNING, "Latency probe stopped: {0}", e.toString());
+    }
+  }
+}
\ No newline at end of file
@@ -0,0 +1,154 @@
+package io.github.junhyeong9812.overload.core.engine.application;
+
+import io.github.junhyeong9812.overload.core.config.LoadControl;
+import io.github.junhyeong9812.overload.core.engine.domain.ExecutionContext;
+import io.github.junhyeong9812.overload.core.engine.domain.RateLimiter;
+import io.github.junhyeong9812.overload.core.jfr.ControlEvent;
+import io.github.junhyeong9812.overload.core.metric.domain.ControlChange;
+
+import java.lang.System.Logger;
+import java.lang.System.Logger.Level;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 실행 중인 엔진에 제어 변경을 적용하고 기록하는 제어기.
+ *
+ * <p>{@link LoadControl}을 {@link ExecutionContext}의 동시성 제한, 속도 제한기, 총 요청 수,
+ * 종료 시각에 반영한다. 변경은 하나의 잠금 안에서 적용되므로 두 변경이 섞이지 않고,
+ * 변경마다 {@link ControlChange}를 남기고 INFO 로그와 JFR {@code overload.Control} 이벤트를 기록한다.
+ * 변경 시점은 구간 통계와 같은 기준(실행 시작)의 경과 시간으로 기록된다.
+ *
+ * <p>체크포인트에서 재개한 실행이면 컨텍스트의 총 요청 수는 남은 요청 수다. 제어기는
+ * 이미 완료된 요청 수({@code completedBefore})를 더하고 빼서 호출자에게는 전체 실행 기준의 값을 보인다.
+ *
+ * <p>적응형 동시성 모드에서는 동시성을 제어기가 정하므로 동시성 변경을 거부한다.
+ *
+ * @author junhyeong9812
+ * @since 1.1.0
+ * @see LoadControl
+ * @see ControlChange
+ */
+public class LoadController {
+
+  private static final Logger logger = System.getLogger(LoadController.class.getName());
+
+  private final ExecutionContext context;
+  private final int initialConcurrency;
+  private final int completedBefore;
+  private final boolean adaptive;
+  private final List<ControlChange> changes = new ArrayList<>();
+
+  private long startNanos;
+  private boolean started;
+  private boolean finished;
+
+  /**
+   * LoadController를 생성한다.
+   *
+   * @param context            제어할 실행 컨텍스트
+   * @param initialConcurrency 설정된 동시성 (엔진이 제한기를 만들기 전의 보고값)
+   * @param completedBefore    체크포인트에서 재개하기 전에 완료된 요청 수
+   * @param adaptive           적응형 동시성 모드 여부
+   */
+  public LoadController(
+      ExecutionContext context,
+      int initialConcurrency,
+      int completedBefore,
+      boolean adaptive) {
+    this.context = context;
+    this.initialConcurrency = initialConcurrency;
+    this.completedBefore = completedBefore;
+    this.adaptive = adaptive;
+  }
+
+  /**
+   * 경과 시간 기준점을 현재 시각으로 정한다. 실행이 시작될 때 호출된다.
+   *
+   * <p>시작 전에 적용된 변경의 경과 시간은 0이다.
+   */
+  public synchronized void start() {
+    startNanos = System.nanoTime();
+    started = true;
+  }
+
+  /**
+   * 실행이 끝났음을 표시한다. 이후 변경은 거부된다.
+   */
+  public synchronized void finish() {
+    finished = true;
+  }
+
+  /**
+   * 제어 변경을 적용한다.
+   *
+   * <p>모든 항목을 검증한 뒤 한 번에 적용한다. 검증에 실패하면 아무것도 바뀌지 않는다.
+   *
+   * @param control 적용할 변경
+   * @return 적용 결과 (변경 후 상태)
+   * @throws IllegalStateException    실행이 끝났거나 취소된 경우, 적응형 동시성 모드에서 동시성을 바꾸려는 경우
+   * @throws IllegalArgumentException 총 요청 수가 재개 전에 완료된 요청 수 이하이거나 이미 시작된 요청 수보다 적은 경우
+   */
+  public synchronized ControlChange apply(LoadControl control) {
+    if (finished || context.isCancelled()) {
+      throw new IllegalStateException("Load test is no longer running");
+    }
+    if (adaptive && control.concurrency() != null) {
+      throw new IllegalStateException("Concurrency is controlled adaptively");
+    }
+    Integer remainingTotal = null;
+    if (control.totalRequests() != null) {
+      remainingTotal = control.totalRequests() - completedBefore;
+      if (remainingTotal < 1) {
+        throw new IllegalArgumentException(
+            "Total requests must be > " + completedBefore + " (already completed before resume)");
+      }
+      int claimed = context.getClaimedCount();
+      if (remainingTotal < claimed) {
+        throw new IllegalArgumentException(
+            "Total requests must be >= " + (completedBefore + claimed) + " (already started)");
+      }
+    }
+
+    if (control.concurrency() != null) {
+      context.setConcurrencyLimit(control.concurrency());
+    }
+    if (control.requestsPerSecond() != null) {
+      context.setRequestsPerSecond(control.requestsPerSecond());
+    }
+    if (remainingTotal != null) {
+      context.setTotalRequests(remainingTotal);
+    }
+    if (control.stopAfter() != null) {
+      context.stopAfter(control.stopAfter());
+    }
+
+    RateLimiter rateLimiter = context.getRateLimiter();
+    int concurrency = context.getConcurrencyLimit();
+    ControlChange change = new ControlChange(
+        started ? Duration.ofNanos(System.nanoTime() - startNanos) : Duration.ZERO,
+        completedBefore + context.getCompletedCount(),
+        control,
+        concurrency > 0 ? concurrency : initialConcurrency,
+        rateLimiter != null ? rateLimiter.getRate() : 0,
+        completedBefore + context.getTotalRequests());
+    changes.add(change);
+    logger.log(Level.INFO,
+        "Load control applied at {0}ms: concurrency={1}, rate={2}, total={3}, stopAfter={4}",
+        change.elapsed().toMillis(), change.concurrency(),
+        change.isRateLimited() ? change.requestsPerSecond() : "unlimited",
+        change.totalRequests(), control.stopAfter() != null ? control.stopAfter() : "-");
+    ControlEvent.emit(change);
+    return change;
+  }
+
+  /**
+   * 지금까지 적용된 변경을 적용 순서대로 반환한다.
+   *
+   * @return 적용된 변경 목록
+   */
+  public synchronized List<ControlChange> changes() {
+    return List.copyOf(changes);
+  }
+}
\ No newline at end of file
@@ -0,0 +1,119 @@
+package io.github.junhyeong9812.overload.core.engine.domain;
+
+import java.util.concurrent.Semaphore;
+
+/**
+ * 실행 중 크기를 바꿀 수 있는 동시 요청 제한기.
+ *
+ * <p>{@link Semaphore}를 감싸며, {@link #setLimit(int)}로 허가 수를 늘리거나 줄인다.
+ * 줄이는 경우 이미 진행 중인 요청은 그대로 완료되고, 진행 중 요청 수가
+ * 새 제한 아래로 내려갈 때까지 새 요청이 대기한다.
+ *
+ * <p><b>사용 예시:</b>
+ * <pre>{@code
+ * ConcurrencyLimiter limiter = new ConcurrencyLimiter(100);
+ *
+ * limiter.acquire();
+ * try {
+ *     httpClient.send(request);
+ * } finally {
+ *     limiter.release();
+ * }
+ *
+ * limiter.setLimit(150);  // 다른 스레드에서 실행 중 조정
+ * }</pre>
+ *
+ * @author junhyeong9812
+ * @since 1.1.0
+ * @see ExecutionContext#setConcurrencyLimit(int)
+ */
+public class ConcurrencyLimiter {
+
+  private final ResizableSemaphore permits;
+  private volatile int limit;
+
+  /**
+   * 지정된 제한으로 ConcurrencyLimiter를 생성한다.
+   *
+   * @param limit 초기 동시 요청 제한
+   * @throws IllegalArgumentException limit이 1 미만인 경우
+   */
+  public ConcurrencyLimiter(int limit) {
+    validate(limit);
+    this.limit = limit;
+    this.permits = new ResizableSemaphore(limit);
+  }
+
+  /**
+   * 허가를 획득한다. 진행 중 요청 수가 제한에 도달했으면 대기한다.
+   *
+   * @throws InterruptedException 대기 중 인터럽트된 경우
+   */
+  public void acquire() throws InterruptedException {
+    permits.acquire();
+  }
+
+  /**
+   * 허가를 반환한다.
+   */
+  public void release() {
+    permits.release();
+  }
+
+  /**
+   * 동시 요청 제한을 변경한다.
+   *
+   * @param newLimit 새 동시 요청 제한
+   * @throws IllegalArgumentException newLimit이 1 미만인 경우
+   */
+  public synchronized void setLimit(int newLimit) {
+    validate(newLimit);
+    int delta = newLimit - limit;
+    if (delta > 0) {
+      permits.release(delta);
+    } else if (delta < 0) {
+      permits.reduce(-delta);
+    }
+    limit = newLimit;
+  }
+
+  /**
+   * 현재 동시 요청 제한을 반환한다.
+   *
+   * @return 동시 요청 제한
+   */
+  public int getLimit() {
+    return limit;
+  }
+
+  /**
+   * 현재 진행 중인 요청 수의 근사값을 반환한다.
+   *
+   * @return 진행 중 요청 수
+   */
+  public int getInFlight() {
+    return Math.max(0, limit - permits.availablePermits());
+  }
+
+  private static void validate(int limit) {
+    if (limit < 1) {
+      throw new IllegalArgumentException("Concurrency limit must be >= 1");
+    }
+  }
+
+  /**
+   * 허가 수 감소를 외부에 노출하는 Semaphore.
+   */
+  private static final class ResizableSemaphore extends Semaphore {
+
+    private static final long serialVersionUID = 1L;
+
+    private ResizableSemaphore(int permits) {
+      super(permits);
+    }
+
+    private void reduce(int reduction) {
+      reducePermits(reduction);
+    }
+  }
+}
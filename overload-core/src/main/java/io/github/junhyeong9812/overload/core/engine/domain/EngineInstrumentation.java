@@ -0,0 +1,74 @@
+package io.github.junhyeong9812.overload.core.engine.domain;
+
+/**
+ * 엔진 내부 오버헤드를 관찰하기 위한 계측 인터페이스.
+ *
+ * <p>엔진은 요청마다 스케줄링 지연, 동시성 허가 대기 시간, 콜백 실행 시간을
+ * 나노초 단위로 보고한다. 결과가 나쁠 때 병목이 대상 서버인지 생성기 자체인지
+ * 구분하는 데 사용된다.
+ *
+ * <p>모든 메서드는 요청의 Virtual Thread에서 직접 호출되므로
+ * 구현체는 스레드 안전해야 하며 O(1)로 동작해야 한다.
+ *
+ * <p><b>사용 예시:</b>
+ * <pre>{@code
+ * GeneratorHealthMonitor monitor = new GeneratorHealthMonitor();
+ * ExecutionContext context = new ExecutionContext(config.totalRequests(), monitor);
+ * engine.execute(config, callback, context);
+ * }</pre>
+ *
+ * @author junhyeong9812
+ * @since 1.1.0
+ * @see ExecutionContext
+ */
+public interface EngineInstrumentation {
+
+  /**
+   * 작업 제출부터 작업 스레드가 실제로 시작되기까지의 지연을 기록한다.
+   *
+   * @param nanos 스케줄링 지연 (나노초)
+   */
+  void recordSchedulingLag(long nanos);
+
+  /**
+   * 동시성 허가(permit)를 얻기까지 대기한 시간을 기록한다.
+   *
+   * @param nanos 대기 시간 (나노초)
+   */
+  void recordPermitWait(long nanos);
+
+  /**
+   * 진행 상황 콜백 실행 시간을 기록한다.
+   *
+   * @param nanos 콜백 실행 시간 (나노초)
+   */
+  void recordCallbackTime(long nanos);
+
+  /**
+   * 아무것도 기록하지 않는 계측 인스턴스를 반환한다.
+   *
+   * @return No-op 계측 인스턴스
+   */
+  static EngineInstrumentation noop() {
+    return NoopInstrumentation.INSTANCE;
+  }
+
+  /**
+   * No-op 계측 구현.
+   */
+  enum NoopInstrumentation implements EngineInstrumentation {
+    INSTANCE;
+
+    @Override
+    public void recordSchedulingLag(long nanos) {
+    }
+
+    @Override
+    public void recordPermitWait(long nanos) {
+    }
+
+    @Override
+    public void recordCallbackTime(long nanos) {
+    }
+  }
+}
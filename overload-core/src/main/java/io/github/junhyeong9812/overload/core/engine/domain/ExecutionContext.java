@@ -1,7 +1,13 @@
 package io.github.junhyeong9812.overload.core.engine.domain;
 
+import io.github.junhyeong9812.overload.core.config.RateLimitConfig;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * 부하 테스트 실행 컨텍스트.
@@ -11,9 +17,13 @@ import java.util.concurrent.atomic.AtomicInteger;
  *
  * <p><b>관리 상태:</b>
  * <ul>
- *   <li>총 요청 수</li>
+ *   <li>총 요청 수와 종료 시각 - 실행 중 조정 가능. 엔진은 요청을 시작하기 전에
+ *       {@link #tryClaimRequest()}로 시작 권한을 얻는다</li>
  *   <li>완료된 요청 수</li>
- *   <li>취소 여부</li>
+ *   <li>취소 여부와 사유 - 취소 시 등록된 훅 실행 (진행 중 요청 중단 등)</li>
+ *   <li>엔진 계측({@link EngineInstrumentation})</li>
+ *   <li>동시 요청 제한({@link ConcurrencyLimiter}) - 실행 중 조정 가능</li>
+ *   <li>요청 속도 제한({@link RateLimiter}) - 설정된 경우만, 실행 중 조정 가능</li>
  * </ul>
  *
  * <p><b>사용 예시:</b>
@@ -35,9 +45,19 @@ import java.util.concurrent.atomic.AtomicInteger;
  */
 public class ExecutionContext {
 
-  private final int totalRequests;
+  private volatile int totalRequests;
+  private volatile long deadlineNanos;
+  private volatile boolean deadlineSet;
+  private final AtomicInteger claimedCount = new AtomicInteger(0);
   private final AtomicInteger completedCount = new AtomicInteger(0);
+  private final List<Runnable> limitHooks = new CopyOnWriteArrayList<>();
   private final AtomicBoolean cancelled = new AtomicBoolean(false);
+  private final List<Runnable> cancelHooks = new CopyOnWriteArrayList<>();
+  private volatile String cancelReason;
+  private final EngineInstrumentation instrumentation;
+  private final AtomicReference<ConcurrencyLimiter> concurrencyLimiter = new AtomicReference<>();
+  private final AtomicReference<RateLimiter> rateLimiter = new AtomicReference<>();
+  private volatile boolean collectResults = true;
 
   /**
    * 지정된 총 요청 수로 ExecutionContext를 생성한다.
@@ -45,7 +65,19 @@ public class ExecutionContext {
    * @param totalRequests 총 요청 수
    */
   public ExecutionContext(int totalRequests) {
+    this(totalRequests, EngineInstrumentation.noop());
+  }
+
+  /**
+   * 지정된 총 요청 수와 엔진 계측으로 ExecutionContext를 생성한다.
+   *
+   * @param totalRequests   총 요청 수
+   * @param instrumentation 엔진 오버헤드를 기록할 계측
+   * @since 1.1.0
+   */
+  public ExecutionContext(int totalRequests, EngineInstrumentation instrumentation) {
     this.totalRequests = totalRequests;
+    this.instrumentation = instrumentation;
   }
 
   /**
@@ -57,6 +89,125 @@ public class ExecutionContext {
     return totalRequests;
   }
 
+  /**
+   * 실행 중 총 요청 수를 변경한다.
+   *
+   * <p>이미 시작된 요청 수보다 낮추면 새 요청이 더 시작되지 않고, 진행 중 요청이 끝나면 실행이 끝난다.
+   * 등록된 변경 훅이 실행된다.
+   *
+   * @param totalRequests 새 총 요청 수
+   * @throws IllegalArgumentException totalRequests가 1 미만인 경우
+   * @since 1.1.0
+   */
+  public void setTotalRequests(int totalRequests) {
+    if (totalRequests < 1) {
+      throw new IllegalArgumentException("Total requests must be >= 1");
+    }
+    this.totalRequests = totalRequests;
+    fireLimitHooks();
+  }
+
+  /**
+   * 지정된 시간이 지나면 새 요청을 시작하지 않도록 종료 시각을 설정한다.
+   *
+   * <p>이전에 설정된 종료 시각은 대체된다. 진행 중 요청은 끝까지 실행된다.
+   * 등록된 변경 훅이 실행된다.
+   *
+   * @param duration 지금부터 새 요청을 시작할 시간 (0이면 즉시 멈춤)
+   * @throws IllegalArgumentException duration이 음수인 경우
+   * @since 1.1.0
+   */
+  public void stopAfter(Duration duration) {
+    if (duration.isNegative()) {
+      throw new IllegalArgumentException("Stop-after must not be negative");
+    }
+    this.deadlineNanos = System.nanoTime() + duration.toNanos();
+    this.deadlineSet = true;
+    fireLimitHooks();
+  }
+
+  /**
+   * 종료 시각이 지났는지 확인한다.
+   *
+   * @return 종료 시각이 설정되었고 지났으면 {@code true}
+   * @since 1.1.0
+   */
+  public boolean isPastDeadline() {
+    return deadlineSet && System.nanoTime() - deadlineNanos >= 0;
+  }
+
+  /**
+   * 종료 시각까지 남은 시간을 반환한다.
+   *
+   * @return 남은 나노초, 종료 시각이 없으면 {@link Long#MAX_VALUE}
+   * @since 1.1.0
+   */
+  public long nanosUntilDeadline() {
+    return deadlineSet ? Math.max(0, deadlineNanos - System.nanoTime()) : Long.MAX_VALUE;
+  }
+
+  /**
+   * 요청 하나를 시작할 권한을 얻는다.
+   *
+   * <p>엔진은 동시성 허가를 얻은 직후, 요청을 보내기 전에 호출한다. 총 요청 수만큼 시작되었거나
+   * 종료 시각이 지났으면 false를 반환하며, 이 경우 요청을 보내지 않고 허가를 반납해야 한다.
+   *
+   * @return 요청을 시작해도 되면 {@code true}
+   * @since 1.1.0
+   */
+  public boolean tryClaimRequest() {
+    if (isPastDeadline()) {
+      return false;
+    }
+    while (true) {
+      int claimed = claimedCount.get();
+      if (claimed >= totalRequests) {
+        return false;
+      }
+      if (claimedCount.compareAndSet(claimed, claimed + 1)) {
+        return true;
+      }
+    }
+  }
+
+  /**
+   * 시작 권한을 얻은 요청 수를 반환한다.
+   *
+   * @return 시작된 요청 수
+   * @since 1.1.0
+   */
+  public int getClaimedCount() {
+    return claimedCount.get();
+  }
+
+  /**
+   * 아직 시작할 수 있는 요청이 남아 있는지 확인한다.
+   *
+   * @return 총 요청 수에 도달하지 않았고 종료 시각이 지나지 않았으면 {@code true}
+   * @since 1.1.0
+   */
+  public boolean hasUnclaimedRequests() {
+    return claimedCount.get() < totalRequests && !isPastDeadline();
+  }
+
+  /**
+   * 총 요청 수나 종료 시각이 바뀔 때 실행할 훅을 등록한다.
+   *
+   * <p>엔진은 이 훅으로 대기 중인 제출 스레드를 깨운다.
+   *
+   * @param hook 변경 시 실행할 작업
+   * @since 1.1.0
+   */
+  public void onLimitChange(Runnable hook) {
+    limitHooks.add(hook);
+  }
+
+  private void fireLimitHooks() {
+    for (Runnable hook : limitHooks) {
+      hook.run();
+    }
+  }
+
   /**
    * 현재까지 완료된 요청 수를 반환한다.
    *
@@ -88,7 +239,171 @@ public class ExecutionContext {
    * 테스트를 취소한다.
    */
   public void cancel() {
-    cancelled.set(true);
+    cancel("Cancelled");
+  }
+
+  /**
+   * 사유와 함께 테스트를 취소한다.
+   *
+   * <p>처음 취소할 때만 사유가 기록되고 등록된 취소 훅이 실행된다.
+   * 이후 호출은 무시된다.
+   *
+   * @param reason 취소 사유
+   * @since 1.1.0
+   */
+  public void cancel(String reason) {
+    if (!cancelled.compareAndSet(false, true)) {
+      return;
+    }
+    cancelReason = reason;
+    for (Runnable hook : cancelHooks) {
+      if (cancelHooks.remove(hook)) {
+        hook.run();
+      }
+    }
+  }
+
+  /**
+   * 취소 사유를 반환한다.
+   *
+   * @return 취소 사유, 취소되지 않았으면 null
+   * @since 1.1.0
+   */
+  public String getCancelReason() {
+    return cancelReason;
+  }
+
+  /**
+   * 취소 시 실행할 훅을 등록한다.
+   *
+   * <p>엔진은 이 훅으로 새 요청 제출을 멈추고 진행 중 요청을 인터럽트한다.
+   * 이미 취소된 경우 즉시 실행된다.
+   *
+   * @param hook 취소 시 실행할 작업
+   * @since 1.1.0
+   */
+  public void onCancel(Runnable hook) {
+    cancelHooks.add(hook);
+    if (cancelled.get() && cancelHooks.remove(hook)) {
+      hook.run();
+    }
+  }
+
+  /**
+   * 엔진 계측을 반환한다.
+   *
+   * @return 엔진 계측 (계측이 없으면 No-op)
+   * @since 1.1.0
+   */
+  public EngineInstrumentation getInstrumentation() {
+    return instrumentation;
+  }
+
+  /**
+   * 이 실행의 동시 요청 제한기를 반환한다.
+   *
+   * <p>제한기가 아직 없으면 지정된 초기 제한으로 생성한다. 엔진은 실행 시작 시
+   * 설정된 동시성으로 이 메서드를 호출하며, 그 전에 {@link #setConcurrencyLimit(int)}가
+   * 호출되었다면 그 값이 우선한다.
+   *
+   * @param initialLimit 제한기가 없을 때 사용할 초기 제한
+   * @return 동시 요청 제한기
+   * @since 1.1.0
+   */
+  public ConcurrencyLimiter concurrencyLimiter(int initialLimit) {
+    ConcurrencyLimiter limiter = concurrencyLimiter.get();
+    if (limiter != null) {
+      return limiter;
+    }
+    concurrencyLimiter.compareAndSet(null, new ConcurrencyLimiter(initialLimit));
+    return concurrencyLimiter.get();
+  }
+
+  /**
+   * 실행 중 동시 요청 제한을 변경한다.
+   *
+   * @param limit 새 동시 요청 제한
+   * @throws IllegalArgumentException limit이 1 미만인 경우
+   * @since 1.1.0
+   */
+  public void setConcurrencyLimit(int limit) {
+    concurrencyLimiter(limit).setLimit(limit);
+  }
+
+  /**
+   * 현재 동시 요청 제한을 반환한다.
+   *
+   * @return 동시 요청 제한, 실행 시작 전이면 0
+   * @since 1.1.0
+   */
+  public int getConcurrencyLimit() {
+    ConcurrencyLimiter limiter = concurrencyLimiter.get();
+    return limiter != null ? limiter.getLimit() : 0;
+  }
+
+  /**
+   * 이 실행의 요청 속도 제한기를 반환한다.
+   *
+   * <p>제한기가 아직 없고 설정이 주어지면 그 설정으로 생성한다.
+   *
+   * @param config 제한기가 없을 때 사용할 속도 제한 설정 (nullable)
+   * @return 요청 속도 제한기, 속도 제한이 없으면 null
+   * @since 1.1.0
+   */
+  public RateLimiter rateLimiter(RateLimitConfig config) {
+    RateLimiter limiter = rateLimiter.get();
+    if (limiter != null || config == null) {
+      return limiter;
+    }
+    rateLimiter.compareAndSet(null, new RateLimiter(config));
+    return rateLimiter.get();
+  }
+
+  /**
+   * 현재 요청 속도 제한기를 반환한다.
+   *
+   * @return 요청 속도 제한기, 속도 제한이 없으면 null
+   * @since 1.1.0
+   */
+  public RateLimiter getRateLimiter() {
+    return rateLimiter.get();
+  }
+
+  /**
+   * 실행 중 목표 초당 요청 수를 변경한다.
+   *
+   * <p>속도 제한 없이 시작한 실행이면 이 속도로 제한기를 새로 만든다. 엔진은 요청마다
+   * {@link #getRateLimiter()}를 읽으므로 이후 요청부터 적용된다.
+   *
+   * @param requestsPerSecond 새 최대 초당 요청 수
+   * @throws IllegalArgumentException requestsPerSecond가 0 이하인 경우
+   * @since 1.1.0
+   */
+  public void setRequestsPerSecond(double requestsPerSecond) {
+    rateLimiter(RateLimitConfig.of(requestsPerSecond)).setRate(requestsPerSecond);
+  }
+
+  /**
+   * 엔진이 반환할 결과 목록을 채울지 설정한다.
+   *
+   * <p>콜백으로 결과를 스트리밍 집계하는 호출자는 false로 설정해, 엔진이 요청마다
+   * 결과 객체를 목록에 쌓지 않게 한다. 이 경우 엔진은 빈 목록을 반환한다.
+   *
+   * @param collectResults 결과 목록 수집 여부 (기본값: true)
+   * @since 1.1.0
+   */
+  public void setCollectResults(boolean collectResults) {
+    this.collectResults = collectResults;
+  }
+
+  /**
+   * 엔진이 결과 목록을 채우는지 확인한다.
+   *
+   * @return 결과 목록을 수집하면 {@code true}
+   * @since 1.1.0
+   */
+  public boolean isCollectResults() {
+    return collectResults;
   }
 
   /**
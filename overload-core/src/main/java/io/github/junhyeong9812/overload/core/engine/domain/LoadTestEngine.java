@@ -15,8 +15,12 @@ import java.util.List;
  * <p><b>구현체:</b>
  * <ul>
  *   <li>{@code VirtualThreadEngine} - Java 21 Virtual Thread 기반 (기본)</li>
+ *   <li>{@code PlatformThreadEngine} - 고정 크기 Platform Thread 풀 기반</li>
+ *   <li>{@code DedicatedCarrierEngine} - 전용 캐리어 스케줄러 위의 Virtual Thread 기반</li>
  * </ul>
  *
+ * <p>엔진이 캐리어 풀 등 자원을 보유하는 경우 엔진을 만든 쪽이 {@link #close()}로 해제한다.
+ *
  * <p><b>사용 예시:</b>
  * <pre>{@code
  * LoadTestEngine engine = new VirtualThreadEngine(httpClient);
@@ -30,7 +34,7 @@ import java.util.List;
  * @since 1.0.0
  * @see io.github.junhyeong9812.overload.core.engine.infrastructure.VirtualThreadEngine
  */
-public interface LoadTestEngine {
+public interface LoadTestEngine extends AutoCloseable {
 
   /**
    * 부하 테스트를 실행한다.
@@ -43,4 +47,34 @@ public interface LoadTestEngine {
    * @return 모든 요청 결과 목록
    */
   List<RequestResult> execute(LoadTestConfig config, ProgressCallback callback);
+
+  /**
+   * 호출자가 제공한 실행 컨텍스트로 부하 테스트를 실행한다.
+   *
+   * <p>호출자는 컨텍스트를 통해 실행 상태를 관찰하고 엔진 계측을 주입할 수 있다.
+   * 기본 구현은 컨텍스트를 무시하고 {@link #execute(LoadTestConfig, ProgressCallback)}를 호출한다.
+   *
+   * @param config   테스트 설정
+   * @param callback 진행 상황 콜백
+   * @param context  실행 컨텍스트
+   * @return 모든 요청 결과 목록
+   * @since 1.1.0
+   */
+  default List<RequestResult> execute(
+      LoadTestConfig config,
+      ProgressCallback callback,
+      ExecutionContext context) {
+    return execute(config, callback);
+  }
+
+  /**
+   * 엔진이 보유한 스레드 풀을 해제한다.
+   *
+   * <p>닫은 엔진으로는 더 이상 실행할 수 없다. 기본 구현은 아무것도 하지 않는다.
+   *
+   * @since 1.1.0
+   */
+  @Override
+  default void close() {
+  }
 }
\ No newline at end of file
@@ -0,0 +1,199 @@
+package io.github.junhyeong9812.overload.core.engine.domain;
+
+import io.github.junhyeong9812.overload.core.config.RateLimitConfig;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 여러 Virtual Thread가 공유하는 lock-free 토큰 버킷 속도 제한기.
+ *
+ * <p>GCRA(Generic Cell Rate Algorithm) 방식으로 다음 허가의 이론적 도착 시각 하나만
+ * {@link AtomicLong}에 보관한다. 각 요청은 CAS로 자기 발급 시각(slot)을 예약한 뒤
+ * 그 시각까지 {@link LockSupport#parkNanos(long)}로 대기한다. 따라서 전역 락이 없고,
+ * 대기 중인 Virtual Thread는 캐리어 스레드를 점유하거나 스핀하지 않는다.
+ *
+ * <p>발급 시각은 실제로 깨어난 시각이 아니라 예약된 slot을 기준으로 이어지므로,
+ * 타이머 지연으로 일부 요청이 늦게 깨어나도 장기 평균 속도는 목표에서 벗어나지 않는다.
+ * 유휴 시간 동안에는 최대 {@code burst}개까지만 허가가 쌓인다.
+ *
+ * <p><b>사용 예시:</b>
+ * <pre>{@code
+ * RateLimiter limiter = new RateLimiter(RateLimitConfig.of(3_000, 50));
+ *
+ * limiter.acquire();           // 필요하면 다음 slot까지 대기
+ * httpClient.send(request);
+ *
+ * limiter.setRate(5_000);      // 다른 스레드에서 실행 중 조정
+ * }</pre>
+ *
+ * @author junhyeong9812
+ * @since 1.1.0
+ * @see RateLimitConfig
+ */
+public class RateLimiter {
+
+  private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+  /**
+   * 타이머/스케줄링 지연으로 늦어진 발급을 만회할 수 있는 최대 시간.
+   * parkNanos는 수십 µs 늦게 깨어나는 경우가 흔해, 이 여유가 없으면 고속(100k+ req/s)에서
+   * 늦어진 만큼의 허가가 사라져 실효 속도가 목표보다 낮아진다.
+   */
+  static final long SCHEDULING_TOLERANCE_NANOS = 200_000L;
+
+  private final int burst;
+  private final AtomicLong theoreticalArrival;
+  private final LongAdder permits = new LongAdder();
+  private final LongAdder throttled = new LongAdder();
+  private final LongAdder waitNanos = new LongAdder();
+  private final AtomicLong firstGrant = new AtomicLong(Long.MIN_VALUE);
+  private final LongAccumulator lastGrant = new LongAccumulator(Math::max, Long.MIN_VALUE);
+
+  private volatile double requestsPerSecond;
+  private volatile long intervalNanos;
+
+  /**
+   * 지정된 설정으로 RateLimiter를 생성한다.
+   *
+   * @param config 속도 제한 설정
+   */
+  public RateLimiter(RateLimitConfig config) {
+    this.burst = config.burst();
+    applyRate(config.requestsPerSecond());
+    // 시작 직후에도 버스트만큼 바로 보낼 수 있도록 버킷을 가득 찬 상태로 시작
+    this.theoreticalArrival = new AtomicLong(System.nanoTime() - (burst - 1) * intervalNanos);
+  }
+
+  /**
+   * 허가를 획득한다. 속도 제한에 걸리면 예약된 발급 시각까지 대기한다.
+   *
+   * @throws InterruptedException 대기 중 인터럽트된 경우 (예약한 slot은 버려진다)
+   */
+  public void acquire() throws InterruptedException {
+    long now = System.nanoTime();
+    long slot = reserve(now);
+
+    long remaining = slot - now;
+    if (remaining > 0) {
+      throttled.increment();
+      waitNanos.add(remaining);
+      while (remaining > 0) {
+        LockSupport.parkNanos(remaining);
+        if (Thread.interrupted()) {
+          throw new InterruptedException();
+        }
+        remaining = slot - System.nanoTime();
+      }
+    }
+
+    long grantedAt = Math.max(slot, now);
+    permits.increment();
+    firstGrant.compareAndSet(Long.MIN_VALUE, grantedAt);
+    lastGrant.accumulate(grantedAt);
+  }
+
+  /**
+   * 다음 발급 시각을 CAS로 예약한다.
+   *
+   * <p>유휴 시간이 길었더라도 {@code burst - 1}개 간격(최소 {@link #SCHEDULING_TOLERANCE_NANOS})보다
+   * 이른 시각은 예약하지 않는다. 따라서 유휴 후 대기 없이 나갈 수 있는 요청은 최대 {@code burst}개이며,
+   * 간격이 매우 짧은 경우에만 스케줄링 지연을 만회할 만큼의 요청이 추가로 허용된다.
+   *
+   * @param now 현재 시각 (나노초)
+   * @return 예약된 발급 시각 (나노초)
+   */
+  private long reserve(long now) {
+    while (true) {
+      long interval = intervalNanos;
+      long current = theoreticalArrival.get();
+      long earliest = now - Math.max((burst - 1) * interval, SCHEDULING_TOLERANCE_NANOS);
+      long slot = Math.max(current, earliest);
+      if (theoreticalArrival.compareAndSet(current, slot + interval)) {
+        return slot;
+      }
+    }
+  }
+
+  /**
+   * 실행 중 목표 속도를 변경한다.
+   *
+   * <p>이미 예약된 slot에는 영향이 없고 이후 예약부터 새 간격이 적용된다.
+   *
+   * @param requestsPerSecond 새 최대 초당 요청 수
+   * @throws IllegalArgumentException requestsPerSecond가 0 이하인 경우
+   */
+  public void setRate(double requestsPerSecond) {
+    if (!(requestsPerSecond > 0) || Double.isInfinite(requestsPerSecond)) {
+      throw new IllegalArgumentException("Requests per second must be positive");
+    }
+    applyRate(requestsPerSecond);
+  }
+
+  private void applyRate(double requestsPerSecond) {
+    this.requestsPerSecond = requestsPerSecond;
+    this.intervalNanos = Math.max(1, Math.round(NANOS_PER_SECOND / requestsPerSecond));
+  }
+
+  /**
+   * 현재 목표 초당 요청 수를 반환한다.
+   *
+   * @return 목표 초당 요청 수
+   */
+  public double getRate() {
+    return requestsPerSecond;
+  }
+
+  /**
+   * 허용 버스트를 반환한다.
+   *
+   * @return 유휴 후 연달아 허용하는 요청 수
+   */
+  public int getBurst() {
+    return burst;
+  }
+
+  /**
+   * 발급된 허가 수를 반환한다.
+   *
+   * @return 허가 수
+   */
+  public long getPermits() {
+    return permits.sum();
+  }
+
+  /**
+   * 대기 후 발급된 허가 수를 반환한다.
+   *
+   * @return 제한에 걸린 허가 수
+   */
+  public long getThrottled() {
+    return throttled.sum();
+  }
+
+  /**
+   * 대기한 허가의 평균 대기 시간을 반환한다.
+   *
+   * @return 평균 대기 시간 (마이크로초), 대기한 허가가 없으면 0
+   */
+  public double getAverageWaitMicros() {
+    long count = throttled.sum();
+    return count > 0 ? waitNanos.sum() / 1_000.0 / count : 0;
+  }
+
+  /**
+   * 첫 허가부터 마지막 허가까지의 실효 초당 요청 수를 반환한다.
+   *
+   * @return 실효 초당 요청 수, 허가가 2개 미만이면 0
+   */
+  public double getEffectiveRate() {
+    long count = permits.sum();
+    long span = lastGrant.get() - firstGrant.get();
+    if (count < 2 || span <= 0) {
+      return 0;
+    }
+    return (double) (count - 1) * NANOS_PER_SECOND / span;
+  }
+}
\ No newline at end of file
@@ -0,0 +1,188 @@
+package io.github.junhyeong9812.overload.core.engine.infrastructure;
+
+import io.github.junhyeong9812.overload.core.config.LoadTestConfig;
+import io.github.junhyeong9812.overload.core.http.application.port.HttpClientPort;
+
+import java.lang.System.Logger;
+import java.lang.System.Logger.Level;
+import java.lang.reflect.Constructor;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 전용 캐리어 스케줄러 위에서 Virtual Thread를 실행하는 부하 테스트 엔진 구현체.
+ *
+ * <p>{@link VirtualThreadEngine}의 Virtual Thread는 JVM 전역 기본 스케줄러(ForkJoinPool)를 공유하므로,
+ * Spring Boot 스타터처럼 애플리케이션과 같은 JVM에서 실행하면 부하 생성기와 애플리케이션의 Virtual Thread가
+ * 같은 캐리어를 두고 경쟁한다. 이 엔진은 엔진마다 {@code parallelism}개 캐리어를 가진 ForkJoinPool을 만들고
+ * 요청용 Virtual Thread를 그 위에서만 실행한다. 생성기가 쓰는 CPU가 캐리어 수로 제한되고, 애플리케이션의
+ * 스케줄러는 영향을 받지 않는다.
+ *
+ * <p>Java 21에는 Virtual Thread 스케줄러를 지정하는 공개 API가 없어 JDK 내부 생성자를 리플렉션으로 사용한다.
+ * JVM을 {@code --add-opens java.base/java.lang=ALL-UNNAMED}로 실행해야 하며, 열려 있지 않으면 경고를 남기고
+ * 기본 스케줄러로 실행한다({@link #isDedicated()}가 false). Java에는 스레드를 특정 코어에 고정하는 API가 없으므로
+ * 코어 고정이 필요하면 {@code taskset}이나 cgroup cpuset으로 JVM 단위로 지정한다.
+ *
+ * <p>캐리어는 데몬 스레드이며 유휴 상태가 {@link #CARRIER_KEEP_ALIVE_SECONDS}초 지속되면 종료된다.
+ * 캐리어 풀은 엔진이 소유하므로 엔진을 만든 쪽이 {@link #close()}로 종료한다. {@code LoadTester}는
+ * 실행이 끝나면 팩토리로 만든 엔진을 닫는다.
+ *
+ * <p><b>사용 예시:</b>
+ * <pre>{@code
+ * TestResult result = LoadTester.run(config, callback, httpClient,
+ *     client -> new DedicatedCarrierEngine(client, 2));
+ *
+ * try (DedicatedCarrierEngine engine = new DedicatedCarrierEngine(httpClient, 2)) {
+ *   engine.execute(config, callback);
+ * }
+ * }</pre>
+ *
+ * @author junhyeong9812
+ * @since 1.1.0
+ * @see ExecutorEngine
+ */
+public class DedicatedCarrierEngine extends ExecutorEngine {
+
+  private static final Logger logger = System.getLogger(DedicatedCarrierEngine.class.getName());
+
+  /** 유휴 캐리어가 종료되기까지의 시간 (초) */
+  static final long CARRIER_KEEP_ALIVE_SECONDS = 30;
+
+  private static final Constructor<?> BUILDER_CONSTRUCTOR = findBuilderConstructor();
+
+  private final int parallelism;
+  private final ForkJoinPool carriers;
+  private final ThreadFactory threadFactory;
+
+  /**
+   * 사용 가능한 프로세서 수만큼 캐리어를 두는 DedicatedCarrierEngine을 생성한다.
+   *
+   * @param httpClient HTTP 요청을 수행할 클라이언트
+   */
+  public DedicatedCarrierEngine(HttpClientPort httpClient) {
+    this(httpClient, 0);
+  }
+
+  /**
+   * 지정된 수의 캐리어를 두는 DedicatedCarrierEngine을 생성한다.
+   *
+   * @param httpClient  HTTP 요청을 수행할 클라이언트
+   * @param parallelism 캐리어 스레드 수 (0이면 사용 가능한 프로세서 수)
+   * @throws IllegalArgumentException parallelism이 음수인 경우
+   */
+  public DedicatedCarrierEngine(HttpClientPort httpClient, int parallelism) {
+    super(httpClient);
+    if (parallelism < 0) {
+      throw new IllegalArgumentException("Parallelism must be >= 0");
+    }
+    this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+    this.carriers = BUILDER_CONSTRUCTOR != null ? createCarriers(this.parallelism) : null;
+    this.threadFactory = createThreadFactory(carriers);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>요청마다 전용 캐리어 위의 Virtual Thread를 하나씩 만든다.
+   */
+  @Override
+  protected ExecutorService newExecutor(LoadTestConfig config) {
+    return Executors.newThreadPerTaskExecutor(threadFactory);
+  }
+
+  /**
+   * 캐리어 스레드 수를 반환한다.
+   *
+   * @return 캐리어 수
+   */
+  public int parallelism() {
+    return parallelism;
+  }
+
+  /**
+   * 전용 캐리어가 실제로 사용되는지 확인한다.
+   *
+   * @return JDK 내부 API를 사용할 수 없어 기본 스케줄러로 실행 중이면 {@code false}
+   */
+  public boolean isDedicated() {
+    return BUILDER_CONSTRUCTOR != null;
+  }
+
+  /**
+   * 전용 캐리어 풀을 종료한다.
+   *
+   * <p>실행 중인 Virtual Thread는 끝까지 실행되고, 이후 이 엔진으로는 실행할 수 없다.
+   * 기본 스케줄러로 실행 중이면 아무것도 하지 않는다.
+   */
+  @Override
+  public void close() {
+    if (carriers != null) {
+      carriers.shutdown();
+    }
+  }
+
+  /**
+   * 캐리어 수를 {@code parallelism}으로 고정한 ForkJoinPool을 만든다.
+   *
+   * <p>캐리어를 특정 코어에 고정(affinity)하지는 않는다. JDK에는 스레드를 코어에 고정하는 이식 가능한 API가
+   * 없으므로 캐리어 수로 생성기의 CPU 사용량만 제한하고, 코어 고정은 {@code taskset}이나 cgroup cpuset으로
+   * JVM 단위로 지정한다.
+   */
+  private static ForkJoinPool createCarriers(int parallelism) {
+    return new ForkJoinPool(
+        parallelism,
+        pool -> {
+          ForkJoinWorkerThread thread =
+              ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+          thread.setName("overload-carrier-" + thread.getPoolIndex());
+          return thread;
+        },
+        null,
+        true,
+        0,
+        parallelism,
+        1,
+        pool -> true,
+        CARRIER_KEEP_ALIVE_SECONDS,
+        TimeUnit.SECONDS);
+  }
+
+  private static ThreadFactory createThreadFactory(ForkJoinPool carriers) {
+    if (carriers == null) {
+      return Thread.ofVirtual().name("overload-vt-", 0).factory();
+    }
+    try {
+      Thread.Builder.OfVirtual builder =
+          (Thread.Builder.OfVirtual) BUILDER_CONSTRUCTOR.newInstance(carriers);
+      return builder.name("overload-vt-", 0).factory();
+    } catch (ReflectiveOperationException e) {
+      carriers.shutdown();
+      throw new IllegalStateException("Failed to create virtual thread builder", e);
+    }
+  }
+
+  /**
+   * 스케줄러를 받는 JDK 내부 Virtual Thread 빌더 생성자를 찾는다.
+   *
+   * @return 생성자, 사용할 수 없으면 {@code null}
+   */
+  private static Constructor<?> findBuilderConstructor() {
+    try {
+      Class<?> builderClass = Class.forName("java.lang.ThreadBuilders$VirtualThreadBuilder");
+      Constructor<?> constructor = builderClass.getDeclaredConstructor(Executor.class);
+      constructor.setAccessible(true);
+      return constructor;
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      logger.log(Level.WARNING,
+          "Dedicated carrier scheduler unavailable ({0}); virtual threads use the default scheduler. "
+              + "Run with --add-opens java.base/java.lang=ALL-UNNAMED to enable it",
+          e.toString());
+      return null;
+    }
+  }
+}
\ No newline at end of file
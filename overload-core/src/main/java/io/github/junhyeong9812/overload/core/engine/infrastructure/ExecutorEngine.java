@@ -0,0 +1,307 @@
+package io.github.junhyeong9812.overload.core.engine.infrastructure;
+
+import io.github.junhyeong9812.overload.core.callback.ProgressCallback;
+import io.github.junhyeong9812.overload.core.config.LoadTestConfig;
+import io.github.junhyeong9812.overload.core.engine.domain.ConcurrencyLimiter;
+import io.github.junhyeong9812.overload.core.engine.domain.EngineInstrumentation;
+import io.github.junhyeong9812.overload.core.engine.domain.ExecutionContext;
+import io.github.junhyeong9812.overload.core.engine.domain.LoadTestEngine;
+import io.github.junhyeong9812.overload.core.engine.domain.RateLimiter;
+import io.github.junhyeong9812.overload.core.http.application.port.HttpClientPort;
+import io.github.junhyeong9812.overload.core.http.domain.HttpRequest;
+import io.github.junhyeong9812.overload.core.http.domain.RequestResult;
+import io.github.junhyeong9812.overload.core.jfr.RequestEvent;
+
+import java.lang.System.Logger;
+import java.lang.System.Logger.Level;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * {@link ExecutorService} 위에서 요청마다 작업을 제출하는 부하 테스트 엔진의 공통 구현.
+ *
+ * <p>제출, 동시성 허가, 속도 제한, 계측, 취소 처리는 모든 하위 엔진이 같고,
+ * 하위 클래스는 요청 작업을 실행할 스레드만 {@link #newExecutor(LoadTestConfig)}로 정한다.
+ * 엔진 간 비교에서 차이는 스레드 전략에서만 나온다.
+ *
+ * <p>총 요청 수와 종료 시각은 실행 중에 바뀔 수 있으므로 고정된 횟수만큼 제출하지 않는다.
+ * 호출 스레드가 제출 스레드가 되어 시작할 수 있는 요청만큼 작업을 제출하고, 작업은 허가를 얻은 뒤
+ * {@link ExecutionContext#tryClaimRequest()}로 시작 권한을 확인한다. 총 요청 수가 늘어나면
+ * 제출 스레드가 깨어나 작업을 더 제출하고, 줄어들거나 종료 시각이 지나면 남은 작업은 요청 없이 끝난다.
+ *
+ * @author junhyeong9812
+ * @since 1.1.0
+ * @see VirtualThreadEngine
+ * @see PlatformThreadEngine
+ * @see DedicatedCarrierEngine
+ */
+public abstract class ExecutorEngine implements LoadTestEngine {
+
+  private static final Logger logger = System.getLogger(ExecutorEngine.class.getName());
+
+  /** 취소 후 진행 중 요청이 정리되기를 기다리는 최대 시간 */
+  static final Duration CANCEL_DRAIN_TIMEOUT = Duration.ofSeconds(1);
+
+  private static final long POLL_INTERVAL_MS = 50;
+
+  private static final long POLL_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(POLL_INTERVAL_MS);
+
+  private final HttpClientPort httpClient;
+
+  /**
+   * 지정된 HTTP 클라이언트로 엔진을 생성한다.
+   *
+   * @param httpClient HTTP 요청을 수행할 클라이언트
+   */
+  protected ExecutorEngine(HttpClientPort httpClient) {
+    this.httpClient = httpClient;
+  }
+
+  /**
+   * 한 번의 실행에서 요청 작업을 실행할 Executor를 생성한다.
+   *
+   * <p>실행이 끝나면 엔진이 {@link ExecutorService#shutdown()}하고, 취소되면
+   * {@link ExecutorService#shutdownNow()}로 진행 중 작업을 인터럽트한다.
+   *
+   * @param config 부하 테스트 설정
+   * @return 새로운 Executor
+   */
+  protected abstract ExecutorService newExecutor(LoadTestConfig config);
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>{@link #newExecutor(LoadTestConfig)}가 만든 스레드에서 요청을 병렬로 실행한다.
+   * Semaphore를 통해 동시 실행 수를 제한한다.
+   *
+   * <p>각 요청 완료 시 콜백이 호출되며, 개별 요청 결과가 함께 전달된다.
+   * InterruptedException 발생 시 해당 요청은 결과에 포함되지 않으며,
+   * 콜백도 호출되지 않는다.
+   *
+   * @param config   부하 테스트 설정
+   * @param callback 진행 상황 및 개별 요청 결과를 받을 콜백
+   * @return 모든 요청의 결과 목록
+   */
+  @Override
+  public List<RequestResult> execute(LoadTestConfig config, ProgressCallback callback) {
+    return execute(config, callback, new ExecutionContext(config.totalRequests()));
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>컨텍스트의 {@link EngineInstrumentation}에 요청마다 스케줄링 지연,
+   * 허가 대기 시간, 콜백 실행 시간을 기록한다.
+   *
+   * <p>컨텍스트가 취소되면 남은 요청을 제출하지 않고, 실행 중인 모든 작업 스레드를
+   * 인터럽트하여 허가 대기와 진행 중 HTTP 교환을 중단한다. 인터럽트로 중단된 요청은
+   * 대상 서버의 실패가 아니므로 결과에 포함하지 않는다. 취소 후 최대
+   * {@link #CANCEL_DRAIN_TIMEOUT}만 기다린 뒤 그때까지의 결과를 반환한다.
+   *
+   * <p>{@link ExecutionContext#isCollectResults()}가 false이면 결과는 콜백으로만 전달되고
+   * 빈 목록을 반환한다.
+   *
+   * @param config   부하 테스트 설정
+   * @param callback 진행 상황 및 개별 요청 결과를 받을 콜백
+   * @param context  실행 컨텍스트
+   * @return 모든 요청의 결과 목록
+   */
+  @Override
+  public List<RequestResult> execute(
+      LoadTestConfig config,
+      ProgressCallback callback,
+      ExecutionContext context) {
+    List<RequestResult> results = new CopyOnWriteArrayList<>();
+    ConcurrencyLimiter limiter = context.concurrencyLimiter(config.concurrency());
+    context.rateLimiter(config.rateLimit());
+
+    HttpRequest request = HttpRequest.from(
+        config.url(),
+        config.method(),
+        config.headers(),
+        config.body()
+    );
+
+    ExecutorService executor = newExecutor(config);
+    Backlog backlog = new Backlog();
+    context.onCancel(executor::shutdownNow);
+    context.onCancel(backlog::wake);
+    context.onLimitChange(backlog::wake);
+    try {
+      while (!context.isCancelled()) {
+        if (backlog.canSubmit(context)) {
+          long submittedAt = System.nanoTime();
+          backlog.submitted();
+          try {
+            executor.submit(() -> {
+              try {
+                executeRequest(request, results, context, limiter, callback, submittedAt, backlog);
+              } finally {
+                backlog.finished();
+              }
+            });
+          } catch (RejectedExecutionException e) {
+            break;
+          }
+        } else if (backlog.isIdle() && !backlog.canSubmit(context)) {
+          break;
+        } else {
+          // 총 요청 수 변경, 종료 시각, 마지막 작업 종료 중 먼저 오는 것을 기다린다
+          LockSupport.parkNanos(Math.min(context.nanosUntilDeadline(), POLL_INTERVAL_NANOS));
+        }
+      }
+    } finally {
+      executor.shutdown();
+      awaitTermination(executor, context);
+    }
+
+    // 취소 후 정리 시간 안에 끝나지 않은 요청이 결과를 추가하지 않도록 스냅샷을 반환
+    return context.isCancelled() ? List.copyOf(results) : results;
+  }
+
+  /**
+   * 개별 HTTP 요청을 실행한다.
+   *
+   * <p>동시성 허가를 획득하고 시작 권한을 확인한 뒤, 속도 제한이 있으면 발급 시각까지 대기한 후
+   * 요청을 수행한다. 결과를 기록한 후 콜백을 호출한다. 속도 제한 대기는 지연 시간에 포함되지 않는다.
+   * 속도 제한기는 실행 중에 생길 수 있으므로 요청마다 컨텍스트에서 읽는다.
+   *
+   * @param request     실행할 HTTP 요청
+   * @param results     결과를 저장할 리스트
+   * @param context     실행 컨텍스트 (취소 상태, 완료 카운트, 계측, 시작 권한)
+   * @param limiter     동시성 제어용 제한기
+   * @param callback    진행 상황 콜백
+   * @param submittedAt 작업 제출 시각 (나노초)
+   * @param backlog     제출 상태
+   */
+  private void executeRequest(
+      HttpRequest request,
+      List<RequestResult> results,
+      ExecutionContext context,
+      ConcurrencyLimiter limiter,
+      ProgressCallback callback,
+      long submittedAt,
+      Backlog backlog) {
+
+    EngineInstrumentation instrumentation = context.getInstrumentation();
+    long startedAt = System.nanoTime();
+    instrumentation.recordSchedulingLag(startedAt - submittedAt);
+
+    if (context.isCancelled()) {
+      return;
+    }
+
+    boolean acquired = false;
+    try {
+      limiter.acquire();
+      acquired = true;
+      instrumentation.recordPermitWait(System.nanoTime() - startedAt);
+      backlog.started();
+      if (!context.tryClaimRequest()) {
+        return;
+      }
+      RateLimiter rateLimiter = context.getRateLimiter();
+      if (rateLimiter != null) {
+        rateLimiter.acquire();
+      }
+
+      RequestEvent event = new RequestEvent();
+      event.begin();
+      RequestResult result = httpClient.send(request);
+      if (context.isCancelled() && Thread.currentThread().isInterrupted()) {
+        return;
+      }
+      if (event.shouldCommit()) {
+        event.set(request, result);
+        event.commit();
+      }
+      if (context.isCollectResults()) {
+        results.add(result);
+      }
+
+      int completed = context.incrementAndGetCompleted();
+      long callbackStart = System.nanoTime();
+      callback.onProgress(completed, context.getTotalRequests(), result);
+      instrumentation.recordCallbackTime(System.nanoTime() - callbackStart);
+
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } finally {
+      if (acquired) {
+        limiter.release();
+      }
+    }
+  }
+
+  /**
+   * 모든 요청의 완료를 대기한다.
+   *
+   * <p>취소되면 인터럽트된 요청이 정리될 때까지 최대 {@link #CANCEL_DRAIN_TIMEOUT}만 기다린다.
+   * 인터럽트에 응답하지 않는 요청은 남겨두고 반환하므로, 취소 후 실행이 끝나는 시간이
+   * 요청 타임아웃과 무관하게 제한된다.
+   *
+   * @param executor 종료를 대기할 Executor
+   * @param context  실행 컨텍스트
+   */
+  private void awaitTermination(ExecutorService executor, ExecutionContext context) {
+    try {
+      while (!context.isCancelled()) {
+        if (executor.awaitTermination(POLL_INTERVAL_MS, TimeUnit.MILLISECONDS)) {
+          return;
+        }
+      }
+      if (!executor.awaitTermination(CANCEL_DRAIN_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+        logger.log(Level.WARNING,
+            "In-flight requests did not stop within {0}ms after cancellation; abandoning them",
+            CANCEL_DRAIN_TIMEOUT.toMillis());
+      }
+    } catch (InterruptedException e) {
+      context.cancel("Interrupted");
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * 제출 스레드와 작업이 공유하는 제출 상태.
+   *
+   * <p>시작 권한을 아직 확인하지 않은 작업 수만큼은 더 제출하지 않으므로, 제출된 작업은
+   * 총 요청 수를 크게 넘지 않는다. 마지막 작업이 끝나면 제출 스레드를 깨운다.
+   */
+  private static final class Backlog {
+
+    private final Thread submitter = Thread.currentThread();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicInteger outstanding = new AtomicInteger();
+
+    boolean canSubmit(ExecutionContext context) {
+      return context.hasUnclaimedRequests()
+          && context.getClaimedCount() + pending.get() < context.getTotalRequests();
+    }
+
+    void submitted() {
+      pending.incrementAndGet();
+      outstanding.incrementAndGet();
+    }
+
+    void started() {
+      pending.decrementAndGet();
+    }
+
+    void finished() {
+      if (outstanding.decrementAndGet() == 0) {
+        wake();
+      }
+    }
+
+    boolean isIdle() {
+      return outstanding.get() == 0;
+    }
+
+    void wake() {
+      LockSupport.unpark(submitter);
+    }
+  }
+}
\ No newline at end of file
@@ -0,0 +1,83 @@
+package io.github.junhyeong9812.overload.core.engine.infrastructure;
+
+import io.github.junhyeong9812.overload.core.config.LoadTestConfig;
+import io.github.junhyeong9812.overload.core.http.application.port.HttpClientPort;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 고정 크기 Platform Thread 풀 기반의 부하 테스트 엔진 구현체.
+ *
+ * <p>요청 하나가 끝날 때까지 풀 스레드 하나를 점유하는 전통적인 스레드-per-요청 모델이다.
+ * 스레드 수를 지정하지 않으면 설정의 동시성만큼 스레드를 만든다. 스레드 수가 동시성보다 적으면
+ * 실효 동시성은 스레드 수로 제한되고, 남은 요청의 대기 시간은 스케줄링 지연으로 기록된다.
+ *
+ * <p>Virtual Thread 엔진과 CPU/요청, 꼬리 지연을 비교하는 기준선으로 쓰거나, Virtual Thread의
+ * 고정(pinning)을 피해야 하는 클라이언트에 사용한다. 동시성 수만 단위에서는 OS 스레드 한도에
+ * 먼저 걸린다.
+ *
+ * <p><b>사용 예시:</b>
+ * <pre>{@code
+ * TestResult result = LoadTester.run(config, callback, httpClient,
+ *     client -> new PlatformThreadEngine(client, 256));
+ * }</pre>
+ *
+ * @author junhyeong9812
+ * @since 1.1.0
+ * @see ExecutorEngine
+ */
+public class PlatformThreadEngine extends ExecutorEngine {
+
+  private final int threads;
+
+  /**
+   * 동시성만큼 스레드를 만드는 PlatformThreadEngine을 생성한다.
+   *
+   * @param httpClient HTTP 요청을 수행할 클라이언트
+   */
+  public PlatformThreadEngine(HttpClientPort httpClient) {
+    this(httpClient, 0);
+  }
+
+  /**
+   * 지정된 크기의 스레드 풀을 쓰는 PlatformThreadEngine을 생성한다.
+   *
+   * @param httpClient HTTP 요청을 수행할 클라이언트
+   * @param threads    풀 스레드 수 (0이면 설정의 동시성)
+   * @throws IllegalArgumentException threads가 음수인 경우
+   */
+  public PlatformThreadEngine(HttpClientPort httpClient, int threads) {
+    super(httpClient);
+    if (threads < 0) {
+      throw new IllegalArgumentException("Threads must be >= 0");
+    }
+    this.threads = threads;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>데몬 Platform Thread로 이루어진 고정 크기 풀을 만든다.
+   */
+  @Override
+  protected ExecutorService newExecutor(LoadTestConfig config) {
+    AtomicInteger sequence = new AtomicInteger();
+    return Executors.newFixedThreadPool(poolSize(config), runnable -> {
+      Thread thread = new Thread(runnable, "overload-platform-" + sequence.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  /**
+   * 이 실행에서 사용할 풀 스레드 수를 반환한다.
+   *
+   * @param config 부하 테스트 설정
+   * @return 풀 스레드 수
+   */
+  int poolSize(LoadTestConfig config) {
+    return threads > 0 ? threads : config.concurrency();
+  }
+}
\ No newline at end of file
@@ -3,6 +3,8 @@ package io.github.junhyeong9812.overload.core.http.application.port;
 import io.github.junhyeong9812.overload.core.http.domain.HttpRequest;
 import io.github.junhyeong9812.overload.core.http.domain.RequestResult;
 
+import java.time.Duration;
+
 /**
  * HTTP 클라이언트를 위한 출력 포트(Output Port) 인터페이스.
  *
@@ -17,6 +19,8 @@ import io.github.junhyeong9812.overload.core.http.domain.RequestResult;
  *   <li>{@code ApacheHttpClient} - Apache HttpClient 기반 (확장)</li>
  * </ul>
  *
+ * <p>클라이언트가 연결 풀 등 자원을 보유하는 경우 {@link #close()}로 해제한다.
+ *
  * <p><b>사용 예시:</b>
  * <pre>{@code
  * // 실제 구현체 사용
@@ -33,7 +37,7 @@ import io.github.junhyeong9812.overload.core.http.domain.RequestResult;
  * @see HttpRequest
  * @see RequestResult
  */
-public interface HttpClientPort {
+public interface HttpClientPort extends AutoCloseable {
 
   /**
    * HTTP 요청을 전송하고 결과를 반환한다.
@@ -51,4 +55,30 @@ public interface HttpClientPort {
    * @return 요청 결과 - 성공 또는 실패
    */
   RequestResult send(HttpRequest request);
+
+  /**
+   * 요청 타임아웃만 바꾼 뷰를 반환한다.
+   *
+   * <p>뷰는 이 클라이언트의 연결 풀과 스레드를 공유하고 타임아웃을 요청마다 적용한다.
+   * 뷰를 닫아도 공유 자원은 해제되지 않으며, 원래 클라이언트를 닫으면 뷰도 쓸 수 없다.
+   * 기본 구현은 타임아웃을 바꿀 수 없는 클라이언트로 보고 자신을 반환한다.
+   *
+   * @param timeout 요청마다 적용할 타임아웃
+   * @return 타임아웃이 적용된 클라이언트
+   * @since 1.1.0
+   */
+  default HttpClientPort withTimeout(Duration timeout) {
+    return this;
+  }
+
+  /**
+   * 클라이언트가 보유한 연결과 스레드를 해제한다.
+   *
+   * <p>진행 중인 요청이 있으면 중단될 수 있다. 기본 구현은 아무것도 하지 않는다.
+   *
+   * @since 1.1.0
+   */
+  @Override
+  default void close() {
+  }
 }
\ No newline at end of file
@@ -25,6 +25,14 @@ public enum ErrorType {
    */
   CONNECTION_RESET,
 
+  /**
+   * 로컬 포트 고갈 (출발지 주소에서 대상 IP:포트로 쓸 임시 포트가 없음).
+   * 이 호스트에 할당되지 않은 출발지 주소로 바인딩하려 한 경우도 같은 오류로 나타난다.
+   *
+   * @since 1.1.0
+   */
+  PORT_EXHAUSTED,
+
   /**
    * 분류되지 않은 기타 오류.
    */
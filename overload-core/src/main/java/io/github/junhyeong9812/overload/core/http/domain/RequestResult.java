@@ -14,7 +14,7 @@ package io.github.junhyeong9812.overload.core.http.domain;
  * switch (result) {
  *     case RequestResult.Success s -> {
  *         System.out.println("Status: " + s.statusCode());
- *         System.out.println("Latency: " + s.latencyMs() + "ms");
+ *         System.out.println("Latency: " + s.latencyMicros() + "µs");
  *     }
  *     case RequestResult.Failure f -> {
  *         System.err.println("Error: " + f.errorMessage());
@@ -35,13 +35,60 @@ public sealed interface RequestResult
    */
   long latencyMs();
 
+  /**
+   * 요청 지연 시간을 마이크로초 단위로 반환한다.
+   *
+   * <p>수백 µs 안에 응답하는 대상에서도 {@link #latencyMs()}처럼 0으로 잘리지 않는다.
+   *
+   * @return 지연 시간 (마이크로초)
+   * @since 1.1.0
+   */
+  long latencyMicros();
+
   /**
    * 성공한 요청 결과.
    *
-   * @param statusCode HTTP 상태 코드
-   * @param latencyMs  지연 시간 (밀리초)
+   * <p>밀리초 값은 마이크로초 값을 버림한 것이며, 정규 생성자는 두 값이 맞지 않으면 거부한다.
+   *
+   * @param statusCode    HTTP 상태 코드
+   * @param latencyMs     지연 시간 (밀리초)
+   * @param latencyMicros 지연 시간 (마이크로초)
    */
-  record Success(int statusCode, long latencyMs) implements RequestResult {
+  record Success(int statusCode, long latencyMs, long latencyMicros) implements RequestResult {
+
+    /**
+     * 밀리초 값이 마이크로초 값을 버림한 값과 같은지 검증한다.
+     *
+     * @throws IllegalArgumentException latencyMs가 latencyMicros / 1000과 다른 경우
+     */
+    public Success {
+      if (latencyMs != latencyMicros / 1_000) {
+        throw new IllegalArgumentException("latencyMs (" + latencyMs
+            + ") must equal latencyMicros / 1000 (" + latencyMicros + ")");
+      }
+    }
+
+    /**
+     * 밀리초 지연 시간으로 성공 결과를 생성한다. 마이크로초 값은 밀리초에서 환산된다.
+     *
+     * @param statusCode HTTP 상태 코드
+     * @param latencyMs  지연 시간 (밀리초)
+     */
+    public Success(int statusCode, long latencyMs) {
+      this(statusCode, latencyMs, latencyMs * 1_000);
+    }
+
+    /**
+     * 마이크로초 지연 시간으로 성공 결과를 생성한다.
+     *
+     * @param statusCode    HTTP 상태 코드
+     * @param latencyMicros 지연 시간 (마이크로초)
+     * @return 성공 결과
+     * @since 1.1.0
+     */
+    public static Success ofMicros(int statusCode, long latencyMicros) {
+      return new Success(statusCode, latencyMicros / 1_000, latencyMicros);
+    }
 
     /**
      * HTTP 성공 응답인지 확인한다.
@@ -56,10 +103,54 @@ public sealed interface RequestResult
   /**
    * 실패한 요청 결과.
    *
-   * @param errorMessage 에러 메시지
-   * @param errorType    에러 유형
-   * @param latencyMs    지연 시간 (밀리초)
+   * <p>밀리초 값은 마이크로초 값을 버림한 것이며, 정규 생성자는 두 값이 맞지 않으면 거부한다.
+   *
+   * @param errorMessage  에러 메시지
+   * @param errorType     에러 유형
+   * @param latencyMs     지연 시간 (밀리초)
+   * @param latencyMicros 지연 시간 (마이크로초)
    */
-  record Failure(String errorMessage, ErrorType errorType, long latencyMs) implements RequestResult {
+  record Failure(
+      String errorMessage,
+      ErrorType errorType,
+      long latencyMs,
+      long latencyMicros
+  ) implements RequestResult {
+
+    /**
+     * 밀리초 값이 마이크로초 값을 버림한 값과 같은지 검증한다.
+     *
+     * @throws IllegalArgumentException latencyMs가 latencyMicros / 1000과 다른 경우
+     */
+    public Failure {
+      if (latencyMs != latencyMicros / 1_000) {
+        throw new IllegalArgumentException("latencyMs (" + latencyMs
+            + ") must equal latencyMicros / 1000 (" + latencyMicros + ")");
+      }
+    }
+
+    /**
+     * 밀리초 지연 시간으로 실패 결과를 생성한다. 마이크로초 값은 밀리초에서 환산된다.
+     *
+     * @param errorMessage 에러 메시지
+     * @param errorType    에러 유형
+     * @param latencyMs    지연 시간 (밀리초)
+     */
+    public Failure(String errorMessage, ErrorType errorType, long latencyMs) {
+      this(errorMessage, errorType, latencyMs, latencyMs * 1_000);
+    }
+
+    /**
+     * 마이크로초 지연 시간으로 실패 결과를 생성한다.
+     *
+     * @param errorMessage  에러 메시지
+     * @param errorType     에러 유형
+     * @param latencyMicros 지연 시간 (마이크로초)
+     * @return 실패 결과
+     * @since 1.1.0
+     */
+    public static Failure ofMicros(String errorMessage, ErrorType errorType, long latencyMicros) {
+      return new Failure(errorMessage, errorType, latencyMicros / 1_000, latencyMicros);
+    }
   }
 }
\ No newline at end of file
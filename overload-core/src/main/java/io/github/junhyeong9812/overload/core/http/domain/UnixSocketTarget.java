@@ -0,0 +1,86 @@
+package io.github.junhyeong9812.overload.core.http.domain;
+
+import java.nio.file.Path;
+import java.util.Objects;
+
+/**
+ * Unix 도메인 소켓 대상을 표현하는 불변(Immutable) 도메인 모델.
+ *
+ * <p>사이드카 프록시나 UDS 뒤의 애플리케이션 서버는 TCP 루프백 대신 소켓 파일로 접근한다.
+ * 대상 URL은 nginx의 {@code unix:} 표기처럼 소켓 경로와 HTTP 경로를 {@code :}로 구분한다.
+ *
+ * <p><b>URL 형식:</b>
+ * <ul>
+ *   <li>{@code unix:///var/run/app.sock:/api/health?verbose=1} - 소켓 경로와 요청 대상</li>
+ *   <li>{@code unix:/var/run/app.sock:/api/health} - 슬래시 두 개 생략 가능</li>
+ *   <li>{@code unix:///var/run/app.sock} - HTTP 경로를 생략하면 {@code /}</li>
+ * </ul>
+ *
+ * <p><b>사용 예시:</b>
+ * <pre>{@code
+ * UnixSocketTarget target = UnixSocketTarget.parse("unix:///var/run/app.sock:/health");
+ * target.socketPath();    // /var/run/app.sock
+ * target.requestTarget(); // /health
+ * }</pre>
+ *
+ * @param socketPath    소켓 파일 경로
+ * @param requestTarget HTTP 요청 대상 (경로와 쿼리, {@code /}로 시작)
+ *
+ * @author junhyeong9812
+ * @since 1.1.0
+ */
+public record UnixSocketTarget(
+    Path socketPath,
+    String requestTarget
+) {
+
+  private static final String SCHEME = "unix:";
+
+  /**
+   * Compact constructor - 유효성 검증 수행.
+   *
+   * @throws NullPointerException     socketPath 또는 requestTarget이 null인 경우
+   * @throws IllegalArgumentException requestTarget이 {@code /}로 시작하지 않는 경우
+   */
+  public UnixSocketTarget {
+    Objects.requireNonNull(socketPath, "Socket path is required");
+    Objects.requireNonNull(requestTarget, "Request target is required");
+    if (!requestTarget.startsWith("/")) {
+      throw new IllegalArgumentException("Request target must start with '/': " + requestTarget);
+    }
+  }
+
+  /**
+   * URL이 Unix 도메인 소켓 대상인지 확인한다.
+   *
+   * @param url 대상 URL
+   * @return {@code unix:}로 시작하면 {@code true}
+   */
+  public static boolean matches(String url) {
+    return url != null && url.regionMatches(true, 0, SCHEME, 0, SCHEME.length());
+  }
+
+  /**
+   * {@code unix:} URL을 소켓 경로와 요청 대상으로 나눈다.
+   *
+   * @param url 대상 URL
+   * @return 파싱된 대상
+   * @throws IllegalArgumentException {@code unix:} URL이 아니거나 소켓 경로가 비어 있는 경우
+   */
+  public static UnixSocketTarget parse(String url) {
+    if (!matches(url)) {
+      throw new IllegalArgumentException("Not a unix socket URL: " + url);
+    }
+    String rest = url.substring(SCHEME.length());
+    if (rest.startsWith("//")) {
+      rest = rest.substring(2);
+    }
+    int separator = rest.indexOf(":/");
+    String socket = separator >= 0 ? rest.substring(0, separator) : rest;
+    String target = separator >= 0 ? rest.substring(separator + 1) : "/";
+    if (socket.isEmpty()) {
+      throw new IllegalArgumentException("Unix socket path is empty: " + url);
+    }
+    return new UnixSocketTarget(Path.of(socket), target);
+  }
+}
\ No newline at end of file
@@ -0,0 +1,145 @@
+package io.github.junhyeong9812.overload.core.http.infrastructure;
+
+import java.lang.System.Logger;
+import java.lang.System.Logger.Level;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 호스트 이름을 모든 주소로 해석하고 TTL 동안 캐시하는 해석기.
+ *
+ * <p>캐시가 유효한 동안에는 같은 {@link List} 인스턴스를 반환하므로, 호출자는 참조 비교만으로
+ * 해석 결과가 바뀌었는지 알 수 있다. 만료된 뒤 다시 해석하다 실패하면 이전 결과를 계속 사용한다.
+ *
+ * <p>재해석은 {@link ReentrantLock}으로 한 번만 수행한다. {@code synchronized} 안에서
+ * DNS를 기다리면 Virtual Thread가 캐리어 스레드에 고정(pinning)되기 때문이다.
+ *
+ * <p><b>사용 예시:</b>
+ * <pre>{@code
+ * AddressResolver resolver = new AddressResolver(Duration.ofSeconds(30));
+ * List<InetAddress> addresses = resolver.resolve("api.internal");
+ * }</pre>
+ *
+ * @author junhyeong9812
+ * @since 1.1.0
+ */
+public class AddressResolver {
+
+  private static final Logger logger = System.getLogger(AddressResolver.class.getName());
+
+  private final long ttlNanos;
+  private final Lookup lookup;
+  private final Map<String, Entry> cache = new ConcurrentHashMap<>();
+  private final ReentrantLock refreshLock = new ReentrantLock();
+  private final LongAdder lookups = new LongAdder();
+
+  /**
+   * JDK 기본 해석({@link InetAddress#getAllByName(String)})을 사용하는 해석기를 생성한다.
+   *
+   * @param ttl 해석 결과 캐시 시간
+   */
+  public AddressResolver(Duration ttl) {
+    this(ttl, InetAddress::getAllByName);
+  }
+
+  /**
+   * 지정된 조회 함수를 사용하는 해석기를 생성한다.
+   *
+   * <p>테스트에서 하나의 이름을 여러 루프백 주소(127.0.0.x)로 해석시킬 때 사용한다.
+   *
+   * @param ttl    해석 결과 캐시 시간
+   * @param lookup 호스트 이름 조회 함수
+   */
+  public AddressResolver(Duration ttl, Lookup lookup) {
+    this.ttlNanos = ttl.toNanos();
+    this.lookup = lookup;
+  }
+
+  /**
+   * 호스트 이름을 모든 주소로 해석한다.
+   *
+   * @param host 호스트 이름 또는 IP 문자열
+   * @return 해석된 주소 목록 (불변, 비어 있지 않음)
+   * @throws UnknownHostException 해석에 실패했고 이전 결과도 없는 경우
+   */
+  public List<InetAddress> resolve(String host) throws UnknownHostException {
+    Entry entry = cache.get(host);
+    if (entry != null && System.nanoTime() - entry.resolvedAt < ttlNanos) {
+      return entry.addresses;
+    }
+
+    refreshLock.lock();
+    try {
+      entry = cache.get(host);
+      if (entry != null && System.nanoTime() - entry.resolvedAt < ttlNanos) {
+        return entry.addresses;
+      }
+      return refresh(host, entry);
+    } finally {
+      refreshLock.unlock();
+    }
+  }
+
+  /**
+   * 실제 조회 횟수를 반환한다.
+   *
+   * @return 캐시를 거치지 않고 조회한 횟수
+   */
+  public long getLookupCount() {
+    return lookups.sum();
+  }
+
+  private List<InetAddress> refresh(String host, Entry stale) throws UnknownHostException {
+    lookups.increment();
+    List<InetAddress> addresses;
+    try {
+      InetAddress[] resolved = lookup.lookup(host);
+      if (resolved == null || resolved.length == 0) {
+        throw new UnknownHostException(host);
+      }
+      addresses = List.of(resolved);
+    } catch (UnknownHostException e) {
+      if (stale == null) {
+        throw e;
+      }
+      logger.log(Level.WARNING, "Re-resolving {0} failed; keeping {1} cached addresses",
+          host, stale.addresses.size());
+      cache.put(host, new Entry(stale.addresses, System.nanoTime()));
+      return stale.addresses;
+    }
+
+    // 결과가 같으면 기존 인스턴스를 유지해 호출자가 다시 구성하지 않게 한다
+    if (stale != null && stale.addresses.equals(addresses)) {
+      addresses = stale.addresses;
+    }
+    cache.put(host, new Entry(addresses, System.nanoTime()));
+    return addresses;
+  }
+
+  /**
+   * 호스트 이름 조회 함수.
+   *
+   * @since 1.1.0
+   */
+  @FunctionalInterface
+  public interface Lookup {
+
+    /**
+     * 호스트 이름을 주소로 조회한다.
+     *
+     * @param host 호스트 이름
+     * @return 조회된 주소
+     * @throws UnknownHostException 조회에 실패한 경우
+     */
+    InetAddress[] lookup(String host) throws UnknownHostException;
+  }
+
+  private record Entry(List<InetAddress> addresses, long resolvedAt) {
+  }
+}
\ No newline at end of file
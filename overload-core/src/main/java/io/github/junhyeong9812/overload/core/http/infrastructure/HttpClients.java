@@ -0,0 +1,33 @@
+package io.github.junhyeong9812.overload.core.http.infrastructure;
+
+import io.github.junhyeong9812.overload.core.config.LoadTestConfig;
+import io.github.junhyeong9812.overload.core.http.application.port.HttpClientPort;
+import io.github.junhyeong9812.overload.core.http.domain.UnixSocketTarget;
+
+/**
+ * 부하 테스트 설정의 대상에 맞는 기본 HTTP 클라이언트를 만드는 팩토리.
+ *
+ * <p>{@code unix:} 대상이면 {@link UnixSocketHttpClient}, 그 외에는 {@link JdkHttpClient}를 생성한다.
+ * 어느 쪽이든 {@link HttpClientPort}이므로 엔진과 메트릭 집계는 대상 종류를 알 필요가 없다.
+ *
+ * @author junhyeong9812
+ * @since 1.1.0
+ */
+public final class HttpClients {
+
+  private HttpClients() {
+  }
+
+  /**
+   * 설정의 대상 URL에 맞는 HTTP 클라이언트를 생성한다.
+   *
+   * @param config 부하 테스트 설정
+   * @return 새로운 HTTP 클라이언트 (호출자가 닫아야 함)
+   */
+  public static HttpClientPort from(LoadTestConfig config) {
+    if (UnixSocketTarget.matches(config.url())) {
+      return new UnixSocketHttpClient(config.timeout());
+    }
+    return JdkHttpClient.from(config);
+  }
+}
\ No newline at end of file
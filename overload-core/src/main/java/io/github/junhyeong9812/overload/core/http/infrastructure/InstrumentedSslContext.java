@@ -0,0 +1,323 @@
+package io.github.junhyeong9812.overload.core.http.infrastructure;
+
+import io.github.junhyeong9812.overload.core.config.TlsConfig;
+
+import java.io.IOException;
+import java.net.Socket;
+import java.security.GeneralSecurityException;
+import java.security.KeyManagementException;
+import java.security.KeyStore;
+import java.security.SecureRandom;
+import java.security.cert.CertificateException;
+import java.security.cert.X509Certificate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import javax.net.ssl.KeyManager;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLContextSpi;
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.SSLParameters;
+import javax.net.ssl.SSLServerSocketFactory;
+import javax.net.ssl.SSLSession;
+import javax.net.ssl.SSLSessionContext;
+import javax.net.ssl.SSLSocketFactory;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.TrustManagerFactory;
+import javax.net.ssl.X509ExtendedTrustManager;
+import javax.net.ssl.X509TrustManager;
+
+/**
+ * 핸드셰이크를 계측하는 클라이언트용 {@link SSLContext}.
+ *
+ * <p>JDK HttpClient는 TLS 핸드셰이크를 관찰할 확장 지점이 없으므로, 연결마다 만들어지는
+ * {@link SSLEngine}을 {@link InstrumentedSslEngine}으로 감싸 핸드셰이크 시간을 잰다.
+ * 서버 인증서 검증은 전체 핸드셰이크에서만 일어나므로, 신뢰 관리자가 호출된 엔진은 전체,
+ * 호출되지 않고 완료된 엔진은 재개 핸드셰이크로 분류한다.
+ *
+ * <p>세션 재개를 끄면 엔진을 만들기 전에 클라이언트 세션 캐시의 세션을 모두 무효화해
+ * 매 연결이 전체 핸드셰이크를 하도록 한다.
+ *
+ * @author junhyeong9812
+ * @since 1.1.0
+ * @see InstrumentedSslEngine
+ */
+final class InstrumentedSslContext extends SSLContext {
+
+  private final SSLContext delegate;
+
+  private InstrumentedSslContext(SSLContextSpi spi, SSLContext delegate) {
+    super(spi, delegate.getProvider(), delegate.getProtocol());
+    this.delegate = delegate;
+  }
+
+  /**
+   * 설정에 따라 계측 컨텍스트를 생성한다.
+   *
+   * @param config   TLS 설정
+   * @param listener 핸드셰이크 완료를 통지받을 리스너
+   * @return 계측 컨텍스트
+   * @throws IllegalArgumentException 신뢰 저장소를 읽을 수 없거나 프로토콜/암호 스위트를 지원하지 않는 경우
+   */
+  static InstrumentedSslContext create(TlsConfig config, TlsHandshakeListener listener) {
+    Map<SSLEngine, InstrumentedSslEngine.Handshake> pending =
+        Collections.synchronizedMap(new WeakHashMap<>());
+    try {
+      SSLContext delegate = SSLContext.getInstance("TLS");
+      delegate.init(null,
+          new TrustManager[] {new FullHandshakeTrustManager(baseTrustManager(config), pending)},
+          null);
+      if (config.sessionCacheSize() > 0) {
+        delegate.getClientSessionContext().setSessionCacheSize(config.sessionCacheSize());
+      }
+      InstrumentedSslContext context = new InstrumentedSslContext(
+          new Spi(delegate, config.sessionResumption(), listener, pending), delegate);
+      context.parameters(config);
+      return context;
+    } catch (GeneralSecurityException | IOException e) {
+      throw new IllegalArgumentException("Cannot initialize TLS: " + e.getMessage(), e);
+    }
+  }
+
+  /**
+   * 설정의 프로토콜과 암호 스위트를 적용한 연결 파라미터를 만든다.
+   *
+   * @param config TLS 설정
+   * @return 연결 파라미터
+   * @throws IllegalArgumentException 지원하지 않는 프로토콜이나 암호 스위트가 있는 경우
+   */
+  SSLParameters parameters(TlsConfig config) {
+    SSLParameters supported = delegate.getSupportedSSLParameters();
+    SSLParameters parameters = delegate.getDefaultSSLParameters();
+    if (!config.protocols().isEmpty()) {
+      requireSupported("protocol", config.protocols(), supported.getProtocols());
+      parameters.setProtocols(config.protocols().toArray(String[]::new));
+    }
+    if (!config.cipherSuites().isEmpty()) {
+      requireSupported("cipher suite", config.cipherSuites(), supported.getCipherSuites());
+      parameters.setCipherSuites(config.cipherSuites().toArray(String[]::new));
+    }
+    return parameters;
+  }
+
+  private static void requireSupported(String kind, List<String> requested, String[] supported) {
+    List<String> available = Arrays.asList(supported);
+    for (String name : requested) {
+      if (!available.contains(name)) {
+        throw new IllegalArgumentException("Unsupported TLS " + kind + ": " + name);
+      }
+    }
+  }
+
+  private static X509TrustManager baseTrustManager(TlsConfig config)
+      throws GeneralSecurityException, IOException {
+    if (config.trustAll()) {
+      return new TrustAllManager();
+    }
+    KeyStore keyStore = null;
+    if (config.trustStore() != null) {
+      char[] password = config.trustStorePassword() != null
+          ? config.trustStorePassword().toCharArray()
+          : null;
+      keyStore = KeyStore.getInstance(config.trustStore().toFile(), password);
+    }
+    TrustManagerFactory factory =
+        TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
+    factory.init(keyStore);
+    for (TrustManager manager : factory.getTrustManagers()) {
+      if (manager instanceof X509TrustManager x509) {
+        return x509;
+      }
+    }
+    throw new GeneralSecurityException("No X509TrustManager available");
+  }
+
+  /**
+   * 엔진 생성을 계측 엔진으로 감싸고 나머지는 위임하는 SPI.
+   */
+  private static final class Spi extends SSLContextSpi {
+
+    private final SSLContext delegate;
+    private final boolean sessionResumption;
+    private final TlsHandshakeListener listener;
+    private final Map<SSLEngine, InstrumentedSslEngine.Handshake> pending;
+
+    Spi(SSLContext delegate, boolean sessionResumption, TlsHandshakeListener listener,
+        Map<SSLEngine, InstrumentedSslEngine.Handshake> pending) {
+      this.delegate = delegate;
+      this.sessionResumption = sessionResumption;
+      this.listener = listener;
+      this.pending = pending;
+    }
+
+    @Override
+    protected void engineInit(KeyManager[] km, TrustManager[] tm, SecureRandom sr)
+        throws KeyManagementException {
+      throw new KeyManagementException("Already initialized");
+    }
+
+    @Override
+    protected SSLSocketFactory engineGetSocketFactory() {
+      return delegate.getSocketFactory();
+    }
+
+    @Override
+    protected SSLServerSocketFactory engineGetServerSocketFactory() {
+      return delegate.getServerSocketFactory();
+    }
+
+    @Override
+    protected SSLEngine engineCreateSSLEngine() {
+      return instrument(delegate.createSSLEngine());
+    }
+
+    @Override
+    protected SSLEngine engineCreateSSLEngine(String host, int port) {
+      return instrument(delegate.createSSLEngine(host, port));
+    }
+
+    @Override
+    protected SSLSessionContext engineGetServerSessionContext() {
+      return delegate.getServerSessionContext();
+    }
+
+    @Override
+    protected SSLSessionContext engineGetClientSessionContext() {
+      return delegate.getClientSessionContext();
+    }
+
+    @Override
+    protected SSLParameters engineGetDefaultSSLParameters() {
+      return delegate.getDefaultSSLParameters();
+    }
+
+    @Override
+    protected SSLParameters engineGetSupportedSSLParameters() {
+      return delegate.getSupportedSSLParameters();
+    }
+
+    private SSLEngine instrument(SSLEngine engine) {
+      if (!sessionResumption) {
+        invalidateSessions(delegate.getClientSessionContext());
+      }
+      InstrumentedSslEngine.Handshake handshake = new InstrumentedSslEngine.Handshake();
+      pending.put(engine, handshake);
+      return new InstrumentedSslEngine(engine, handshake, listener);
+    }
+
+    private static void invalidateSessions(SSLSessionContext sessions) {
+      for (Enumeration<byte[]> ids = sessions.getIds(); ids.hasMoreElements(); ) {
+        SSLSession session = sessions.getSession(ids.nextElement());
+        if (session != null) {
+          session.invalidate();
+        }
+      }
+    }
+  }
+
+  /**
+   * 서버 인증서 검증이 일어난 엔진을 전체 핸드셰이크로 표시하고 실제 검증은 위임하는 신뢰 관리자.
+   */
+  private static final class FullHandshakeTrustManager extends X509ExtendedTrustManager {
+
+    private final X509TrustManager delegate;
+    private final Map<SSLEngine, InstrumentedSslEngine.Handshake> pending;
+
+    FullHandshakeTrustManager(
+        X509TrustManager delegate, Map<SSLEngine, InstrumentedSslEngine.Handshake> pending) {
+      this.delegate = delegate;
+      this.pending = pending;
+    }
+
+    @Override
+    public void checkServerTrusted(X509Certificate[] chain, String authType, SSLEngine engine)
+        throws CertificateException {
+      InstrumentedSslEngine.Handshake handshake = pending.remove(engine);
+      if (handshake != null) {
+        handshake.markFull();
+      }
+      if (delegate instanceof X509ExtendedTrustManager extended) {
+        extended.checkServerTrusted(chain, authType, engine);
+      } else {
+        delegate.checkServerTrusted(chain, authType);
+      }
+    }
+
+    @Override
+    public void checkServerTrusted(X509Certificate[] chain, String authType, Socket socket)
+        throws CertificateException {
+      if (delegate instanceof X509ExtendedTrustManager extended) {
+        extended.checkServerTrusted(chain, authType, socket);
+      } else {
+        delegate.checkServerTrusted(chain, authType);
+      }
+    }
+
+    @Override
+    public void checkServerTrusted(X509Certificate[] chain, String authType)
+        throws CertificateException {
+      delegate.checkServerTrusted(chain, authType);
+    }
+
+    @Override
+    public void checkClientTrusted(X509Certificate[] chain, String authType, SSLEngine engine)
+        throws CertificateException {
+      delegate.checkClientTrusted(chain, authType);
+    }
+
+    @Override
+    public void checkClientTrusted(X509Certificate[] chain, String authType, Socket socket)
+        throws CertificateException {
+      delegate.checkClientTrusted(chain, authType);
+    }
+
+    @Override
+    public void checkClientTrusted(X509Certificate[] chain, String authType)
+        throws CertificateException {
+      delegate.checkClientTrusted(chain, authType);
+    }
+
+    @Override
+    public X509Certificate[] getAcceptedIssuers() {
+      return delegate.getAcceptedIssuers();
+    }
+  }
+
+  /**
+   * 모든 인증서를 신뢰하는 신뢰 관리자. 엔진 단위 메서드도 비워 두어 호스트 이름 검증을 건너뛴다.
+   */
+  private static final class TrustAllManager extends X509ExtendedTrustManager {
+
+    @Override
+    public void checkServerTrusted(X509Certificate[] chain, String authType, SSLEngine engine) {
+    }
+
+    @Override
+    public void checkServerTrusted(X509Certificate[] chain, String authType, Socket socket) {
+    }
+
+    @Override
+    public void checkServerTrusted(X509Certificate[] chain, String authType) {
+    }
+
+    @Override
+    public void checkClientTrusted(X509Certificate[] chain, String authType, SSLEngine engine) {
+    }
+
+    @Override
+    public void checkClientTrusted(X509Certificate[] chain, String authType, Socket socket) {
+    }
+
+    @Override
+    public void checkClientTrusted(X509Certificate[] chain, String authType) {
+    }
+
+    @Override
+    public X509Certificate[] getAcceptedIssuers() {
+      return new X509Certificate[0];
+    }
+  }
+}
@@ -0,0 +1,248 @@
+package io.github.junhyeong9812.overload.core.http.infrastructure;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiFunction;
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.SSLEngineResult;
+import javax.net.ssl.SSLException;
+import javax.net.ssl.SSLParameters;
+import javax.net.ssl.SSLSession;
+
+/**
+ * 핸드셰이크 시작과 완료 시각을 기록하고 나머지는 위임하는 {@link SSLEngine}.
+ *
+ * <p>첫 {@code wrap}/{@code unwrap} 호출(ClientHello 생성)부터 엔진이
+ * {@link SSLEngineResult.HandshakeStatus#FINISHED}를 처음 반환할 때까지를 핸드셰이크 시간으로 본다.
+ * 그 전에 {@link SSLException}이 발생하면 실패로 통지한다.
+ *
+ * @author junhyeong9812
+ * @since 1.1.0
+ * @see InstrumentedSslContext
+ */
+final class InstrumentedSslEngine extends SSLEngine {
+
+  private final SSLEngine delegate;
+  private final Handshake handshake;
+  private final TlsHandshakeListener listener;
+  private final AtomicBoolean done = new AtomicBoolean();
+
+  private volatile long startNanos;
+
+  InstrumentedSslEngine(SSLEngine delegate, Handshake handshake, TlsHandshakeListener listener) {
+    super(delegate.getPeerHost(), delegate.getPeerPort());
+    this.delegate = delegate;
+    this.handshake = handshake;
+    this.listener = listener;
+  }
+
+  @Override
+  public SSLEngineResult wrap(ByteBuffer[] srcs, int offset, int length, ByteBuffer dst)
+      throws SSLException {
+    markStart();
+    try {
+      return observe(delegate.wrap(srcs, offset, length, dst));
+    } catch (SSLException e) {
+      fail();
+      throw e;
+    }
+  }
+
+  @Override
+  public SSLEngineResult unwrap(ByteBuffer src, ByteBuffer[] dsts, int offset, int length)
+      throws SSLException {
+    markStart();
+    try {
+      return observe(delegate.unwrap(src, dsts, offset, length));
+    } catch (SSLException e) {
+      fail();
+      throw e;
+    }
+  }
+
+  private void markStart() {
+    if (startNanos == 0) {
+      startNanos = System.nanoTime();
+    }
+  }
+
+  private SSLEngineResult observe(SSLEngineResult result) {
+    if (result.getHandshakeStatus() == SSLEngineResult.HandshakeStatus.FINISHED
+        && done.compareAndSet(false, true)) {
+      listener.onHandshake(!handshake.isFull(), (System.nanoTime() - startNanos) / 1_000);
+    }
+    return result;
+  }
+
+  private void fail() {
+    if (done.compareAndSet(false, true)) {
+      listener.onHandshakeFailure();
+    }
+  }
+
+  @Override
+  public Runnable getDelegatedTask() {
+    return delegate.getDelegatedTask();
+  }
+
+  @Override
+  public void closeInbound() throws SSLException {
+    delegate.closeInbound();
+  }
+
+  @Override
+  public boolean isInboundDone() {
+    return delegate.isInboundDone();
+  }
+
+  @Override
+  public void closeOutbound() {
+    delegate.closeOutbound();
+  }
+
+  @Override
+  public boolean isOutboundDone() {
+    return delegate.isOutboundDone();
+  }
+
+  @Override
+  public String[] getSupportedCipherSuites() {
+    return delegate.getSupportedCipherSuites();
+  }
+
+  @Override
+  public String[] getEnabledCipherSuites() {
+    return delegate.getEnabledCipherSuites();
+  }
+
+  @Override
+  public void setEnabledCipherSuites(String[] suites) {
+    delegate.setEnabledCipherSuites(suites);
+  }
+
+  @Override
+  public String[] getSupportedProtocols() {
+    return delegate.getSupportedProtocols();
+  }
+
+  @Override
+  public String[] getEnabledProtocols() {
+    return delegate.getEnabledProtocols();
+  }
+
+  @Override
+  public void setEnabledProtocols(String[] protocols) {
+    delegate.setEnabledProtocols(protocols);
+  }
+
+  @Override
+  public SSLSession getSession() {
+    return delegate.getSession();
+  }
+
+  @Override
+  public SSLSession getHandshakeSession() {
+    return delegate.getHandshakeSession();
+  }
+
+  @Override
+  public void beginHandshake() throws SSLException {
+    markStart();
+    delegate.beginHandshake();
+  }
+
+  @Override
+  public SSLEngineResult.HandshakeStatus getHandshakeStatus() {
+    return delegate.getHandshakeStatus();
+  }
+
+  @Override
+  public void setUseClientMode(boolean mode) {
+    delegate.setUseClientMode(mode);
+  }
+
+  @Override
+  public boolean getUseClientMode() {
+    return delegate.getUseClientMode();
+  }
+
+  @Override
+  public void setNeedClientAuth(boolean need) {
+    delegate.setNeedClientAuth(need);
+  }
+
+  @Override
+  public boolean getNeedClientAuth() {
+    return delegate.getNeedClientAuth();
+  }
+
+  @Override
+  public void setWantClientAuth(boolean want) {
+    delegate.setWantClientAuth(want);
+  }
+
+  @Override
+  public boolean getWantClientAuth() {
+    return delegate.getWantClientAuth();
+  }
+
+  @Override
+  public void setEnableSessionCreation(boolean flag) {
+    delegate.setEnableSessionCreation(flag);
+  }
+
+  @Override
+  public boolean getEnableSessionCreation() {
+    return delegate.getEnableSessionCreation();
+  }
+
+  @Override
+  public SSLParameters getSSLParameters() {
+    return delegate.getSSLParameters();
+  }
+
+  @Override
+  public void setSSLParameters(SSLParameters params) {
+    delegate.setSSLParameters(params);
+  }
+
+  @Override
+  public String getApplicationProtocol() {
+    return delegate.getApplicationProtocol();
+  }
+
+  @Override
+  public String getHandshakeApplicationProtocol() {
+    return delegate.getHandshakeApplicationProtocol();
+  }
+
+  @Override
+  public void setHandshakeApplicationProtocolSelector(
+      BiFunction<SSLEngine, List<String>, String> selector) {
+    delegate.setHandshakeApplicationProtocolSelector(selector);
+  }
+
+  @Override
+  public BiFunction<SSLEngine, List<String>, String> getHandshakeApplicationProtocolSelector() {
+    return delegate.getHandshakeApplicationProtocolSelector();
+  }
+
+  /**
+   * 엔진 하나의 핸드셰이크 종류. 서버 인증서를 검증하면 전체 핸드셰이크로 표시된다.
+   *
+   * <p>엔진을 참조하지 않으므로 약한 참조 맵의 값으로 두어도 엔진 수거를 막지 않는다.
+   */
+  static final class Handshake {
+
+    private volatile boolean full;
+
+    void markFull() {
+      full = true;
+    }
+
+    boolean isFull() {
+      return full;
+    }
+  }
+}
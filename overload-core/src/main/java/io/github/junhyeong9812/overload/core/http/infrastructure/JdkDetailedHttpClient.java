@@ -1,5 +1,6 @@
 package io.github.junhyeong9812.overload.core.http.infrastructure;
 
+import io.github.junhyeong9812.overload.core.config.TlsConfig;
 import io.github.junhyeong9812.overload.core.http.application.port.DetailedHttpClientPort;
 import io.github.junhyeong9812.overload.core.http.domain.DetailedRequestResult;
 import io.github.junhyeong9812.overload.core.http.domain.ErrorType;
@@ -59,11 +60,30 @@ public class JdkDetailedHttpClient implements DetailedHttpClientPort {
    * @param timeout 연결 및 요청 타임아웃
    */
   public JdkDetailedHttpClient(Duration timeout) {
+    this(timeout, null);
+  }
+
+  /**
+   * 지정된 타임아웃과 TLS 설정으로 JdkDetailedHttpClient를 생성한다.
+   *
+   * <p>TLS 설정의 세션 재개, 프로토콜/암호 스위트, 신뢰 설정이 적용된다.
+   * 핸드셰이크 통계는 수집하지 않는다.
+   *
+   * @param timeout 연결 및 요청 타임아웃
+   * @param tls     TLS 설정 (null이면 JDK 기본 TLS)
+   * @since 1.1.0
+   */
+  public JdkDetailedHttpClient(Duration timeout, TlsConfig tls) {
     this.timeout = timeout;
-    this.client = HttpClient.newBuilder()
+    HttpClient.Builder builder = HttpClient.newBuilder()
         .connectTimeout(timeout)
-        .executor(Executors.newVirtualThreadPerTaskExecutor())
-        .build();
+        .executor(Executors.newVirtualThreadPerTaskExecutor());
+    if (tls != null) {
+      InstrumentedSslContext sslContext = InstrumentedSslContext.create(tls, (resumed, micros) -> {
+      });
+      builder.sslContext(sslContext).sslParameters(sslContext.parameters(tls));
+    }
+    this.client = builder.build();
   }
 
   /**
@@ -120,10 +140,12 @@ public class JdkDetailedHttpClient implements DetailedHttpClientPort {
       return createFailure(startTime, e.getMessage(), ErrorType.TIMEOUT);
 
     } catch (ConnectException e) {
-      return createFailure(startTime, e.getMessage(), ErrorType.CONNECTION_REFUSED);
+      return createFailure(startTime, e.getMessage(), JdkHttpClient.isPortExhaustion(e)
+          ? ErrorType.PORT_EXHAUSTED : ErrorType.CONNECTION_REFUSED);
 
     } catch (SocketException e) {
-      return createFailure(startTime, e.getMessage(), ErrorType.CONNECTION_RESET);
+      return createFailure(startTime, e.getMessage(), JdkHttpClient.isPortExhaustion(e)
+          ? ErrorType.PORT_EXHAUSTED : ErrorType.CONNECTION_RESET);
 
     } catch (InterruptedException e) {
       Thread.currentThread().interrupt();
@@ -1,19 +1,32 @@
 package io.github.junhyeong9812.overload.core.http.infrastructure;
 
+import io.github.junhyeong9812.overload.core.config.LoadTestConfig;
+import io.github.junhyeong9812.overload.core.config.TlsConfig;
 import io.github.junhyeong9812.overload.core.http.application.port.HttpClientPort;
 import io.github.junhyeong9812.overload.core.http.domain.HttpRequest;
 import io.github.junhyeong9812.overload.core.http.domain.RequestResult;
 import io.github.junhyeong9812.overload.core.http.domain.ErrorType;
+import io.github.junhyeong9812.overload.core.metric.domain.TlsReport;
 
 import java.io.IOException;
+import java.lang.System.Logger;
+import java.lang.System.Logger.Level;
+import java.net.BindException;
 import java.net.ConnectException;
+import java.net.InetAddress;
 import java.net.SocketException;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpResponse;
 import java.net.http.HttpTimeoutException;
 import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.net.ssl.SSLParameters;
 
 /**
  * JDK HttpClient 기반의 HTTP 클라이언트 구현체.
@@ -27,8 +40,16 @@ import java.util.concurrent.Executors;
  *   <li>HTTP/1.1 사용 (부하 테스트를 위한 실제 동시 연결)</li>
  *   <li>Virtual Thread 친화적 Executor 사용</li>
  *   <li>나노초 단위 정밀 지연 시간 측정</li>
+ *   <li>{@link #close()} 시 진행 중 교환 중단 및 연결 해제</li>
+ *   <li>여러 출발지 주소에 연결을 라운드 로빈으로 분배 (임시 포트 한도 확장)</li>
+ *   <li>TLS 세션 재개, 프로토콜/암호 스위트 고정과 핸드셰이크 계측 ({@link TlsConfig} 설정 시)</li>
  * </ul>
  *
+ * <p>한 출발지 IP에서 같은 대상 IP:포트로 열 수 있는 연결 수는 임시 포트 범위(Linux 기본 약 28,000개)로
+ * 제한된다. 연결 교체가 잦으면 TIME_WAIT 소켓이 포트를 차지해 연결이 실패하는데, 이 실패는
+ * {@link ErrorType#PORT_EXHAUSTED}로 분류된다. 출발지 주소를 여러 개 지정하면 주소마다
+ * 별도의 연결 풀을 만들고 요청을 순서대로 나눠 포트 한도를 주소 수만큼 늘린다.
+ *
  * <p><b>사용 예시:</b>
  * <pre>{@code
  * HttpClientPort client = new JdkHttpClient(Duration.ofSeconds(5));
@@ -41,6 +62,10 @@ import java.util.concurrent.Executors;
  * );
  *
  * RequestResult result = client.send(request);
+ *
+ * // 루프백 별칭 두 개에서 출발
+ * HttpClientPort bound = new JdkHttpClient(Duration.ofSeconds(5), List.of(
+ *     InetAddress.getByName("127.0.0.2"), InetAddress.getByName("127.0.0.3")));
  * }</pre>
  *
  * @author junhyeong9812
@@ -49,8 +74,18 @@ import java.util.concurrent.Executors;
  */
 public class JdkHttpClient implements HttpClientPort {
 
-  private final HttpClient client;
+  private static final Logger logger = System.getLogger(JdkHttpClient.class.getName());
+
+  private final HttpClient[] clients;
+  private final ExecutorService executor;
   private final Duration timeout;
+  private final AtomicLong nextClient = new AtomicLong();
+  private final AtomicBoolean exhaustionWarned = new AtomicBoolean();
+  private final List<TlsHandshakeListener> tlsListeners;
+  private final TlsHandshakeStats tlsStats;
+  private final InstrumentedSslContext sslContext;
+  private final SSLParameters sslParameters;
+  private final boolean view;
 
   /**
    * 지정된 타임아웃으로 JdkHttpClient를 생성한다.
@@ -65,13 +100,107 @@ public class JdkHttpClient implements HttpClientPort {
    * @param timeout 연결 및 요청 타임아웃
    */
   public JdkHttpClient(Duration timeout) {
+    this(timeout, List.of());
+  }
+
+  /**
+   * 지정된 출발지 주소에서 연결하는 JdkHttpClient를 생성한다.
+   *
+   * <p>출발지 주소마다 {@link HttpClient}(연결 풀)를 하나씩 만들고 요청을 라운드 로빈으로 나눈다.
+   * Executor는 모든 클라이언트가 공유한다.
+   *
+   * @param timeout        연결 및 요청 타임아웃
+   * @param localAddresses 출발지 주소 목록 (비어 있으면 OS가 선택)
+   * @since 1.1.0
+   */
+  public JdkHttpClient(Duration timeout, List<InetAddress> localAddresses) {
+    this(timeout, localAddresses, null);
+  }
+
+  /**
+   * 지정된 출발지 주소와 TLS 설정으로 JdkHttpClient를 생성한다.
+   *
+   * <p>TLS 설정이 있으면 핸드셰이크를 계측하는 {@code SSLContext}를 사용하며,
+   * 누적 통계는 {@link #tlsReport()}, 실행별 통계는 {@link #addTlsListener(TlsHandshakeListener)}로 얻는다.
+   *
+   * @param timeout        연결 및 요청 타임아웃
+   * @param localAddresses 출발지 주소 목록 (비어 있으면 OS가 선택)
+   * @param tls            TLS 설정 (null이면 JDK 기본 TLS, 계측 안 함)
+   * @throws IllegalArgumentException 신뢰 저장소를 읽을 수 없거나 지원하지 않는 프로토콜/암호 스위트인 경우
+   * @since 1.1.0
+   */
+  public JdkHttpClient(Duration timeout, List<InetAddress> localAddresses, TlsConfig tls) {
+    this.timeout = timeout;
+    this.view = false;
+    this.tlsListeners = new CopyOnWriteArrayList<>();
+    if (tls != null) {
+      this.tlsStats = new TlsHandshakeStats();
+      this.tlsListeners.add(tlsStats);
+      this.sslContext = InstrumentedSslContext.create(tls, new TlsHandshakeListener() {
+        @Override
+        public void onHandshake(boolean resumed, long latencyMicros) {
+          tlsListeners.forEach(listener -> listener.onHandshake(resumed, latencyMicros));
+        }
+
+        @Override
+        public void onHandshakeFailure() {
+          tlsListeners.forEach(TlsHandshakeListener::onHandshakeFailure);
+        }
+      });
+      this.sslParameters = sslContext.parameters(tls);
+    } else {
+      this.tlsStats = null;
+      this.sslContext = null;
+      this.sslParameters = null;
+    }
+    this.executor = Executors.newVirtualThreadPerTaskExecutor();
+    if (localAddresses.isEmpty()) {
+      this.clients = new HttpClient[] {newClient(null)};
+    } else {
+      this.clients = localAddresses.stream()
+          .map(this::newClient)
+          .toArray(HttpClient[]::new);
+    }
+  }
+
+  /**
+   * 연결 풀, Executor, TLS 계측을 공유하고 요청 타임아웃만 다른 뷰를 생성한다.
+   */
+  private JdkHttpClient(JdkHttpClient shared, Duration timeout) {
     this.timeout = timeout;
-    this.client = HttpClient.newBuilder()
+    this.view = true;
+    this.clients = shared.clients;
+    this.executor = shared.executor;
+    this.tlsStats = shared.tlsStats;
+    this.sslContext = shared.sslContext;
+    this.sslParameters = shared.sslParameters;
+    this.tlsListeners = shared.tlsListeners;
+  }
+
+  private HttpClient newClient(InetAddress localAddress) {
+    HttpClient.Builder builder = HttpClient.newBuilder()
         .version(HttpClient.Version.HTTP_1_1)
         .connectTimeout(timeout)
-        .executor(Executors.newVirtualThreadPerTaskExecutor())
-        .followRedirects(HttpClient.Redirect.NEVER)
-        .build();
+        .executor(executor)
+        .followRedirects(HttpClient.Redirect.NEVER);
+    if (localAddress != null) {
+      builder.localAddress(localAddress);
+    }
+    if (sslContext != null) {
+      builder.sslContext(sslContext).sslParameters(sslParameters);
+    }
+    return builder.build();
+  }
+
+  /**
+   * 부하 테스트 설정의 타임아웃, 출발지 주소, TLS 설정으로 JdkHttpClient를 생성한다.
+   *
+   * @param config 부하 테스트 설정
+   * @return 새로운 JdkHttpClient
+   * @since 1.1.0
+   */
+  public static JdkHttpClient from(LoadTestConfig config) {
+    return new JdkHttpClient(config.timeout(), config.localAddresses(), config.tls());
   }
 
   /**
@@ -81,7 +210,7 @@ public class JdkHttpClient implements HttpClientPort {
    * 부하 테스트에서는 응답 본문보다 성능 측정이 목적이기 때문이다.
    *
    * <p>지연 시간은 {@link System#nanoTime()}을 사용하여 나노초 단위로
-   * 측정한 후 밀리초로 변환한다.
+   * 측정한 후 마이크로초로 변환한다.
    *
    * @param request 전송할 HTTP 요청
    * @return 요청 결과 - 성공 시 {@link RequestResult.Success},
@@ -115,22 +244,22 @@ public class JdkHttpClient implements HttpClientPort {
         case OPTIONS -> builder.method("OPTIONS", bodyPublisher);
       }
 
-      HttpResponse<Void> response = client.send(
+      HttpResponse<Void> response = nextClient().send(
           builder.build(),
           HttpResponse.BodyHandlers.discarding()
       );
 
-      long latency = toMillis(startTime);
-      return new RequestResult.Success(response.statusCode(), latency);
+      long latency = toMicros(startTime);
+      return RequestResult.Success.ofMicros(response.statusCode(), latency);
 
     } catch (HttpTimeoutException e) {
       return createFailure(startTime, e.getMessage(), ErrorType.TIMEOUT);
 
     } catch (ConnectException e) {
-      return createFailure(startTime, e.getMessage(), ErrorType.CONNECTION_REFUSED);
+      return createFailure(startTime, e.getMessage(), classify(e, ErrorType.CONNECTION_REFUSED));
 
     } catch (SocketException e) {
-      return createFailure(startTime, e.getMessage(), ErrorType.CONNECTION_RESET);
+      return createFailure(startTime, e.getMessage(), classify(e, ErrorType.CONNECTION_RESET));
 
     } catch (InterruptedException e) {
       Thread.currentThread().interrupt();
@@ -138,7 +267,7 @@ public class JdkHttpClient implements HttpClientPort {
 
     } catch (IOException e) {
       String message = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
-      return createFailure(startTime, message, ErrorType.UNKNOWN);
+      return createFailure(startTime, message, classify(e, ErrorType.UNKNOWN));
 
     } catch (Exception e) {
       String message = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
@@ -146,6 +275,132 @@ public class JdkHttpClient implements HttpClientPort {
     }
   }
 
+  /**
+   * 연결 풀을 공유하면서 요청 타임아웃만 바꾼 뷰를 반환한다.
+   *
+   * <p>연결 타임아웃은 생성 시 값 그대로이고, 요청 타임아웃은 교환마다
+   * {@code HttpRequest.Builder.timeout}으로 적용된다.
+   *
+   * @param timeout 요청마다 적용할 타임아웃
+   * @return 새 뷰 (닫아도 공유 자원은 해제되지 않음)
+   * @since 1.1.0
+   */
+  @Override
+  public JdkHttpClient withTimeout(Duration timeout) {
+    return new JdkHttpClient(this, timeout);
+  }
+
+  /**
+   * 진행 중인 교환을 중단하고 연결 풀과 Executor를 해제한다. 뷰는 아무것도 해제하지 않는다.
+   *
+   * @since 1.1.0
+   */
+  @Override
+  public void close() {
+    if (view) {
+      return;
+    }
+    for (HttpClient client : clients) {
+      client.shutdownNow();
+    }
+    executor.shutdownNow();
+  }
+
+  /**
+   * TLS 핸드셰이크를 계측하는지 확인한다.
+   *
+   * @return TLS 설정으로 생성되었으면 {@code true}
+   * @since 1.1.0
+   */
+  public boolean isTlsInstrumented() {
+    return sslContext != null;
+  }
+
+  /**
+   * TLS 핸드셰이크 리스너를 추가한다. TLS 설정 없이 생성된 경우 호출되지 않는다.
+   *
+   * @param listener 추가할 리스너
+   * @since 1.1.0
+   */
+  public void addTlsListener(TlsHandshakeListener listener) {
+    tlsListeners.add(listener);
+  }
+
+  /**
+   * TLS 핸드셰이크 리스너를 제거한다.
+   *
+   * @param listener 제거할 리스너
+   * @since 1.1.0
+   */
+  public void removeTlsListener(TlsHandshakeListener listener) {
+    tlsListeners.remove(listener);
+  }
+
+  /**
+   * 클라이언트 생성 이후 누적된 TLS 핸드셰이크 통계를 반환한다.
+   *
+   * @return TLS 핸드셰이크 통계, TLS 설정 없이 생성되었으면 null
+   * @since 1.1.0
+   */
+  public TlsReport tlsReport() {
+    return tlsStats != null ? tlsStats.report() : null;
+  }
+
+  /**
+   * 다음 요청을 보낼 클라이언트를 라운드 로빈으로 선택한다.
+   */
+  private HttpClient nextClient() {
+    if (clients.length == 1) {
+      return clients[0];
+    }
+    return clients[(int) Math.floorMod(nextClient.getAndIncrement(), (long) clients.length)];
+  }
+
+  /**
+   * 포트 고갈이면 {@link ErrorType#PORT_EXHAUSTED}, 아니면 기본 유형을 반환한다.
+   *
+   * <p>처음 포트 고갈을 만나면 출발지 주소 추가를 권하는 경고를 한 번 남긴다.
+   *
+   * @param e        발생한 예외
+   * @param fallback 포트 고갈이 아닐 때의 유형
+   * @return 에러 유형
+   */
+  private ErrorType classify(IOException e, ErrorType fallback) {
+    if (!isPortExhaustion(e)) {
+      return fallback;
+    }
+    if (exhaustionWarned.compareAndSet(false, true)) {
+      logger.log(Level.WARNING,
+          "Local ports exhausted ({0}); add source addresses to spread connections", e.getMessage());
+    }
+    return ErrorType.PORT_EXHAUSTED;
+  }
+
+  /**
+   * 예외(원인 포함)가 로컬 포트 고갈을 나타내는지 확인한다.
+   *
+   * <p>JDK HttpClient는 연결 실패를 {@link ConnectException}으로 감싸므로 원인 체인 전체에서
+   * {@link BindException} 또는 OS별 포트 고갈 메시지(EADDRNOTAVAIL, EADDRINUSE, WSAENOBUFS)를 찾는다.
+   *
+   * @param e 발생한 예외
+   * @return 포트 고갈이면 {@code true}
+   */
+  static boolean isPortExhaustion(Throwable e) {
+    for (Throwable t = e; t != null; t = t.getCause()) {
+      if (t instanceof BindException) {
+        return true;
+      }
+      String message = t.getMessage();
+      if (message != null
+          && (message.contains("assign requested address")
+          || message.contains("Address already in use")
+          || message.contains("No buffer space available"))) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   /**
    * 실패 결과를 생성한다.
    *
@@ -157,17 +412,19 @@ public class JdkHttpClient implements HttpClientPort {
    * @return 실패 결과
    */
   private RequestResult.Failure createFailure(long startTime, String message, ErrorType type) {
-    long latency = toMillis(startTime);
-    return new RequestResult.Failure(message, type, latency);
+    long latency = toMicros(startTime);
+    return RequestResult.Failure.ofMicros(message, type, latency);
   }
 
   /**
-   * 나노초 시작 시간을 밀리초 경과 시간으로 변환한다.
+   * 나노초 시작 시간을 마이크로초 경과 시간으로 변환한다.
+   *
+   * <p>밀리초로 자르면 수백 µs 응답이 모두 0ms가 되므로 마이크로초 정밀도를 유지한다.
    *
    * @param startNanos 시작 시간 (나노초)
-   * @return 경과 시간 (밀리초)
+   * @return 경과 시간 (마이크로초)
    */
-  private long toMillis(long startNanos) {
-    return (System.nanoTime() - startNanos) / 1_000_000;
+  private long toMicros(long startNanos) {
+    return (System.nanoTime() - startNanos) / 1_000;
   }
 }
\ No newline at end of file
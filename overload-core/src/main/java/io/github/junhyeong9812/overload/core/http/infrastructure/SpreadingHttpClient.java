@@ -0,0 +1,352 @@
+package io.github.junhyeong9812.overload.core.http.infrastructure;
+
+import io.github.junhyeong9812.overload.core.config.AddressSpreadConfig;
+import io.github.junhyeong9812.overload.core.config.SpreadPolicy;
+import io.github.junhyeong9812.overload.core.http.application.port.HttpClientPort;
+import io.github.junhyeong9812.overload.core.http.domain.ErrorType;
+import io.github.junhyeong9812.overload.core.http.domain.HttpRequest;
+import io.github.junhyeong9812.overload.core.http.domain.RequestResult;
+import io.github.junhyeong9812.overload.core.metric.domain.AddressReport;
+import io.github.junhyeong9812.overload.core.metric.domain.LogLinearHistogram;
+
+import java.lang.System.Logger;
+import java.lang.System.Logger.Level;
+import java.net.Inet6Address;
+import java.net.InetAddress;
+import java.net.URI;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 대상 호스트가 해석되는 모든 주소로 요청을 분산하는 {@link HttpClientPort} 데코레이터.
+ *
+ * <p>JDK HttpClient는 해석기를 교체할 수 없으므로, 요청 URL의 호스트를 선택한 IP로 바꿔
+ * 위임 클라이언트에 전달한다. 원래 호스트 이름은 {@code Host} 헤더로 보존한다.
+ * JDK HttpClient에서 {@code Host} 헤더를 설정하려면 시스템 속성
+ * {@code jdk.httpclient.allowRestrictedHeaders}에 {@code host}가 포함되어야 하며,
+ * 없으면 경고를 한 번 남기고 IP를 그대로 {@code Host}로 보낸다.
+ *
+ * <p>해석 결과는 {@link AddressResolver}로 TTL 동안 캐시한다. 해석 결과와 요청이 바뀌지 않는 한
+ * 주소별로 다시 쓴 요청을 재사용하므로 요청마다 URL을 만들지 않는다.
+ *
+ * <p>HTTPS 대상은 인증서에 IP가 포함되어 있어야 한다. 호스트 이름 검증과 SNI가 IP 기준으로 수행되기 때문이다.
+ *
+ * <p>주소별 요청 수, 오류 유형, 지연 시간 분포를 {@link #report()}로 조회할 수 있다.
+ * 기록 조건을 지정하면 조건을 만족할 때 완료된 요청만 집계한다 (예: 워밍업 제외).
+ *
+ * <p><b>사용 예시:</b>
+ * <pre>{@code
+ * HttpClientPort client = new SpreadingHttpClient(
+ *     new JdkHttpClient(Duration.ofSeconds(5)),
+ *     AddressSpreadConfig.roundRobin());
+ * }</pre>
+ *
+ * @author junhyeong9812
+ * @since 1.1.0
+ * @see AddressSpreadConfig
+ * @see AddressResolver
+ */
+public class SpreadingHttpClient implements HttpClientPort {
+
+  private static final Logger logger = System.getLogger(SpreadingHttpClient.class.getName());
+
+  static final String ALLOW_RESTRICTED_HEADERS = "jdk.httpclient.allowRestrictedHeaders";
+
+  private static final ErrorType[] ERROR_TYPES = ErrorType.values();
+
+  private final HttpClientPort delegate;
+  private final AddressSpreadConfig config;
+  private final AddressResolver resolver;
+  private final boolean preserveHost;
+  private final BooleanSupplier recording;
+  private final AtomicLong sequence = new AtomicLong();
+  private final Map<String, AddressStats> stats = new ConcurrentHashMap<>();
+  private final AtomicBoolean hostWarned = new AtomicBoolean();
+  private final AtomicBoolean tlsWarned = new AtomicBoolean();
+
+  private volatile Rotation rotation;
+
+  /**
+   * JDK 기본 해석을 사용하는 분산 클라이언트를 생성한다.
+   *
+   * @param delegate 실제 요청을 보낼 클라이언트
+   * @param config   분산 설정
+   */
+  public SpreadingHttpClient(HttpClientPort delegate, AddressSpreadConfig config) {
+    this(delegate, config, new AddressResolver(config.dnsTtl()));
+  }
+
+  /**
+   * JDK 기본 해석을 사용하고 조건을 만족할 때만 주소별 통계를 기록하는 분산 클라이언트를 생성한다.
+   *
+   * @param delegate  실제 요청을 보낼 클라이언트
+   * @param config    분산 설정
+   * @param recording 주소별 통계를 기록할지 여부 (요청 완료마다 확인)
+   */
+  public SpreadingHttpClient(
+      HttpClientPort delegate,
+      AddressSpreadConfig config,
+      BooleanSupplier recording) {
+    this(delegate, config, new AddressResolver(config.dnsTtl()), recording);
+  }
+
+  /**
+   * 지정된 해석기를 사용하는 분산 클라이언트를 생성한다.
+   *
+   * @param delegate 실제 요청을 보낼 클라이언트
+   * @param config   분산 설정
+   * @param resolver 주소 해석기
+   */
+  public SpreadingHttpClient(
+      HttpClientPort delegate,
+      AddressSpreadConfig config,
+      AddressResolver resolver) {
+    this(delegate, config, resolver, () -> true);
+  }
+
+  /**
+   * 지정된 해석기를 사용하고 조건을 만족할 때만 주소별 통계를 기록하는 분산 클라이언트를 생성한다.
+   *
+   * @param delegate  실제 요청을 보낼 클라이언트
+   * @param config    분산 설정
+   * @param resolver  주소 해석기
+   * @param recording 주소별 통계를 기록할지 여부 (요청 완료마다 확인)
+   */
+  public SpreadingHttpClient(
+      HttpClientPort delegate,
+      AddressSpreadConfig config,
+      AddressResolver resolver,
+      BooleanSupplier recording) {
+    this.delegate = delegate;
+    this.config = config;
+    this.resolver = resolver;
+    this.recording = recording;
+    this.preserveHost = System.getProperty(ALLOW_RESTRICTED_HEADERS, "")
+        .toLowerCase().contains("host");
+  }
+
+  /**
+   * 다음 주소를 선택해 요청을 전송한다.
+   *
+   * <p>호스트를 해석할 수 없으면 요청을 보내지 않고 {@link ErrorType#UNKNOWN} 실패를 반환한다.
+   *
+   * @param request 전송할 HTTP 요청
+   * @return 요청 결과
+   */
+  @Override
+  public RequestResult send(HttpRequest request) {
+    Rotation current;
+    try {
+      current = rotationFor(request);
+    } catch (UnknownHostException e) {
+      return RequestResult.Failure.ofMicros(
+          "Unknown host: " + e.getMessage(), ErrorType.UNKNOWN, 0);
+    } catch (IllegalArgumentException e) {
+      return RequestResult.Failure.ofMicros(e.getMessage(), ErrorType.UNKNOWN, 0);
+    }
+
+    Target target = current.schedule[
+        (int) Math.floorMod(sequence.getAndIncrement(), (long) current.schedule.length)];
+    RequestResult result = delegate.send(target.request);
+    if (recording.getAsBoolean()) {
+      target.stats.record(result);
+    }
+    return result;
+  }
+
+  /**
+   * 주소별 통계를 반환한다.
+   *
+   * @return 주소 문자열 순으로 정렬된 주소별 통계
+   */
+  public List<AddressReport> report() {
+    List<AddressReport> reports = new ArrayList<>(stats.size());
+    stats.forEach((address, s) -> reports.add(s.toReport(address)));
+    reports.sort(Comparator.comparing(AddressReport::address));
+    return List.copyOf(reports);
+  }
+
+  /**
+   * 아무것도 해제하지 않는다. 위임 클라이언트의 수명은 생성한 쪽이 관리한다.
+   */
+  @Override
+  public void close() {
+  }
+
+  private Rotation rotationFor(HttpRequest request) throws UnknownHostException {
+    Rotation current = rotation;
+    if (current != null && current.source == request) {
+      // 같은 요청이면 해석 결과가 바뀌었는지만 확인 (캐시 유효 시 같은 인스턴스)
+      if (resolver.resolve(current.host) == current.addresses) {
+        return current;
+      }
+    }
+
+    URI uri = URI.create(request.url());
+    String host = uri.getHost();
+    if (host == null) {
+      throw new IllegalArgumentException("URL has no host: " + request.url());
+    }
+    if (host.startsWith("[") && host.endsWith("]")) {
+      host = host.substring(1, host.length() - 1);
+    }
+    List<InetAddress> addresses = resolver.resolve(host);
+    Rotation rebuilt = buildRotation(request, uri, host, addresses);
+    rotation = rebuilt;
+    return rebuilt;
+  }
+
+  private Rotation buildRotation(
+      HttpRequest request, URI uri, String host, List<InetAddress> addresses) {
+    if ("https".equalsIgnoreCase(uri.getScheme()) && tlsWarned.compareAndSet(false, true)) {
+      logger.log(Level.WARNING,
+          "Spreading HTTPS target {0} by IP: certificate must cover the IP addresses", host);
+    }
+
+    Map<String, String> headers = new LinkedHashMap<>(request.headers());
+    boolean hasHost = headers.keySet().stream().anyMatch("Host"::equalsIgnoreCase);
+    if (!hasHost) {
+      if (preserveHost) {
+        headers.put("Host", uri.getPort() != -1 ? host + ":" + uri.getPort() : host);
+      } else if (hostWarned.compareAndSet(false, true)) {
+        logger.log(Level.WARNING,
+            "Host header for {0} is not preserved; set -D{1}=host", host, ALLOW_RESTRICTED_HEADERS);
+      }
+    }
+
+    List<Target> targets = new ArrayList<>(addresses.size());
+    List<Integer> weights = new ArrayList<>(addresses.size());
+    for (InetAddress address : addresses) {
+      String ip = address.getHostAddress();
+      HttpRequest rewritten = HttpRequest.from(rewriteUrl(uri, address), request.method(),
+          headers, request.body());
+      targets.add(new Target(rewritten, stats.computeIfAbsent(ip, k -> new AddressStats())));
+      weights.add(config.weightOf(ip));
+    }
+
+    Target[] schedule = config.policy() == SpreadPolicy.WEIGHTED
+        ? weightedSchedule(targets, weights)
+        : targets.toArray(Target[]::new);
+    return new Rotation(request, host, addresses, schedule);
+  }
+
+  /**
+   * smooth weighted round-robin으로 가중치 합 길이의 선택 순서를 만든다.
+   *
+   * <p>가중치가 3:1이면 {@code A A B A}처럼 같은 주소가 연달아 몰리지 않도록 배치된다.
+   *
+   * @param targets 주소별 대상
+   * @param weights 대상과 같은 순서의 가중치
+   * @return 선택 순서
+   */
+  static Target[] weightedSchedule(List<Target> targets, List<Integer> weights) {
+    int total = weights.stream().mapToInt(Integer::intValue).sum();
+    int[] current = new int[targets.size()];
+    Target[] schedule = new Target[total];
+    for (int slot = 0; slot < total; slot++) {
+      int best = 0;
+      for (int i = 0; i < current.length; i++) {
+        current[i] += weights.get(i);
+        if (current[i] > current[best]) {
+          best = i;
+        }
+      }
+      current[best] -= total;
+      schedule[slot] = targets.get(best);
+    }
+    return schedule;
+  }
+
+  private static String rewriteUrl(URI uri, InetAddress address) {
+    String ip = address.getHostAddress();
+    StringBuilder url = new StringBuilder()
+        .append(uri.getScheme()).append("://")
+        .append(address instanceof Inet6Address ? "[" + ip + "]" : ip);
+    if (uri.getPort() != -1) {
+      url.append(':').append(uri.getPort());
+    }
+    if (uri.getRawPath() != null) {
+      url.append(uri.getRawPath());
+    }
+    if (uri.getRawQuery() != null) {
+      url.append('?').append(uri.getRawQuery());
+    }
+    return url.toString();
+  }
+
+  /**
+   * 요청 하나에 대한 주소별 선택 순서.
+   */
+  private record Rotation(
+      HttpRequest source,
+      String host,
+      List<InetAddress> addresses,
+      Target[] schedule
+  ) {
+  }
+
+  /**
+   * 주소 하나로 보낼 요청과 그 통계.
+   */
+  record Target(HttpRequest request, AddressStats stats) {
+  }
+
+  /**
+   * 주소별 누적 통계. 여러 Virtual Thread에서 동시에 기록된다.
+   */
+  static final class AddressStats {
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder[] errors = new LongAdder[ERROR_TYPES.length];
+    private final LogLinearHistogram latency = new LogLinearHistogram();
+
+    AddressStats() {
+      for (int i = 0; i < errors.length; i++) {
+        errors[i] = new LongAdder();
+      }
+    }
+
+    void record(RequestResult result) {
+      requests.increment();
+      latency.record(result.latencyMicros());
+      if (result instanceof RequestResult.Success success) {
+        if (!success.isHttpSuccess()) {
+          failures.increment();
+        }
+      } else if (result instanceof RequestResult.Failure failure) {
+        failures.increment();
+        errors[failure.errorType().ordinal()].increment();
+      }
+    }
+
+    AddressReport toReport(String address) {
+      Map<ErrorType, Long> errorCounts = new EnumMap<>(ErrorType.class);
+      for (ErrorType type : ERROR_TYPES) {
+        long count = errors[type.ordinal()].sum();
+        if (count > 0) {
+          errorCounts.put(type, count);
+        }
+      }
+      return new AddressReport(
+          address,
+          requests.sum(),
+          failures.sum(),
+          errorCounts,
+          latency.getMean(),
+          latency.getPercentile(50),
+          latency.getPercentile(99),
+          latency.getMax());
+    }
+  }
+}
\ No newline at end of file
@@ -0,0 +1,27 @@
+package io.github.junhyeong9812.overload.core.http.infrastructure;
+
+/**
+ * TLS 핸드셰이크 완료를 통지받는 리스너.
+ *
+ * <p>핸드셰이크를 진행한 I/O 스레드에서 호출되므로 빠르게 반환해야 한다.
+ *
+ * @author junhyeong9812
+ * @since 1.1.0
+ * @see JdkHttpClient#addTlsListener(TlsHandshakeListener)
+ */
+public interface TlsHandshakeListener {
+
+  /**
+   * 핸드셰이크가 완료되었을 때 호출된다.
+   *
+   * @param resumed       이전 세션으로 재개되었으면 {@code true}
+   * @param latencyMicros ClientHello부터 완료까지 걸린 시간 (마이크로초)
+   */
+  void onHandshake(boolean resumed, long latencyMicros);
+
+  /**
+   * 핸드셰이크가 실패했을 때 호출된다. 기본 구현은 아무것도 하지 않는다.
+   */
+  default void onHandshakeFailure() {
+  }
+}
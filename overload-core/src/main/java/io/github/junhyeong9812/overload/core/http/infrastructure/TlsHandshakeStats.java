@@ -0,0 +1,49 @@
+package io.github.junhyeong9812.overload.core.http.infrastructure;
+
+import io.github.junhyeong9812.overload.core.metric.domain.LogLinearHistogram;
+import io.github.junhyeong9812.overload.core.metric.domain.TlsReport;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * TLS 핸드셰이크 수와 지연 시간 분포를 누적하는 리스너.
+ *
+ * <p>여러 연결의 핸드셰이크가 동시에 기록될 수 있으며, 기록은 lock-free다.
+ *
+ * @author junhyeong9812
+ * @since 1.1.0
+ */
+public class TlsHandshakeStats implements TlsHandshakeListener {
+
+  private final LongAdder full = new LongAdder();
+  private final LongAdder resumed = new LongAdder();
+  private final LongAdder failed = new LongAdder();
+  private final LogLinearHistogram latency = new LogLinearHistogram();
+
+  @Override
+  public void onHandshake(boolean resumed, long latencyMicros) {
+    (resumed ? this.resumed : full).increment();
+    latency.record(latencyMicros);
+  }
+
+  @Override
+  public void onHandshakeFailure() {
+    failed.increment();
+  }
+
+  /**
+   * 지금까지의 통계를 보고서로 만든다.
+   *
+   * @return TLS 핸드셰이크 통계
+   */
+  public TlsReport report() {
+    return new TlsReport(
+        full.sum(),
+        resumed.sum(),
+        failed.sum(),
+        latency.getMean(),
+        latency.getPercentile(50),
+        latency.getPercentile(99),
+        latency.getMax());
+  }
+}
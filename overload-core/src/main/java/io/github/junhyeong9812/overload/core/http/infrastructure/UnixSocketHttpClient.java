@@ -0,0 +1,514 @@
+package io.github.junhyeong9812.overload.core.http.infrastructure;
+
+import io.github.junhyeong9812.overload.core.config.HttpMethod;
+import io.github.junhyeong9812.overload.core.http.application.port.HttpClientPort;
+import io.github.junhyeong9812.overload.core.http.domain.ErrorType;
+import io.github.junhyeong9812.overload.core.http.domain.HttpRequest;
+import io.github.junhyeong9812.overload.core.http.domain.RequestResult;
+import io.github.junhyeong9812.overload.core.http.domain.UnixSocketTarget;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.SocketException;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Deque;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Unix 도메인 소켓으로 HTTP/1.1 요청을 보내는 HTTP 클라이언트 구현체.
+ *
+ * <p>JDK HttpClient는 Unix 도메인 소켓을 지원하지 않으므로 {@link SocketChannel}과
+ * {@link UnixDomainSocketAddress}로 직접 연결해 최소한의 HTTP/1.1을 말한다.
+ * 대상 URL 형식은 {@link UnixSocketTarget}을 따른다. TCP 루프백을 거치지 않으므로 사이드카나
+ * 로컬 서비스를 운영 환경과 같은 경로로 측정할 수 있다.
+ *
+ * <p><b>특징:</b>
+ * <ul>
+ *   <li>소켓 경로별 keep-alive 연결 풀 (최근 반환된 연결부터 재사용)</li>
+ *   <li>{@code Content-Length}, {@code chunked}, 연결 종료로 끝나는 응답 본문을 읽고 버림</li>
+ *   <li>재사용한 연결이 응답 전에 닫혀 있으면 새 연결로 한 번 재시도</li>
+ *   <li>타임아웃이 지나면 연결을 닫아 블로킹 읽기를 깨움 ({@link ErrorType#TIMEOUT})</li>
+ *   <li>{@code Host} 헤더를 지정하지 않으면 {@code localhost}를 보냄</li>
+ * </ul>
+ *
+ * <p>소켓 파일이 없거나 수신 대기 중인 서버가 없으면 {@link ErrorType#CONNECTION_REFUSED},
+ * 응답 도중 연결이 끊기면 {@link ErrorType#CONNECTION_RESET}으로 분류한다.
+ *
+ * <p><b>사용 예시:</b>
+ * <pre>{@code
+ * HttpClientPort client = new UnixSocketHttpClient(Duration.ofSeconds(5));
+ *
+ * RequestResult result = client.send(HttpRequest.from(
+ *     "unix:///var/run/app.sock:/health", HttpMethod.GET, Map.of(), null));
+ * }</pre>
+ *
+ * @author junhyeong9812
+ * @since 1.1.0
+ * @see UnixSocketTarget
+ */
+public class UnixSocketHttpClient implements HttpClientPort {
+
+  private static final int BUFFER_SIZE = 16 * 1024;
+  private static final int MAX_LINE_LENGTH = 64 * 1024;
+  private static final String DEFAULT_HOST = "localhost";
+
+  private final Duration timeout;
+  private final Map<Path, Deque<Connection>> idle;
+  private final Set<Connection> open;
+  private final ScheduledExecutorService watchdog;
+  private final AtomicBoolean closed;
+  private final boolean view;
+
+  private volatile Encoded lastEncoded;
+
+  /**
+   * 지정된 타임아웃으로 UnixSocketHttpClient를 생성한다.
+   *
+   * @param timeout 연결 및 요청 타임아웃
+   */
+  public UnixSocketHttpClient(Duration timeout) {
+    this.timeout = timeout;
+    this.idle = new ConcurrentHashMap<>();
+    this.open = ConcurrentHashMap.newKeySet();
+    this.closed = new AtomicBoolean();
+    this.view = false;
+    this.watchdog = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "overload-uds-timeout");
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  /**
+   * 연결 풀과 타임아웃 스레드를 공유하고 요청 타임아웃만 다른 뷰를 생성한다.
+   */
+  private UnixSocketHttpClient(UnixSocketHttpClient shared, Duration timeout) {
+    this.timeout = timeout;
+    this.idle = shared.idle;
+    this.open = shared.open;
+    this.closed = shared.closed;
+    this.view = true;
+    this.watchdog = shared.watchdog;
+  }
+
+  /**
+   * HTTP 요청을 전송하고 결과를 반환한다.
+   *
+   * <p>응답 본문은 읽어서 버리고 상태 코드와 지연 시간만 기록한다.
+   * 지연 시간에는 연결 수립(풀에 유휴 연결이 없을 때)이 포함된다.
+   *
+   * @param request 전송할 HTTP 요청 ({@code unix:} URL)
+   * @return 요청 결과 - 성공 시 {@link RequestResult.Success},
+   *         실패 시 {@link RequestResult.Failure}
+   */
+  @Override
+  public RequestResult send(HttpRequest request) {
+    long startTime = System.nanoTime();
+
+    Encoded encoded;
+    try {
+      encoded = encode(request);
+    } catch (IllegalArgumentException e) {
+      return createFailure(startTime, e.getMessage(), ErrorType.UNKNOWN);
+    }
+
+    Connection connection = null;
+    ScheduledFuture<?> deadline = null;
+    boolean connecting = false;
+    try {
+      if (closed.get()) {
+        return createFailure(startTime, "Client closed", ErrorType.UNKNOWN);
+      }
+      connection = pollIdle(encoded.socketPath());
+      boolean reused = connection != null;
+      if (connection == null) {
+        connecting = true;
+        connection = connect(encoded.socketPath());
+        connecting = false;
+      }
+      deadline = schedule(connection);
+
+      int status;
+      try {
+        status = connection.exchange(encoded);
+      } catch (IOException e) {
+        // 유휴 중 서버가 닫은 연결이면 응답을 받기 전에 끊긴다 - 새 연결로 한 번 재시도
+        if (!reused || connection.received || connection.timedOut) {
+          throw e;
+        }
+        deadline.cancel(false);
+        discard(connection);
+        connection = null;
+        connecting = true;
+        connection = connect(encoded.socketPath());
+        connecting = false;
+        deadline = schedule(connection);
+        status = connection.exchange(encoded);
+      }
+      deadline.cancel(false);
+
+      long latency = toMicros(startTime);
+      release(encoded.socketPath(), connection);
+      return RequestResult.Success.ofMicros(status, latency);
+
+    } catch (IOException e) {
+      if (deadline != null) {
+        deadline.cancel(false);
+      }
+      if (connection != null) {
+        discard(connection);
+      }
+      if (Thread.currentThread().isInterrupted()) {
+        return createFailure(startTime, "Request interrupted", ErrorType.UNKNOWN);
+      }
+      if (connection != null && connection.timedOut) {
+        return createFailure(startTime, "Request timed out after " + timeout.toMillis() + "ms",
+            ErrorType.TIMEOUT);
+      }
+      String message = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+      return createFailure(startTime, message, classify(e, connecting));
+    }
+  }
+
+  /**
+   * 연결 풀을 공유하면서 요청 타임아웃만 바꾼 뷰를 반환한다.
+   *
+   * @param timeout 요청마다 적용할 타임아웃
+   * @return 새 뷰 (닫아도 공유 자원은 해제되지 않음)
+   */
+  @Override
+  public UnixSocketHttpClient withTimeout(Duration timeout) {
+    return new UnixSocketHttpClient(this, timeout);
+  }
+
+  /**
+   * 유휴 연결과 진행 중인 연결을 모두 닫고 타임아웃 스레드를 종료한다. 뷰는 아무것도 해제하지 않는다.
+   */
+  @Override
+  public void close() {
+    if (view) {
+      return;
+    }
+    closed.set(true);
+    for (Connection connection : open) {
+      connection.close();
+    }
+    open.clear();
+    idle.clear();
+    watchdog.shutdownNow();
+  }
+
+  /**
+   * 요청을 HTTP/1.1 바이트로 인코딩한다.
+   *
+   * <p>부하 테스트는 같은 요청을 반복하므로 마지막 인코딩 결과를 재사용한다.
+   */
+  private Encoded encode(HttpRequest request) {
+    Encoded last = lastEncoded;
+    if (last != null && last.request() == request) {
+      return last;
+    }
+    UnixSocketTarget target = UnixSocketTarget.parse(request.url());
+    byte[] body = request.body() != null
+        ? request.body().getBytes(StandardCharsets.UTF_8)
+        : null;
+
+    StringBuilder head = new StringBuilder(256)
+        .append(request.method().name()).append(' ')
+        .append(target.requestTarget()).append(" HTTP/1.1\r\n");
+    boolean hasHost = false;
+    for (Map.Entry<String, String> header : request.headers().entrySet()) {
+      hasHost |= header.getKey().equalsIgnoreCase("Host");
+      if (header.getKey().equalsIgnoreCase("Content-Length")) {
+        continue;
+      }
+      head.append(header.getKey()).append(": ").append(header.getValue()).append("\r\n");
+    }
+    if (!hasHost) {
+      head.append("Host: ").append(DEFAULT_HOST).append("\r\n");
+    }
+    if (body != null) {
+      head.append("Content-Length: ").append(body.length).append("\r\n");
+    } else if (request.method() == HttpMethod.POST
+        || request.method() == HttpMethod.PUT
+        || request.method() == HttpMethod.PATCH) {
+      head.append("Content-Length: 0\r\n");
+    }
+    head.append("\r\n");
+
+    byte[] headBytes = head.toString().getBytes(StandardCharsets.ISO_8859_1);
+    byte[] bytes = headBytes;
+    if (body != null) {
+      bytes = new byte[headBytes.length + body.length];
+      System.arraycopy(headBytes, 0, bytes, 0, headBytes.length);
+      System.arraycopy(body, 0, bytes, headBytes.length, body.length);
+    }
+    Encoded encoded = new Encoded(request, target.socketPath(), bytes,
+        request.method() == HttpMethod.HEAD);
+    lastEncoded = encoded;
+    return encoded;
+  }
+
+  private Connection pollIdle(Path socketPath) {
+    Deque<Connection> pool = idle.get(socketPath);
+    return pool != null ? pool.pollFirst() : null;
+  }
+
+  private Connection connect(Path socketPath) throws IOException {
+    SocketChannel channel = SocketChannel.open(UnixDomainSocketAddress.of(socketPath));
+    Connection connection = new Connection(channel);
+    open.add(connection);
+    if (closed.get()) {
+      discard(connection);
+      throw new SocketException("Client closed");
+    }
+    return connection;
+  }
+
+  private ScheduledFuture<?> schedule(Connection connection) {
+    return watchdog.schedule(connection::expire, timeout.toNanos(), TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * 재사용 가능한 연결은 풀에 돌려주고 아니면 닫는다.
+   */
+  private void release(Path socketPath, Connection connection) {
+    if (closed.get() || !connection.reusable || connection.timedOut) {
+      discard(connection);
+      return;
+    }
+    idle.computeIfAbsent(socketPath, path -> new ConcurrentLinkedDeque<>()).offerFirst(connection);
+  }
+
+  private void discard(Connection connection) {
+    open.remove(connection);
+    connection.close();
+  }
+
+  /**
+   * 연결 단계의 실패는 연결 거부, 교환 중 실패는 연결 끊김으로 분류한다.
+   */
+  private static ErrorType classify(IOException e, boolean connecting) {
+    if (connecting && (e instanceof ConnectException || e instanceof SocketException)) {
+      return ErrorType.CONNECTION_REFUSED;
+    }
+    if (e instanceof EOFException || e instanceof SocketException) {
+      return ErrorType.CONNECTION_RESET;
+    }
+    return ErrorType.UNKNOWN;
+  }
+
+  private RequestResult.Failure createFailure(long startTime, String message, ErrorType type) {
+    return RequestResult.Failure.ofMicros(message, type, toMicros(startTime));
+  }
+
+  private long toMicros(long startNanos) {
+    return (System.nanoTime() - startNanos) / 1_000;
+  }
+
+  /**
+   * 인코딩된 요청.
+   *
+   * @param request    원본 요청 (동일성 비교로 캐시 적중 판단)
+   * @param socketPath 소켓 파일 경로
+   * @param bytes      요청 줄, 헤더, 본문
+   * @param head       HEAD 요청 여부 (응답 본문 없음)
+   */
+  private record Encoded(HttpRequest request, Path socketPath, byte[] bytes, boolean head) {
+  }
+
+  /**
+   * Unix 도메인 소켓 연결 하나와 응답 읽기 버퍼.
+   *
+   * <p>한 번에 한 스레드만 사용하며, 타임아웃 스레드는 {@link #expire()}로 채널만 닫는다.
+   */
+  private static final class Connection {
+
+    private final SocketChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE).flip();
+    private final StringBuilder line = new StringBuilder(128);
+
+    private volatile boolean timedOut;
+    private boolean received;
+    private boolean reusable;
+
+    Connection(SocketChannel channel) {
+      this.channel = channel;
+    }
+
+    /**
+     * 요청을 쓰고 최종 응답을 끝까지 읽는다.
+     *
+     * @return 응답 상태 코드
+     */
+    int exchange(Encoded request) throws IOException {
+      received = false;
+      reusable = false;
+      ByteBuffer out = ByteBuffer.wrap(request.bytes());
+      while (out.hasRemaining()) {
+        channel.write(out);
+      }
+
+      int status;
+      boolean keepAlive;
+      long contentLength;
+      boolean chunked;
+      do {
+        String statusLine = readLine();
+        if (!statusLine.startsWith("HTTP/") || statusLine.length() < 12) {
+          throw new IOException("Malformed status line: " + statusLine);
+        }
+        try {
+          status = Integer.parseInt(statusLine.substring(9, 12));
+        } catch (NumberFormatException e) {
+          throw new IOException("Malformed status line: " + statusLine);
+        }
+        keepAlive = !statusLine.startsWith("HTTP/1.0");
+        contentLength = -1;
+        chunked = false;
+        for (String header = readLine(); !header.isEmpty(); header = readLine()) {
+          int colon = header.indexOf(':');
+          if (colon <= 0) {
+            continue;
+          }
+          String name = header.substring(0, colon).trim();
+          String value = header.substring(colon + 1).trim();
+          if (name.equalsIgnoreCase("Content-Length")) {
+            contentLength = Long.parseLong(value);
+          } else if (name.equalsIgnoreCase("Transfer-Encoding")) {
+            chunked = value.toLowerCase(Locale.ROOT).contains("chunked");
+          } else if (name.equalsIgnoreCase("Connection")) {
+            String token = value.toLowerCase(Locale.ROOT);
+            if (token.contains("close")) {
+              keepAlive = false;
+            } else if (token.contains("keep-alive")) {
+              keepAlive = true;
+            }
+          }
+        }
+        // 100 Continue 같은 중간 응답은 건너뛰고 최종 응답을 기다린다
+      } while (status >= 100 && status < 200 && status != 101);
+
+      if (request.head() || status == 204 || status == 304 || (status >= 100 && status < 200)) {
+        // 본문 없음
+      } else if (chunked) {
+        skipChunks();
+      } else if (contentLength >= 0) {
+        skip(contentLength);
+      } else {
+        skipToEnd();
+        keepAlive = false;
+      }
+      reusable = keepAlive && !buffer.hasRemaining();
+      return status;
+    }
+
+    void expire() {
+      timedOut = true;
+      close();
+    }
+
+    void close() {
+      try {
+        channel.close();
+      } catch (IOException ignored) {
+        // 닫는 중 오류는 무시
+      }
+    }
+
+    private void skipChunks() throws IOException {
+      while (true) {
+        String sizeLine = readLine();
+        int extension = sizeLine.indexOf(';');
+        String hex = (extension >= 0 ? sizeLine.substring(0, extension) : sizeLine).trim();
+        long size;
+        try {
+          size = Long.parseLong(hex, 16);
+        } catch (NumberFormatException e) {
+          throw new IOException("Malformed chunk size: " + sizeLine);
+        }
+        if (size == 0) {
+          // 트레일러 헤더를 빈 줄까지 건너뛴다
+          while (!readLine().isEmpty()) {
+            // 무시
+          }
+          return;
+        }
+        skip(size);
+        readLine();
+      }
+    }
+
+    private void skip(long count) throws IOException {
+      long remaining = count;
+      while (remaining > 0) {
+        if (!buffer.hasRemaining()) {
+          fill();
+        }
+        int step = (int) Math.min(remaining, buffer.remaining());
+        buffer.position(buffer.position() + step);
+        remaining -= step;
+      }
+    }
+
+    private void skipToEnd() throws IOException {
+      while (true) {
+        buffer.clear();
+        int read = channel.read(buffer);
+        buffer.flip();
+        if (read < 0) {
+          buffer.position(buffer.limit());
+          return;
+        }
+        received = true;
+        buffer.position(buffer.limit());
+      }
+    }
+
+    private String readLine() throws IOException {
+      line.setLength(0);
+      while (true) {
+        if (!buffer.hasRemaining()) {
+          fill();
+        }
+        byte b = buffer.get();
+        if (b == '\n') {
+          int length = line.length();
+          if (length > 0 && line.charAt(length - 1) == '\r') {
+            line.setLength(length - 1);
+          }
+          return line.toString();
+        }
+        if (line.length() >= MAX_LINE_LENGTH) {
+          throw new IOException("Response line too long");
+        }
+        line.append((char) (b & 0xff));
+      }
+    }
+
+    private void fill() throws IOException {
+      buffer.compact();
+      int read = channel.read(buffer);
+      buffer.flip();
+      if (read < 0) {
+        throw new EOFException("Connection closed by server");
+      }
+      received = true;
+    }
+  }
+}
\ No newline at end of file
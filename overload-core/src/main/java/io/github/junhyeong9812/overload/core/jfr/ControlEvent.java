@@ -0,0 +1,75 @@
+package io.github.junhyeong9812.overload.core.jfr;
+
+import io.github.junhyeong9812.overload.core.metric.domain.ControlChange;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * 실행 중 제어 변경을 나타내는 JFR 이벤트 ({@code overload.Control}).
+ *
+ * <p>{@link io.github.junhyeong9812.overload.core.engine.application.LoadController}가 변경을
+ * 적용할 때마다 한 번 기록된다. {@link IntervalEvent}와 같은 경과 시간 기준을 쓰므로
+ * JMC에서 처리량과 지연 추이에 부하 변경 시점을 겹쳐 볼 수 있다.
+ *
+ * @author junhyeong9812
+ * @since 1.1.0
+ */
+@Name(ControlEvent.NAME)
+@Label("Overload Control")
+@Category({"Overload", "Load Test"})
+@Description("Load change applied to a running test")
+@StackTrace(false)
+public class ControlEvent extends Event {
+
+  /** JFR 이벤트 이름 */
+  public static final String NAME = "overload.Control";
+
+  @Label("Elapsed")
+  @Timespan(Timespan.MILLISECONDS)
+  long elapsed;
+
+  @Label("Completed Requests")
+  int completed;
+
+  @Label("Concurrency")
+  int concurrency;
+
+  @Label("Requests Per Second")
+  @Description("Target rate after the change, 0 if unlimited")
+  double requestsPerSecond;
+
+  @Label("Total Requests")
+  int totalRequests;
+
+  @Label("Stop After")
+  @Timespan(Timespan.MILLISECONDS)
+  long stopAfter;
+
+  /**
+   * 제어 변경을 JFR 이벤트로 기록한다.
+   *
+   * <p>이벤트가 비활성화된 경우 아무것도 하지 않는다.
+   *
+   * @param change 기록할 제어 변경
+   */
+  public static void emit(ControlChange change) {
+    ControlEvent event = new ControlEvent();
+    if (!event.isEnabled()) {
+      return;
+    }
+    event.elapsed = change.elapsed().toMillis();
+    event.completed = change.completedRequests();
+    event.concurrency = change.concurrency();
+    event.requestsPerSecond = change.requestsPerSecond();
+    event.totalRequests = change.totalRequests();
+    event.stopAfter = change.control().stopAfter() != null
+        ? change.control().stopAfter().toMillis()
+        : -1;
+    event.commit();
+  }
+}
\ No newline at end of file
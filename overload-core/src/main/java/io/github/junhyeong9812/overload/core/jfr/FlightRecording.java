@@ -0,0 +1,108 @@
+package io.github.junhyeong9812.overload.core.jfr;
+
+import io.github.junhyeong9812.overload.core.exception.LoadTestException;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.util.Objects;
+
+/**
+ * 부하 테스트 실행 범위의 JFR 레코딩.
+ *
+ * <p>JDK {@code profile} 설정에 Overload 이벤트({@link RequestEvent},
+ * {@link IntervalEvent}, {@link ControlEvent})를 더해 레코딩을 시작하고, 종료 시 지정된 파일로 덤프한다.
+ * 결과 파일은 JDK Mission Control 또는 {@code jfr print}로 분석할 수 있다.
+ *
+ * <p><b>주의:</b>
+ * {@code overload.Request}는 요청마다 기록되므로 높은 처리량에서는
+ * 레코딩 크기가 빠르게 커진다 (요청당 약 100바이트).
+ *
+ * <p><b>사용 예시:</b>
+ * <pre>{@code
+ * try (FlightRecording recording = FlightRecording.start(Path.of("run.jfr"))) {
+ *     engine.execute(config, callback, context);
+ * }
+ * }</pre>
+ *
+ * @author junhyeong9812
+ * @since 1.1.0
+ */
+public final class FlightRecording implements AutoCloseable {
+
+  private static final String SETTINGS = "profile";
+
+  private final Recording recording;
+  private final Path destination;
+  private boolean stopped;
+
+  private FlightRecording(Recording recording, Path destination) {
+    this.recording = recording;
+    this.destination = destination;
+  }
+
+  /**
+   * 레코딩을 시작한다.
+   *
+   * @param destination 레코딩을 저장할 파일 경로
+   * @return 시작된 레코딩
+   * @throws LoadTestException JFR 설정을 읽을 수 없거나 레코딩을 시작할 수 없는 경우
+   */
+  public static FlightRecording start(Path destination) {
+    Objects.requireNonNull(destination, "destination");
+    try {
+      Recording recording = new Recording(Configuration.getConfiguration(SETTINGS));
+      recording.setName("overload-run");
+      recording.enable(RequestEvent.class);
+      recording.enable(IntervalEvent.class);
+      recording.enable(ControlEvent.class);
+      recording.start();
+      return new FlightRecording(recording, destination);
+    } catch (IOException | ParseException | IllegalStateException | SecurityException e) {
+      throw new LoadTestException("Failed to start flight recording: " + e.getMessage(), e);
+    }
+  }
+
+  /**
+   * 레코딩을 종료하고 파일로 저장한다.
+   *
+   * @return 저장된 파일 경로
+   * @throws LoadTestException 파일 저장에 실패한 경우
+   */
+  public synchronized Path stop() {
+    if (stopped) {
+      return destination;
+    }
+    stopped = true;
+    try {
+      recording.stop();
+      recording.dump(destination);
+      return destination;
+    } catch (IOException e) {
+      throw new LoadTestException("Failed to write flight recording: " + e.getMessage(), e);
+    } finally {
+      recording.close();
+    }
+  }
+
+  /**
+   * 레코딩 파일 경로를 반환한다.
+   *
+   * @return 저장 경로
+   */
+  public Path destination() {
+    return destination;
+  }
+
+  /**
+   * 레코딩을 종료하고 파일로 저장한다.
+   *
+   * @see #stop()
+   */
+  @Override
+  public void close() {
+    stop();
+  }
+}
@@ -0,0 +1,98 @@
+package io.github.junhyeong9812.overload.core.jfr;
+
+import io.github.junhyeong9812.overload.core.metric.domain.IntervalStats;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Percentage;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * 구간 통계를 나타내는 JFR 이벤트 ({@code overload.Interval}).
+ *
+ * <p>{@link io.github.junhyeong9812.overload.core.metric.application.IntervalReporter}의
+ * 리스너로 등록되어 보고 주기마다 한 번 기록된다. JMC 등에서 처리량과 지연 추이를
+ * JVM 이벤트와 나란히 볼 수 있다.
+ *
+ * <p><b>사용 예시:</b>
+ * <pre>{@code
+ * reporter.addListener(IntervalEvent::emit);
+ * }</pre>
+ *
+ * @author junhyeong9812
+ * @since 1.1.0
+ */
+@Name(IntervalEvent.NAME)
+@Label("Overload Interval")
+@Category({"Overload", "Load Test"})
+@Description("Windowed load test statistics")
+@StackTrace(false)
+public class IntervalEvent extends Event {
+
+  /** JFR 이벤트 이름 */
+  public static final String NAME = "overload.Interval";
+
+  @Label("Elapsed")
+  @Timespan(Timespan.MILLISECONDS)
+  long elapsed;
+
+  @Label("Window")
+  @Timespan(Timespan.MILLISECONDS)
+  long window;
+
+  @Label("Requests")
+  long requests;
+
+  @Label("Failures")
+  long failures;
+
+  @Label("Connections Refused")
+  long refused;
+
+  @Label("Requests Per Second")
+  double requestsPerSecond;
+
+  @Label("Error Rate")
+  @Percentage
+  double errorRate;
+
+  @Label("P50 Latency")
+  @Timespan(Timespan.MICROSECONDS)
+  long p50;
+
+  @Label("P99 Latency")
+  @Timespan(Timespan.MICROSECONDS)
+  long p99;
+
+  @Label("Max Latency")
+  @Timespan(Timespan.MICROSECONDS)
+  long max;
+
+  /**
+   * 구간 통계를 JFR 이벤트로 기록한다.
+   *
+   * <p>이벤트가 비활성화된 경우 아무것도 하지 않는다.
+   *
+   * @param stats 기록할 구간 통계
+   */
+  public static void emit(IntervalStats stats) {
+    IntervalEvent event = new IntervalEvent();
+    if (!event.isEnabled()) {
+      return;
+    }
+    event.elapsed = stats.elapsed().toMillis();
+    event.window = stats.duration().toMillis();
+    event.requests = stats.requests();
+    event.failures = stats.failures();
+    event.refused = stats.refused();
+    event.requestsPerSecond = stats.requestsPerSecond();
+    event.errorRate = stats.errorRate();
+    event.p50 = stats.p50Micros();
+    event.p99 = stats.p99Micros();
+    event.max = stats.maxMicros();
+    event.commit();
+  }
+}
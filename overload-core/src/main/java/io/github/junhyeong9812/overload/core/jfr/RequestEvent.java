@@ -0,0 +1,82 @@
+package io.github.junhyeong9812.overload.core.jfr;
+
+import io.github.junhyeong9812.overload.core.http.domain.HttpRequest;
+import io.github.junhyeong9812.overload.core.http.domain.RequestResult;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * 개별 부하 요청을 나타내는 JFR 이벤트 ({@code overload.Request}).
+ *
+ * <p>엔진이 요청 전송 전후로 {@link #begin()}/{@link #shouldCommit()}를 호출하므로
+ * 이벤트의 duration은 요청의 실제 벽시계 시간이 된다. JFR 레코딩에서
+ * GC, 스레드 park, 소켓 이벤트와 같은 타임라인으로 상관 분석할 수 있다.
+ *
+ * <p><b>비용:</b>
+ * 이벤트가 활성화되지 않은 경우 {@code shouldCommit()}은 JIT에 의해 상수 false로
+ * 최적화되며 이벤트 객체 할당도 제거된다. 활성화된 경우에도 스택 트레이스는 기록하지 않는다.
+ *
+ * <p><b>사용 예시:</b>
+ * <pre>{@code
+ * RequestEvent event = new RequestEvent();
+ * event.begin();
+ * RequestResult result = httpClient.send(request);
+ * if (event.shouldCommit()) {
+ *     event.set(request, result);
+ *     event.commit();
+ * }
+ * }</pre>
+ *
+ * @author junhyeong9812
+ * @since 1.1.0
+ */
+@Name(RequestEvent.NAME)
+@Label("Overload Request")
+@Category({"Overload", "Load Test"})
+@Description("A single HTTP request issued by the load generator")
+@StackTrace(false)
+public class RequestEvent extends Event {
+
+  /** JFR 이벤트 이름 */
+  public static final String NAME = "overload.Request";
+
+  @Label("Method")
+  String method;
+
+  @Label("Endpoint")
+  String endpoint;
+
+  @Label("Status Code")
+  @Description("HTTP status code, or 0 when the request failed before a response")
+  int statusCode;
+
+  @Label("Error Type")
+  String errorType;
+
+  @Label("Latency")
+  @Description("Latency measured by the HTTP client")
+  @Timespan(Timespan.MICROSECONDS)
+  long latency;
+
+  /**
+   * 요청과 결과로 이벤트 필드를 채운다.
+   *
+   * @param request 전송한 요청
+   * @param result  요청 결과
+   */
+  public void set(HttpRequest request, RequestResult result) {
+    this.method = request.method().name();
+    this.endpoint = request.url();
+    this.latency = result.latencyMicros();
+    if (result instanceof RequestResult.Success success) {
+      this.statusCode = success.statusCode();
+    } else if (result instanceof RequestResult.Failure failure) {
+      this.errorType = failure.errorType().name();
+    }
+  }
+}
@@ -0,0 +1,105 @@
+package io.github.junhyeong9812.overload.core.metric.application;
+
+import io.github.junhyeong9812.overload.core.exception.LoadTestException;
+import io.github.junhyeong9812.overload.core.metric.domain.RunCheckpoint;
+import io.github.junhyeong9812.overload.core.metric.infrastructure.CheckpointFile;
+
+import java.lang.System.Logger;
+import java.lang.System.Logger.Level;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 집계기 상태를 주기적으로 {@link CheckpointFile}에 저장하는 기록기.
+ *
+ * <p>{@link IntervalReporter}처럼 전용 데몬 플랫폼 스레드에서 고정 주기로 동작하므로
+ * 요청 처리 스레드에는 비용이 없다. 저장에 실패하면 경고만 남기고 실행은 계속된다.
+ *
+ * <p><b>사용 흐름:</b>
+ * <ol>
+ *   <li>{@link #start()} - 주기 저장 시작</li>
+ *   <li>{@link #close()} - 저장 종료, 마지막 상태 저장</li>
+ * </ol>
+ *
+ * @author junhyeong9812
+ * @since 1.1.0
+ * @see CheckpointFile
+ */
+public class CheckpointWriter implements AutoCloseable {
+
+  private static final Logger logger = System.getLogger(CheckpointWriter.class.getName());
+
+  private final Supplier<RunCheckpoint> source;
+  private final CheckpointFile file;
+  private final Duration interval;
+
+  private ScheduledExecutorService scheduler;
+
+  /**
+   * CheckpointWriter를 생성한다.
+   *
+   * @param source   저장할 체크포인트를 만드는 공급자 (보통 {@code PhasedMetricAggregator::checkpoint})
+   * @param file     체크포인트 파일
+   * @param interval 저장 주기
+   * @throws IllegalArgumentException interval이 0 이하인 경우
+   */
+  public CheckpointWriter(Supplier<RunCheckpoint> source, CheckpointFile file, Duration interval) {
+    this.source = Objects.requireNonNull(source, "source");
+    this.file = Objects.requireNonNull(file, "file");
+    if (interval.isNegative() || interval.isZero()) {
+      throw new IllegalArgumentException("Interval must be positive");
+    }
+    this.interval = interval;
+  }
+
+  /**
+   * 주기 저장을 시작한다.
+   *
+   * @return this
+   */
+  public synchronized CheckpointWriter start() {
+    if (scheduler == null) {
+      scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "overload-checkpoint");
+        thread.setDaemon(true);
+        return thread;
+      });
+      long periodNanos = interval.toNanos();
+      scheduler.scheduleAtFixedRate(this::save, periodNanos, periodNanos, TimeUnit.NANOSECONDS);
+    }
+    return this;
+  }
+
+  /**
+   * 주기 저장을 종료하고 마지막 상태를 저장한다.
+   */
+  @Override
+  public synchronized void close() {
+    if (scheduler == null) {
+      return;
+    }
+    scheduler.shutdown();
+    try {
+      scheduler.awaitTermination(interval.toMillis() + 1_000, TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    scheduler = null;
+    save();
+  }
+
+  /**
+   * 현재 상태를 저장한다. 실패는 기록만 하고 다음 주기에 다시 시도한다.
+   */
+  private void save() {
+    try {
+      file.write(source.get());
+    } catch (LoadTestException e) {
+      logger.log(Level.WARNING, e.getMessage());
+    }
+  }
+}
\ No newline at end of file
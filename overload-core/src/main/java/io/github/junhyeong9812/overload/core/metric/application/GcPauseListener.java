@@ -0,0 +1,26 @@
+package io.github.junhyeong9812.overload.core.metric.application;
+
+import io.github.junhyeong9812.overload.core.http.domain.RequestResult;
+
+/**
+ * 요청이 부하 생성기 GC 멈춤과 겹쳤는지 분류될 때 결과를 전달받는 함수형 인터페이스.
+ *
+ * <p>{@link GcPauseTracker}가 요청을 분류한 직후 호출한다. 멈춤 알림을 기다리던 요청은
+ * 알림을 받은 스레드에서 늦게 호출될 수 있으므로, 완료 시각은 인자로 받은 값을 사용해야 한다.
+ *
+ * @author junhyeong9812
+ * @since 1.1.0
+ * @see GcPauseTracker
+ */
+@FunctionalInterface
+public interface GcPauseListener {
+
+  /**
+   * 분류된 요청을 전달받는다.
+   *
+   * @param result         요청 결과
+   * @param endNanos       요청 완료 시각 ({@link System#nanoTime()})
+   * @param generatorPause 요청 진행 중 GC 멈춤과 겹쳤는지 여부
+   */
+  void onClassified(RequestResult result, long endNanos, boolean generatorPause);
+}
\ No newline at end of file
@@ -0,0 +1,483 @@
+package io.github.junhyeong9812.overload.core.metric.application;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+import com.sun.management.GcInfo;
+import io.github.junhyeong9812.overload.core.http.domain.RequestResult;
+import io.github.junhyeong9812.overload.core.metric.domain.GcPauseReport;
+import io.github.junhyeong9812.overload.core.metric.domain.LatencySpectrum;
+import io.github.junhyeong9812.overload.core.metric.domain.TestResult;
+
+import javax.management.ListenerNotFoundException;
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+import java.lang.System.Logger;
+import java.lang.System.Logger.Level;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 부하 생성기 JVM의 GC 멈춤을 수집하고 요청을 멈춤과 겹친 것과 아닌 것으로 나누는 추적기.
+ *
+ * <p>멈춤형 {@link GarbageCollectorMXBean}(이름에 {@code Cycles}나 {@code Concurrent}가 들어간
+ * 동시 수집기는 제외)의 GC 알림을 구독해 멈춤 구간을 모은다.
+ * 요청이 완료되면 진행 구간(완료 시각 - 지연 시간 ~ 완료 시각)이 멈춤과 겹치는지 보고
+ * 두 {@link MetricAggregator} 중 하나에 기록한다.
+ *
+ * <p>GC 알림은 멈춤이 끝난 뒤 별도 스레드에서 전달되므로, 멈춤 직후 완료된 요청은 알림보다 먼저 도착할 수 있다.
+ * 기록 시 수집기의 누적 수집 횟수가 알림을 받은 횟수보다 크면 아직 오지 않은 알림이 있다는 뜻이므로,
+ * 그 요청은 보류했다가 알림이 도착하면 분류한다. 누적 횟수는 요청 완료 경로에서 MXBean을 호출하지 않도록
+ * 데몬 스레드 하나가 1ms마다 읽어 공개하고, 기록은 공개된 값만 비교한다. 멈춤형 수집기는 폴링 스레드도
+ * 멈추므로 멈춤 직후에는 폴링이 밀린다. 마지막 폴링이 2ms보다 오래되었으면 기록하는 스레드가 직접 한 번
+ * 읽어 방금 끝난 멈춤을 놓치지 않는다. 폴링 간격보다 짧은 멈춤 직후에 끝난 요청은 알림보다 먼저 분류되어
+ * 그 멈춤과 겹치지 않은 것으로 분류될 수 있다.
+ *
+ * <p>{@link GcInfo}의 시각은 JVM 관리 모듈 초기화 시점 기준의 밀리초라 {@link System#nanoTime()}과
+ * 기준이 다르고, JVM 가동 시간({@code RuntimeMXBean#getUptime()})보다도 수십 밀리초 늦게 시작한다.
+ * 그래서 두 시계의 차이를 관측으로 좁힌다. 가동 시간 기준점이 하한이고, 늘어난 수집 횟수를 처음 본 시각과
+ * 알림을 받은 시각은 멈춤이 이미 끝난 뒤이므로 상한이 된다. 부하가 걸려 있으면 멈춤 직후 곧바로 요청이
+ * 완료되므로 상한은 실제 값에 가깝다. 시각이 밀리초 해상도이므로 멈춤 구간 양쪽에 1ms 여유를 두고 비교하며,
+ * 멈춤 직전이나 직후에 끝난 짧은 요청은 겹친 것으로 분류될 수 있다.
+ *
+ * <p>멈춤 구간은 앞으로 기록될 요청과 겹칠 수 있는 것만 보관한다. 요청 지연 시간은 설정한 최대 지연
+ * 시간(보통 요청 타임아웃)과 지금까지 관측한 최대 지연 시간 중 큰 값을 넘지 않는다고 보고, 그보다 오래전에
+ * 끝난 멈춤은 새 멈춤을 추가할 때 버린다. 보고서의 멈춤 수와 시간 합계는 버린 멈춤도 포함한다.
+ * 분류 결과가 필요한 곳(예: 가장 느린 요청 목록)은 {@link #addListener(GcPauseListener)}로 분류 시점에 받는다.
+ *
+ * <p><b>사용 흐름:</b>
+ * <pre>{@code
+ * GcPauseTracker tracker = new GcPauseTracker();
+ * tracker.addListener(slowestTracker::record);  // 선택
+ * tracker.start();
+ * tracker.record(result, System.nanoTime());   // 요청 완료 시 (여러 스레드)
+ * tracker.close();                             // 남은 알림 처리
+ * GcPauseReport report = tracker.report(testResult.latencyStats());
+ * }</pre>
+ *
+ * @author junhyeong9812
+ * @since 1.1.0
+ * @see GcPauseReport
+ */
+public class GcPauseTracker implements AutoCloseable {
+
+  private static final Logger logger = System.getLogger(GcPauseTracker.class.getName());
+
+  private static final long NANOS_PER_MILLI = 1_000_000;
+
+  /** GcInfo 시각의 밀리초 해상도를 덮는 여유 */
+  private static final long PADDING_NANOS = NANOS_PER_MILLI;
+
+  /** 종료 시 아직 도착하지 않은 GC 알림을 기다리는 최대 시간 */
+  private static final long DRAIN_TIMEOUT_MILLIS = 200;
+
+  /** 최대 지연 시간을 지정하지 않았을 때 멈춤 구간을 보관하는 기본 시간 */
+  private static final Duration DEFAULT_MAX_LATENCY = Duration.ofSeconds(30);
+
+  /** 알림 지연 등을 덮기 위해 멈춤 보관 시간에 더하는 여유 */
+  private static final long RETENTION_SLACK_NANOS = 1_000 * NANOS_PER_MILLI;
+
+  /** 누적 수집 횟수를 읽는 간격 */
+  private static final long POLL_INTERVAL_NANOS = NANOS_PER_MILLI;
+
+  private final List<GarbageCollectorMXBean> collectors;
+  private final AtomicLongArray notifiedCounts;
+  private final NotificationListener listener =
+      (notification, handback) -> onNotification(notification);
+  private final MetricAggregator clean = new MetricAggregator();
+  private final MetricAggregator affected = new MetricAggregator();
+  private final List<Pending> pending = new ArrayList<>();
+  private final List<GcPauseListener> listeners = new CopyOnWriteArrayList<>();
+
+  /** 멈춤 구간 보관 기준 - 설정한 최대 지연 시간과 관측한 최대 지연 시간 중 큰 값 (나노초) */
+  private final AtomicLong maxLatencyNanos;
+
+  /** 수집기별로 폴링한 누적 수집 횟수와 그 횟수를 처음 본 시각 (nanoTime) */
+  private final AtomicLongArray observedCounts;
+  private final AtomicLongArray observedNanos;
+
+  /** 마지막 폴링 시각 (nanoTime) */
+  private volatile long polledNanos;
+  private volatile Thread poller;
+
+  /** 끝 시각 오름차순의 멈춤 구간 [시작0, 끝0, 시작1, 끝1, ...] ({@link GcInfo} 밀리초) */
+  private volatile long[] pauses = new long[0];
+
+  /** GcInfo 시각 0에 해당하는 {@link System#nanoTime()} 추정값 (관측한 상한 중 최솟값) */
+  private volatile long clockOffsetNanos = Long.MAX_VALUE;
+
+  private long uptimeOriginNanos;
+  private int pauseCount;
+  private long totalPauseMillis;
+  private long maxPauseMillis;
+  private boolean started;
+  private boolean closed;
+
+  /**
+   * 기본 최대 지연 시간(30초)으로 GcPauseTracker를 생성한다.
+   */
+  public GcPauseTracker() {
+    this(DEFAULT_MAX_LATENCY);
+  }
+
+  /**
+   * 현재 JVM의 멈춤형 수집기를 찾아 GcPauseTracker를 생성한다.
+   *
+   * <p>GC 알림을 지원하지 않는 환경에서는 모든 요청을 멈춤과 겹치지 않은 것으로 분류한다.
+   *
+   * @param maxLatency 예상되는 최대 요청 지연 시간 (보통 요청 타임아웃) - 이보다 오래전에 끝난 멈춤은 버린다
+   */
+  public GcPauseTracker(Duration maxLatency) {
+    this.maxLatencyNanos = new AtomicLong(maxLatency.toNanos());
+    List<GarbageCollectorMXBean> pauseCollectors = new ArrayList<>();
+    for (GarbageCollectorMXBean bean : ManagementFactory.getGarbageCollectorMXBeans()) {
+      if (isPauseCollector(bean.getName()) && bean instanceof NotificationEmitter
+          && bean.getCollectionCount() >= 0) {
+        pauseCollectors.add(bean);
+      }
+    }
+    this.collectors = List.copyOf(pauseCollectors);
+    this.notifiedCounts = new AtomicLongArray(collectors.size());
+    this.observedCounts = new AtomicLongArray(collectors.size());
+    this.observedNanos = new AtomicLongArray(collectors.size());
+    resetCounts();
+  }
+
+  /**
+   * 요청 분류 리스너를 등록한다. {@link #start()} 전에 등록해야 모든 분류를 받는다.
+   *
+   * @param listener 요청이 분류될 때마다 호출될 리스너
+   * @return this
+   */
+  public GcPauseTracker addListener(GcPauseListener listener) {
+    listeners.add(listener);
+    return this;
+  }
+
+  /**
+   * GC 알림 구독을 시작한다.
+   *
+   * <p>시작 이전에 일어난 GC는 세지 않는다. 멈춤형 수집기가 없으면 경고를 남긴다.
+   */
+  public synchronized void start() {
+    if (started) {
+      return;
+    }
+    started = true;
+    resetCounts();
+    uptimeOriginNanos = System.nanoTime()
+        - ManagementFactory.getRuntimeMXBean().getUptime() * NANOS_PER_MILLI;
+    for (GarbageCollectorMXBean bean : collectors) {
+      ((NotificationEmitter) bean).addNotificationListener(listener, null, null);
+    }
+    if (collectors.isEmpty()) {
+      logger.log(Level.WARNING, "No pause-type garbage collector notifications available");
+      return;
+    }
+    Thread thread = new Thread(this::pollLoop, "overload-gc-poller");
+    thread.setDaemon(true);
+    poller = thread;
+    thread.start();
+  }
+
+  private void resetCounts() {
+    for (int i = 0; i < collectors.size(); i++) {
+      notifiedCounts.set(i, collectors.get(i).getCollectionCount());
+      observedCounts.set(i, notifiedCounts.get(i));
+    }
+    polledNanos = System.nanoTime();
+  }
+
+  private void pollLoop() {
+    while (poller != null) {
+      poll();
+      LockSupport.parkNanos(POLL_INTERVAL_NANOS);
+    }
+  }
+
+  /**
+   * 수집기별 누적 수집 횟수를 읽어 공개한다. 늘어난 횟수는 처음 본 시각과 함께 기록한다.
+   *
+   * <p>횟수는 수집이 시작될 때 늘어나므로 진행 중인 GC의 횟수를 읽을 수 있다. 처음 본 시각은 횟수를 읽은
+   * 뒤에 잰다. 멈춤 중에는 스레드가 자바 코드로 돌아올 수 없으므로 그 시각은 멈춤이 끝난 뒤다.
+   * 반대로 마지막 폴링 시각은 읽기 전에 재서, 그 전에 끝난 멈춤은 모두 반영되었음을 보장한다.
+   */
+  private void poll() {
+    long startNanos = System.nanoTime();
+    for (int i = 0; i < collectors.size(); i++) {
+      long count = collectors.get(i).getCollectionCount();
+      long seenNanos = System.nanoTime();
+      if (count > observedCounts.get(i)) {
+        observedNanos.set(i, seenNanos);
+        observedCounts.accumulateAndGet(i, count, Math::max);
+      }
+    }
+    polledNanos = startNanos;
+  }
+
+  /**
+   * 수집기 이름이 멈춤(Stop-the-world) 단위로 보고하는 수집기인지 확인한다.
+   *
+   * <p>ZGC와 Shenandoah는 같은 수집을 {@code Cycles}(동시 주기)와 {@code Pauses}(멈춤)
+   * 두 수집기로 보고하고, G1은 동시 마킹을 {@code G1 Concurrent GC}로 보고한다.
+   * 동시 주기는 애플리케이션을 멈추지 않으므로 제외한다.
+   *
+   * @param name 수집기 이름
+   * @return 멈춤형 수집기이면 {@code true}
+   */
+  static boolean isPauseCollector(String name) {
+    return !name.contains("Cycles") && !name.contains("Concurrent");
+  }
+
+  /**
+   * 완료된 요청을 기록한다.
+   *
+   * <p>스레드 안전하다. 대부분의 요청은 수집기별 누적 횟수를 읽고 멈춤 배열을 훑은 뒤 잠금 없이
+   * 집계기에 기록된다. 아직 알림을 받지 못한 GC가 있으면 요청을 보류한다.
+   *
+   * @param result   요청 결과
+   * @param endNanos 요청 완료 시각 ({@link System#nanoTime()})
+   */
+  public void record(RequestResult result, long endNanos) {
+    long latencyNanos = result.latencyMicros() * 1_000;
+    if (latencyNanos > maxLatencyNanos.get()) {
+      maxLatencyNanos.accumulateAndGet(latencyNanos, Math::max);
+    }
+    long beginNanos = endNanos - latencyNanos;
+    if (endNanos - polledNanos > 2 * POLL_INTERVAL_NANOS && poller != null) {
+      poll();
+    }
+    for (int i = 0; i < collectors.size(); i++) {
+      if (observedCounts.get(i) > notifiedCounts.get(i)) {
+        defer(result, beginNanos, endNanos);
+        return;
+      }
+    }
+    classify(result, beginNanos, endNanos);
+  }
+
+  /**
+   * 주어진 구간이 수집된 GC 멈춤과 겹치는지 확인한다.
+   *
+   * @param beginNanos 구간 시작 ({@link System#nanoTime()})
+   * @param endNanos   구간 끝 ({@link System#nanoTime()})
+   * @return 겹치는 멈춤이 있으면 {@code true}
+   */
+  public boolean overlaps(long beginNanos, long endNanos) {
+    long[] snapshot = pauses;
+    long offset = clockOffsetNanos;
+    for (int i = snapshot.length - 2; i >= 0; i -= 2) {
+      if (offset + (snapshot[i + 1] + 1) * NANOS_PER_MILLI + PADDING_NANOS <= beginNanos) {
+        return false;
+      }
+      if (offset + snapshot[i] * NANOS_PER_MILLI - PADDING_NANOS < endNanos) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private void classify(RequestResult result, long beginNanos, long endNanos) {
+    boolean overlapped = overlaps(beginNanos, endNanos);
+    (overlapped ? affected : clean).record(result);
+    for (GcPauseListener listener : listeners) {
+      listener.onClassified(result, endNanos, overlapped);
+    }
+  }
+
+  private synchronized void defer(RequestResult result, long beginNanos, long endNanos) {
+    long[] counts = new long[collectors.size()];
+    for (int i = 0; i < counts.length; i++) {
+      counts[i] = observedCounts.get(i);
+    }
+    Pending deferred = new Pending(result, beginNanos, endNanos, counts);
+    if (closed || deferred.isResolved(notifiedCounts)) {
+      classify(result, beginNanos, endNanos);
+    } else {
+      pending.add(deferred);
+    }
+  }
+
+  private void onNotification(Notification notification) {
+    long receivedNanos = System.nanoTime();
+    if (!GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(
+        notification.getType())) {
+      return;
+    }
+    GarbageCollectionNotificationInfo info = GarbageCollectionNotificationInfo.from(
+        (CompositeData) notification.getUserData());
+    int index = indexOf(info.getGcName());
+    if (index < 0) {
+      return;
+    }
+    GcInfo gcInfo = info.getGcInfo();
+    synchronized (this) {
+      if (gcInfo.getId() <= notifiedCounts.get(index)) {
+        return;
+      }
+      long endBound = observedCounts.get(index) >= gcInfo.getId()
+          ? Math.min(observedNanos.get(index), receivedNanos)
+          : receivedNanos;
+      clockOffsetNanos = Math.max(uptimeOriginNanos,
+          Math.min(clockOffsetNanos, endBound - gcInfo.getEndTime() * NANOS_PER_MILLI));
+      addPause(gcInfo.getStartTime(), gcInfo.getEndTime(), receivedNanos);
+      notifiedCounts.set(index, gcInfo.getId());
+      resolvePending(false);
+    }
+  }
+
+  private int indexOf(String gcName) {
+    for (int i = 0; i < collectors.size(); i++) {
+      if (collectors.get(i).getName().equals(gcName)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * 멈춤 구간을 끝 시각 순서에 맞게 추가하면서, 앞으로 기록될 요청과 겹칠 수 없는 오래된 멈춤을 버린다.
+   *
+   * <p>보관 기준 시각은 지금에서 최대 지연 시간과 여유를 뺀 시각이며, 보류 중인 요청의 시작 시각보다
+   * 늦지 않게 한다. 그래서 배열 길이는 실행 시간이 아니라 보관 시간 동안의 멈춤 수에 비례한다.
+   */
+  private void addPause(long startMillis, long endMillis, long nowNanos) {
+    long cutoffNanos = nowNanos - maxLatencyNanos.get() - RETENTION_SLACK_NANOS;
+    for (Pending deferred : pending) {
+      cutoffNanos = Math.min(cutoffNanos, deferred.beginNanos());
+    }
+    long[] current = pauses;
+    int from = 0;
+    while (from < current.length
+        && clockOffsetNanos + (current[from + 1] + 1) * NANOS_PER_MILLI + PADDING_NANOS
+            <= cutoffNanos) {
+      from += 2;
+    }
+    int at = current.length;
+    while (at > from && current[at - 1] > endMillis) {
+      at -= 2;
+    }
+    long[] next = new long[current.length - from + 2];
+    System.arraycopy(current, from, next, 0, at - from);
+    next[at - from] = startMillis;
+    next[at - from + 1] = endMillis;
+    System.arraycopy(current, at, next, at - from + 2, current.length - at);
+    pauses = next;
+
+    long duration = endMillis - startMillis;
+    pauseCount++;
+    totalPauseMillis += duration;
+    maxPauseMillis = Math.max(maxPauseMillis, duration);
+  }
+
+  private void resolvePending(boolean force) {
+    Iterator<Pending> iterator = pending.iterator();
+    while (iterator.hasNext()) {
+      Pending deferred = iterator.next();
+      if (force || deferred.isResolved(notifiedCounts)) {
+        classify(deferred.result(), deferred.beginNanos(), deferred.endNanos());
+        iterator.remove();
+      }
+    }
+  }
+
+  /**
+   * GC 알림 구독을 해제한다.
+   *
+   * <p>보류된 요청이 있으면 남은 GC 알림을 최대 200ms 기다린 뒤, 그때까지 알려진 멈춤으로 분류한다.
+   */
+  @Override
+  public void close() {
+    Thread polling = poller;
+    poller = null;
+    if (polling != null) {
+      LockSupport.unpark(polling);
+    }
+    long deadline = System.nanoTime() + DRAIN_TIMEOUT_MILLIS * NANOS_PER_MILLI;
+    while (hasPending() && System.nanoTime() < deadline) {
+      try {
+        Thread.sleep(5);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        break;
+      }
+    }
+    for (GarbageCollectorMXBean bean : collectors) {
+      try {
+        ((NotificationEmitter) bean).removeNotificationListener(listener);
+      } catch (ListenerNotFoundException e) {
+        // 이미 해제됨
+      }
+    }
+    synchronized (this) {
+      if (!pending.isEmpty()) {
+        logger.log(Level.DEBUG, "{0} requests classified without their GC notification",
+            pending.size());
+      }
+      resolvePending(true);
+      closed = true;
+    }
+  }
+
+  private synchronized boolean hasPending() {
+    return !pending.isEmpty();
+  }
+
+  /**
+   * 수집된 멈춤과 분류 결과로 {@link GcPauseReport}를 생성한다.
+   *
+   * <p>꼬리 기준값은 전체 요청의 p99다. 멈춤과 겹친 요청과 겹치지 않은 요청의 분포에서
+   * 기준값보다 느린 버킷의 개수를 세어 꼬리 중 멈춤과 겹친 요청 수를 구한다.
+   *
+   * @param overall 전체 측정 요청의 지연 시간 통계
+   * @return GC 멈춤 보고서
+   */
+  public synchronized GcPauseReport report(TestResult.LatencyStats overall) {
+    TestResult cleanResult = clean.aggregate();
+    TestResult affectedResult = affected.aggregate();
+    LatencySpectrum cleanSpectrum = cleanResult.latencyStats().spectrum();
+    LatencySpectrum affectedSpectrum = affectedResult.latencyStats().spectrum();
+
+    long threshold = overall.spectrum().valueAtPercentile(99);
+    long affectedTail = affectedSpectrum.countAbove(threshold);
+    return new GcPauseReport(
+        collectors.stream().map(GarbageCollectorMXBean::getName).toList(),
+        pauseCount,
+        Duration.ofMillis(totalPauseMillis),
+        Duration.ofMillis(maxPauseMillis),
+        (long) cleanResult.totalRequests() + affectedResult.totalRequests(),
+        affectedResult.totalRequests(),
+        threshold,
+        cleanSpectrum.countAbove(threshold) + affectedTail,
+        affectedTail,
+        cleanResult.latencyStats());
+  }
+
+  /**
+   * GC 알림을 기다리는 요청.
+   *
+   * @param result     요청 결과
+   * @param beginNanos 진행 구간 시작
+   * @param endNanos   진행 구간 끝
+   * @param counts     기록 시점에 공개된 수집기별 누적 수집 횟수
+   */
+  private record Pending(RequestResult result, long beginNanos, long endNanos, long[] counts) {
+
+    boolean isResolved(AtomicLongArray notifiedCounts) {
+      for (int i = 0; i < counts.length; i++) {
+        if (notifiedCounts.get(i) < counts[i]) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+}
\ No newline at end of file
@@ -0,0 +1,163 @@
+package io.github.junhyeong9812.overload.core.metric.application;
+
+import io.github.junhyeong9812.overload.core.engine.domain.EngineInstrumentation;
+import io.github.junhyeong9812.overload.core.metric.domain.GeneratorHealth;
+import io.github.junhyeong9812.overload.core.metric.domain.GeneratorHealth.OverheadStats;
+import io.github.junhyeong9812.overload.core.metric.domain.LogLinearHistogram;
+import jdk.jfr.consumer.RecordingStream;
+
+import java.lang.System.Logger;
+import java.lang.System.Logger.Level;
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 부하 생성기 자체 오버헤드를 수집하는 {@link EngineInstrumentation} 구현체.
+ *
+ * <p>엔진이 보고하는 나노초 값을 마이크로초 로그-선형 히스토그램에 기록하고,
+ * 선택적으로 JFR {@code jdk.VirtualThreadPinned} 이벤트 스트림을 구독하여
+ * Virtual Thread pinning 횟수와 시간을 집계한다.
+ *
+ * <p><b>사용 흐름:</b>
+ * <ol>
+ *   <li>{@link #start()} - pinning 추적 시작 (활성화된 경우)</li>
+ *   <li>엔진 실행 - {@code ExecutionContext}를 통해 계측 값 기록</li>
+ *   <li>{@link #stop()} - pinning 추적 종료</li>
+ *   <li>{@link #toHealth(double, double)} - 최종 {@link GeneratorHealth} 생성</li>
+ * </ol>
+ *
+ * <p><b>성능:</b>
+ * 기록 메서드는 {@link LogLinearHistogram}에 O(1)로 기록하며 락을 사용하지 않는다.
+ * 포화 상태에서는 허가 대기가 수백 밀리초를 넘으므로 상한 없이 일정한 상대 오차로 기록한다.
+ * JFR 스트림 시작에는 수백 밀리초가 걸릴 수 있으므로 pinning 추적은 선택 사항이다.
+ *
+ * @author junhyeong9812
+ * @since 1.1.0
+ * @see GeneratorHealth
+ * @see io.github.junhyeong9812.overload.core.engine.domain.ExecutionContext
+ */
+public class GeneratorHealthMonitor implements EngineInstrumentation {
+
+  private static final Logger logger = System.getLogger(GeneratorHealthMonitor.class.getName());
+
+  private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+  private static final Duration PINNED_THRESHOLD = Duration.ofMillis(1);
+
+  private final boolean trackPinning;
+  private final LogLinearHistogram schedulingLag = new LogLinearHistogram();
+  private final LogLinearHistogram permitWait = new LogLinearHistogram();
+  private final LogLinearHistogram callbackTime = new LogLinearHistogram();
+  private final LongAdder pinnedEvents = new LongAdder();
+  private final LongAdder pinnedNanos = new LongAdder();
+  private final LongAdder progressDropped = new LongAdder();
+
+  private RecordingStream pinningStream;
+
+  /**
+   * pinning 추적 없이 GeneratorHealthMonitor를 생성한다.
+   */
+  public GeneratorHealthMonitor() {
+    this(false);
+  }
+
+  /**
+   * GeneratorHealthMonitor를 생성한다.
+   *
+   * @param trackPinning JFR로 Virtual Thread pinning을 추적할지 여부
+   */
+  public GeneratorHealthMonitor(boolean trackPinning) {
+    this.trackPinning = trackPinning;
+  }
+
+  /**
+   * 모니터링을 시작한다.
+   *
+   * <p>pinning 추적이 활성화된 경우 JFR 이벤트 스트림을 비동기로 시작한다.
+   * JFR을 사용할 수 없는 환경에서는 경고를 남기고 pinning 추적 없이 계속한다.
+   */
+  public synchronized void start() {
+    if (!trackPinning || pinningStream != null) {
+      return;
+    }
+    try {
+      RecordingStream stream = new RecordingStream();
+      stream.enable(PINNED_EVENT).withThreshold(PINNED_THRESHOLD).withoutStackTrace();
+      stream.onEvent(PINNED_EVENT, event -> {
+        pinnedEvents.increment();
+        pinnedNanos.add(event.getDuration().toNanos());
+      });
+      stream.startAsync();
+      pinningStream = stream;
+    } catch (RuntimeException | Error e) {
+      logger.log(Level.WARNING, "Virtual thread pinning tracking unavailable: {0}", e.toString());
+    }
+  }
+
+  /**
+   * 모니터링을 종료한다.
+   *
+   * <p>JFR 스트림에 남은 이벤트를 모두 처리한 뒤 스트림을 닫는다.
+   */
+  public synchronized void stop() {
+    if (pinningStream == null) {
+      return;
+    }
+    try {
+      pinningStream.stop();
+    } catch (RuntimeException e) {
+      // 이미 종료된 스트림
+    } finally {
+      pinningStream.close();
+    }
+  }
+
+  @Override
+  public void recordSchedulingLag(long nanos) {
+    schedulingLag.record(nanos / 1_000);
+  }
+
+  @Override
+  public void recordPermitWait(long nanos) {
+    permitWait.record(nanos / 1_000);
+  }
+
+  @Override
+  public void recordCallbackTime(long nanos) {
+    callbackTime.record(nanos / 1_000);
+  }
+
+  /**
+   * 비동기 진행 전달에서 버려진 이벤트 수를 기록한다.
+   *
+   * @param count 버려진 이벤트 수
+   */
+  public void recordProgressDropped(long count) {
+    progressDropped.add(count);
+  }
+
+  /**
+   * 수집된 오버헤드로 {@link GeneratorHealth}를 생성한다.
+   *
+   * @param meanLatencyMicros 측정된 평균 요청 지연 (마이크로초)
+   * @param warnRatio         경고 기준 비율 (예: 0.1 = 지연의 10%)
+   * @return 생성기 상태
+   */
+  public GeneratorHealth toHealth(double meanLatencyMicros, double warnRatio) {
+    OverheadStats lag = OverheadStats.from(schedulingLag);
+    OverheadStats callback = OverheadStats.from(callbackTime);
+    double overhead = lag.avgMicros() + callback.avgMicros();
+    double ratio = meanLatencyMicros > 0 ? overhead / meanLatencyMicros : 0;
+
+    return new GeneratorHealth(
+        lag,
+        OverheadStats.from(permitWait),
+        callback,
+        pinnedEvents.sum(),
+        pinnedNanos.sum() / 1_000,
+        pinningStream != null,
+        ratio,
+        warnRatio,
+        progressDropped.sum()
+    );
+  }
+}
@@ -0,0 +1,24 @@
+package io.github.junhyeong9812.overload.core.metric.application;
+
+import io.github.junhyeong9812.overload.core.metric.domain.IntervalStats;
+
+/**
+ * 구간 통계를 전달받는 함수형 인터페이스.
+ *
+ * <p>{@link IntervalReporter}가 구간이 끝날 때마다 보고 스레드에서 호출한다.
+ * 요청 처리 경로와 분리되어 있으므로 구현체가 느려도 부하 생성에는 영향을 주지 않는다.
+ *
+ * @author junhyeong9812
+ * @since 1.1.0
+ * @see IntervalReporter
+ */
+@FunctionalInterface
+public interface IntervalListener {
+
+  /**
+   * 구간 통계를 전달받는다.
+   *
+   * @param stats 방금 끝난 구간의 통계
+   */
+  void onInterval(IntervalStats stats);
+}
@@ -0,0 +1,117 @@
+package io.github.junhyeong9812.overload.core.metric.application;
+
+import io.github.junhyeong9812.overload.core.http.domain.ErrorType;
+import io.github.junhyeong9812.overload.core.http.domain.RequestResult;
+import io.github.junhyeong9812.overload.core.metric.domain.IntervalStats;
+import io.github.junhyeong9812.overload.core.metric.domain.LogLinearHistogram;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 요청 결과를 구간(window) 단위로 기록하는 수집기.
+ *
+ * <p>{@link MetricAggregator}가 실행 전체를 누적한다면, IntervalRecorder는
+ * {@link #snapshot()} 호출 시마다 현재 구간을 잘라 {@link IntervalStats}로 반환하고
+ * 새 구간을 시작한다.
+ *
+ * <p><b>동시성:</b>
+ * 기록은 현재 구간 객체에 락 없이 수행되고, 구간 교체는 {@link AtomicReference}로 한다.
+ * 교체 직전에 구간을 읽은 요청은 이전 구간에 기록될 수 있으며,
+ * 이 경우 해당 요청은 스냅샷에서 누락될 수 있다 (구간당 최대 동시 요청 수 이내).
+ * 누적 결과는 {@link MetricAggregator}가 별도로 정확하게 집계한다.
+ *
+ * <p><b>사용 예시:</b>
+ * <pre>{@code
+ * IntervalRecorder recorder = new IntervalRecorder();
+ * recorder.record(result);          // 요청 완료 시 (여러 스레드)
+ * IntervalStats stats = recorder.snapshot();  // 주기적으로 (보고 스레드)
+ * }</pre>
+ *
+ * @author junhyeong9812
+ * @since 1.1.0
+ * @see IntervalReporter
+ */
+public class IntervalRecorder {
+
+  private final long startNanos;
+  private final AtomicReference<Window> current;
+
+  /**
+   * 현재 시각을 실행 시작으로 하는 IntervalRecorder를 생성한다.
+   */
+  public IntervalRecorder() {
+    this.startNanos = System.nanoTime();
+    this.current = new AtomicReference<>(new Window(startNanos));
+  }
+
+  /**
+   * 요청 결과를 현재 구간에 기록한다.
+   *
+   * <p>이 메서드는 스레드 안전하며 O(1)로 동작한다.
+   *
+   * @param result 기록할 요청 결과
+   */
+  public void record(RequestResult result) {
+    Window window = current.get();
+    window.histogram.record(result.latencyMicros());
+    if (result instanceof RequestResult.Success success) {
+      if (!success.isHttpSuccess()) {
+        window.failures.increment();
+      }
+    } else if (result instanceof RequestResult.Failure failure) {
+      window.failures.increment();
+      if (failure.errorType() == ErrorType.CONNECTION_REFUSED) {
+        window.refused.increment();
+      }
+    }
+  }
+
+  /**
+   * 현재 구간을 닫고 통계를 반환한 뒤 새 구간을 시작한다.
+   *
+   * @return 방금 닫힌 구간의 통계
+   */
+  public IntervalStats snapshot() {
+    long now = System.nanoTime();
+    Window closed = current.getAndSet(new Window(now));
+    LogLinearHistogram histogram = closed.histogram;
+    long requests = histogram.getCount();
+    long p50 = requests > 0 ? histogram.getPercentile(50) : 0;
+    long p99 = requests > 0 ? histogram.getPercentile(99) : 0;
+    long max = requests > 0 ? histogram.getMax() : 0;
+    double avg = histogram.getMean();
+
+    return new IntervalStats(
+        Duration.ofNanos(now - startNanos),
+        Duration.ofNanos(now - closed.startNanos),
+        requests,
+        closed.failures.sum(),
+        closed.refused.sum(),
+        p50 / 1_000,
+        p99 / 1_000,
+        max / 1_000,
+        avg / 1_000,
+        p50,
+        p99,
+        max,
+        avg
+    );
+  }
+
+  /**
+   * 단일 구간의 기록 상태.
+   */
+  private static final class Window {
+
+    private final long startNanos;
+    private final LogLinearHistogram histogram = new LogLinearHistogram();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder refused = new LongAdder();
+
+    private Window(long startNanos) {
+      this.startNanos = startNanos;
+    }
+  }
+}
@@ -0,0 +1,121 @@
+package io.github.junhyeong9812.overload.core.metric.application;
+
+import io.github.junhyeong9812.overload.core.metric.domain.IntervalStats;
+
+import java.lang.System.Logger;
+import java.lang.System.Logger.Level;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link IntervalRecorder}의 구간 통계를 주기적으로 리스너에 전달하는 보고기.
+ *
+ * <p>전용 데몬 플랫폼 스레드에서 고정 주기로 스냅샷을 찍는다.
+ * 요청 처리 스레드는 {@link IntervalRecorder#record}만 호출하므로
+ * 리스너(JFR 이벤트, 실시간 제어 규칙 등)의 비용은 요청 경로에 포함되지 않는다.
+ *
+ * <p><b>사용 흐름:</b>
+ * <ol>
+ *   <li>{@link #addListener(IntervalListener)} - 리스너 등록</li>
+ *   <li>{@link #start()} - 주기 보고 시작</li>
+ *   <li>{@link #close()} - 보고 종료, 마지막 부분 구간 전달</li>
+ * </ol>
+ *
+ * @author junhyeong9812
+ * @since 1.1.0
+ * @see IntervalRecorder
+ * @see IntervalListener
+ */
+public class IntervalReporter implements AutoCloseable {
+
+  private static final Logger logger = System.getLogger(IntervalReporter.class.getName());
+
+  private final IntervalRecorder recorder;
+  private final Duration interval;
+  private final List<IntervalListener> listeners = new CopyOnWriteArrayList<>();
+
+  private ScheduledExecutorService scheduler;
+
+  /**
+   * IntervalReporter를 생성한다.
+   *
+   * @param recorder 구간 통계를 기록하는 수집기
+   * @param interval 보고 주기
+   * @throws IllegalArgumentException interval이 0 이하인 경우
+   */
+  public IntervalReporter(IntervalRecorder recorder, Duration interval) {
+    this.recorder = Objects.requireNonNull(recorder, "recorder");
+    if (interval.isNegative() || interval.isZero()) {
+      throw new IllegalArgumentException("Interval must be positive");
+    }
+    this.interval = interval;
+  }
+
+  /**
+   * 구간 리스너를 등록한다.
+   *
+   * @param listener 구간마다 호출될 리스너
+   * @return this
+   */
+  public IntervalReporter addListener(IntervalListener listener) {
+    listeners.add(Objects.requireNonNull(listener, "listener"));
+    return this;
+  }
+
+  /**
+   * 주기 보고를 시작한다.
+   *
+   * @return this
+   */
+  public synchronized IntervalReporter start() {
+    if (scheduler == null) {
+      scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "overload-interval-reporter");
+        thread.setDaemon(true);
+        return thread;
+      });
+      long periodNanos = interval.toNanos();
+      scheduler.scheduleAtFixedRate(this::report, periodNanos, periodNanos, TimeUnit.NANOSECONDS);
+    }
+    return this;
+  }
+
+  /**
+   * 보고를 종료하고 마지막 부분 구간을 리스너에 전달한다.
+   */
+  @Override
+  public synchronized void close() {
+    if (scheduler == null) {
+      return;
+    }
+    scheduler.shutdown();
+    try {
+      scheduler.awaitTermination(interval.toMillis() + 1_000, TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    scheduler = null;
+    report();
+  }
+
+  /**
+   * 현재 구간을 잘라 모든 리스너에 전달한다.
+   *
+   * <p>리스너 예외는 기록만 하고 다른 리스너와 다음 주기에 영향을 주지 않는다.
+   */
+  private void report() {
+    IntervalStats stats = recorder.snapshot();
+    for (IntervalListener listener : listeners) {
+      try {
+        listener.onInterval(stats);
+      } catch (RuntimeException e) {
+        logger.log(Level.WARNING, "Interval listener failed: {0}", e.toString());
+      }
+    }
+  }
+}
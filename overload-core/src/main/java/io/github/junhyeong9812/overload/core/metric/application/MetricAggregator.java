@@ -1,8 +1,9 @@
 package io.github.junhyeong9812.overload.core.metric.application;
 
 import io.github.junhyeong9812.overload.core.http.domain.RequestResult;
-import io.github.junhyeong9812.overload.core.metric.domain.LatencyHistogram;
+import io.github.junhyeong9812.overload.core.metric.domain.LogLinearHistogram;
 import io.github.junhyeong9812.overload.core.metric.domain.Percentiles;
+import io.github.junhyeong9812.overload.core.metric.domain.RunCheckpoint;
 import io.github.junhyeong9812.overload.core.metric.domain.TestResult;
 import io.github.junhyeong9812.overload.core.metric.domain.TestResult.LatencyStats;
 
@@ -38,23 +39,25 @@ import java.util.concurrent.atomic.LongAdder;
  * }</pre>
  *
  * <p><b>성능:</b>
- * {@link LatencyHistogram}을 사용하여 O(1) 시간 복잡도로 메트릭을 기록한다.
- * 대량의 요청(100,000+)에서도 효율적으로 동작한다.
+ * {@link LogLinearHistogram}을 사용하여 O(1) 시간 복잡도로 메트릭을 기록한다.
+ * 대량의 요청(100,000+)에서도 효율적으로 동작한다. 지연 시간은 마이크로초 단위로
+ * 기록되므로 1ms 미만의 응답도 구분된다.
  *
  * @author junhyeong9812
  * @since 1.0.0
  * @see TestResult
- * @see LatencyHistogram
+ * @see LogLinearHistogram
  */
 public class MetricAggregator {
 
   private final LongAdder totalRequests = new LongAdder();
   private final LongAdder successCount = new LongAdder();
   private final LongAdder failCount = new LongAdder();
-  private final LatencyHistogram latencyHistogram = new LatencyHistogram();
+  private final LogLinearHistogram latencyHistogram = new LogLinearHistogram();
 
   private volatile long startTime;
   private volatile long endTime;
+  private volatile long restoredMillis;
 
   /**
    * 테스트 시작 시간을 기록한다.
@@ -80,7 +83,7 @@ public class MetricAggregator {
    */
   public void record(RequestResult result) {
     totalRequests.increment();
-    latencyHistogram.record(result.latencyMs());
+    latencyHistogram.record(result.latencyMicros());
 
     if (result instanceof RequestResult.Success success) {
       if (success.isHttpSuccess()) {
@@ -93,6 +96,41 @@ public class MetricAggregator {
     }
   }
 
+  /**
+   * 체크포인트에 저장할 현재 상태를 반환한다.
+   *
+   * <p>실행 중에도 호출할 수 있으며, 경과 시간은 호출 시점까지로 계산한다.
+   * 기록과 동시에 호출하면 개수와 히스토그램이 몇 건 어긋날 수 있다.
+   *
+   * @return 집계기 상태
+   * @since 1.1.0
+   */
+  public RunCheckpoint.Metrics checkpoint() {
+    return new RunCheckpoint.Metrics(
+        totalRequests.sum(),
+        successCount.sum(),
+        failCount.sum(),
+        elapsedMillis(),
+        latencyHistogram.state());
+  }
+
+  /**
+   * 체크포인트의 상태를 더해 이전 실행에 이어서 집계한다.
+   *
+   * <p>저장된 경과 시간은 이후 측정되는 시간에 더해지므로, 중단되어 있던 시간은
+   * 실행 시간과 RPS에 포함되지 않는다.
+   *
+   * @param metrics 체크포인트에 저장된 집계기 상태
+   * @since 1.1.0
+   */
+  public void restore(RunCheckpoint.Metrics metrics) {
+    totalRequests.add(metrics.totalRequests());
+    successCount.add(metrics.successCount());
+    failCount.add(metrics.failCount());
+    latencyHistogram.restore(metrics.latency());
+    restoredMillis += metrics.elapsedMillis();
+  }
+
   /**
    * 수집된 메트릭을 집계하여 최종 결과를 반환한다.
    *
@@ -103,7 +141,7 @@ public class MetricAggregator {
     int success = successCount.intValue();
     int fail = failCount.intValue();
 
-    Duration duration = Duration.ofMillis(endTime - startTime);
+    Duration duration = Duration.ofMillis(endTime - startTime + restoredMillis);
     double rps = duration.toMillis() > 0
         ? (double) total / duration.toMillis() * 1000
         : 0;
@@ -113,6 +151,15 @@ public class MetricAggregator {
     return new TestResult(total, success, fail, duration, rps, latencyStats);
   }
 
+  private long elapsedMillis() {
+    long start = startTime;
+    if (start == 0) {
+      return restoredMillis;
+    }
+    long end = endTime;
+    return (end >= start ? end : System.currentTimeMillis()) - start + restoredMillis;
+  }
+
   /**
    * 지연 시간 통계를 계산한다.
    */
@@ -121,19 +168,18 @@ public class MetricAggregator {
       return LatencyStats.empty();
     }
 
-    long min = latencyHistogram.getMin();
-    long max = latencyHistogram.getMax();
-    double avg = latencyHistogram.getMean();
-
-    Percentiles percentiles = new Percentiles(
+    Percentiles percentiles = Percentiles.ofMicros(
         latencyHistogram.getPercentile(50),
         latencyHistogram.getPercentile(90),
         latencyHistogram.getPercentile(95),
         latencyHistogram.getPercentile(99),
-        min,
-        max
+        latencyHistogram.getMin(),
+        latencyHistogram.getMax()
     );
+    double avgMicros = latencyHistogram.getMean();
 
-    return new LatencyStats(min, max, avg, percentiles);
+    return new LatencyStats(
+        percentiles.min(), percentiles.max(), avgMicros / 1_000, percentiles, avgMicros,
+        latencyHistogram.snapshot());
   }
 }
\ No newline at end of file
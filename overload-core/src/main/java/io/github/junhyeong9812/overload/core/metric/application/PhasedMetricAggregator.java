@@ -0,0 +1,204 @@
+package io.github.junhyeong9812.overload.core.metric.application;
+
+import io.github.junhyeong9812.overload.core.http.domain.RequestResult;
+import io.github.junhyeong9812.overload.core.metric.domain.RunCheckpoint;
+import io.github.junhyeong9812.overload.core.metric.domain.TestResult;
+import io.github.junhyeong9812.overload.core.metric.domain.WarmupResult;
+
+import java.lang.System.Logger;
+import java.lang.System.Logger.Level;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 워밍업 구간과 측정 구간을 분리하여 집계하는 {@link MetricAggregator} 묶음.
+ *
+ * <p>요청이 완료될 때마다 {@link #record(RequestResult)}로 전달하면 워밍업 조건을 확인하여
+ * 워밍업용 또는 측정용 집계기에 기록한다. 측정 구간으로 넘어가는 순간 워밍업 집계기의
+ * 종료 시간과 측정 집계기의 시작 시간이 기록되므로, 측정 구간의 RPS는 워밍업을 제외한
+ * 시간으로 계산된다.
+ *
+ * <p><b>워밍업 종료 조건:</b>
+ * <ul>
+ *   <li>설정된 워밍업 시간이 지났거나 워밍업 요청 수를 채움 (둘 다 설정되면 먼저 도달한 쪽)</li>
+ *   <li>그리고 최소 {@code minWarmupRequests}개가 완료됨 - 첫 동시 요청 묶음이 연결 풀을
+ *       설정된 동시성까지 여는 동안의 핸드셰이크 비용을 측정에서 제외한다</li>
+ * </ul>
+ *
+ * <p>워밍업이 설정되지 않으면 모든 요청을 바로 측정 구간에 기록한다.
+ * 구간 전환은 한 번만 일어나며 이후 다시 워밍업으로 돌아가지 않는다.
+ *
+ * <p>{@link #checkpoint(String, int)}로 두 구간의 상태를 저장하고, 새 집계기에서
+ * {@link #restore(RunCheckpoint)}로 이어서 집계할 수 있다.
+ *
+ * @author junhyeong9812
+ * @since 1.1.0
+ * @see WarmupResult
+ */
+public class PhasedMetricAggregator {
+
+  private static final Logger logger = System.getLogger(PhasedMetricAggregator.class.getName());
+
+  private final MetricAggregator warmup = new MetricAggregator();
+  private final MetricAggregator measured = new MetricAggregator();
+  private final boolean hasWarmup;
+  private final long warmupNanos;
+  private final int warmupRequests;
+  private final int minWarmupRequests;
+  private final AtomicBoolean measuring = new AtomicBoolean(false);
+  private final AtomicInteger warmupCount = new AtomicInteger(0);
+
+  private volatile long startNanos;
+  private volatile long restoredWarmupNanos;
+
+  /**
+   * PhasedMetricAggregator를 생성한다.
+   *
+   * @param warmupDuration    워밍업 시간 ({@link Duration#ZERO}이면 시간 조건 없음)
+   * @param warmupRequests    워밍업 요청 수 (0이면 요청 수 조건 없음)
+   * @param minWarmupRequests 워밍업에 포함할 최소 요청 수 (보통 설정된 동시성)
+   */
+  public PhasedMetricAggregator(Duration warmupDuration, int warmupRequests, int minWarmupRequests) {
+    this.warmupNanos = warmupDuration.toNanos();
+    this.warmupRequests = warmupRequests;
+    this.hasWarmup = warmupNanos > 0 || warmupRequests > 0;
+    this.minWarmupRequests = hasWarmup ? minWarmupRequests : 0;
+    this.measuring.set(!hasWarmup);
+  }
+
+  /**
+   * 실행 시작 시간을 기록한다.
+   */
+  public void start() {
+    startNanos = System.nanoTime() - restoredWarmupNanos;
+    if (!measuring.get()) {
+      warmup.start();
+    } else {
+      measured.start();
+    }
+  }
+
+  /**
+   * 실행 종료 시간을 기록한다.
+   *
+   * <p>워밍업이 끝나기 전에 실행이 끝나면 측정 구간은 비어 있게 된다.
+   */
+  public void end() {
+    if (measuring.compareAndSet(false, true)) {
+      warmup.end();
+      measured.start();
+      logger.log(Level.WARNING,
+          "Run ended during warm-up after {0} requests; no requests were measured",
+          warmupCount.get());
+    }
+    measured.end();
+  }
+
+  /**
+   * 요청 결과를 현재 구간의 집계기에 기록한다.
+   *
+   * <p>스레드 안전하며, 여러 Virtual Thread에서 동시에 호출 가능하다. 이 요청으로 측정 구간이 시작될 수
+   * 있으므로, 측정 구간만 다루는 부가 집계는 호출 전의 {@link #isMeasuring()} 대신 반환값을 기준으로 한다.
+   *
+   * @param result 기록할 요청 결과
+   * @return 측정 구간에 기록되었으면 {@code true}, 워밍업 구간이면 {@code false}
+   */
+  public boolean record(RequestResult result) {
+    if (!measuring.get()) {
+      int count = warmupCount.incrementAndGet();
+      if (!warmupFinished(count)) {
+        warmup.record(result);
+        return false;
+      }
+      if (measuring.compareAndSet(false, true)) {
+        warmup.end();
+        measured.start();
+        logger.log(Level.INFO, "Warm-up finished after {0} requests ({1}ms); measuring",
+            count - 1, (System.nanoTime() - startNanos) / 1_000_000);
+      }
+    }
+    measured.record(result);
+    return true;
+  }
+
+  /**
+   * 두 구간의 현재 상태를 체크포인트로 반환한다.
+   *
+   * <p>실행 중에도 호출할 수 있다.
+   *
+   * @param url           대상 URL
+   * @param totalRequests 전체 요청 수
+   * @return 실행 체크포인트
+   * @since 1.1.0
+   */
+  public RunCheckpoint checkpoint(String url, int totalRequests) {
+    boolean inMeasurement = measuring.get();
+    return new RunCheckpoint(
+        url,
+        totalRequests,
+        inMeasurement,
+        warmup.checkpoint(),
+        measured.checkpoint(),
+        Instant.now());
+  }
+
+  /**
+   * 체크포인트의 상태를 복원한다. {@link #start()} 전에 호출해야 한다.
+   *
+   * <p>측정 구간에서 저장된 체크포인트면 워밍업 없이 바로 측정 구간으로 이어 간다.
+   * 워밍업 중에 저장되었으면 남은 워밍업 조건(요청 수와 시간)을 채운 뒤 측정 구간으로 넘어간다.
+   *
+   * @param checkpoint 복원할 체크포인트
+   * @since 1.1.0
+   */
+  public void restore(RunCheckpoint checkpoint) {
+    warmup.restore(checkpoint.warmup());
+    measured.restore(checkpoint.measured());
+    warmupCount.set((int) checkpoint.warmup().totalRequests());
+    restoredWarmupNanos = Duration.ofMillis(checkpoint.warmup().elapsedMillis()).toNanos();
+    if (checkpoint.measuring()) {
+      measuring.set(true);
+    }
+  }
+
+  /**
+   * 측정 구간에 들어섰는지 확인한다.
+   *
+   * @return 측정 중이면 {@code true}
+   */
+  public boolean isMeasuring() {
+    return measuring.get();
+  }
+
+  /**
+   * 측정 구간을 집계한다.
+   *
+   * @return 워밍업을 제외한 테스트 결과
+   */
+  public TestResult aggregate() {
+    return measured.aggregate();
+  }
+
+  /**
+   * 워밍업 구간을 집계한다.
+   *
+   * @return 워밍업 결과, 워밍업이 설정되지 않았으면 null
+   */
+  public WarmupResult warmupResult() {
+    return hasWarmup ? WarmupResult.from(warmup.aggregate()) : null;
+  }
+
+  /**
+   * count번째 완료 요청이 측정 구간에 속하는지 확인한다.
+   */
+  private boolean warmupFinished(int count) {
+    if (count <= minWarmupRequests) {
+      return false;
+    }
+    boolean requestsReached = warmupRequests > 0 && count > warmupRequests;
+    boolean durationReached = warmupNanos > 0 && System.nanoTime() - startNanos >= warmupNanos;
+    return requestsReached || durationReached;
+  }
+}
\ No newline at end of file
@@ -0,0 +1,170 @@
+package io.github.junhyeong9812.overload.core.metric.application;
+
+import io.github.junhyeong9812.overload.core.config.HttpMethod;
+import io.github.junhyeong9812.overload.core.http.domain.ErrorType;
+import io.github.junhyeong9812.overload.core.http.domain.RequestResult;
+import io.github.junhyeong9812.overload.core.http.domain.UnixSocketTarget;
+import io.github.junhyeong9812.overload.core.metric.domain.SlowRequest;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * 가장 느린 요청 N건을 유지하는 상위 K 추적기.
+ *
+ * <p>크기가 N인 최소 힙에 지금까지 가장 느린 요청을 보관한다. 힙이 가득 차면 힙의 최솟값
+ * (보관 중인 요청 중 가장 빠른 것)을 {@code volatile} 문턱값으로 공개하고, 기록 시 이 값보다
+ * 빠른 요청은 잠금 없이 바로 돌아간다. 지연 분포에서 상위 N건에 드는 요청은 드물기 때문에
+ * 실행이 어느 정도 진행되면 거의 모든 요청이 volatile 읽기 한 번으로 끝나고,
+ * 문턱값을 넘은 요청만 잠금을 잡아 힙을 갱신한다.
+ *
+ * <p>문턱값은 잠금 안에서만 올라가므로 빠른 경로에서 오래된 값을 읽어도 잠금 안에서
+ * 다시 비교할 뿐 결과는 정확하다.
+ *
+ * <p><b>사용 예시:</b>
+ * <pre>{@code
+ * SlowestRequestTracker tracker = new SlowestRequestTracker(10, url, "GET /users");
+ * tracker.record(result);                       // 요청 완료 시 (여러 스레드)
+ * List<SlowRequest> slowest = tracker.snapshot(); // 느린 순
+ * }</pre>
+ *
+ * <p>생성기 GC 멈춤을 추적할 때는 {@code gcTracker.addListener(tracker::record)}로 등록해
+ * 멈춤과 겹쳤는지 분류된 결과를 받는다.
+ *
+ * @author junhyeong9812
+ * @since 1.1.0
+ * @see SlowRequest
+ */
+public class SlowestRequestTracker {
+
+  private static final Comparator<SlowRequest> BY_LATENCY =
+      Comparator.comparingLong(SlowRequest::latencyMicros);
+
+  private final int capacity;
+  private final String url;
+  private final String endpoint;
+  private final long startNanos;
+  private final Instant startTime;
+  private final PriorityQueue<SlowRequest> heap;
+
+  /** 힙이 가득 찬 뒤 보관 중인 가장 빠른 지연 시간, 그 전에는 -1 */
+  private volatile long threshold = -1;
+
+  /**
+   * 현재 시각을 실행 시작으로 하는 SlowestRequestTracker를 생성한다.
+   *
+   * @param capacity 보관할 요청 수
+   * @param url      요청 URL
+   * @param endpoint 엔드포인트 이름
+   * @throws IllegalArgumentException capacity가 1 미만인 경우
+   */
+  public SlowestRequestTracker(int capacity, String url, String endpoint) {
+    if (capacity < 1) {
+      throw new IllegalArgumentException("Capacity must be >= 1");
+    }
+    this.capacity = capacity;
+    this.url = url;
+    this.endpoint = endpoint;
+    this.startNanos = System.nanoTime();
+    this.startTime = Instant.now();
+    this.heap = new PriorityQueue<>(capacity, BY_LATENCY);
+  }
+
+  /**
+   * HTTP 메서드와 URL로 엔드포인트 이름을 만든다.
+   *
+   * <p>쿼리 문자열은 제외하고 경로만 사용한다. 예: {@code GET /users}
+   *
+   * @param method HTTP 메서드
+   * @param url    요청 URL ({@code unix:} 대상 포함)
+   * @return 엔드포인트 이름
+   */
+  public static String endpointLabel(HttpMethod method, String url) {
+    String path;
+    if (UnixSocketTarget.matches(url)) {
+      path = UnixSocketTarget.parse(url).requestTarget();
+      int query = path.indexOf('?');
+      path = query >= 0 ? path.substring(0, query) : path;
+    } else {
+      try {
+        path = URI.create(url).getRawPath();
+      } catch (IllegalArgumentException e) {
+        path = url;
+      }
+    }
+    return method + " " + (path == null || path.isEmpty() ? "/" : path);
+  }
+
+  /**
+   * 요청 결과를 기록한다.
+   *
+   * <p>스레드 안전하다. 보관 중인 요청보다 빠른 요청은 잠금 없이 반환된다.
+   *
+   * @param result 기록할 요청 결과
+   */
+  public void record(RequestResult result) {
+    record(result, System.nanoTime(), false);
+  }
+
+  /**
+   * 완료 시각과 생성기 GC 멈춤 여부가 정해진 요청 결과를 기록한다.
+   *
+   * <p>{@link GcPauseListener}로 사용할 수 있다. 스레드 안전하다.
+   *
+   * @param result         기록할 요청 결과
+   * @param endNanos       요청 완료 시각 ({@link System#nanoTime()})
+   * @param generatorPause 요청 진행 중 생성기 GC 멈춤과 겹쳤는지 여부
+   */
+  public void record(RequestResult result, long endNanos, boolean generatorPause) {
+    long latency = result.latencyMicros();
+    if (latency <= threshold) {
+      return;
+    }
+    insert(latency, result, endNanos, generatorPause);
+  }
+
+  private synchronized void insert(
+      long latency, RequestResult result, long endNanos, boolean generatorPause) {
+    if (heap.size() == capacity) {
+      if (latency <= heap.peek().latencyMicros()) {
+        return;
+      }
+      heap.poll();
+    }
+    long elapsedNanos = endNanos - startNanos;
+    int statusCode = result instanceof RequestResult.Success success ? success.statusCode() : 0;
+    ErrorType errorType = result instanceof RequestResult.Failure failure
+        ? failure.errorType()
+        : null;
+    heap.add(new SlowRequest(
+        latency,
+        startTime.plusNanos(elapsedNanos),
+        Duration.ofNanos(elapsedNanos),
+        url,
+        endpoint,
+        statusCode,
+        errorType,
+        generatorPause));
+    if (heap.size() == capacity) {
+      threshold = heap.peek().latencyMicros();
+    }
+  }
+
+  /**
+   * 지금까지 보관된 요청을 지연 시간이 긴 순서로 반환한다.
+   *
+   * <p>실행 중에도 호출할 수 있다.
+   *
+   * @return 느린 요청 목록 (최대 capacity건)
+   */
+  public synchronized List<SlowRequest> snapshot() {
+    List<SlowRequest> slowest = new ArrayList<>(heap);
+    slowest.sort(BY_LATENCY.reversed());
+    return List.copyOf(slowest);
+  }
+}
\ No newline at end of file
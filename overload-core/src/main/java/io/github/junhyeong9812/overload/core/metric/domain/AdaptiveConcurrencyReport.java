@@ -0,0 +1,76 @@
+package io.github.junhyeong9812.overload.core.metric.domain;
+
+import java.util.List;
+
+/**
+ * 적응형 동시성 제어의 탐색 결과를 표현하는 불변(Immutable) 레코드.
+ *
+ * <p>제어기가 시도한 동시성별 처리량-지연 곡선과, 그중 SLO를 만족한
+ * 최대 동시성(운영 지점)을 담는다.
+ *
+ * <p><b>사용 예시:</b>
+ * <pre>{@code
+ * AdaptiveConcurrencyReport report = result.adaptiveConcurrency();
+ * if (report != null && report.hasOperatingPoint()) {
+ *     CurvePoint chosen = report.chosen();
+ *     System.out.printf("c=%d -> %.0f req/s (p99 %dms)%n",
+ *         chosen.concurrency(), chosen.requestsPerSecond(), chosen.p99Ms());
+ * }
+ * }</pre>
+ *
+ * @param p99SloMs     p99 지연 SLO (밀리초)
+ * @param maxErrorRate 허용 오류율
+ * @param curve        동시성 오름차순으로 정렬된 탐색 곡선
+ * @param chosen       SLO를 만족한 최대 동시성 지점 (nullable - 만족한 지점이 없으면 null)
+ * @param finalLimit   실행 종료 시점의 동시성 제한
+ *
+ * @author junhyeong9812
+ * @since 1.1.0
+ */
+public record AdaptiveConcurrencyReport(
+    long p99SloMs,
+    double maxErrorRate,
+    List<CurvePoint> curve,
+    CurvePoint chosen,
+    int finalLimit
+) {
+
+  /**
+   * Compact constructor - 곡선을 불변 리스트로 복사한다.
+   */
+  public AdaptiveConcurrencyReport {
+    curve = List.copyOf(curve);
+  }
+
+  /**
+   * SLO를 만족한 운영 지점이 있는지 확인한다.
+   *
+   * @return 운영 지점이 있으면 {@code true}
+   */
+  public boolean hasOperatingPoint() {
+    return chosen != null;
+  }
+
+  /**
+   * 단일 동시성 수준에서 측정된 곡선 지점.
+   *
+   * <p>같은 동시성에서 여러 구간이 측정되면 처리량과 오류율은 합산하여 계산하고,
+   * p99는 가장 나쁜 구간의 값을 사용한다.
+   *
+   * @param concurrency       동시성
+   * @param requestsPerSecond 초당 요청 수
+   * @param p99Ms             구간 p99 중 최대값 (밀리초)
+   * @param errorRate         오류율 (0.0 ~ 1.0)
+   * @param intervals         측정된 구간 수
+   * @param withinSlo         SLO 및 허용 오류율 만족 여부
+   */
+  public record CurvePoint(
+      int concurrency,
+      double requestsPerSecond,
+      long p99Ms,
+      double errorRate,
+      int intervals,
+      boolean withinSlo
+  ) {
+  }
+}
@@ -0,0 +1,51 @@
+package io.github.junhyeong9812.overload.core.metric.domain;
+
+import io.github.junhyeong9812.overload.core.http.domain.ErrorType;
+
+import java.util.Map;
+
+/**
+ * 대상 주소 하나로 보낸 요청의 통계를 표현하는 불변(Immutable) 레코드.
+ *
+ * <p>여러 주소로 요청을 분산할 때 주소별 처리량, 지연 시간, 오류를 비교해
+ * 특정 백엔드만 느리거나 연결을 거부하는지 확인하는 데 사용한다.
+ *
+ * @param address   대상 IP 문자열
+ * @param requests  이 주소로 보낸 요청 수
+ * @param failures  실패 요청 수 (네트워크 오류 및 non-2xx 포함)
+ * @param errors    네트워크 오류 유형별 건수 (불변, 발생한 유형만 포함)
+ * @param avgMicros 평균 지연 시간 (마이크로초)
+ * @param p50Micros 50번째 백분위수 지연 시간 (마이크로초)
+ * @param p99Micros 99번째 백분위수 지연 시간 (마이크로초)
+ * @param maxMicros 최대 지연 시간 (마이크로초)
+ *
+ * @author junhyeong9812
+ * @since 1.1.0
+ */
+public record AddressReport(
+    String address,
+    long requests,
+    long failures,
+    Map<ErrorType, Long> errors,
+    double avgMicros,
+    long p50Micros,
+    long p99Micros,
+    long maxMicros
+) {
+
+  /**
+   * Compact constructor - 오류 맵을 불변으로 복사한다.
+   */
+  public AddressReport {
+    errors = errors != null ? Map.copyOf(errors) : Map.of();
+  }
+
+  /**
+   * 오류율을 계산한다.
+   *
+   * @return 오류율 (0.0 ~ 1.0), 요청이 없으면 0.0
+   */
+  public double errorRate() {
+    return requests > 0 ? (double) failures / requests : 0;
+  }
+}
\ No newline at end of file
@@ -0,0 +1,335 @@
+package io.github.junhyeong9812.overload.core.metric.domain;
+
+import io.github.junhyeong9812.overload.core.http.domain.ErrorType;
+import io.github.junhyeong9812.overload.core.http.domain.RequestResult;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 요청 결과 원본을 기본형 배열 열(column)로 보관하는 저장소.
+ *
+ * <p>결과를 {@link RequestResult} 객체로 쌓으면 요청마다 레코드(및 실패 메시지 문자열)가
+ * 남아, 천만 건이면 객체 헤더를 제외하고도 건당 40바이트 이상이 필요하다. 이 저장소는
+ * 상태 코드({@code int[]}), 지연 시간({@code long[]}), 에러 유형({@code byte[]}),
+ * 기록 시각({@code long[]})을 고정 크기 청크로 나누어 건당 21바이트로 보관한다.
+ *
+ * <p><b>동시성:</b>
+ * <ul>
+ *   <li>기록은 슬롯 번호 하나를 원자적으로 할당받은 뒤, 자기 슬롯에만 락 없이 쓴다</li>
+ *   <li>청크는 처음 필요할 때 CAS로 한 번만 생성되므로 메모리는 기록된 건수에 비례한다</li>
+ *   <li>에러 유형 열을 release로 마지막에 써서, 실행 중에 읽어도 완성된 결과만 보인다</li>
+ *   <li>용량을 넘는 기록은 버리고 {@link #getDropped()}로 보고한다</li>
+ * </ul>
+ *
+ * <p><b>사용 예시:</b>
+ * <pre>{@code
+ * TestResult result = LoadTester.run(config.toBuilder().retainResults(true).build());
+ * ColumnarResultStore raw = result.rawResults();
+ *
+ * double slowRatio = raw.latencyMicros().filter(us -> us > 10_000).count() / (double) raw.size();
+ * raw.stream()
+ *     .filter(ResultSample::isFailure)
+ *     .forEach(sample -> System.out.println(sample.offsetNanos() + " " + sample.errorType()));
+ * }</pre>
+ *
+ * @author junhyeong9812
+ * @since 1.1.0
+ * @see ResultSample
+ */
+public class ColumnarResultStore implements Iterable<ResultSample> {
+
+  /** 청크당 슬롯 수 (2<sup>14</sup>) */
+  static final int CHUNK_SIZE = 1 << 14;
+
+  /** 건당 보관 비용 (바이트) - status 4 + latency 8 + kind 1 + offset 8 */
+  public static final int BYTES_PER_SAMPLE = Integer.BYTES + Long.BYTES + Byte.BYTES + Long.BYTES;
+
+  private static final int CHUNK_SHIFT = Integer.numberOfTrailingZeros(CHUNK_SIZE);
+  private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+  /** kind 열 값 - 0은 아직 기록되지 않은 슬롯, 1은 응답, 2 이상은 에러 유형 (ordinal + 2) */
+  private static final byte KIND_EMPTY = 0;
+  private static final byte KIND_RESPONSE = 1;
+  private static final byte KIND_ERROR_BASE = 2;
+
+  private static final ErrorType[] ERROR_TYPES = ErrorType.values();
+  private static final VarHandle KIND = MethodHandles.arrayElementVarHandle(byte[].class);
+
+  private final long capacity;
+  private final long startNanos;
+  private final AtomicReferenceArray<Chunk> chunks;
+  private final AtomicLong nextSlot = new AtomicLong();
+  private final LongAdder dropped = new LongAdder();
+
+  /**
+   * 지정된 최대 건수를 보관하는 저장소를 생성한다.
+   *
+   * <p>청크는 기록되는 만큼만 할당되므로 용량을 크게 잡아도 미리 메모리를 쓰지 않는다.
+   *
+   * @param capacity 최대 보관 건수
+   * @throws IllegalArgumentException capacity가 1 미만인 경우
+   */
+  public ColumnarResultStore(long capacity) {
+    if (capacity < 1) {
+      throw new IllegalArgumentException("Capacity must be >= 1");
+    }
+    long chunkCount = (capacity + CHUNK_SIZE - 1) >>> CHUNK_SHIFT;
+    if (chunkCount > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("Capacity too large: " + capacity);
+    }
+    this.capacity = capacity;
+    this.startNanos = System.nanoTime();
+    this.chunks = new AtomicReferenceArray<>((int) chunkCount);
+  }
+
+  /**
+   * 요청 결과를 기록한다. 실패 메시지는 보관하지 않는다.
+   *
+   * @param result 기록할 요청 결과
+   */
+  public void append(RequestResult result) {
+    if (result instanceof RequestResult.Success success) {
+      append(success.statusCode(), success.latencyMicros(), null);
+    } else if (result instanceof RequestResult.Failure failure) {
+      append(0, failure.latencyMicros(), failure.errorType());
+    }
+  }
+
+  /**
+   * 요청 결과를 기본형 값으로 기록한다. 기록 시각은 호출 시점이다.
+   *
+   * @param statusCode    HTTP 상태 코드
+   * @param latencyMicros 지연 시간 (마이크로초)
+   * @param errorType     에러 유형 (응답을 받았으면 null)
+   */
+  public void append(int statusCode, long latencyMicros, ErrorType errorType) {
+    long slot = nextSlot.getAndIncrement();
+    if (slot >= capacity) {
+      dropped.increment();
+      return;
+    }
+    Chunk chunk = chunkFor((int) (slot >>> CHUNK_SHIFT));
+    int i = (int) (slot & CHUNK_MASK);
+    chunk.status[i] = statusCode;
+    chunk.latency[i] = latencyMicros;
+    chunk.offset[i] = System.nanoTime() - startNanos;
+    byte kind = errorType == null ? KIND_RESPONSE : (byte) (KIND_ERROR_BASE + errorType.ordinal());
+    KIND.setRelease(chunk.kind, i, kind);
+  }
+
+  /**
+   * 할당된 슬롯 수를 반환한다.
+   *
+   * <p>실행이 끝난 뒤에는 기록된 건수와 같다. 실행 중에는 아직 쓰는 중인 슬롯이 포함될 수 있으며,
+   * 그런 슬롯은 순회에서 건너뛴다.
+   *
+   * @return 보관된 결과 수
+   */
+  public long size() {
+    return Math.min(nextSlot.get(), capacity);
+  }
+
+  /**
+   * 최대 보관 건수를 반환한다.
+   *
+   * @return 용량
+   */
+  public long capacity() {
+    return capacity;
+  }
+
+  /**
+   * 용량을 넘어 버려진 결과 수를 반환한다.
+   *
+   * @return 버려진 결과 수
+   */
+  public long getDropped() {
+    return dropped.sum();
+  }
+
+  /**
+   * 현재 열 배열이 차지하는 메모리를 추정한다 (배열 헤더 제외).
+   *
+   * @return 할당된 청크의 바이트 수
+   */
+  public long estimatedBytes() {
+    long slots = 0;
+    for (int c = 0; c < chunks.length(); c++) {
+      Chunk chunk = chunks.get(c);
+      if (chunk != null) {
+        slots += chunk.kind.length;
+      }
+    }
+    return slots * BYTES_PER_SAMPLE;
+  }
+
+  /**
+   * 지정된 순번의 결과를 읽는다.
+   *
+   * @param index 저장 순번
+   * @return 결과, 아직 기록되지 않은 슬롯이면 null
+   * @throws IndexOutOfBoundsException index가 범위를 벗어난 경우
+   */
+  public ResultSample get(long index) {
+    if (index < 0 || index >= size()) {
+      throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size());
+    }
+    Chunk chunk = chunks.get((int) (index >>> CHUNK_SHIFT));
+    if (chunk == null) {
+      return null;
+    }
+    int i = (int) (index & CHUNK_MASK);
+    byte kind = (byte) KIND.getAcquire(chunk.kind, i);
+    if (kind == KIND_EMPTY) {
+      return null;
+    }
+    ErrorType errorType = kind == KIND_RESPONSE ? null : ERROR_TYPES[kind - KIND_ERROR_BASE];
+    return new ResultSample(index, chunk.status[i], chunk.latency[i], errorType, chunk.offset[i]);
+  }
+
+  /**
+   * 객체를 만들지 않고 기록된 결과를 순서대로 방문한다.
+   *
+   * @param visitor 결과를 받을 방문자
+   */
+  public void forEachSample(SampleVisitor visitor) {
+    long size = size();
+    for (long index = 0; index < size; index++) {
+      Chunk chunk = chunks.get((int) (index >>> CHUNK_SHIFT));
+      if (chunk == null) {
+        index |= CHUNK_MASK;
+        continue;
+      }
+      int i = (int) (index & CHUNK_MASK);
+      byte kind = (byte) KIND.getAcquire(chunk.kind, i);
+      if (kind != KIND_EMPTY) {
+        ErrorType errorType = kind == KIND_RESPONSE ? null : ERROR_TYPES[kind - KIND_ERROR_BASE];
+        visitor.visit(chunk.status[i], chunk.latency[i], errorType, chunk.offset[i]);
+      }
+    }
+  }
+
+  /**
+   * 기록된 결과를 순서대로 순회한다. 아직 기록 중인 슬롯은 건너뛴다.
+   *
+   * @return 결과 반복자
+   */
+  @Override
+  public Iterator<ResultSample> iterator() {
+    long size = size();
+    return new Iterator<>() {
+      private long cursor = 0;
+      private ResultSample next = advance();
+
+      private ResultSample advance() {
+        while (cursor < size) {
+          ResultSample sample = get(cursor++);
+          if (sample != null) {
+            return sample;
+          }
+        }
+        return null;
+      }
+
+      @Override
+      public boolean hasNext() {
+        return next != null;
+      }
+
+      @Override
+      public ResultSample next() {
+        if (next == null) {
+          throw new NoSuchElementException();
+        }
+        ResultSample current = next;
+        next = advance();
+        return current;
+      }
+    };
+  }
+
+  /**
+   * 기록된 결과의 스트림을 반환한다.
+   *
+   * @return 결과 스트림
+   */
+  public Stream<ResultSample> stream() {
+    return StreamSupport.stream(
+        Spliterators.spliterator(iterator(), size(), Spliterator.ORDERED | Spliterator.NONNULL),
+        false);
+  }
+
+  /**
+   * 기록된 결과의 지연 시간 스트림을 반환한다.
+   *
+   * @return 지연 시간 스트림 (마이크로초)
+   */
+  public LongStream latencyMicros() {
+    return stream().mapToLong(ResultSample::latencyMicros);
+  }
+
+  /**
+   * 기록된 결과의 상태 코드 스트림을 반환한다.
+   *
+   * @return 상태 코드 스트림 (네트워크 오류는 0)
+   */
+  public IntStream statusCodes() {
+    return stream().mapToInt(ResultSample::statusCode);
+  }
+
+  private Chunk chunkFor(int index) {
+    Chunk chunk = chunks.get(index);
+    if (chunk == null) {
+      // 마지막 청크는 남은 용량만큼만 할당
+      Chunk created = new Chunk((int) Math.min(CHUNK_SIZE, capacity - ((long) index << CHUNK_SHIFT)));
+      chunk = chunks.compareAndSet(index, null, created) ? created : chunks.get(index);
+    }
+    return chunk;
+  }
+
+  /**
+   * 객체 할당 없이 결과를 받는 방문자.
+   *
+   * @since 1.1.0
+   */
+  @FunctionalInterface
+  public interface SampleVisitor {
+
+    /**
+     * 결과 하나를 방문한다.
+     *
+     * @param statusCode    HTTP 상태 코드 (네트워크 오류는 0)
+     * @param latencyMicros 지연 시간 (마이크로초)
+     * @param errorType     에러 유형 (응답을 받았으면 null)
+     * @param offsetNanos   저장소 생성 시점부터의 기록 시각 (나노초)
+     */
+    void visit(int statusCode, long latencyMicros, ErrorType errorType, long offsetNanos);
+  }
+
+  private static final class Chunk {
+
+    private final int[] status;
+    private final long[] latency;
+    private final byte[] kind;
+    private final long[] offset;
+
+    private Chunk(int size) {
+      this.status = new int[size];
+      this.latency = new long[size];
+      this.kind = new byte[size];
+      this.offset = new long[size];
+    }
+  }
+}
\ No newline at end of file
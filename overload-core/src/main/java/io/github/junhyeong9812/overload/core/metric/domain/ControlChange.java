@@ -0,0 +1,49 @@
+package io.github.junhyeong9812.overload.core.metric.domain;
+
+import io.github.junhyeong9812.overload.core.config.LoadControl;
+
+import java.time.Duration;
+
+/**
+ * 실행 중 적용된 제어 변경 한 건을 표현하는 불변(Immutable) 레코드.
+ *
+ * <p>{@code elapsed}는 {@link IntervalStats#elapsed()}와 같은 기준(실행 시작)이므로
+ * 구간 통계 시계열에 변경 시점을 겹쳐 볼 수 있다. 나머지 값은 변경이 적용된 직후의 상태다.
+ *
+ * <p><b>사용 예시:</b>
+ * <pre>{@code
+ * for (ControlChange change : result.controlChanges()) {
+ *     System.out.printf("[%ds] c=%d rate=%.0f total=%d%n",
+ *         change.elapsed().toSeconds(), change.concurrency(),
+ *         change.requestsPerSecond(), change.totalRequests());
+ * }
+ * }</pre>
+ *
+ * @param elapsed           실행 시작부터 변경 시점까지의 경과 시간
+ * @param completedRequests 변경 시점까지 완료된 요청 수
+ * @param control           요청된 변경
+ * @param concurrency       변경 후 동시 요청 제한
+ * @param requestsPerSecond 변경 후 목표 초당 요청 수 (0이면 속도 제한 없음)
+ * @param totalRequests     변경 후 총 요청 수
+ *
+ * @author junhyeong9812
+ * @since 1.1.0
+ */
+public record ControlChange(
+    Duration elapsed,
+    int completedRequests,
+    LoadControl control,
+    int concurrency,
+    double requestsPerSecond,
+    int totalRequests
+) {
+
+  /**
+   * 속도 제한이 걸려 있는지 확인한다.
+   *
+   * @return 목표 초당 요청 수가 있으면 {@code true}
+   */
+  public boolean isRateLimited() {
+    return requestsPerSecond > 0;
+  }
+}
\ No newline at end of file
@@ -0,0 +1,75 @@
+package io.github.junhyeong9812.overload.core.metric.domain;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 부하 생성기 JVM의 GC 멈춤이 측정 지연에 끼친 영향을 표현하는 불변(Immutable) 레코드.
+ *
+ * <p>생성기 JVM이 멈춘 동안 진행 중이던 요청은 응답이 이미 도착했더라도 멈춤이 끝나야 완료로 기록되므로,
+ * 그 지연에는 서버가 아니라 생성기의 멈춤이 섞여 있다. 이 레코드는 진행 구간이 멈춤과 겹친 요청
+ * ({@code affectedRequests})을 세고, 전체 p99보다 느린 꼬리 중 몇 건이 그런 요청인지
+ * ({@link #tailShare()})를 알려 준다. 꼬리의 대부분이 멈춤과 겹쳤다면 그 꼬리는 서버의 것이 아니다.
+ *
+ * <p>{@code cleanLatencyStats}는 멈춤과 겹친 요청을 뺀 나머지의 지연 통계다.
+ * {@link TestResult#latencyStatsExcludingGcPauses()}로도 얻을 수 있다.
+ *
+ * <p><b>사용 예시:</b>
+ * <pre>{@code
+ * GcPauseReport gc = result.gcPauses();
+ * System.out.printf("%d pauses, %.1f%% of p99 tail overlapped a pause%n",
+ *     gc.pauses(), gc.tailShare() * 100);
+ * }</pre>
+ *
+ * @param collectors           추적한 멈춤형 GC 이름 (예: {@code G1 Young Generation})
+ * @param pauses               추적 중 발생한 GC 멈춤 수
+ * @param totalPause           멈춤 시간 합계
+ * @param maxPause             가장 긴 멈춤
+ * @param measuredRequests     분류한 측정 요청 수
+ * @param affectedRequests     진행 구간이 멈춤과 겹친 요청 수
+ * @param tailThresholdMicros  꼬리 기준값 - 전체 요청의 p99 (마이크로초)
+ * @param tailRequests         꼬리 기준값보다 느린 요청 수
+ * @param affectedTailRequests 꼬리 요청 중 멈춤과 겹친 요청 수
+ * @param cleanLatencyStats    멈춤과 겹친 요청을 뺀 지연 시간 통계
+ *
+ * @author junhyeong9812
+ * @since 1.1.0
+ */
+public record GcPauseReport(
+    List<String> collectors,
+    int pauses,
+    Duration totalPause,
+    Duration maxPause,
+    long measuredRequests,
+    long affectedRequests,
+    long tailThresholdMicros,
+    long tailRequests,
+    long affectedTailRequests,
+    TestResult.LatencyStats cleanLatencyStats
+) {
+
+  /**
+   * Compact constructor - 방어적 복사 수행.
+   */
+  public GcPauseReport {
+    collectors = List.copyOf(collectors);
+  }
+
+  /**
+   * 멈춤과 겹친 요청의 비율을 반환한다.
+   *
+   * @return 비율 (0.0 ~ 1.0), 요청이 없으면 0.0
+   */
+  public double affectedRatio() {
+    return measuredRequests > 0 ? (double) affectedRequests / measuredRequests : 0;
+  }
+
+  /**
+   * p99 꼬리 중 멈춤과 겹친 요청의 비율을 반환한다.
+   *
+   * @return 비율 (0.0 ~ 1.0), 꼬리 요청이 없으면 0.0
+   */
+  public double tailShare() {
+    return tailRequests > 0 ? (double) affectedTailRequests / tailRequests : 0;
+  }
+}
\ No newline at end of file
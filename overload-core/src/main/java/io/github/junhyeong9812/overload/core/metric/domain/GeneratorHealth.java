@@ -0,0 +1,120 @@
+package io.github.junhyeong9812.overload.core.metric.domain;
+
+/**
+ * 부하 생성기 자체의 오버헤드를 표현하는 불변(Immutable) 레코드.
+ *
+ * <p>측정된 지연 시간이 나쁠 때 원인이 대상 서버인지 생성기인지 판단하기 위해
+ * 엔진 내부 지연을 함께 보고한다. 모든 시간 값은 마이크로초 단위다.
+ *
+ * <p><b>포함 정보:</b>
+ * <ul>
+ *   <li>스케줄링 지연 - 작업 제출부터 Virtual Thread가 실행되기까지</li>
+ *   <li>허가 대기 - {@code semaphore.acquire()}에서 대기한 시간 (closed model의 대기열 시간)</li>
+ *   <li>콜백 시간 - {@code ProgressCallback} 실행 시간</li>
+ *   <li>Virtual Thread pinning - JFR {@code jdk.VirtualThreadPinned} 이벤트 수와 총 시간</li>
+ *   <li>버려진 진행 이벤트 - 비동기 진행 전달 버퍼가 가득 차서 콜백에 전달되지 않은 수</li>
+ * </ul>
+ *
+ * <p>생성기 오버헤드 비율은 (평균 스케줄링 지연 + 평균 콜백 시간) / 평균 측정 지연으로 계산하며,
+ * 허가 대기는 설정된 동시성에 의한 의도된 대기이므로 포함하지 않는다.
+ *
+ * <p><b>사용 예시:</b>
+ * <pre>{@code
+ * GeneratorHealth health = result.generatorHealth();
+ * if (health.isOverloaded()) {
+ *     System.err.printf("Generator overhead %.1f%% of latency%n", health.overheadRatio() * 100);
+ * }
+ * }</pre>
+ *
+ * @param schedulingLag   스케줄링 지연 통계
+ * @param permitWait      허가 대기 시간 통계
+ * @param callbackTime    콜백 실행 시간 통계
+ * @param pinnedEvents    Virtual Thread pinning 이벤트 수
+ * @param pinnedMicros    pinning 총 시간 (마이크로초)
+ * @param pinningTracked  pinning 추적 여부 (JFR 사용 가능 및 활성화 시 true)
+ * @param overheadRatio   측정 지연 대비 생성기 오버헤드 비율
+ * @param warnRatio       경고 기준 비율
+ * @param progressDropped 비동기 진행 전달에서 버려진 이벤트 수
+ *
+ * @author junhyeong9812
+ * @since 1.1.0
+ */
+public record GeneratorHealth(
+    OverheadStats schedulingLag,
+    OverheadStats permitWait,
+    OverheadStats callbackTime,
+    long pinnedEvents,
+    long pinnedMicros,
+    boolean pinningTracked,
+    double overheadRatio,
+    double warnRatio,
+    long progressDropped
+) {
+
+  /**
+   * 생성기 오버헤드가 경고 기준을 넘었는지 확인한다.
+   *
+   * @return 오버헤드 비율이 경고 기준을 초과하면 {@code true}
+   */
+  public boolean isOverloaded() {
+    return overheadRatio > warnRatio;
+  }
+
+  /**
+   * 빈 GeneratorHealth를 생성한다.
+   *
+   * @return 모든 값이 0인 GeneratorHealth
+   */
+  public static GeneratorHealth empty() {
+    return new GeneratorHealth(
+        OverheadStats.empty(), OverheadStats.empty(), OverheadStats.empty(),
+        0, 0, false, 0, 0.1, 0
+    );
+  }
+
+  /**
+   * 단일 오버헤드 항목의 분포를 표현하는 불변(Immutable) 레코드.
+   *
+   * @param count     샘플 수
+   * @param avgMicros 평균 (마이크로초)
+   * @param p50Micros 50번째 백분위수 (마이크로초)
+   * @param p99Micros 99번째 백분위수 (마이크로초)
+   * @param maxMicros 최대값 (마이크로초)
+   */
+  public record OverheadStats(
+      long count,
+      double avgMicros,
+      long p50Micros,
+      long p99Micros,
+      long maxMicros
+  ) {
+
+    /**
+     * 빈 OverheadStats를 생성한다.
+     *
+     * @return 모든 값이 0인 OverheadStats
+     */
+    public static OverheadStats empty() {
+      return new OverheadStats(0, 0, 0, 0, 0);
+    }
+
+    /**
+     * 히스토그램으로부터 OverheadStats를 생성한다.
+     *
+     * @param histogram 마이크로초 단위로 기록된 히스토그램
+     * @return 히스토그램 분포 통계
+     */
+    public static OverheadStats from(LogLinearHistogram histogram) {
+      if (histogram.getCount() == 0) {
+        return empty();
+      }
+      return new OverheadStats(
+          histogram.getCount(),
+          histogram.getMean(),
+          histogram.getPercentile(50),
+          histogram.getPercentile(99),
+          histogram.getMax()
+      );
+    }
+  }
+}
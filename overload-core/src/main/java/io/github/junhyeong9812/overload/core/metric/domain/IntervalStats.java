@@ -0,0 +1,101 @@
+package io.github.junhyeong9812.overload.core.metric.domain;
+
+import java.time.Duration;
+
+/**
+ * 일정 구간(window) 동안의 요청 통계를 표현하는 불변(Immutable) 레코드.
+ *
+ * <p>{@code TestResult}가 전체 실행의 누적 통계라면, IntervalStats는
+ * 실행 중 주기적으로 잘라낸 구간별 통계다. JFR 이벤트, 실시간 제어,
+ * 시계열 보고 등에 사용된다.
+ *
+ * <p>밀리초 값은 마이크로초 값을 버림한 것이며, 1ms 미만 지연은 {@code *Micros} 값으로 구분한다.
+ *
+ * <p><b>사용 예시:</b>
+ * <pre>{@code
+ * IntervalStats stats = windowedMetrics.snapshot();
+ * System.out.printf("[%ds] %.0f req/s, p99 %dms, errors %.1f%%%n",
+ *     stats.elapsed().toSeconds(), stats.requestsPerSecond(),
+ *     stats.p99Ms(), stats.errorRate() * 100);
+ * }</pre>
+ *
+ * @param elapsed   실행 시작부터 구간 종료까지의 경과 시간
+ * @param duration  구간 길이
+ * @param requests  구간 내 완료된 요청 수
+ * @param failures  구간 내 실패 요청 수 (네트워크 오류 및 non-2xx 포함)
+ * @param refused   구간 내 연결 거부 수 ({@code CONNECTION_REFUSED})
+ * @param p50Ms     50번째 백분위수 지연 시간 (밀리초)
+ * @param p99Ms     99번째 백분위수 지연 시간 (밀리초)
+ * @param maxMs     최대 지연 시간 (밀리초)
+ * @param avgMs     평균 지연 시간 (밀리초)
+ * @param p50Micros 50번째 백분위수 지연 시간 (마이크로초)
+ * @param p99Micros 99번째 백분위수 지연 시간 (마이크로초)
+ * @param maxMicros 최대 지연 시간 (마이크로초)
+ * @param avgMicros 평균 지연 시간 (마이크로초)
+ *
+ * @author junhyeong9812
+ * @since 1.1.0
+ */
+public record IntervalStats(
+    Duration elapsed,
+    Duration duration,
+    long requests,
+    long failures,
+    long refused,
+    long p50Ms,
+    long p99Ms,
+    long maxMs,
+    double avgMs,
+    long p50Micros,
+    long p99Micros,
+    long maxMicros,
+    double avgMicros
+) {
+
+  /**
+   * 밀리초 지연 통계로 IntervalStats를 생성한다. 마이크로초 값은 밀리초에서 환산된다.
+   *
+   * @param elapsed  실행 시작부터 구간 종료까지의 경과 시간
+   * @param duration 구간 길이
+   * @param requests 구간 내 완료된 요청 수
+   * @param failures 구간 내 실패 요청 수
+   * @param refused  구간 내 연결 거부 수
+   * @param p50Ms    50번째 백분위수 지연 시간 (밀리초)
+   * @param p99Ms    99번째 백분위수 지연 시간 (밀리초)
+   * @param maxMs    최대 지연 시간 (밀리초)
+   * @param avgMs    평균 지연 시간 (밀리초)
+   */
+  public IntervalStats(
+      Duration elapsed,
+      Duration duration,
+      long requests,
+      long failures,
+      long refused,
+      long p50Ms,
+      long p99Ms,
+      long maxMs,
+      double avgMs
+  ) {
+    this(elapsed, duration, requests, failures, refused, p50Ms, p99Ms, maxMs, avgMs,
+        p50Ms * 1_000, p99Ms * 1_000, maxMs * 1_000, avgMs * 1_000);
+  }
+
+  /**
+   * 구간 처리량을 계산한다.
+   *
+   * @return 초당 요청 수, 구간 길이가 0이면 0.0
+   */
+  public double requestsPerSecond() {
+    long nanos = duration.toNanos();
+    return nanos > 0 ? requests * 1_000_000_000.0 / nanos : 0;
+  }
+
+  /**
+   * 구간 오류율을 계산한다.
+   *
+   * @return 오류율 (0.0 ~ 1.0), 요청이 없으면 0.0
+   */
+  public double errorRate() {
+    return requests > 0 ? (double) failures / requests : 0;
+  }
+}
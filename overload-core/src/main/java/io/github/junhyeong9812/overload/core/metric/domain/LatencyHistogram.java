@@ -16,6 +16,9 @@ import java.util.concurrent.atomic.LongAdder;
  *   <li>1000ms 이상: 오버플로우 버킷</li>
  * </ul>
  *
+ * <p>버킷 수를 지정하는 생성자를 사용하면 단위와 무관하게
+ * [0, bucketCount) 범위를 1 단위로 기록한다 (예: 마이크로초 단위 오버헤드 측정).
+ *
  * <p><b>사용 예시:</b>
  * <pre>{@code
  * LatencyHistogram histogram = new LatencyHistogram();
@@ -31,9 +34,9 @@ import java.util.concurrent.atomic.LongAdder;
  */
 public class LatencyHistogram {
 
-  private static final int BUCKET_COUNT = 1000;
-  private static final int MAX_TRACKABLE_MS = 1000;
+  private static final int DEFAULT_BUCKET_COUNT = 1000;
 
+  private final int bucketCount;
   private final LongAdder[] buckets;
   private final LongAdder overflowBucket;
   private final LongAdder totalCount;
@@ -45,8 +48,23 @@ public class LatencyHistogram {
    * 새로운 LatencyHistogram을 생성한다.
    */
   public LatencyHistogram() {
-    this.buckets = new LongAdder[BUCKET_COUNT];
-    for (int i = 0; i < BUCKET_COUNT; i++) {
+    this(DEFAULT_BUCKET_COUNT);
+  }
+
+  /**
+   * 지정된 버킷 수로 LatencyHistogram을 생성한다.
+   *
+   * @param bucketCount 1 단위 버킷 수 - 이 값 이상은 오버플로우 버킷에 기록된다
+   * @throws IllegalArgumentException bucketCount가 1 미만인 경우
+   * @since 1.1.0
+   */
+  public LatencyHistogram(int bucketCount) {
+    if (bucketCount < 1) {
+      throw new IllegalArgumentException("Bucket count must be >= 1");
+    }
+    this.bucketCount = bucketCount;
+    this.buckets = new LongAdder[bucketCount];
+    for (int i = 0; i < bucketCount; i++) {
       buckets[i] = new LongAdder();
     }
     this.overflowBucket = new LongAdder();
@@ -75,7 +93,7 @@ public class LatencyHistogram {
     updateMin(latencyMs);
     updateMax(latencyMs);
 
-    if (latencyMs >= MAX_TRACKABLE_MS) {
+    if (latencyMs >= bucketCount) {
       overflowBucket.increment();
     } else {
       buckets[(int) latencyMs].increment();
@@ -97,14 +115,14 @@ public class LatencyHistogram {
     long targetCount = (long) Math.ceil(count * percentile / 100.0);
     long cumulative = 0;
 
-    for (int i = 0; i < BUCKET_COUNT; i++) {
+    for (int i = 0; i < bucketCount; i++) {
       cumulative += buckets[i].sum();
       if (cumulative >= targetCount) {
         return i;
       }
     }
 
-    return MAX_TRACKABLE_MS;
+    return bucketCount;
   }
 
   /**
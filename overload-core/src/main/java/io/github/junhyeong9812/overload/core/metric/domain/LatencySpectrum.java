@@ -0,0 +1,291 @@
+package io.github.junhyeong9812.overload.core.metric.domain;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 지연 시간 분포 전체를 담는 불변(Immutable) 스냅샷.
+ *
+ * <p>{@link LogLinearHistogram}의 비어 있지 않은 버킷(상한값, 개수)을 복사해 두므로 고정된
+ * {@link Percentiles} 외에 p99.9, p99.99 같은 임의의 백분위수를 실행 후에 계산할 수 있다.
+ * 버킷은 최대 수천 개라 결과에 항상 포함해도 부담이 작다.
+ *
+ * <p>전체 백분위수 스펙트럼({@link #distribution()})은 HdrHistogram의 {@code outputPercentileDistribution}과 같은 형식의
+ * {@code .hgrm} 텍스트와 CSV로 내보낼 수 있어 HdrHistogram 플로터나 스프레드시트로 여러 실행의
+ * 분포를 바로 겹쳐 비교할 수 있다. 내보내는 값은 밀리초 단위다.
+ *
+ * <p><b>사용 예시:</b>
+ * <pre>{@code
+ * LatencySpectrum spectrum = result.latencyStats().spectrum();
+ * long p999 = spectrum.valueAtPercentile(99.9);   // 마이크로초
+ * Files.writeString(Path.of("run.hgrm"), spectrum.toHgrm());
+ * }</pre>
+ *
+ * @author junhyeong9812
+ * @since 1.1.0
+ * @see LogLinearHistogram#snapshot()
+ */
+public final class LatencySpectrum {
+
+  /** 백분위수 절반 거리마다 출력하는 눈금 수 (HdrHistogram 기본값) */
+  public static final int DEFAULT_TICKS_PER_HALF_DISTANCE = 5;
+
+  private static final double MICROS_PER_MILLI = 1_000.0;
+
+  private static final LatencySpectrum EMPTY =
+      new LatencySpectrum(new long[0], new long[0], 0, 0, 0.0);
+
+  private final long[] values;
+  private final long[] counts;
+  private final long totalCount;
+  private final long maxMicros;
+  private final double meanMicros;
+
+  /**
+   * 버킷 상한값과 개수로 LatencySpectrum을 생성한다.
+   *
+   * @param values     버킷 상한값 (마이크로초, 오름차순)
+   * @param counts     버킷별 개수
+   * @param totalCount 총 샘플 수
+   * @param maxMicros  최대값 (마이크로초)
+   * @param meanMicros 평균값 (마이크로초)
+   */
+  LatencySpectrum(
+      long[] values, long[] counts, long totalCount, long maxMicros, double meanMicros) {
+    this.values = values;
+    this.counts = counts;
+    this.totalCount = totalCount;
+    this.maxMicros = maxMicros;
+    this.meanMicros = meanMicros;
+  }
+
+  /**
+   * 샘플이 없는 LatencySpectrum을 반환한다.
+   *
+   * @return 빈 스펙트럼
+   */
+  public static LatencySpectrum empty() {
+    return EMPTY;
+  }
+
+  /**
+   * 샘플이 없는지 확인한다.
+   *
+   * @return 샘플이 없으면 {@code true}
+   */
+  public boolean isEmpty() {
+    return totalCount == 0;
+  }
+
+  /**
+   * 총 샘플 수를 반환한다.
+   *
+   * @return 총 샘플 수
+   */
+  public long totalCount() {
+    return totalCount;
+  }
+
+  /**
+   * 최대값을 반환한다.
+   *
+   * @return 최대 지연 시간 (마이크로초)
+   */
+  public long maxMicros() {
+    return maxMicros;
+  }
+
+  /**
+   * 지정된 백분위수의 값을 반환한다.
+   *
+   * <p>{@link LogLinearHistogram#getPercentile(double)}과 같은 값이다.
+   *
+   * @param percentile 백분위수 (0-100)
+   * @return 해당 백분위수가 속한 버킷의 상한값 (마이크로초, 관측된 최대값 이하), 샘플이 없으면 0
+   */
+  public long valueAtPercentile(double percentile) {
+    if (totalCount == 0) {
+      return 0;
+    }
+    int index = indexAt(percentile);
+    return Math.min(values[index], maxMicros);
+  }
+
+  /**
+   * 지정된 값보다 느린 샘플 수를 반환한다.
+   *
+   * <p>버킷 단위로 계산하므로 상한값이 {@code micros}보다 큰 버킷의 개수를 모두 더한다.
+   * {@link #valueAtPercentile(double)}가 돌려준 값을 넘기면 그 백분위수 버킷보다 느린 꼬리의 크기가 된다.
+   *
+   * @param micros 기준값 (마이크로초)
+   * @return 기준값을 넘는 버킷의 샘플 수
+   */
+  public long countAbove(long micros) {
+    long count = 0;
+    for (int i = values.length - 1; i >= 0 && Math.min(values[i], maxMicros) > micros; i--) {
+      count += counts[i];
+    }
+    return count;
+  }
+
+  /**
+   * HdrHistogram 기본 눈금으로 전체 백분위수 스펙트럼을 반환한다.
+   *
+   * @return 백분위수 오름차순의 스펙트럼 점 목록 (마지막 점은 100%)
+   */
+  public List<Point> distribution() {
+    return distribution(DEFAULT_TICKS_PER_HALF_DISTANCE);
+  }
+
+  /**
+   * HdrHistogram의 백분위수 반복과 같은 눈금으로 전체 백분위수 스펙트럼을 반환한다.
+   *
+   * <p>100%까지 남은 거리가 절반이 될 때마다 눈금 간격도 절반으로 줄어들어 꼬리로 갈수록 촘촘해진다.
+   * 마지막 버킷에 도달하면 100% 점을 추가하고 끝낸다.
+   *
+   * @param ticksPerHalfDistance 100%까지 남은 거리가 절반이 될 때마다 만들 점 수
+   * @return 백분위수 오름차순의 스펙트럼 점 목록, 샘플이 없으면 빈 목록
+   * @throws IllegalArgumentException ticksPerHalfDistance가 1 미만인 경우
+   */
+  public List<Point> distribution(int ticksPerHalfDistance) {
+    if (ticksPerHalfDistance < 1) {
+      throw new IllegalArgumentException("Ticks per half distance must be >= 1");
+    }
+    List<Point> points = new ArrayList<>();
+    if (totalCount == 0) {
+      return points;
+    }
+    double percentile = 0.0;
+    while (true) {
+      int index = indexAt(percentile);
+      if (index == values.length - 1) {
+        points.add(new Point(maxMicros, 100.0, totalCount));
+        return points;
+      }
+      points.add(new Point(Math.min(values[index], maxMicros), percentile, cumulativeAt(index)));
+      long halfDistance = (long) Math.pow(2,
+          (long) (Math.log(100.0 / (100.0 - percentile)) / Math.log(2)) + 1);
+      percentile += 100.0 / (ticksPerHalfDistance * halfDistance);
+    }
+  }
+
+  /**
+   * 전체 백분위수 스펙트럼을 HdrHistogram {@code .hgrm} 형식으로 반환한다.
+   *
+   * @return {@code .hgrm} 텍스트 (밀리초)
+   */
+  public String toHgrm() {
+    StringBuilder out = new StringBuilder();
+    out.append(String.format(Locale.ROOT, "%12s %14s %10s %14s%n%n",
+        "Value", "Percentile", "TotalCount", "1/(1-Percentile)"));
+    for (Point point : distribution()) {
+      if (point.percentile() < 100.0) {
+        out.append(String.format(Locale.ROOT, "%12.3f %2.12f %10d %14.2f%n",
+            point.valueMillis(), point.fraction(), point.totalCount(), point.inverted()));
+      } else {
+        out.append(String.format(Locale.ROOT, "%12.3f %2.12f %10d%n",
+            point.valueMillis(), point.fraction(), point.totalCount()));
+      }
+    }
+    out.append(String.format(Locale.ROOT, "#[Mean    = %12.3f, StdDeviation   = %12.3f]%n",
+        meanMicros / MICROS_PER_MILLI, stdDeviationMicros() / MICROS_PER_MILLI));
+    out.append(String.format(Locale.ROOT, "#[Max     = %12.3f, Total count    = %12d]%n",
+        maxMicros / MICROS_PER_MILLI, totalCount));
+    return out.toString();
+  }
+
+  /**
+   * 전체 백분위수 스펙트럼을 CSV로 반환한다.
+   *
+   * <p>열은 HdrHistogram CSV 출력과 같으며, 마지막 행의 {@code 1/(1-Percentile)}은 {@code Infinity}다.
+   *
+   * @return CSV 텍스트 (밀리초)
+   */
+  public String toCsv() {
+    StringBuilder out = new StringBuilder("\"Value\",\"Percentile\",\"TotalCount\",\"1/(1-Percentile)\"\n");
+    for (Point point : distribution()) {
+      out.append(String.format(Locale.ROOT, "%.3f,%.12f,%d,%s%n",
+          point.valueMillis(), point.fraction(), point.totalCount(),
+          point.percentile() < 100.0
+              ? String.format(Locale.ROOT, "%.2f", point.inverted())
+              : "Infinity"));
+    }
+    return out.toString();
+  }
+
+  private int indexAt(double percentile) {
+    long target = Math.max(1, (long) Math.ceil(totalCount * percentile / 100.0));
+    long cumulative = 0;
+    for (int i = 0; i < counts.length; i++) {
+      cumulative += counts[i];
+      if (cumulative >= target) {
+        return i;
+      }
+    }
+    return counts.length - 1;
+  }
+
+  private long cumulativeAt(int index) {
+    long cumulative = 0;
+    for (int i = 0; i <= index; i++) {
+      cumulative += counts[i];
+    }
+    return cumulative;
+  }
+
+  private double stdDeviationMicros() {
+    if (totalCount == 0) {
+      return 0.0;
+    }
+    double sum = 0.0;
+    for (int i = 0; i < values.length; i++) {
+      double deviation = Math.min(values[i], maxMicros) - meanMicros;
+      sum += deviation * deviation * counts[i];
+    }
+    return Math.sqrt(sum / totalCount);
+  }
+
+  @Override
+  public String toString() {
+    return "LatencySpectrum[count=" + totalCount + ", buckets=" + values.length
+        + ", max=" + maxMicros + "µs]";
+  }
+
+  /**
+   * 백분위수 스펙트럼의 한 점.
+   *
+   * @param valueMicros 이 백분위수의 지연 시간 (마이크로초)
+   * @param percentile  백분위수 (0-100)
+   * @param totalCount  이 값 이하인 요청 수
+   */
+  public record Point(long valueMicros, double percentile, long totalCount) {
+
+    /**
+     * 지연 시간을 밀리초로 반환한다.
+     *
+     * @return 지연 시간 (밀리초)
+     */
+    public double valueMillis() {
+      return valueMicros / MICROS_PER_MILLI;
+    }
+
+    /**
+     * 백분위수를 0-1 비율로 반환한다.
+     *
+     * @return 비율
+     */
+    public double fraction() {
+      return percentile / 100;
+    }
+
+    /**
+     * HdrHistogram 플롯의 x축 값 {@code 1/(1-비율)}을 반환한다.
+     *
+     * @return 역비율, 100%이면 무한대
+     */
+    public double inverted() {
+      return 1 / (1 - fraction());
+    }
+  }
+}
\ No newline at end of file
@@ -0,0 +1,335 @@
+package io.github.junhyeong9812.overload.core.metric.domain;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 넓은 범위의 지연 시간을 일정한 상대 오차로 기록하는 로그-선형 히스토그램.
+ *
+ * <p>{@link LatencyHistogram}은 1 단위 선형 버킷이라 마이크로초 값을 초 단위까지 담으려면
+ * 수백만 개의 버킷이 필요하다. 이 히스토그램은 HdrHistogram과 같은 방식으로
+ * 2의 거듭제곱 구간마다 128개의 버킷을 두어, 약 3,300개의 버킷으로 1µs부터 1시간까지를
+ * 최대 0.78%의 상대 오차로 기록한다.
+ *
+ * <p><b>버킷 구성:</b>
+ * <ul>
+ *   <li>0-255: 1 단위 (256개 버킷, 오차 없음)</li>
+ *   <li>2<sup>k</sup> 이상 2<sup>k+1</sup> 미만 (k ≥ 8): 2<sup>k-7</sup> 단위 (128개 버킷)</li>
+ *   <li>최대 추적 값 이상: 마지막 버킷 (최대값은 정확히 보존)</li>
+ * </ul>
+ *
+ * <p>기록은 인덱스 계산과 원자적 증가만 수행하므로 요청마다 객체를 할당하지 않는다.
+ * 백분위수는 해당 버킷의 상한값을 반환하되, 관측된 최대값을 넘지 않는다.
+ *
+ * <p><b>사용 예시:</b>
+ * <pre>{@code
+ * LogLinearHistogram histogram = new LogLinearHistogram();
+ *
+ * histogram.record(312);      // 312µs
+ * histogram.record(48_250);   // 48.25ms
+ *
+ * long p99 = histogram.getPercentile(99);  // 마이크로초
+ * }</pre>
+ *
+ * @author junhyeong9812
+ * @since 1.1.0
+ * @see LatencyHistogram
+ */
+public class LogLinearHistogram {
+
+  /** 기본 최대 추적 값 - 마이크로초 기준 1시간 */
+  public static final long DEFAULT_HIGHEST_TRACKABLE_VALUE = 3_600_000_000L;
+
+  private static final int LINEAR_BUCKETS = 256;
+  private static final int SUB_BUCKETS = 128;
+  private static final int SUB_BUCKET_BITS = 7;
+
+  private final int bucketCount;
+  private final AtomicLongArray buckets;
+  private final LongAdder totalCount = new LongAdder();
+  private final LongAdder totalSum = new LongAdder();
+  private final AtomicLong minValue = new AtomicLong(Long.MAX_VALUE);
+  private final AtomicLong maxValue = new AtomicLong(Long.MIN_VALUE);
+
+  /**
+   * 마이크로초 기준 1시간까지 추적하는 히스토그램을 생성한다.
+   */
+  public LogLinearHistogram() {
+    this(DEFAULT_HIGHEST_TRACKABLE_VALUE);
+  }
+
+  /**
+   * 지정된 최대 추적 값으로 히스토그램을 생성한다.
+   *
+   * @param highestTrackableValue 버킷으로 구분할 최대 값 - 이보다 큰 값은 마지막 버킷에 기록된다
+   * @throws IllegalArgumentException highestTrackableValue가 1 미만인 경우
+   */
+  public LogLinearHistogram(long highestTrackableValue) {
+    if (highestTrackableValue < 1) {
+      throw new IllegalArgumentException("Highest trackable value must be >= 1");
+    }
+    this.bucketCount = indexOf(highestTrackableValue) + 1;
+    this.buckets = new AtomicLongArray(bucketCount);
+  }
+
+  /**
+   * 값을 기록한다.
+   *
+   * @param value 기록할 값, 음수는 무시됨
+   */
+  public void record(long value) {
+    if (value < 0) {
+      return;
+    }
+
+    totalCount.increment();
+    totalSum.add(value);
+
+    updateMin(value);
+    updateMax(value);
+
+    buckets.incrementAndGet(Math.min(indexOf(value), bucketCount - 1));
+  }
+
+  /**
+   * 지정된 백분위수의 값을 반환한다.
+   *
+   * @param percentile 백분위수 (0-100)
+   * @return 해당 백분위수가 속한 버킷의 상한값 (관측된 최대값 이하), 샘플이 없으면 0
+   */
+  public long getPercentile(double percentile) {
+    long count = totalCount.sum();
+    if (count == 0) {
+      return 0;
+    }
+
+    long targetCount = Math.max(1, (long) Math.ceil(count * percentile / 100.0));
+    long cumulative = 0;
+
+    for (int i = 0; i < bucketCount; i++) {
+      cumulative += buckets.get(i);
+      if (cumulative >= targetCount) {
+        return Math.min(highestEquivalentValue(i), getMax());
+      }
+    }
+
+    return getMax();
+  }
+
+  /**
+   * 총 기록된 샘플 수를 반환한다.
+   *
+   * @return 총 샘플 수
+   */
+  public long getCount() {
+    return totalCount.sum();
+  }
+
+  /**
+   * 평균값을 반환한다. 합계를 정확히 유지하므로 버킷 오차가 없다.
+   *
+   * @return 평균값, 샘플이 없으면 0.0
+   */
+  public double getMean() {
+    long count = totalCount.sum();
+    if (count == 0) {
+      return 0.0;
+    }
+    return (double) totalSum.sum() / count;
+  }
+
+  /**
+   * 최소값을 반환한다.
+   *
+   * @return 최소값, 샘플이 없으면 0
+   */
+  public long getMin() {
+    long min = minValue.get();
+    return min == Long.MAX_VALUE ? 0 : min;
+  }
+
+  /**
+   * 최대값을 반환한다.
+   *
+   * @return 최대값, 샘플이 없으면 0
+   */
+  public long getMax() {
+    long max = maxValue.get();
+    return max == Long.MIN_VALUE ? 0 : max;
+  }
+
+  /**
+   * 현재까지 기록된 분포 전체의 불변 스냅샷을 반환한다.
+   *
+   * <p>비어 있지 않은 버킷만 복사한다. 기록과 동시에 호출하면 일부 기록이 빠질 수 있다.
+   *
+   * @return 지연 시간 스펙트럼
+   * @since 1.1.0
+   */
+  public LatencySpectrum snapshot() {
+    long count = totalCount.sum();
+    if (count == 0) {
+      return LatencySpectrum.empty();
+    }
+    int used = 0;
+    long[] values = new long[bucketCount];
+    long[] counts = new long[bucketCount];
+    long total = 0;
+    for (int i = 0; i < bucketCount; i++) {
+      long bucket = buckets.get(i);
+      if (bucket > 0) {
+        values[used] = highestEquivalentValue(i);
+        counts[used] = bucket;
+        total += bucket;
+        used++;
+      }
+    }
+    return new LatencySpectrum(
+        Arrays.copyOf(values, used), Arrays.copyOf(counts, used), total, getMax(), getMean());
+  }
+
+  /**
+   * 체크포인트에 저장할 내부 상태를 복사한다.
+   *
+   * <p>비어 있지 않은 버킷의 인덱스와 개수, 정확한 합계, 최소/최대값을 담는다.
+   * 기록과 동시에 호출하면 일부 기록이 빠질 수 있다.
+   *
+   * @return 히스토그램 상태
+   * @since 1.1.0
+   */
+  public State state() {
+    int used = 0;
+    int[] indexes = new int[bucketCount];
+    long[] counts = new long[bucketCount];
+    for (int i = 0; i < bucketCount; i++) {
+      long bucket = buckets.get(i);
+      if (bucket > 0) {
+        indexes[used] = i;
+        counts[used] = bucket;
+        used++;
+      }
+    }
+    return new State(
+        Arrays.copyOf(indexes, used), Arrays.copyOf(counts, used),
+        totalSum.sum(), getMin(), getMax());
+  }
+
+  /**
+   * 저장된 상태를 현재 히스토그램에 더한다.
+   *
+   * <p>체크포인트에서 재개할 때 이전 실행의 분포에 이어서 기록하기 위해 사용한다.
+   * 최대 추적 값이 더 작은 히스토그램이면 범위를 넘는 버킷은 마지막 버킷에 더한다.
+   *
+   * @param state {@link #state()}로 얻은 히스토그램 상태
+   * @since 1.1.0
+   */
+  public void restore(State state) {
+    long count = 0;
+    for (int i = 0; i < state.indexes().length; i++) {
+      buckets.addAndGet(Math.min(state.indexes()[i], bucketCount - 1), state.counts()[i]);
+      count += state.counts()[i];
+    }
+    if (count == 0) {
+      return;
+    }
+    totalCount.add(count);
+    totalSum.add(state.sum());
+    updateMin(state.min());
+    updateMax(state.max());
+  }
+
+  /**
+   * 히스토그램을 초기화한다.
+   */
+  public void reset() {
+    for (int i = 0; i < bucketCount; i++) {
+      buckets.set(i, 0);
+    }
+    totalCount.reset();
+    totalSum.reset();
+    minValue.set(Long.MAX_VALUE);
+    maxValue.set(Long.MIN_VALUE);
+  }
+
+  /**
+   * 값이 속한 버킷 인덱스를 계산한다.
+   */
+  static int indexOf(long value) {
+    if (value < LINEAR_BUCKETS) {
+      return (int) value;
+    }
+    int magnitude = 63 - Long.numberOfLeadingZeros(value);
+    int shift = magnitude - SUB_BUCKET_BITS;
+    return LINEAR_BUCKETS
+        + (magnitude - 8) * SUB_BUCKETS
+        + (int) ((value >>> shift) - SUB_BUCKETS);
+  }
+
+  /**
+   * 버킷에 속하는 가장 큰 값을 계산한다.
+   */
+  static long highestEquivalentValue(int index) {
+    if (index < LINEAR_BUCKETS) {
+      return index;
+    }
+    int offset = index - LINEAR_BUCKETS;
+    int shift = offset / SUB_BUCKETS + 1;
+    long subBucket = offset % SUB_BUCKETS + SUB_BUCKETS;
+    return ((subBucket + 1) << shift) - 1;
+  }
+
+  /**
+   * 체크포인트에 저장하는 히스토그램 상태.
+   *
+   * @param indexes 비어 있지 않은 버킷의 인덱스 (오름차순)
+   * @param counts  버킷별 개수
+   * @param sum     기록된 값의 합계
+   * @param min     최소값
+   * @param max     최대값
+   *
+   * @author junhyeong9812
+   * @since 1.1.0
+   */
+  public record State(int[] indexes, long[] counts, long sum, long min, long max) {
+
+    /**
+     * Compact constructor - 유효성 검증 수행.
+     *
+     * @throws IllegalArgumentException 인덱스와 개수의 길이가 다른 경우
+     */
+    public State {
+      if (indexes.length != counts.length) {
+        throw new IllegalArgumentException("Bucket indexes and counts must have the same length");
+      }
+    }
+
+    /**
+     * 기록이 없는 상태를 반환한다.
+     *
+     * @return 빈 히스토그램 상태
+     */
+    public static State empty() {
+      return new State(new int[0], new long[0], 0, 0, 0);
+    }
+  }
+
+  private void updateMin(long value) {
+    long current;
+    while (value < (current = minValue.get())) {
+      if (minValue.compareAndSet(current, value)) {
+        break;
+      }
+    }
+  }
+
+  private void updateMax(long value) {
+    long current;
+    while (value > (current = maxValue.get())) {
+      if (maxValue.compareAndSet(current, value)) {
+        break;
+      }
+    }
+  }
+}
\ No newline at end of file
@@ -14,18 +14,27 @@ package io.github.junhyeong9812.overload.core.metric.domain;
  *   <li>P99 - 전체 요청의 99%가 이 시간 이하로 완료</li>
  * </ul>
  *
+ * <p>밀리초 값은 마이크로초 값을 버림한 것이며, 정규 생성자는 두 값이 맞지 않으면 거부한다.
+ * 1ms 미만으로 응답하는 대상은 밀리초 값이 모두 0이 되므로 {@code *Micros} 값을 사용한다.
+ *
  * <p><b>사용 예시:</b>
  * <pre>{@code
  * Percentiles percentiles = new Percentiles(50, 100, 150, 200, 10, 500);
  * System.out.println("P99: " + percentiles.p99() + "ms");
  * }</pre>
  *
- * @param p50 50번째 백분위수 (밀리초)
- * @param p90 90번째 백분위수 (밀리초)
- * @param p95 95번째 백분위수 (밀리초)
- * @param p99 99번째 백분위수 (밀리초)
- * @param min 최소 지연 시간 (밀리초)
- * @param max 최대 지연 시간 (밀리초)
+ * @param p50       50번째 백분위수 (밀리초)
+ * @param p90       90번째 백분위수 (밀리초)
+ * @param p95       95번째 백분위수 (밀리초)
+ * @param p99       99번째 백분위수 (밀리초)
+ * @param min       최소 지연 시간 (밀리초)
+ * @param max       최대 지연 시간 (밀리초)
+ * @param p50Micros 50번째 백분위수 (마이크로초)
+ * @param p90Micros 90번째 백분위수 (마이크로초)
+ * @param p95Micros 95번째 백분위수 (마이크로초)
+ * @param p99Micros 99번째 백분위수 (마이크로초)
+ * @param minMicros 최소 지연 시간 (마이크로초)
+ * @param maxMicros 최대 지연 시간 (마이크로초)
  *
  * @author junhyeong9812
  * @since 1.0.0
@@ -36,9 +45,70 @@ public record Percentiles(
     long p95,
     long p99,
     long min,
-    long max
+    long max,
+    long p50Micros,
+    long p90Micros,
+    long p95Micros,
+    long p99Micros,
+    long minMicros,
+    long maxMicros
 ) {
 
+  /**
+   * 밀리초 값이 마이크로초 값을 버림한 값과 같은지 검증한다.
+   *
+   * @throws IllegalArgumentException 밀리초 값과 마이크로초 값이 맞지 않는 경우
+   */
+  public Percentiles {
+    requireTruncated("p50", p50, p50Micros);
+    requireTruncated("p90", p90, p90Micros);
+    requireTruncated("p95", p95, p95Micros);
+    requireTruncated("p99", p99, p99Micros);
+    requireTruncated("min", min, minMicros);
+    requireTruncated("max", max, maxMicros);
+  }
+
+  /**
+   * 밀리초 값으로 Percentiles를 생성한다. 마이크로초 값은 밀리초에서 환산된다.
+   *
+   * @param p50 50번째 백분위수 (밀리초)
+   * @param p90 90번째 백분위수 (밀리초)
+   * @param p95 95번째 백분위수 (밀리초)
+   * @param p99 99번째 백분위수 (밀리초)
+   * @param min 최소 지연 시간 (밀리초)
+   * @param max 최대 지연 시간 (밀리초)
+   */
+  public Percentiles(long p50, long p90, long p95, long p99, long min, long max) {
+    this(p50, p90, p95, p99, min, max,
+        p50 * 1_000, p90 * 1_000, p95 * 1_000, p99 * 1_000, min * 1_000, max * 1_000);
+  }
+
+  /**
+   * 마이크로초 값으로 Percentiles를 생성한다. 밀리초 값은 버림으로 환산된다.
+   *
+   * @param p50Micros 50번째 백분위수 (마이크로초)
+   * @param p90Micros 90번째 백분위수 (마이크로초)
+   * @param p95Micros 95번째 백분위수 (마이크로초)
+   * @param p99Micros 99번째 백분위수 (마이크로초)
+   * @param minMicros 최소 지연 시간 (마이크로초)
+   * @param maxMicros 최대 지연 시간 (마이크로초)
+   * @return Percentiles
+   * @since 1.1.0
+   */
+  public static Percentiles ofMicros(
+      long p50Micros,
+      long p90Micros,
+      long p95Micros,
+      long p99Micros,
+      long minMicros,
+      long maxMicros
+  ) {
+    return new Percentiles(
+        p50Micros / 1_000, p90Micros / 1_000, p95Micros / 1_000, p99Micros / 1_000,
+        minMicros / 1_000, maxMicros / 1_000,
+        p50Micros, p90Micros, p95Micros, p99Micros, minMicros, maxMicros);
+  }
+
   /**
    * 빈 Percentiles를 생성한다.
    *
@@ -47,4 +117,11 @@ public record Percentiles(
   public static Percentiles empty() {
     return new Percentiles(0, 0, 0, 0, 0, 0);
   }
+
+  private static void requireTruncated(String name, long millis, long micros) {
+    if (millis != micros / 1_000) {
+      throw new IllegalArgumentException(
+          name + " (" + millis + ") must equal " + name + "Micros / 1000 (" + micros + ")");
+    }
+  }
 }
\ No newline at end of file
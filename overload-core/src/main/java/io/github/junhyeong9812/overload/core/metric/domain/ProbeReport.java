@@ -0,0 +1,54 @@
+package io.github.junhyeong9812.overload.core.metric.domain;
+
+import io.github.junhyeong9812.overload.core.config.HttpMethod;
+
+import java.time.Duration;
+
+/**
+ * 저속 지연 프로브의 결과를 표현하는 불변(Immutable) 레코드.
+ *
+ * <p>주 부하의 {@link TestResult#latencyStats()}와 나란히 보면 생성기의 대기열 영향 없이
+ * 부하 중 대상의 응답성을 확인할 수 있다. 프로브 지연이 주 부하 지연보다 훨씬 낮다면
+ * 주 부하의 지연 중 상당 부분이 대상이 아니라 생성기 쪽 대기에서 온 것이다.
+ *
+ * <p>프로브 요청이 간격보다 오래 걸리면 밀린 틱은 몰아서 보내지 않고 건너뛰며 {@code missed}로 센다.
+ *
+ * @param url           프로브 대상 URL
+ * @param method        프로브 HTTP 메서드
+ * @param interval      프로브 요청 간격
+ * @param totalRequests 측정 구간에 보낸 프로브 수
+ * @param failCount     실패한 프로브 수 (HTTP 2xx가 아니거나 응답을 받지 못함)
+ * @param missed        이전 프로브가 길어져 건너뛴 틱 수
+ * @param latencyStats  프로브 지연 시간 통계
+ *
+ * @author junhyeong9812
+ * @since 1.1.0
+ */
+public record ProbeReport(
+    String url,
+    HttpMethod method,
+    Duration interval,
+    int totalRequests,
+    int failCount,
+    long missed,
+    TestResult.LatencyStats latencyStats
+) {
+
+  /**
+   * 성공한 프로브 수를 반환한다.
+   *
+   * @return 성공 수
+   */
+  public int successCount() {
+    return totalRequests - failCount;
+  }
+
+  /**
+   * 실패율을 반환한다.
+   *
+   * @return 실패율 (0.0 ~ 1.0), 프로브가 없으면 0.0
+   */
+  public double errorRate() {
+    return totalRequests > 0 ? (double) failCount / totalRequests : 0;
+  }
+}
\ No newline at end of file
@@ -0,0 +1,36 @@
+package io.github.junhyeong9812.overload.core.metric.domain;
+
+/**
+ * 요청 속도 제한 결과를 표현하는 불변(Immutable) 레코드.
+ *
+ * <p>목표 속도와 실제로 허가가 발급된 속도를 함께 보고한다. 실효 속도가 목표보다
+ * 크게 낮으면 제한이 아니라 동시성이나 대상 서버 지연이 처리량을 결정한 것이다.
+ *
+ * @param targetRps     목표 초당 요청 수
+ * @param burst         허용 버스트
+ * @param permits       발급된 허가 수
+ * @param throttled     대기 후 발급된 허가 수
+ * @param effectiveRps  첫 허가부터 마지막 허가까지의 실효 초당 요청 수
+ * @param avgWaitMicros 대기한 허가의 평균 대기 시간 (마이크로초)
+ *
+ * @author junhyeong9812
+ * @since 1.1.0
+ */
+public record RateLimitReport(
+    double targetRps,
+    int burst,
+    long permits,
+    long throttled,
+    double effectiveRps,
+    double avgWaitMicros
+) {
+
+  /**
+   * 대기 후 발급된 허가의 비율을 반환한다.
+   *
+   * @return 제한 비율 (0.0 ~ 1.0)
+   */
+  public double throttledRatio() {
+    return permits > 0 ? (double) throttled / permits : 0;
+  }
+}
\ No newline at end of file
@@ -0,0 +1,57 @@
+package io.github.junhyeong9812.overload.core.metric.domain;
+
+import io.github.junhyeong9812.overload.core.http.domain.ErrorType;
+import io.github.junhyeong9812.overload.core.http.domain.RequestResult;
+
+/**
+ * {@link ColumnarResultStore}에 보관된 요청 결과 하나를 읽어 온 불변(Immutable) 레코드.
+ *
+ * <p>저장소는 결과를 기본형 배열 열로 보관하며, 이 레코드는 읽는 시점에만 만들어진다.
+ * 실패 메시지는 보관하지 않으므로 실패는 {@link ErrorType}으로만 구분된다.
+ *
+ * @param index         저장 순번 (0부터 시작)
+ * @param statusCode    HTTP 상태 코드 (네트워크 오류로 실패한 경우 0)
+ * @param latencyMicros 지연 시간 (마이크로초)
+ * @param errorType     에러 유형 (nullable - 응답을 받았으면 null)
+ * @param offsetNanos   저장소 생성 시점부터 결과가 기록된 시점까지의 시간 (나노초)
+ *
+ * @author junhyeong9812
+ * @since 1.1.0
+ */
+public record ResultSample(
+    long index,
+    int statusCode,
+    long latencyMicros,
+    ErrorType errorType,
+    long offsetNanos
+) {
+
+  /**
+   * 응답을 받지 못하고 실패했는지 확인한다.
+   *
+   * @return 네트워크 오류로 실패했으면 {@code true}
+   */
+  public boolean isFailure() {
+    return errorType != null;
+  }
+
+  /**
+   * 2xx 응답을 받았는지 확인한다.
+   *
+   * @return 2xx 응답이면 {@code true}
+   */
+  public boolean isHttpSuccess() {
+    return errorType == null && statusCode >= 200 && statusCode < 300;
+  }
+
+  /**
+   * {@link RequestResult}로 변환한다. 실패 메시지는 에러 유형 이름으로 대체된다.
+   *
+   * @return 요청 결과
+   */
+  public RequestResult toRequestResult() {
+    return errorType == null
+        ? RequestResult.Success.ofMicros(statusCode, latencyMicros)
+        : RequestResult.Failure.ofMicros(errorType.name(), errorType, latencyMicros);
+  }
+}
\ No newline at end of file
@@ -0,0 +1,92 @@
+package io.github.junhyeong9812.overload.core.metric.domain;
+
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * 실행 중 저장한 집계기 상태를 표현하는 불변(Immutable) 레코드.
+ *
+ * <p>워밍업 구간과 측정 구간의 요청 수, 지연 시간 히스토그램, 경과 시간을 담는다.
+ * 완료된 요청 수가 곧 요청 수 기준의 진행 위치이므로, 재개할 때는
+ * {@link #remainingRequests()}만큼만 실행하고 이 상태에 이어서 집계한다.
+ * 저장 시점에 진행 중이던 요청은 완료되지 않았으므로 재개 후 다시 보낸다.
+ *
+ * @param url           대상 URL - 다른 테스트의 체크포인트로 재개하지 않도록 확인한다
+ * @param totalRequests 전체 요청 수
+ * @param measuring     측정 구간에 들어섰는지 여부
+ * @param warmup        워밍업 구간 메트릭
+ * @param measured      측정 구간 메트릭
+ * @param savedAt       저장 시각
+ *
+ * @author junhyeong9812
+ * @since 1.1.0
+ */
+public record RunCheckpoint(
+    String url,
+    int totalRequests,
+    boolean measuring,
+    Metrics warmup,
+    Metrics measured,
+    Instant savedAt
+) {
+
+  /**
+   * Compact constructor - 유효성 검증 수행.
+   *
+   * @throws NullPointerException 필수 값이 null인 경우
+   */
+  public RunCheckpoint {
+    Objects.requireNonNull(url, "url");
+    Objects.requireNonNull(warmup, "warmup");
+    Objects.requireNonNull(measured, "measured");
+    Objects.requireNonNull(savedAt, "savedAt");
+  }
+
+  /**
+   * 저장 시점까지 완료된 요청 수를 반환한다 (워밍업 포함).
+   *
+   * @return 완료된 요청 수
+   */
+  public int completedRequests() {
+    return (int) (warmup.totalRequests() + measured.totalRequests());
+  }
+
+  /**
+   * 재개할 때 실행할 남은 요청 수를 반환한다.
+   *
+   * @return 남은 요청 수 (0 이상)
+   */
+  public int remainingRequests() {
+    return Math.max(0, totalRequests - completedRequests());
+  }
+
+  /**
+   * 한 구간의 집계기 상태.
+   *
+   * @param totalRequests 기록된 요청 수
+   * @param successCount  성공 요청 수
+   * @param failCount     실패 요청 수
+   * @param elapsedMillis 구간 경과 시간 (밀리초, 중단된 시간 제외)
+   * @param latency       지연 시간 히스토그램 상태 (마이크로초)
+   *
+   * @author junhyeong9812
+   * @since 1.1.0
+   */
+  public record Metrics(
+      long totalRequests,
+      long successCount,
+      long failCount,
+      long elapsedMillis,
+      LogLinearHistogram.State latency
+  ) {
+
+    /**
+     * 기록이 없는 구간 상태를 반환한다.
+     *
+     * @return 빈 구간 상태
+     */
+    public static Metrics empty() {
+      return new Metrics(0, 0, 0, 0, LogLinearHistogram.State.empty());
+    }
+  }
+}
\ No newline at end of file
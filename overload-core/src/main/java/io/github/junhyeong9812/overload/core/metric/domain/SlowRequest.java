@@ -0,0 +1,66 @@
+package io.github.junhyeong9812.overload.core.metric.domain;
+
+import io.github.junhyeong9812.overload.core.http.domain.ErrorType;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 실행 중 가장 느렸던 요청 한 건을 표현하는 불변(Immutable) 레코드.
+ *
+ * <p>백분위수는 꼬리 지연이 얼마나 긴지 알려 주지만 언제, 어떤 요청이었는지는 알려 주지 않는다.
+ * 이 레코드는 완료 시각과 대상을 함께 남겨 서버 로그나 트레이스에서 해당 요청을 찾을 수 있게 한다.
+ * {@code elapsed}는 {@link IntervalStats#elapsed()}와 같은 기준(실행 시작)이다.
+ *
+ * <p>GC 멈춤 추적을 켠 실행에서는 요청이 진행되는 동안 부하 생성기 JVM이 멈췄는지
+ * ({@code generatorPause})도 함께 표시한다. 표시된 요청의 지연에는 서버가 아니라 생성기의 멈춤이 섞여 있다.
+ *
+ * <p><b>사용 예시:</b>
+ * <pre>{@code
+ * for (SlowRequest slow : result.slowestRequests()) {
+ *     System.out.printf("%s %s %dus status=%d%n",
+ *         slow.timestamp(), slow.endpoint(), slow.latencyMicros(), slow.statusCode());
+ * }
+ * }</pre>
+ *
+ * @param latencyMicros  지연 시간 (마이크로초)
+ * @param timestamp      요청 완료 시각
+ * @param elapsed        실행 시작부터 요청 완료까지의 경과 시간
+ * @param url            요청 URL
+ * @param endpoint       엔드포인트 이름 (예: {@code GET /users})
+ * @param statusCode     HTTP 상태 코드 (응답을 받지 못했으면 0)
+ * @param errorType      실패 유형 (nullable - 응답을 받았으면 null)
+ * @param generatorPause 요청 진행 중 부하 생성기의 GC 멈춤과 겹쳤는지 여부
+ *
+ * @author junhyeong9812
+ * @since 1.1.0
+ */
+public record SlowRequest(
+    long latencyMicros,
+    Instant timestamp,
+    Duration elapsed,
+    String url,
+    String endpoint,
+    int statusCode,
+    ErrorType errorType,
+    boolean generatorPause
+) {
+
+  /**
+   * 지연 시간을 밀리초 단위로 반환한다.
+   *
+   * @return 지연 시간 (밀리초)
+   */
+  public long latencyMs() {
+    return latencyMicros / 1_000;
+  }
+
+  /**
+   * 응답을 받지 못한 요청인지 확인한다.
+   *
+   * @return 실패 유형이 있으면 {@code true}
+   */
+  public boolean isFailure() {
+    return errorType != null;
+  }
+}
\ No newline at end of file
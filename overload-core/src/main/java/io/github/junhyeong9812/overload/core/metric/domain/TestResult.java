@@ -1,6 +1,7 @@
 package io.github.junhyeong9812.overload.core.metric.domain;
 
 import java.time.Duration;
+import java.util.List;
 
 /**
  * 부하 테스트 결과를 표현하는 불변(Immutable) 레코드.
@@ -14,8 +15,22 @@ import java.time.Duration;
  *   <li>전체 테스트 소요 시간</li>
  *   <li>초당 요청 수 (RPS)</li>
  *   <li>지연 시간 통계 (최소, 최대, 평균, 백분위수)</li>
+ *   <li>부하 생성기 자체 오버헤드 ({@link GeneratorHealth})</li>
+ *   <li>적응형 동시성 탐색 결과 ({@link AdaptiveConcurrencyReport}, 적응형 모드에서만)</li>
+ *   <li>중단 사유 (조기 중단 또는 취소된 경우 - 이때 결과는 부분 결과다)</li>
+ *   <li>워밍업 구간 결과 ({@link WarmupResult}, 워밍업 설정 시에만)</li>
+ *   <li>요청 속도 제한의 목표/실효 속도 ({@link RateLimitReport}, 속도 제한 설정 시에만)</li>
+ *   <li>요청별 원본 결과 ({@link ColumnarResultStore}, {@code retainResults} 설정 시에만)</li>
+ *   <li>대상 주소별 통계 ({@link AddressReport}, 주소 분산 설정 시에만)</li>
+ *   <li>TLS 핸드셰이크 통계 ({@link TlsReport}, TLS 설정 시에만)</li>
+ *   <li>실행 중 적용된 제어 변경 ({@link ControlChange})</li>
+ *   <li>가장 느린 요청 N건 ({@link SlowRequest}, 측정 구간만)</li>
+ *   <li>저속 지연 프로브 결과 ({@link ProbeReport}, 프로브 설정 시에만)</li>
+ *   <li>부하 생성기 GC 멈춤의 영향 ({@link GcPauseReport}, GC 멈춤 추적 설정 시에만)</li>
  * </ul>
  *
+ * <p>워밍업이 설정된 경우 요청 통계, 소요 시간, RPS, 지연 시간 통계는 측정 구간만 반영한다.
+ *
  * <p><b>사용 예시:</b>
  * <pre>{@code
  * TestResult result = LoadTester.run(config);
@@ -26,12 +41,24 @@ import java.time.Duration;
  * System.out.println("P99: " + result.latencyStats().percentiles().p99() + "ms");
  * }</pre>
  *
- * @param totalRequests     총 요청 수
- * @param successCount      성공한 요청 수
- * @param failCount         실패한 요청 수
- * @param totalDuration     전체 테스트 소요 시간
- * @param requestsPerSecond 초당 요청 수 (RPS)
- * @param latencyStats      지연 시간 통계
+ * @param totalRequests       총 요청 수
+ * @param successCount        성공한 요청 수
+ * @param failCount           실패한 요청 수
+ * @param totalDuration       전체 테스트 소요 시간
+ * @param requestsPerSecond   초당 요청 수 (RPS)
+ * @param latencyStats        지연 시간 통계
+ * @param generatorHealth     부하 생성기 자체 오버헤드
+ * @param adaptiveConcurrency 적응형 동시성 탐색 결과 (nullable - 고정 동시성이면 null)
+ * @param abortReason         중단 사유 (nullable - 끝까지 실행되었으면 null)
+ * @param warmup              워밍업 구간 결과 (nullable - 워밍업을 설정하지 않았으면 null)
+ * @param rateLimit           요청 속도 제한 결과 (nullable - 속도 제한이 없으면 null)
+ * @param rawResults          요청별 원본 결과 (nullable - 보관을 설정하지 않았으면 null)
+ * @param addresses           대상 주소별 통계 (nullable - 주소 분산을 설정하지 않았으면 null)
+ * @param tls                 TLS 핸드셰이크 통계 (nullable - TLS를 계측하지 않았으면 null)
+ * @param controlChanges      실행 중 적용된 제어 변경 (변경이 없으면 빈 목록)
+ * @param slowestRequests     측정 구간에서 가장 느린 요청 (느린 순, 추적하지 않았으면 빈 목록)
+ * @param probe               저속 지연 프로브 결과 (nullable - 프로브를 설정하지 않았으면 null)
+ * @param gcPauses            부하 생성기 GC 멈춤의 영향 (nullable - 추적하지 않았으면 null)
  *
  * @author junhyeong9812
  * @since 1.0.0
@@ -42,9 +69,220 @@ public record TestResult(
     int failCount,
     Duration totalDuration,
     double requestsPerSecond,
-    LatencyStats latencyStats
+    LatencyStats latencyStats,
+    GeneratorHealth generatorHealth,
+    AdaptiveConcurrencyReport adaptiveConcurrency,
+    String abortReason,
+    WarmupResult warmup,
+    RateLimitReport rateLimit,
+    ColumnarResultStore rawResults,
+    List<AddressReport> addresses,
+    TlsReport tls,
+    List<ControlChange> controlChanges,
+    List<SlowRequest> slowestRequests,
+    ProbeReport probe,
+    GcPauseReport gcPauses
 ) {
 
+  /**
+   * 생성기 오버헤드 정보 없이 TestResult를 생성한다.
+   *
+   * @param totalRequests     총 요청 수
+   * @param successCount      성공한 요청 수
+   * @param failCount         실패한 요청 수
+   * @param totalDuration     전체 테스트 소요 시간
+   * @param requestsPerSecond 초당 요청 수 (RPS)
+   * @param latencyStats      지연 시간 통계
+   */
+  public TestResult(
+      int totalRequests,
+      int successCount,
+      int failCount,
+      Duration totalDuration,
+      double requestsPerSecond,
+      LatencyStats latencyStats) {
+    this(totalRequests, successCount, failCount, totalDuration, requestsPerSecond,
+        latencyStats, GeneratorHealth.empty(), null, null, null, null, null, null, null, List.of(), List.of(), null,
+        null);
+  }
+
+  /**
+   * 현재 결과 값으로 채워진 Builder를 생성한다.
+   *
+   * <p>기존 결과에서 일부 보고서만 바꾼 결과를 만들 때 사용한다.
+   * 새 보고서를 추가할 때는 {@link Builder}만 확장하면 된다.
+   *
+   * @return 현재 값이 복사된 {@link Builder} 인스턴스
+   * @since 1.1.0
+   */
+  public Builder toBuilder() {
+    return new Builder(this);
+  }
+
+  /**
+   * 생성기 오버헤드 정보를 교체한 새 TestResult를 반환한다.
+   *
+   * @param generatorHealth 부하 생성기 자체 오버헤드
+   * @return 새로운 TestResult
+   * @since 1.1.0
+   */
+  public TestResult withGeneratorHealth(GeneratorHealth generatorHealth) {
+    return toBuilder().generatorHealth(generatorHealth).build();
+  }
+
+  /**
+   * 적응형 동시성 탐색 결과를 교체한 새 TestResult를 반환한다.
+   *
+   * @param adaptiveConcurrency 적응형 동시성 탐색 결과
+   * @return 새로운 TestResult
+   * @since 1.1.0
+   */
+  public TestResult withAdaptiveConcurrency(AdaptiveConcurrencyReport adaptiveConcurrency) {
+    return toBuilder().adaptiveConcurrency(adaptiveConcurrency).build();
+  }
+
+  /**
+   * 중단 사유를 교체한 새 TestResult를 반환한다.
+   *
+   * @param abortReason 중단 사유
+   * @return 새로운 TestResult
+   * @since 1.1.0
+   */
+  public TestResult withAbortReason(String abortReason) {
+    return toBuilder().abortReason(abortReason).build();
+  }
+
+  /**
+   * 워밍업 구간 결과를 교체한 새 TestResult를 반환한다.
+   *
+   * @param warmup 워밍업 구간 결과
+   * @return 새로운 TestResult
+   * @since 1.1.0
+   */
+  public TestResult withWarmup(WarmupResult warmup) {
+    return toBuilder().warmup(warmup).build();
+  }
+
+  /**
+   * 요청 속도 제한 결과를 교체한 새 TestResult를 반환한다.
+   *
+   * @param rateLimit 요청 속도 제한 결과
+   * @return 새로운 TestResult
+   * @since 1.1.0
+   */
+  public TestResult withRateLimit(RateLimitReport rateLimit) {
+    return toBuilder().rateLimit(rateLimit).build();
+  }
+
+  /**
+   * 요청별 원본 결과 저장소를 교체한 새 TestResult를 반환한다.
+   *
+   * @param rawResults 요청별 원본 결과
+   * @return 새로운 TestResult
+   * @since 1.1.0
+   */
+  public TestResult withRawResults(ColumnarResultStore rawResults) {
+    return toBuilder().rawResults(rawResults).build();
+  }
+
+  /**
+   * 대상 주소별 통계를 교체한 새 TestResult를 반환한다.
+   *
+   * @param addresses 대상 주소별 통계
+   * @return 새로운 TestResult
+   * @since 1.1.0
+   */
+  public TestResult withAddresses(List<AddressReport> addresses) {
+    return toBuilder().addresses(addresses).build();
+  }
+
+  /**
+   * TLS 핸드셰이크 통계를 교체한 새 TestResult를 반환한다.
+   *
+   * @param tls TLS 핸드셰이크 통계
+   * @return 새로운 TestResult
+   * @since 1.1.0
+   */
+  public TestResult withTls(TlsReport tls) {
+    return toBuilder().tls(tls).build();
+  }
+
+  /**
+   * 실행 중 적용된 제어 변경을 교체한 새 TestResult를 반환한다.
+   *
+   * @param controlChanges 적용 순서대로 정렬된 제어 변경
+   * @return 새로운 TestResult
+   * @since 1.1.0
+   */
+  public TestResult withControlChanges(List<ControlChange> controlChanges) {
+    return toBuilder().controlChanges(controlChanges).build();
+  }
+
+  /**
+   * 가장 느린 요청 목록을 교체한 새 TestResult를 반환한다.
+   *
+   * @param slowestRequests 지연 시간이 긴 순서로 정렬된 느린 요청
+   * @return 새로운 TestResult
+   * @since 1.1.0
+   */
+  public TestResult withSlowestRequests(List<SlowRequest> slowestRequests) {
+    return toBuilder().slowestRequests(slowestRequests).build();
+  }
+
+  /**
+   * 저속 지연 프로브 결과를 교체한 새 TestResult를 반환한다.
+   *
+   * @param probe 저속 지연 프로브 결과
+   * @return 새로운 TestResult
+   * @since 1.1.0
+   */
+  public TestResult withProbe(ProbeReport probe) {
+    return toBuilder().probe(probe).build();
+  }
+
+  /**
+   * 부하 생성기 GC 멈춤 보고서를 교체한 새 TestResult를 반환한다.
+   *
+   * @param gcPauses GC 멈춤 보고서
+   * @return 새로운 TestResult
+   * @since 1.1.0
+   */
+  public TestResult withGcPauses(GcPauseReport gcPauses) {
+    return toBuilder().gcPauses(gcPauses).build();
+  }
+
+  /**
+   * 부하 생성기 GC 멈춤과 겹친 요청을 뺀 지연 시간 통계를 반환한다.
+   *
+   * <p>GC 멈춤을 추적하지 않았으면 전체 지연 시간 통계({@link #latencyStats()})를 반환한다.
+   *
+   * @return 생성기 멈춤의 영향을 뺀 지연 시간 통계
+   * @since 1.1.0
+   */
+  public LatencyStats latencyStatsExcludingGcPauses() {
+    return gcPauses != null ? gcPauses.cleanLatencyStats() : latencyStats;
+  }
+
+  /**
+   * 워밍업 구간 결과가 있는지 확인한다.
+   *
+   * @return 워밍업이 설정되었으면 {@code true}
+   * @since 1.1.0
+   */
+  public boolean hasWarmup() {
+    return warmup != null;
+  }
+
+  /**
+   * 테스트가 중단되어 부분 결과인지 확인한다.
+   *
+   * @return 조기 중단 또는 취소되었으면 {@code true}
+   * @since 1.1.0
+   */
+  public boolean isAborted() {
+    return abortReason != null;
+  }
+
   /**
    * 성공률을 계산한다.
    *
@@ -65,6 +303,265 @@ public record TestResult(
     return 100 - successRate();
   }
 
+  /**
+   * 기존 {@link TestResult}에서 일부 값을 바꾼 인스턴스를 생성하기 위한 빌더 클래스.
+   *
+   * @author junhyeong9812
+   * @since 1.1.0
+   */
+  public static final class Builder {
+
+    private int totalRequests;
+    private int successCount;
+    private int failCount;
+    private Duration totalDuration;
+    private double requestsPerSecond;
+    private LatencyStats latencyStats;
+    private GeneratorHealth generatorHealth;
+    private AdaptiveConcurrencyReport adaptiveConcurrency;
+    private String abortReason;
+    private WarmupResult warmup;
+    private RateLimitReport rateLimit;
+    private ColumnarResultStore rawResults;
+    private List<AddressReport> addresses;
+    private TlsReport tls;
+    private List<ControlChange> controlChanges;
+    private List<SlowRequest> slowestRequests;
+    private ProbeReport probe;
+    private GcPauseReport gcPauses;
+
+    private Builder(TestResult result) {
+      this.totalRequests = result.totalRequests;
+      this.successCount = result.successCount;
+      this.failCount = result.failCount;
+      this.totalDuration = result.totalDuration;
+      this.requestsPerSecond = result.requestsPerSecond;
+      this.latencyStats = result.latencyStats;
+      this.generatorHealth = result.generatorHealth;
+      this.adaptiveConcurrency = result.adaptiveConcurrency;
+      this.abortReason = result.abortReason;
+      this.warmup = result.warmup;
+      this.rateLimit = result.rateLimit;
+      this.rawResults = result.rawResults;
+      this.addresses = result.addresses;
+      this.tls = result.tls;
+      this.controlChanges = result.controlChanges;
+      this.slowestRequests = result.slowestRequests;
+      this.probe = result.probe;
+      this.gcPauses = result.gcPauses;
+    }
+
+    /**
+     * 총 요청 수를 설정한다.
+     *
+     * @param totalRequests 총 요청 수
+     * @return this
+     */
+    public Builder totalRequests(int totalRequests) {
+      this.totalRequests = totalRequests;
+      return this;
+    }
+
+    /**
+     * 성공한 요청 수를 설정한다.
+     *
+     * @param successCount 성공한 요청 수
+     * @return this
+     */
+    public Builder successCount(int successCount) {
+      this.successCount = successCount;
+      return this;
+    }
+
+    /**
+     * 실패한 요청 수를 설정한다.
+     *
+     * @param failCount 실패한 요청 수
+     * @return this
+     */
+    public Builder failCount(int failCount) {
+      this.failCount = failCount;
+      return this;
+    }
+
+    /**
+     * 전체 테스트 소요 시간을 설정한다.
+     *
+     * @param totalDuration 전체 테스트 소요 시간
+     * @return this
+     */
+    public Builder totalDuration(Duration totalDuration) {
+      this.totalDuration = totalDuration;
+      return this;
+    }
+
+    /**
+     * 초당 요청 수(RPS)를 설정한다.
+     *
+     * @param requestsPerSecond 초당 요청 수 (RPS)
+     * @return this
+     */
+    public Builder requestsPerSecond(double requestsPerSecond) {
+      this.requestsPerSecond = requestsPerSecond;
+      return this;
+    }
+
+    /**
+     * 지연 시간 통계를 설정한다.
+     *
+     * @param latencyStats 지연 시간 통계
+     * @return this
+     */
+    public Builder latencyStats(LatencyStats latencyStats) {
+      this.latencyStats = latencyStats;
+      return this;
+    }
+
+    /**
+     * 부하 생성기 자체 오버헤드를 설정한다.
+     *
+     * @param generatorHealth 부하 생성기 자체 오버헤드
+     * @return this
+     */
+    public Builder generatorHealth(GeneratorHealth generatorHealth) {
+      this.generatorHealth = generatorHealth;
+      return this;
+    }
+
+    /**
+     * 적응형 동시성 탐색 결과를 설정한다.
+     *
+     * @param adaptiveConcurrency 적응형 동시성 탐색 결과
+     * @return this
+     */
+    public Builder adaptiveConcurrency(AdaptiveConcurrencyReport adaptiveConcurrency) {
+      this.adaptiveConcurrency = adaptiveConcurrency;
+      return this;
+    }
+
+    /**
+     * 중단 사유를 설정한다.
+     *
+     * @param abortReason 중단 사유
+     * @return this
+     */
+    public Builder abortReason(String abortReason) {
+      this.abortReason = abortReason;
+      return this;
+    }
+
+    /**
+     * 워밍업 구간 결과를 설정한다.
+     *
+     * @param warmup 워밍업 구간 결과
+     * @return this
+     */
+    public Builder warmup(WarmupResult warmup) {
+      this.warmup = warmup;
+      return this;
+    }
+
+    /**
+     * 요청 속도 제한 결과를 설정한다.
+     *
+     * @param rateLimit 요청 속도 제한 결과
+     * @return this
+     */
+    public Builder rateLimit(RateLimitReport rateLimit) {
+      this.rateLimit = rateLimit;
+      return this;
+    }
+
+    /**
+     * 요청별 원본 결과를 설정한다.
+     *
+     * @param rawResults 요청별 원본 결과
+     * @return this
+     */
+    public Builder rawResults(ColumnarResultStore rawResults) {
+      this.rawResults = rawResults;
+      return this;
+    }
+
+    /**
+     * 대상 주소별 통계를 설정한다.
+     *
+     * @param addresses 대상 주소별 통계
+     * @return this
+     */
+    public Builder addresses(List<AddressReport> addresses) {
+      this.addresses = addresses;
+      return this;
+    }
+
+    /**
+     * TLS 핸드셰이크 통계를 설정한다.
+     *
+     * @param tls TLS 핸드셰이크 통계
+     * @return this
+     */
+    public Builder tls(TlsReport tls) {
+      this.tls = tls;
+      return this;
+    }
+
+    /**
+     * 적용 순서대로 정렬된 제어 변경을 설정한다.
+     *
+     * @param controlChanges 적용 순서대로 정렬된 제어 변경
+     * @return this
+     */
+    public Builder controlChanges(List<ControlChange> controlChanges) {
+      this.controlChanges = List.copyOf(controlChanges);
+      return this;
+    }
+
+    /**
+     * 지연 시간이 긴 순서로 정렬된 느린 요청을 설정한다.
+     *
+     * @param slowestRequests 지연 시간이 긴 순서로 정렬된 느린 요청
+     * @return this
+     */
+    public Builder slowestRequests(List<SlowRequest> slowestRequests) {
+      this.slowestRequests = List.copyOf(slowestRequests);
+      return this;
+    }
+
+    /**
+     * 저속 지연 프로브 결과를 설정한다.
+     *
+     * @param probe 저속 지연 프로브 결과
+     * @return this
+     */
+    public Builder probe(ProbeReport probe) {
+      this.probe = probe;
+      return this;
+    }
+
+    /**
+     * GC 멈춤 보고서를 설정한다.
+     *
+     * @param gcPauses GC 멈춤 보고서
+     * @return this
+     */
+    public Builder gcPauses(GcPauseReport gcPauses) {
+      this.gcPauses = gcPauses;
+      return this;
+    }
+
+    /**
+     * 설정된 값으로 {@link TestResult} 인스턴스를 생성한다.
+     *
+     * @return 새로운 TestResult 인스턴스
+     */
+    public TestResult build() {
+      return new TestResult(totalRequests, successCount, failCount, totalDuration,
+          requestsPerSecond, latencyStats, generatorHealth, adaptiveConcurrency, abortReason, warmup,
+          rateLimit, rawResults, addresses, tls, controlChanges, slowestRequests, probe,
+          gcPauses);
+    }
+  }
+
   /**
    * 지연 시간 통계를 표현하는 불변(Immutable) 레코드.
    *
@@ -72,14 +569,93 @@ public record TestResult(
    * @param max         최대 지연 시간 (밀리초)
    * @param avg         평균 지연 시간 (밀리초)
    * @param percentiles 백분위수 통계
+   * @param avgMicros   평균 지연 시간 (마이크로초)
+   * @param spectrum    전체 지연 시간 분포 (임의 백분위수 계산 및 {@code .hgrm}/CSV 내보내기용)
    */
   public record LatencyStats(
       long min,
       long max,
       double avg,
-      Percentiles percentiles
+      Percentiles percentiles,
+      double avgMicros,
+      LatencySpectrum spectrum
   ) {
 
+    /**
+     * 분포 없이 LatencyStats를 생성한다.
+     *
+     * @param min         최소 지연 시간 (밀리초)
+     * @param max         최대 지연 시간 (밀리초)
+     * @param avg         평균 지연 시간 (밀리초)
+     * @param percentiles 백분위수 통계
+     * @param avgMicros   평균 지연 시간 (마이크로초)
+     */
+    public LatencyStats(long min, long max, double avg, Percentiles percentiles, double avgMicros) {
+      this(min, max, avg, percentiles, avgMicros, LatencySpectrum.empty());
+    }
+
+    /**
+     * 밀리초 값으로 LatencyStats를 생성한다. 평균 마이크로초 값은 밀리초에서 환산된다.
+     *
+     * @param min         최소 지연 시간 (밀리초)
+     * @param max         최대 지연 시간 (밀리초)
+     * @param avg         평균 지연 시간 (밀리초)
+     * @param percentiles 백분위수 통계
+     */
+    public LatencyStats(long min, long max, double avg, Percentiles percentiles) {
+      this(min, max, avg, percentiles, avg * 1_000);
+    }
+
+    /**
+     * 최소 지연 시간을 마이크로초 단위로 반환한다.
+     *
+     * @return 최소 지연 시간 (마이크로초)
+     * @since 1.1.0
+     */
+    public long minMicros() {
+      return percentiles.minMicros();
+    }
+
+    /**
+     * 최대 지연 시간을 마이크로초 단위로 반환한다.
+     *
+     * @return 최대 지연 시간 (마이크로초)
+     * @since 1.1.0
+     */
+    public long maxMicros() {
+      return percentiles.maxMicros();
+    }
+
+    /**
+     * 임의의 백분위수를 마이크로초 단위로 반환한다.
+     *
+     * <p>분포 없이 생성된 LatencyStats는 {@link Percentiles}에 있는 백분위수(0, 50, 90, 95, 99, 100)만
+     * 반환하고 그 외에는 0을 반환한다.
+     *
+     * @param percentile 백분위수 (0-100), 예: 99.9, 99.99
+     * @return 해당 백분위수 (마이크로초)
+     * @since 1.1.0
+     */
+    public long percentileMicros(double percentile) {
+      if (!spectrum.isEmpty()) {
+        return spectrum.valueAtPercentile(percentile);
+      }
+      if (percentile <= 0) {
+        return percentiles.minMicros();
+      } else if (percentile == 50) {
+        return percentiles.p50Micros();
+      } else if (percentile == 90) {
+        return percentiles.p90Micros();
+      } else if (percentile == 95) {
+        return percentiles.p95Micros();
+      } else if (percentile == 99) {
+        return percentiles.p99Micros();
+      } else if (percentile >= 100) {
+        return percentiles.maxMicros();
+      }
+      return 0;
+    }
+
     /**
      * 빈 LatencyStats를 생성한다.
      *
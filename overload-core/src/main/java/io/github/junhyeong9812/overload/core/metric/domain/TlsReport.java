@@ -0,0 +1,48 @@
+package io.github.junhyeong9812.overload.core.metric.domain;
+
+/**
+ * TLS 핸드셰이크 통계를 표현하는 불변(Immutable) 레코드.
+ *
+ * <p>재개 비율이 낮고 연결 수가 많으면 핸드셰이크 비용이 처리량을 제한하고 있을 가능성이 크다.
+ * 지연 시간은 ClientHello 전송부터 핸드셰이크 완료까지이며 네트워크 왕복을 포함한다.
+ *
+ * @param fullHandshakes    서버 인증서를 검증한 전체 핸드셰이크 수
+ * @param resumedHandshakes 이전 세션으로 재개한 핸드셰이크 수
+ * @param failedHandshakes  완료되지 못한 핸드셰이크 수
+ * @param avgMicros         평균 핸드셰이크 지연 시간 (마이크로초)
+ * @param p50Micros         50번째 백분위수 핸드셰이크 지연 시간 (마이크로초)
+ * @param p99Micros         99번째 백분위수 핸드셰이크 지연 시간 (마이크로초)
+ * @param maxMicros         최대 핸드셰이크 지연 시간 (마이크로초)
+ *
+ * @author junhyeong9812
+ * @since 1.1.0
+ */
+public record TlsReport(
+    long fullHandshakes,
+    long resumedHandshakes,
+    long failedHandshakes,
+    double avgMicros,
+    long p50Micros,
+    long p99Micros,
+    long maxMicros
+) {
+
+  /**
+   * 완료된 핸드셰이크 수를 반환한다.
+   *
+   * @return 전체 + 재개 핸드셰이크 수
+   */
+  public long completedHandshakes() {
+    return fullHandshakes + resumedHandshakes;
+  }
+
+  /**
+   * 완료된 핸드셰이크 중 재개된 비율을 반환한다.
+   *
+   * @return 재개 비율 (0.0 ~ 1.0), 핸드셰이크가 없으면 0.0
+   */
+  public double resumptionRate() {
+    long completed = completedHandshakes();
+    return completed > 0 ? (double) resumedHandshakes / completed : 0;
+  }
+}
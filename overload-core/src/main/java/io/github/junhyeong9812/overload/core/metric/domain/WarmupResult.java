@@ -0,0 +1,49 @@
+package io.github.junhyeong9812.overload.core.metric.domain;
+
+import io.github.junhyeong9812.overload.core.metric.domain.TestResult.LatencyStats;
+
+import java.time.Duration;
+
+/**
+ * 워밍업 구간의 결과를 표현하는 불변(Immutable) 레코드.
+ *
+ * <p>워밍업 동안에도 부하는 그대로 걸리지만, JIT 컴파일, DNS 조회, TCP/TLS 핸드셰이크,
+ * 대상 서버의 콜드 캐시 등이 섞이므로 최종 백분위수에서 제외하고 따로 보고한다.
+ *
+ * @param totalRequests     워밍업 요청 수
+ * @param successCount      성공한 워밍업 요청 수
+ * @param failCount         실패한 워밍업 요청 수
+ * @param duration          워밍업 소요 시간
+ * @param requestsPerSecond 워밍업 초당 요청 수
+ * @param latencyStats      워밍업 지연 시간 통계
+ *
+ * @author junhyeong9812
+ * @since 1.1.0
+ * @see TestResult#warmup()
+ */
+public record WarmupResult(
+    int totalRequests,
+    int successCount,
+    int failCount,
+    Duration duration,
+    double requestsPerSecond,
+    LatencyStats latencyStats
+) {
+
+  /**
+   * 워밍업 구간만 집계한 TestResult로부터 WarmupResult를 생성한다.
+   *
+   * @param result 워밍업 구간 집계 결과
+   * @return 워밍업 결과
+   */
+  public static WarmupResult from(TestResult result) {
+    return new WarmupResult(
+        result.totalRequests(),
+        result.successCount(),
+        result.failCount(),
+        result.totalDuration(),
+        result.requestsPerSecond(),
+        result.latencyStats()
+    );
+  }
+}
\ No newline at end of file
@@ -0,0 +1,195 @@
+package io.github.junhyeong9812.overload.core.metric.infrastructure;
+
+import io.github.junhyeong9812.overload.core.exception.LoadTestException;
+import io.github.junhyeong9812.overload.core.metric.domain.LogLinearHistogram;
+import io.github.junhyeong9812.overload.core.metric.domain.RunCheckpoint;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * {@link RunCheckpoint}를 로컬 파일에 저장하고 읽는 저장소.
+ *
+ * <p>같은 디렉터리의 임시 파일({@code <이름>.tmp})에 쓰고 디스크에 동기화한 뒤 원자적 이름 변경으로
+ * 교체한다. 저장 도중 프로세스나 호스트가 죽어도 대상 파일은 직전 체크포인트이거나 새 체크포인트이며,
+ * 반쯤 쓰인 상태가 되지 않는다. 파일 시스템이 원자적 이동을 지원하지 않으면 일반 교체로 대신한다.
+ *
+ * <p>형식은 매직 넘버와 버전으로 시작하는 이진 형식이며, 히스토그램은 비어 있지 않은 버킷만 저장하므로
+ * 파일 크기는 수십 KB 이하다.
+ *
+ * @author junhyeong9812
+ * @since 1.1.0
+ */
+public final class CheckpointFile {
+
+  private static final int MAGIC = 0x4F564C43; // "OVLC"
+  private static final int VERSION = 1;
+
+  private final Path path;
+  private final Path tempPath;
+
+  /**
+   * 지정된 경로의 체크포인트 파일을 생성한다.
+   *
+   * @param path 체크포인트 파일 경로
+   */
+  public CheckpointFile(Path path) {
+    this.path = Objects.requireNonNull(path, "path");
+    this.tempPath = path.resolveSibling(path.getFileName() + ".tmp");
+  }
+
+  /**
+   * 체크포인트 파일 경로를 반환한다.
+   *
+   * @return 체크포인트 파일 경로
+   */
+  public Path path() {
+    return path;
+  }
+
+  /**
+   * 체크포인트를 원자적으로 저장한다.
+   *
+   * @param checkpoint 저장할 체크포인트
+   * @throws LoadTestException 파일을 쓸 수 없는 경우
+   */
+  public void write(RunCheckpoint checkpoint) {
+    try {
+      Path parent = path.toAbsolutePath().getParent();
+      if (parent != null) {
+        Files.createDirectories(parent);
+      }
+      try (FileChannel channel = FileChannel.open(tempPath,
+          StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+        DataOutputStream out = new DataOutputStream(
+            new BufferedOutputStream(Channels.newOutputStream(channel)));
+        writeTo(out, checkpoint);
+        out.flush();
+        channel.force(true);
+      }
+      try {
+        Files.move(tempPath, path,
+            StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+      } catch (AtomicMoveNotSupportedException e) {
+        Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING);
+      }
+    } catch (IOException e) {
+      throw new LoadTestException("Failed to write checkpoint " + path + ": " + e.getMessage(), e);
+    }
+  }
+
+  /**
+   * 저장된 체크포인트를 읽는다.
+   *
+   * @return 체크포인트, 파일이 없으면 빈 Optional
+   * @throws LoadTestException 파일을 읽을 수 없거나 형식이 올바르지 않은 경우
+   */
+  public Optional<RunCheckpoint> read() {
+    try (DataInputStream in = new DataInputStream(
+        new BufferedInputStream(Files.newInputStream(path)))) {
+      if (in.readInt() != MAGIC) {
+        throw new LoadTestException("Not an Overload checkpoint: " + path);
+      }
+      int version = in.readInt();
+      if (version != VERSION) {
+        throw new LoadTestException("Unsupported checkpoint version " + version + ": " + path);
+      }
+      return Optional.of(readFrom(in));
+    } catch (NoSuchFileException e) {
+      return Optional.empty();
+    } catch (IOException | IllegalArgumentException e) {
+      throw new LoadTestException("Failed to read checkpoint " + path + ": " + e, e);
+    }
+  }
+
+  /**
+   * 체크포인트 파일과 남은 임시 파일을 삭제한다.
+   *
+   * @throws LoadTestException 파일을 삭제할 수 없는 경우
+   */
+  public void delete() {
+    try {
+      Files.deleteIfExists(path);
+      Files.deleteIfExists(tempPath);
+    } catch (IOException e) {
+      throw new LoadTestException("Failed to delete checkpoint " + path + ": " + e.getMessage(), e);
+    }
+  }
+
+  private static void writeTo(DataOutputStream out, RunCheckpoint checkpoint) throws IOException {
+    out.writeInt(MAGIC);
+    out.writeInt(VERSION);
+    out.writeUTF(checkpoint.url());
+    out.writeInt(checkpoint.totalRequests());
+    out.writeBoolean(checkpoint.measuring());
+    out.writeLong(checkpoint.savedAt().toEpochMilli());
+    writeMetrics(out, checkpoint.warmup());
+    writeMetrics(out, checkpoint.measured());
+  }
+
+  private static void writeMetrics(DataOutputStream out, RunCheckpoint.Metrics metrics)
+      throws IOException {
+    out.writeLong(metrics.totalRequests());
+    out.writeLong(metrics.successCount());
+    out.writeLong(metrics.failCount());
+    out.writeLong(metrics.elapsedMillis());
+    LogLinearHistogram.State latency = metrics.latency();
+    out.writeLong(latency.sum());
+    out.writeLong(latency.min());
+    out.writeLong(latency.max());
+    out.writeInt(latency.indexes().length);
+    for (int i = 0; i < latency.indexes().length; i++) {
+      out.writeInt(latency.indexes()[i]);
+      out.writeLong(latency.counts()[i]);
+    }
+  }
+
+  private static RunCheckpoint readFrom(DataInputStream in) throws IOException {
+    String url = in.readUTF();
+    int totalRequests = in.readInt();
+    boolean measuring = in.readBoolean();
+    Instant savedAt = Instant.ofEpochMilli(in.readLong());
+    RunCheckpoint.Metrics warmup = readMetrics(in);
+    RunCheckpoint.Metrics measured = readMetrics(in);
+    return new RunCheckpoint(url, totalRequests, measuring, warmup, measured, savedAt);
+  }
+
+  private static RunCheckpoint.Metrics readMetrics(DataInputStream in) throws IOException {
+    long total = in.readLong();
+    long success = in.readLong();
+    long fail = in.readLong();
+    long elapsed = in.readLong();
+    long sum = in.readLong();
+    long min = in.readLong();
+    long max = in.readLong();
+    int buckets = in.readInt();
+    if (buckets < 0) {
+      throw new IOException("Corrupt histogram bucket count " + buckets);
+    }
+    int[] indexes = new int[buckets];
+    long[] counts = new long[buckets];
+    for (int i = 0; i < buckets; i++) {
+      indexes[i] = in.readInt();
+      counts[i] = in.readLong();
+      if (indexes[i] < 0 || counts[i] < 0) {
+        throw new IOException("Corrupt histogram bucket " + indexes[i]);
+      }
+    }
+    return new RunCheckpoint.Metrics(total, success, fail, elapsed,
+        new LogLinearHistogram.State(indexes, counts, sum, min, max));
+  }
+}
\ No newline at end of file
@@ -0,0 +1,268 @@
+package io.github.junhyeong9812.overload.core.sweep.application;
+
+import io.github.junhyeong9812.overload.core.LoadTester;
+import io.github.junhyeong9812.overload.core.callback.ProgressCallback;
+import io.github.junhyeong9812.overload.core.config.LoadTestConfig;
+import io.github.junhyeong9812.overload.core.http.application.port.HttpClientPort;
+import io.github.junhyeong9812.overload.core.http.infrastructure.HttpClients;
+import io.github.junhyeong9812.overload.core.metric.domain.Percentiles;
+import io.github.junhyeong9812.overload.core.metric.domain.TestResult;
+import io.github.junhyeong9812.overload.core.sweep.domain.SweepResult;
+import io.github.junhyeong9812.overload.core.sweep.domain.SweepStage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 동시성을 단계적으로 올리며 처리량-지연 곡선을 측정하고 USL을 적합하는 스윕 실행기.
+ *
+ * <p>각 단계는 같은 HTTP 클라이언트로 실행되므로 앞 단계에서 열린 연결이 재사용된다.
+ * 단계마다 측정 전에 동시성 × {@code settleRequestsPerConnection}개의 요청을 먼저 보내
+ * 새 동시성에 필요한 연결을 미리 열고, 이 요청은 결과에 포함하지 않는다.
+ *
+ * <p>단계 요청 수는 최소 동시성 × {@value #MIN_REQUESTS_PER_CONNECTION}로 보정하여
+ * 램프업/드레인 구간이 처리량 측정에 미치는 영향을 줄인다.
+ * 오류율이 {@code maxErrorRate}를 넘는 단계가 나오면 스윕을 멈추고,
+ * 해당 단계는 USL 적합에서 제외한다.
+ *
+ * <p><b>사용 예시:</b>
+ * <pre>{@code
+ * SweepResult result = ConcurrencySweep.builder()
+ *     .template(LoadTestConfig.builder().url("http://localhost:8080/api").build())
+ *     .concurrencyLevels(List.of(1, 2, 4, 8, 16, 32, 64, 128))
+ *     .requestsPerStage(5_000)
+ *     .build()
+ *     .run(stage -> System.out.println(stage));
+ *
+ * if (result.hasUslFit()) {
+ *     System.out.println("Predicted peak: " + result.usl().peakThroughput());
+ * }
+ * }</pre>
+ *
+ * @author junhyeong9812
+ * @since 1.1.0
+ * @see UslFitter
+ */
+public class ConcurrencySweep {
+
+  /** 단계 요청 수의 하한 - 동시성 대비 배수 */
+  static final int MIN_REQUESTS_PER_CONNECTION = 20;
+
+  private final LoadTestConfig template;
+  private final List<Integer> concurrencyLevels;
+  private final int requestsPerStage;
+  private final int settleRequestsPerConnection;
+  private final double maxErrorRate;
+
+  private ConcurrencySweep(Builder builder) {
+    this.template = builder.template;
+    this.concurrencyLevels = builder.concurrencyLevels;
+    this.requestsPerStage = builder.requestsPerStage;
+    this.settleRequestsPerConnection = builder.settleRequestsPerConnection;
+    this.maxErrorRate = builder.maxErrorRate;
+  }
+
+  /**
+   * 새로운 Builder 인스턴스를 생성한다.
+   *
+   * @return 새로운 {@link Builder} 인스턴스
+   */
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * 스윕을 실행한다.
+   *
+   * @return 스윕 결과
+   */
+  public SweepResult run() {
+    return run(stage -> {});
+  }
+
+  /**
+   * 기본 JDK HTTP 클라이언트 하나로 모든 단계를 실행한다.
+   *
+   * @param listener 단계 완료 시 호출되는 리스너
+   * @return 스윕 결과
+   */
+  public SweepResult run(StageListener listener) {
+    try (HttpClientPort httpClient = HttpClients.from(template)) {
+      return run(httpClient, listener);
+    }
+  }
+
+  /**
+   * 지정된 HTTP 클라이언트 하나로 모든 단계를 실행한다.
+   *
+   * @param httpClient 모든 단계에서 재사용할 HTTP 클라이언트
+   * @param listener   단계 완료 시 호출되는 리스너
+   * @return 스윕 결과
+   */
+  public SweepResult run(HttpClientPort httpClient, StageListener listener) {
+    List<SweepStage> stages = new ArrayList<>();
+    List<SweepStage> valid = new ArrayList<>();
+
+    for (int concurrency : concurrencyLevels) {
+      if (settleRequestsPerConnection > 0) {
+        LoadTester.run(stageConfig(concurrency, concurrency * settleRequestsPerConnection),
+            ProgressCallback.noop(), httpClient);
+      }
+      int requests = Math.max(requestsPerStage, concurrency * MIN_REQUESTS_PER_CONNECTION);
+      TestResult result = LoadTester.run(
+          stageConfig(concurrency, requests), ProgressCallback.noop(), httpClient);
+
+      SweepStage stage = toStage(concurrency, result);
+      stages.add(stage);
+      listener.onStage(stage);
+
+      if (stage.errorRate() > maxErrorRate) {
+        break;
+      }
+      valid.add(stage);
+    }
+
+    return new SweepResult(template.url(), stages, UslFitter.fit(valid));
+  }
+
+  private LoadTestConfig stageConfig(int concurrency, int totalRequests) {
+    return template.toBuilder()
+        .concurrency(concurrency)
+        .totalRequests(totalRequests)
+        .adaptiveConcurrency(null)
+        .flightRecording(null)
+        .build();
+  }
+
+  /**
+   * 단계 실행 결과를 스윕 단계로 변환한다.
+   */
+  static SweepStage toStage(int concurrency, TestResult result) {
+    Percentiles p = result.latencyStats().percentiles();
+    double avgMs = result.latencyStats().avg();
+    double rps = result.requestsPerSecond();
+    return new SweepStage(
+        concurrency,
+        result.totalRequests(),
+        rps,
+        avgMs,
+        p.p50(),
+        p.p90(),
+        p.p99(),
+        result.failRate() / 100,
+        rps * avgMs / 1_000
+    );
+  }
+
+  /**
+   * 스윕 단계 완료 리스너.
+   */
+  @FunctionalInterface
+  public interface StageListener {
+
+    /**
+     * 단계 하나가 끝날 때마다 호출된다.
+     *
+     * @param stage 단계 측정 결과
+     */
+    void onStage(SweepStage stage);
+  }
+
+  /**
+   * {@link ConcurrencySweep} 인스턴스를 생성하기 위한 빌더 클래스.
+   *
+   * @author junhyeong9812
+   * @since 1.1.0
+   */
+  public static class Builder {
+
+    private LoadTestConfig template;
+    private List<Integer> concurrencyLevels = List.of(1, 2, 4, 8, 16, 32, 64, 128, 256);
+    private int requestsPerStage = 5_000;
+    private int settleRequestsPerConnection = 2;
+    private double maxErrorRate = 0.05;
+
+    /**
+     * 요청 템플릿을 설정한다.
+     *
+     * <p>URL, 메서드, 헤더, 본문, 타임아웃이 모든 단계에 사용되며,
+     * 동시성과 요청 수는 단계마다 덮어쓴다.
+     *
+     * @param template 요청 템플릿 (필수)
+     * @return this
+     */
+    public Builder template(LoadTestConfig template) {
+      this.template = template;
+      return this;
+    }
+
+    /**
+     * 측정할 동시성 단계를 설정한다.
+     *
+     * @param concurrencyLevels 동시성 목록 (기본값: 1, 2, 4, ..., 256)
+     * @return this
+     */
+    public Builder concurrencyLevels(List<Integer> concurrencyLevels) {
+      this.concurrencyLevels = concurrencyLevels.stream().sorted().distinct().toList();
+      return this;
+    }
+
+    /**
+     * 단계당 측정 요청 수를 설정한다.
+     *
+     * @param requestsPerStage 단계당 요청 수 (기본값: 5,000, 최소 동시성 × 20으로 보정)
+     * @return this
+     */
+    public Builder requestsPerStage(int requestsPerStage) {
+      this.requestsPerStage = requestsPerStage;
+      return this;
+    }
+
+    /**
+     * 단계 측정 전 연결당 선행 요청 수를 설정한다.
+     *
+     * @param settleRequestsPerConnection 연결당 선행 요청 수 (기본값: 2, 0이면 생략)
+     * @return this
+     */
+    public Builder settleRequestsPerConnection(int settleRequestsPerConnection) {
+      this.settleRequestsPerConnection = settleRequestsPerConnection;
+      return this;
+    }
+
+    /**
+     * 스윕을 멈출 오류율을 설정한다.
+     *
+     * @param maxErrorRate 단계 오류율 상한 (기본값: 0.05)
+     * @return this
+     */
+    public Builder maxErrorRate(double maxErrorRate) {
+      this.maxErrorRate = maxErrorRate;
+      return this;
+    }
+
+    /**
+     * 설정된 값으로 {@link ConcurrencySweep} 인스턴스를 생성한다.
+     *
+     * @return 새로운 ConcurrencySweep 인스턴스
+     * @throws NullPointerException     template이 null인 경우
+     * @throws IllegalArgumentException 유효성 검증 실패 시
+     */
+    public ConcurrencySweep build() {
+      Objects.requireNonNull(template, "Template config is required");
+      if (concurrencyLevels.isEmpty() || concurrencyLevels.get(0) < 1) {
+        throw new IllegalArgumentException("Concurrency levels must be non-empty and >= 1");
+      }
+      if (requestsPerStage < 1) {
+        throw new IllegalArgumentException("Requests per stage must be >= 1");
+      }
+      if (settleRequestsPerConnection < 0) {
+        throw new IllegalArgumentException("Settle requests per connection must be >= 0");
+      }
+      if (maxErrorRate < 0 || maxErrorRate > 1) {
+        throw new IllegalArgumentException("Max error rate must be between 0 and 1");
+      }
+      return new ConcurrencySweep(this);
+    }
+  }
+}
@@ -0,0 +1,148 @@
+package io.github.junhyeong9812.overload.core.sweep.application;
+
+import io.github.junhyeong9812.overload.core.sweep.domain.SweepStage;
+import io.github.junhyeong9812.overload.core.sweep.domain.UslFit;
+
+import java.util.List;
+
+/**
+ * 측정된 동시성-처리량 지점에 Universal Scalability Law를 적합한다.
+ *
+ * <p>USL을 변형하면 N / X(N)은 N에 대한 2차식이 된다.
+ * <pre>
+ *   N / X = c0 + c1·N + c2·N²
+ *   c0 = (1 - σ) / λ,  c1 = (σ - κ) / λ,  c2 = κ / λ
+ * </pre>
+ * 따라서 최소제곱 2차 회귀로 c0, c1, c2를 구한 뒤
+ * λ = 1 / (c0 + c1 + c2), κ = c2·λ, σ = 1 - c0·λ로 계수를 복원한다.
+ * 계수는 물리적으로 의미 있는 범위(0 ≤ σ &lt; 1, κ ≥ 0)로 보정한다.
+ *
+ * @author junhyeong9812
+ * @since 1.1.0
+ * @see UslFit
+ */
+public final class UslFitter {
+
+  /** 적합에 필요한 최소 지점 수 (미지수 3개) */
+  public static final int MIN_POINTS = 3;
+
+  private UslFitter() {
+  }
+
+  /**
+   * 단계별 측정 결과에 USL을 적합한다.
+   *
+   * <p>처리량이 0인 단계는 제외한다.
+   *
+   * @param stages 측정 단계 목록
+   * @return 적합 결과, 유효한 서로 다른 동시성이 3개 미만이거나 적합이 불가능하면 null
+   */
+  public static UslFit fit(List<SweepStage> stages) {
+    List<SweepStage> points = stages.stream()
+        .filter(stage -> stage.requestsPerSecond() > 0)
+        .toList();
+    if (points.stream().mapToInt(SweepStage::concurrency).distinct().count() < MIN_POINTS) {
+      return null;
+    }
+
+    // 조건수를 줄이기 위해 N을 최대 동시성으로 정규화한 뒤 정규 방정식을 푼다
+    double scale = points.stream().mapToInt(SweepStage::concurrency).max().orElse(1);
+    double[][] a = new double[3][4];
+    for (SweepStage stage : points) {
+      double n = stage.concurrency() / scale;
+      double y = stage.concurrency() / stage.requestsPerSecond();
+      double[] powers = {1, n, n * n, n * n * n, n * n * n * n};
+      for (int row = 0; row < 3; row++) {
+        for (int col = 0; col < 3; col++) {
+          a[row][col] += powers[row + col];
+        }
+        a[row][3] += powers[row] * y;
+      }
+    }
+    double[] c = solve(a);
+    if (c == null) {
+      return null;
+    }
+    c[1] /= scale;
+    c[2] /= scale * scale;
+
+    double inverseLambda = c[0] + c[1] + c[2];
+    if (!(inverseLambda > 0)) {
+      return null;
+    }
+    double lambda = 1 / inverseLambda;
+    double kappa = Math.max(0, c[2] * lambda);
+    double sigma = Math.min(Math.max(0, 1 - c[0] * lambda), 1 - 1e-9);
+
+    double peakConcurrency;
+    double peakThroughput;
+    if (kappa > 0) {
+      peakConcurrency = Math.sqrt((1 - sigma) / kappa);
+      peakThroughput = lambda * peakConcurrency
+          / (1 + sigma * (peakConcurrency - 1) + kappa * peakConcurrency * (peakConcurrency - 1));
+    } else {
+      peakConcurrency = Double.POSITIVE_INFINITY;
+      peakThroughput = sigma > 0 ? lambda / sigma : Double.POSITIVE_INFINITY;
+    }
+
+    UslFit fit = new UslFit(lambda, sigma, kappa, peakConcurrency, peakThroughput, 0);
+    return new UslFit(lambda, sigma, kappa, peakConcurrency, peakThroughput,
+        rSquared(points, fit));
+  }
+
+  /**
+   * 측정 처리량에 대한 결정 계수를 계산한다.
+   */
+  private static double rSquared(List<SweepStage> points, UslFit fit) {
+    double mean = points.stream().mapToDouble(SweepStage::requestsPerSecond).average().orElse(0);
+    double residual = 0;
+    double total = 0;
+    for (SweepStage stage : points) {
+      double actual = stage.requestsPerSecond();
+      double predicted = fit.predict(stage.concurrency());
+      residual += (actual - predicted) * (actual - predicted);
+      total += (actual - mean) * (actual - mean);
+    }
+    return total > 0 ? 1 - residual / total : 1;
+  }
+
+  /**
+   * 부분 피벗 가우스 소거로 3x3 선형 방정식을 푼다.
+   *
+   * @param m 첨가 행렬 (3 x 4), 변경된다
+   * @return 해, 특이 행렬이면 null
+   */
+  private static double[] solve(double[][] m) {
+    int n = 3;
+    for (int col = 0; col < n; col++) {
+      int pivot = col;
+      for (int row = col + 1; row < n; row++) {
+        if (Math.abs(m[row][col]) > Math.abs(m[pivot][col])) {
+          pivot = row;
+        }
+      }
+      if (Math.abs(m[pivot][col]) < 1e-300) {
+        return null;
+      }
+      double[] tmp = m[col];
+      m[col] = m[pivot];
+      m[pivot] = tmp;
+
+      for (int row = col + 1; row < n; row++) {
+        double factor = m[row][col] / m[col][col];
+        for (int k = col; k <= n; k++) {
+          m[row][k] -= factor * m[col][k];
+        }
+      }
+    }
+    double[] x = new double[n];
+    for (int row = n - 1; row >= 0; row--) {
+      double sum = m[row][n];
+      for (int k = row + 1; k < n; k++) {
+        sum -= m[row][k] * x[k];
+      }
+      x[row] = sum / m[row][row];
+    }
+    return x;
+  }
+}
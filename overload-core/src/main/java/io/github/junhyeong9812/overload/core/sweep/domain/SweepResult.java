@@ -0,0 +1,36 @@
+package io.github.junhyeong9812.overload.core.sweep.domain;
+
+import java.util.List;
+
+/**
+ * 동시성 스윕 결과를 표현하는 불변(Immutable) 레코드.
+ *
+ * @param url    대상 URL
+ * @param stages 동시성 오름차순 단계별 측정 결과
+ * @param usl    USL 적합 결과 (nullable - 유효한 단계가 3개 미만이면 null)
+ *
+ * @author junhyeong9812
+ * @since 1.1.0
+ */
+public record SweepResult(
+    String url,
+    List<SweepStage> stages,
+    UslFit usl
+) {
+
+  /**
+   * Compact constructor - 단계 목록을 불변 리스트로 복사한다.
+   */
+  public SweepResult {
+    stages = List.copyOf(stages);
+  }
+
+  /**
+   * USL 적합 결과가 있는지 확인한다.
+   *
+   * @return 적합 결과가 있으면 {@code true}
+   */
+  public boolean hasUslFit() {
+    return usl != null;
+  }
+}
@@ -0,0 +1,34 @@
+package io.github.junhyeong9812.overload.core.sweep.domain;
+
+/**
+ * 동시성 스윕의 단일 단계 측정 결과를 표현하는 불변(Immutable) 레코드.
+ *
+ * <p>{@code littleConcurrency}는 리틀의 법칙(N = X × R)으로 계산한 실제 평균 동시성이다.
+ * 설정한 동시성보다 크게 낮으면 생성기가 목표 동시성을 유지하지 못했거나
+ * 단계가 너무 짧아 램프업/드레인 구간의 비중이 크다는 뜻이다.
+ *
+ * @param concurrency       설정한 동시성
+ * @param requests          측정한 요청 수
+ * @param requestsPerSecond 처리량 X (초당 요청 수)
+ * @param avgMs             평균 응답 시간 R (밀리초)
+ * @param p50Ms             50번째 백분위수 (밀리초)
+ * @param p90Ms             90번째 백분위수 (밀리초)
+ * @param p99Ms             99번째 백분위수 (밀리초)
+ * @param errorRate         오류율 (0.0 ~ 1.0)
+ * @param littleConcurrency 리틀의 법칙으로 계산한 평균 동시성 (X × R)
+ *
+ * @author junhyeong9812
+ * @since 1.1.0
+ */
+public record SweepStage(
+    int concurrency,
+    int requests,
+    double requestsPerSecond,
+    double avgMs,
+    long p50Ms,
+    long p90Ms,
+    long p99Ms,
+    double errorRate,
+    double littleConcurrency
+) {
+}
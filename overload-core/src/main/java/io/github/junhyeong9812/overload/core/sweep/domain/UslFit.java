@@ -0,0 +1,60 @@
+package io.github.junhyeong9812.overload.core.sweep.domain;
+
+/**
+ * Universal Scalability Law(USL) 적합 결과를 표현하는 불변(Immutable) 레코드.
+ *
+ * <p>USL은 동시성 N에서의 처리량을 다음과 같이 모델링한다.
+ * <pre>
+ *   X(N) = λN / (1 + σ(N - 1) + κN(N - 1))
+ * </pre>
+ * σ(경합)는 직렬화된 구간(락, 단일 자원 대기)으로 인한 손실,
+ * κ(일관성)는 노드 간 조율(캐시 무효화, 분산 합의)로 인한 손실이다.
+ * κ &gt; 0이면 처리량은 N* = √((1 - σ) / κ)에서 최대가 되고 이후 감소한다.
+ *
+ * <p><b>사용 예시:</b>
+ * <pre>{@code
+ * UslFit fit = sweepResult.usl();
+ * System.out.printf("σ=%.4f κ=%.6f peak %.0f req/s @ N=%.0f%n",
+ *     fit.sigma(), fit.kappa(), fit.peakThroughput(), fit.peakConcurrency());
+ * double predicted = fit.predict(256);
+ * }</pre>
+ *
+ * @param lambda          단일 동시성 처리량 λ (초당 요청 수)
+ * @param sigma           경합 계수 σ
+ * @param kappa           일관성 계수 κ
+ * @param peakConcurrency 예측 최대 처리량 동시성 N* (κ가 0이면 무한대)
+ * @param peakThroughput  예측 최대 처리량 (κ가 0이면 λ / σ 점근값, σ도 0이면 무한대)
+ * @param rSquared        측정 처리량에 대한 결정 계수 R²
+ *
+ * @author junhyeong9812
+ * @since 1.1.0
+ */
+public record UslFit(
+    double lambda,
+    double sigma,
+    double kappa,
+    double peakConcurrency,
+    double peakThroughput,
+    double rSquared
+) {
+
+  /**
+   * 지정된 동시성에서의 처리량을 예측한다.
+   *
+   * @param concurrency 동시성 N
+   * @return 예측 처리량 (초당 요청 수)
+   */
+  public double predict(double concurrency) {
+    return lambda * concurrency
+        / (1 + sigma * (concurrency - 1) + kappa * concurrency * (concurrency - 1));
+  }
+
+  /**
+   * 예측 최대 처리량 지점이 유한한지 확인한다.
+   *
+   * @return κ &gt; 0이어서 처리량이 감소로 돌아서는 지점이 있으면 {@code true}
+   */
+  public boolean hasPeak() {
+    return Double.isFinite(peakConcurrency);
+  }
+}
@@ -0,0 +1,180 @@
+package io.github.junhyeong9812.overload.core;
+
+import io.github.junhyeong9812.overload.core.config.LoadTestConfig;
+import io.github.junhyeong9812.overload.core.http.application.port.HttpClientPort;
+import io.github.junhyeong9812.overload.core.http.domain.ErrorType;
+import io.github.junhyeong9812.overload.core.http.domain.HttpRequest;
+import io.github.junhyeong9812.overload.core.http.domain.RequestResult;
+import io.github.junhyeong9812.overload.core.metric.domain.TestResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * {@link LoadTesterSession} 테스트.
+ *
+ * @author junhyeong9812
+ * @since 1.1.0
+ */
+@DisplayName("LoadTesterSession")
+class LoadTesterSessionTest {
+
+  private final List<CountingHttpClient> created = new CopyOnWriteArrayList<>();
+
+  private LoadTesterSession newSession() {
+    return new LoadTesterSession(timeout -> {
+      CountingHttpClient client = new CountingHttpClient();
+      created.add(client);
+      return client;
+    });
+  }
+
+  private static LoadTestConfig config(int totalRequests) {
+    return LoadTestConfig.builder()
+        .url("https://api.example.com")
+        .totalRequests(totalRequests)
+        .concurrency(5)
+        .build();
+  }
+
+  @Nested
+  @DisplayName("클라이언트 재사용")
+  class ReuseTest {
+
+    @Test
+    @DisplayName("같은 타임아웃의 실행은 하나의 클라이언트를 공유한다")
+    void sharesClientAcrossRuns() {
+      try (LoadTesterSession session = newSession()) {
+        TestResult first = session.run(config(20));
+        TestResult second = session.run(config(30));
+
+        assertThat(first.totalRequests()).isEqualTo(20);
+        assertThat(second.totalRequests()).isEqualTo(30);
+        assertThat(created).hasSize(1);
+        assertThat(created.get(0).sent.get()).isEqualTo(50);
+        assertThat(created.get(0).closed.get()).isZero();
+        assertThat(session.getRunCount()).isEqualTo(2);
+      }
+    }
+
+    @Test
+    @DisplayName("타임아웃이 달라도 하나의 클라이언트를 공유하고 타임아웃은 실행마다 적용한다")
+    void sharesClientAcrossTimeouts() {
+      try (LoadTesterSession session = newSession()) {
+        session.run(config(10));
+        session.run(config(10).toBuilder().timeout(Duration.ofSeconds(3)).build());
+
+        assertThat(created).hasSize(1);
+        assertThat(created.get(0).sent.get()).isEqualTo(20);
+        assertThat(created.get(0).timeouts)
+            .containsExactly(Duration.ofSeconds(5), Duration.ofSeconds(3));
+      }
+    }
+
+    @Test
+    @DisplayName("클라이언트가 상한을 넘으면 가장 오래 쓰지 않은 클라이언트를 닫는다")
+    void evictsLeastRecentlyUsedClient() throws UnknownHostException {
+      try (LoadTesterSession session = newSession()) {
+        for (int i = 1; i <= 9; i++) {
+          session.run(config(1).toBuilder()
+              .localAddresses(List.of(InetAddress.getByName("127.0.0." + i)))
+              .build());
+        }
+
+        assertThat(created).hasSize(9);
+        assertThat(session.getClientCount()).isEqualTo(8);
+        assertThat(created.get(0).closed.get()).isEqualTo(1);
+        assertThat(created.get(1).closed.get()).isZero();
+      }
+    }
+  }
+
+  @Nested
+  @DisplayName("close")
+  class CloseTest {
+
+    @Test
+    @DisplayName("닫으면 모든 클라이언트를 닫는다")
+    void closesClients() {
+      LoadTesterSession session = newSession();
+      session.run(config(10));
+
+      session.close();
+      session.close();
+
+      assertThat(session.isClosed()).isTrue();
+      assertThat(created.get(0).closed.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("닫으면 실행 중인 테스트를 취소하고 부분 결과로 끝낸다")
+    void cancelsActiveRuns() throws TimeoutException {
+      LoadTesterSession session = newSession();
+      LoadTestHandle handle = session.start(config(100_000));
+      long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+      while (handle.getCompletedCount() < 10 && System.nanoTime() < deadline) {
+        Thread.onSpinWait();
+      }
+
+      session.close();
+      TestResult result = handle.await(Duration.ofSeconds(5));
+
+      assertThat(result.isAborted()).isTrue();
+      assertThat(result.abortReason()).isEqualTo("Session closed");
+      assertThat(session.getActiveCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("닫힌 세션에서는 실행할 수 없다")
+    void rejectsRunAfterClose() {
+      LoadTesterSession session = newSession();
+      session.close();
+
+      assertThatThrownBy(() -> session.run(config(10)))
+          .isInstanceOf(IllegalStateException.class);
+    }
+  }
+
+  /**
+   * 전송과 close 횟수를 세고, 1ms씩 인터럽트 가능하게 대기하는 Mock.
+   */
+  static class CountingHttpClient implements HttpClientPort {
+    final AtomicInteger sent = new AtomicInteger();
+    final AtomicInteger closed = new AtomicInteger();
+    final List<Duration> timeouts = new CopyOnWriteArrayList<>();
+
+    @Override
+    public RequestResult send(HttpRequest request) {
+      sent.incrementAndGet();
+      try {
+        Thread.sleep(1);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return new RequestResult.Failure("Request interrupted", ErrorType.UNKNOWN, 1);
+      }
+      return new RequestResult.Success(200, 1);
+    }
+
+    @Override
+    public HttpClientPort withTimeout(Duration timeout) {
+      timeouts.add(timeout);
+      return this::send;
+    }
+
+    @Override
+    public void close() {
+      closed.incrementAndGet();
+    }
+  }
+}
\ No newline at end of file
@@ -2,19 +2,35 @@ package io.github.junhyeong9812.overload.core;
 
 import io.github.junhyeong9812.overload.core.callback.LoggingProgressCallback;
 import io.github.junhyeong9812.overload.core.callback.ProgressCallback;
+import io.github.junhyeong9812.overload.core.config.AddressSpreadConfig;
+import io.github.junhyeong9812.overload.core.config.CheckpointConfig;
+import io.github.junhyeong9812.overload.core.config.HttpMethod;
+import io.github.junhyeong9812.overload.core.config.LoadControl;
 import io.github.junhyeong9812.overload.core.config.LoadTestConfig;
+import io.github.junhyeong9812.overload.core.config.OverflowPolicy;
+import io.github.junhyeong9812.overload.core.config.ProbeConfig;
+import io.github.junhyeong9812.overload.core.config.ProgressDispatchConfig;
+import io.github.junhyeong9812.overload.core.exception.LoadTestException;
 import io.github.junhyeong9812.overload.core.http.application.port.HttpClientPort;
 import io.github.junhyeong9812.overload.core.http.domain.ErrorType;
 import io.github.junhyeong9812.overload.core.http.domain.HttpRequest;
 import io.github.junhyeong9812.overload.core.http.domain.RequestResult;
+import io.github.junhyeong9812.overload.core.metric.domain.ControlChange;
 import io.github.junhyeong9812.overload.core.metric.domain.TestResult;
+import io.github.junhyeong9812.overload.core.metric.infrastructure.CheckpointFile;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.within;
 
 /**
@@ -65,6 +81,33 @@ class LoadTesterTest {
       assertThat(callbackCount.get()).isEqualTo(10);
     }
 
+    @Test
+    @DisplayName("비동기 배치 전달을 설정하면 콜백이 요청 스레드 밖에서 모두 호출된다")
+    void runWithAsyncDispatch() {
+      AtomicInteger callbackCount = new AtomicInteger(0);
+      AtomicInteger requestThreadCalls = new AtomicInteger(0);
+
+      LoadTestConfig config = LoadTestConfig.builder()
+          .url("https://api.example.com")
+          .totalRequests(100)
+          .concurrency(10)
+          .progressDispatch(ProgressDispatchConfig.builder()
+              .overflowPolicy(OverflowPolicy.BLOCK)
+              .build())
+          .build();
+
+      TestResult result = LoadTester.run(config, (completed, total, requestResult) -> {
+        callbackCount.incrementAndGet();
+        if (Thread.currentThread().isVirtual()) {
+          requestThreadCalls.incrementAndGet();
+        }
+      }, new MockHttpClient(200));
+
+      assertThat(callbackCount.get()).isEqualTo(100);
+      assertThat(requestThreadCalls.get()).isZero();
+      assertThat(result.generatorHealth().progressDropped()).isZero();
+    }
+
     @Test
     @DisplayName("simple 콜백과 함께 실행할 수 있다")
     void runWithSimpleCallback() {
@@ -178,6 +221,155 @@ class LoadTesterTest {
       assertThat(result.failCount()).isEqualTo(10);
     }
 
+    @Test
+    @DisplayName("retainResults를 설정하면 요청별 원본 결과를 보관한다")
+    void retainsRawResults() {
+      LoadTestConfig config = LoadTestConfig.builder()
+          .url("https://api.example.com")
+          .totalRequests(50)
+          .concurrency(5)
+          .retainResults(true)
+          .build();
+
+      TestResult result = LoadTester.run(config, ProgressCallback.noop(), new FailingHttpClient());
+
+      assertThat(result.rawResults()).isNotNull();
+      assertThat(result.rawResults().size()).isEqualTo(50);
+      assertThat(result.rawResults().stream())
+          .allMatch(sample -> sample.errorType() == ErrorType.CONNECTION_REFUSED)
+          .allMatch(sample -> sample.latencyMicros() == 100_000);
+    }
+
+    @Test
+    @DisplayName("addressSpread를 설정하면 주소별 통계를 보고한다")
+    void reportsAddressBreakdown() {
+      LoadTestConfig config = LoadTestConfig.builder()
+          .url("http://127.0.0.1:8080/health")
+          .totalRequests(20)
+          .concurrency(4)
+          .addressSpread(AddressSpreadConfig.roundRobin())
+          .build();
+
+      TestResult result = LoadTester.run(config, ProgressCallback.noop(), new MockHttpClient(200));
+
+      assertThat(result.addresses()).singleElement()
+          .satisfies(report -> {
+            assertThat(report.address()).isEqualTo("127.0.0.1");
+            assertThat(report.requests()).isEqualTo(20);
+            assertThat(report.failures()).isZero();
+          });
+    }
+
+    @Test
+    @DisplayName("기본 설정에서는 원본 결과를 보관하지 않는다")
+    void doesNotRetainByDefault() {
+      LoadTestConfig config = LoadTestConfig.builder()
+          .url("https://api.example.com")
+          .totalRequests(10)
+          .build();
+
+      TestResult result = LoadTester.run(config, ProgressCallback.noop(), new MockHttpClient(200));
+
+      assertThat(result.rawResults()).isNull();
+    }
+
+    @Test
+    @DisplayName("가장 느린 요청을 설정한 수만큼 엔드포인트와 함께 보고한다")
+    void reportsSlowestRequests() {
+      LoadTestConfig config = LoadTestConfig.builder()
+          .url("https://api.example.com/users?page=1")
+          .totalRequests(50)
+          .slowestRequests(5)
+          .build();
+
+      TestResult result = LoadTester.run(config, ProgressCallback.noop(), new MockHttpClient(200));
+
+      assertThat(result.slowestRequests()).hasSize(5);
+      assertThat(result.slowestRequests()).allSatisfy(slow -> {
+        assertThat(slow.endpoint()).isEqualTo("GET /users");
+        assertThat(slow.url()).isEqualTo("https://api.example.com/users?page=1");
+        assertThat(slow.statusCode()).isEqualTo(200);
+        assertThat(slow.latencyMs()).isEqualTo(10);
+      });
+    }
+
+    @Test
+    @DisplayName("느린 요청 수를 0으로 설정하면 추적하지 않는다")
+    void skipsSlowestRequestsWhenDisabled() {
+      LoadTestConfig config = LoadTestConfig.builder()
+          .url("https://api.example.com")
+          .totalRequests(10)
+          .slowestRequests(0)
+          .build();
+
+      TestResult result = LoadTester.run(config, ProgressCallback.noop(), new MockHttpClient(200));
+
+      assertThat(result.slowestRequests()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("프로브를 설정하면 주 부하와 별도로 프로브 지연을 보고한다")
+    void reportsProbe() {
+      LoadTestConfig config = LoadTestConfig.builder()
+          .url("https://api.example.com/orders")
+          .totalRequests(100)
+          .concurrency(5)
+          .probe(ProbeConfig.of("https://api.example.com/health", Duration.ofMillis(10)))
+          .build();
+      HttpClientPort client = request -> {
+        try {
+          Thread.sleep(5);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        return request.url().endsWith("/health")
+            ? RequestResult.Success.ofMicros(200, 300)
+            : RequestResult.Success.ofMicros(200, 5_000);
+      };
+
+      TestResult result = LoadTester.run(config, ProgressCallback.noop(), client);
+
+      assertThat(result.totalRequests()).isEqualTo(100);
+      assertThat(result.probe()).isNotNull();
+      assertThat(result.probe().totalRequests()).isPositive();
+      assertThat(result.probe().method()).isEqualTo(HttpMethod.GET);
+      assertThat(result.probe().latencyStats().maxMicros()).isLessThan(1_000);
+    }
+
+    @Test
+    @DisplayName("GC 멈춤 추적 시 측정 요청을 모두 분류해 보고한다")
+    void reportsGcPauses() {
+      LoadTestConfig config = LoadTestConfig.builder()
+          .url("https://api.example.com/orders")
+          .totalRequests(200)
+          .concurrency(10)
+          .trackGcPauses(true)
+          .build();
+      HttpClientPort client = request -> RequestResult.Success.ofMicros(200, 1_000);
+
+      TestResult result = LoadTester.run(config, ProgressCallback.noop(), client);
+
+      assertThat(result.gcPauses()).isNotNull();
+      assertThat(result.gcPauses().measuredRequests()).isEqualTo(200);
+      assertThat(result.latencyStatsExcludingGcPauses().spectrum().totalCount())
+          .isEqualTo(200 - result.gcPauses().affectedRequests());
+    }
+
+    @Test
+    @DisplayName("GC 멈춤을 추적하지 않으면 전체 지연 통계를 그대로 쓴다")
+    void gcPausesDisabledByDefault() {
+      LoadTestConfig config = LoadTestConfig.builder()
+          .url("https://api.example.com/orders")
+          .totalRequests(10)
+          .build();
+      HttpClientPort client = request -> RequestResult.Success.ofMicros(200, 1_000);
+
+      TestResult result = LoadTester.run(config, ProgressCallback.noop(), client);
+
+      assertThat(result.gcPauses()).isNull();
+      assertThat(result.latencyStatsExcludingGcPauses()).isSameAs(result.latencyStats());
+    }
+
     @Test
     @DisplayName("지연 시간 통계가 계산된다")
     void latencyStatsCalculated() {
@@ -235,6 +427,286 @@ class LoadTesterTest {
     }
   }
 
+  @Nested
+  @DisplayName("워밍업")
+  class WarmupTest {
+
+    @Test
+    @DisplayName("워밍업 요청은 측정 결과에서 제외하고 따로 보고한다")
+    void reportsWarmupSeparately() {
+      LoadTestConfig config = LoadTestConfig.builder()
+          .url("https://api.example.com")
+          .totalRequests(50)
+          .concurrency(5)
+          .warmupRequests(10)
+          .build();
+
+      TestResult result = LoadTester.run(config, ProgressCallback.noop(), new MockHttpClient(200));
+
+      assertThat(result.hasWarmup()).isTrue();
+      assertThat(result.warmup().totalRequests()).isEqualTo(10);
+      assertThat(result.totalRequests()).isEqualTo(40);
+    }
+
+    @Test
+    @DisplayName("워밍업 요청 수가 총 요청 수 이상이면 설정 오류다")
+    void rejectsWarmupCoveringWholeRun() {
+      assertThatThrownBy(() -> LoadTestConfig.builder()
+          .url("https://api.example.com")
+          .totalRequests(10)
+          .warmupRequests(10)
+          .build())
+          .isInstanceOf(IllegalArgumentException.class);
+    }
+  }
+
+  @Nested
+  @DisplayName("start - 비동기 실행과 취소")
+  class StartTest {
+
+    @Test
+    @DisplayName("시작한 테스트의 결과를 기다릴 수 있다")
+    void awaitsResult() throws TimeoutException {
+      LoadTestConfig config = LoadTestConfig.builder()
+          .url("https://api.example.com")
+          .totalRequests(20)
+          .concurrency(5)
+          .build();
+
+      LoadTestHandle handle = LoadTester.start(config, ProgressCallback.noop(), new MockHttpClient(200));
+      TestResult result = handle.await(Duration.ofSeconds(5));
+
+      assertThat(result.totalRequests()).isEqualTo(20);
+      assertThat(result.isAborted()).isFalse();
+      assertThat(handle.isDone()).isTrue();
+    }
+
+    @Test
+    @DisplayName("취소하면 남은 요청을 보내지 않고 부분 결과를 반환한다")
+    void cancelReturnsPartialResult() throws TimeoutException {
+      LoadTestConfig config = LoadTestConfig.builder()
+          .url("https://api.example.com")
+          .totalRequests(100_000)
+          .concurrency(10)
+          .build();
+
+      LoadTestHandle handle = LoadTester.start(
+          config, ProgressCallback.noop(), new SleepingHttpClient(Duration.ofMillis(5)));
+      awaitUntil(() -> handle.getCompletedCount() >= 50);
+      handle.cancel("Stopped by user");
+      TestResult result = handle.await(Duration.ofSeconds(5));
+
+      assertThat(result.isAborted()).isTrue();
+      assertThat(result.abortReason()).isEqualTo("Stopped by user");
+      assertThat(result.totalRequests()).isBetween(50, 99_999);
+    }
+
+    @Test
+    @DisplayName("취소하면 진행 중 요청을 인터럽트하여 바로 끝난다")
+    void cancelInterruptsInFlightRequests() throws TimeoutException {
+      LoadTestConfig config = LoadTestConfig.builder()
+          .url("https://api.example.com")
+          .totalRequests(100)
+          .concurrency(10)
+          .build();
+      SleepingHttpClient client = new SleepingHttpClient(Duration.ofMinutes(1));
+
+      LoadTestHandle handle = LoadTester.start(config, ProgressCallback.noop(), client);
+      awaitUntil(() -> client.getStarted() == 10);
+      long startedAt = System.nanoTime();
+      handle.cancel();
+      TestResult result = handle.await(Duration.ofSeconds(5));
+
+      assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(Duration.ofSeconds(2));
+      assertThat(result.totalRequests()).isZero();
+      assertThat(client.getStarted()).isEqualTo(10);
+    }
+  }
+
+  @Nested
+  @DisplayName("adjust - 실행 중 부하 조정")
+  class AdjustTest {
+
+    @Test
+    @DisplayName("동시성을 올리면 진행 중인 실행에 바로 반영된다")
+    void raisesConcurrency() throws TimeoutException {
+      LoadTestConfig config = LoadTestConfig.builder()
+          .url("https://api.example.com")
+          .totalRequests(400)
+          .concurrency(2)
+          .build();
+      ConcurrencyTrackingHttpClient client = new ConcurrencyTrackingHttpClient();
+
+      LoadTestHandle handle = LoadTester.start(config, ProgressCallback.noop(), client);
+      awaitUntil(() -> handle.getCompletedCount() >= 10);
+      ControlChange change = handle.adjust(LoadControl.builder().concurrency(8).build());
+      TestResult result = handle.await(Duration.ofSeconds(10));
+
+      assertThat(change.concurrency()).isEqualTo(8);
+      assertThat(client.getMaxConcurrent()).isGreaterThan(2).isLessThanOrEqualTo(8);
+      assertThat(result.totalRequests()).isEqualTo(400);
+      assertThat(result.controlChanges()).containsExactly(change);
+    }
+
+    @Test
+    @DisplayName("총 요청 수를 늘리면 늘어난 만큼 더 실행하고 진행 콜백의 총 요청 수도 바뀐다")
+    void raisesTotalRequests() throws TimeoutException {
+      LoadTestConfig config = LoadTestConfig.builder()
+          .url("https://api.example.com")
+          .totalRequests(200)
+          .concurrency(4)
+          .build();
+      AtomicInteger reportedTotal = new AtomicInteger();
+
+      LoadTestHandle handle = LoadTester.start(config,
+          (completed, total, result) -> reportedTotal.set(total),
+          new SleepingHttpClient(Duration.ofMillis(2)));
+      awaitUntil(() -> handle.getCompletedCount() >= 10);
+      handle.adjust(LoadControl.builder().totalRequests(300).build());
+      TestResult result = handle.await(Duration.ofSeconds(10));
+
+      assertThat(result.totalRequests()).isEqualTo(300);
+      assertThat(reportedTotal.get()).isEqualTo(300);
+      assertThat(handle.getTotalRequests()).isEqualTo(300);
+    }
+
+    @Test
+    @DisplayName("종료 조건을 앞당기면 새 요청을 멈추고 진행 중 요청만 마친다")
+    void stopsEarly() throws TimeoutException {
+      LoadTestConfig config = LoadTestConfig.builder()
+          .url("https://api.example.com")
+          .totalRequests(100_000)
+          .concurrency(5)
+          .build();
+      SleepingHttpClient client = new SleepingHttpClient(Duration.ofMillis(5));
+
+      LoadTestHandle handle = LoadTester.start(config, ProgressCallback.noop(), client);
+      awaitUntil(() -> handle.getCompletedCount() >= 20);
+      handle.adjust(LoadControl.builder().stopAfter(Duration.ZERO).build());
+      TestResult result = handle.await(Duration.ofSeconds(5));
+
+      assertThat(result.isAborted()).isFalse();
+      assertThat(result.totalRequests()).isEqualTo(client.getStarted()).isLessThan(100_000);
+      assertThat(result.failCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("속도 제한 없이 시작한 실행에 목표 속도를 걸 수 있다")
+    void addsRateLimit() throws TimeoutException {
+      LoadTestConfig config = LoadTestConfig.builder()
+          .url("https://api.example.com")
+          .totalRequests(100_000)
+          .concurrency(5)
+          .build();
+
+      LoadTestHandle handle = LoadTester.start(
+          config, ProgressCallback.noop(), new SleepingHttpClient(Duration.ofMillis(1)));
+      awaitUntil(() -> handle.getCompletedCount() >= 20);
+      ControlChange change = handle.adjust(LoadControl.builder()
+          .requestsPerSecond(100)
+          .stopAfter(Duration.ofMillis(500))
+          .build());
+      TestResult result = handle.await(Duration.ofSeconds(5));
+
+      assertThat(change.isRateLimited()).isTrue();
+      assertThat(result.rateLimit()).isNotNull();
+      assertThat(result.rateLimit().targetRps()).isEqualTo(100.0);
+    }
+
+    @Test
+    @DisplayName("이미 시작된 요청 수보다 적은 총 요청 수는 거부하고 아무것도 바꾸지 않는다")
+    void rejectsTotalBelowStarted() throws TimeoutException {
+      LoadTestConfig config = LoadTestConfig.builder()
+          .url("https://api.example.com")
+          .totalRequests(100_000)
+          .concurrency(5)
+          .build();
+
+      LoadTestHandle handle = LoadTester.start(
+          config, ProgressCallback.noop(), new SleepingHttpClient(Duration.ofMillis(2)));
+      awaitUntil(() -> handle.getCompletedCount() >= 20);
+
+      assertThatThrownBy(() -> handle.adjust(LoadControl.builder().totalRequests(10).build()))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessageContaining("already started");
+      assertThat(handle.getTotalRequests()).isEqualTo(100_000);
+      assertThat(handle.getControlChanges()).isEmpty();
+
+      handle.adjust(LoadControl.builder().stopAfter(Duration.ZERO).build());
+      handle.await(Duration.ofSeconds(5));
+    }
+
+    @Test
+    @DisplayName("끝난 실행은 조정할 수 없다")
+    void rejectsAfterCompletion() throws TimeoutException {
+      LoadTestConfig config = LoadTestConfig.builder()
+          .url("https://api.example.com")
+          .totalRequests(10)
+          .build();
+
+      LoadTestHandle handle = LoadTester.start(config, ProgressCallback.noop(), new MockHttpClient(200));
+      handle.await(Duration.ofSeconds(5));
+
+      assertThatThrownBy(() -> handle.adjust(LoadControl.builder().concurrency(2).build()))
+          .isInstanceOf(IllegalStateException.class);
+      assertThat(handle.getControlChanges()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("변경할 항목이 없으면 설정 오류다")
+    void requiresAtLeastOneValue() {
+      assertThatThrownBy(() -> LoadControl.builder().build())
+          .isInstanceOf(IllegalArgumentException.class);
+    }
+  }
+
+  @Nested
+  @DisplayName("checkpoint - 중단과 재개")
+  class CheckpointTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("실행 중 조정한 총 요청 수를 저장하고 재개 설정을 그 값으로 검증한다")
+    void savesAdjustedTotalRequests() throws TimeoutException {
+      CheckpointConfig checkpoint = CheckpointConfig.of(dir.resolve("run.ckpt"));
+      LoadTestConfig config = LoadTestConfig.builder()
+          .url("https://api.example.com")
+          .totalRequests(200)
+          .concurrency(4)
+          .checkpoint(checkpoint)
+          .build();
+
+      LoadTestHandle handle = LoadTester.start(
+          config, ProgressCallback.noop(), new SleepingHttpClient(Duration.ofMillis(2)));
+      awaitUntil(() -> handle.getCompletedCount() >= 10);
+      handle.adjust(LoadControl.builder().totalRequests(300).build());
+      handle.cancel("Interrupted");
+      handle.await(Duration.ofSeconds(5));
+
+      assertThat(new CheckpointFile(checkpoint.path()).read().orElseThrow().totalRequests())
+          .isEqualTo(300);
+      LoadTestConfig original = config.toBuilder().checkpoint(checkpoint.resuming()).build();
+      assertThatThrownBy(() -> LoadTester.run(original, ProgressCallback.noop(), new MockHttpClient(200)))
+          .isInstanceOf(LoadTestException.class)
+          .hasMessageContaining("300");
+
+      LoadTestConfig adjusted = original.toBuilder().totalRequests(300).build();
+      TestResult result = LoadTester.run(adjusted, ProgressCallback.noop(), new MockHttpClient(200));
+
+      assertThat(result.totalRequests()).isEqualTo(300);
+    }
+  }
+
+  private void awaitUntil(BooleanSupplier condition) {
+    long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+    while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+      Thread.onSpinWait();
+    }
+    assertThat(condition.getAsBoolean()).isTrue();
+  }
+
   // ===== Test Doubles =====
 
   /**
@@ -306,4 +778,32 @@ class LoadTesterTest {
       return maxConcurrent.get();
     }
   }
+
+  /**
+   * 지정된 시간 동안 인터럽트 가능하게 대기하는 Mock.
+   */
+  static class SleepingHttpClient implements HttpClientPort {
+    private final Duration latency;
+    private final AtomicInteger started = new AtomicInteger(0);
+
+    SleepingHttpClient(Duration latency) {
+      this.latency = latency;
+    }
+
+    @Override
+    public RequestResult send(HttpRequest request) {
+      started.incrementAndGet();
+      try {
+        Thread.sleep(latency.toMillis());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return new RequestResult.Failure("Request interrupted", ErrorType.UNKNOWN, 0);
+      }
+      return new RequestResult.Success(200, latency.toMillis());
+    }
+
+    int getStarted() {
+      return started.get();
+    }
+  }
 }
\ No newline at end of file
@@ -0,0 +1,52 @@
+package io.github.junhyeong9812.overload.core.bench.application;
+
+import io.github.junhyeong9812.overload.core.bench.domain.LifecycleResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * {@link EngineLifecycleBenchmark} 테스트.
+ *
+ * @author junhyeong9812
+ * @since 1.1.0
+ */
+@DisplayName("EngineLifecycleBenchmark")
+class EngineLifecycleBenchmarkTest {
+
+  @Test
+  @DisplayName("엔진별 기동/정리 지연을 보고하고 반환 후 남은 요청이 없다")
+  void reportsStartupAndTeardown() {
+    List<LifecycleResult> results = EngineLifecycleBenchmark.builder()
+        .withDefaultEngines()
+        .concurrency(500)
+        .runs(3)
+        .warmupRuns(0)
+        .build()
+        .run();
+
+    assertThat(results).extracting(LifecycleResult::engine)
+        .containsExactly("virtual-thread", "dedicated-carrier");
+    for (LifecycleResult result : results) {
+      assertThat(result.concurrency()).isEqualTo(500);
+      assertThat(result.runs()).isEqualTo(3);
+      assertThat(result.startupMedianMicros()).isPositive();
+      assertThat(result.startupMaxMicros()).isGreaterThanOrEqualTo(result.startupMedianMicros());
+      assertThat(result.teardownMaxMicros()).isGreaterThanOrEqualTo(result.teardownMedianMicros());
+      assertThat(result.maxLeakedRequests()).isZero();
+    }
+  }
+
+  @Test
+  @DisplayName("엔진이 없거나 측정 횟수가 0이면 예외가 발생한다")
+  void validatesBuilder() {
+    assertThatThrownBy(() -> EngineLifecycleBenchmark.builder().build())
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> EngineLifecycleBenchmark.builder().withDefaultEngines().runs(0).build())
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
\ No newline at end of file
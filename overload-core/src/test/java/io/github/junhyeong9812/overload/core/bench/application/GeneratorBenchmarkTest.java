@@ -0,0 +1,66 @@
+package io.github.junhyeong9812.overload.core.bench.application;
+
+import io.github.junhyeong9812.overload.core.bench.domain.BenchmarkResult;
+import io.github.junhyeong9812.overload.core.bench.domain.BenchmarkStep;
+import io.github.junhyeong9812.overload.core.bench.infrastructure.LoopbackTargetServer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * {@link GeneratorBenchmark} 테스트.
+ *
+ * @author junhyeong9812
+ * @since 1.1.0
+ */
+@DisplayName("GeneratorBenchmark")
+class GeneratorBenchmarkTest {
+
+  @Test
+  @DisplayName("모든 조합에 대해 단계별 결과와 최대 처리량을 보고한다")
+  void reportsCapacityPerCombination() throws Exception {
+    try (LoopbackTargetServer server = LoopbackTargetServer.builder().build().start()) {
+      List<BenchmarkResult> results = GeneratorBenchmark.builder()
+          .withDefaultCombinations()
+          .concurrencyLevels(List.of(2, 8))
+          .requestsPerStep(200)
+          .warmupRequests(50)
+          .build()
+          .run(server.url());
+
+      assertThat(results).extracting(BenchmarkResult::label).containsExactly(
+          "virtual-thread / jdk", "platform-thread / jdk", "dedicated-carrier / jdk");
+      for (BenchmarkResult result : results) {
+        assertThat(result.steps()).isNotEmpty();
+        assertThat(result.maxSustainedRps()).isPositive();
+        assertThat(result.steps()).allMatch(step -> step.errorRate() == 0);
+        // 결과 목록 없이 콜백으로 집계해도 단계의 모든 요청이 반영된다
+        assertThat(result.steps()).allMatch(step -> step.requests() == 200);
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("힙 기울기는 동시성 대비 힙 증가량의 회귀 기울기다")
+  void computesHeapSlope() {
+    List<BenchmarkStep> steps = List.of(
+        new BenchmarkStep(10, 100, 1000, 1, 0, 10, 1_000),
+        new BenchmarkStep(20, 100, 1000, 1, 0, 10, 2_000),
+        new BenchmarkStep(40, 100, 1000, 1, 0, 10, 4_000)
+    );
+
+    assertThat(GeneratorBenchmark.heapSlope(steps)).isCloseTo(100.0, within(0.001));
+  }
+
+  @Test
+  @DisplayName("엔진이나 클라이언트가 없으면 예외가 발생한다")
+  void requiresCombinations() {
+    assertThatThrownBy(() -> GeneratorBenchmark.builder().build())
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,111 @@
+package io.github.junhyeong9812.overload.core.bench.infrastructure;
+
+import io.github.junhyeong9812.overload.core.config.HttpMethod;
+import io.github.junhyeong9812.overload.core.http.domain.HttpRequest;
+import io.github.junhyeong9812.overload.core.http.domain.RequestResult;
+import io.github.junhyeong9812.overload.core.http.infrastructure.JdkHttpClient;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * {@link LoopbackTargetServer} 테스트.
+ *
+ * @author junhyeong9812
+ * @since 1.1.0
+ */
+@DisplayName("LoopbackTargetServer")
+class LoopbackTargetServerTest {
+
+  @Nested
+  @DisplayName("응답")
+  class ResponseTest {
+
+    @Test
+    @DisplayName("설정된 크기의 본문으로 200을 응답한다")
+    void respondsWithConfiguredSize() throws Exception {
+      try (LoopbackTargetServer server = LoopbackTargetServer.builder()
+          .responseSize(256)
+          .build()
+          .start()) {
+
+        HttpResponse<byte[]> response = HttpClient.newHttpClient().send(
+            java.net.http.HttpRequest.newBuilder(URI.create(server.url())).build(),
+            HttpResponse.BodyHandlers.ofByteArray());
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.body()).hasSize(256);
+        assertThat(server.servedRequests()).isEqualTo(1);
+      }
+    }
+
+    @Test
+    @DisplayName("POST 본문을 읽고 같은 연결에서 다음 요청을 처리한다")
+    void handlesBodiesOnKeepAliveConnection() throws Exception {
+      try (LoopbackTargetServer server = LoopbackTargetServer.builder().build().start()) {
+        JdkHttpClient client = new JdkHttpClient(Duration.ofSeconds(5));
+        HttpRequest request = HttpRequest.from(
+            server.url("/users"), HttpMethod.POST, Map.of(), "{\"name\":\"test\"}");
+
+        for (int i = 0; i < 5; i++) {
+          RequestResult result = client.send(request);
+          assertThat(result).isInstanceOf(RequestResult.Success.class);
+        }
+
+        assertThat(server.servedRequests()).isEqualTo(5);
+      }
+    }
+
+    @Test
+    @DisplayName("고정 지연만큼 응답이 늦어진다")
+    void appliesFixedDelay() throws Exception {
+      try (LoopbackTargetServer server = LoopbackTargetServer.builder()
+          .delay(Duration.ofMillis(50))
+          .build()
+          .start()) {
+
+        JdkHttpClient client = new JdkHttpClient(Duration.ofSeconds(5));
+        RequestResult result = client.send(
+            HttpRequest.from(server.url(), HttpMethod.GET, Map.of(), null));
+
+        assertThat(result.latencyMs()).isGreaterThanOrEqualTo(50);
+      }
+    }
+  }
+
+  @Nested
+  @DisplayName("생명주기")
+  class LifecycleTest {
+
+    @Test
+    @DisplayName("종료 후에는 연결이 거부된다")
+    void refusesAfterClose() throws Exception {
+      LoopbackTargetServer server = LoopbackTargetServer.builder().build().start();
+      String url = server.url();
+      server.close();
+
+      RequestResult result = new JdkHttpClient(Duration.ofSeconds(1))
+          .send(HttpRequest.from(url, HttpMethod.GET, Map.of(), null));
+
+      assertThat(result).isInstanceOf(RequestResult.Failure.class);
+    }
+
+    @Test
+    @DisplayName("음수 지연은 허용하지 않는다")
+    void rejectsNegativeDelay() {
+      assertThatThrownBy(() -> LoopbackTargetServer.builder()
+          .delay(Duration.ofMillis(-1))
+          .build())
+          .isInstanceOf(IllegalArgumentException.class);
+    }
+  }
+}
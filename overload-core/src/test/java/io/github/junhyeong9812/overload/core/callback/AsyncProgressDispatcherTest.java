@@ -0,0 +1,191 @@
+package io.github.junhyeong9812.overload.core.callback;
+
+import io.github.junhyeong9812.overload.core.config.OverflowPolicy;
+import io.github.junhyeong9812.overload.core.config.ProgressDispatchConfig;
+import io.github.junhyeong9812.overload.core.http.domain.RequestResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link AsyncProgressDispatcher} 테스트.
+ *
+ * @author junhyeong9812
+ * @since 1.1.0
+ */
+@DisplayName("AsyncProgressDispatcher")
+class AsyncProgressDispatcherTest {
+
+  private static final RequestResult SUCCESS = new RequestResult.Success(200, 10);
+
+  @Test
+  @DisplayName("모든 이벤트를 배치로 전달하고 close 시 남은 이벤트를 비운다")
+  void deliversAllEventsInBatches() {
+    Set<Integer> received = ConcurrentHashMap.newKeySet();
+    AtomicInteger batches = new AtomicInteger();
+    ProgressCallback delegate = new ProgressCallback() {
+      @Override
+      public void onProgress(int completed, int total, RequestResult result) {
+        received.add(completed);
+      }
+
+      @Override
+      public void onProgressBatch(List<ProgressEvent> events) {
+        batches.incrementAndGet();
+        ProgressCallback.super.onProgressBatch(events);
+      }
+    };
+
+    AsyncProgressDispatcher dispatcher = new AsyncProgressDispatcher(delegate,
+        ProgressDispatchConfig.builder().capacity(1_024).overflowPolicy(OverflowPolicy.BLOCK).build())
+        .start();
+    for (int i = 1; i <= 1_000; i++) {
+      dispatcher.onProgress(i, 1_000, SUCCESS);
+    }
+    dispatcher.close();
+
+    assertThat(received).hasSize(1_000);
+    assertThat(batches.get()).isLessThanOrEqualTo(1_000);
+    assertThat(dispatcher.getDelivered()).isEqualTo(1_000);
+    assertThat(dispatcher.getDropped()).isZero();
+  }
+
+  @Test
+  @DisplayName("콜백 예외가 발생해도 다음 배치를 계속 전달한다")
+  void continuesAfterCallbackFailure() {
+    AtomicInteger calls = new AtomicInteger();
+    AsyncProgressDispatcher dispatcher = new AsyncProgressDispatcher((completed, total, result) -> {
+      if (calls.incrementAndGet() == 1) {
+        throw new IllegalStateException("boom");
+      }
+    }, ProgressDispatchConfig.builder().batchSize(1).build());
+
+    for (int i = 1; i <= 3; i++) {
+      dispatcher.onProgress(i, 3, SUCCESS);
+    }
+    dispatcher.close();
+
+    assertThat(calls.get()).isEqualTo(3);
+  }
+
+  @Nested
+  @DisplayName("버퍼가 가득 찬 경우")
+  class OverflowTest {
+
+    @Test
+    @DisplayName("DROP은 대기 없이 이벤트를 버리고 버린 수를 보고한다")
+    void dropDiscardsEvents() throws InterruptedException {
+      BlockedCallback delegate = new BlockedCallback();
+      AsyncProgressDispatcher dispatcher = dispatcher(delegate, OverflowPolicy.DROP);
+
+      fillWhileBlocked(dispatcher, delegate);
+
+      assertThat(dispatcher.getDropped()).isPositive();
+      assertThat(dispatcher.getDropped() + dispatcher.getDelivered()).isEqualTo(100);
+      assertThat(delegate.maxCompleted()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("SAMPLE은 압박 구간에서 일부 이벤트만 통과시킨다")
+    void sampleKeepsSubset() throws InterruptedException {
+      BlockedCallback delegate = new BlockedCallback();
+      AsyncProgressDispatcher dispatcher = dispatcher(delegate, OverflowPolicy.SAMPLE);
+
+      fillWhileBlocked(dispatcher, delegate);
+
+      assertThat(dispatcher.getDropped()).isPositive();
+      assertThat(dispatcher.getDropped() + dispatcher.getDelivered()).isEqualTo(100);
+      assertThat(delegate.maxCompleted()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("BLOCK은 여러 생산자가 있어도 이벤트를 잃지 않는다")
+    void blockLosesNothing() throws InterruptedException {
+      Set<Integer> received = ConcurrentHashMap.newKeySet();
+      AsyncProgressDispatcher dispatcher = new AsyncProgressDispatcher(
+          (completed, total, result) -> received.add(completed),
+          ProgressDispatchConfig.builder()
+              .capacity(8)
+              .batchSize(4)
+              .overflowPolicy(OverflowPolicy.BLOCK)
+              .build())
+          .start();
+
+      AtomicInteger sequence = new AtomicInteger();
+      List<Thread> producers = new ArrayList<>();
+      for (int t = 0; t < 4; t++) {
+        producers.add(Thread.ofVirtual().start(() -> {
+          for (int i = 0; i < 2_500; i++) {
+            dispatcher.onProgress(sequence.incrementAndGet(), 10_001, SUCCESS);
+          }
+        }));
+      }
+      for (Thread producer : producers) {
+        producer.join();
+      }
+      dispatcher.close();
+
+      assertThat(received).hasSize(10_000);
+      assertThat(dispatcher.getDropped()).isZero();
+    }
+
+    private AsyncProgressDispatcher dispatcher(BlockedCallback delegate, OverflowPolicy policy) {
+      return new AsyncProgressDispatcher(delegate, ProgressDispatchConfig.builder()
+          .capacity(16)
+          .batchSize(4)
+          .overflowPolicy(policy)
+          .sampleEvery(2)
+          .build())
+          .start();
+    }
+
+    /**
+     * 소비자가 막힌 동안 99개를 넣고, 풀어준 뒤 마지막 이벤트를 넣는다.
+     */
+    private void fillWhileBlocked(AsyncProgressDispatcher dispatcher, BlockedCallback delegate)
+        throws InterruptedException {
+      dispatcher.onProgress(1, 100, SUCCESS);
+      assertThat(delegate.entered.await(1, TimeUnit.SECONDS)).isTrue();
+      for (int i = 2; i < 100; i++) {
+        dispatcher.onProgress(i, 100, SUCCESS);
+      }
+      delegate.release.countDown();
+      dispatcher.onProgress(100, 100, SUCCESS);
+      dispatcher.close();
+    }
+  }
+
+  /**
+   * 첫 배치에서 release될 때까지 멈추는 콜백.
+   */
+  static class BlockedCallback implements ProgressCallback {
+    final CountDownLatch entered = new CountDownLatch(1);
+    final CountDownLatch release = new CountDownLatch(1);
+    private final AtomicInteger maxCompleted = new AtomicInteger();
+
+    @Override
+    public void onProgress(int completed, int total, RequestResult result) {
+      entered.countDown();
+      try {
+        release.await(5, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      maxCompleted.accumulateAndGet(completed, Math::max);
+    }
+
+    int maxCompleted() {
+      return maxCompleted.get();
+    }
+  }
+}
\ No newline at end of file
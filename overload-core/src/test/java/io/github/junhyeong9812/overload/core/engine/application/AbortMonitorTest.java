@@ -0,0 +1,144 @@
+package io.github.junhyeong9812.overload.core.engine.application;
+
+import io.github.junhyeong9812.overload.core.config.AbortRule;
+import io.github.junhyeong9812.overload.core.engine.domain.ExecutionContext;
+import io.github.junhyeong9812.overload.core.metric.domain.IntervalStats;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link AbortMonitor} 테스트.
+ *
+ * @author junhyeong9812
+ * @since 1.1.0
+ */
+@DisplayName("AbortMonitor")
+class AbortMonitorTest {
+
+  private static final Duration WINDOW = Duration.ofSeconds(3);
+
+  private ExecutionContext context;
+
+  @BeforeEach
+  void setUp() {
+    context = new ExecutionContext(1_000_000);
+  }
+
+  @Nested
+  @DisplayName("오류율 규칙")
+  class ErrorRateTest {
+
+    @Test
+    @DisplayName("윈도우 전체 오류율이 기준을 넘으면 사유와 함께 취소한다")
+    void cancelsWhenErrorRateExceeded() {
+      AbortMonitor monitor = monitor(AbortRule.errorRateAbove(0.2, WINDOW));
+
+      monitor.onInterval(stats(100, 10, 0, 20));
+      monitor.onInterval(stats(100, 30, 0, 20));
+      assertThat(context.isCancelled()).isFalse();
+
+      monitor.onInterval(stats(100, 30, 0, 20));
+
+      assertThat(context.isCancelled()).isTrue();
+      assertThat(context.getCancelReason()).startsWith("Aborted: error rate");
+    }
+
+    @Test
+    @DisplayName("윈도우가 다 차기 전에는 발동하지 않는다")
+    void waitsForFullWindow() {
+      AbortMonitor monitor = monitor(AbortRule.errorRateAbove(0.2, WINDOW));
+
+      monitor.onInterval(stats(100, 100, 0, 20));
+      monitor.onInterval(stats(100, 100, 0, 20));
+
+      assertThat(context.isCancelled()).isFalse();
+    }
+
+    @Test
+    @DisplayName("윈도우를 벗어난 구간의 오류는 평가에서 제외한다")
+    void ignoresOldIntervals() {
+      AbortMonitor monitor = monitor(AbortRule.errorRateAbove(0.2, WINDOW));
+
+      monitor.onInterval(stats(1_000, 100, 0, 20));
+      monitor.onInterval(stats(1_000, 100, 0, 20));
+      monitor.onInterval(stats(1_000, 100, 0, 20));
+      monitor.onInterval(stats(10, 10, 0, 20));
+      assertThat(context.isCancelled()).isFalse();
+
+      monitor.onInterval(stats(10, 10, 0, 20));
+      monitor.onInterval(stats(10, 10, 0, 20));
+
+      assertThat(context.isCancelled()).isTrue();
+    }
+  }
+
+  @Nested
+  @DisplayName("p99 규칙")
+  class P99Test {
+
+    @Test
+    @DisplayName("모든 구간의 p99가 기준을 넘어야 발동한다")
+    void requiresSustainedBreach() {
+      AbortMonitor monitor = monitor(AbortRule.p99Above(Duration.ofMillis(100), WINDOW));
+
+      monitor.onInterval(stats(100, 0, 0, 500));
+      monitor.onInterval(stats(100, 0, 0, 50));
+      monitor.onInterval(stats(100, 0, 0, 500));
+      assertThat(context.isCancelled()).isFalse();
+
+      monitor.onInterval(stats(100, 0, 0, 500));
+      monitor.onInterval(stats(100, 0, 0, 500));
+
+      assertThat(context.isCancelled()).isTrue();
+      assertThat(context.getCancelReason()).contains("p99 above 100ms");
+    }
+  }
+
+  @Nested
+  @DisplayName("연결 거부 규칙")
+  class ConnectionRefusedTest {
+
+    @Test
+    @DisplayName("윈도우가 다 차지 않아도 즉시 발동한다")
+    void firesImmediately() {
+      AbortMonitor monitor = monitor(AbortRule.connectionRefused(5, WINDOW));
+
+      monitor.onInterval(stats(10, 10, 10, 1));
+
+      assertThat(context.isCancelled()).isTrue();
+      assertThat(context.getCancelReason()).contains("refused 10 connections");
+    }
+  }
+
+  @Test
+  @DisplayName("모든 요청이 완료된 뒤에는 평가하지 않는다")
+  void skipsAfterCompletion() {
+    ExecutionContext finished = new ExecutionContext(1);
+    finished.incrementAndGetCompleted();
+    AbortMonitor monitor = new AbortMonitor(
+        List.of(AbortRule.connectionRefused(1, WINDOW)), finished);
+
+    monitor.onInterval(stats(1, 1, 1, 1));
+
+    assertThat(finished.isCancelled()).isFalse();
+  }
+
+  private AbortMonitor monitor(AbortRule rule) {
+    return new AbortMonitor(List.of(rule), context);
+  }
+
+  private static IntervalStats stats(long requests, long failures, long refused, long p99Ms) {
+    return new IntervalStats(
+        Duration.ZERO, Duration.ofSeconds(1),
+        requests, failures, refused,
+        p99Ms / 2, p99Ms, p99Ms, p99Ms / 2.0
+    );
+  }
+}
\ No newline at end of file
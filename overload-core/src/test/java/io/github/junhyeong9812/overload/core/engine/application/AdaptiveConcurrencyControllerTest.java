@@ -0,0 +1,119 @@
+package io.github.junhyeong9812.overload.core.engine.application;
+
+import io.github.junhyeong9812.overload.core.config.AdaptiveConcurrencyConfig;
+import io.github.junhyeong9812.overload.core.engine.domain.ExecutionContext;
+import io.github.junhyeong9812.overload.core.metric.domain.AdaptiveConcurrencyReport;
+import io.github.junhyeong9812.overload.core.metric.domain.IntervalStats;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link AdaptiveConcurrencyController} 테스트.
+ *
+ * @author junhyeong9812
+ * @since 1.1.0
+ */
+@DisplayName("AdaptiveConcurrencyController")
+class AdaptiveConcurrencyControllerTest {
+
+  private ExecutionContext context;
+  private AdaptiveConcurrencyController controller;
+
+  @BeforeEach
+  void setUp() {
+    context = new ExecutionContext(1_000_000);
+    AdaptiveConcurrencyConfig config = AdaptiveConcurrencyConfig.builder()
+        .p99Slo(Duration.ofMillis(100))
+        .maxConcurrency(1_000)
+        .increaseStep(4)
+        .settleIntervals(0)
+        .build();
+    controller = new AdaptiveConcurrencyController(config, context, 8);
+  }
+
+  @Test
+  @DisplayName("초기 동시성을 실행 컨텍스트에 적용한다")
+  void appliesInitialLimit() {
+    assertThat(context.getConcurrencyLimit()).isEqualTo(8);
+  }
+
+  @Nested
+  @DisplayName("onInterval")
+  class OnIntervalTest {
+
+    @Test
+    @DisplayName("SLO를 만족하는 동안 slow start로 동시성을 2배씩 늘린다")
+    void doublesDuringSlowStart() {
+      controller.onInterval(stats(1_000, 20));
+      controller.onInterval(stats(2_000, 20));
+
+      assertThat(context.getConcurrencyLimit()).isEqualTo(32);
+    }
+
+    @Test
+    @DisplayName("p99가 SLO를 넘으면 동시성을 줄이고 이후 선형으로 늘린다")
+    void backsOffThenIncreasesAdditively() {
+      controller.onInterval(stats(1_000, 20));   // 8 -> 16
+      controller.onInterval(stats(2_000, 150));  // 16 -> 12
+      controller.onInterval(stats(1_800, 80));   // 12 -> 16
+
+      assertThat(context.getConcurrencyLimit()).isEqualTo(16);
+    }
+
+    @Test
+    @DisplayName("처리량이 최고 지점보다 크게 떨어지면 SLO 안이어도 줄인다")
+    void backsOffOnRetrogradeThroughput() {
+      controller.onInterval(stats(2_000, 20));   // 8 -> 16
+      controller.onInterval(stats(1_000, 30));   // 16: retrograde -> 12
+
+      assertThat(context.getConcurrencyLimit()).isEqualTo(12);
+    }
+
+    @Test
+    @DisplayName("요청이 없는 구간은 무시한다")
+    void ignoresEmptyIntervals() {
+      controller.onInterval(stats(0, 0));
+
+      assertThat(context.getConcurrencyLimit()).isEqualTo(8);
+    }
+  }
+
+  @Nested
+  @DisplayName("report")
+  class ReportTest {
+
+    @Test
+    @DisplayName("SLO를 만족한 최대 동시성을 운영 지점으로 선택한다")
+    void choosesHighestConcurrencyWithinSlo() {
+      controller.onInterval(stats(1_000, 20));   // c=8 ok
+      controller.onInterval(stats(2_000, 50));   // c=16 ok
+      controller.onInterval(stats(2_500, 300));  // c=32 violated
+
+      AdaptiveConcurrencyReport report = controller.report();
+
+      assertThat(report.curve()).extracting(p -> p.concurrency()).containsExactly(8, 16, 32);
+      assertThat(report.chosen().concurrency()).isEqualTo(16);
+      assertThat(report.chosen().requestsPerSecond()).isEqualTo(2_000.0);
+      assertThat(report.finalLimit()).isEqualTo(24);
+    }
+
+    @Test
+    @DisplayName("SLO를 만족한 지점이 없으면 운영 지점이 없다")
+    void noOperatingPoint() {
+      controller.onInterval(stats(1_000, 500));
+
+      assertThat(controller.report().hasOperatingPoint()).isFalse();
+    }
+  }
+
+  private IntervalStats stats(long requests, long p99Ms) {
+    return new IntervalStats(Duration.ofSeconds(1), Duration.ofSeconds(1),
+        requests, 0, 0, p99Ms / 2, p99Ms, p99Ms, p99Ms / 2.0);
+  }
+}
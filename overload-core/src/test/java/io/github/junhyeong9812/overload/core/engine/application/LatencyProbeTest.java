@@ -0,0 +1,128 @@
+package io.github.junhyeong9812.overload.core.engine.application;
+
+import io.github.junhyeong9812.overload.core.config.HttpMethod;
+import io.github.junhyeong9812.overload.core.config.ProbeConfig;
+import io.github.junhyeong9812.overload.core.http.application.port.HttpClientPort;
+import io.github.junhyeong9812.overload.core.http.domain.HttpRequest;
+import io.github.junhyeong9812.overload.core.http.domain.RequestResult;
+import io.github.junhyeong9812.overload.core.metric.domain.ProbeReport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * {@link LatencyProbe} 테스트.
+ *
+ * @author junhyeong9812
+ * @since 1.1.0
+ */
+@DisplayName("LatencyProbe")
+class LatencyProbeTest {
+
+  private static final HttpRequest REQUEST =
+      HttpRequest.from("https://api.example.com/health", HttpMethod.GET, Map.of(), null);
+
+  @Nested
+  @DisplayName("실행")
+  class RunTest {
+
+    @Test
+    @DisplayName("설정한 간격으로 요청을 하나씩 보내고 별도로 집계한다")
+    void sendsAtFixedInterval() throws InterruptedException {
+      AtomicInteger inFlight = new AtomicInteger();
+      AtomicInteger maxInFlight = new AtomicInteger();
+      HttpClientPort client = request -> {
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        inFlight.decrementAndGet();
+        return RequestResult.Success.ofMicros(200, 1_500);
+      };
+      long start = System.nanoTime();
+      LatencyProbe probe = new LatencyProbe(
+          client, REQUEST, ProbeConfig.of(Duration.ofMillis(20)), () -> true).start();
+
+      Thread.sleep(300);
+      probe.close();
+      long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+      ProbeReport report = probe.report();
+
+      assertThat(report.totalRequests()).isBetween(5, (int) (elapsedMs / 20) + 1);
+      assertThat(report.failCount()).isZero();
+      assertThat(report.latencyStats().percentiles().p50Micros()).isBetween(1_400L, 1_600L);
+      assertThat(report.url()).isEqualTo("https://api.example.com/health");
+      assertThat(report.interval()).isEqualTo(Duration.ofMillis(20));
+      assertThat(maxInFlight.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("요청이 간격보다 길면 밀린 틱을 몰아서 보내지 않고 건너뛴다")
+    void skipsMissedTicks() throws InterruptedException {
+      HttpClientPort client = request -> {
+        try {
+          Thread.sleep(50);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        return RequestResult.Success.ofMicros(200, 50_000);
+      };
+      long start = System.nanoTime();
+      LatencyProbe probe = new LatencyProbe(
+          client, REQUEST, ProbeConfig.of(Duration.ofMillis(10)), () -> true).start();
+
+      Thread.sleep(300);
+      probe.close();
+      long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+      ProbeReport report = probe.report();
+
+      assertThat(report.totalRequests()).isLessThanOrEqualTo((int) (elapsedMs / 50) + 1);
+      assertThat(report.missed()).isPositive();
+    }
+
+    @Test
+    @DisplayName("기록하지 않는 구간의 프로브는 집계에서 제외한다")
+    void skipsWhileNotRecording() throws InterruptedException {
+      AtomicBoolean recording = new AtomicBoolean(false);
+      AtomicInteger sent = new AtomicInteger();
+      HttpClientPort client = request -> {
+        sent.incrementAndGet();
+        return RequestResult.Success.ofMicros(200, 100);
+      };
+      LatencyProbe probe = new LatencyProbe(
+          client, REQUEST, ProbeConfig.of(Duration.ofMillis(10)), recording::get).start();
+
+      Thread.sleep(100);
+      probe.close();
+
+      assertThat(sent.get()).isPositive();
+      assertThat(probe.report().totalRequests()).isZero();
+    }
+  }
+
+  @Nested
+  @DisplayName("ProbeConfig")
+  class ConfigTest {
+
+    @Test
+    @DisplayName("간격이 0 이하이면 설정 오류다")
+    void rejectsNonPositiveInterval() {
+      assertThatThrownBy(() -> ProbeConfig.of(Duration.ZERO))
+          .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("URL이 없으면 주 요청과 같은 대상을 측정한다")
+    void defaultsToTargetRequest() {
+      ProbeConfig config = ProbeConfig.defaults();
+
+      assertThat(config.hasUrl()).isFalse();
+      assertThat(config.interval()).isEqualTo(ProbeConfig.DEFAULT_INTERVAL);
+    }
+  }
+}
\ No newline at end of file
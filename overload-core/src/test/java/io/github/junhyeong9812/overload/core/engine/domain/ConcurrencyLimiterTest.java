@@ -0,0 +1,100 @@
+package io.github.junhyeong9812.overload.core.engine.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * {@link ConcurrencyLimiter} 테스트.
+ *
+ * @author junhyeong9812
+ * @since 1.1.0
+ */
+@DisplayName("ConcurrencyLimiter")
+class ConcurrencyLimiterTest {
+
+  @Test
+  @DisplayName("1 미만의 제한은 예외가 발생한다")
+  void rejectsInvalidLimit() {
+    assertThatThrownBy(() -> new ConcurrencyLimiter(0))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Nested
+  @DisplayName("setLimit")
+  class SetLimitTest {
+
+    @Test
+    @DisplayName("제한을 늘리면 대기 중인 요청이 진행된다")
+    void increaseReleasesWaiters() throws InterruptedException {
+      ConcurrencyLimiter limiter = new ConcurrencyLimiter(1);
+      limiter.acquire();
+
+      CountDownLatch acquired = new CountDownLatch(1);
+      Thread waiter = new Thread(() -> {
+        try {
+          limiter.acquire();
+          acquired.countDown();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      });
+      waiter.start();
+
+      assertThat(acquired.await(100, TimeUnit.MILLISECONDS)).isFalse();
+      limiter.setLimit(2);
+      assertThat(acquired.await(1, TimeUnit.SECONDS)).isTrue();
+      assertThat(limiter.getInFlight()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("제한을 줄이면 진행 중 요청이 반환될 때까지 새 요청이 대기한다")
+    void decreaseBlocksUntilDrained() throws InterruptedException {
+      ConcurrencyLimiter limiter = new ConcurrencyLimiter(2);
+      limiter.acquire();
+      limiter.acquire();
+
+      limiter.setLimit(1);
+      limiter.release();
+
+      Thread waiter = new Thread(() -> {
+        try {
+          limiter.acquire();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      });
+      waiter.start();
+      waiter.join(100);
+      assertThat(waiter.isAlive()).isTrue();
+
+      limiter.release();
+      waiter.join(1_000);
+      assertThat(waiter.isAlive()).isFalse();
+      assertThat(limiter.getLimit()).isEqualTo(1);
+    }
+  }
+
+  @Nested
+  @DisplayName("ExecutionContext 연동")
+  class ContextTest {
+
+    @Test
+    @DisplayName("실행 전 설정한 제한이 엔진의 초기 제한보다 우선한다")
+    void presetLimitWins() {
+      ExecutionContext context = new ExecutionContext(100);
+      assertThat(context.getConcurrencyLimit()).isZero();
+
+      context.setConcurrencyLimit(7);
+
+      assertThat(context.concurrencyLimiter(50).getLimit()).isEqualTo(7);
+      assertThat(context.getConcurrencyLimit()).isEqualTo(7);
+    }
+  }
+}
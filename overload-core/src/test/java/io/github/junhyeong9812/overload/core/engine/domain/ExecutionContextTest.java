@@ -5,6 +5,9 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.within;
 
@@ -71,6 +74,38 @@ class ExecutionContextTest {
 
       assertThat(context.isCancelled()).isTrue();
     }
+
+    @Test
+    @DisplayName("처음 취소한 사유만 기록한다")
+    void keepsFirstReason() {
+      context.cancel("Aborted: first");
+      context.cancel("Aborted: second");
+
+      assertThat(context.getCancelReason()).isEqualTo("Aborted: first");
+    }
+
+    @Test
+    @DisplayName("취소 훅은 한 번만 실행된다")
+    void runsHookOnce() {
+      AtomicInteger calls = new AtomicInteger();
+      context.onCancel(calls::incrementAndGet);
+
+      context.cancel();
+      context.cancel();
+
+      assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("이미 취소된 경우 등록 즉시 훅을 실행한다")
+    void runsLateHookImmediately() {
+      context.cancel();
+      AtomicInteger calls = new AtomicInteger();
+
+      context.onCancel(calls::incrementAndGet);
+
+      assertThat(calls.get()).isEqualTo(1);
+    }
   }
 
   @Nested
@@ -112,6 +147,67 @@ class ExecutionContextTest {
     }
   }
 
+  @Nested
+  @DisplayName("시작 권한")
+  class ClaimTest {
+
+    @Test
+    @DisplayName("총 요청 수만큼만 시작 권한을 준다")
+    void claimsUpToTotal() {
+      ExecutionContext small = new ExecutionContext(3);
+
+      assertThat(small.tryClaimRequest()).isTrue();
+      assertThat(small.tryClaimRequest()).isTrue();
+      assertThat(small.tryClaimRequest()).isTrue();
+      assertThat(small.tryClaimRequest()).isFalse();
+      assertThat(small.getClaimedCount()).isEqualTo(3);
+      assertThat(small.hasUnclaimedRequests()).isFalse();
+    }
+
+    @Test
+    @DisplayName("총 요청 수를 늘리면 다시 시작 권한을 주고 변경 훅을 실행한다")
+    void raisingTotalReopensClaims() {
+      ExecutionContext small = new ExecutionContext(1);
+      AtomicInteger hookCalls = new AtomicInteger();
+      small.onLimitChange(hookCalls::incrementAndGet);
+      small.tryClaimRequest();
+
+      small.setTotalRequests(2);
+
+      assertThat(small.tryClaimRequest()).isTrue();
+      assertThat(small.getTotalRequests()).isEqualTo(2);
+      assertThat(hookCalls.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("종료 시각이 지나면 시작 권한을 주지 않는다")
+    void deadlineStopsClaims() {
+      context.stopAfter(Duration.ZERO);
+
+      assertThat(context.isPastDeadline()).isTrue();
+      assertThat(context.tryClaimRequest()).isFalse();
+      assertThat(context.nanosUntilDeadline()).isZero();
+    }
+
+    @Test
+    @DisplayName("종료 시각이 없으면 남은 시간은 무한이다")
+    void noDeadlineByDefault() {
+      assertThat(context.isPastDeadline()).isFalse();
+      assertThat(context.nanosUntilDeadline()).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    @DisplayName("속도 제한 없이 시작해도 목표 속도를 설정할 수 있다")
+    void setsRateWithoutInitialLimiter() {
+      assertThat(context.getRateLimiter()).isNull();
+
+      context.setRequestsPerSecond(50);
+
+      assertThat(context.getRateLimiter()).isNotNull();
+      assertThat(context.getRateLimiter().getRate()).isEqualTo(50.0);
+    }
+  }
+
   @Nested
   @DisplayName("동시성")
   class ConcurrencyTest {
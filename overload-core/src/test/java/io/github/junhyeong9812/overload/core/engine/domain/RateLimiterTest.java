@@ -0,0 +1,136 @@
+package io.github.junhyeong9812.overload.core.engine.domain;
+
+import io.github.junhyeong9812.overload.core.config.RateLimitConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * {@link RateLimiter} 테스트.
+ *
+ * @author junhyeong9812
+ * @since 1.1.0
+ */
+@DisplayName("RateLimiter")
+class RateLimiterTest {
+
+  @Test
+  @DisplayName("잘못된 속도 제한 설정은 예외가 발생한다")
+  void rejectsInvalidConfig() {
+    assertThatThrownBy(() -> RateLimitConfig.of(0))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> RateLimitConfig.of(100, 0))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Nested
+  @DisplayName("acquire")
+  class AcquireTest {
+
+    @Test
+    @DisplayName("버스트만큼은 대기 없이 허가된다")
+    void burstPassesImmediately() throws InterruptedException {
+      RateLimiter limiter = new RateLimiter(RateLimitConfig.of(10, 5));
+
+      long start = System.nanoTime();
+      for (int i = 0; i < 5; i++) {
+        limiter.acquire();
+      }
+
+      assertThat(System.nanoTime() - start).isLessThan(50_000_000L);
+      assertThat(limiter.getThrottled()).isZero();
+    }
+
+    @Test
+    @DisplayName("버스트를 넘으면 목표 간격만큼 대기한다")
+    void waitsBeyondBurst() throws InterruptedException {
+      RateLimiter limiter = new RateLimiter(RateLimitConfig.of(20, 1));
+
+      long start = System.nanoTime();
+      for (int i = 0; i < 3; i++) {
+        limiter.acquire();
+      }
+
+      // 첫 허가 이후 50ms 간격 두 번
+      assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(90_000_000L);
+      assertThat(limiter.getThrottled()).isEqualTo(2);
+      assertThat(limiter.getAverageWaitMicros()).isPositive();
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 공유해도 실효 속도가 목표에 가깝다")
+    void effectiveRateMatchesTarget() throws InterruptedException {
+      RateLimiter limiter = new RateLimiter(RateLimitConfig.of(2_000, 1));
+
+      List<Thread> threads = new ArrayList<>();
+      for (int t = 0; t < 8; t++) {
+        threads.add(Thread.ofVirtual().start(() -> {
+          try {
+            for (int i = 0; i < 100; i++) {
+              limiter.acquire();
+            }
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+        }));
+      }
+      for (Thread thread : threads) {
+        thread.join();
+      }
+
+      assertThat(limiter.getPermits()).isEqualTo(800);
+      assertThat(limiter.getEffectiveRate()).isCloseTo(2_000, within(200.0));
+    }
+
+    @Test
+    @DisplayName("대기 중 인터럽트되면 InterruptedException이 발생한다")
+    void interruptedWhileWaiting() throws InterruptedException {
+      RateLimiter limiter = new RateLimiter(RateLimitConfig.of(1, 1));
+      limiter.acquire();
+
+      Thread.currentThread().interrupt();
+
+      assertThatThrownBy(limiter::acquire).isInstanceOf(InterruptedException.class);
+      assertThat(Thread.currentThread().isInterrupted()).isFalse();
+    }
+  }
+
+  @Nested
+  @DisplayName("setRate")
+  class SetRateTest {
+
+    @Test
+    @DisplayName("0 이하의 속도는 예외가 발생한다")
+    void rejectsInvalidRate() {
+      RateLimiter limiter = new RateLimiter(RateLimitConfig.of(100));
+
+      assertThatThrownBy(() -> limiter.setRate(0))
+          .isInstanceOf(IllegalArgumentException.class);
+      assertThat(limiter.getRate()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("변경한 속도는 이후 예약부터 적용된다")
+    void appliesToNextReservations() throws InterruptedException {
+      RateLimiter limiter = new RateLimiter(RateLimitConfig.of(10, 1));
+      limiter.acquire();
+
+      limiter.setRate(1_000);
+      limiter.acquire();
+      long start = System.nanoTime();
+      for (int i = 0; i < 10; i++) {
+        limiter.acquire();
+      }
+
+      assertThat(limiter.getRate()).isEqualTo(1_000);
+      assertThat(System.nanoTime() - start).isLessThan(500_000_000L);
+    }
+  }
+}
\ No newline at end of file
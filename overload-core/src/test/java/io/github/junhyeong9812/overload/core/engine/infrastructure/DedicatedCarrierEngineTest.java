@@ -0,0 +1,99 @@
+package io.github.junhyeong9812.overload.core.engine.infrastructure;
+
+import io.github.junhyeong9812.overload.core.callback.ProgressCallback;
+import io.github.junhyeong9812.overload.core.config.LoadTestConfig;
+import io.github.junhyeong9812.overload.core.http.domain.RequestResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * {@link DedicatedCarrierEngine} 테스트.
+ *
+ * @author junhyeong9812
+ * @since 1.1.0
+ */
+@DisplayName("DedicatedCarrierEngine")
+class DedicatedCarrierEngineTest {
+
+  private final LoadTestConfig config = LoadTestConfig.builder()
+      .url("https://api.example.com")
+      .totalRequests(40)
+      .concurrency(8)
+      .build();
+
+  @Test
+  @DisplayName("요청을 Virtual Thread에서 실행한다")
+  void runsRequestsOnVirtualThreads() {
+    Set<Thread> threads = ConcurrentHashMap.newKeySet();
+    DedicatedCarrierEngine engine = new DedicatedCarrierEngine(request -> {
+      threads.add(Thread.currentThread());
+      return new RequestResult.Success(200, 10);
+    }, 2);
+
+    List<RequestResult> results = engine.execute(config, ProgressCallback.noop());
+
+    assertThat(results).hasSize(40);
+    assertThat(threads).allMatch(Thread::isVirtual);
+    assertThat(engine.parallelism()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("전용 스케줄러를 쓸 수 있으면 요청이 전용 캐리어에서만 실행된다")
+  void mountsOnDedicatedCarriers() {
+    Set<String> mounts = ConcurrentHashMap.newKeySet();
+    DedicatedCarrierEngine engine = new DedicatedCarrierEngine(request -> {
+      // VirtualThread[#id,name]/runnable@carrier-name
+      String description = Thread.currentThread().toString();
+      mounts.add(description.substring(description.lastIndexOf('@') + 1));
+      return new RequestResult.Success(200, 10);
+    }, 2);
+    assumeTrue(engine.isDedicated(), "JVM not started with --add-opens java.base/java.lang");
+
+    engine.execute(config, ProgressCallback.noop());
+
+    assertThat(mounts).isNotEmpty().hasSizeLessThanOrEqualTo(2)
+        .allMatch(carrier -> carrier.startsWith("overload-carrier-"));
+  }
+
+  @Test
+  @DisplayName("닫으면 전용 캐리어 풀이 종료되어 더 이상 요청을 실행하지 않는다")
+  void closeShutsDownCarriers() {
+    AtomicInteger sent = new AtomicInteger();
+    DedicatedCarrierEngine engine = new DedicatedCarrierEngine(request -> {
+      sent.incrementAndGet();
+      return new RequestResult.Success(200, 10);
+    }, 2);
+    assumeTrue(engine.isDedicated(), "JVM not started with --add-opens java.base/java.lang");
+    engine.execute(config, ProgressCallback.noop());
+
+    engine.close();
+    List<RequestResult> results = engine.execute(config, ProgressCallback.noop());
+
+    assertThat(results).isEmpty();
+    assertThat(sent).hasValue(40);
+  }
+
+  @Test
+  @DisplayName("캐리어 수를 지정하지 않으면 프로세서 수를 사용한다")
+  void defaultsToAvailableProcessors() {
+    DedicatedCarrierEngine engine = new DedicatedCarrierEngine(request -> null);
+
+    assertThat(engine.parallelism()).isEqualTo(Runtime.getRuntime().availableProcessors());
+  }
+
+  @Test
+  @DisplayName("캐리어 수가 음수이면 예외가 발생한다")
+  void rejectsNegativeParallelism() {
+    assertThatThrownBy(() -> new DedicatedCarrierEngine(request -> null, -1))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
\ No newline at end of file
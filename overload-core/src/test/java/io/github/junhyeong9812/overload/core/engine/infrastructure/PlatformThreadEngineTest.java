@@ -0,0 +1,67 @@
+package io.github.junhyeong9812.overload.core.engine.infrastructure;
+
+import io.github.junhyeong9812.overload.core.callback.ProgressCallback;
+import io.github.junhyeong9812.overload.core.config.LoadTestConfig;
+import io.github.junhyeong9812.overload.core.http.domain.RequestResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * {@link PlatformThreadEngine} 테스트.
+ *
+ * @author junhyeong9812
+ * @since 1.1.0
+ */
+@DisplayName("PlatformThreadEngine")
+class PlatformThreadEngineTest {
+
+  private final LoadTestConfig config = LoadTestConfig.builder()
+      .url("https://api.example.com")
+      .totalRequests(40)
+      .concurrency(4)
+      .build();
+
+  @Test
+  @DisplayName("풀의 Platform Thread에서 모든 요청을 실행한다")
+  void runsRequestsOnPlatformThreads() {
+    Set<Thread> threads = ConcurrentHashMap.newKeySet();
+    PlatformThreadEngine engine = new PlatformThreadEngine(request -> {
+      threads.add(Thread.currentThread());
+      return new RequestResult.Success(200, 10);
+    });
+
+    List<RequestResult> results = engine.execute(config, ProgressCallback.noop());
+
+    assertThat(results).hasSize(40);
+    assertThat(threads).isNotEmpty().hasSizeLessThanOrEqualTo(4)
+        .noneMatch(Thread::isVirtual)
+        .allMatch(thread -> thread.getName().startsWith("overload-platform-"));
+  }
+
+  @Test
+  @DisplayName("스레드 수를 지정하면 동시성보다 우선한다")
+  void threadsOverrideConcurrency() {
+    VirtualThreadEngineTest.ConcurrencyTrackingHttpClient client =
+        new VirtualThreadEngineTest.ConcurrencyTrackingHttpClient();
+    PlatformThreadEngine engine = new PlatformThreadEngine(client, 2);
+
+    engine.execute(config, ProgressCallback.noop());
+
+    assertThat(engine.poolSize(config)).isEqualTo(2);
+    assertThat(client.getMaxConcurrent()).isLessThanOrEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("스레드 수가 음수이면 예외가 발생한다")
+  void rejectsNegativeThreads() {
+    assertThatThrownBy(() -> new PlatformThreadEngine(request -> null, -1))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
\ No newline at end of file
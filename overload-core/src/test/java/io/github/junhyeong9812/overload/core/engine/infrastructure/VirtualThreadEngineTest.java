@@ -2,10 +2,13 @@ package io.github.junhyeong9812.overload.core.engine.infrastructure;
 
 import io.github.junhyeong9812.overload.core.callback.ProgressCallback;
 import io.github.junhyeong9812.overload.core.config.LoadTestConfig;
+import io.github.junhyeong9812.overload.core.engine.domain.ExecutionContext;
 import io.github.junhyeong9812.overload.core.engine.domain.LoadTestEngine;
 import io.github.junhyeong9812.overload.core.http.application.port.HttpClientPort;
 import io.github.junhyeong9812.overload.core.http.domain.HttpRequest;
 import io.github.junhyeong9812.overload.core.http.domain.RequestResult;
+import io.github.junhyeong9812.overload.core.metric.application.GeneratorHealthMonitor;
+import io.github.junhyeong9812.overload.core.metric.domain.GeneratorHealth;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -150,6 +153,30 @@ class VirtualThreadEngineTest {
     }
   }
 
+  @Nested
+  @DisplayName("계측")
+  class InstrumentationTest {
+
+    @Test
+    @DisplayName("요청마다 스케줄링 지연, 허가 대기, 콜백 시간을 기록한다")
+    void recordsOverheadPerRequest() {
+      GeneratorHealthMonitor monitor = new GeneratorHealthMonitor();
+      LoadTestConfig config = LoadTestConfig.builder()
+          .url("https://api.example.com")
+          .totalRequests(20)
+          .concurrency(4)
+          .build();
+
+      engine.execute(config, ProgressCallback.noop(),
+          new ExecutionContext(config.totalRequests(), monitor));
+
+      GeneratorHealth health = monitor.toHealth(10_000, 0.1);
+      assertThat(health.schedulingLag().count()).isEqualTo(20);
+      assertThat(health.permitWait().count()).isEqualTo(20);
+      assertThat(health.callbackTime().count()).isEqualTo(20);
+    }
+  }
+
   /**
    * 테스트용 Mock HTTP 클라이언트.
    */
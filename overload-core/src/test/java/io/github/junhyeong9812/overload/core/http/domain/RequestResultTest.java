@@ -7,6 +7,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @DisplayName("RequestResult")
 class RequestResultTest {
@@ -50,6 +51,30 @@ class RequestResultTest {
       assertThat(result).isInstanceOf(RequestResult.class);
       assertThat(result.latencyMs()).isEqualTo(100);
     }
+
+    @Test
+    @DisplayName("밀리초로 생성하면 마이크로초 값은 밀리초에서 환산된다")
+    void derivesMicrosFromMillis() {
+      RequestResult result = new RequestResult.Success(200, 12);
+
+      assertThat(result.latencyMicros()).isEqualTo(12_000);
+    }
+
+    @Test
+    @DisplayName("마이크로초로 생성하면 1ms 미만 지연도 보존된다")
+    void keepsSubMillisecondLatency() {
+      RequestResult result = RequestResult.Success.ofMicros(200, 312);
+
+      assertThat(result.latencyMicros()).isEqualTo(312);
+      assertThat(result.latencyMs()).isZero();
+    }
+
+    @Test
+    @DisplayName("밀리초와 마이크로초 값이 맞지 않으면 예외를 던진다")
+    void rejectsMismatchedLatency() {
+      assertThatThrownBy(() -> new RequestResult.Success(200, 1, 312))
+          .isInstanceOf(IllegalArgumentException.class);
+    }
   }
 
   @Nested
@@ -82,6 +107,26 @@ class RequestResultTest {
       assertThat(result).isInstanceOf(RequestResult.class);
       assertThat(result.latencyMs()).isEqualTo(100);
     }
+
+    @Test
+    @DisplayName("마이크로초로 생성하면 밀리초 값은 버림으로 환산된다")
+    void createFromMicros() {
+      RequestResult.Failure failure = RequestResult.Failure.ofMicros(
+          "Connection reset",
+          ErrorType.CONNECTION_RESET,
+          2_750
+      );
+
+      assertThat(failure.latencyMicros()).isEqualTo(2_750);
+      assertThat(failure.latencyMs()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("밀리초와 마이크로초 값이 맞지 않으면 예외를 던진다")
+    void rejectsMismatchedLatency() {
+      assertThatThrownBy(() -> new RequestResult.Failure("error", ErrorType.UNKNOWN, 3, 2_750))
+          .isInstanceOf(IllegalArgumentException.class);
+    }
   }
 
   @Nested
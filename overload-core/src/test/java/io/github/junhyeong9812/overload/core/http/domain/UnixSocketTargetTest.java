@@ -0,0 +1,74 @@
+package io.github.junhyeong9812.overload.core.http.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("UnixSocketTarget")
+class UnixSocketTargetTest {
+
+  @Nested
+  @DisplayName("matches")
+  class MatchesTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"unix:///var/run/app.sock", "unix:/var/run/app.sock:/health", "UNIX:///a.sock"})
+    @DisplayName("unix: 스킴이면 true를 반환한다")
+    void matchesUnixScheme(String url) {
+      assertThat(UnixSocketTarget.matches(url)).isTrue();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"http://localhost/unix", "https://example.com", "/var/run/app.sock"})
+    @DisplayName("다른 스킴이면 false를 반환한다")
+    void doesNotMatchOtherSchemes(String url) {
+      assertThat(UnixSocketTarget.matches(url)).isFalse();
+    }
+  }
+
+  @Nested
+  @DisplayName("parse")
+  class ParseTest {
+
+    @Test
+    @DisplayName("소켓 경로와 HTTP 경로를 나눈다")
+    void splitsSocketAndPath() {
+      UnixSocketTarget target = UnixSocketTarget.parse("unix:///var/run/app.sock:/api/health?verbose=1");
+
+      assertThat(target.socketPath()).isEqualTo(Path.of("/var/run/app.sock"));
+      assertThat(target.requestTarget()).isEqualTo("/api/health?verbose=1");
+    }
+
+    @Test
+    @DisplayName("슬래시 두 개를 생략해도 된다")
+    void acceptsShortForm() {
+      UnixSocketTarget target = UnixSocketTarget.parse("unix:/var/run/app.sock:/health");
+
+      assertThat(target.socketPath()).isEqualTo(Path.of("/var/run/app.sock"));
+      assertThat(target.requestTarget()).isEqualTo("/health");
+    }
+
+    @Test
+    @DisplayName("HTTP 경로를 생략하면 /를 사용한다")
+    void defaultsToRootPath() {
+      UnixSocketTarget target = UnixSocketTarget.parse("unix:///var/run/app.sock");
+
+      assertThat(target.socketPath()).isEqualTo(Path.of("/var/run/app.sock"));
+      assertThat(target.requestTarget()).isEqualTo("/");
+    }
+
+    @Test
+    @DisplayName("소켓 경로가 비어 있으면 예외를 던진다")
+    void rejectsEmptySocketPath() {
+      assertThatThrownBy(() -> UnixSocketTarget.parse("unix://:/health"))
+          .isInstanceOf(IllegalArgumentException.class);
+    }
+  }
+}
\ No newline at end of file
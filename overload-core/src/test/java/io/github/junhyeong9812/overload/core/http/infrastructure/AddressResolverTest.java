@@ -0,0 +1,88 @@
+package io.github.junhyeong9812.overload.core.http.infrastructure;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * {@link AddressResolver} 테스트.
+ *
+ * @author junhyeong9812
+ * @since 1.1.0
+ */
+@DisplayName("AddressResolver")
+class AddressResolverTest {
+
+  private static final AddressResolver.Lookup LOOPBACKS = host -> new InetAddress[] {
+      InetAddress.getByName("127.0.0.1"), InetAddress.getByName("127.0.0.2")
+  };
+
+  @Test
+  @DisplayName("모든 주소를 해석한다")
+  void resolvesAllAddresses() throws Exception {
+    AddressResolver resolver = new AddressResolver(Duration.ofSeconds(30), LOOPBACKS);
+
+    assertThat(resolver.resolve("target.test"))
+        .extracting(InetAddress::getHostAddress)
+        .containsExactly("127.0.0.1", "127.0.0.2");
+  }
+
+  @Test
+  @DisplayName("TTL 동안은 다시 조회하지 않고 같은 목록을 반환한다")
+  void cachesWithinTtl() throws Exception {
+    AddressResolver resolver = new AddressResolver(Duration.ofSeconds(30), LOOPBACKS);
+
+    List<InetAddress> first = resolver.resolve("target.test");
+    List<InetAddress> second = resolver.resolve("target.test");
+
+    assertThat(second).isSameAs(first);
+    assertThat(resolver.getLookupCount()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("TTL이 0이면 매번 조회한다")
+  void refreshesWhenExpired() throws Exception {
+    AddressResolver resolver = new AddressResolver(Duration.ZERO, LOOPBACKS);
+
+    resolver.resolve("target.test");
+    resolver.resolve("target.test");
+
+    assertThat(resolver.getLookupCount()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("재조회가 실패하면 이전 결과를 유지한다")
+  void keepsStaleAddressesOnFailure() throws Exception {
+    AtomicBoolean down = new AtomicBoolean();
+    AddressResolver resolver = new AddressResolver(Duration.ZERO, host -> {
+      if (down.get()) {
+        throw new UnknownHostException(host);
+      }
+      return LOOPBACKS.lookup(host);
+    });
+
+    List<InetAddress> first = resolver.resolve("target.test");
+    down.set(true);
+
+    assertThat(resolver.resolve("target.test")).isSameAs(first);
+  }
+
+  @Test
+  @DisplayName("처음 조회가 실패하면 예외를 던진다")
+  void throwsWhenNeverResolved() {
+    AddressResolver resolver = new AddressResolver(Duration.ofSeconds(30), host -> {
+      throw new UnknownHostException(host);
+    });
+
+    assertThatThrownBy(() -> resolver.resolve("missing.test"))
+        .isInstanceOf(UnknownHostException.class);
+  }
+}
\ No newline at end of file
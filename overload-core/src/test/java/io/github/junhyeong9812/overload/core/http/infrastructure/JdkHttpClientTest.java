@@ -1,5 +1,6 @@
 package io.github.junhyeong9812.overload.core.http.infrastructure;
 
+import com.sun.net.httpserver.HttpServer;
 import io.github.junhyeong9812.overload.core.config.HttpMethod;
 import io.github.junhyeong9812.overload.core.http.application.port.HttpClientPort;
 import io.github.junhyeong9812.overload.core.http.domain.ErrorType;
@@ -10,10 +11,19 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.net.BindException;
+import java.net.ConnectException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketException;
 import java.time.Duration;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 @DisplayName("JdkHttpClient")
 class JdkHttpClientTest {
@@ -85,6 +95,83 @@ class JdkHttpClientTest {
     }
   }
 
+  @Nested
+  @DisplayName("포트 고갈")
+  class PortExhaustionTest {
+
+    @Test
+    @DisplayName("원인 체인의 BindException을 포트 고갈로 판단한다")
+    void detectsWrappedBindException() {
+      ConnectException wrapped = new ConnectException("connect failed");
+      wrapped.initCause(new BindException("Cannot assign requested address"));
+
+      assertThat(JdkHttpClient.isPortExhaustion(wrapped)).isTrue();
+    }
+
+    @Test
+    @DisplayName("OS별 포트 고갈 메시지를 인식한다")
+    void detectsExhaustionMessages() {
+      assertThat(JdkHttpClient.isPortExhaustion(
+          new ConnectException("Cannot assign requested address"))).isTrue();
+      assertThat(JdkHttpClient.isPortExhaustion(
+          new SocketException("No buffer space available (maximum connections reached?)"))).isTrue();
+    }
+
+    @Test
+    @DisplayName("연결 거부는 포트 고갈이 아니다")
+    void ignoresConnectionRefused() {
+      assertThat(JdkHttpClient.isPortExhaustion(new ConnectException("Connection refused"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("할당되지 않은 출발지 주소로 바인딩하면 PORT_EXHAUSTED로 분류한다")
+    void classifiesBindFailure() throws Exception {
+      try (JdkHttpClient bound = new JdkHttpClient(
+          Duration.ofSeconds(2), List.of(InetAddress.getByName("10.255.255.1")))) {
+        RequestResult result = bound.send(
+            HttpRequest.from("http://127.0.0.1:59999", HttpMethod.GET, Map.of(), null));
+
+        assertThat(result).isInstanceOf(RequestResult.Failure.class);
+        assertThat(((RequestResult.Failure) result).errorType()).isEqualTo(ErrorType.PORT_EXHAUSTED);
+      }
+    }
+  }
+
+  @Nested
+  @DisplayName("출발지 주소")
+  class SourceAddressTest {
+
+    @Test
+    @DisplayName("여러 루프백 별칭에서 라운드 로빈으로 연결한다")
+    void bindsAcrossLoopbackAliases() throws Exception {
+      Set<String> peers = ConcurrentHashMap.newKeySet();
+      HttpServer server = HttpServer.create(
+          new InetSocketAddress(InetAddress.getByName("127.0.0.1"), 0), 0);
+      server.createContext("/", exchange -> {
+        peers.add(exchange.getRemoteAddress().getAddress().getHostAddress());
+        exchange.sendResponseHeaders(204, -1);
+        exchange.close();
+      });
+      server.start();
+
+      try (JdkHttpClient bound = new JdkHttpClient(Duration.ofSeconds(5), List.of(
+          InetAddress.getByName("127.0.0.2"), InetAddress.getByName("127.0.0.3")))) {
+        HttpRequest request = HttpRequest.from(
+            "http://127.0.0.1:" + server.getAddress().getPort() + "/", HttpMethod.GET, Map.of(), null);
+
+        for (int i = 0; i < 4; i++) {
+          RequestResult result = bound.send(request);
+          assumeTrue(result instanceof RequestResult.Success,
+              "loopback aliases are not configured on this host");
+        }
+
+        assertThat(peers).containsExactlyInAnyOrder("127.0.0.2", "127.0.0.3");
+      } finally {
+        server.stop(0);
+      }
+    }
+  }
+
   @Nested
   @DisplayName("Latency 측정")
   class LatencyTest {
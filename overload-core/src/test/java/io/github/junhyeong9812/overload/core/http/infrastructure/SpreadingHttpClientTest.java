@@ -0,0 +1,256 @@
+package io.github.junhyeong9812.overload.core.http.infrastructure;
+
+import io.github.junhyeong9812.overload.core.bench.infrastructure.LoopbackTargetServer;
+import io.github.junhyeong9812.overload.core.config.AddressSpreadConfig;
+import io.github.junhyeong9812.overload.core.config.HttpMethod;
+import io.github.junhyeong9812.overload.core.config.SpreadPolicy;
+import io.github.junhyeong9812.overload.core.http.application.port.HttpClientPort;
+import io.github.junhyeong9812.overload.core.http.domain.ErrorType;
+import io.github.junhyeong9812.overload.core.http.domain.HttpRequest;
+import io.github.junhyeong9812.overload.core.http.domain.RequestResult;
+import io.github.junhyeong9812.overload.core.metric.domain.AddressReport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * {@link SpreadingHttpClient} 테스트.
+ *
+ * @author junhyeong9812
+ * @since 1.1.0
+ */
+@DisplayName("SpreadingHttpClient")
+class SpreadingHttpClientTest {
+
+  private static final HttpRequest REQUEST = HttpRequest.from(
+      "http://api.internal:8080/users?page=2", HttpMethod.GET, Map.of("Accept", "*/*"), null);
+
+  @Nested
+  @DisplayName("주소 선택")
+  class SelectionTest {
+
+    @Test
+    @DisplayName("라운드 로빈은 해석된 모든 주소에 고르게 보낸다")
+    void spreadsRoundRobin() {
+      RecordingClient delegate = new RecordingClient(url -> success());
+      SpreadingHttpClient client = new SpreadingHttpClient(
+          delegate, AddressSpreadConfig.roundRobin(), resolver("127.0.0.1", "127.0.0.2", "127.0.0.3"));
+
+      for (int i = 0; i < 30; i++) {
+        client.send(REQUEST);
+      }
+
+      assertThat(delegate.countByHost())
+          .containsEntry("127.0.0.1", 10L)
+          .containsEntry("127.0.0.2", 10L)
+          .containsEntry("127.0.0.3", 10L);
+    }
+
+    @Test
+    @DisplayName("가중치에 비례해 보내고 같은 주소로 몰지 않는다")
+    void spreadsByWeight() {
+      RecordingClient delegate = new RecordingClient(url -> success());
+      AddressSpreadConfig config = AddressSpreadConfig.builder()
+          .policy(SpreadPolicy.WEIGHTED)
+          .weight("127.0.0.1", 3)
+          .build();
+      SpreadingHttpClient client = new SpreadingHttpClient(
+          delegate, config, resolver("127.0.0.1", "127.0.0.2"));
+
+      for (int i = 0; i < 400; i++) {
+        client.send(REQUEST);
+      }
+
+      assertThat(delegate.countByHost())
+          .containsEntry("127.0.0.1", 300L)
+          .containsEntry("127.0.0.2", 100L);
+      assertThat(delegate.urls.subList(0, 4))
+          .filteredOn(url -> url.contains("127.0.0.2"))
+          .hasSize(1);
+    }
+
+    @Test
+    @DisplayName("호스트만 IP로 바꾸고 포트, 경로, 쿼리는 유지한다")
+    void rewritesOnlyHost() {
+      RecordingClient delegate = new RecordingClient(url -> success());
+      SpreadingHttpClient client = new SpreadingHttpClient(
+          delegate, AddressSpreadConfig.roundRobin(), resolver("127.0.0.2"));
+
+      client.send(REQUEST);
+
+      assertThat(delegate.urls).containsExactly("http://127.0.0.2:8080/users?page=2");
+      assertThat(delegate.requests.get(0).headers()).containsEntry("Accept", "*/*");
+    }
+
+    @Test
+    @DisplayName("같은 요청에는 다시 쓴 요청을 재사용한다")
+    void reusesRewrittenRequests() {
+      RecordingClient delegate = new RecordingClient(url -> success());
+      SpreadingHttpClient client = new SpreadingHttpClient(
+          delegate, AddressSpreadConfig.roundRobin(), resolver("127.0.0.1"));
+
+      client.send(REQUEST);
+      client.send(REQUEST);
+
+      assertThat(delegate.requests.get(1)).isSameAs(delegate.requests.get(0));
+    }
+
+    @Test
+    @DisplayName("해석할 수 없는 호스트는 보내지 않고 실패로 반환한다")
+    void failsUnknownHost() {
+      RecordingClient delegate = new RecordingClient(url -> success());
+      SpreadingHttpClient client = new SpreadingHttpClient(
+          delegate, AddressSpreadConfig.roundRobin(),
+          new AddressResolver(Duration.ofSeconds(30), host -> {
+            throw new UnknownHostException(host);
+          }));
+
+      RequestResult result = client.send(REQUEST);
+
+      assertThat(result).isInstanceOf(RequestResult.Failure.class);
+      assertThat(((RequestResult.Failure) result).errorType()).isEqualTo(ErrorType.UNKNOWN);
+      assertThat(delegate.urls).isEmpty();
+    }
+  }
+
+  @Nested
+  @DisplayName("주소별 통계")
+  class ReportTest {
+
+    @Test
+    @DisplayName("주소별 요청 수, 오류 유형, 지연 시간을 보고한다")
+    void reportsPerAddress() {
+      RecordingClient delegate = new RecordingClient(url -> url.contains("127.0.0.2")
+          ? RequestResult.Failure.ofMicros("refused", ErrorType.CONNECTION_REFUSED, 300)
+          : RequestResult.Success.ofMicros(200, 1_500));
+      SpreadingHttpClient client = new SpreadingHttpClient(
+          delegate, AddressSpreadConfig.roundRobin(), resolver("127.0.0.1", "127.0.0.2"));
+
+      for (int i = 0; i < 10; i++) {
+        client.send(REQUEST);
+      }
+
+      List<AddressReport> reports = client.report();
+      assertThat(reports).extracting(AddressReport::address)
+          .containsExactly("127.0.0.1", "127.0.0.2");
+
+      AddressReport healthy = reports.get(0);
+      assertThat(healthy.requests()).isEqualTo(5);
+      assertThat(healthy.errorRate()).isZero();
+      assertThat(healthy.maxMicros()).isEqualTo(1_500);
+
+      AddressReport refused = reports.get(1);
+      assertThat(refused.failures()).isEqualTo(5);
+      assertThat(refused.errors()).containsExactly(Map.entry(ErrorType.CONNECTION_REFUSED, 5L));
+      assertThat(refused.errorRate()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("기록 조건을 만족하지 않을 때 완료된 요청은 집계하지 않는다")
+    void skipsRequestsOutsideRecording() {
+      AtomicBoolean measuring = new AtomicBoolean(false);
+      SpreadingHttpClient client = new SpreadingHttpClient(
+          new RecordingClient(url -> success()), AddressSpreadConfig.roundRobin(),
+          resolver("127.0.0.1", "127.0.0.2"), measuring::get);
+
+      for (int i = 0; i < 6; i++) {
+        client.send(REQUEST);
+      }
+      measuring.set(true);
+      for (int i = 0; i < 4; i++) {
+        client.send(REQUEST);
+      }
+
+      assertThat(client.report()).extracting(AddressReport::requests)
+          .containsExactly(2L, 2L);
+    }
+  }
+
+  @Nested
+  @DisplayName("루프백 주소")
+  class LoopbackTest {
+
+    @Test
+    @DisplayName("127.0.0.x 리스너 각각에 요청이 나뉜다")
+    void spreadsAcrossLoopbackListeners() throws Exception {
+      InetAddress first = InetAddress.getByName("127.0.0.1");
+      InetAddress second = InetAddress.getByName("127.0.0.2");
+
+      try (LoopbackTargetServer a = LoopbackTargetServer.builder().bindAddress(first).build().start()) {
+        LoopbackTargetServer b;
+        try {
+          b = LoopbackTargetServer.builder().bindAddress(second).port(a.port()).build().start();
+        } catch (IOException e) {
+          assumeTrue(false, "127.0.0.2 is not configured on this host");
+          return;
+        }
+
+        try (b; JdkHttpClient jdk = new JdkHttpClient(Duration.ofSeconds(5))) {
+          SpreadingHttpClient client = new SpreadingHttpClient(jdk, AddressSpreadConfig.roundRobin(),
+              new AddressResolver(Duration.ofSeconds(30), host -> new InetAddress[] {first, second}));
+          HttpRequest request = HttpRequest.from(
+              "http://target.test:" + a.port() + "/", HttpMethod.GET, Map.of(), null);
+
+          for (int i = 0; i < 10; i++) {
+            assertThat(client.send(request)).isInstanceOf(RequestResult.Success.class);
+          }
+
+          assertThat(a.servedRequests()).isEqualTo(5);
+          assertThat(b.servedRequests()).isEqualTo(5);
+          assertThat(client.report()).allMatch(report -> report.requests() == 5);
+        }
+      }
+    }
+  }
+
+  private static AddressResolver resolver(String... ips) {
+    return new AddressResolver(Duration.ofSeconds(30), host -> {
+      InetAddress[] addresses = new InetAddress[ips.length];
+      for (int i = 0; i < ips.length; i++) {
+        addresses[i] = InetAddress.getByName(ips[i]);
+      }
+      return addresses;
+    });
+  }
+
+  private static RequestResult success() {
+    return RequestResult.Success.ofMicros(200, 1_000);
+  }
+
+  private static class RecordingClient implements HttpClientPort {
+
+    private final Function<String, RequestResult> responder;
+    private final List<HttpRequest> requests = new CopyOnWriteArrayList<>();
+    private final List<String> urls = new CopyOnWriteArrayList<>();
+
+    RecordingClient(Function<String, RequestResult> responder) {
+      this.responder = responder;
+    }
+
+    @Override
+    public RequestResult send(HttpRequest request) {
+      requests.add(request);
+      urls.add(request.url());
+      return responder.apply(request.url());
+    }
+
+    Map<String, Long> countByHost() {
+      return urls.stream().collect(Collectors.groupingBy(
+          url -> java.net.URI.create(url).getHost(), Collectors.counting()));
+    }
+  }
+}
\ No newline at end of file
@@ -0,0 +1,184 @@
+package io.github.junhyeong9812.overload.core.http.infrastructure;
+
+import com.sun.net.httpserver.HttpsConfigurator;
+import com.sun.net.httpserver.HttpsServer;
+import io.github.junhyeong9812.overload.core.config.HttpMethod;
+import io.github.junhyeong9812.overload.core.config.TlsConfig;
+import io.github.junhyeong9812.overload.core.http.domain.HttpRequest;
+import io.github.junhyeong9812.overload.core.http.domain.RequestResult;
+import io.github.junhyeong9812.overload.core.metric.domain.TlsReport;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.SSLContext;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.file.Path;
+import java.security.KeyStore;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("TLS 핸드셰이크 계측")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class TlsHandshakeTest {
+
+  private static final String PASSWORD = "changeit";
+  private static final int REQUESTS = 10;
+
+  @TempDir
+  Path tempDir;
+
+  private Path keyStore;
+  private HttpsServer server;
+  private String url;
+
+  @BeforeAll
+  void startServer() throws Exception {
+    keyStore = tempDir.resolve("server.p12");
+    Process keytool = new ProcessBuilder(
+        Path.of(System.getProperty("java.home"), "bin", "keytool").toString(),
+        "-genkeypair", "-alias", "server", "-keyalg", "EC", "-groupname", "secp256r1",
+        "-dname", "CN=127.0.0.1", "-ext", "san=ip:127.0.0.1",
+        "-validity", "1", "-storetype", "PKCS12",
+        "-keystore", keyStore.toString(),
+        "-storepass", PASSWORD, "-keypass", PASSWORD)
+        .redirectErrorStream(true)
+        .start();
+    assertThat(keytool.waitFor()).isZero();
+
+    KeyStore ks = KeyStore.getInstance(keyStore.toFile(), PASSWORD.toCharArray());
+    KeyManagerFactory kmf = KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
+    kmf.init(ks, PASSWORD.toCharArray());
+    SSLContext context = SSLContext.getInstance("TLS");
+    context.init(kmf.getKeyManagers(), null, null);
+
+    server = HttpsServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+    server.setHttpsConfigurator(new HttpsConfigurator(context));
+    // 요청마다 연결을 닫아 매번 새 핸드셰이크가 일어나게 한다
+    server.createContext("/", exchange -> {
+      exchange.getResponseHeaders().set("Connection", "close");
+      exchange.sendResponseHeaders(204, -1);
+      exchange.close();
+    });
+    server.start();
+    url = "https://127.0.0.1:" + server.getAddress().getPort() + "/";
+  }
+
+  @AfterAll
+  void stopServer() {
+    if (server != null) {
+      server.stop(0);
+    }
+  }
+
+  private TlsReport run(TlsConfig tls) {
+    try (JdkHttpClient client = new JdkHttpClient(Duration.ofSeconds(5), List.of(), tls)) {
+      for (int i = 0; i < REQUESTS; i++) {
+        RequestResult result = client.send(HttpRequest.from(url, HttpMethod.GET, Map.of(), null));
+        assertThat(result).isInstanceOf(RequestResult.Success.class);
+      }
+      return client.tlsReport();
+    }
+  }
+
+  @Nested
+  @DisplayName("세션 재개")
+  class ResumptionTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"TLSv1.3", "TLSv1.2"})
+    @DisplayName("재개가 켜져 있으면 첫 연결만 전체 핸드셰이크를 한다")
+    void resumesAfterFirstHandshake(String protocol) {
+      TlsReport report = run(TlsConfig.builder()
+          .protocol(protocol)
+          .trustStore(keyStore, PASSWORD)
+          .build());
+
+      assertThat(report.fullHandshakes()).isEqualTo(1);
+      assertThat(report.resumedHandshakes()).isEqualTo(REQUESTS - 1);
+      assertThat(report.failedHandshakes()).isZero();
+      assertThat(report.maxMicros()).isPositive();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"TLSv1.3", "TLSv1.2"})
+    @DisplayName("재개를 끄면 모든 연결이 전체 핸드셰이크를 한다")
+    void fullHandshakeWhenResumptionDisabled(String protocol) {
+      TlsReport report = run(TlsConfig.builder()
+          .protocol(protocol)
+          .sessionResumption(false)
+          .trustStore(keyStore, PASSWORD)
+          .build());
+
+      assertThat(report.fullHandshakes()).isEqualTo(REQUESTS);
+      assertThat(report.resumedHandshakes()).isZero();
+      assertThat(report.resumptionRate()).isZero();
+    }
+  }
+
+  @Nested
+  @DisplayName("인증서 검증")
+  class TrustTest {
+
+    @Test
+    @DisplayName("신뢰하지 않는 인증서는 실패한 핸드셰이크로 집계된다")
+    void countsUntrustedCertificateAsFailure() {
+      try (JdkHttpClient client = new JdkHttpClient(Duration.ofSeconds(5), List.of(), TlsConfig.defaults())) {
+        RequestResult result = client.send(HttpRequest.from(url, HttpMethod.GET, Map.of(), null));
+
+        assertThat(result).isInstanceOf(RequestResult.Failure.class);
+        assertThat(client.tlsReport().failedHandshakes()).isEqualTo(1);
+        assertThat(client.tlsReport().completedHandshakes()).isZero();
+      }
+    }
+
+    @Test
+    @DisplayName("trustAll이면 호스트 이름이 달라도 성공한다")
+    void trustAllSkipsVerification() {
+      try (JdkHttpClient client = new JdkHttpClient(Duration.ofSeconds(5), List.of(),
+          TlsConfig.builder().trustAll(true).build())) {
+        String localhostUrl = "https://localhost:" + server.getAddress().getPort() + "/";
+        RequestResult result = client.send(HttpRequest.from(localhostUrl, HttpMethod.GET, Map.of(), null));
+
+        assertThat(result).isInstanceOf(RequestResult.Success.class);
+      }
+    }
+  }
+
+  @Nested
+  @DisplayName("설정 검증")
+  class ValidationTest {
+
+    @Test
+    @DisplayName("지원하지 않는 프로토콜은 예외를 던진다")
+    void rejectsUnsupportedProtocol() {
+      TlsConfig tls = TlsConfig.builder().protocol("TLSv9").build();
+
+      assertThatThrownBy(() -> new JdkHttpClient(Duration.ofSeconds(5), List.of(), tls))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessageContaining("TLSv9");
+    }
+
+    @Test
+    @DisplayName("trustStore와 trustAll은 함께 쓸 수 없다")
+    void rejectsTrustStoreWithTrustAll() {
+      assertThatThrownBy(() -> TlsConfig.builder()
+          .trustStore(Path.of("ks.p12"), PASSWORD)
+          .trustAll(true)
+          .build())
+          .isInstanceOf(IllegalArgumentException.class);
+    }
+  }
+}
\ No newline at end of file
@@ -0,0 +1,214 @@
+package io.github.junhyeong9812.overload.core.http.infrastructure;
+
+import io.github.junhyeong9812.overload.core.LoadTester;
+import io.github.junhyeong9812.overload.core.config.HttpMethod;
+import io.github.junhyeong9812.overload.core.config.LoadTestConfig;
+import io.github.junhyeong9812.overload.core.config.TlsConfig;
+import io.github.junhyeong9812.overload.core.http.domain.ErrorType;
+import io.github.junhyeong9812.overload.core.http.domain.HttpRequest;
+import io.github.junhyeong9812.overload.core.http.domain.RequestResult;
+import io.github.junhyeong9812.overload.core.metric.domain.TestResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("UnixSocketHttpClient")
+class UnixSocketHttpClientTest {
+
+  @TempDir
+  Path tempDir;
+
+  private Path socket;
+  private ServerSocketChannel server;
+  private final AtomicInteger connections = new AtomicInteger();
+  private final List<String> requestLines = new CopyOnWriteArrayList<>();
+  private final List<String> hosts = new CopyOnWriteArrayList<>();
+  private UnixSocketHttpClient client;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    socket = tempDir.resolve("app.sock");
+    server = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+    server.bind(UnixDomainSocketAddress.of(socket));
+    Thread.ofPlatform().daemon().start(() -> {
+      try {
+        while (true) {
+          SocketChannel channel = server.accept();
+          connections.incrementAndGet();
+          Thread.ofPlatform().daemon().start(() -> serve(channel));
+        }
+      } catch (IOException e) {
+        // 서버 종료
+      }
+    });
+    client = new UnixSocketHttpClient(Duration.ofMillis(500));
+  }
+
+  @AfterEach
+  void tearDown() throws IOException {
+    client.close();
+    server.close();
+  }
+
+  /**
+   * 경로에 따라 Content-Length, chunked, 연결 종료, 무응답으로 답하는 테스트 서버.
+   */
+  private void serve(SocketChannel channel) {
+    try (channel) {
+      BufferedReader in = new BufferedReader(
+          new InputStreamReader(Channels.newInputStream(channel), StandardCharsets.ISO_8859_1));
+      OutputStream out = Channels.newOutputStream(channel);
+      for (String line = in.readLine(); line != null; line = in.readLine()) {
+        requestLines.add(line);
+        int length = 0;
+        for (String header = in.readLine(); !header.isEmpty(); header = in.readLine()) {
+          String lower = header.toLowerCase(Locale.ROOT);
+          if (lower.startsWith("content-length:")) {
+            length = Integer.parseInt(header.substring(15).trim());
+          } else if (lower.startsWith("host:")) {
+            hosts.add(header.substring(5).trim());
+          }
+        }
+        in.skip(length);
+        String path = line.split(" ")[1];
+        switch (path) {
+          case "/chunked" -> out.write(("HTTP/1.1 201 Created\r\nTransfer-Encoding: chunked\r\n\r\n"
+              + "3;ext=1\r\nabc\r\n2\r\nde\r\n0\r\n\r\n").getBytes(StandardCharsets.ISO_8859_1));
+          case "/close" -> {
+            out.write("HTTP/1.1 202 Accepted\r\nConnection: close\r\n\r\nuntil-close"
+                .getBytes(StandardCharsets.ISO_8859_1));
+            return;
+          }
+          case "/slow" -> {
+            Thread.sleep(2_000);
+            return;
+          }
+          default -> out.write("HTTP/1.1 200 OK\r\nContent-Length: 5\r\n\r\nhello"
+              .getBytes(StandardCharsets.ISO_8859_1));
+        }
+        out.flush();
+      }
+    } catch (IOException | InterruptedException e) {
+      // 연결 종료
+    }
+  }
+
+  private RequestResult get(String path) {
+    return client.send(HttpRequest.from("unix://" + socket + ":" + path, HttpMethod.GET, Map.of(), null));
+  }
+
+  @Nested
+  @DisplayName("요청 전송")
+  class SendTest {
+
+    @Test
+    @DisplayName("HTTP 경로와 기본 Host 헤더로 요청한다")
+    void sendsRequestLineAndHost() {
+      RequestResult result = client.send(HttpRequest.from(
+          "unix://" + socket + ":/api/users?id=1", HttpMethod.POST, Map.of(), "{\"a\":1}"));
+
+      assertThat(result).isInstanceOf(RequestResult.Success.class);
+      assertThat(((RequestResult.Success) result).statusCode()).isEqualTo(200);
+      assertThat(requestLines).containsExactly("POST /api/users?id=1 HTTP/1.1");
+      assertThat(hosts).containsExactly("localhost");
+    }
+
+    @Test
+    @DisplayName("Content-Length와 chunked 응답 뒤에는 연결을 재사용한다")
+    void reusesConnection() {
+      assertThat(get("/")).isInstanceOf(RequestResult.Success.class);
+      assertThat(get("/chunked")).isInstanceOf(RequestResult.Success.class);
+      assertThat(get("/")).isInstanceOf(RequestResult.Success.class);
+
+      assertThat(connections).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Connection: close 응답 뒤에는 새 연결을 연다")
+    void reconnectsAfterClose() {
+      RequestResult closed = get("/close");
+      RequestResult next = get("/");
+
+      assertThat(((RequestResult.Success) closed).statusCode()).isEqualTo(202);
+      assertThat(next).isInstanceOf(RequestResult.Success.class);
+      assertThat(connections).hasValue(2);
+    }
+  }
+
+  @Nested
+  @DisplayName("에러 처리")
+  class ErrorHandlingTest {
+
+    @Test
+    @DisplayName("응답이 타임아웃을 넘기면 TIMEOUT으로 분류한다")
+    void classifiesTimeout() {
+      RequestResult result = get("/slow");
+
+      assertThat(result).isInstanceOf(RequestResult.Failure.class);
+      assertThat(((RequestResult.Failure) result).errorType()).isEqualTo(ErrorType.TIMEOUT);
+    }
+
+    @Test
+    @DisplayName("소켓 파일이 없으면 CONNECTION_REFUSED로 분류한다")
+    void classifiesMissingSocket() {
+      RequestResult result = client.send(HttpRequest.from(
+          "unix://" + tempDir.resolve("missing.sock") + ":/", HttpMethod.GET, Map.of(), null));
+
+      assertThat(result).isInstanceOf(RequestResult.Failure.class);
+      assertThat(((RequestResult.Failure) result).errorType()).isEqualTo(ErrorType.CONNECTION_REFUSED);
+    }
+  }
+
+  @Nested
+  @DisplayName("LoadTester 연동")
+  class LoadTesterTest {
+
+    @Test
+    @DisplayName("unix: 대상도 다른 대상처럼 실행하고 집계한다")
+    void runsThroughLoadTester() {
+      TestResult result = LoadTester.run(LoadTestConfig.builder()
+          .url("unix://" + socket + ":/")
+          .concurrency(4)
+          .totalRequests(200)
+          .build());
+
+      assertThat(result.successCount()).isEqualTo(200);
+      assertThat(result.latencyStats().percentiles().p99Micros()).isPositive();
+      assertThat(connections.get()).isLessThanOrEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("unix: 대상에는 TLS를 설정할 수 없다")
+    void rejectsTlsForUnixTarget() {
+      assertThatThrownBy(() -> LoadTestConfig.builder()
+          .url("unix://" + socket + ":/")
+          .tls(TlsConfig.defaults())
+          .build())
+          .isInstanceOf(IllegalArgumentException.class);
+    }
+  }
+}
\ No newline at end of file
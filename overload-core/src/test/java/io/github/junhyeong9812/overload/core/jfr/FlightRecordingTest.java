@@ -0,0 +1,67 @@
+package io.github.junhyeong9812.overload.core.jfr;
+
+import io.github.junhyeong9812.overload.core.config.HttpMethod;
+import io.github.junhyeong9812.overload.core.http.domain.HttpRequest;
+import io.github.junhyeong9812.overload.core.http.domain.RequestResult;
+import io.github.junhyeong9812.overload.core.metric.domain.IntervalStats;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link FlightRecording}, {@link RequestEvent}, {@link IntervalEvent} 테스트.
+ *
+ * @author junhyeong9812
+ * @since 1.1.0
+ */
+@DisplayName("FlightRecording")
+class FlightRecordingTest {
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  @DisplayName("Overload 이벤트를 포함한 레코딩을 파일로 저장한다")
+  void writesOverloadEvents() throws IOException {
+    Path file = tempDir.resolve("run.jfr");
+    HttpRequest request = new HttpRequest("http://localhost/api", HttpMethod.GET, Map.of(), null);
+
+    try (FlightRecording recording = FlightRecording.start(file)) {
+      RequestEvent event = new RequestEvent();
+      event.begin();
+      if (event.shouldCommit()) {
+        event.set(request, new RequestResult.Success(200, 12));
+        event.commit();
+      }
+      IntervalEvent.emit(new IntervalStats(
+          Duration.ofSeconds(1), Duration.ofSeconds(1), 100, 1, 0, 10, 40, 50, 12.5));
+    }
+
+    List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+
+    RecordedEvent requestEvent = findEvent(events, RequestEvent.NAME);
+    assertThat(requestEvent.getString("endpoint")).isEqualTo("http://localhost/api");
+    assertThat(requestEvent.getInt("statusCode")).isEqualTo(200);
+
+    RecordedEvent intervalEvent = findEvent(events, IntervalEvent.NAME);
+    assertThat(intervalEvent.getLong("requests")).isEqualTo(100);
+    assertThat(intervalEvent.getDouble("errorRate")).isEqualTo(0.01);
+  }
+
+  private RecordedEvent findEvent(List<RecordedEvent> events, String name) {
+    return events.stream()
+        .filter(e -> e.getEventType().getName().equals(name))
+        .findFirst()
+        .orElseThrow(() -> new AssertionError("Missing event " + name));
+  }
+}
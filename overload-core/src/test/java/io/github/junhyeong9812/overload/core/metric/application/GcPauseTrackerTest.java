@@ -0,0 +1,163 @@
+package io.github.junhyeong9812.overload.core.metric.application;
+
+import io.github.junhyeong9812.overload.core.http.domain.RequestResult;
+import io.github.junhyeong9812.overload.core.metric.domain.GcPauseReport;
+import io.github.junhyeong9812.overload.core.metric.domain.TestResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * {@link GcPauseTracker} 테스트.
+ *
+ * @author junhyeong9812
+ * @since 1.1.0
+ */
+@DisplayName("GcPauseTracker")
+class GcPauseTrackerTest {
+
+  @Nested
+  @DisplayName("isPauseCollector")
+  class PauseCollectorTest {
+
+    @Test
+    @DisplayName("멈춤 단위로 보고하는 수집기만 선택한다")
+    void selectsPauseCollectors() {
+      assertThat(GcPauseTracker.isPauseCollector("G1 Young Generation")).isTrue();
+      assertThat(GcPauseTracker.isPauseCollector("G1 Old Generation")).isTrue();
+      assertThat(GcPauseTracker.isPauseCollector("ZGC Pauses")).isTrue();
+      assertThat(GcPauseTracker.isPauseCollector("Shenandoah Pauses")).isTrue();
+      assertThat(GcPauseTracker.isPauseCollector("G1 Concurrent GC")).isFalse();
+      assertThat(GcPauseTracker.isPauseCollector("ZGC Cycles")).isFalse();
+      assertThat(GcPauseTracker.isPauseCollector("ZGC Major Cycles")).isFalse();
+    }
+  }
+
+  @Nested
+  @DisplayName("record")
+  class RecordTest {
+
+    @Test
+    @DisplayName("GC 멈춤 동안 진행 중이던 요청만 멈춤과 겹친 것으로 분류한다")
+    void classifiesRequestsInFlightDuringPause() throws InterruptedException {
+      GcPauseTracker tracker = new GcPauseTracker();
+      tracker.start();
+
+      long begin = System.nanoTime();
+      System.gc();
+      long end = System.nanoTime();
+      tracker.record(RequestResult.Success.ofMicros(200, (end - begin) / 1_000), end);
+      Thread.sleep(50);
+      tracker.record(RequestResult.Success.ofMicros(200, 1_000), System.nanoTime());
+      tracker.close();
+
+      GcPauseReport report = tracker.report(overallOf(end - begin));
+      assumeTrue(report.pauses() > 0, "explicit GC did not produce a pause notification");
+      assertThat(report.measuredRequests()).isEqualTo(2);
+      assertThat(report.affectedRequests()).isEqualTo(1);
+      assertThat(report.cleanLatencyStats().maxMicros()).isEqualTo(1_000);
+    }
+
+    @Test
+    @DisplayName("시작 전에 일어난 GC는 세지 않는다")
+    void ignoresPausesBeforeStart() {
+      System.gc();
+      GcPauseTracker tracker = new GcPauseTracker();
+      tracker.start();
+      tracker.record(RequestResult.Success.ofMicros(200, 100), System.nanoTime());
+      tracker.close();
+
+      GcPauseReport report = tracker.report(overallOf(100_000));
+
+      assertThat(report.pauses()).isZero();
+      assertThat(report.measuredRequests()).isEqualTo(1);
+      assertThat(report.affectedRequests()).isZero();
+    }
+  }
+
+  @Nested
+  @DisplayName("addListener")
+  class ListenerTest {
+
+    @Test
+    @DisplayName("분류 결과를 완료 시각과 함께 리스너에 전달한다")
+    void notifiesClassification() {
+      GcPauseTracker tracker = new GcPauseTracker();
+      List<Boolean> classified = new ArrayList<>();
+      List<Long> endTimes = new ArrayList<>();
+      tracker.addListener((result, endNanos, generatorPause) -> {
+        classified.add(generatorPause);
+        endTimes.add(endNanos);
+      });
+      tracker.start();
+
+      long end = System.nanoTime();
+      tracker.record(RequestResult.Success.ofMicros(200, 100), end);
+      tracker.close();
+
+      assertThat(classified).containsExactly(false);
+      assertThat(endTimes).containsExactly(end);
+    }
+
+    @Test
+    @DisplayName("오래된 멈춤을 버려도 새 멈춤과 겹친 요청은 분류하고 멈춤 수는 모두 센다")
+    void keepsCountingAfterPruning() throws InterruptedException {
+      GcPauseTracker tracker = new GcPauseTracker(Duration.ofMillis(1));
+      List<Boolean> classified = new ArrayList<>();
+      tracker.addListener((result, endNanos, generatorPause) -> classified.add(generatorPause));
+      tracker.start();
+
+      System.gc();
+      Thread.sleep(1_100);
+      long begin = System.nanoTime();
+      System.gc();
+      long end = System.nanoTime();
+      tracker.record(RequestResult.Success.ofMicros(200, (end - begin) / 1_000), end);
+      tracker.close();
+
+      GcPauseReport report = tracker.report(overallOf(end - begin));
+      assumeTrue(report.pauses() >= 2, "explicit GC did not produce pause notifications");
+      assertThat(classified).containsExactly(true);
+    }
+  }
+
+  @Nested
+  @DisplayName("report")
+  class ReportTest {
+
+    @Test
+    @DisplayName("멈춤과 겹친 요청이 없으면 전체와 같은 통계와 0 비율을 보고한다")
+    void reportsNoImpactWithoutPauses() {
+      GcPauseTracker tracker = new GcPauseTracker();
+      MetricAggregator aggregator = new MetricAggregator();
+      for (int i = 1; i <= 1_000; i++) {
+        RequestResult result = RequestResult.Success.ofMicros(200, i);
+        aggregator.record(result);
+        tracker.record(result, System.nanoTime());
+      }
+      tracker.close();
+
+      GcPauseReport report = tracker.report(aggregator.aggregate().latencyStats());
+
+      assertThat(report.pauses()).isZero();
+      assertThat(report.affectedRequests()).isZero();
+      assertThat(report.affectedRatio()).isZero();
+      assertThat(report.tailShare()).isZero();
+      assertThat(report.tailRequests()).isBetween(1L, 10L);
+      assertThat(report.cleanLatencyStats().maxMicros()).isEqualTo(1_000);
+    }
+  }
+
+  private static TestResult.LatencyStats overallOf(long latencyNanos) {
+    MetricAggregator aggregator = new MetricAggregator();
+    aggregator.record(RequestResult.Success.ofMicros(200, Math.max(1, latencyNanos / 1_000)));
+    return aggregator.aggregate().latencyStats();
+  }
+}
\ No newline at end of file
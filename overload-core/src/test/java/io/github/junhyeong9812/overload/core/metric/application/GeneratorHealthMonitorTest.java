@@ -0,0 +1,101 @@
+package io.github.junhyeong9812.overload.core.metric.application;
+
+import io.github.junhyeong9812.overload.core.engine.domain.EngineInstrumentation;
+import io.github.junhyeong9812.overload.core.metric.domain.GeneratorHealth;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * {@link GeneratorHealthMonitor} 테스트.
+ *
+ * @author junhyeong9812
+ * @since 1.1.0
+ */
+@DisplayName("GeneratorHealthMonitor")
+class GeneratorHealthMonitorTest {
+
+  @Test
+  @DisplayName("EngineInstrumentation 인터페이스를 구현한다")
+  void implementsEngineInstrumentation() {
+    assertThat(new GeneratorHealthMonitor()).isInstanceOf(EngineInstrumentation.class);
+  }
+
+  @Nested
+  @DisplayName("toHealth")
+  class ToHealthTest {
+
+    @Test
+    @DisplayName("나노초 값을 마이크로초 통계로 집계한다")
+    void aggregatesInMicros() {
+      GeneratorHealthMonitor monitor = new GeneratorHealthMonitor();
+
+      monitor.recordSchedulingLag(10_000);
+      monitor.recordSchedulingLag(30_000);
+      monitor.recordPermitWait(500_000);
+      monitor.recordCallbackTime(2_000);
+
+      GeneratorHealth health = monitor.toHealth(1_000, 0.1);
+
+      assertThat(health.schedulingLag().count()).isEqualTo(2);
+      assertThat(health.schedulingLag().avgMicros()).isCloseTo(20.0, within(0.01));
+      assertThat(health.permitWait().maxMicros()).isEqualTo(500);
+      assertThat(health.callbackTime().avgMicros()).isCloseTo(2.0, within(0.01));
+    }
+
+    @Test
+    @DisplayName("10ms를 넘는 대기도 백분위수가 최대값 근처에 머문다")
+    void keepsPercentilesAboveTenMillis() {
+      GeneratorHealthMonitor monitor = new GeneratorHealthMonitor();
+
+      for (int i = 0; i < 100; i++) {
+        monitor.recordPermitWait(400_000_000L + i * 1_000_000L);
+      }
+
+      GeneratorHealth health = monitor.toHealth(1_000, 0.1);
+
+      assertThat(health.permitWait().p50Micros()).isCloseTo(450_000, within(5_000L));
+      assertThat(health.permitWait().p99Micros()).isCloseTo(499_000, within(5_000L));
+    }
+
+    @Test
+    @DisplayName("허가 대기를 제외한 오버헤드 비율을 계산한다")
+    void excludesPermitWaitFromOverhead() {
+      GeneratorHealthMonitor monitor = new GeneratorHealthMonitor();
+
+      monitor.recordSchedulingLag(40_000);
+      monitor.recordPermitWait(5_000_000);
+      monitor.recordCallbackTime(10_000);
+
+      GeneratorHealth health = monitor.toHealth(1_000, 0.1);
+
+      assertThat(health.overheadRatio()).isCloseTo(0.05, within(0.0001));
+      assertThat(health.isOverloaded()).isFalse();
+    }
+
+    @Test
+    @DisplayName("오버헤드가 기준을 넘으면 overloaded로 표시한다")
+    void flagsOverloadedGenerator() {
+      GeneratorHealthMonitor monitor = new GeneratorHealthMonitor();
+
+      monitor.recordSchedulingLag(500_000);
+
+      GeneratorHealth health = monitor.toHealth(1_000, 0.1);
+
+      assertThat(health.isOverloaded()).isTrue();
+    }
+
+    @Test
+    @DisplayName("pinning 추적을 시작하지 않으면 추적되지 않은 것으로 표시한다")
+    void pinningNotTrackedByDefault() {
+      GeneratorHealthMonitor monitor = new GeneratorHealthMonitor();
+      monitor.start();
+      monitor.stop();
+
+      assertThat(monitor.toHealth(1_000, 0.1).pinningTracked()).isFalse();
+    }
+  }
+}
@@ -0,0 +1,133 @@
+package io.github.junhyeong9812.overload.core.metric.application;
+
+import io.github.junhyeong9812.overload.core.http.domain.ErrorType;
+import io.github.junhyeong9812.overload.core.http.domain.RequestResult;
+import io.github.junhyeong9812.overload.core.metric.domain.IntervalStats;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link IntervalRecorder}와 {@link IntervalReporter} 테스트.
+ *
+ * @author junhyeong9812
+ * @since 1.1.0
+ */
+@DisplayName("IntervalRecorder")
+class IntervalRecorderTest {
+
+  @Nested
+  @DisplayName("snapshot")
+  class SnapshotTest {
+
+    @Test
+    @DisplayName("구간 내 요청 수, 실패 수, 지연 통계를 반환한다")
+    void returnsWindowStats() {
+      IntervalRecorder recorder = new IntervalRecorder();
+
+      recorder.record(new RequestResult.Success(200, 10));
+      recorder.record(new RequestResult.Success(200, 30));
+      recorder.record(new RequestResult.Success(500, 20));
+      recorder.record(new RequestResult.Failure("refused", ErrorType.CONNECTION_REFUSED, 5));
+
+      IntervalStats stats = recorder.snapshot();
+
+      assertThat(stats.requests()).isEqualTo(4);
+      assertThat(stats.failures()).isEqualTo(2);
+      assertThat(stats.refused()).isEqualTo(1);
+      assertThat(stats.errorRate()).isEqualTo(0.5);
+      assertThat(stats.maxMs()).isEqualTo(30);
+      assertThat(stats.avgMs()).isEqualTo(16.25);
+    }
+
+    @Test
+    @DisplayName("스냅샷 후 새 구간을 시작한다")
+    void startsNewWindow() {
+      IntervalRecorder recorder = new IntervalRecorder();
+      recorder.record(new RequestResult.Success(200, 10));
+
+      recorder.snapshot();
+      IntervalStats next = recorder.snapshot();
+
+      assertThat(next.requests()).isZero();
+      assertThat(next.p99Ms()).isZero();
+      assertThat(next.requestsPerSecond()).isZero();
+    }
+
+    @Test
+    @DisplayName("경과 시간은 구간이 바뀌어도 실행 시작부터 누적된다")
+    void elapsedIsCumulative() {
+      IntervalRecorder recorder = new IntervalRecorder();
+
+      IntervalStats first = recorder.snapshot();
+      IntervalStats second = recorder.snapshot();
+
+      assertThat(second.elapsed()).isGreaterThanOrEqualTo(first.elapsed());
+      assertThat(second.duration()).isLessThanOrEqualTo(second.elapsed());
+    }
+  }
+
+  @Nested
+  @DisplayName("IntervalReporter")
+  class ReporterTest {
+
+    @Test
+    @DisplayName("주기마다 리스너에 구간 통계를 전달한다")
+    void reportsPeriodically() throws InterruptedException {
+      IntervalRecorder recorder = new IntervalRecorder();
+      List<IntervalStats> reported = new CopyOnWriteArrayList<>();
+
+      try (IntervalReporter reporter = new IntervalReporter(recorder, Duration.ofMillis(20))
+          .addListener(reported::add)
+          .start()) {
+        recorder.record(new RequestResult.Success(200, 10));
+        long deadline = System.nanoTime() + Duration.ofSeconds(2).toNanos();
+        while (reported.size() < 2 && System.nanoTime() < deadline) {
+          Thread.sleep(10);
+        }
+      }
+
+      assertThat(reported.size()).isGreaterThanOrEqualTo(2);
+      assertThat(reported.stream().mapToLong(IntervalStats::requests).sum()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("종료 시 마지막 부분 구간을 전달한다")
+    void reportsFinalPartialInterval() {
+      IntervalRecorder recorder = new IntervalRecorder();
+      List<IntervalStats> reported = new CopyOnWriteArrayList<>();
+
+      IntervalReporter reporter = new IntervalReporter(recorder, Duration.ofHours(1))
+          .addListener(reported::add)
+          .start();
+      recorder.record(new RequestResult.Success(200, 10));
+      reporter.close();
+
+      assertThat(reported).hasSize(1);
+      assertThat(reported.get(0).requests()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("리스너 예외는 다른 리스너에 영향을 주지 않는다")
+    void isolatesListenerFailures() {
+      IntervalRecorder recorder = new IntervalRecorder();
+      List<IntervalStats> reported = new CopyOnWriteArrayList<>();
+
+      IntervalReporter reporter = new IntervalReporter(recorder, Duration.ofHours(1))
+          .addListener(stats -> {
+            throw new IllegalStateException("boom");
+          })
+          .addListener(reported::add)
+          .start();
+      reporter.close();
+
+      assertThat(reported).hasSize(1);
+    }
+  }
+}
@@ -0,0 +1,184 @@
+package io.github.junhyeong9812.overload.core.metric.application;
+
+import io.github.junhyeong9812.overload.core.http.domain.RequestResult;
+import io.github.junhyeong9812.overload.core.metric.domain.RunCheckpoint;
+import io.github.junhyeong9812.overload.core.metric.domain.TestResult;
+import io.github.junhyeong9812.overload.core.metric.domain.WarmupResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link PhasedMetricAggregator} 테스트.
+ *
+ * @author junhyeong9812
+ * @since 1.1.0
+ */
+@DisplayName("PhasedMetricAggregator")
+class PhasedMetricAggregatorTest {
+
+  @Test
+  @DisplayName("워밍업이 없으면 모든 요청을 측정한다")
+  void measuresEverythingWithoutWarmup() {
+    PhasedMetricAggregator aggregator = new PhasedMetricAggregator(Duration.ZERO, 0, 10);
+
+    aggregator.start();
+    record(aggregator, 5, 100);
+    aggregator.end();
+
+    assertThat(aggregator.aggregate().totalRequests()).isEqualTo(5);
+    assertThat(aggregator.warmupResult()).isNull();
+  }
+
+  @Nested
+  @DisplayName("요청 수 워밍업")
+  class WarmupRequestsTest {
+
+    @Test
+    @DisplayName("워밍업 요청은 별도로 집계되고 측정 통계에서 제외된다")
+    void separatesWarmupRequests() {
+      PhasedMetricAggregator aggregator = new PhasedMetricAggregator(Duration.ZERO, 3, 1);
+
+      aggregator.start();
+      record(aggregator, 3, 500);
+      record(aggregator, 7, 10);
+      aggregator.end();
+
+      TestResult measured = aggregator.aggregate();
+      WarmupResult warmup = aggregator.warmupResult();
+      assertThat(warmup.totalRequests()).isEqualTo(3);
+      assertThat(warmup.latencyStats().max()).isEqualTo(500);
+      assertThat(measured.totalRequests()).isEqualTo(7);
+      assertThat(measured.latencyStats().max()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("측정 구간에 기록된 요청만 true를 반환한다")
+    void returnsWhetherMeasured() {
+      PhasedMetricAggregator aggregator = new PhasedMetricAggregator(Duration.ZERO, 2, 1);
+      RequestResult result = new RequestResult.Success(200, 10);
+
+      aggregator.start();
+
+      assertThat(aggregator.record(result)).isFalse();
+      assertThat(aggregator.record(result)).isFalse();
+      assertThat(aggregator.isMeasuring()).isFalse();
+      assertThat(aggregator.record(result)).isTrue();
+      assertThat(aggregator.isMeasuring()).isTrue();
+    }
+
+    @Test
+    @DisplayName("첫 동시 요청 묶음은 항상 워밍업에 포함한다")
+    void includesFirstWaveOfConcurrency() {
+      PhasedMetricAggregator aggregator = new PhasedMetricAggregator(Duration.ZERO, 2, 5);
+
+      aggregator.start();
+      record(aggregator, 8, 10);
+      aggregator.end();
+
+      assertThat(aggregator.warmupResult().totalRequests()).isEqualTo(5);
+      assertThat(aggregator.aggregate().totalRequests()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("워밍업 중에 끝나면 측정 구간은 비어 있다")
+    void emptyMeasurementWhenRunEndsDuringWarmup() {
+      PhasedMetricAggregator aggregator = new PhasedMetricAggregator(Duration.ZERO, 100, 1);
+
+      aggregator.start();
+      record(aggregator, 10, 10);
+      aggregator.end();
+
+      assertThat(aggregator.isMeasuring()).isTrue();
+      assertThat(aggregator.warmupResult().totalRequests()).isEqualTo(10);
+      assertThat(aggregator.aggregate().totalRequests()).isZero();
+    }
+  }
+
+  @Nested
+  @DisplayName("시간 워밍업")
+  class WarmupDurationTest {
+
+    @Test
+    @DisplayName("워밍업 시간이 지난 뒤 완료된 요청부터 측정한다")
+    void measuresAfterDuration() throws InterruptedException {
+      PhasedMetricAggregator aggregator = new PhasedMetricAggregator(Duration.ofMillis(50), 0, 1);
+
+      aggregator.start();
+      record(aggregator, 4, 10);
+      assertThat(aggregator.isMeasuring()).isFalse();
+
+      Thread.sleep(60);
+      record(aggregator, 6, 10);
+      aggregator.end();
+
+      assertThat(aggregator.warmupResult().totalRequests()).isEqualTo(4);
+      assertThat(aggregator.warmupResult().duration()).isGreaterThanOrEqualTo(Duration.ofMillis(50));
+      assertThat(aggregator.aggregate().totalRequests()).isEqualTo(6);
+    }
+  }
+
+  @Nested
+  @DisplayName("체크포인트")
+  class CheckpointTest {
+
+    @Test
+    @DisplayName("측정 중 저장한 체크포인트로 복원하면 워밍업 없이 이어서 집계한다")
+    void resumesMeasurement() {
+      PhasedMetricAggregator first = new PhasedMetricAggregator(Duration.ZERO, 3, 1);
+      first.start();
+      record(first, 3, 500);
+      record(first, 5, 10);
+      RunCheckpoint checkpoint = first.checkpoint("http://localhost/api", 20);
+
+      assertThat(checkpoint.measuring()).isTrue();
+      assertThat(checkpoint.completedRequests()).isEqualTo(8);
+      assertThat(checkpoint.remainingRequests()).isEqualTo(12);
+
+      PhasedMetricAggregator resumed = new PhasedMetricAggregator(Duration.ZERO, 3, 1);
+      resumed.restore(checkpoint);
+      resumed.start();
+      assertThat(resumed.isMeasuring()).isTrue();
+      record(resumed, 12, 30);
+      resumed.end();
+
+      TestResult measured = resumed.aggregate();
+      assertThat(measured.totalRequests()).isEqualTo(17);
+      assertThat(measured.latencyStats().min()).isEqualTo(10);
+      assertThat(measured.latencyStats().max()).isEqualTo(30);
+      assertThat(measured.totalDuration())
+          .isGreaterThanOrEqualTo(Duration.ofMillis(checkpoint.measured().elapsedMillis()));
+      assertThat(resumed.warmupResult().totalRequests()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("워밍업 중 저장한 체크포인트로 복원하면 남은 워밍업 요청부터 채운다")
+    void resumesWarmup() {
+      PhasedMetricAggregator first = new PhasedMetricAggregator(Duration.ZERO, 5, 1);
+      first.start();
+      record(first, 2, 500);
+      RunCheckpoint checkpoint = first.checkpoint("http://localhost/api", 20);
+
+      PhasedMetricAggregator resumed = new PhasedMetricAggregator(Duration.ZERO, 5, 1);
+      resumed.restore(checkpoint);
+      resumed.start();
+      record(resumed, 3, 500);
+      assertThat(resumed.isMeasuring()).isFalse();
+      record(resumed, 15, 10);
+      resumed.end();
+
+      assertThat(resumed.warmupResult().totalRequests()).isEqualTo(5);
+      assertThat(resumed.aggregate().totalRequests()).isEqualTo(15);
+    }
+  }
+
+  private static void record(PhasedMetricAggregator aggregator, int count, long latencyMs) {
+    for (int i = 0; i < count; i++) {
+      aggregator.record(new RequestResult.Success(200, latencyMs));
+    }
+  }
+}
\ No newline at end of file
@@ -0,0 +1,128 @@
+package io.github.junhyeong9812.overload.core.metric.application;
+
+import io.github.junhyeong9812.overload.core.config.HttpMethod;
+import io.github.junhyeong9812.overload.core.http.domain.ErrorType;
+import io.github.junhyeong9812.overload.core.http.domain.RequestResult;
+import io.github.junhyeong9812.overload.core.metric.domain.SlowRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * {@link SlowestRequestTracker} 테스트.
+ *
+ * @author junhyeong9812
+ * @since 1.1.0
+ */
+@DisplayName("SlowestRequestTracker")
+class SlowestRequestTrackerTest {
+
+  private static final String URL = "https://api.example.com/users";
+
+  @Nested
+  @DisplayName("record")
+  class RecordTest {
+
+    @Test
+    @DisplayName("가장 느린 요청만 느린 순으로 보관한다")
+    void keepsSlowestInDescendingOrder() {
+      SlowestRequestTracker tracker = new SlowestRequestTracker(3, URL, "GET /users");
+
+      for (long latency : new long[] {5, 40, 10, 70, 20, 60, 30}) {
+        tracker.record(RequestResult.Success.ofMicros(200, latency));
+      }
+
+      assertThat(tracker.snapshot())
+          .extracting(SlowRequest::latencyMicros)
+          .containsExactly(70L, 60L, 40L);
+    }
+
+    @Test
+    @DisplayName("가득 차기 전에는 모든 요청을 보관한다")
+    void keepsEverythingUntilFull() {
+      SlowestRequestTracker tracker = new SlowestRequestTracker(10, URL, "GET /users");
+
+      tracker.record(RequestResult.Success.ofMicros(200, 5));
+      tracker.record(RequestResult.Success.ofMicros(200, 1));
+
+      assertThat(tracker.snapshot())
+          .extracting(SlowRequest::latencyMicros)
+          .containsExactly(5L, 1L);
+    }
+
+    @Test
+    @DisplayName("실패한 요청은 상태 코드 0과 실패 유형으로 기록한다")
+    void recordsFailures() {
+      SlowestRequestTracker tracker = new SlowestRequestTracker(2, URL, "GET /users");
+
+      tracker.record(RequestResult.Failure.ofMicros("timeout", ErrorType.TIMEOUT, 5_000_000));
+      tracker.record(RequestResult.Success.ofMicros(503, 1_000));
+
+      List<SlowRequest> slowest = tracker.snapshot();
+
+      assertThat(slowest.get(0).isFailure()).isTrue();
+      assertThat(slowest.get(0).statusCode()).isZero();
+      assertThat(slowest.get(0).errorType()).isEqualTo(ErrorType.TIMEOUT);
+      assertThat(slowest.get(1).statusCode()).isEqualTo(503);
+      assertThat(slowest.get(1).errorType()).isNull();
+      assertThat(slowest).allSatisfy(slow -> {
+        assertThat(slow.url()).isEqualTo(URL);
+        assertThat(slow.endpoint()).isEqualTo("GET /users");
+        assertThat(slow.timestamp()).isNotNull();
+      });
+    }
+
+    @Test
+    @DisplayName("여러 스레드에서 기록해도 전체 상위 N건과 같다")
+    void isExactUnderConcurrency() throws InterruptedException {
+      SlowestRequestTracker tracker = new SlowestRequestTracker(5, URL, "GET /users");
+      ExecutorService executor = Executors.newFixedThreadPool(8);
+      for (int i = 1; i <= 10_000; i++) {
+        long latency = i;
+        executor.execute(() -> tracker.record(RequestResult.Success.ofMicros(200, latency)));
+      }
+      executor.shutdown();
+      assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+      assertThat(tracker.snapshot())
+          .extracting(SlowRequest::latencyMicros)
+          .containsExactly(10_000L, 9_999L, 9_998L, 9_997L, 9_996L);
+    }
+
+    @Test
+    @DisplayName("보관할 요청 수가 1 미만이면 설정 오류다")
+    void rejectsNonPositiveCapacity() {
+      assertThatThrownBy(() -> new SlowestRequestTracker(0, URL, "GET /users"))
+          .isInstanceOf(IllegalArgumentException.class);
+    }
+  }
+
+  @Nested
+  @DisplayName("endpointLabel")
+  class EndpointLabelTest {
+
+    @Test
+    @DisplayName("메서드와 쿼리를 뺀 경로로 이름을 만든다")
+    void usesMethodAndPath() {
+      assertThat(SlowestRequestTracker.endpointLabel(HttpMethod.POST, "https://api.example.com/users?page=2"))
+          .isEqualTo("POST /users");
+      assertThat(SlowestRequestTracker.endpointLabel(HttpMethod.GET, "https://api.example.com"))
+          .isEqualTo("GET /");
+    }
+
+    @Test
+    @DisplayName("Unix 도메인 소켓 대상은 요청 대상 경로를 사용한다")
+    void usesUnixSocketRequestTarget() {
+      assertThat(SlowestRequestTracker.endpointLabel(HttpMethod.GET, "unix:///var/run/app.sock:/health?x=1"))
+          .isEqualTo("GET /health");
+    }
+  }
+}
\ No newline at end of file
@@ -0,0 +1,179 @@
+package io.github.junhyeong9812.overload.core.metric.domain;
+
+import io.github.junhyeong9812.overload.core.http.domain.ErrorType;
+import io.github.junhyeong9812.overload.core.http.domain.RequestResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ColumnarResultStore")
+class ColumnarResultStoreTest {
+
+  @Nested
+  @DisplayName("append")
+  class AppendTest {
+
+    @Test
+    @DisplayName("성공과 실패를 열로 기록하고 순서대로 읽는다")
+    void appendsAndReadsInOrder() {
+      ColumnarResultStore store = new ColumnarResultStore(10);
+
+      store.append(RequestResult.Success.ofMicros(200, 312));
+      store.append(RequestResult.Success.ofMicros(503, 1_500));
+      store.append(RequestResult.Failure.ofMicros("refused", ErrorType.CONNECTION_REFUSED, 80));
+
+      assertThat(store.size()).isEqualTo(3);
+
+      ResultSample first = store.get(0);
+      assertThat(first.statusCode()).isEqualTo(200);
+      assertThat(first.latencyMicros()).isEqualTo(312);
+      assertThat(first.isHttpSuccess()).isTrue();
+
+      assertThat(store.get(1).isHttpSuccess()).isFalse();
+      assertThat(store.get(1).isFailure()).isFalse();
+
+      ResultSample failure = store.get(2);
+      assertThat(failure.isFailure()).isTrue();
+      assertThat(failure.errorType()).isEqualTo(ErrorType.CONNECTION_REFUSED);
+      assertThat(failure.statusCode()).isZero();
+    }
+
+    @Test
+    @DisplayName("기록 시각은 저장소 생성 이후로 증가한다")
+    void recordsMonotonicOffsets() {
+      ColumnarResultStore store = new ColumnarResultStore(3);
+
+      store.append(200, 10, null);
+      store.append(200, 10, null);
+
+      assertThat(store.get(0).offsetNanos()).isNotNegative();
+      assertThat(store.get(1).offsetNanos()).isGreaterThanOrEqualTo(store.get(0).offsetNanos());
+    }
+
+    @Test
+    @DisplayName("용량을 넘는 기록은 버리고 개수를 보고한다")
+    void dropsBeyondCapacity() {
+      ColumnarResultStore store = new ColumnarResultStore(2);
+
+      store.append(200, 1, null);
+      store.append(200, 2, null);
+      store.append(200, 3, null);
+
+      assertThat(store.size()).isEqualTo(2);
+      assertThat(store.getDropped()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 기록해도 유실되지 않는다")
+    void concurrentAppends() throws InterruptedException {
+      int threads = 8;
+      int perThread = 10_000;
+      ColumnarResultStore store = new ColumnarResultStore((long) threads * perThread);
+      ExecutorService executor = Executors.newFixedThreadPool(threads);
+      CountDownLatch start = new CountDownLatch(1);
+
+      for (int t = 0; t < threads; t++) {
+        executor.submit(() -> {
+          start.await();
+          for (int i = 0; i < perThread; i++) {
+            store.append(200, i, null);
+          }
+          return null;
+        });
+      }
+      start.countDown();
+      executor.shutdown();
+      assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+      assertThat(store.size()).isEqualTo((long) threads * perThread);
+      assertThat(store.latencyMicros().sum())
+          .isEqualTo((long) threads * perThread * (perThread - 1) / 2);
+    }
+
+    @Test
+    @DisplayName("용량이 1 미만이면 예외를 던진다")
+    void rejectsInvalidCapacity() {
+      assertThatThrownBy(() -> new ColumnarResultStore(0))
+          .isInstanceOf(IllegalArgumentException.class);
+    }
+  }
+
+  @Nested
+  @DisplayName("읽기")
+  class ReadTest {
+
+    @Test
+    @DisplayName("청크 경계를 넘어도 순회와 스트림이 모든 결과를 반환한다")
+    void iteratesAcrossChunks() {
+      int count = ColumnarResultStore.CHUNK_SIZE * 2 + 7;
+      ColumnarResultStore store = new ColumnarResultStore(count);
+      for (int i = 0; i < count; i++) {
+        store.append(200 + (i % 2), i, null);
+      }
+
+      List<ResultSample> iterated = new ArrayList<>();
+      store.forEach(iterated::add);
+
+      assertThat(iterated).hasSize(count);
+      assertThat(iterated.get(count - 1).latencyMicros()).isEqualTo(count - 1);
+      assertThat(store.stream().count()).isEqualTo(count);
+      assertThat(store.statusCodes().filter(code -> code == 201).count()).isEqualTo(count / 2);
+    }
+
+    @Test
+    @DisplayName("방문자는 객체 없이 모든 결과를 받는다")
+    void visitsWithoutAllocation() {
+      ColumnarResultStore store = new ColumnarResultStore(100);
+      store.append(200, 5, null);
+      store.append(0, 7, ErrorType.TIMEOUT);
+
+      AtomicLong latencySum = new AtomicLong();
+      AtomicLong timeouts = new AtomicLong();
+      store.forEachSample((status, latency, errorType, offset) -> {
+        latencySum.addAndGet(latency);
+        if (errorType == ErrorType.TIMEOUT) {
+          timeouts.incrementAndGet();
+        }
+      });
+
+      assertThat(latencySum.get()).isEqualTo(12);
+      assertThat(timeouts.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("RequestResult로 되돌리면 에러 유형 이름이 메시지가 된다")
+    void convertsBackToRequestResult() {
+      ColumnarResultStore store = new ColumnarResultStore(1);
+      store.append(RequestResult.Failure.ofMicros("timed out", ErrorType.TIMEOUT, 5_000_000));
+
+      RequestResult result = store.get(0).toRequestResult();
+
+      assertThat(result).isEqualTo(
+          RequestResult.Failure.ofMicros("TIMEOUT", ErrorType.TIMEOUT, 5_000_000));
+    }
+
+    @Test
+    @DisplayName("메모리는 기록된 청크만큼만 할당된다")
+    void allocatesChunksLazily() {
+      ColumnarResultStore store = new ColumnarResultStore(10_000_000);
+
+      assertThat(store.estimatedBytes()).isZero();
+
+      store.append(200, 1, null);
+
+      assertThat(store.estimatedBytes())
+          .isEqualTo((long) ColumnarResultStore.CHUNK_SIZE * ColumnarResultStore.BYTES_PER_SAMPLE);
+    }
+  }
+}
\ No newline at end of file
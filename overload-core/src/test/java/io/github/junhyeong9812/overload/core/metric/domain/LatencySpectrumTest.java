@@ -0,0 +1,145 @@
+package io.github.junhyeong9812.overload.core.metric.domain;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("LatencySpectrum")
+class LatencySpectrumTest {
+
+  private LogLinearHistogram histogram;
+
+  @BeforeEach
+  void setUp() {
+    histogram = new LogLinearHistogram();
+    for (int i = 1; i <= 10_000; i++) {
+      histogram.record(i * 10L);
+    }
+  }
+
+  @Nested
+  @DisplayName("valueAtPercentile")
+  class ValueAtPercentileTest {
+
+    @Test
+    @DisplayName("히스토그램과 같은 백분위수 값을 반환한다")
+    void matchesHistogram() {
+      LatencySpectrum spectrum = histogram.snapshot();
+
+      for (double p : new double[]{0, 50, 90, 99, 99.9, 99.99, 100}) {
+        assertThat(spectrum.valueAtPercentile(p)).isEqualTo(histogram.getPercentile(p));
+      }
+    }
+
+    @Test
+    @DisplayName("스냅샷 이후 기록은 반영하지 않는다")
+    void isImmutableSnapshot() {
+      LatencySpectrum spectrum = histogram.snapshot();
+      histogram.record(5_000_000);
+
+      assertThat(spectrum.totalCount()).isEqualTo(10_000);
+      assertThat(spectrum.maxMicros()).isEqualTo(100_000);
+    }
+  }
+
+  @Nested
+  @DisplayName("countAbove")
+  class CountAboveTest {
+
+    @Test
+    @DisplayName("기준값보다 느린 버킷의 샘플 수를 반환한다")
+    void countsSlowerBuckets() {
+      LatencySpectrum spectrum = histogram.snapshot();
+      long p99 = spectrum.valueAtPercentile(99);
+
+      assertThat(spectrum.countAbove(0)).isEqualTo(10_000);
+      assertThat(spectrum.countAbove(p99)).isBetween(1L, 100L);
+      assertThat(spectrum.countAbove(spectrum.maxMicros())).isZero();
+    }
+  }
+
+  @Nested
+  @DisplayName("distribution")
+  class DistributionTest {
+
+    @Test
+    @DisplayName("0%에서 시작해 전체 개수의 100% 점으로 끝난다")
+    void spansZeroToHundred() {
+      List<LatencySpectrum.Point> points = histogram.snapshot().distribution();
+
+      assertThat(points.get(0).percentile()).isZero();
+      LatencySpectrum.Point last = points.get(points.size() - 1);
+      assertThat(last.percentile()).isEqualTo(100.0);
+      assertThat(last.totalCount()).isEqualTo(10_000);
+      assertThat(last.valueMicros()).isEqualTo(100_000);
+    }
+
+    @Test
+    @DisplayName("값과 누적 개수는 감소하지 않고 꼬리로 갈수록 눈금이 촘촘해진다")
+    void monotonicAndDenserInTail() {
+      List<LatencySpectrum.Point> points = histogram.snapshot().distribution();
+
+      for (int i = 1; i < points.size(); i++) {
+        assertThat(points.get(i).percentile()).isGreaterThan(points.get(i - 1).percentile());
+        assertThat(points.get(i).valueMicros()).isGreaterThanOrEqualTo(points.get(i - 1).valueMicros());
+        assertThat(points.get(i).totalCount()).isGreaterThanOrEqualTo(points.get(i - 1).totalCount());
+      }
+      assertThat(points).anyMatch(p -> p.percentile() > 99.5 && p.percentile() < 100.0);
+    }
+
+    @Test
+    @DisplayName("눈금 수가 1 미만이면 예외를 던진다")
+    void rejectsInvalidTicks() {
+      assertThatThrownBy(() -> histogram.snapshot().distribution(0))
+          .isInstanceOf(IllegalArgumentException.class);
+    }
+  }
+
+  @Nested
+  @DisplayName("내보내기")
+  class ExportTest {
+
+    @Test
+    @DisplayName("hgrm은 HdrHistogram 헤더와 요약 줄을 밀리초로 출력한다")
+    void hgrmFormat() {
+      String hgrm = histogram.snapshot().toHgrm();
+
+      assertThat(hgrm).startsWith(
+          "       Value     Percentile TotalCount 1/(1-Percentile)");
+      assertThat(hgrm).contains("1.000000000000      10000");
+      assertThat(hgrm).contains("#[Max     =      100.000, Total count    =        10000]");
+    }
+
+    @Test
+    @DisplayName("CSV 마지막 행의 1/(1-Percentile)은 Infinity다")
+    void csvFormat() {
+      String[] lines = histogram.snapshot().toCsv().split("\n");
+
+      assertThat(lines[0]).isEqualTo("\"Value\",\"Percentile\",\"TotalCount\",\"1/(1-Percentile)\"");
+      assertThat(lines[1]).startsWith("0.010,0.000000000000,1,1.00");
+      assertThat(lines[lines.length - 1]).isEqualTo("100.000,1.000000000000,10000,Infinity");
+    }
+  }
+
+  @Nested
+  @DisplayName("빈 스펙트럼")
+  class EmptyTest {
+
+    @Test
+    @DisplayName("샘플이 없으면 0과 빈 분포를 반환한다")
+    void emptyValues() {
+      LatencySpectrum spectrum = new LogLinearHistogram().snapshot();
+
+      assertThat(spectrum.isEmpty()).isTrue();
+      assertThat(spectrum.valueAtPercentile(99)).isZero();
+      assertThat(spectrum.distribution()).isEmpty();
+      assertThat(LatencySpectrum.empty().isEmpty()).isTrue();
+    }
+  }
+}
\ No newline at end of file
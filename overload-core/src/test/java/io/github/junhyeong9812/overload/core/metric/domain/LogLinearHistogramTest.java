@@ -0,0 +1,158 @@
+package io.github.junhyeong9812.overload.core.metric.domain;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("LogLinearHistogram")
+class LogLinearHistogramTest {
+
+  private LogLinearHistogram histogram;
+
+  @BeforeEach
+  void setUp() {
+    histogram = new LogLinearHistogram();
+  }
+
+  @Nested
+  @DisplayName("생성")
+  class CreateTest {
+
+    @Test
+    @DisplayName("최대 추적 값이 1 미만이면 예외를 던진다")
+    void rejectsInvalidHighestValue() {
+      assertThatThrownBy(() -> new LogLinearHistogram(0))
+          .isInstanceOf(IllegalArgumentException.class);
+    }
+  }
+
+  @Nested
+  @DisplayName("getPercentile")
+  class GetPercentileTest {
+
+    @Test
+    @DisplayName("256 미만 값은 정확히 반환한다")
+    void exactBelowLinearRange() {
+      for (int i = 1; i <= 200; i++) {
+        histogram.record(i);
+      }
+
+      assertThat(histogram.getPercentile(50)).isEqualTo(100);
+      assertThat(histogram.getPercentile(99)).isEqualTo(198);
+    }
+
+    @Test
+    @DisplayName("1ms 미만 마이크로초 지연을 구분한다")
+    void distinguishesSubMillisecondLatency() {
+      for (int i = 0; i < 100; i++) {
+        histogram.record(280 + i);
+      }
+
+      assertThat(histogram.getPercentile(50)).isBetween(320L, 333L);
+      assertThat(histogram.getPercentile(99)).isBetween(370L, 379L);
+    }
+
+    @Test
+    @DisplayName("넓은 범위에서 상대 오차가 1% 이내다")
+    void boundedRelativeError() {
+      long[] values = {1_234, 56_789, 987_654, 12_345_678, 600_000_000L};
+
+      for (long value : values) {
+        histogram.reset();
+        histogram.record(value);
+        histogram.record(value * 2);
+
+        long p50 = histogram.getPercentile(50);
+        assertThat(p50).isGreaterThanOrEqualTo(value);
+        assertThat((double) p50).isCloseTo(value, within(value * 0.01));
+      }
+    }
+
+    @Test
+    @DisplayName("백분위수는 관측된 최대값을 넘지 않는다")
+    void doesNotExceedMax() {
+      histogram.record(1_000_001);
+
+      assertThat(histogram.getPercentile(100)).isEqualTo(1_000_001);
+    }
+
+    @Test
+    @DisplayName("최대 추적 값보다 큰 값은 마지막 버킷에 기록되고 최대값은 보존된다")
+    void clampsAboveHighestTrackableValue() {
+      LogLinearHistogram small = new LogLinearHistogram(1_000);
+
+      small.record(10);
+      small.record(5_000_000);
+
+      assertThat(small.getCount()).isEqualTo(2);
+      assertThat(small.getMax()).isEqualTo(5_000_000);
+      assertThat(small.getPercentile(100)).isLessThanOrEqualTo(5_000_000);
+      assertThat(small.getPercentile(50)).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("샘플이 없으면 0을 반환한다")
+    void returnsZeroWhenEmpty() {
+      assertThat(histogram.getPercentile(99)).isZero();
+    }
+  }
+
+  @Nested
+  @DisplayName("통계")
+  class StatsTest {
+
+    @Test
+    @DisplayName("평균, 최소, 최대는 버킷 오차 없이 정확하다")
+    void exactMeanMinMax() {
+      histogram.record(301);
+      histogram.record(48_250);
+      histogram.record(2_500_003);
+
+      assertThat(histogram.getMin()).isEqualTo(301);
+      assertThat(histogram.getMax()).isEqualTo(2_500_003);
+      assertThat(histogram.getMean()).isCloseTo(849_518.0, within(0.01));
+    }
+
+    @Test
+    @DisplayName("음수 값은 무시한다")
+    void ignoresNegative() {
+      histogram.record(-5);
+
+      assertThat(histogram.getCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("reset 후 모든 값이 초기화된다")
+    void resetClearsAll() {
+      histogram.record(1_000);
+      histogram.reset();
+
+      assertThat(histogram.getCount()).isZero();
+      assertThat(histogram.getMin()).isZero();
+      assertThat(histogram.getMax()).isZero();
+      assertThat(histogram.getPercentile(50)).isZero();
+    }
+  }
+
+  @Nested
+  @DisplayName("버킷 경계")
+  class BucketBoundaryTest {
+
+    @Test
+    @DisplayName("모든 값은 자기 버킷의 상한 이하에 속한다")
+    void valueWithinBucketUpperBound() {
+      for (long value = 0; value < 1_000_000; value += 997) {
+        int index = LogLinearHistogram.indexOf(value);
+        assertThat(LogLinearHistogram.highestEquivalentValue(index)).isGreaterThanOrEqualTo(value);
+        if (index > 0) {
+          assertThat(LogLinearHistogram.highestEquivalentValue(index - 1)).isLessThan(value);
+        }
+      }
+    }
+  }
+}
\ No newline at end of file
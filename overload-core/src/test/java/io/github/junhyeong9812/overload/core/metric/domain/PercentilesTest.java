@@ -4,6 +4,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @DisplayName("Percentiles")
 class PercentilesTest {
@@ -34,6 +35,31 @@ class PercentilesTest {
     assertThat(empty.max()).isZero();
   }
 
+  @Test
+  @DisplayName("마이크로초로 생성하면 밀리초 값은 버림으로 환산된다")
+  void derivesMillisFromMicros() {
+    Percentiles percentiles = Percentiles.ofMicros(312, 1_999, 2_000, 15_500, 80, 40_001);
+
+    assertThat(percentiles.p50()).isZero();
+    assertThat(percentiles.p90()).isEqualTo(1);
+    assertThat(percentiles.p95()).isEqualTo(2);
+    assertThat(percentiles.p99()).isEqualTo(15);
+    assertThat(percentiles.min()).isZero();
+    assertThat(percentiles.max()).isEqualTo(40);
+    assertThat(percentiles.p50Micros()).isEqualTo(312);
+    assertThat(percentiles).isEqualTo(Percentiles.ofMicros(312, 1_999, 2_000, 15_500, 80, 40_001));
+  }
+
+  @Test
+  @DisplayName("밀리초와 마이크로초 값이 맞지 않으면 예외를 던진다")
+  void rejectsMismatchedValues() {
+    assertThatThrownBy(() -> new Percentiles(
+        0, 1, 2, 15, 0, 40,
+        312, 1_999, 2_000, 16_000, 80, 40_001))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("p99");
+  }
+
   @Test
   @DisplayName("record이므로 equals/hashCode가 값 기반이다")
   void equalsAndHashCode() {
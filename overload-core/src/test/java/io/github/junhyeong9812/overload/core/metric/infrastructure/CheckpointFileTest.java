@@ -0,0 +1,108 @@
+package io.github.junhyeong9812.overload.core.metric.infrastructure;
+
+import io.github.junhyeong9812.overload.core.exception.LoadTestException;
+import io.github.junhyeong9812.overload.core.metric.domain.LogLinearHistogram;
+import io.github.junhyeong9812.overload.core.metric.domain.RunCheckpoint;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * {@link CheckpointFile} 테스트.
+ *
+ * @author junhyeong9812
+ * @since 1.1.0
+ */
+@DisplayName("CheckpointFile")
+class CheckpointFileTest {
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  @DisplayName("저장한 체크포인트를 그대로 읽는다")
+  void roundTrips() {
+    CheckpointFile file = new CheckpointFile(tempDir.resolve("run.ckpt"));
+    LogLinearHistogram histogram = new LogLinearHistogram();
+    for (long micros = 100; micros <= 100_000; micros += 100) {
+      histogram.record(micros);
+    }
+    RunCheckpoint checkpoint = new RunCheckpoint(
+        "http://localhost/api", 5_000, true,
+        RunCheckpoint.Metrics.empty(),
+        new RunCheckpoint.Metrics(1_000, 990, 10, 12_345, histogram.state()),
+        Instant.ofEpochMilli(1_700_000_000_000L));
+
+    file.write(checkpoint);
+    RunCheckpoint read = file.read().orElseThrow();
+
+    assertThat(read.url()).isEqualTo("http://localhost/api");
+    assertThat(read.totalRequests()).isEqualTo(5_000);
+    assertThat(read.measuring()).isTrue();
+    assertThat(read.savedAt()).isEqualTo(checkpoint.savedAt());
+    assertThat(read.measured().failCount()).isEqualTo(10);
+    assertThat(read.measured().elapsedMillis()).isEqualTo(12_345);
+    assertThat(read.remainingRequests()).isEqualTo(4_000);
+
+    LogLinearHistogram restored = new LogLinearHistogram();
+    restored.restore(read.measured().latency());
+    assertThat(restored.getCount()).isEqualTo(histogram.getCount());
+    assertThat(restored.getMean()).isEqualTo(histogram.getMean());
+    assertThat(restored.getPercentile(99.9)).isEqualTo(histogram.getPercentile(99.9));
+    assertThat(restored.getMin()).isEqualTo(100);
+  }
+
+  @Test
+  @DisplayName("덮어쓴 뒤에는 새 체크포인트만 남고 임시 파일이 남지 않는다")
+  void replacesAtomically() throws IOException {
+    Path path = tempDir.resolve("run.ckpt");
+    CheckpointFile file = new CheckpointFile(path);
+
+    file.write(checkpoint(100));
+    file.write(checkpoint(200));
+
+    assertThat(file.read().orElseThrow().measured().totalRequests()).isEqualTo(200);
+    try (var files = Files.list(tempDir)) {
+      assertThat(files).containsExactly(path);
+    }
+  }
+
+  @Test
+  @DisplayName("파일이 없으면 빈 Optional을 반환하고, 삭제하면 다시 비어 있다")
+  void missingFile() {
+    CheckpointFile file = new CheckpointFile(tempDir.resolve("run.ckpt"));
+    assertThat(file.read()).isEmpty();
+
+    file.write(checkpoint(1));
+    file.delete();
+
+    assertThat(file.read()).isEmpty();
+  }
+
+  @Test
+  @DisplayName("체크포인트 형식이 아니면 예외를 던진다")
+  void rejectsForeignFile() throws IOException {
+    Path path = tempDir.resolve("run.ckpt");
+    Files.writeString(path, "not a checkpoint");
+
+    assertThatThrownBy(() -> new CheckpointFile(path).read())
+        .isInstanceOf(LoadTestException.class);
+  }
+
+  private static RunCheckpoint checkpoint(long measuredRequests) {
+    return new RunCheckpoint(
+        "http://localhost/api", 1_000, true,
+        RunCheckpoint.Metrics.empty(),
+        new RunCheckpoint.Metrics(measuredRequests, measuredRequests, 0, 1_000,
+            LogLinearHistogram.State.empty()),
+        Instant.now());
+  }
+}
\ No newline at end of file
@@ -0,0 +1,57 @@
+package io.github.junhyeong9812.overload.core.sweep.application;
+
+import io.github.junhyeong9812.overload.core.bench.infrastructure.LoopbackTargetServer;
+import io.github.junhyeong9812.overload.core.config.LoadTestConfig;
+import io.github.junhyeong9812.overload.core.sweep.domain.SweepResult;
+import io.github.junhyeong9812.overload.core.sweep.domain.SweepStage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * {@link ConcurrencySweep} 테스트.
+ *
+ * @author junhyeong9812
+ * @since 1.1.0
+ */
+@DisplayName("ConcurrencySweep")
+class ConcurrencySweepTest {
+
+  @Test
+  @DisplayName("동시성 단계별 결과를 측정하고 USL을 적합한다")
+  void measuresStagesAndFitsUsl() throws Exception {
+    try (LoopbackTargetServer server = LoopbackTargetServer.builder()
+        .delay(Duration.ofMillis(2))
+        .build()
+        .start()) {
+      List<SweepStage> reported = new CopyOnWriteArrayList<>();
+
+      SweepResult result = ConcurrencySweep.builder()
+          .template(LoadTestConfig.builder().url(server.url()).build())
+          .concurrencyLevels(List.of(4, 1, 2))
+          .requestsPerStage(100)
+          .build()
+          .run(reported::add);
+
+      assertThat(result.stages()).extracting(SweepStage::concurrency).containsExactly(1, 2, 4);
+      assertThat(reported).hasSize(3);
+      assertThat(result.stages()).allMatch(stage -> stage.errorRate() == 0);
+      assertThat(result.stages()).allMatch(stage -> stage.littleConcurrency() > 0);
+      assertThat(result.hasUslFit()).isTrue();
+      assertThat(result.usl().lambda()).isPositive();
+    }
+  }
+
+  @Test
+  @DisplayName("템플릿이 없으면 예외가 발생한다")
+  void requiresTemplate() {
+    assertThatThrownBy(() -> ConcurrencySweep.builder().build())
+        .isInstanceOf(NullPointerException.class);
+  }
+}
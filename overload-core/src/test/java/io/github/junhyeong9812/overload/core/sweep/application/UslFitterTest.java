@@ -0,0 +1,68 @@
+package io.github.junhyeong9812.overload.core.sweep.application;
+
+import io.github.junhyeong9812.overload.core.sweep.domain.SweepStage;
+import io.github.junhyeong9812.overload.core.sweep.domain.UslFit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * {@link UslFitter} 테스트.
+ *
+ * @author junhyeong9812
+ * @since 1.1.0
+ */
+@DisplayName("UslFitter")
+class UslFitterTest {
+
+  @Test
+  @DisplayName("USL을 따르는 측정값에서 λ, σ, κ를 복원한다")
+  void recoversCoefficients() {
+    List<SweepStage> stages = stages(1_000, 0.05, 0.0002, 1, 2, 4, 8, 16, 32, 64, 128, 256);
+
+    UslFit fit = UslFitter.fit(stages);
+
+    assertThat(fit.lambda()).isCloseTo(1_000, within(0.01));
+    assertThat(fit.sigma()).isCloseTo(0.05, within(1e-6));
+    assertThat(fit.kappa()).isCloseTo(0.0002, within(1e-9));
+    assertThat(fit.peakConcurrency()).isCloseTo(Math.sqrt(0.95 / 0.0002), within(0.01));
+    assertThat(fit.rSquared()).isCloseTo(1.0, within(1e-9));
+    assertThat(fit.hasPeak()).isTrue();
+  }
+
+  @Test
+  @DisplayName("선형 확장이면 σ와 κ가 0이고 최대 처리량 지점이 없다")
+  void linearScaling() {
+    List<SweepStage> stages = IntStream.of(1, 2, 4, 8)
+        .mapToObj(n -> stage(n, 500.0 * n))
+        .toList();
+
+    UslFit fit = UslFitter.fit(stages);
+
+    assertThat(fit.sigma()).isCloseTo(0, within(1e-9));
+    assertThat(fit.kappa()).isCloseTo(0, within(1e-12));
+    assertThat(fit.hasPeak()).isFalse();
+  }
+
+  @Test
+  @DisplayName("서로 다른 동시성이 3개 미만이면 적합하지 않는다")
+  void requiresThreePoints() {
+    assertThat(UslFitter.fit(List.of(stage(1, 100), stage(2, 190)))).isNull();
+    assertThat(UslFitter.fit(List.of(stage(1, 100), stage(2, 190), stage(4, 0)))).isNull();
+  }
+
+  private List<SweepStage> stages(double lambda, double sigma, double kappa, int... levels) {
+    return IntStream.of(levels)
+        .mapToObj(n -> stage(n, lambda * n / (1 + sigma * (n - 1) + kappa * n * (n - 1))))
+        .toList();
+  }
+
+  private SweepStage stage(int concurrency, double rps) {
+    return new SweepStage(concurrency, 1_000, rps, 0, 0, 0, 0, 0, 0);
+  }
+}
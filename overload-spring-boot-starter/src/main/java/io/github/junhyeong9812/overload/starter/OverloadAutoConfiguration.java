@@ -1,5 +1,8 @@
 package io.github.junhyeong9812.overload.starter;
 
+import io.github.junhyeong9812.overload.core.LoadTesterSession;
+import io.github.junhyeong9812.overload.core.engine.infrastructure.DedicatedCarrierEngine;
+import io.github.junhyeong9812.overload.core.engine.infrastructure.PlatformThreadEngine;
 import io.github.junhyeong9812.overload.starter.controller.OverloadApiController;
 import io.github.junhyeong9812.overload.starter.controller.OverloadDashboardController;
 import io.github.junhyeong9812.overload.starter.service.LoadTestService;
@@ -36,12 +39,27 @@ public class OverloadAutoConfiguration {
     return new ResultBroadcastService();
   }
 
+  @Bean(destroyMethod = "close")
+  @ConditionalOnMissingBean
+  public LoadTesterSession loadTesterSession(OverloadProperties properties) {
+    OverloadProperties.Engine engine = properties.getEngine();
+    int threads = engine.getThreads();
+    return switch (engine.getType()) {
+      case VIRTUAL_THREAD -> new LoadTesterSession();
+      case PLATFORM_THREAD -> LoadTesterSession.withEngine(
+          client -> new PlatformThreadEngine(client, threads));
+      case DEDICATED_CARRIER -> LoadTesterSession.withEngine(
+          client -> new DedicatedCarrierEngine(client, threads));
+    };
+  }
+
   @Bean
   @ConditionalOnMissingBean
   public LoadTestService loadTestService(
       OverloadProperties properties,
-      ResultBroadcastService broadcastService) {
-    return new LoadTestService(properties, broadcastService);
+      ResultBroadcastService broadcastService,
+      LoadTesterSession loadTesterSession) {
+    return new LoadTestService(properties, broadcastService, loadTesterSession);
   }
 
   @Bean
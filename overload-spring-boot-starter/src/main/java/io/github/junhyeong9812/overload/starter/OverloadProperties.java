@@ -16,6 +16,7 @@ public class OverloadProperties {
   private boolean enabled = true;
   private Dashboard dashboard = new Dashboard();
   private Defaults defaults = new Defaults();
+  private Engine engine = new Engine();
 
   public boolean isEnabled() {
     return enabled;
@@ -41,6 +42,14 @@ public class OverloadProperties {
     this.defaults = defaults;
   }
 
+  public Engine getEngine() {
+    return engine;
+  }
+
+  public void setEngine(Engine engine) {
+    this.engine = engine;
+  }
+
   public static class Dashboard {
     private String path = "/overload";
     private String title = "Overload - Load Test Dashboard";
@@ -62,6 +71,48 @@ public class OverloadProperties {
     }
   }
 
+  /**
+   * Request execution engine used by the dashboard.
+   *
+   * <p>{@code dedicated-carrier} runs generator virtual threads on their own carrier pool so they
+   * do not compete with the application's virtual-thread scheduler. It requires
+   * {@code --add-opens java.base/java.lang=ALL-UNNAMED} and falls back to the default scheduler
+   * otherwise.
+   *
+   * @since 1.1.0
+   */
+  public static class Engine {
+    private EngineType type = EngineType.VIRTUAL_THREAD;
+    private int threads = 0;
+
+    public EngineType getType() {
+      return type;
+    }
+
+    public void setType(EngineType type) {
+      this.type = type;
+    }
+
+    public int getThreads() {
+      return threads;
+    }
+
+    public void setThreads(int threads) {
+      this.threads = threads;
+    }
+  }
+
+  /**
+   * Available request execution engines.
+   *
+   * @since 1.1.0
+   */
+  public enum EngineType {
+    VIRTUAL_THREAD,
+    PLATFORM_THREAD,
+    DEDICATED_CARRIER
+  }
+
   public static class Defaults {
     private int concurrency = 10;
     private int requests = 100;
@@ -1,9 +1,14 @@
 package io.github.junhyeong9812.overload.starter.controller;
 
+import io.github.junhyeong9812.overload.core.metric.domain.LatencySpectrum;
+import io.github.junhyeong9812.overload.starter.dto.ControlChangeResponse;
+import io.github.junhyeong9812.overload.starter.dto.ControlRequest;
 import io.github.junhyeong9812.overload.starter.dto.TestRequest;
 import io.github.junhyeong9812.overload.starter.dto.TestResponse;
 import io.github.junhyeong9812.overload.starter.service.LoadTestService;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -21,6 +26,9 @@ import java.util.UUID;
  * <ul>
  *   <li>{@code POST /api/tests} - 새 테스트 시작</li>
  *   <li>{@code GET /api/tests/{testId}} - 테스트 상태 조회</li>
+ *   <li>{@code GET /api/tests/{testId}/latency.hgrm} - 지연 시간 스펙트럼 (HdrHistogram 형식)</li>
+ *   <li>{@code GET /api/tests/{testId}/latency.csv} - 지연 시간 스펙트럼 (CSV)</li>
+ *   <li>{@code PATCH /api/tests/{testId}} - 실행 중 동시성, 목표 속도, 종료 조건 조정</li>
  *   <li>{@code DELETE /api/tests/{testId}} - 테스트 중지</li>
  *   <li>{@code GET /api/tests} - 최근 테스트 이력 조회</li>
  *   <li>{@code GET /api/tests/active} - 활성 테스트 목록 조회</li>
@@ -72,6 +80,59 @@ public class OverloadApiController {
     return ResponseEntity.ok(loadTestService.getTestStatus(testId));
   }
 
+  /**
+   * 테스트의 전체 지연 시간 스펙트럼을 HdrHistogram {@code .hgrm} 텍스트로 내보낸다.
+   *
+   * @param testId 테스트 ID
+   * @return 스펙트럼 텍스트 (결과가 없으면 404)
+   */
+  @GetMapping(value = "/tests/{testId}/latency.hgrm", produces = MediaType.TEXT_PLAIN_VALUE)
+  public ResponseEntity<String> getLatencyHgrm(@PathVariable("testId") String testId) {
+    return loadTestService.getLatencySpectrum(testId)
+        .map(LatencySpectrum::toHgrm)
+        .map(ResponseEntity::ok)
+        .orElseGet(() -> ResponseEntity.notFound().build());
+  }
+
+  /**
+   * 테스트의 전체 지연 시간 스펙트럼을 CSV로 내보낸다.
+   *
+   * @param testId 테스트 ID
+   * @return 스펙트럼 CSV (결과가 없으면 404)
+   */
+  @GetMapping(value = "/tests/{testId}/latency.csv", produces = "text/csv")
+  public ResponseEntity<String> getLatencyCsv(@PathVariable("testId") String testId) {
+    return loadTestService.getLatencySpectrum(testId)
+        .map(LatencySpectrum::toCsv)
+        .map(ResponseEntity::ok)
+        .orElseGet(() -> ResponseEntity.notFound().build());
+  }
+
+  /**
+   * 실행 중인 테스트의 동시성, 목표 속도, 종료 조건을 바꾼다.
+   *
+   * <p>지정한 항목만 바뀌며, 모든 항목이 검증된 뒤 한 번에 적용된다.
+   *
+   * @param testId  테스트 ID
+   * @param request 변경할 항목
+   * @return 변경 후 상태 (값이 잘못되면 400, 테스트가 없으면 404, 이미 끝났으면 409)
+   */
+  @PatchMapping("/tests/{testId}")
+  public ResponseEntity<ControlChangeResponse> adjustTest(
+      @PathVariable("testId") String testId,
+      @RequestBody ControlRequest request) {
+    try {
+      return loadTestService.adjustTest(testId, request.toControl())
+          .map(ControlChangeResponse::from)
+          .map(ResponseEntity::ok)
+          .orElseGet(() -> ResponseEntity.notFound().build());
+    } catch (IllegalArgumentException e) {
+      return ResponseEntity.badRequest().build();
+    } catch (IllegalStateException e) {
+      return ResponseEntity.status(HttpStatus.CONFLICT).build();
+    }
+  }
+
   /**
    * 실행 중인 테스트를 중지한다.
    *
@@ -0,0 +1,44 @@
+package io.github.junhyeong9812.overload.starter.dto;
+
+import io.github.junhyeong9812.overload.core.metric.domain.ControlChange;
+
+/**
+ * 실행 중 적용된 부하 조정을 JSON으로 직렬화하기 위한 응답 DTO.
+ *
+ * <p>{@code elapsedMs}는 구간별 시계열과 같은 기준 시각에서 잰다.
+ *
+ * @param elapsedMs         실행 시작부터 적용 시점까지 경과 시간 (밀리초)
+ * @param completedRequests 적용 시점까지 완료된 요청 수
+ * @param concurrency       적용 후 동시성
+ * @param requestsPerSecond 적용 후 목표 초당 요청 수 (속도 제한이 없으면 0)
+ * @param totalRequests     적용 후 총 요청 수
+ * @param stopAfterMs       이 변경으로 지정한 종료까지의 시간 (밀리초, nullable - 지정하지 않았으면 null)
+ * @author junhyeong9812
+ * @since 1.1.0
+ */
+public record ControlChangeResponse(
+    long elapsedMs,
+    int completedRequests,
+    int concurrency,
+    double requestsPerSecond,
+    int totalRequests,
+    Long stopAfterMs
+) {
+
+  /**
+   * 코어의 {@link ControlChange}를 응답 DTO로 변환한다.
+   *
+   * @param change 적용된 부하 조정
+   * @return 응답 DTO
+   */
+  public static ControlChangeResponse from(ControlChange change) {
+    return new ControlChangeResponse(
+        change.elapsed().toMillis(),
+        change.completedRequests(),
+        change.concurrency(),
+        change.requestsPerSecond(),
+        change.totalRequests(),
+        change.control().stopAfter() != null ? change.control().stopAfter().toMillis() : null
+    );
+  }
+}
\ No newline at end of file
@@ -0,0 +1,49 @@
+package io.github.junhyeong9812.overload.starter.dto;
+
+import io.github.junhyeong9812.overload.core.config.LoadControl;
+
+import java.time.Duration;
+
+/**
+ * 실행 중인 테스트의 부하를 조정하는 요청 DTO.
+ *
+ * <p>null로 둔 항목은 현재 값을 유지한다. 최소 한 항목은 지정해야 한다.
+ *
+ * <p><b>JSON 입력 예시:</b>
+ * <pre>{@code
+ * {
+ *   "concurrency": 20,
+ *   "requestsPerSecond": 500.0,
+ *   "stopAfterMs": 30000
+ * }
+ * }</pre>
+ *
+ * @param concurrency       새 동시성 (nullable)
+ * @param requestsPerSecond 새 목표 초당 요청 수 (nullable)
+ * @param totalRequests     새 총 요청 수 (nullable - 이미 시작된 요청 수 이상이어야 함)
+ * @param stopAfterMs       지금부터 새 요청을 시작할 시간 (밀리초, nullable - 0이면 즉시 멈춤)
+ * @author junhyeong9812
+ * @since 1.1.0
+ */
+public record ControlRequest(
+    Integer concurrency,
+    Double requestsPerSecond,
+    Integer totalRequests,
+    Long stopAfterMs
+) {
+
+  /**
+   * 코어의 {@link LoadControl}로 변환한다.
+   *
+   * @return 적용할 부하 조정
+   * @throws IllegalArgumentException 지정한 항목이 없거나 값이 범위를 벗어난 경우
+   */
+  public LoadControl toControl() {
+    return new LoadControl(
+        concurrency,
+        requestsPerSecond,
+        totalRequests,
+        stopAfterMs != null ? Duration.ofMillis(stopAfterMs) : null
+    );
+  }
+}
\ No newline at end of file
@@ -0,0 +1,78 @@
+package io.github.junhyeong9812.overload.starter.dto;
+
+import io.github.junhyeong9812.overload.core.metric.domain.GcPauseReport;
+import io.github.junhyeong9812.overload.core.metric.domain.TestResult;
+
+import java.util.List;
+
+/**
+ * 부하 생성기 GC 멈춤 보고서를 JSON으로 직렬화하기 위한 응답 DTO.
+ *
+ * <p>{@code tailShare}는 전체 p99보다 느린 요청 중 생성기 GC 멈춤 동안 진행 중이던 요청의 비율이다.
+ * {@code excluding*} 항목은 멈춤과 겹친 요청을 뺀 지연 시간이다.
+ *
+ * @param collectors           추적한 멈춤형 GC 이름
+ * @param pauses               추적 중 발생한 GC 멈춤 수
+ * @param totalPauseMs         멈춤 시간 합계 (밀리초)
+ * @param maxPauseMs           가장 긴 멈춤 (밀리초)
+ * @param measuredRequests     분류한 측정 요청 수
+ * @param affectedRequests     진행 구간이 멈춤과 겹친 요청 수
+ * @param affectedRatio        멈춤과 겹친 요청의 비율 (0.0 ~ 1.0)
+ * @param tailThresholdMicros  꼬리 기준값 - 전체 요청의 p99 (마이크로초)
+ * @param tailRequests         꼬리 기준값보다 느린 요청 수
+ * @param affectedTailRequests 꼬리 요청 중 멈춤과 겹친 요청 수
+ * @param tailShare            꼬리 요청 중 멈춤과 겹친 요청의 비율 (0.0 ~ 1.0)
+ * @param excludingAvgMicros   멈춤과 겹친 요청을 뺀 평균 지연 시간 (마이크로초)
+ * @param excludingP50Micros   멈춤과 겹친 요청을 뺀 50번째 백분위수 (마이크로초)
+ * @param excludingP99Micros   멈춤과 겹친 요청을 뺀 99번째 백분위수 (마이크로초)
+ * @param excludingMaxMicros   멈춤과 겹친 요청을 뺀 최대 지연 시간 (마이크로초)
+ * @author junhyeong9812
+ * @since 1.1.0
+ */
+public record GcPauseResponse(
+    List<String> collectors,
+    int pauses,
+    long totalPauseMs,
+    long maxPauseMs,
+    long measuredRequests,
+    long affectedRequests,
+    double affectedRatio,
+    long tailThresholdMicros,
+    long tailRequests,
+    long affectedTailRequests,
+    double tailShare,
+    double excludingAvgMicros,
+    long excludingP50Micros,
+    long excludingP99Micros,
+    long excludingMaxMicros
+) {
+
+  /**
+   * 코어의 {@link GcPauseReport}를 응답 DTO로 변환한다.
+   *
+   * <p>멈춤 시간은 밀리초로, 멈춤을 뺀 지연 시간 통계는 평균/p50/p99/최대 마이크로초 값으로 평탄화한다.
+   *
+   * @param report GC 멈춤 보고서
+   * @return 응답 DTO
+   */
+  public static GcPauseResponse from(GcPauseReport report) {
+    TestResult.LatencyStats clean = report.cleanLatencyStats();
+    return new GcPauseResponse(
+        report.collectors(),
+        report.pauses(),
+        report.totalPause().toMillis(),
+        report.maxPause().toMillis(),
+        report.measuredRequests(),
+        report.affectedRequests(),
+        report.affectedRatio(),
+        report.tailThresholdMicros(),
+        report.tailRequests(),
+        report.affectedTailRequests(),
+        report.tailShare(),
+        clean.avgMicros(),
+        clean.percentiles().p50Micros(),
+        clean.percentiles().p99Micros(),
+        clean.maxMicros()
+    );
+  }
+}
\ No newline at end of file
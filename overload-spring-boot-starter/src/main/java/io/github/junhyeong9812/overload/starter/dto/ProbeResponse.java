@@ -0,0 +1,59 @@
+package io.github.junhyeong9812.overload.starter.dto;
+
+import io.github.junhyeong9812.overload.core.metric.domain.ProbeReport;
+import io.github.junhyeong9812.overload.core.metric.domain.TestResult;
+
+/**
+ * 저속 지연 프로브 결과를 JSON으로 직렬화하기 위한 응답 DTO.
+ *
+ * <p>프로브 요청은 전용 연결에서 한 번에 하나씩 보내므로 부하 생성기 내부 대기가 섞이지 않는다.
+ * 본 부하의 지연 시간 통계와 비교해 생성기 쪽 지연과 대상 쪽 지연을 구분할 수 있다.
+ *
+ * @param url           프로브 대상 URL
+ * @param method        HTTP 메서드
+ * @param intervalMs    프로브 간격 (밀리초)
+ * @param totalRequests 측정 구간에 보낸 프로브 수
+ * @param failCount     실패한 프로브 수
+ * @param missed        이전 프로브가 길어져 건너뛴 틱 수
+ * @param avgMicros     평균 지연 시간 (마이크로초)
+ * @param p50Micros     50번째 백분위수 (마이크로초)
+ * @param p99Micros     99번째 백분위수 (마이크로초)
+ * @param maxMicros     최대 지연 시간 (마이크로초)
+ * @author junhyeong9812
+ * @since 1.1.0
+ */
+public record ProbeResponse(
+    String url,
+    String method,
+    long intervalMs,
+    int totalRequests,
+    int failCount,
+    long missed,
+    double avgMicros,
+    long p50Micros,
+    long p99Micros,
+    long maxMicros
+) {
+
+  /**
+   * 코어의 {@link ProbeReport}를 응답 DTO로 변환한다.
+   *
+   * @param probe 프로브 결과
+   * @return 응답 DTO
+   */
+  public static ProbeResponse from(ProbeReport probe) {
+    TestResult.LatencyStats stats = probe.latencyStats();
+    return new ProbeResponse(
+        probe.url(),
+        probe.method().name(),
+        probe.interval().toMillis(),
+        probe.totalRequests(),
+        probe.failCount(),
+        probe.missed(),
+        stats.avgMicros(),
+        stats.percentiles().p50Micros(),
+        stats.percentiles().p99Micros(),
+        stats.maxMicros()
+    );
+  }
+}
\ No newline at end of file
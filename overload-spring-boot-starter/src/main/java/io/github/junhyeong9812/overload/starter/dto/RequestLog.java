@@ -13,12 +13,16 @@ package io.github.junhyeong9812.overload.starter.dto;
  *
  * // 실패한 요청
  * RequestLog log = RequestLog.failure(2, 123L, "Connection refused");
+ *
+ * // 마이크로초 단위로 측정된 요청
+ * RequestLog log = RequestLog.successOfMicros(3, 200, 45_120L);
  * }</pre>
  *
  * @param requestNumber 요청 순번 (1부터 시작)
  * @param success       요청 성공 여부
  * @param statusCode    HTTP 상태 코드 (실패 시 0)
  * @param latencyMs     응답 시간 (밀리초)
+ * @param latencyMicros 응답 시간 (마이크로초)
  * @param error         에러 메시지 (성공 시 null)
  * @author junhyeong9812
  * @since 1.1.0
@@ -28,6 +32,7 @@ public record RequestLog(
     boolean success,
     int statusCode,
     long latencyMs,
+    long latencyMicros,
     String error
 ) {
 
@@ -40,7 +45,7 @@ public record RequestLog(
    * @return 성공 RequestLog 인스턴스
    */
   public static RequestLog success(int requestNumber, int statusCode, long latencyMs) {
-    return new RequestLog(requestNumber, true, statusCode, latencyMs, null);
+    return new RequestLog(requestNumber, true, statusCode, latencyMs, latencyMs * 1_000, null);
   }
 
   /**
@@ -52,6 +57,32 @@ public record RequestLog(
    * @return 실패 RequestLog 인스턴스
    */
   public static RequestLog failure(int requestNumber, long latencyMs, String error) {
-    return new RequestLog(requestNumber, false, 0, latencyMs, error);
+    return new RequestLog(requestNumber, false, 0, latencyMs, latencyMs * 1_000, error);
+  }
+
+  /**
+   * 마이크로초 응답 시간으로 성공한 요청의 RequestLog를 생성한다.
+   *
+   * @param requestNumber 요청 순번
+   * @param statusCode    HTTP 상태 코드
+   * @param latencyMicros 응답 시간 (마이크로초)
+   * @return 성공 RequestLog 인스턴스
+   * @since 1.1.0
+   */
+  public static RequestLog successOfMicros(int requestNumber, int statusCode, long latencyMicros) {
+    return new RequestLog(requestNumber, true, statusCode, latencyMicros / 1_000, latencyMicros, null);
+  }
+
+  /**
+   * 마이크로초 소요 시간으로 실패한 요청의 RequestLog를 생성한다.
+   *
+   * @param requestNumber 요청 순번
+   * @param latencyMicros 실패까지 소요 시간 (마이크로초)
+   * @param error         에러 메시지
+   * @return 실패 RequestLog 인스턴스
+   * @since 1.1.0
+   */
+  public static RequestLog failureOfMicros(int requestNumber, long latencyMicros, String error) {
+    return new RequestLog(requestNumber, false, 0, latencyMicros / 1_000, latencyMicros, error);
   }
 }
\ No newline at end of file
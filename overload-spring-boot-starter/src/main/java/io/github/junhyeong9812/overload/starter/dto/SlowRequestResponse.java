@@ -0,0 +1,53 @@
+package io.github.junhyeong9812.overload.starter.dto;
+
+import io.github.junhyeong9812.overload.core.metric.domain.SlowRequest;
+
+import java.time.Instant;
+
+/**
+ * 측정 구간에서 가장 느린 요청을 JSON으로 직렬화하기 위한 응답 DTO.
+ *
+ * <p>{@code elapsedMs}는 구간별 시계열과 같은 기준 시각에서 잰다. 응답을 받지 못한 요청은
+ * {@code statusCode}가 0이고 {@code errorType}이 채워진다.
+ *
+ * @param latencyMicros  지연 시간 (마이크로초)
+ * @param timestamp      요청 완료 시각
+ * @param elapsedMs      실행 시작부터 요청 완료까지 경과 시간 (밀리초)
+ * @param url            요청 URL
+ * @param endpoint       엔드포인트 라벨 (예: {@code GET /api/orders})
+ * @param statusCode     HTTP 상태 코드 (실패 시 0)
+ * @param errorType      오류 유형 (성공 시 null)
+ * @param generatorPause 요청이 부하 생성기의 GC 멈춤과 겹쳤는지 여부
+ * @author junhyeong9812
+ * @since 1.1.0
+ */
+public record SlowRequestResponse(
+    long latencyMicros,
+    Instant timestamp,
+    long elapsedMs,
+    String url,
+    String endpoint,
+    int statusCode,
+    String errorType,
+    boolean generatorPause
+) {
+
+  /**
+   * 코어의 {@link SlowRequest}를 응답 DTO로 변환한다.
+   *
+   * @param slow 느린 요청
+   * @return 응답 DTO
+   */
+  public static SlowRequestResponse from(SlowRequest slow) {
+    return new SlowRequestResponse(
+        slow.latencyMicros(),
+        slow.timestamp(),
+        slow.elapsed().toMillis(),
+        slow.url(),
+        slow.endpoint(),
+        slow.statusCode(),
+        slow.isFailure() ? slow.errorType().name() : null,
+        slow.generatorPause()
+    );
+  }
+}
\ No newline at end of file
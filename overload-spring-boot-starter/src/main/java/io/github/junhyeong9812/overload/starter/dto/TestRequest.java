@@ -3,6 +3,7 @@ package io.github.junhyeong9812.overload.starter.dto;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Positive;
 
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -27,11 +28,44 @@ public record TestRequest(
     @Positive(message = "Total requests must be positive")
     int totalRequests,
 
-    int timeoutMs
+    int timeoutMs,
+
+    List<Double> percentiles,
+
+    String probeUrl,
+
+    Integer probeIntervalMs,
+
+    boolean trackGcPauses
 ) {
+  /** Percentiles reported when the request does not specify any. */
+  public static final List<Double> DEFAULT_PERCENTILES = List.of(50.0, 90.0, 95.0, 99.0, 99.9);
+
   public TestRequest {
     if (method == null || method.isBlank()) {
       method = "GET";
     }
+    if (percentiles == null || percentiles.isEmpty()) {
+      percentiles = DEFAULT_PERCENTILES;
+    } else {
+      for (Double p : percentiles) {
+        if (p == null || p < 0 || p > 100) {
+          throw new IllegalArgumentException("Percentile must be between 0 and 100: " + p);
+        }
+      }
+      percentiles = List.copyOf(percentiles);
+    }
+    if (probeIntervalMs != null && probeIntervalMs <= 0) {
+      throw new IllegalArgumentException("Probe interval must be positive: " + probeIntervalMs);
+    }
+  }
+
+  /**
+   * Returns whether a latency probe was requested.
+   *
+   * @return {@code true} if a probe URL or interval is set
+   */
+  public boolean hasProbe() {
+    return (probeUrl != null && !probeUrl.isBlank()) || probeIntervalMs != null;
   }
 }
\ No newline at end of file
@@ -1,8 +1,14 @@
 package io.github.junhyeong9812.overload.starter.dto;
 
+import io.github.junhyeong9812.overload.core.metric.domain.GeneratorHealth;
 import io.github.junhyeong9812.overload.core.metric.domain.Percentiles;
 import io.github.junhyeong9812.overload.core.metric.domain.TestResult;
 
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * Test result response DTO for JSON serialization.
  *
@@ -16,9 +22,27 @@ public record TestResultResponse(
     long totalDurationMs,
     double requestsPerSecond,
     double successRate,
-    LatencyStatsResponse latencyStats
+    LatencyStatsResponse latencyStats,
+    GeneratorHealthResponse generatorHealth,
+    boolean aborted,
+    String abortReason,
+    List<ControlChangeResponse> controlChanges,
+    List<SlowRequestResponse> slowestRequests,
+    ProbeResponse probe,
+    GcPauseResponse gcPauses
 ) {
   public static TestResultResponse from(TestResult result) {
+    return from(result, TestRequest.DEFAULT_PERCENTILES);
+  }
+
+  /**
+   * Creates a response reporting the given percentiles in addition to the fixed set.
+   *
+   * @param result      test result
+   * @param percentiles percentiles to report (0-100)
+   * @return response DTO
+   */
+  public static TestResultResponse from(TestResult result, List<Double> percentiles) {
     return new TestResultResponse(
         result.totalRequests(),
         result.successCount(),
@@ -26,7 +50,14 @@ public record TestResultResponse(
         result.totalDuration().toMillis(),
         result.requestsPerSecond(),
         result.successRate(),
-        LatencyStatsResponse.from(result.latencyStats())
+        LatencyStatsResponse.from(result.latencyStats(), percentiles),
+        GeneratorHealthResponse.from(result.generatorHealth()),
+        result.isAborted(),
+        result.abortReason(),
+        result.controlChanges().stream().map(ControlChangeResponse::from).toList(),
+        result.slowestRequests().stream().map(SlowRequestResponse::from).toList(),
+        result.probe() != null ? ProbeResponse.from(result.probe()) : null,
+        result.gcPauses() != null ? GcPauseResponse.from(result.gcPauses()) : null
     );
   }
 
@@ -34,26 +65,75 @@ public record TestResultResponse(
       long min,
       long max,
       double avg,
-      PercentilesResponse percentiles
+      PercentilesResponse percentiles,
+      long minMicros,
+      long maxMicros,
+      double avgMicros,
+      Map<String, Long> reportedMicros
   ) {
-    public static LatencyStatsResponse from(TestResult.LatencyStats stats) {
+    public static LatencyStatsResponse from(TestResult.LatencyStats stats, List<Double> percentiles) {
+      Map<String, Long> reported = new LinkedHashMap<>();
+      for (double p : percentiles) {
+        reported.put(label(p), stats.percentileMicros(p));
+      }
       return new LatencyStatsResponse(
           stats.min(),
           stats.max(),
           stats.avg(),
-          PercentilesResponse.from(stats.percentiles())
+          PercentilesResponse.from(stats.percentiles()),
+          stats.minMicros(),
+          stats.maxMicros(),
+          stats.avgMicros(),
+          reported
       );
     }
+
+    private static String label(double percentile) {
+      return "p" + BigDecimal.valueOf(percentile).stripTrailingZeros().toPlainString();
+    }
   }
 
   public record PercentilesResponse(
       long p50,
       long p90,
       long p95,
-      long p99
+      long p99,
+      long p50Micros,
+      long p90Micros,
+      long p95Micros,
+      long p99Micros
   ) {
     public static PercentilesResponse from(Percentiles p) {
-      return new PercentilesResponse(p.p50(), p.p90(), p.p95(), p.p99());
+      return new PercentilesResponse(p.p50(), p.p90(), p.p95(), p.p99(),
+          p.p50Micros(), p.p90Micros(), p.p95Micros(), p.p99Micros());
+    }
+  }
+
+  public record GeneratorHealthResponse(
+      double schedulingLagAvgMicros,
+      long schedulingLagP99Micros,
+      double permitWaitAvgMicros,
+      long permitWaitP99Micros,
+      double callbackAvgMicros,
+      long callbackP99Micros,
+      long pinnedEvents,
+      long progressDropped,
+      double overheadRatio,
+      boolean overloaded
+  ) {
+    public static GeneratorHealthResponse from(GeneratorHealth health) {
+      return new GeneratorHealthResponse(
+          health.schedulingLag().avgMicros(),
+          health.schedulingLag().p99Micros(),
+          health.permitWait().avgMicros(),
+          health.permitWait().p99Micros(),
+          health.callbackTime().avgMicros(),
+          health.callbackTime().p99Micros(),
+          health.pinnedEvents(),
+          health.progressDropped(),
+          health.overheadRatio(),
+          health.isOverloaded()
+      );
     }
   }
 }
\ No newline at end of file
@@ -1,11 +1,20 @@
 package io.github.junhyeong9812.overload.starter.service;
 
-import io.github.junhyeong9812.overload.core.LoadTester;
+import io.github.junhyeong9812.overload.core.LoadTestHandle;
+import io.github.junhyeong9812.overload.core.LoadTesterSession;
+import io.github.junhyeong9812.overload.core.callback.ProgressCallback;
+import io.github.junhyeong9812.overload.core.callback.ProgressEvent;
 import io.github.junhyeong9812.overload.core.config.HttpMethod;
+import io.github.junhyeong9812.overload.core.config.LoadControl;
 import io.github.junhyeong9812.overload.core.config.LoadTestConfig;
+import io.github.junhyeong9812.overload.core.config.ProbeConfig;
+import io.github.junhyeong9812.overload.core.config.ProgressDispatchConfig;
 import io.github.junhyeong9812.overload.core.http.domain.RequestResult;
+import io.github.junhyeong9812.overload.core.metric.domain.ControlChange;
+import io.github.junhyeong9812.overload.core.metric.domain.LatencySpectrum;
 import io.github.junhyeong9812.overload.core.metric.domain.TestResult;
 import io.github.junhyeong9812.overload.starter.OverloadProperties;
+import io.github.junhyeong9812.overload.starter.dto.ControlChangeResponse;
 import io.github.junhyeong9812.overload.starter.dto.ProgressMessage;
 import io.github.junhyeong9812.overload.starter.dto.RequestLog;
 import io.github.junhyeong9812.overload.starter.dto.TestRequest;
@@ -14,6 +23,7 @@ import io.github.junhyeong9812.overload.starter.dto.TestResultResponse;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.ExecutorService;
@@ -24,10 +34,12 @@ import java.util.concurrent.Executors;
  *
  * <p>부하 테스트의 시작, 중지, 상태 조회, 실시간 진행 상황 브로드캐스트 등을 관리한다.
  * 다중 테스트를 병렬로 실행할 수 있으며, 각 테스트의 개별 요청 로그를 실시간으로 수집한다.
+ * 테스트는 공유 {@link LoadTesterSession}에서 실행되어 연결 풀을 테스트 간에 재사용한다.
  *
  * <p><b>주요 기능:</b>
  * <ul>
  *   <li>부하 테스트 시작 및 중지</li>
+ *   <li>실행 중 동시성, 목표 속도, 종료 조건 조정</li>
  *   <li>실시간 진행 상황 WebSocket 브로드캐스트</li>
  *   <li>개별 요청 로그 수집 및 조회</li>
  *   <li>테스트 이력 관리</li>
@@ -43,6 +55,7 @@ public class LoadTestService {
 
   private final OverloadProperties properties;
   private final ResultBroadcastService broadcastService;
+  private final LoadTesterSession session;
   private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
 
   private final Map<String, TestExecution> runningTests = new ConcurrentHashMap<>();
@@ -53,12 +66,15 @@ public class LoadTestService {
    *
    * @param properties       Overload 설정 프로퍼티
    * @param broadcastService WebSocket 브로드캐스트 서비스
+   * @param session          테스트 간 HTTP 클라이언트를 공유하는 세션
    */
   public LoadTestService(
       OverloadProperties properties,
-      ResultBroadcastService broadcastService) {
+      ResultBroadcastService broadcastService,
+      LoadTesterSession session) {
     this.properties = properties;
     this.broadcastService = broadcastService;
+    this.session = session;
   }
 
   /**
@@ -75,45 +91,88 @@ public class LoadTestService {
     TestExecution execution = new TestExecution(testId, request, config.totalRequests());
     runningTests.put(testId, execution);
 
-    executor.submit(() -> executeTest(testId, config, execution, request));
+    LoadTestHandle handle = session.start(config, new ProgressCallback() {
+      @Override
+      public void onProgress(int completed, int total, RequestResult requestResult) {
+        onProgressBatch(List.of(new ProgressEvent(completed, total, requestResult)));
+      }
+
+      @Override
+      public void onProgressBatch(List<ProgressEvent> events) {
+        recordProgress(testId, request, execution, events);
+      }
+    });
+    execution.attach(handle);
+    handle.result().whenComplete((result, error) -> finishTest(testId, request, execution, result, error));
   }
 
   /**
-   * 부하 테스트를 실행한다.
+   * 진행 이벤트 배치를 요청 로그로 변환하고 진행 상황을 브로드캐스트한다.
    *
-   * <p>테스트 완료 또는 실패 시 결과를 저장하고 브로드캐스트한다.
+   * <p>비동기 전달 스레드에서 배치 단위로 호출되므로 요청 스레드에는 비용이 없다.
    *
    * @param testId    테스트 ID
-   * @param config    부하 테스트 설정
+   * @param request   테스트 요청 정보
    * @param execution 테스트 실행 정보
+   * @param events    완료 이벤트 목록
+   */
+  private void recordProgress(
+      String testId,
+      TestRequest request,
+      TestExecution execution,
+      List<ProgressEvent> events) {
+    if (execution.isCancelled()) {
+      return;
+    }
+    int previous = execution.getCompleted();
+    int latest = previous;
+    for (ProgressEvent event : events) {
+      execution.addLog(convertToLog(event.completed(), event.result()));
+      latest = Math.max(latest, event.completed());
+    }
+    execution.setCompleted(latest);
+
+    int total = execution.getTotal();
+    int broadcastInterval = Math.max(1, Math.min(total / 100, 10));
+    if (latest / broadcastInterval > previous / broadcastInterval || latest == total) {
+      broadcastProgress(testId, request, execution, "RUNNING");
+    }
+  }
+
+  /**
+   * 테스트 종료를 처리한다.
+   *
+   * <p>완료, 중지, 실패에 따라 결과를 저장하고 브로드캐스트한다.
+   * 중지된 테스트는 그때까지의 부분 결과를 저장한다.
+   *
+   * @param testId    테스트 ID
    * @param request   테스트 요청 정보
+   * @param execution 테스트 실행 정보
+   * @param result    테스트 결과 (실패 시 null)
+   * @param error     실행 중 발생한 예외 (성공 시 null)
    */
-  private void executeTest(String testId, LoadTestConfig config, TestExecution execution, TestRequest request) {
+  private void finishTest(
+      String testId,
+      TestRequest request,
+      TestExecution execution,
+      TestResult result,
+      Throwable error) {
     try {
-      TestResult result = LoadTester.run(config, (completed, total, requestResult) -> {
-        if (execution.isCancelled()) {
-          return;
-        }
-        execution.setCompleted(completed);
-
-        RequestLog log = convertToLog(completed, requestResult);
-        execution.addLog(log);
-
-        int broadcastInterval = Math.max(1, Math.min(total / 100, 10));
-        if (completed % broadcastInterval == 0 || completed == total) {
-          broadcastProgress(testId, request, execution, "RUNNING");
-        }
-      });
-
-      if (!execution.isCancelled()) {
+      if (error != null) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null
+            ? error.getCause()
+            : error;
+        execution.fail(cause.getMessage());
+        broadcastProgress(testId, request, execution, "FAILED");
+      } else if (execution.isCancelled()) {
+        execution.stopped(result);
+        saveHistory(testId, request, result);
+        broadcastProgress(testId, request, execution, "CANCELLED");
+      } else {
         execution.complete(result);
         saveHistory(testId, request, result);
         broadcastProgress(testId, request, execution, "COMPLETED");
       }
-
-    } catch (Exception e) {
-      execution.fail(e.getMessage());
-      broadcastProgress(testId, request, execution, "FAILED");
     } finally {
       scheduleCleanup(testId);
     }
@@ -128,14 +187,14 @@ public class LoadTestService {
    */
   private RequestLog convertToLog(int requestNumber, RequestResult requestResult) {
     return switch (requestResult) {
-      case RequestResult.Success s -> RequestLog.success(
+      case RequestResult.Success s -> RequestLog.successOfMicros(
           requestNumber,
           s.statusCode(),
-          s.latencyMs()
+          s.latencyMicros()
       );
-      case RequestResult.Failure f -> RequestLog.failure(
+      case RequestResult.Failure f -> RequestLog.failureOfMicros(
           requestNumber,
-          f.latencyMs(),
+          f.latencyMicros(),
           f.errorMessage()
       );
     };
@@ -181,9 +240,12 @@ public class LoadTestService {
     response.put("total", execution.getTotal());
     response.put("percentage", execution.getPercentage());
     response.put("recentLogs", execution.getRecentLogs(20));
+    response.put("controlChanges", execution.getControlChanges().stream()
+        .map(ControlChangeResponse::from)
+        .toList());
 
     if (execution.getResult() != null) {
-      response.put("result", TestResultResponse.from(execution.getResult()));
+      response.put("result", TestResultResponse.from(execution.getResult(), execution.getRequest().percentiles()));
     }
     if (execution.getError() != null) {
       response.put("error", execution.getError());
@@ -192,23 +254,58 @@ public class LoadTestService {
     return response;
   }
 
+  /**
+   * 완료되거나 중지된 테스트의 전체 지연 시간 스펙트럼을 조회한다.
+   *
+   * <p>실행 정보가 정리된 테스트는 이력에서 찾는다.
+   *
+   * @param testId 테스트 ID
+   * @return 지연 시간 스펙트럼 (결과가 아직 없거나 테스트를 찾을 수 없으면 빈 Optional)
+   */
+  public Optional<LatencySpectrum> getLatencySpectrum(String testId) {
+    TestExecution execution = runningTests.get(testId);
+    if (execution != null && execution.getResult() != null) {
+      return Optional.of(execution.getResult().latencyStats().spectrum());
+    }
+    synchronized (testHistory) {
+      return testHistory.stream()
+          .filter(h -> h.testId().equals(testId))
+          .findFirst()
+          .map(h -> h.result().latencyStats().spectrum());
+    }
+  }
+
+  /**
+   * 실행 중인 테스트의 동시성, 목표 속도, 종료 조건을 바꾼다.
+   *
+   * <p>변경은 한 번에 적용되고 테스트 결과의 제어 변경 시계열에 기록된다.
+   *
+   * @param testId  테스트 ID
+   * @param control 적용할 변경
+   * @return 적용 결과 (테스트를 찾을 수 없거나 아직 시작되지 않았으면 빈 Optional)
+   * @throws IllegalStateException    테스트가 이미 끝났거나 중지된 경우
+   * @throws IllegalArgumentException 변경 값이 유효하지 않은 경우
+   */
+  public Optional<ControlChange> adjustTest(String testId, LoadControl control) {
+    TestExecution execution = runningTests.get(testId);
+    if (execution == null) {
+      return Optional.empty();
+    }
+    return execution.adjust(control);
+  }
+
   /**
    * 실행 중인 테스트를 중지한다.
    *
+   * <p>새 요청 제출을 멈추고 진행 중 요청을 인터럽트한다. 테스트는 곧 부분 결과와 함께
+   * {@code CANCELLED} 상태로 브로드캐스트된다.
+   *
    * @param testId 테스트 ID
    */
   public void stopTest(String testId) {
     TestExecution execution = runningTests.get(testId);
     if (execution != null) {
       execution.cancel();
-      broadcastService.broadcast(ProgressMessage.of(
-          testId,
-          execution.getRequest().url(),
-          execution.getRequest().method(),
-          execution.getCompleted(),
-          execution.getTotal(),
-          "CANCELLED"
-      ));
     }
   }
 
@@ -297,17 +394,27 @@ public class LoadTestService {
   private LoadTestConfig buildConfig(TestRequest request) {
     var defaults = properties.getDefaults();
 
-    return LoadTestConfig.builder()
+    LoadTestConfig.Builder builder = LoadTestConfig.builder()
         .url(request.url())
         .method(HttpMethod.valueOf(request.method().toUpperCase()))
         .headers(request.headers() != null ? request.headers() : Map.of())
         .body(request.body())
+        .progressDispatch(ProgressDispatchConfig.defaults())
         .concurrency(request.concurrency() > 0 ? request.concurrency() : defaults.getConcurrency())
         .totalRequests(request.totalRequests() > 0 ? request.totalRequests() : defaults.getRequests())
         .timeout(request.timeoutMs() > 0
             ? Duration.ofMillis(request.timeoutMs())
             : defaults.getTimeout())
-        .build();
+        .trackGcPauses(request.trackGcPauses());
+    if (request.hasProbe()) {
+      Duration interval = request.probeIntervalMs() != null
+          ? Duration.ofMillis(request.probeIntervalMs())
+          : ProbeConfig.DEFAULT_INTERVAL;
+      builder.probe(request.probeUrl() != null && !request.probeUrl().isBlank()
+          ? ProbeConfig.of(request.probeUrl(), interval)
+          : ProbeConfig.of(interval));
+    }
+    return builder.build();
   }
 
   // ========================================
@@ -327,6 +434,7 @@ public class LoadTestService {
     private volatile TestResult result;
     private volatile String error;
     private volatile boolean cancelled = false;
+    private volatile LoadTestHandle handle;
 
     /**
      * TestExecution을 생성한다.
@@ -392,12 +500,69 @@ public class LoadTestService {
       this.status = "FAILED";
     }
 
+    /**
+     * 실행 중인 테스트의 제어 핸들을 연결한다.
+     *
+     * <p>핸들이 연결되기 전에 취소된 경우 즉시 취소를 전달한다.
+     *
+     * @param handle 테스트 제어 핸들
+     */
+    public void attach(LoadTestHandle handle) {
+      this.handle = handle;
+      if (cancelled) {
+        handle.cancel("Stopped by user");
+      }
+    }
+
+    /**
+     * 중지된 테스트의 부분 결과를 설정한다.
+     *
+     * @param result 부분 테스트 결과
+     */
+    public void stopped(TestResult result) {
+      this.result = result;
+      this.completed = result.totalRequests();
+    }
+
     /**
      * 테스트를 취소한다.
+     *
+     * <p>연결된 핸들이 있으면 실행 중인 요청까지 중단한다.
      */
     public void cancel() {
       this.cancelled = true;
       this.status = "CANCELLED";
+      LoadTestHandle current = handle;
+      if (current != null) {
+        current.cancel("Stopped by user");
+      }
+    }
+
+    /**
+     * 연결된 핸들로 제어 변경을 적용한다.
+     *
+     * @param control 적용할 변경
+     * @return 적용 결과 (핸들이 아직 연결되지 않았으면 빈 Optional)
+     */
+    public Optional<ControlChange> adjust(LoadControl control) {
+      LoadTestHandle current = handle;
+      if (current == null) {
+        return Optional.empty();
+      }
+      return Optional.of(current.adjust(control));
+    }
+
+    /**
+     * 적용된 제어 변경을 조회한다.
+     *
+     * @return 제어 변경 목록 (결과가 있으면 결과의 목록)
+     */
+    public List<ControlChange> getControlChanges() {
+      if (result != null) {
+        return result.controlChanges();
+      }
+      LoadTestHandle current = handle;
+      return current != null ? current.getControlChanges() : List.of();
     }
 
     /**
@@ -425,8 +590,14 @@ public class LoadTestService {
       return completed;
     }
 
+    /**
+     * 전체 요청 수를 반환한다. 실행 중 변경되었으면 변경된 값이다.
+     *
+     * @return 전체 요청 수
+     */
     public int getTotal() {
-      return total;
+      LoadTestHandle current = handle;
+      return current != null ? current.getTotalRequests() : total;
     }
 
     /**
@@ -435,6 +606,7 @@ public class LoadTestService {
      * @return 진행률 (0.0 ~ 100.0)
      */
     public double getPercentage() {
+      int total = getTotal();
       return total > 0 ? (double) completed / total * 100 : 0;
     }
 
@@ -163,12 +163,13 @@ public class ResultBroadcastService {
    */
   private String logToJson(RequestLog log) {
     return """
-            {"requestNumber":%d,"success":%s,"statusCode":%d,"latencyMs":%d,"error":%s}"""
+            {"requestNumber":%d,"success":%s,"statusCode":%d,"latencyMs":%d,"latencyMicros":%d,"error":%s}"""
         .formatted(
             log.requestNumber(),
             log.success(),
             log.statusCode(),
             log.latencyMs(),
+            log.latencyMicros(),
             log.error() != null ? "\"" + escapeJson(log.error()) + "\"" : "null"
         );
   }